@@ -0,0 +1,278 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerNodeFactory4;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow.FeatureIterator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Unit tests for {@link CompactInMemoryData}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CompactInMemoryDataTest {
+
+    private static final int NR_ROWS = 300;
+
+    private static final int NR_COLUMNS = 4;
+
+    private static final long SEED = 42L;
+
+    private ExecutionContext m_exec;
+
+    /**
+     * Creates the execution context for the test tables.
+     *
+     * @throws Exception
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Before
+    public void setUp() throws Exception {
+        NodeFactory nodeFactory = new LogRegLearnerNodeFactory4();
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(nodeFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Creates a table with {@link #NR_COLUMNS} double columns and an int target column with three classes.
+     *
+     * @param zeroProbability the probability of a feature value being zero
+     */
+    private BufferedDataTable createTable(final double zeroProbability) {
+        final String[] names = new String[NR_COLUMNS + 1];
+        final DataType[] types = new DataType[NR_COLUMNS + 1];
+        for (int i = 0; i < NR_COLUMNS; i++) {
+            names[i] = "x" + i;
+            types[i] = DoubleCell.TYPE;
+        }
+        names[NR_COLUMNS] = "target";
+        types[NR_COLUMNS] = IntCell.TYPE;
+        final BufferedDataContainer container = m_exec.createDataContainer(new DataTableSpec(names, types));
+        final Random random = new Random(1);
+        for (int r = 0; r < NR_ROWS; r++) {
+            final DataCell[] cells = new DataCell[NR_COLUMNS + 1];
+            for (int i = 0; i < NR_COLUMNS; i++) {
+                cells[i] = new DoubleCell(random.nextDouble() < zeroProbability ? 0 : random.nextGaussian());
+            }
+            cells[NR_COLUMNS] = new IntCell(random.nextInt(3));
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)r), cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /**
+     * Builds rows with the intercept and the non zero values of the double columns as features.
+     */
+    private static final class TestRowBuilder implements TrainingRowBuilder<ClassificationTrainingRow> {
+
+        @Override
+        public ClassificationTrainingRow build(final DataRow row, final int id) {
+            final float[] values = new float[NR_COLUMNS + 1];
+            final int[] indices = new int[NR_COLUMNS + 1];
+            values[0] = 1;
+            int nonZero = 1;
+            for (int i = 0; i < NR_COLUMNS; i++) {
+                final double value = ((DoubleValue)row.getCell(i)).getDoubleValue();
+                if (value != 0) {
+                    values[nonZero] = (float)value;
+                    indices[nonZero] = i + 1;
+                    nonZero++;
+                }
+            }
+            final float[] nonZeroValues = new float[nonZero];
+            final int[] nonZeroIndices = new int[nonZero];
+            System.arraycopy(values, 0, nonZeroValues, 0, nonZero);
+            System.arraycopy(indices, 0, nonZeroIndices, 0, nonZero);
+            final int category = ((IntValue)row.getCell(NR_COLUMNS)).getIntValue();
+            return new SparseClassificationTrainingRow(nonZeroValues, nonZeroIndices, id, category);
+        }
+
+        @Override
+        public int getFeatureCount() {
+            return NR_COLUMNS + 1;
+        }
+
+        @Override
+        public int getTargetDimension() {
+            return 2;
+        }
+
+        @Override
+        public Map<Integer, List<DataCell>> getNominalDomainValues() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public List<Integer> getLearningColumns() {
+            final List<Integer> columns = new ArrayList<>(NR_COLUMNS);
+            for (int i = 0; i < NR_COLUMNS; i++) {
+                columns.add(i);
+            }
+            return columns;
+        }
+
+        @Override
+        public Map<Integer, Integer> getVectorLengths() {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static void assertSameRow(final ClassificationTrainingRow expected,
+        final ClassificationTrainingRow actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        final FeatureIterator expectedIter = expected.getFeatureIterator();
+        final FeatureIterator actualIter = actual.getFeatureIterator();
+        while (expectedIter.next()) {
+            assertTrue(actualIter.hasNext());
+            assertTrue(actualIter.next());
+            assertEquals(expectedIter.getFeatureIndex(), actualIter.getFeatureIndex());
+            // values are stored as floats in both implementations, no differences allowed
+            assertEquals(expectedIter.getFeatureValue(), actualIter.getFeatureValue(), 0);
+        }
+        assertFalse(actualIter.hasNext());
+        assertFalse(actualIter.next());
+    }
+
+    private void testReproducesRows(final double zeroProbability) throws Exception {
+        final BufferedDataTable table = createTable(zeroProbability);
+        final InMemoryData<ClassificationTrainingRow> expected =
+            new InMemoryData<>(table, SEED, new TestRowBuilder());
+        final CompactInMemoryData actual = new CompactInMemoryData(table, SEED, new TestRowBuilder());
+        assertEquals(NR_ROWS, actual.getRowCount());
+        assertEquals(NR_COLUMNS + 1, actual.getFeatureCount());
+        assertEquals(2, actual.getTargetDimension());
+
+        final Iterator<ClassificationTrainingRow> actualRows = actual.iterator();
+        for (ClassificationTrainingRow expectedRow : expected) {
+            assertTrue(actualRows.hasNext());
+            assertSameRow(expectedRow, actualRows.next());
+        }
+        assertFalse(actualRows.hasNext());
+
+        // the random rows are drawn in the same order for the same seed
+        for (int i = 0; i < 2 * NR_ROWS; i++) {
+            assertSameRow(expected.getRandomRow(), actual.getRandomRow());
+        }
+    }
+
+    /**
+     * Tests that dense data, which is stored without feature indices, reproduces the input rows.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDenseRows() throws Exception {
+        testReproducesRows(0);
+    }
+
+    /**
+     * Tests that sparse data reproduces the input rows, including rows without any non zero value apart from the
+     * intercept.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSparseRows() throws Exception {
+        testReproducesRows(0.6);
+    }
+
+    /**
+     * Tests the {@link FeatureIterator#spawn()} method of the compact rows.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSpawn() throws Exception {
+        final CompactInMemoryData data = new CompactInMemoryData(createTable(0), SEED, new TestRowBuilder());
+        final ClassificationTrainingRow row = data.iterator().next();
+        final FeatureIterator iter = row.getFeatureIterator();
+        assertTrue(iter.next());
+        assertTrue(iter.next());
+        final FeatureIterator spawned = iter.spawn();
+        assertTrue(spawned.next());
+        assertEquals(iter.getFeatureIndex(), spawned.getFeatureIndex());
+        assertEquals(iter.getFeatureValue(), spawned.getFeatureValue(), 0);
+        assertTrue(spawned.next());
+        assertEquals(2, spawned.getFeatureIndex());
+    }
+}
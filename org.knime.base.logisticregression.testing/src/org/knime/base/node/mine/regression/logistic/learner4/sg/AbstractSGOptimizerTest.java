@@ -0,0 +1,234 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.sg;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerResult;
+import org.knime.base.node.mine.regression.logistic.learner4.data.ClassificationTrainingRow;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
+
+/**
+ * Contains unit tests for the mini-batch mode of the {@link AbstractSGOptimizer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AbstractSGOptimizerTest {
+
+    private static final int NR_ROWS = 500;
+
+    private static final int NR_FEATURES = 8;
+
+    private static final List<ClassificationTrainingRow> ROWS = createRows();
+
+    /** Rows with sparse features and two classes that depend on a linear combination of the features. */
+    private static List<ClassificationTrainingRow> createRows() {
+        final Random random = new Random(1);
+        final double[] weights = new double[NR_FEATURES];
+        for (int i = 0; i < NR_FEATURES; i++) {
+            weights[i] = random.nextGaussian();
+        }
+        final List<ClassificationTrainingRow> rows = new ArrayList<>(NR_ROWS);
+        for (int i = 0; i < NR_ROWS; i++) {
+            final double[] features = new double[NR_FEATURES];
+            double linearPredictor = 0;
+            for (int j = 0; j < NR_FEATURES; j++) {
+                features[j] = random.nextDouble() < 0.5 ? random.nextGaussian() : 0;
+                linearPredictor += features[j] * weights[j];
+            }
+            final int category = random.nextDouble() < 1 / (1 + Math.exp(-linearPredictor)) ? 0 : 1;
+            rows.add(new MockClassificationTrainingRow(features, i, category));
+        }
+        return rows;
+    }
+
+    /** Draws the rows in the same order for the same seed. */
+    private static TrainingData<ClassificationTrainingRow> createData(final long seed) {
+        final Random random = new Random(seed);
+        return new TrainingData<ClassificationTrainingRow>() {
+
+            @Override
+            public Iterator<ClassificationTrainingRow> iterator() {
+                return ROWS.iterator();
+            }
+
+            @Override
+            public int getRowCount() {
+                return NR_ROWS;
+            }
+
+            @Override
+            public int getFeatureCount() {
+                return NR_FEATURES + 1;
+            }
+
+            @Override
+            public int getTargetDimension() {
+                return 1;
+            }
+
+            @Override
+            public ClassificationTrainingRow getRandomRow() {
+                return ROWS.get(random.nextInt(NR_ROWS));
+            }
+        };
+    }
+
+    private static final Progress NO_PROGRESS = new Progress() {
+
+        @Override
+        public void setProgress(final double progress) {
+            // not needed
+        }
+
+        @Override
+        public void setProgress(final double progress, final String message) {
+            // not needed
+        }
+
+        @Override
+        public void checkCanceled() {
+            // not needed
+        }
+    };
+
+    /**
+     * Trains a model with SAG and a Gauss prior.
+     *
+     * @param lazy whether to use the lazy or the eager optimizer
+     * @param nrThreads the number of threads
+     * @param batchSize the number of rows per mini-batch, 0 for the default mode
+     * @param maxEpoch the maximum number of epochs
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static LogRegLearnerResult learn(final boolean lazy, final int nrThreads, final int batchSize,
+        final int maxEpoch) throws Exception {
+        final TrainingData<ClassificationTrainingRow> data = createData(7);
+        final int nFets = data.getFeatureCount();
+        final StoppingCriterion<ClassificationTrainingRow> stoppingCriterion =
+            new BetaChangeStoppingCriterion<>(nFets, 1, 1e-6);
+        final AbstractSGOptimizer optimizer;
+        if (lazy) {
+            optimizer = new LazySGOptimizer(data, MultinomialLoss.INSTANCE,
+                new LazySagUpdater.LazySagUpdaterFactory<>(NR_ROWS, nFets, 1),
+                new LazyPriorUpdater(new GaussPrior(1.0), NR_ROWS, true), new FixedLearningRateStrategy<>(0.1),
+                stoppingCriterion, false);
+        } else {
+            optimizer = new EagerSgOptimizer(data, MultinomialLoss.INSTANCE,
+                new EagerSagUpdater.EagerSagUpdaterFactory<>(NR_ROWS, nFets, 1),
+                new EagerPriorUpdater(new GaussPrior(1.0), NR_ROWS, true), new FixedLearningRateStrategy<>(0.1),
+                stoppingCriterion, false);
+        }
+        optimizer.setNrThreads(nrThreads);
+        optimizer.setBatchSize(batchSize);
+        return optimizer.optimize(maxEpoch, data, NO_PROGRESS);
+    }
+
+    private static void assertSameCoefficients(final LogRegLearnerResult expected, final LogRegLearnerResult actual,
+        final double delta) {
+        final double[][] expectedBeta = expected.getBeta().getData();
+        final double[][] actualBeta = actual.getBeta().getData();
+        assertEquals(expectedBeta.length, actualBeta.length);
+        for (int i = 0; i < expectedBeta.length; i++) {
+            assertArrayEquals(expectedBeta[i], actualBeta[i], delta);
+        }
+    }
+
+    /**
+     * Mini-batches of a single row processed by a single thread must reproduce the serial SAG result.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSingleRowBatchesMatchSerial() throws Exception {
+        for (boolean lazy : new boolean[]{false, true}) {
+            final LogRegLearnerResult serial = learn(lazy, 1, 0, 20);
+            final LogRegLearnerResult batch = learn(lazy, 1, 1, 20);
+            assertEquals(serial.getIter(), batch.getIter());
+            assertSameCoefficients(serial, batch, 1e-12);
+            assertEquals(serial.getLogLike(), batch.getLogLike(), 1e-9);
+        }
+    }
+
+    /**
+     * The result of the mini-batch mode must not depend on the number of threads that process a batch.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testBatchesIndependentOfThreads() throws Exception {
+        for (boolean lazy : new boolean[]{false, true}) {
+            final LogRegLearnerResult singleThread = learn(lazy, 1, 32, 20);
+            final LogRegLearnerResult multiThread = learn(lazy, 4, 32, 20);
+            assertEquals(singleThread.getIter(), multiThread.getIter());
+            assertSameCoefficients(singleThread, multiThread, 1e-12);
+        }
+    }
+
+    /**
+     * Larger mini-batches delay the gradients but converge to (almost) the same model as the serial scheme.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testBatchesConvergeToSerialResult() throws Exception {
+        for (boolean lazy : new boolean[]{false, true}) {
+            final LogRegLearnerResult serial = learn(lazy, 1, 0, 200);
+            final LogRegLearnerResult batch = learn(lazy, 1, 32, 200);
+            assertSameCoefficients(serial, batch, 1e-2);
+        }
+    }
+}
@@ -53,6 +53,7 @@
 import org.junit.Test;
 import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow;
 import org.knime.base.node.mine.regression.logistic.learner4.sg.EagerSagUpdater.EagerSagUpdaterFactory;
+import org.knime.base.node.mine.regression.logistic.learner4.sg.EagerUpdater.RowUpdate;
 
 /**
  * Contains unit tests for the EagerSagUpdater.
@@ -106,4 +107,38 @@ public void testUpdate() throws Exception {
         assertArrayEquals(expectedBeta, beta.getWeightVector());
 
     }
+
+    /**
+     * Applying prepared updates block by block over the features must yield the same coefficients as applying
+     * the updates row by row.
+     */
+    @Test
+    public void testBlockwiseUpdate() throws Exception {
+        EagerSagUpdaterFactory<TrainingRow> factory = new EagerSagUpdaterFactory<TrainingRow>(3, 3, 2);
+        EagerSagUpdater<TrainingRow> serialUpdater = factory.create();
+        EagerSagUpdater<TrainingRow> blockUpdater = factory.create();
+        MockClassificationTrainingRow[] mockRows = new MockClassificationTrainingRow[]{
+            new MockClassificationTrainingRow(new double[]{1, 1}, 0, 0),
+            new MockClassificationTrainingRow(new double[]{2, 3}, 1, 1),
+            new MockClassificationTrainingRow(new double[]{0, 5}, 2, 0),
+            new MockClassificationTrainingRow(new double[]{1, 1}, 0, 0),
+        };
+        double[][] gradients = new double[][]{{3, -2}, {1, 2}, {-3, -1}, {0, 2}};
+        double[] stepSizes = new double[]{1.0, 2.0, 3.0, 2.0};
+        SimpleWeightMatrix<TrainingRow> serialBeta = new SimpleWeightMatrix<TrainingRow>(3, 2, true);
+        SimpleWeightMatrix<TrainingRow> blockBeta = new SimpleWeightMatrix<TrainingRow>(3, 2, true);
+
+        RowUpdate[] rowUpdates = new RowUpdate[mockRows.length];
+        for (int i = 0; i < mockRows.length; i++) {
+            serialUpdater.update(mockRows[i], gradients[i], serialBeta, stepSizes[i], i);
+            rowUpdates[i] = blockUpdater.prepareUpdate(mockRows[i], gradients[i], stepSizes[i]);
+        }
+        int[][] blocks = new int[][]{{0, 2}, {2, 3}};
+        for (int[] block : blocks) {
+            for (int i = 0; i < mockRows.length; i++) {
+                blockUpdater.applyUpdate(mockRows[i], rowUpdates[i], blockBeta, block[0], block[1]);
+            }
+        }
+        assertArrayEquals(serialBeta.getWeightVector(), blockBeta.getWeightVector());
+    }
 }
@@ -130,6 +130,7 @@ public final class LogRegLearnerNodeDialogPane extends NodeDialogPane {
     private JTextField m_seedField;
     private JButton m_newSeedButton;
     private JSpinner m_chunkSizeSpinner;
+    private JSpinner m_nrThreadsSpinner;
 
     /**
      * Create new dialog for linear regression model.
@@ -165,6 +166,7 @@ public LogRegLearnerNodeDialogPane() {
         m_seedField = new JTextField(NUMBER_INPUT_FIELD_COLS);
         m_newSeedButton = new JButton("New");
         m_chunkSizeSpinner = new JSpinner(new SpinnerNumberModel(LogRegLearnerSettings.DEFAULT_CHUNK_SIZE, 1, Integer.MAX_VALUE, 1000));
+        m_nrThreadsSpinner = new JSpinner(new SpinnerNumberModel(LogRegLearnerSettings.DEFAULT_NR_THREADS, 1, Integer.MAX_VALUE, 1));
 
         // register listeners
         m_selectionPanel.addActionListener(new ActionListener() {
@@ -298,6 +300,7 @@ private void setEnabledSGRelated(final boolean enable) {
         m_initialLearningRateField.setEnabled(enable);
         m_priorComboBox.setEnabled(enable);
         m_priorVarianceSpinner.setEnabled(enable);
+        m_nrThreadsSpinner.setEnabled(enable);
     }
 
     private JPanel createAdvancedSettingsPanel() {
@@ -405,6 +408,11 @@ private JPanel createDataHandlingPanel() {
         panel.add(m_seedField, c);
         c.gridx++;
         panel.add(m_newSeedButton, c);
+        c.gridx = 0;
+        c.gridy++;
+        panel.add(new JLabel("Number of threads:"), c);
+        c.gridx++;
+        panel.add(m_nrThreadsSpinner, c);
 
         return panel;
     }
@@ -619,6 +627,7 @@ protected void loadSettingsFrom(final NodeSettingsRO s, final PortObjectSpec[] s
         m_seedField.setText(Long.toString(seed != null ? seed : System.currentTimeMillis()));
         m_chunkSizeSpinner.setValue(settings.getChunkSize());
         m_chunkSizeSpinner.setEnabled(!settings.isInMemory());
+        m_nrThreadsSpinner.setValue(settings.getNrThreads());
     }
 
     /**
@@ -671,6 +680,7 @@ protected void saveSettingsTo(final NodeSettingsWO s) throws InvalidSettingsExce
         settings.setSeed(seed);
 
         settings.setChunkSize((int)m_chunkSizeSpinner.getValue());
+        settings.setNrThreads((int)m_nrThreadsSpinner.getValue());
 
         settings.validate();
 
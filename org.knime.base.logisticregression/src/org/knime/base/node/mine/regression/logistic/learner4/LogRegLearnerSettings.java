@@ -230,6 +230,7 @@ public boolean hasInitialValue() {
     private static final String CFG_SEED = "seed";
     private static final String CFG_IN_MEMORY = "inMemory";
     private static final String CFG_CHUNK_SIZE = "chunkSize";
+    private static final String CFG_NR_THREADS = "nrThreads";
     private static final String CFG_CALC_COVMATRIX = "calcCoefficientStatistics";
 
     static final Solver DEFAULT_SOLVER = Solver.SAG;
@@ -243,6 +244,7 @@ public boolean hasInitialValue() {
     static final double DEFAULT_PRIOR_VARIANCE = 0.1;
     static final boolean DEFAULT_IN_MEMORY = true;
     static final int DEFAULT_CHUNK_SIZE = 10000;
+    static final int DEFAULT_NR_THREADS = 1;
     static final boolean DEFAULT_CALC_COVMATRIX = true;
 
 
@@ -275,6 +277,7 @@ public boolean hasInitialValue() {
     private boolean m_inMemory;
     private Long m_seed;
     private int m_chunkSize;
+    private int m_nrThreads;
 
 
     /**
@@ -296,6 +299,7 @@ public LogRegLearnerSettings() {
         setInMemory(DEFAULT_IN_MEMORY);
         m_seed = System.currentTimeMillis();
         m_chunkSize = DEFAULT_CHUNK_SIZE;
+        m_nrThreads = DEFAULT_NR_THREADS;
         m_calcCovMatrix = DEFAULT_CALC_COVMATRIX;
     }
 
@@ -339,6 +343,8 @@ public void loadSettings(final NodeSettingsRO settings)
         m_seed = seed;
 
         m_chunkSize = settings.getInt(CFG_CHUNK_SIZE);
+        // added in 3.7
+        m_nrThreads = settings.getInt(CFG_NR_THREADS, DEFAULT_NR_THREADS);
 
         m_calcCovMatrix = settings.getBoolean(CFG_CALC_COVMATRIX);
 
@@ -387,6 +393,7 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
         m_seed = seed;
 
         m_chunkSize = settings.getInt(CFG_CHUNK_SIZE, DEFAULT_CHUNK_SIZE);
+        m_nrThreads = settings.getInt(CFG_NR_THREADS, DEFAULT_NR_THREADS);
 
         m_calcCovMatrix = settings.getBoolean(CFG_CALC_COVMATRIX, DEFAULT_CALC_COVMATRIX);
 
@@ -422,6 +429,7 @@ public void saveSettings(final NodeSettingsWO settings) {
         }
         settings.addString(CFG_SEED, seedS);
         settings.addInt(CFG_CHUNK_SIZE, m_chunkSize);
+        settings.addInt(CFG_NR_THREADS, m_nrThreads);
 
         settings.addBoolean(CFG_CALC_COVMATRIX, m_calcCovMatrix);
     }
@@ -438,6 +446,7 @@ public void validate() throws InvalidSettingsException {
         CheckUtils.checkSetting(m_epsilon >= 0, "Epsilon must be positive but was %g.", m_epsilon);
         CheckUtils.checkSetting(m_initialLearningRate > 0, "The initial learning rate must be larger than 0 but was %g.", m_initialLearningRate);
         CheckUtils.checkSetting(m_chunkSize > 0, "The chunk size must be larger than 0 but was %d", m_chunkSize);
+        CheckUtils.checkSetting(m_nrThreads > 0, "The number of threads must be larger than 0 but was %d", m_nrThreads);
 
     }
 
@@ -731,6 +740,22 @@ public void setChunkSize(final int chunkSize) {
     }
 
 
+    /**
+     * @return the number of threads used by the SG solvers
+     */
+    public int getNrThreads() {
+        return m_nrThreads;
+    }
+
+
+    /**
+     * @param nrThreads the number of threads used by the SG solvers
+     */
+    public void setNrThreads(final int nrThreads) {
+        m_nrThreads = nrThreads;
+    }
+
+
     /**
      * @return the calcCovMatrix
      */
@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.data;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+
+/**
+ * {@link TrainingData} implementation that holds all the data in memory in a few primitive arrays instead of one
+ * object per row. The non zero feature values of all rows are stored consecutively in a single array, the
+ * corresponding feature indices are only stored if at least one row is sparse.
+ * The rows returned by this class are lightweight views on these arrays.
+ * Random rows are drawn in the same order as by {@link InMemoryData} for the same seed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class CompactInMemoryData extends AbstractTrainingData<ClassificationTrainingRow> {
+
+    private final float[] m_values;
+
+    /** null if all rows are dense. */
+    private final int[] m_indices;
+
+    /** m_rowStart[i] is the position of the first value of row i, m_rowStart[nrRows] the total number of values. */
+    private final int[] m_rowStart;
+
+    private final int[] m_categories;
+
+    /**
+     * Instantiates a {@link TrainingData} object that holds all data in memory.
+     *
+     * @param data the {@link BufferedDataTable} that contains the data to learn on
+     * @param seed used to generate pseudo random numbers
+     * @param rowBuilder used to create {@link ClassificationTrainingRow} objects form {@link DataRow} objects
+     */
+    public CompactInMemoryData(final BufferedDataTable data, final Long seed,
+        final TrainingRowBuilder<ClassificationTrainingRow> rowBuilder) {
+        super(data, seed, rowBuilder);
+        final int nrRows = getRowCount();
+        final int nrFeatures = getFeatureCount();
+        m_rowStart = new int[nrRows + 1];
+        m_categories = new int[nrRows];
+        // grows by doubling, so sparse data doesn't allocate nrRows * nrFeatures values upfront
+        float[] values = new float[Math.max(1024, nrRows)];
+        int[] indices = new int[values.length];
+        boolean allDense = true;
+        int pos = 0;
+        int id = 0;
+        for (DataRow row : data) {
+            final ClassificationTrainingRow trainingRow = rowBuilder.build(row, id);
+            m_categories[id] = trainingRow.getCategory();
+            int nonZero = 0;
+            for (TrainingRow.FeatureIterator iter = trainingRow.getFeatureIterator(); iter.next();) {
+                if (pos == values.length) {
+                    if (pos >= Integer.MAX_VALUE - 8) {
+                        throw new IllegalArgumentException("The data contains too many non zero values to be held "
+                            + "in memory, please disable the in-memory option.");
+                    }
+                    final int newLength = (int)Math.min(Integer.MAX_VALUE - 8, 2L * values.length);
+                    values = Arrays.copyOf(values, newLength);
+                    indices = Arrays.copyOf(indices, newLength);
+                }
+                final int featureIdx = iter.getFeatureIndex();
+                allDense &= featureIdx == nonZero;
+                values[pos] = (float)iter.getFeatureValue();
+                indices[pos] = featureIdx;
+                pos++;
+                nonZero++;
+            }
+            allDense &= nonZero == nrFeatures;
+            id++;
+            m_rowStart[id] = pos;
+        }
+        m_values = values.length == pos ? values : Arrays.copyOf(values, pos);
+        m_indices = allDense ? null : (indices.length == pos ? indices : Arrays.copyOf(indices, pos));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<ClassificationTrainingRow> iterator() {
+        return new Iterator<ClassificationTrainingRow>() {
+            private int m_next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return m_next < m_categories.length;
+            }
+
+            @Override
+            public ClassificationTrainingRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new CompactRow(m_next++);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClassificationTrainingRow getRandomRow() {
+        return new CompactRow(getRandomDataGenerator().nextInt(m_categories.length));
+    }
+
+    private final class CompactRow implements ClassificationTrainingRow {
+
+        private final int m_id;
+
+        CompactRow(final int id) {
+            m_id = id;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getId() {
+            return m_id;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getCategory() {
+            return m_categories[m_id];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public FeatureIterator getFeatureIterator() {
+            return new CompactFeatureIterator(m_rowStart[m_id] - 1, m_rowStart[m_id], m_rowStart[m_id + 1]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "[id=" + m_id + "; numNonZero=" + (m_rowStart[m_id + 1] - m_rowStart[m_id]) + "]";
+        }
+    }
+
+    private final class CompactFeatureIterator implements TrainingRow.FeatureIterator {
+
+        private int m_pos;
+
+        private final int m_start;
+
+        private final int m_end;
+
+        CompactFeatureIterator(final int pos, final int start, final int end) {
+            m_pos = pos;
+            m_start = start;
+            m_end = end;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return m_pos < m_end - 1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean next() {
+            return ++m_pos < m_end;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getFeatureIndex() {
+            return m_indices == null ? m_pos - m_start : m_indices[m_pos];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getFeatureValue() {
+            return m_values[m_pos];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public TrainingRow.FeatureIterator spawn() {
+            return new CompactFeatureIterator(m_pos - 1, m_start, m_end);
+        }
+    }
+
+}
@@ -48,7 +48,12 @@
  */
 package org.knime.base.node.mine.regression.logistic.learner4.sg;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.QRDecomposition;
@@ -58,6 +63,8 @@
 import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
 import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow;
 import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Abstract implementation for stochastic gradient descent like optimization scheme.
@@ -77,6 +84,20 @@ abstract class AbstractSGOptimizer <T extends TrainingRow, U extends Updater<T>,
     private final TrainingData<T> m_data;
     private final boolean m_calcCovMatrix;
     private String m_warning = null;
+    private int m_nrThreads = 1;
+    /** Number of rows per mini-batch if set explicitly, 0 if it is derived by {@link #getBatchSize()}. */
+    private int m_batchSize = 0;
+    private ThreadPool m_pool = null;
+
+    /**
+     * Number of rows per thread in a mini-batch of the parallel mode.
+     */
+    private static final int ROWS_PER_THREAD = 64;
+
+    /**
+     * Upper bound for the number of rows in a mini-batch, larger delays of the gradients can prevent convergence.
+     */
+    private static final int MAX_BATCH_SIZE = 256;
 
     /**
      * Creates an AbstractSGOptimizer.
@@ -110,25 +131,30 @@ public LogRegLearnerResult optimize(final int maxEpoch, final TrainingData<T> da
         final U updater = m_updaterFactory.create();
 
         final WeightMatrix<T> beta = new SimpleWeightMatrix<>(nFets, nCats, true);
+        m_pool = m_nrThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nrThreads) : null;
         int epoch = 0;
         for (; epoch < maxEpoch; epoch++) {
             // notify learning rate strategy that a new epoch starts
             m_lrStrategy.startNewEpoch(epoch);
             progress.setProgress(((double)epoch) / maxEpoch, "Start epoch " + epoch + " of " + maxEpoch);
-            for (int k = 0; k < nRows; k++) {
-                progress.checkCanceled();
-                T x = data.getRandomRow();
-                prepareIteration(beta, x, updater, m_regUpdater, k);
-                double[] prediction = beta.predict(x);
-                double[] sig = m_loss.gradient(x, prediction);
-                double stepSize = m_lrStrategy.getCurrentLearningRate(x, prediction, sig);
-                // beta is updated in two steps
-                m_regUpdater.update(beta, stepSize, k);
-                performUpdate(x, updater, sig, beta, stepSize, k);
-                double scale = beta.getScale();
-                if (scale > 1e10 || scale < -1e10 || (scale > 0 && scale < 1e-10) || (scale < 0 && scale > -1e-10)) {
-                    normalize(beta, updater, k);
-                    beta.normalize();
+            if (m_pool != null || m_batchSize > 0) {
+                performBatchEpoch(beta, data, updater, progress);
+            } else {
+                for (int k = 0; k < nRows; k++) {
+                    progress.checkCanceled();
+                    T x = data.getRandomRow();
+                    prepareIteration(beta, x, updater, m_regUpdater, k);
+                    double[] prediction = beta.predict(x);
+                    double[] sig = m_loss.gradient(x, prediction);
+                    double stepSize = m_lrStrategy.getCurrentLearningRate(x, prediction, sig);
+                    // beta is updated in two steps
+                    m_regUpdater.update(beta, stepSize, k);
+                    performUpdate(x, updater, sig, beta, stepSize, k);
+                    double scale = beta.getScale();
+                    if (scale > 1e10 || scale < -1e10 || (scale > 0 && scale < 1e-10) || (scale < 0 && scale > -1e-10)) {
+                        normalize(beta, updater, k);
+                        beta.normalize();
+                    }
                 }
             }
             postProcessEpoch(beta, updater, m_regUpdater);
@@ -164,6 +190,178 @@ public LogRegLearnerResult optimize(final int maxEpoch, final TrainingData<T> da
         return new LogRegLearnerResult(betaMat, covMat, epoch, -lossSum);
     }
 
+    /**
+     * Performs one epoch in mini-batches. The predictions and gradients of all rows in a mini-batch are calculated in
+     * parallel with the coefficients at the start of the mini-batch. The updates are then applied in the order in which
+     * the rows were drawn, hence the only difference to the serial scheme is the delay of the gradients.
+     */
+    private void performBatchEpoch(final WeightMatrix<T> beta, final TrainingData<T> data, final U updater,
+        final Progress progress) throws CanceledExecutionException {
+        final int nRows = data.getRowCount();
+        final int batchSize = m_batchSize > 0 ? m_batchSize : getBatchSize();
+        final List<T> batch = new ArrayList<>(batchSize);
+        final double[][] predictions = new double[batchSize][];
+        final double[][] gradients = new double[batchSize][];
+        final double[] stepSizes = new double[batchSize];
+        for (int k = 0; k < nRows; k += batchSize) {
+            progress.checkCanceled();
+            final int size = Math.min(batchSize, nRows - k);
+            batch.clear();
+            for (int j = 0; j < size; j++) {
+                T x = data.getRandomRow();
+                // all rows of the batch are brought up to date with respect to the start of the batch
+                prepareIteration(beta, x, updater, m_regUpdater, k);
+                batch.add(x);
+            }
+            runInParallel(size, (from, to) -> {
+                for (int j = from; j < to; j++) {
+                    predictions[j] = beta.predict(batch.get(j));
+                    gradients[j] = m_loss.gradient(batch.get(j), predictions[j]);
+                }
+            });
+            // learning rate strategies may keep state, so the step sizes are calculated serially
+            for (int j = 0; j < size; j++) {
+                stepSizes[j] = m_lrStrategy.getCurrentLearningRate(batch.get(j), predictions[j], gradients[j]);
+            }
+            performBatchUpdate(batch, gradients, stepSizes, beta, updater, m_regUpdater, k);
+            double scale = beta.getScale();
+            if (scale > 1e10 || scale < -1e10 || (scale > 0 && scale < 1e-10) || (scale < 0 && scale > -1e-10)) {
+                normalize(beta, updater, k + size - 1);
+                beta.normalize();
+            }
+        }
+    }
+
+    /**
+     * Performs the updates for all rows of a mini-batch in the order of the rows.
+     * The default implementation performs the regularization and loss update of each row serially.
+     *
+     * @param batch the rows of the mini-batch
+     * @param gradients the partial gradients for the rows in <b>batch</b>
+     * @param stepSizes the step sizes for the rows in <b>batch</b>
+     * @param beta the current estimate of the coefficient matrix
+     * @param updater the loss updater used in the current training run
+     * @param regUpdater the regularization updater
+     * @param firstIteration the iteration of the first row in <b>batch</b>
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    protected void performBatchUpdate(final List<T> batch, final double[][] gradients, final double[] stepSizes,
+        final WeightMatrix<T> beta, final U updater, final R regUpdater, final int firstIteration)
+        throws CanceledExecutionException {
+        for (int j = 0; j < batch.size(); j++) {
+            final int iteration = firstIteration + j;
+            regUpdater.update(beta, stepSizes[j], iteration);
+            performUpdate(batch.get(j), updater, gradients[j], beta, stepSizes[j], iteration);
+        }
+    }
+
+    /**
+     * Splits the range [0, <b>n</b>) into one block per thread and processes the blocks in parallel.
+     * The first block is processed by the calling thread.
+     *
+     * @param n the size of the range
+     * @param task processes a single block
+     * @throws CanceledExecutionException if the execution is canceled while waiting for the other blocks
+     */
+    protected void runInParallel(final int n, final RangeTask task) throws CanceledExecutionException {
+        final int nrBlocks = m_pool == null ? 1 : Math.min(m_nrThreads, n);
+        if (nrBlocks <= 1) {
+            task.process(0, n);
+            return;
+        }
+        final int blockSize = (n + nrBlocks - 1) / nrBlocks;
+        final List<Future<Void>> futures = new ArrayList<>(nrBlocks - 1);
+        for (int from = blockSize; from < n; from += blockSize) {
+            final int blockStart = from;
+            final int blockEnd = Math.min(n, from + blockSize);
+            futures.add(m_pool.enqueue(() -> {
+                task.process(blockStart, blockEnd);
+                return null;
+            }));
+        }
+        try {
+            task.process(0, blockSize);
+            final Callable<Void> waitForBlocks = () -> {
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                return null;
+            };
+            // don't block a slot of the pool if we are running in one
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                currentPool.runInvisible(waitForBlocks);
+            } else {
+                waitForBlocks.call();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause();
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new CanceledExecutionException("Execution was interrupted.");
+        } catch (RuntimeException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        } catch (Exception e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the number of rows in a mini-batch of the parallel mode. The gradients of a mini-batch are calculated
+     * with the coefficients at the start of the mini-batch, so larger mini-batches allow for more parallelism but
+     * may slow down (or even prevent) convergence.
+     *
+     * @return the number of rows per mini-batch
+     */
+    protected int getBatchSize() {
+        return Math.min(MAX_BATCH_SIZE, m_nrThreads * ROWS_PER_THREAD);
+    }
+
+    /**
+     * Sets the number of threads used for training. If more than one thread is used, the rows are processed in
+     * mini-batches (see {@link #performBatchUpdate(List, double[][], double[], WeightMatrix, Updater,
+     * RegularizationUpdater, int)}).
+     *
+     * @param nrThreads the number of threads, must be positive
+     */
+    void setNrThreads(final int nrThreads) {
+        m_nrThreads = nrThreads;
+    }
+
+    /**
+     * Sets the number of rows per mini-batch. A positive value enables the mini-batch mode independent of the number
+     * of threads, which allows to compare it with the serial scheme.
+     *
+     * @param batchSize the number of rows per mini-batch, 0 to derive it from the number of threads
+     */
+    void setBatchSize(final int batchSize) {
+        m_batchSize = batchSize;
+    }
+
+    /**
+     * Processes a range of indices.
+     */
+    @FunctionalInterface
+    protected interface RangeTask {
+        /**
+         * @param from the first index (inclusive)
+         * @param to the last index (exclusive)
+         */
+        void process(int from, int to);
+    }
+
     /**
      * Calculates the sum of losses of all rows.
      *
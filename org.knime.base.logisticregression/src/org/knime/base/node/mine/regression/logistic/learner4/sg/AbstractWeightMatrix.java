@@ -113,12 +113,21 @@ private void applyFunc(final int c, final int i, final double featureValue, fina
 
     @Override
     public void update(final WeightVectorConsumer1 func, final boolean includeIntercept) {
+        update(func, includeIntercept, 0, getNVariables());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final WeightVectorConsumer1 func, final boolean includeIntercept, final int fromFeature,
+        final int toFeature) {
         // if we decided to not fit the intercept at all, we never touch the intercept weight
         // no matter what value includeIntercept has
-        int startIdx = m_fitIntercept && includeIntercept ? 0 : 1;
+        int startIdx = Math.max(fromFeature, m_fitIntercept && includeIntercept ? 0 : 1);
         // iterate over all coefficients, model for model
         for (int c = 0; c < m_data.length; c++) {
-            for (int i = startIdx; i < m_data[c].length; i++) {
+            for (int i = startIdx; i < toFeature; i++) {
                 applyFunc(c, i, func);
             }
         }
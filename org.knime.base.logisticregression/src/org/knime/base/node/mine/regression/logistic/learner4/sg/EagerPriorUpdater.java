@@ -67,11 +67,20 @@ public EagerPriorUpdater(final Prior prior, final int nRows, final boolean clipA
 
     @Override
     public void update(final WeightMatrix<?> beta, final double stepSize, final int iteration) {
+        update(beta, stepSize, iteration, 0, beta.getNVariables());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final WeightMatrix<?> beta, final double stepSize, final int iteration, final int fromFeature,
+        final int toFeature) {
         final double normalizedStepSize = stepSize / getNRows();
         if (isClip()) {
-            beta.update((val, c, i) -> clip(val, normalizedStepSize), false);
+            beta.update((val, c, i) -> clip(val, normalizedStepSize), false, fromFeature, toFeature);
         } else {
-            beta.update((val, c, i) -> val - normalizedStepSize * evaluatePrior(val), false);
+            beta.update((val, c, i) -> val - normalizedStepSize * evaluatePrior(val), false, fromFeature, toFeature);
         }
     }
 
@@ -80,33 +80,73 @@ private EagerSagUpdater(final int nRows, final int nFets, final int nCats) {
      */
     @Override
     public void update(final T x, final double[] sig, final WeightMatrix<T> beta, final double stepSize, final int iteration) {
+        applyUpdate(x, prepareUpdate(x, sig, stepSize), beta, 0, beta.getNVariables());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RowUpdate prepareUpdate(final T x, final double[] sig, final double stepSize) {
         int id = x.getId();
         if (!m_seen.get(id)) {
             m_seen.set(id);
             m_nCovered++;
         }
+        final double[] sigChange = new double[m_nCats];
+        for (int c = 0; c < m_nCats; c++) {
+            sigChange[c] = sig[c] - m_gradientMemory[c][id];
+            m_gradientMemory[c][id] = sig[c];
+        }
+        return new SagRowUpdate(sigChange, stepSize, m_nCovered);
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void applyUpdate(final T x, final RowUpdate rowUpdate, final WeightMatrix<T> beta, final int fromFeature,
+        final int toFeature) {
+        final SagRowUpdate update = (SagRowUpdate)rowUpdate;
         for (FeatureIterator iter = x.getFeatureIterator(); iter.next();) {
             int idx = iter.getFeatureIndex();
+            if (idx < fromFeature || idx >= toFeature) {
+                continue;
+            }
             double val = iter.getFeatureValue();
             for (int c = 0; c < m_nCats; c++) {
-                double newD = val * (sig[c] - m_gradientMemory[c][id]);
+                double newD = val * update.m_sigChange[c];
                 assert Double.isFinite(newD);
                 m_gradientSum[c][idx] += newD;
             }
         }
-        for (int c = 0; c < m_nCats; c++) {
-            m_gradientMemory[c][id] = sig[c];
-        }
         double scale = beta.getScale();
-        beta.update((val, c, i) -> performUpdate(val, stepSize, scale, c, i), true);
+        beta.update((val, c, i) -> performUpdate(val, update.m_stepSize, scale, update.m_nCovered, c, i), true,
+            fromFeature, toFeature);
     }
 
-    private double performUpdate(final double betaValue, final double stepSize, final double scale, final int catIdx, final int fetIdx) {
+    private double performUpdate(final double betaValue, final double stepSize, final double scale,
+        final int nCovered, final int catIdx, final int fetIdx) {
         if (fetIdx == 0) {
-            return betaValue - stepSize * m_gradientSum[catIdx][fetIdx] / m_nCovered;
+            return betaValue - stepSize * m_gradientSum[catIdx][fetIdx] / nCovered;
+        }
+        return betaValue - (stepSize/ (scale * nCovered)) * m_gradientSum[catIdx][fetIdx] ;
+    }
+
+    /**
+     * The change of the gradient memory of a single row together with the step size and the number of covered rows at
+     * the time the row was visited.
+     */
+    private static final class SagRowUpdate implements RowUpdate {
+        private final double[] m_sigChange;
+        private final double m_stepSize;
+        private final int m_nCovered;
+
+        SagRowUpdate(final double[] sigChange, final double stepSize, final int nCovered) {
+            m_sigChange = sigChange;
+            m_stepSize = stepSize;
+            m_nCovered = nCovered;
         }
-        return betaValue - (stepSize/ (scale * m_nCovered)) * m_gradientSum[catIdx][fetIdx] ;
     }
 
     static class EagerSagUpdaterFactory <T extends TrainingRow> implements UpdaterFactory<T, EagerUpdater<T>> {
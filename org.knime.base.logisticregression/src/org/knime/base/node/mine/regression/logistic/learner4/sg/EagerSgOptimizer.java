@@ -48,8 +48,13 @@
  */
 package org.knime.base.node.mine.regression.logistic.learner4.sg;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
 import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow;
+import org.knime.base.node.mine.regression.logistic.learner4.sg.EagerUpdater.RowUpdate;
+import org.knime.core.node.CanceledExecutionException;
 
 /**
  * Eager implementation of stochastic gradient descent like optimization schemes for linear models.
@@ -58,6 +63,13 @@
  */
 final class EagerSgOptimizer <T extends TrainingRow, U extends EagerUpdater<T>, R extends RegularizationUpdater> extends AbstractSGOptimizer<T, U, R> {
 
+    /**
+     * Eager updates are parallelized over the features rather than the rows, hence the mini-batches are kept small
+     * independent of the number of threads. Every eager step moves all coefficients, which makes the scheme more
+     * sensitive to delayed gradients than the lazy one.
+     */
+    private static final int BATCH_SIZE = 32;
+
     /**
      * @param data the training data to learn on
      * @param loss the loss function to minimize
@@ -101,6 +113,36 @@ protected void performUpdate(final T x, final U updater, final double[] gradient
         updater.update(x, gradient, beta, stepSize, iteration);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getBatchSize() {
+        return BATCH_SIZE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since eager updates touch all coefficients, the updates are parallelized over the features: each thread applies
+     * the updates of all rows in the batch to its block of coefficients. This yields exactly the same coefficients as
+     * applying the updates row by row.
+     */
+    @Override
+    protected void performBatchUpdate(final List<T> batch, final double[][] gradients, final double[] stepSizes,
+        final WeightMatrix<T> beta, final U updater, final R regUpdater, final int firstIteration)
+        throws CanceledExecutionException {
+        final List<RowUpdate> rowUpdates = new ArrayList<>(batch.size());
+        for (int j = 0; j < batch.size(); j++) {
+            rowUpdates.add(updater.prepareUpdate(batch.get(j), gradients[j], stepSizes[j]));
+        }
+        runInParallel(beta.getNVariables(), (from, to) -> {
+            for (int j = 0; j < batch.size(); j++) {
+                regUpdater.update(beta, stepSizes[j], firstIteration + j, from, to);
+                updater.applyUpdate(batch.get(j), rowUpdates.get(j), beta, from, to);
+            }
+        });
+    }
+
 
 
 
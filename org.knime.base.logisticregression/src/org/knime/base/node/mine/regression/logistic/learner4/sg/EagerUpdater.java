@@ -70,4 +70,39 @@
      * @param iteration the current iteration
      */
     void update(T x, double[] sig, WeightMatrix<T> beta, double stepSize, int iteration);
+
+    /**
+     * Performs the part of {@link #update(TrainingRow, double[], WeightMatrix, double, int)} that depends on the
+     * order in which the rows are visited, without touching the coefficients.
+     * Must be called in the order of the iterations.
+     *
+     * @param x the currently looked at row
+     * @param sig the gradient for each model
+     * @param stepSize to use for gradient descent
+     * @return the pending update that has to be passed to
+     *         {@link #applyUpdate(TrainingRow, RowUpdate, WeightMatrix, int, int)}
+     */
+    RowUpdate prepareUpdate(T x, double[] sig, double stepSize);
+
+    /**
+     * Applies a pending update to the coefficients of the features in the range [<b>fromFeature</b>,
+     * <b>toFeature</b>).
+     * Calling this method for all disjoint ranges that cover the features is equivalent to calling
+     * {@link #update(TrainingRow, double[], WeightMatrix, double, int)}, and calls for disjoint ranges may be
+     * performed concurrently. Within a range the pending updates must be applied in the order of the iterations.
+     *
+     * @param x the row the update was prepared for
+     * @param rowUpdate the pending update returned by {@link #prepareUpdate(TrainingRow, double[], double)}
+     * @param beta the current estimate of the coefficient matrix
+     * @param fromFeature the first feature index to update (inclusive)
+     * @param toFeature the last feature index to update (exclusive)
+     */
+    void applyUpdate(T x, RowUpdate rowUpdate, WeightMatrix<T> beta, int fromFeature, int toFeature);
+
+    /**
+     * Marker interface for the pending update of a single row.
+     */
+    interface RowUpdate {
+        // implementation specific
+    }
 }
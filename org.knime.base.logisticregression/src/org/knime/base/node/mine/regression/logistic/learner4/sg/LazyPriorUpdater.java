@@ -72,6 +72,17 @@ public void update(final WeightMatrix<?> beta, final double stepSize, final int
         m_cummulativeSum[iteration] = prev + stepSize / getNRows();
     }
 
+    /**
+     * {@inheritDoc}
+     * The coefficients are updated lazily, hence only the step size of <b>iteration</b> is accumulated.
+     */
+    @Override
+    public void update(final WeightMatrix<?> beta, final double stepSize, final int iteration, final int fromFeature,
+        final int toFeature) {
+        // all callers calculate the same value for the same iteration
+        update(beta, stepSize, iteration);
+    }
+
     /**
      * {@inheritDoc}
      */
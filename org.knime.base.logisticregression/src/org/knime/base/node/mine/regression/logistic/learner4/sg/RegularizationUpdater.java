@@ -66,6 +66,20 @@ interface RegularizationUpdater {
      */
     public void update(WeightMatrix<?> beta, final double stepSize, final int iteration);
 
+    /**
+     * Same as {@link #update(WeightMatrix, double, int)} but in the eager case only the coefficients of the features
+     * in the range [<b>fromFeature</b>, <b>toFeature</b>) are updated.
+     * Implementations must allow concurrent calls for disjoint feature ranges of the same iteration.
+     *
+     * @param beta the current estimate of the coefficients
+     * @param stepSize or learning rate
+     * @param iteration the current iteration
+     * @param fromFeature the first feature index to update (inclusive)
+     * @param toFeature the last feature index to update (exclusive)
+     */
+    public void update(WeightMatrix<?> beta, final double stepSize, final int iteration, final int fromFeature,
+        final int toFeature);
+
     /**
      * Creates the hessian matrix with respect to the regularization term.
      * @param beta the current estimate of the coefficients
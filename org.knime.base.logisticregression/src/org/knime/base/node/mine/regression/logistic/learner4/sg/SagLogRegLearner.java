@@ -176,6 +176,7 @@ private AbstractSGOptimizer createOptimizer(
     public LogRegLearnerResult learn(final TrainingData<ClassificationTrainingRow> data, final ExecutionMonitor progressMonitor)
         throws CanceledExecutionException, InvalidSettingsException {
         AbstractSGOptimizer sgOpt = createOptimizer(m_settings, data);
+        sgOpt.setNrThreads(m_settings.getNrThreads());
 
         SimpleProgress progMon = new SimpleProgress(progressMonitor.getProgressMonitor());
         LogRegLearnerResult result = sgOpt.optimize(m_settings.getMaxEpoch(), data, progMon);
@@ -85,6 +85,15 @@ public void update(final WeightMatrix<?> beta, final double stepSize, final int
         // do nothing
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final WeightMatrix<?> beta, final double stepSize, final int iteration, final int fromFeature,
+        final int toFeature) {
+        // do nothing
+    }
+
     /**
      * {@inheritDoc}
      */
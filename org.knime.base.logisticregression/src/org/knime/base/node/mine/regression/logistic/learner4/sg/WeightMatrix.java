@@ -74,6 +74,18 @@ interface WeightMatrix <T extends TrainingRow> {
      */
     public void update(final WeightVectorConsumer1 func, final boolean includeIntercept);
 
+    /**
+     * Apply eager updates to the coefficients of the features in the range [<b>fromFeature</b>, <b>toFeature</b>).
+     * Updates of disjoint feature ranges may be performed concurrently.
+     *
+     * @param func function to apply to the individual coefficients
+     * @param includeIntercept flag that indicates whether the updates should also be calculated for the intercept terms
+     * @param fromFeature the first feature index to update (inclusive)
+     * @param toFeature the last feature index to update (exclusive)
+     */
+    public void update(final WeightVectorConsumer1 func, final boolean includeIntercept, final int fromFeature,
+        final int toFeature);
+
     /**
      * Apply updates only to those coefficients that are non zero in <b>row</b>
      * @param func the function to apply to the individual coefficients
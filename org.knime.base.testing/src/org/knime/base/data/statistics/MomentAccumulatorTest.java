@@ -0,0 +1,113 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link MomentAccumulator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MomentAccumulatorTest {
+
+    /**
+     * Tests the results for a small sample against the textbook definitions.
+     */
+    @Test
+    public void testSmallSample() {
+        final MomentAccumulator acc = new MomentAccumulator();
+        assertTrue(Double.isNaN(acc.getMean()));
+        assertEquals(0.0, acc.getSum(), 0.0);
+        for (double d : new double[]{1, 2, 4, 8, 16}) {
+            acc.add(d);
+        }
+        assertEquals(5, acc.getN());
+        assertEquals(6.2, acc.getMean(), 1E-12);
+        assertEquals(31.0, acc.getSum(), 1E-12);
+        assertEquals(37.2, acc.getVariance(), 1E-12);
+        // bias corrected sample skewness and excess kurtosis
+        final double m2 = 148.8 / 5;
+        final double m3 = (-5.2 * 5.2 * 5.2 - 4.2 * 4.2 * 4.2 - 2.2 * 2.2 * 2.2 + 1.8 * 1.8 * 1.8 + 9.8 * 9.8 * 9.8) / 5;
+        final double g1 = m3 / Math.pow(m2, 1.5);
+        assertEquals(Math.sqrt(5.0 * 4) / 3 * g1, acc.getSkewness(), 1E-12);
+        assertTrue(Double.isNaN(new MomentAccumulator().getVariance()));
+    }
+
+    /**
+     * Tests that merging accumulators of parts of the data gives the same result as accumulating all data.
+     */
+    @Test
+    public void testMerge() {
+        final Random random = new Random(42);
+        final MomentAccumulator all = new MomentAccumulator();
+        final MomentAccumulator merged = new MomentAccumulator();
+        for (int part = 0; part < 10; part++) {
+            final MomentAccumulator acc = new MomentAccumulator();
+            final int size = random.nextInt(1000);
+            for (int i = 0; i < size; i++) {
+                final double d = 100 + random.nextGaussian() * (part + 1) + Math.exp(random.nextDouble() * 3);
+                acc.add(d);
+                all.add(d);
+            }
+            merged.merge(acc);
+        }
+        assertEquals(all.getN(), merged.getN());
+        assertEquals(all.getMean(), merged.getMean(), 1E-10);
+        assertEquals(all.getSum(), merged.getSum(), 1E-8);
+        assertEquals(all.getVariance(), merged.getVariance(), 1E-8);
+        assertEquals(all.getSkewness(), merged.getSkewness(), 1E-8);
+        assertEquals(all.getKurtosis(), merged.getKurtosis(), 1E-8);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link QuantileSketch}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class QuantileSketchTest {
+
+    /**
+     * Tests that the median is exact as long as nothing was compacted.
+     */
+    @Test
+    public void testExactForSmallInput() {
+        final QuantileSketch sketch = new QuantileSketch();
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        for (double d : new double[]{5, 1, 4, 2, 3}) {
+            sketch.add(d);
+        }
+        assertEquals(3.0, sketch.getQuantile(0.5), 0.0);
+        assertEquals(1.0, sketch.getQuantile(0), 0.0);
+        assertEquals(5.0, sketch.getQuantile(1), 0.0);
+        sketch.add(6);
+        assertEquals(3.5, sketch.getQuantile(0.5), 0.0);
+    }
+
+    /**
+     * Tests the rank error of the median of a merged sketch for a large input.
+     */
+    @Test
+    public void testApproximateMedianOfMergedSketches() {
+        final Random random = new Random(7);
+        final int n = 1000000;
+        final double[] values = new double[n];
+        final QuantileSketch merged = new QuantileSketch();
+        for (int part = 0; part < 8; part++) {
+            final QuantileSketch sketch = new QuantileSketch();
+            for (int i = part * n / 8; i < (part + 1) * n / 8; i++) {
+                values[i] = random.nextGaussian() * (part + 1);
+                sketch.add(values[i]);
+            }
+            merged.merge(sketch);
+        }
+        assertEquals(n, merged.getN());
+        Arrays.sort(values);
+        final double median = merged.getQuantile(0.5);
+        final int rank = Arrays.binarySearch(values, median);
+        final int position = rank >= 0 ? rank : -rank - 1;
+        assertEquals("Rank error too large", n / 2, position, n / 100);
+    }
+}
@@ -184,6 +184,33 @@ public void testGeneralStats() throws InvalidSettingsException, CanceledExecutio
         }
     }
 
+    /**
+     * Tests that the parallel computation of chunks of rows yields the same statistics as the default sequential
+     * computation, up to rounding of the merged moments.
+     *
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public void testParallelStats() throws CanceledExecutionException {
+        BufferedDataTable table = createRandomTableWithMissingValues(3, 10000);
+
+        Statistics3Table sequential = new Statistics3Table(table, false, true, false, 0,
+            Collections.<String> emptyList(), EXEC_CONTEXT, ascendingIntArray(3));
+        Statistics3Table parallel = new Statistics3Table(table, false, true, true, 0,
+            Collections.<String> emptyList(), EXEC_CONTEXT, ascendingIntArray(3));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(sequential.getMean(i), parallel.getMean(i), 1E-9);
+            assertEquals(sequential.getVariance(i), parallel.getVariance(i), 1E-9);
+            assertEquals(sequential.getSkewness(i), parallel.getSkewness(i), 1E-9);
+            assertEquals(sequential.getKurtosis(i), parallel.getKurtosis(i), 1E-9);
+            assertEquals(sequential.getSum(i), parallel.getSum(i), 1E-6);
+            assertEquals(sequential.getMinCells()[i], parallel.getMinCells()[i]);
+            assertEquals(sequential.getMaxCells()[i], parallel.getMaxCells()[i]);
+            assertEquals(sequential.getNumberMissingValues(i), parallel.getNumberMissingValues(i), 0.0);
+        }
+    }
+
     /**
      * Ensures that the given value is either identical or NaN and missing.
      * @param d the value to test against
@@ -0,0 +1,366 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.meta.looper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.meta.looper.AbstractLoopEndNodeSettings.RowKeyPolicy;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowLoadHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+import org.knime.core.util.FileUtil;
+import org.knime.testing.node.runtime.RuntimeNodeFactory;
+import org.knime.testing.node.runtime.RuntimeNodeModel;
+
+/**
+ * Tests the loop end node collecting the tables of the loop body by reference, i.e. the rows, the row keys of all
+ * {@link RowKeyPolicy row key policies} and the iteration column of the final table, before and after the workflow
+ * is saved and loaded.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LoopEndByReferenceTest {
+
+    private static final int LOOPS = 3;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private File m_wfmDir;
+
+    private WorkflowManager m_flow;
+
+    private NodeID m_startID;
+
+    private NodeID m_bodyID;
+
+    private NodeID m_endID;
+
+    /**
+     * Creates a workflow of a source, a counting loop start, a body node that creates a new table in each iteration
+     * and a loop end.
+     *
+     * @throws Exception if that fails
+     */
+    @Before
+    public void setUp() throws Exception {
+        m_wfmDir = FileUtil.createTempDir(getClass().getSimpleName());
+
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_wfmDir).createContext());
+        WorkflowManager m = WorkflowManager.ROOT.createAndAddProject("Loop end by reference test", creationHelper);
+        m_flow = m;
+
+        RuntimeNodeModel sourceModel = new RuntimeNodeModel(0, 1) {
+            /** {@inheritDoc} */
+            @Override
+            protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+                throws Exception {
+                BufferedDataContainer cont = exec.createDataContainer(SPEC);
+                cont.close();
+                return new BufferedDataTable[]{cont.getTable()};
+            }
+        };
+        RuntimeNodeModel bodyModel = new RuntimeNodeModel(1, 1) {
+            /** {@inheritDoc} */
+            @Override
+            protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+                throws Exception {
+                // a new table in each iteration, owned by the body node
+                int iteration = peekFlowVariableInt("currentIteration");
+                BufferedDataContainer cont = exec.createDataContainer(SPEC);
+                for (int i = 0; i <= iteration; i++) {
+                    cont.addRowToTable(new DefaultRow(bodyKey(iteration, i), new IntCell(bodyValue(iteration, i))));
+                }
+                cont.close();
+                return new BufferedDataTable[]{cont.getTable()};
+            }
+        };
+        NodeID sourceID = m.createAndAddNode(new RuntimeNodeFactory(sourceModel));
+        m_startID = m.createAndAddNode(new LoopStartCountNodeFactory());
+        m_bodyID = m.createAndAddNode(new RuntimeNodeFactory(bodyModel));
+        m_endID = m.createAndAddNode(new LoopEndNodeFactory());
+        m.addConnection(sourceID, 1, m_startID, 1);
+        m.addConnection(m_startID, 1, m_bodyID, 1);
+        m.addConnection(m_bodyID, 1, m_endID, 1);
+
+        NodeSettings startSettings = new NodeSettings("start");
+        m.saveNodeSettings(m_startID, startSettings);
+        LoopStartCountSettings countSettings = new LoopStartCountSettings();
+        countSettings.loops(LOOPS);
+        countSettings.saveSettingsTo(startSettings.getNodeSettings("model"));
+        m.loadNodeSettings(m_startID, startSettings);
+    }
+
+    /**
+     * Removes the workflow and its directory.
+     *
+     * @throws Exception if that fails
+     */
+    @After
+    public void tearDown() throws Exception {
+        if (m_flow != null) {
+            WorkflowManager.ROOT.removeProject(m_flow.getID());
+        }
+        if (m_wfmDir != null) {
+            FileUtil.deleteRecursively(m_wfmDir);
+        }
+    }
+
+    /**
+     * Keys of the body tables with new row keys and the iteration column.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testGenerateNewWithIterationColumn() throws Exception {
+        runAndCompare(RowKeyPolicy.GENERATE_NEW, true);
+    }
+
+    /**
+     * Keys of the body tables with a suffix and the iteration column.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testAppendSuffixWithIterationColumn() throws Exception {
+        runAndCompare(RowKeyPolicy.APPEND_SUFFIX, true);
+    }
+
+    /**
+     * Keys of the body tables unmodified and the iteration column.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testUnmodifiedWithIterationColumn() throws Exception {
+        runAndCompare(RowKeyPolicy.UNMODIFIED, true);
+    }
+
+    /**
+     * Keys of the body tables with a suffix, no iteration column.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testAppendSuffixWithoutIterationColumn() throws Exception {
+        runAndCompare(RowKeyPolicy.APPEND_SUFFIX, false);
+    }
+
+    /**
+     * New row keys, no iteration column.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testGenerateNewWithoutIterationColumn() throws Exception {
+        runAndCompare(RowKeyPolicy.GENERATE_NEW, false);
+    }
+
+    /**
+     * The final table is computed again (and equal) after the loop end is reset and the loop executed again.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testReexecute() throws Exception {
+        configureLoopEnd(RowKeyPolicy.APPEND_SUFFIX, true);
+        m_flow.executeAllAndWaitUntilDone();
+        assertTrue(m_flow.getNodeContainerState().isExecuted());
+        m_flow.resetAndConfigureNode(m_startID);
+        assertFalse(m_flow.getNodeContainerState().isExecuted());
+        m_flow.executeAllAndWaitUntilDone();
+        assertTrue(m_flow.getNodeContainerState().isExecuted());
+        assertRows(getOutput(m_flow, m_endID), RowKeyPolicy.APPEND_SUFFIX, true);
+        assertReferencesBodyTables(getOutput(m_flow, m_endID), getOutput(m_flow, m_bodyID));
+    }
+
+    private void runAndCompare(final RowKeyPolicy policy, final boolean addIterationColumn) throws Exception {
+        configureLoopEnd(policy, addIterationColumn);
+        m_flow.executeAllAndWaitUntilDone();
+        assertTrue(m_flow.getNodeContainerState().isExecuted());
+        assertRows(getOutput(m_flow, m_endID), policy, addIterationColumn);
+        assertReferencesBodyTables(getOutput(m_flow, m_endID), getOutput(m_flow, m_bodyID));
+
+        // the tables of the previous iterations are no longer outputs of the body, they're saved with the loop end
+        m_flow.save(m_wfmDir, new ExecutionMonitor(), true);
+        WorkflowManager.ROOT.removeProject(m_flow.getID());
+        m_flow = null;
+
+        WorkflowLoadResult loadResult =
+            WorkflowManager.loadProject(m_wfmDir, new ExecutionMonitor(), new WorkflowLoadHelper(m_wfmDir));
+        assertFalse(loadResult.getMessage(), loadResult.hasErrors());
+        m_flow = loadResult.getWorkflowManager();
+        assertTrue(m_flow.getNodeContainerState().isExecuted());
+        BufferedDataTable loadedEndTable = getOutput(m_flow, new NodeID(m_flow.getID(), m_endID.getIndex()));
+        assertRows(loadedEndTable, policy, addIterationColumn);
+        assertReferencesBodyTables(loadedEndTable,
+            getOutput(m_flow, new NodeID(m_flow.getID(), m_bodyID.getIndex())));
+    }
+
+    private void configureLoopEnd(final RowKeyPolicy policy, final boolean addIterationColumn) throws Exception {
+        NodeSettings settings = new NodeSettings("end");
+        m_flow.saveNodeSettings(m_endID, settings);
+        NodeSettings modelSettings = settings.getNodeSettings("model");
+        LoopEndNodeSettings endSettings = new LoopEndNodeSettings();
+        endSettings.loadSettings(modelSettings);
+        endSettings.rowKeyPolicy(policy);
+        endSettings.addIterationColumn(addIterationColumn);
+        endSettings.collectByReference(true);
+        endSettings.saveSettings(modelSettings);
+        m_flow.loadNodeSettings(m_endID, settings);
+    }
+
+    private static BufferedDataTable getOutput(final WorkflowManager m, final NodeID id) {
+        return (BufferedDataTable)m.getNodeContainer(id).getOutPort(1).getPortObject();
+    }
+
+    /**
+     * Asserts that the loop end's table is a {@link LoopEndConcatenateTable} referencing the unchanged tables of the
+     * loop body, one per iteration with the last one being the body node's current output, i.e. no row was copied.
+     */
+    private static void assertReferencesBodyTables(final BufferedDataTable endTable,
+        final BufferedDataTable lastBodyTable) throws Exception {
+        KnowsRowCountTable delegate = getDelegate(endTable);
+        assertTrue("Loop end table is a " + delegate.getClass().getName(),
+            delegate instanceof LoopEndConcatenateTable);
+        BufferedDataTable[] references = delegate.getReferenceTables();
+        assertEquals("Number of referenced tables", LOOPS, references.length);
+        for (int iteration = 0; iteration < LOOPS; iteration++) {
+            BufferedDataTable reference = references[iteration];
+            assertTrue("Referenced table of iteration " + iteration + " is a copy",
+                getDelegate(reference) instanceof ContainerTable);
+            assertEquals("Rows of iteration " + iteration, iteration + 1, reference.size());
+            try (CloseableRowIterator it = reference.iterator()) {
+                assertEquals("First row of iteration " + iteration, new RowKey(bodyKey(iteration, 0)),
+                    it.next().getKey());
+            }
+        }
+        assertSame("Last iteration's table", lastBodyTable, references[LOOPS - 1]);
+    }
+
+    /** The table wrapped by a {@link BufferedDataTable}, which isn't accessible outside of the core bundle. */
+    private static KnowsRowCountTable getDelegate(final BufferedDataTable table) throws Exception {
+        Method getDelegate = BufferedDataTable.class.getDeclaredMethod("getDelegate");
+        getDelegate.setAccessible(true);
+        return (KnowsRowCountTable)getDelegate.invoke(table);
+    }
+
+    private static void assertRows(final BufferedDataTable table, final RowKeyPolicy policy,
+        final boolean addIterationColumn) {
+        assertEquals("Number of columns", addIterationColumn ? 2 : 1, table.getDataTableSpec().getNumColumns());
+        List<DataRow> rows = new ArrayList<>();
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                rows.add(it.next());
+            }
+        }
+        assertEquals("Number of rows", LOOPS * (LOOPS + 1) / 2, table.size());
+        assertEquals("Number of rows", table.size(), rows.size());
+        int index = 0;
+        for (int iteration = 0; iteration < LOOPS; iteration++) {
+            for (int i = 0; i <= iteration; i++) {
+                DataRow row = rows.get(index);
+                String expectedKey;
+                switch (policy) {
+                    case GENERATE_NEW:
+                        expectedKey = "Row" + index;
+                        break;
+                    case APPEND_SUFFIX:
+                        expectedKey = bodyKey(iteration, i) + "#" + iteration;
+                        break;
+                    default:
+                        expectedKey = bodyKey(iteration, i);
+                }
+                assertEquals("Row key of row " + index, new RowKey(expectedKey), row.getKey());
+                assertEquals("Value of row " + index, new IntCell(bodyValue(iteration, i)), row.getCell(0));
+                if (addIterationColumn) {
+                    assertEquals("Iteration of row " + index, new IntCell(iteration), row.getCell(1));
+                }
+                index++;
+            }
+        }
+    }
+
+    private static String bodyKey(final int iteration, final int i) {
+        return "Iteration" + iteration + "_" + i;
+    }
+
+    private static int bodyValue(final int iteration, final int i) {
+        return 100 * iteration + i;
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.meta.looper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.meta.looper.AbstractLoopEndNodeSettings.RowKeyPolicy;
+import org.knime.base.node.meta.looper.chunk.LoopStartChunkNodeFactory;
+import org.knime.base.node.meta.looper.group.GroupLoopStartNodeFactory;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NodeView;
+import org.knime.core.node.util.filter.InputFilter;
+import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Runs the Counting, Chunk and Group Loop Start nodes with parallel iterations and compares the output of the loop
+ * end (row order, row keys and iteration column) with the output of the same loop run sequentially.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelLoopIterationsTest {
+
+    private static final int ROWS = 12;
+
+    private static final int ROWS_PER_GROUP = 3;
+
+    private static final int PARALLEL_ITERATIONS = 3;
+
+    private static final DataTableSpec SOURCE_SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("group", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    /** The nodes (original loop body or its copies in the parallel chunks) that executed the body. */
+    private static final Set<NodeID> BODY_NODES = Collections.synchronizedSet(new HashSet<NodeID>());
+
+    private File m_wfmDir;
+
+    private WorkflowManager m_flow;
+
+    private NodeID m_startID;
+
+    private NodeID m_endID;
+
+    /** Sets the parallel iterations (and loop specific options) in the model settings of a loop start node. */
+    private interface StartSettings {
+        void apply(NodeSettings modelSettings, int parallelIterations);
+    }
+
+    /**
+     * Creates an empty workflow.
+     *
+     * @throws Exception if that fails
+     */
+    @Before
+    public void setUp() throws Exception {
+        BODY_NODES.clear();
+        m_wfmDir = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_wfmDir).createContext());
+        m_flow = WorkflowManager.ROOT.createAndAddProject("Parallel loop iterations test", creationHelper);
+    }
+
+    /**
+     * Removes the workflow and its directory.
+     *
+     * @throws Exception if that fails
+     */
+    @After
+    public void tearDown() throws Exception {
+        if (m_flow != null) {
+            WorkflowManager.ROOT.removeProject(m_flow.getID());
+        }
+        if (m_wfmDir != null) {
+            FileUtil.deleteRecursively(m_wfmDir);
+        }
+    }
+
+    /**
+     * Counting loop, the body gets the same table in each iteration.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testCountingLoop() throws Exception {
+        createLoop(new LoopStartCountNodeFactory(), RowKeyPolicy.APPEND_SUFFIX);
+        runAndCompare(new StartSettings() {
+            @Override
+            public void apply(final NodeSettings modelSettings, final int parallelIterations) {
+                LoopStartCountSettings settings = new LoopStartCountSettings();
+                settings.loops(5);
+                settings.parallelIterations(parallelIterations);
+                settings.saveSettingsTo(modelSettings);
+            }
+        }, 5 * ROWS);
+    }
+
+    /**
+     * Chunk loop with a number of chunks that isn't a multiple of the parallel iterations.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testChunkLoop() throws Exception {
+        createLoop(new LoopStartChunkNodeFactory(), RowKeyPolicy.APPEND_SUFFIX);
+        runAndCompare(new StartSettings() {
+            @Override
+            public void apply(final NodeSettings modelSettings, final int parallelIterations) {
+                modelSettings.addString("mode", "RowsPerChunk");
+                modelSettings.addInt("nrRowsPerChunk", 2);
+                modelSettings.addInt("nrParallelChunks", parallelIterations);
+            }
+        }, ROWS);
+    }
+
+    /**
+     * Group loop, each group is an iteration.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testGroupLoop() throws Exception {
+        createLoop(new GroupLoopStartNodeFactory(), RowKeyPolicy.APPEND_SUFFIX);
+        runAndCompare(new GroupStartSettings(), ROWS);
+    }
+
+    /**
+     * Group loop with row keys generated by the loop end, which depend on the order in which the rows arrive.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testGroupLoopGeneratedRowKeys() throws Exception {
+        createLoop(new GroupLoopStartNodeFactory(), RowKeyPolicy.GENERATE_NEW);
+        runAndCompare(new GroupStartSettings(), ROWS);
+    }
+
+    /** Groups by the "group" column. */
+    private static final class GroupStartSettings implements StartSettings {
+        @Override
+        public void apply(final NodeSettings modelSettings, final int parallelIterations) {
+            DataColumnSpecFilterConfiguration groupColumns = new DataColumnSpecFilterConfiguration("GroupColNames");
+            groupColumns.loadDefault(SOURCE_SPEC, new InputFilter<DataColumnSpec>() {
+                @Override
+                public boolean include(final DataColumnSpec spec) {
+                    return "group".equals(spec.getName());
+                }
+            }, true);
+            groupColumns.saveConfiguration(modelSettings);
+            modelSettings.addInt("ParallelIterations", parallelIterations);
+        }
+    }
+
+    /** Creates source -> loop start -> body -> loop end, the loop end adds the iteration column. */
+    private void createLoop(final NodeFactory<? extends NodeModel> startFactory, final RowKeyPolicy policy)
+        throws Exception {
+        NodeID sourceID = m_flow.createAndAddNode(new SourceNodeFactory());
+        m_startID = m_flow.createAndAddNode(startFactory);
+        NodeID bodyID = m_flow.createAndAddNode(new BodyNodeFactory());
+        m_endID = m_flow.createAndAddNode(new LoopEndNodeFactory());
+        m_flow.addConnection(sourceID, 1, m_startID, 1);
+        m_flow.addConnection(m_startID, 1, bodyID, 1);
+        m_flow.addConnection(bodyID, 1, m_endID, 1);
+
+        NodeSettings settings = new NodeSettings("end");
+        m_flow.saveNodeSettings(m_endID, settings);
+        NodeSettings modelSettings = settings.getNodeSettings("model");
+        LoopEndNodeSettings endSettings = new LoopEndNodeSettings();
+        endSettings.loadSettings(modelSettings);
+        endSettings.rowKeyPolicy(policy);
+        endSettings.addIterationColumn(true);
+        endSettings.saveSettings(modelSettings);
+        m_flow.loadNodeSettings(m_endID, settings);
+    }
+
+    private void runAndCompare(final StartSettings startSettings, final int expectedRows) throws Exception {
+        List<DataRow> sequential = execute(startSettings, 1);
+        assertEquals("Number of rows", expectedRows, sequential.size());
+        assertEquals("Nodes executing the loop body sequentially", 1, BODY_NODES.size());
+
+        BODY_NODES.clear();
+        List<DataRow> parallel = execute(startSettings, PARALLEL_ITERATIONS);
+        assertTrue("Loop body not executed in parallel chunks, executed by " + BODY_NODES,
+            BODY_NODES.size() > 1);
+
+        assertEquals("Number of rows", sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            DataRow expected = sequential.get(i);
+            DataRow actual = parallel.get(i);
+            assertEquals("Row key of row " + i, expected.getKey(), actual.getKey());
+            assertEquals("Number of cells of row " + i, expected.getNumCells(), actual.getNumCells());
+            for (int c = 0; c < expected.getNumCells(); c++) {
+                assertEquals("Cell " + c + " of row " + i, expected.getCell(c), actual.getCell(c));
+            }
+            // the iteration column of the loop end matches the iteration the body has seen
+            assertEquals("Iteration of row " + i, actual.getCell(2), actual.getCell(3));
+        }
+    }
+
+    /** Executes the loop with the given number of parallel iterations and returns the rows of the loop end. */
+    private List<DataRow> execute(final StartSettings startSettings, final int parallelIterations)
+        throws Exception {
+        m_flow.resetAndConfigureAll();
+        NodeSettings settings = new NodeSettings("start");
+        m_flow.saveNodeSettings(m_startID, settings);
+        startSettings.apply(settings.getNodeSettings("model"), parallelIterations);
+        m_flow.loadNodeSettings(m_startID, settings);
+
+        m_flow.executeAllAndWaitUntilDone();
+        assertTrue("Workflow not executed with " + parallelIterations + " parallel iterations",
+            m_flow.getNodeContainerState().isExecuted());
+        BufferedDataTable table = (BufferedDataTable)m_flow.getNodeContainer(m_endID).getOutPort(1).getPortObject();
+        assertEquals("Number of columns", 4, table.getDataTableSpec().getNumColumns());
+        List<DataRow> rows = new ArrayList<>();
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                rows.add(it.next());
+            }
+        }
+        return rows;
+    }
+
+    /** Base class of the factories of the test nodes, which have neither a dialog nor a view. */
+    private abstract static class TestNodeFactory extends NodeFactory<NodeModel> {
+        @Override
+        protected int getNrNodeViews() {
+            return 0;
+        }
+
+        @Override
+        public NodeView<NodeModel> createNodeView(final int viewIndex, final NodeModel nodeModel) {
+            throw new IllegalStateException("No view");
+        }
+
+        @Override
+        protected boolean hasDialog() {
+            return false;
+        }
+
+        @Override
+        protected NodeDialogPane createNodeDialogPane() {
+            throw new IllegalStateException("No dialog");
+        }
+    }
+
+    /** Source of a table whose "group" column is sorted, groups of {@link #ROWS_PER_GROUP} rows. */
+    public static final class SourceNodeFactory extends TestNodeFactory {
+        @Override
+        public NodeModel createNodeModel() {
+            return new TestNodeModel(0) {
+                @Override
+                protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) {
+                    return new DataTableSpec[]{SOURCE_SPEC};
+                }
+
+                @Override
+                protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+                    throws Exception {
+                    BufferedDataContainer cont = exec.createDataContainer(SOURCE_SPEC);
+                    for (int i = 0; i < ROWS; i++) {
+                        cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i),
+                            new StringCell("Group" + (i / ROWS_PER_GROUP)), new IntCell(i)));
+                    }
+                    cont.close();
+                    return new BufferedDataTable[]{cont.getTable()};
+                }
+            };
+        }
+    }
+
+    /**
+     * Loop body appending the value of the variable "currentIteration". It records the node executing it, which is a
+     * copy of the body node if the iteration runs in a parallel chunk. The factory creates a new model for each
+     * node as the body is copied for the chunks.
+     */
+    public static final class BodyNodeFactory extends TestNodeFactory {
+        @Override
+        public NodeModel createNodeModel() {
+            return new TestNodeModel(1) {
+                @Override
+                protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) {
+                    return new DataTableSpec[]{createSpec(inSpecs[0])};
+                }
+
+                @Override
+                protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+                    throws Exception {
+                    BODY_NODES.add(NodeContext.getContext().getNodeContainer().getID());
+                    IntCell iteration = new IntCell(peekFlowVariableInt("currentIteration"));
+                    BufferedDataContainer cont = exec.createDataContainer(createSpec(inData[0].getDataTableSpec()));
+                    for (DataRow row : inData[0]) {
+                        cont.addRowToTable(new DefaultRow(row.getKey(), row.getCell(0), row.getCell(1), iteration));
+                    }
+                    cont.close();
+                    return new BufferedDataTable[]{cont.getTable()};
+                }
+
+                private DataTableSpec createSpec(final DataTableSpec inSpec) {
+                    return new DataTableSpec(inSpec,
+                        new DataTableSpec(new DataColumnSpecCreator("currentIteration", IntCell.TYPE).createSpec()));
+                }
+            };
+        }
+    }
+
+    /** Node model without settings and internals. */
+    private abstract static class TestNodeModel extends NodeModel {
+        TestNodeModel(final int nrInPorts) {
+            super(nrInPorts, 1);
+        }
+
+        @Override
+        protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec) {
+        }
+
+        @Override
+        protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec) {
+        }
+
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) {
+        }
+
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) {
+        }
+
+        @Override
+        protected void reset() {
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.cellreplace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.preproc.cellreplace.CellReplacerNodeModel.NoMatchPolicy;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelColumnName;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Runs the Cell Replacer node, whose cell factory processes the rows concurrently and reads the dictionary lazily, on a
+ * table large enough for several workers and compares the output with a sequential lookup in the dictionary.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CellReplacerNodeModelTest {
+
+    private static final int ROW_COUNT = 10000;
+
+    /** Number of different values in the target column, only the first {@link #DICT_SIZE} are in the dictionary. */
+    private static final int KEY_COUNT = 50;
+
+    private static final int DICT_SIZE = 40;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    private BufferedDataTable m_dictionary;
+
+    /**
+     * Creates the execution context, the input table (every eleventh cell is missing) and the dictionary.
+     *
+     * @throws Exception if that fails
+     */
+    @Before
+    public void setUp() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+
+        BufferedDataContainer cont = m_exec.createDataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("target", StringCell.TYPE).createSpec()));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            DataCell cell = i % 11 == 0 ? DataType.getMissingCell() : new StringCell("k" + (i % KEY_COUNT));
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey(i), cell));
+        }
+        cont.close();
+        m_table = cont.getTable();
+
+        BufferedDataContainer dictCont = m_exec.createDataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("search", StringCell.TYPE).createSpec(),
+                new DataColumnSpecCreator("replace", StringCell.TYPE).createSpec()));
+        for (int i = 0; i < DICT_SIZE; i++) {
+            dictCont.addRowToTable(
+                new DefaultRow(RowKey.createRowKey(i), new StringCell("k" + i), new StringCell("v" + i)));
+        }
+        dictCont.close();
+        m_dictionary = dictCont.getTable();
+    }
+
+    /** Cells without a dictionary entry are kept. */
+    @Test
+    public void testNoMatchInput() throws Exception {
+        check(NoMatchPolicy.Input, false, m_dictionary);
+    }
+
+    /** Cells without a dictionary entry are replaced by missing cells, the result is appended. */
+    @Test
+    public void testNoMatchMissing() throws Exception {
+        check(NoMatchPolicy.Missing, true, m_dictionary);
+    }
+
+    /** The dictionary contains a replacement for missing cells. */
+    @Test
+    public void testMissingCellInDictionary() throws Exception {
+        BufferedDataContainer dictCont = m_exec.createDataContainer(m_dictionary.getDataTableSpec());
+        for (DataRow row : m_dictionary) {
+            dictCont.addRowToTable(row);
+        }
+        dictCont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)DICT_SIZE), DataType.getMissingCell(),
+            new StringCell("was missing")));
+        dictCont.close();
+        check(NoMatchPolicy.Input, false, dictCont.getTable());
+    }
+
+    private void check(final NoMatchPolicy policy, final boolean append, final BufferedDataTable dictionary)
+        throws Exception {
+        NodeSettings settings = new NodeSettings("Cell Replacer");
+        SettingsModelString targetColModel = CellReplacerNodeModel.createTargetColModel();
+        targetColModel.setStringValue("target");
+        targetColModel.saveSettingsTo(settings);
+        SettingsModelString noMatchPolicyModel = CellReplacerNodeModel.createNoMatchPolicyModel();
+        noMatchPolicyModel.setStringValue(policy.name());
+        noMatchPolicyModel.saveSettingsTo(settings);
+        SettingsModelColumnName dictInputColModel = CellReplacerNodeModel.createDictInputColModel();
+        dictInputColModel.setSelection("search", false);
+        dictInputColModel.saveSettingsTo(settings);
+        SettingsModelColumnName dictOutputColModel = CellReplacerNodeModel.createDictOutputColModel();
+        dictOutputColModel.setSelection("replace", false);
+        dictOutputColModel.saveSettingsTo(settings);
+        SettingsModelBoolean appendColumnModel = CellReplacerNodeModel.createAppendColumnModel();
+        appendColumnModel.setBooleanValue(append);
+        appendColumnModel.saveSettingsTo(settings);
+        CellReplacerNodeModel.createAppendColumnNameModel(appendColumnModel).saveSettingsTo(settings);
+
+        CellReplacerNodeModel model = new CellReplacerNodeModel();
+        model.validateSettings(settings);
+        model.loadValidatedSettingsFrom(settings);
+        BufferedDataTable result = model.execute(new BufferedDataTable[]{m_table, dictionary}, m_exec)[0];
+
+        Map<DataCell, DataCell> dictionaryMap = new HashMap<DataCell, DataCell>();
+        for (DataRow row : dictionary) {
+            dictionaryMap.put(row.getCell(0), row.getCell(1));
+        }
+        final int resultIndex = append ? 1 : 0;
+        assertEquals("Row count", ROW_COUNT, result.size());
+        RowIterator inIt = m_table.iterator();
+        RowIterator outIt = result.iterator();
+        while (inIt.hasNext()) {
+            assertTrue("Too few rows", outIt.hasNext());
+            DataRow in = inIt.next();
+            DataRow out = outIt.next();
+            assertEquals("Row order", in.getKey(), out.getKey());
+            DataCell expected = dictionaryMap.get(in.getCell(0));
+            if (expected == null) {
+                expected = policy == NoMatchPolicy.Input ? in.getCell(0) : DataType.getMissingCell();
+            }
+            assertEquals("Wrong replacement in row " + in.getKey(), expected, out.getCell(resultIndex));
+        }
+    }
+}
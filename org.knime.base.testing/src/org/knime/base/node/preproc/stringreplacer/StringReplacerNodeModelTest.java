@@ -0,0 +1,201 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Runs the String Replacer node, whose cell factory processes the rows concurrently, on a table large enough for
+ * several workers and compares the output row by row with the sequential replacement of the previous versions.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StringReplacerNodeModelTest {
+
+    private static final int ROW_COUNT = 10000;
+
+    private static final String[] VALUES = {"foo", "bar", "foo bar baz", "ab ab a", "ABC", "abc", "a*b",
+        "xaxbxc", "", "Foo\nBar", "a\uD83D\uDE00c", "baz"};
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    /**
+     * Creates the execution context and the input table, every seventh cell is missing.
+     *
+     * @throws Exception if that fails
+     */
+    @Before
+    public void setUp() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("value", StringCell.TYPE).createSpec());
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            DataCell cell = i % 7 == 0 ? DataType.getMissingCell()
+                : new StringCell(VALUES[i % VALUES.length] + (i % 3 == 0 ? "" : " " + (i % 100)));
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey(i), cell));
+        }
+        cont.close();
+        m_table = cont.getTable();
+    }
+
+    /** Alternation of literals, replacing all occurrences. */
+    @Test
+    public void testRegexAlternation() throws Exception {
+        check(createSettings(true, "foo|bar|ba", "X", true, true));
+    }
+
+    /** Regular expression with a group reference in the replacement. */
+    @Test
+    public void testRegexGroups() throws Exception {
+        check(createSettings(true, "(a)(b)", "$2$1", true, true));
+        check(createSettings(true, "([a-z]+) (\\d+)", "$2-$1", false, true));
+    }
+
+    /** Literal pattern, case insensitive. */
+    @Test
+    public void testCaseInsensitive() throws Exception {
+        check(createSettings(false, "foo", "X", true, false));
+        check(createSettings(true, "abc|bar", "X", false, false));
+    }
+
+    /** Wildcards matching the whole string. */
+    @Test
+    public void testWildcards() throws Exception {
+        check(createSettings(false, "*ab*", "X", false, true));
+        check(createSettings(false, "a?c*", "X", false, true));
+        check(createSettings(false, "*", "X", false, true));
+        check(createSettings(false, "a\\*b*", "X", false, true));
+    }
+
+    /** The result is appended as new column. */
+    @Test
+    public void testAppendColumn() throws Exception {
+        StringReplacerSettings settings = createSettings(false, "foo*", "X", false, true);
+        settings.createNewColumn(true);
+        settings.newColumnName("replaced");
+        check(settings);
+    }
+
+    private static StringReplacerSettings createSettings(final boolean regex, final String pattern,
+        final String replacement, final boolean replaceAll, final boolean caseSensitive) {
+        StringReplacerSettings settings = new StringReplacerSettings();
+        settings.columnName("value");
+        settings.patternIsRegex(regex);
+        settings.enableEscaping(true);
+        settings.pattern(pattern);
+        settings.replacement(replacement);
+        settings.replaceAllOccurrences(replaceAll);
+        settings.caseSensitive(caseSensitive);
+        return settings;
+    }
+
+    private void check(final StringReplacerSettings settings) throws Exception {
+        NodeSettings nodeSettings = new NodeSettings("String Replacer");
+        settings.saveSettings(nodeSettings);
+        StringReplacerNodeModel model = new StringReplacerNodeModel();
+        model.validateSettings(nodeSettings);
+        model.loadValidatedSettingsFrom(nodeSettings);
+        BufferedDataTable result = m_exec.createColumnRearrangeTable(m_table,
+            model.createColumnRearranger(m_table.getDataTableSpec()), m_exec);
+
+        final int resultIndex = settings.createNewColumn() ? 1 : 0;
+        assertEquals("Row count", ROW_COUNT, result.size());
+        RowIterator inIt = m_table.iterator();
+        RowIterator outIt = result.iterator();
+        while (inIt.hasNext()) {
+            assertTrue("Too few rows", outIt.hasNext());
+            DataRow in = inIt.next();
+            DataRow out = outIt.next();
+            assertEquals("Row order", in.getKey(), out.getKey());
+            DataCell inCell = in.getCell(0);
+            DataCell outCell = out.getCell(resultIndex);
+            if (inCell.isMissing()) {
+                assertTrue("Missing cell not kept in row " + in.getKey(), outCell.isMissing());
+            } else {
+                String value = ((StringValue)inCell).getStringValue();
+                assertEquals("Wrong replacement in row " + in.getKey(),
+                    StringReplacerTest.replaceSequential(settings, value), ((StringValue)outCell).getStringValue());
+            }
+        }
+    }
+}
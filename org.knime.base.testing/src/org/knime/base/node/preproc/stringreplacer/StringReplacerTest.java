@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.knime.base.util.WildcardMatcher;
+
+/**
+ * Compares the results of the {@link StringReplacer} implementations with the regular expression based replacement
+ * that the String Replacer node used before the specialized implementations were introduced.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StringReplacerTest {
+
+    private static final String[] REGEX_PATTERNS = {"a", "ab", "a|ab", "ab|a", "foo|bar|baz", "bar|foo|ba", "o",
+        "a.c", "(a)(b)", "^a", "c$", "a+", "x*", ".*", "\\d+", "\u00e4|\u00c4", "\uD83D\uDE00", "a|", "|a", "A|B"};
+
+    private static final String[] WILDCARD_PATTERNS = {"a", "abc", "*a*", "a*", "*c", "a?c", "?", "??", "a*b*c",
+        "*b*", "*", "**", "*?", "?*?", "a\\*b", "a\\?", "\\\\", "*\u00e4*", "\uD83D\uDE00", "a*c*a", "A*", "$1"};
+
+    private static final String[] REPLACEMENTS = {"X", "", "<$0>", "$1", "\\$", "a"};
+
+    private static final String[] VALUES = {"", "a", "ab", "abc", "aabcc", "abcabc", "xaxbxc", "foo bar baz",
+        "foobar", "ab ab a", "A", "ABC", "aBc", "\u00e4 \u00c4", "a*b", "a?", "a\\", "\\", "a\nb\nc", "12 ab 345",
+        "\uD83D\uDE00", "a\uD83D\uDE00c", "\uD83D\uDE00\uD83D\uDE00", "$1", "acbca"};
+
+    /** Regular expressions, including alternations of literals. */
+    @Test
+    public void testRegularExpressions() {
+        checkAll(true, REGEX_PATTERNS);
+    }
+
+    /** Wildcard patterns, with and without escaping. */
+    @Test
+    public void testWildcards() {
+        checkAll(false, WILDCARD_PATTERNS);
+    }
+
+    /** The specialized implementations are chosen for the simple cases, i.e. the other tests really cover them. */
+    @Test
+    public void testImplementationChoice() {
+        assertEquals("LiteralReplacer", create(true, "foo", "X", true, true).getClass().getSimpleName());
+        assertEquals("LiteralReplacer", create(false, "foo", "X", false, true).getClass().getSimpleName());
+        assertEquals("AlternationReplacer", create(true, "foo|bar", "X", true, true).getClass().getSimpleName());
+        assertEquals("WildcardReplacer", create(false, "a*b?", "X", false, true).getClass().getSimpleName());
+        assertEquals("RegexReplacer", create(true, "a.c", "X", true, true).getClass().getSimpleName());
+        assertEquals("RegexReplacer", create(true, "foo", "<$0>", true, true).getClass().getSimpleName());
+        assertEquals("RegexReplacer", create(false, "foo", "X", false, false).getClass().getSimpleName());
+    }
+
+    private static void checkAll(final boolean regex, final String[] patterns) {
+        for (String pattern : patterns) {
+            for (String replacement : REPLACEMENTS) {
+                for (boolean replaceAll : new boolean[]{false, true}) {
+                    for (boolean caseSensitive : new boolean[]{true, false}) {
+                        for (boolean escaping : new boolean[]{false, true}) {
+                            check(regex, pattern, replacement, replaceAll, caseSensitive, escaping);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void check(final boolean regex, final String pattern, final String replacement,
+        final boolean replaceAll, final boolean caseSensitive, final boolean escaping) {
+        final StringReplacerSettings settings = new StringReplacerSettings();
+        settings.patternIsRegex(regex);
+        settings.pattern(pattern);
+        settings.replacement(replacement);
+        settings.replaceAllOccurrences(replaceAll);
+        settings.caseSensitive(caseSensitive);
+        settings.enableEscaping(escaping);
+        final StringReplacer replacer = StringReplacer.create(settings);
+        for (String value : VALUES) {
+            final String message = String.format("pattern '%s', replacement '%s', value '%s', regex: %b, "
+                + "replace all: %b, case sensitive: %b, escaping: %b", pattern, replacement, value, regex,
+                replaceAll, caseSensitive, escaping);
+            assertEquals(message, replaceSequential(settings, value), replace(replacer, value));
+        }
+    }
+
+    private static StringReplacer create(final boolean regex, final String pattern, final String replacement,
+        final boolean replaceAll, final boolean caseSensitive) {
+        final StringReplacerSettings settings = new StringReplacerSettings();
+        settings.patternIsRegex(regex);
+        settings.pattern(pattern);
+        settings.replacement(replacement);
+        settings.replaceAllOccurrences(replaceAll);
+        settings.caseSensitive(caseSensitive);
+        return StringReplacer.create(settings);
+    }
+
+    /** @return the result or the class of the exception thrown by the replacement (e.g. for missing groups) */
+    private static String replace(final StringReplacer replacer, final String value) {
+        try {
+            return replacer.replace(value);
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * The replacement as done by the node before the specialized implementations, one new matcher per value.
+     *
+     * @return the result or the class of the exception thrown by the replacement
+     */
+    static String replaceSequential(final StringReplacerSettings settings, final String value) {
+        String regex;
+        int flags = 0;
+        if (settings.patternIsRegex()) {
+            regex = settings.pattern();
+        } else {
+            regex = WildcardMatcher.wildcardToRegex(settings.pattern(), settings.enableEscaping());
+            flags = Pattern.DOTALL | Pattern.MULTILINE;
+        }
+        if (!settings.caseSensitive()) {
+            flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        }
+        final Pattern pattern = Pattern.compile(regex, flags);
+        final String replacement;
+        if (settings.patternIsRegex()) {
+            replacement = settings.replacement();
+        } else {
+            replacement = settings.replacement().replaceAll("(\\$\\d+)", "\\\\$1");
+        }
+        try {
+            Matcher m = pattern.matcher(value);
+            if (settings.replaceAllOccurrences()) {
+                return m.replaceAll(replacement);
+            } else if (m.matches()) {
+                if (".*".equals(pattern.pattern())) {
+                    return replacement;
+                } else {
+                    return m.replaceAll(replacement);
+                }
+            } else {
+                return value;
+            }
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer.dict;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Runs the Search & Replace (Dictionary) node, whose cell factory processes the rows concurrently, on a table large
+ * enough for several workers and compares the output with a sequential lookup in the dictionary file.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SearchReplaceDictNodeModelTest {
+
+    private static final int ROW_COUNT = 10000;
+
+    /** Number of different values in the target columns, only the first {@link #DICT_SIZE} are in the dictionary. */
+    private static final int KEY_COUNT = 50;
+
+    private static final int DICT_SIZE = 40;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    private File m_dictFile;
+
+    private Map<String, String> m_dictionary;
+
+    /**
+     * Creates the execution context, the input table with a string and an integer column (every eleventh cell is
+     * missing) and the dictionary file.
+     *
+     * @throws Exception if that fails
+     */
+    @Before
+    public void setUp() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+
+        BufferedDataContainer cont =
+            m_exec.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("s", StringCell.TYPE).createSpec(),
+                new DataColumnSpecCreator("i", IntCell.TYPE).createSpec()));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            DataCell s = i % 11 == 0 ? DataType.getMissingCell() : new StringCell("k" + (i % KEY_COUNT));
+            DataCell n = i % 11 == 1 ? DataType.getMissingCell() : new IntCell(i % KEY_COUNT);
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey(i), s, n));
+        }
+        cont.close();
+        m_table = cont.getTable();
+
+        // each line is the replacement followed by the values it replaces
+        m_dictFile = File.createTempFile("dictionary", ".txt");
+        m_dictionary = new HashMap<String, String>();
+        try (Writer writer = new FileWriter(m_dictFile)) {
+            for (int i = 0; i < DICT_SIZE; i++) {
+                writer.write("v" + i + ",k" + i + ", " + i + "\n");
+                m_dictionary.put("k" + i, "v" + i);
+                m_dictionary.put(Integer.toString(i), "v" + i);
+            }
+        }
+    }
+
+    /**
+     * Deletes the dictionary file.
+     */
+    @After
+    public void tearDown() {
+        m_dictFile.delete();
+    }
+
+    /** Replaces the values of a string column. */
+    @Test
+    public void testReplaceStrings() throws Exception {
+        check("s", null);
+    }
+
+    /** Replaces the values of an integer column (by their string representation) into a new column. */
+    @Test
+    public void testAppendReplacedIntegers() throws Exception {
+        check("i", "replaced");
+    }
+
+    private void check(final String targetColumn, final String newColumn) throws Exception {
+        NodeSettings settings = new NodeSettings("Search & Replace (Dictionary)");
+        settings.addString(SearchReplaceDictNodeModel.CFG_TARGET_COLUMN, targetColumn);
+        settings.addString(SearchReplaceDictNodeModel.CFG_APPEND_COLUMN, newColumn);
+        settings.addString(SearchReplaceDictNodeModel.CFG_DICT_LOCATION, m_dictFile.getAbsolutePath());
+        settings.addChar(SearchReplaceDictNodeModel.CFG_DELIMITER_IN_DICT, ',');
+
+        SearchReplaceDictNodeModel model = new SearchReplaceDictNodeModel();
+        model.validateSettings(settings);
+        model.loadValidatedSettingsFrom(settings);
+        BufferedDataTable result = model.execute(new BufferedDataTable[]{m_table}, m_exec)[0];
+
+        final int targetIndex = m_table.getDataTableSpec().findColumnIndex(targetColumn);
+        final int resultIndex = newColumn == null ? targetIndex : m_table.getDataTableSpec().getNumColumns();
+        assertEquals("Row count", ROW_COUNT, result.size());
+        RowIterator inIt = m_table.iterator();
+        RowIterator outIt = result.iterator();
+        while (inIt.hasNext()) {
+            assertTrue("Too few rows", outIt.hasNext());
+            DataRow in = inIt.next();
+            DataRow out = outIt.next();
+            assertEquals("Row order", in.getKey(), out.getKey());
+            DataCell inCell = in.getCell(targetIndex);
+            DataCell outCell = out.getCell(resultIndex);
+            if (inCell.isMissing()) {
+                assertTrue("Missing cell not kept in row " + in.getKey(), outCell.isMissing());
+            } else {
+                String expected = m_dictionary.get(inCell.toString());
+                if (expected == null) {
+                    expected = inCell.toString();
+                }
+                assertEquals("Wrong replacement in row " + in.getKey(), expected,
+                    ((StringValue)outCell).getStringValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Testcases for {@link AhoCorasickMatcher}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AhoCorasickMatcherTest {
+
+    /**
+     * Tests finding matches, including overlapping keys and keys that are prefixes or suffixes of others.
+     */
+    @Test
+    public void testFind() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("he", "she", "his", "hers"));
+        int[] match = new int[3];
+        assertTrue(matcher.find("ushers", 0, match));
+        assertArrayEquals(new int[]{1, 4, 1}, match);
+        assertFalse(matcher.find("ushers", 4, match));
+        assertFalse(matcher.find("xyz", 0, match));
+
+        // at the same start the key given first wins, as in a regular expression
+        matcher = new AhoCorasickMatcher(Arrays.asList("ab", "abc"));
+        assertTrue(matcher.find("xabc", 0, match));
+        assertArrayEquals(new int[]{1, 3, 0}, match);
+        matcher = new AhoCorasickMatcher(Arrays.asList("abc", "ab"));
+        assertTrue(matcher.find("xabc", 0, match));
+        assertArrayEquals(new int[]{1, 4, 0}, match);
+
+        // the leftmost match wins even if it ends after another match
+        matcher = new AhoCorasickMatcher(Arrays.asList("bc", "abcd"));
+        assertTrue(matcher.find("abcd", 0, match));
+        assertArrayEquals(new int[]{0, 4, 1}, match);
+    }
+
+    /**
+     * Tests replacing all matches.
+     */
+    @Test
+    public void testReplaceAll() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("cat", "dog", "do"));
+        assertEquals("a pet and a pet pet", matcher.replaceAll("a cat and a dog do", "pet"));
+        assertEquals("no match", matcher.replaceAll("no match", "pet"));
+        assertEquals("--", matcher.replaceAll("catdo", "-"));
+    }
+
+    /**
+     * Compares the replacements with the ones of the equivalent regular expression on random input.
+     */
+    @Test
+    public void testEquivalenceWithRegex() {
+        Random rand = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            List<String> keys = new ArrayList<>();
+            int keyCount = 1 + rand.nextInt(5);
+            for (int k = 0; k < keyCount; k++) {
+                keys.add(randomString(rand, 1 + rand.nextInt(4)));
+            }
+            String text = randomString(rand, rand.nextInt(20));
+            Pattern pattern = Pattern.compile(keys.stream().map(Pattern::quote).collect(Collectors.joining("|")));
+            assertEquals("Keys " + keys + ", text " + text, pattern.matcher(text).replaceAll("_"),
+                new AhoCorasickMatcher(keys).replaceAll(text, "_"));
+        }
+    }
+
+    /**
+     * Tests that empty keys are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyKey() {
+        new AhoCorasickMatcher(Arrays.asList("a", ""));
+    }
+
+    private static String randomString(final Random rand, final int length) {
+        StringBuilder b = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            b.append((char)('a' + rand.nextInt(3)));
+        }
+        return b.toString();
+    }
+}
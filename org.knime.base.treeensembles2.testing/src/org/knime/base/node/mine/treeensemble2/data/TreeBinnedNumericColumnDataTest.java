@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.base.node.mine.treeensemble2.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.knime.base.node.mine.treeensemble2.data.TreeNumericColumnDataTest.asDataArray;
+
+import java.util.Arrays;
+
+import org.apache.commons.math.random.RandomData;
+import org.junit.Test;
+import org.knime.base.node.mine.treeensemble2.data.memberships.DataMemberships;
+import org.knime.base.node.mine.treeensemble2.data.memberships.DefaultDataIndexManager;
+import org.knime.base.node.mine.treeensemble2.data.memberships.RootDataMemberships;
+import org.knime.base.node.mine.treeensemble2.learner.NumericSplitCandidate;
+import org.knime.base.node.mine.treeensemble2.model.AbstractTreeEnsembleModel.TreeType;
+import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration;
+import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration.ColumnSamplingMode;
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * Tests the histogram based split search of {@link TreeBinnedNumericColumnData}.
+ */
+public class TreeBinnedNumericColumnDataTest {
+
+    private static TreeEnsembleLearnerConfiguration createConfig() throws InvalidSettingsException {
+        TreeEnsembleLearnerConfiguration config = new TreeEnsembleLearnerConfiguration(false);
+        config.setColumnSamplingMode(ColumnSamplingMode.None);
+        config.setNrModels(1);
+        config.setDataSelectionWithReplacement(false);
+        config.setUseDifferentAttributesAtEachNode(false);
+        config.setDataFractionPerTree(1.0);
+        return config;
+    }
+
+    private static TreeBinnedNumericColumnData createBinnedColumn(final TreeEnsembleLearnerConfiguration config,
+        final double[] data, final int nrBins) {
+        TreeOrdinaryNumericColumnData ordinary =
+            TreeNumericColumnDataTest.createNumericColumnData(config, data, "test-col", 0);
+        TreeBinnedNumericColumnData binned = TreeBinnedNumericColumnData.createFrom(ordinary, config, nrBins);
+        binned.getMetaData().setAttributeIndex(0);
+        return binned;
+    }
+
+    /** With at least as many bins as distinct values the binned search must find the exact split. */
+    @Test
+    public void testCalcBestSplitClassificationLossless() throws Exception {
+        TreeEnsembleLearnerConfiguration config = createConfig();
+        final double[] data = asDataArray("60,70,75,85, 90, 95, 100,120,125,220");
+        TreeTargetNominalColumnData targetData =
+            TestDataGenerator.createNominalTargetColumn("No,No,No,Yes,Yes,Yes,No, No, No, No");
+        TreeBinnedNumericColumnData columnData = createBinnedColumn(config, data, 255);
+        assertEquals(data.length, columnData.getNrBins());
+        double[] rowWeights = new double[data.length];
+        Arrays.fill(rowWeights, 1.0);
+        TreeData treeData = new TreeData(new TreeAttributeColumnData[]{columnData}, targetData, TreeType.Ordinary);
+        DataMemberships dataMemberships =
+            new RootDataMemberships(rowWeights, treeData, new DefaultDataIndexManager(treeData));
+        RandomData rd = config.createRandomData();
+        ClassificationPriors priors = targetData.getDistribution(rowWeights, config);
+        NumericSplitCandidate splitCandidate =
+            columnData.calcBestSplitClassification(dataMemberships, priors, targetData, rd);
+        assertNotNull(splitCandidate);
+        assertEquals(0.12, splitCandidate.getGainValue(), 0.00001);
+        assertEquals((95.0 + 100.0) / 2.0, splitCandidate.getChildConditions()[0].getSplitValue(), 0.0);
+    }
+
+    /** Equal values must never be spread across bins and split points must lie between bins. */
+    @Test
+    public void testCalcBestSplitRegressionCoarseBins() throws Exception {
+        TreeEnsembleLearnerConfiguration config = new TreeEnsembleLearnerConfiguration(true);
+        config.setColumnSamplingMode(ColumnSamplingMode.None);
+        final double[] data = asDataArray("1,1,1,2,2,2,3,3,4,4,5,5");
+        TreeTargetNumericColumnData targetData =
+            TestDataGenerator.createNumericTargetColumn("1,1,1,1,1,1,5,5,5,5,5,5");
+        TreeBinnedNumericColumnData columnData = createBinnedColumn(config, data, 3);
+        assertEquals(3, columnData.getNrBins());
+        double[] rowWeights = new double[data.length];
+        Arrays.fill(rowWeights, 1.0);
+        TreeData treeData = new TreeData(new TreeAttributeColumnData[]{columnData}, targetData, TreeType.Ordinary);
+        DataMemberships dataMemberships =
+            new RootDataMemberships(rowWeights, treeData, new DefaultDataIndexManager(treeData));
+        RegressionPriors priors = targetData.getPriors(rowWeights, config);
+        NumericSplitCandidate splitCandidate =
+            columnData.calcBestSplitRegression(dataMemberships, priors, targetData, config.createRandomData());
+        assertNotNull(splitCandidate);
+        assertEquals(2.5, splitCandidate.getChildConditions()[0].getSplitValue(), 0.0);
+    }
+}
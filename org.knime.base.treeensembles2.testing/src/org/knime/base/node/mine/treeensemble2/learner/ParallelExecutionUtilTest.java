@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.learner;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+import org.knime.base.node.mine.treeensemble2.learner.ParallelExecutionUtil.RowRangeTask;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Contains unit tests for the class {@link ParallelExecutionUtil}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelExecutionUtilTest {
+
+    /**
+     * Tests that {@link ParallelExecutionUtil#processRowRanges(ThreadPool, int, int, RowRangeTask)} processes every
+     * row exactly once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testProcessRowRanges() throws Exception {
+        final ThreadPool pool = new ThreadPool(4);
+        for (int nrRows : new int[]{0, 1, 99, 100, 1001, 12345}) {
+            final int[] counts = new int[nrRows];
+            ParallelExecutionUtil.processRowRanges(pool, nrRows, 100, new RowRangeTask() {
+                @Override
+                public void process(final int from, final int to) {
+                    for (int i = from; i < to; i++) {
+                        counts[i]++;
+                    }
+                }
+            });
+            for (int i = 0; i < nrRows; i++) {
+                assertEquals("Row " + i + " of " + nrRows + " not processed exactly once.", 1, counts[i]);
+            }
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Tests that {@link ParallelExecutionUtil#invokeAll(ThreadPool, List)} returns the results in task order.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testInvokeAllKeepsOrder() throws Exception {
+        final ThreadPool pool = new ThreadPool(3);
+        final List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+        for (int i = 0; i < 20; i++) {
+            final int value = i;
+            tasks.add(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    Thread.sleep((20 - value) % 3);
+                    return value;
+                }
+            });
+        }
+        final List<Integer> results = ParallelExecutionUtil.invokeAll(pool, tasks);
+        assertEquals(20, results.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, results.get(i).intValue());
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Tests that exceptions of a task are passed on to the caller.
+     *
+     * @throws Exception
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testInvokeAllPropagatesException() throws Exception {
+        final ThreadPool pool = new ThreadPool(2);
+        final List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+        tasks.add(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return 1;
+            }
+        });
+        tasks.add(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                throw new IllegalStateException("expected");
+            }
+        });
+        try {
+            ParallelExecutionUtil.invokeAll(pool, tasks);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.model;
+
+import static org.junit.Assert.assertSame;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.base.node.mine.treeensemble2.data.PredictorRecord;
+import org.knime.base.node.mine.treeensemble2.data.TestDataGenerator;
+import org.knime.base.node.mine.treeensemble2.data.TreeNominalColumnMetaData;
+import org.knime.base.node.mine.treeensemble2.data.TreeNumericColumnMetaData;
+import org.knime.base.node.mine.treeensemble2.data.TreeTargetColumnMetaData;
+import org.knime.base.node.mine.treeensemble2.model.TreeNodeNumericCondition.NumericOperator;
+import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration;
+
+/**
+ * Contains unit tests for the class {@link FlatTreeModel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FlatTreeModelTest {
+
+    /**
+     * Tests that {@link FlatTreeModel#findLeaf(double[], boolean[], int)} finds the same node as
+     * {@link AbstractTreeModel#findMatchingNode(PredictorRecord)} for numeric, nominal and surrogate conditions and
+     * records with missing values.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFindLeaf() throws Exception {
+        final TreeEnsembleLearnerConfiguration config = new TreeEnsembleLearnerConfiguration(true);
+        final TestDataGenerator dataGen = new TestDataGenerator(config);
+        final TreeNumericColumnMetaData numMeta =
+            dataGen.createNumericAttributeColumn("1,2,3,4,5", "num", 0).getMetaData();
+        final TreeNominalColumnMetaData nomMeta =
+            dataGen.createNominalAttributeColumn("a,b,c,a,b", "nom", 1).getMetaData();
+        final TreeTargetColumnMetaData targetMeta =
+            TestDataGenerator.createNumericTargetColumn("1,2,3,4,5").getMetaData();
+
+        final TreeNodeSignature root = TreeNodeSignature.ROOT_SIGNATURE;
+        final TreeNodeSignature left = root.createChildSignature((byte)0);
+        final TreeNodeSignature right = root.createChildSignature((byte)1);
+        final TreeNodeRegression leftLeft = leaf(targetMeta, left.createChildSignature((byte)0),
+            new TreeNodeNominalCondition(nomMeta, 1, true));
+        final TreeNodeRegression leftRight = leaf(targetMeta, left.createChildSignature((byte)1),
+            new TreeNodeNominalBinaryCondition(nomMeta, BigInteger.valueOf(0b010), false, false));
+        final TreeNodeRegression leftNode = new TreeNodeRegression(targetMeta, left, 0, 0, 0,
+            new TreeNodeRegression[]{leftLeft, leftRight});
+        leftNode.setTreeNodeCondition(new TreeNodeSurrogateCondition(new TreeNodeColumnCondition[]{
+            new TreeNodeNumericCondition(numMeta, 3, NumericOperator.LessThanOrEqual, false),
+            new TreeNodeNominalBinaryCondition(nomMeta, BigInteger.valueOf(0b101), true, false)}, true));
+        final TreeNodeRegression rightNode =
+            leaf(targetMeta, right, new TreeNodeNumericCondition(numMeta, 3, NumericOperator.LargerThan, true));
+        final TreeNodeRegression rootNode = new TreeNodeRegression(targetMeta, root, 0, 0, 0,
+            new TreeNodeRegression[]{leftNode, rightNode});
+        rootNode.setTreeNodeCondition(TreeNodeTrueCondition.INSTANCE);
+        final TreeModelRegression tree = new TreeModelRegression(rootNode);
+
+        final Map<String, Integer> attributeIndexMap = new HashMap<String, Integer>();
+        attributeIndexMap.put("num", 0);
+        attributeIndexMap.put("nom", 1);
+        final FlatTreeModel flatTree = FlatTreeModel.compile(tree, attributeIndexMap);
+
+        final double[] numValues = {1, 3, 5, Double.NaN};
+        final int[] nomValues = {0, 1, 2, -1};
+        final double[] values = new double[2 * numValues.length * nomValues.length];
+        final boolean[] missing = new boolean[values.length];
+        int offset = 0;
+        for (double num : numValues) {
+            for (int nom : nomValues) {
+                final Map<String, Object> map = new HashMap<String, Object>();
+                map.put("num", Double.isNaN(num) ? PredictorRecord.NULL : Double.valueOf(num));
+                map.put("nom", nom < 0 ? PredictorRecord.NULL : Integer.valueOf(nom));
+                values[offset] = num;
+                missing[offset] = Double.isNaN(num);
+                values[offset + 1] = nom;
+                missing[offset + 1] = nom < 0;
+                final TreeNodeRegression expected = tree.findMatchingNode(new PredictorRecord(map));
+                assertSame("Wrong leaf for num=" + num + ", nom=" + nom, expected,
+                    flatTree.getNode(flatTree.findLeaf(values, missing, offset)));
+                offset += 2;
+            }
+        }
+    }
+
+    private static TreeNodeRegression leaf(final TreeTargetColumnMetaData targetMeta,
+        final TreeNodeSignature signature, final TreeNodeCondition condition) {
+        final TreeNodeRegression leaf = new TreeNodeRegression(targetMeta, signature, 0, 0, 0);
+        leaf.setTreeNodeCondition(condition);
+        return leaf;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.data;
+
+import java.util.Arrays;
+
+/**
+ * Histogram over the bins of a {@link TreeBinnedNumericColumnData} for the rows of a single tree node. For each bin
+ * the histogram keeps the sum of row weights and either the weighted class counts (classification) or the weighted
+ * sum of the target values (regression). Rows with a missing attribute value are collected in an additional bin with
+ * index {@link #getMissingBin()}.
+ * <p>
+ * Histograms of sibling nodes add up to the histogram of their parent, which allows to derive the histogram of the
+ * larger child by {@link #subtract(NumericBinHistogram) subtracting} the one of the smaller child from the parent
+ * histogram instead of scanning the rows again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class NumericBinHistogram {
+
+    private final int m_nrBins;
+
+    /** weight + target statistics, i.e. 1 + number of classes (classification) or 1 + 1 (regression). */
+    private final int m_statsPerBin;
+
+    private final double[] m_stats;
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param nrBins the number of (non-missing) bins
+     * @param nrTargetStats the number of target statistics per bin, i.e. the number of classes for classification
+     *            and 1 for regression
+     */
+    public NumericBinHistogram(final int nrBins, final int nrTargetStats) {
+        m_nrBins = nrBins;
+        m_statsPerBin = nrTargetStats + 1;
+        m_stats = new double[(nrBins + 1) * m_statsPerBin];
+    }
+
+    private NumericBinHistogram(final int nrBins, final int statsPerBin, final double[] stats) {
+        m_nrBins = nrBins;
+        m_statsPerBin = statsPerBin;
+        m_stats = stats;
+    }
+
+    /**
+     * Adds a row of a classification task.
+     *
+     * @param bin the bin of the row (or {@link #getMissingBin()})
+     * @param weight the weight of the row
+     * @param classIndex the index of the row's class
+     */
+    public void addNominal(final int bin, final double weight, final int classIndex) {
+        final int offset = bin * m_statsPerBin;
+        m_stats[offset] += weight;
+        m_stats[offset + 1 + classIndex] += weight;
+    }
+
+    /**
+     * Adds a row of a regression task.
+     *
+     * @param bin the bin of the row (or {@link #getMissingBin()})
+     * @param weight the weight of the row
+     * @param target the target value of the row
+     */
+    public void addNumeric(final int bin, final double weight, final double target) {
+        final int offset = bin * m_statsPerBin;
+        m_stats[offset] += weight;
+        m_stats[offset + 1] += weight * target;
+    }
+
+    /** @return the number of non-missing bins */
+    public int getNrBins() {
+        return m_nrBins;
+    }
+
+    /** @return the index of the bin that holds the rows with missing values */
+    public int getMissingBin() {
+        return m_nrBins;
+    }
+
+    /**
+     * @param bin the bin index
+     * @return the sum of row weights in the bin
+     */
+    public double getWeight(final int bin) {
+        return m_stats[bin * m_statsPerBin];
+    }
+
+    /**
+     * @param bin the bin index
+     * @param stat the index of the target statistic (class index or 0 for regression)
+     * @return the (weighted) target statistic of the bin
+     */
+    public double getTargetStat(final int bin, final int stat) {
+        return m_stats[bin * m_statsPerBin + 1 + stat];
+    }
+
+    /**
+     * Adds the target statistics of <b>bin</b> to <b>sums</b>.
+     *
+     * @param bin the bin index
+     * @param sums array of length {@link #getNrTargetStats()} the statistics are added to
+     */
+    public void addTargetStatsTo(final int bin, final double[] sums) {
+        final int offset = bin * m_statsPerBin + 1;
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] += m_stats[offset + i];
+        }
+    }
+
+    /** @return the number of target statistics per bin */
+    public int getNrTargetStats() {
+        return m_statsPerBin - 1;
+    }
+
+    /**
+     * Subtracts <b>sibling</b> from this histogram, i.e. if this is the histogram of a parent node and <b>sibling</b>
+     * the one of a child node, the result is the histogram of the other child.
+     *
+     * @param sibling histogram of the same layout
+     * @return a new histogram holding the difference
+     */
+    public NumericBinHistogram subtract(final NumericBinHistogram sibling) {
+        if (sibling.m_nrBins != m_nrBins || sibling.m_statsPerBin != m_statsPerBin) {
+            throw new IllegalArgumentException("Histograms have different layouts.");
+        }
+        final double[] stats = Arrays.copyOf(m_stats, m_stats.length);
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] -= sibling.m_stats[i];
+        }
+        return new NumericBinHistogram(m_nrBins, m_statsPerBin, stats);
+    }
+
+}
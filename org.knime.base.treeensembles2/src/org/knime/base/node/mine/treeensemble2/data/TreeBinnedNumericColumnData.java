@@ -0,0 +1,522 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.data;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.apache.commons.math.random.RandomData;
+import org.knime.base.node.mine.treeensemble2.data.memberships.ColumnMemberships;
+import org.knime.base.node.mine.treeensemble2.data.memberships.DataMemberships;
+import org.knime.base.node.mine.treeensemble2.learner.IImpurity;
+import org.knime.base.node.mine.treeensemble2.learner.NumericSplitCandidate;
+import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration;
+import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration.MissingValueHandling;
+
+/**
+ * Numeric attribute column whose values have been discretized into at most
+ * {@link TreeEnsembleLearnerConfiguration#getNrNumericBins()} bins when the data was read. Only the bin index is kept
+ * for each row (a byte for up to 256 bins, a short otherwise) and the best split is searched on a histogram over the
+ * bins rather than on the individual rows, which makes the split search independent of the number of distinct values.
+ * <p>
+ * {@link #getSorted(int)} returns the largest value that fell into a row's bin, so that split points found on bin
+ * boundaries partition the training data exactly like the original values would.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class TreeBinnedNumericColumnData extends TreeNumericColumnData {
+
+    /** maximum number of bins that can be represented. */
+    public static final int MAX_NR_BINS = 1 << Short.SIZE;
+
+    private static final int MAX_NR_BYTE_BINS = 1 << Byte.SIZE;
+
+    /** bin index for each non-missing row in sort order, one of both arrays is null. */
+    private final byte[] m_byteBins;
+
+    private final short[] m_shortBins;
+
+    private final double[] m_binMin;
+
+    private final double[] m_binMax;
+
+    private final int m_lengthNonMissing;
+
+    private final boolean m_containsMissingValues;
+
+    private TreeBinnedNumericColumnData(final TreeNumericColumnMetaData metaData,
+        final TreeEnsembleLearnerConfiguration configuration, final byte[] byteBins, final short[] shortBins,
+        final double[] binMin, final double[] binMax, final int[] originalIndexInColumnList,
+        final int lengthNonMissing) {
+        super(metaData, configuration, originalIndexInColumnList);
+        m_byteBins = byteBins;
+        m_shortBins = shortBins;
+        m_binMin = binMin;
+        m_binMax = binMax;
+        m_lengthNonMissing = lengthNonMissing;
+        m_containsMissingValues = lengthNonMissing < originalIndexInColumnList.length;
+    }
+
+    /**
+     * Discretizes the values of <b>sortedColumn</b> into at most <b>maxNrBins</b> bins of (roughly) equal frequency.
+     * Equal values always end up in the same bin; if the column has no more distinct values than bins, each distinct
+     * value gets its own bin and no information is lost.
+     *
+     * @param sortedColumn the column to discretize
+     * @param configuration the learner configuration
+     * @param maxNrBins the maximum number of bins, at most {@link #MAX_NR_BINS}
+     * @return the binned column
+     */
+    static TreeBinnedNumericColumnData createFrom(final TreeNumericColumnData sortedColumn,
+        final TreeEnsembleLearnerConfiguration configuration, final int maxNrBins) {
+        if (maxNrBins < 2 || maxNrBins > MAX_NR_BINS) {
+            throw new IllegalArgumentException(
+                "Number of bins must be between 2 and " + MAX_NR_BINS + ": " + maxNrBins);
+        }
+        final int length = sortedColumn.getLengthNonMissing();
+        int nrDistinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || sortedColumn.getSorted(i) != sortedColumn.getSorted(i - 1)) {
+                nrDistinct++;
+            }
+        }
+        final int targetBinSize = nrDistinct <= maxNrBins ? 1 : (int)Math.ceil(length / (double)maxNrBins);
+        final short[] bins = new short[length];
+        final double[] binMin = new double[Math.min(nrDistinct, maxNrBins)];
+        final double[] binMax = new double[binMin.length];
+        int bin = -1;
+        int rowsInBin = 0;
+        double lastValue = Double.NaN;
+        for (int i = 0; i < length; i++) {
+            final double value = sortedColumn.getSorted(i);
+            final boolean startNewBin = bin < 0 || (value != lastValue && rowsInBin >= targetBinSize
+                && bin < binMin.length - 1);
+            if (startNewBin) {
+                bin++;
+                rowsInBin = 0;
+                binMin[bin] = value;
+            }
+            binMax[bin] = value;
+            bins[i] = (short)bin;
+            rowsInBin++;
+            lastValue = value;
+        }
+        final int nrBins = bin + 1;
+        final double[] usedBinMin = Arrays.copyOf(binMin, nrBins);
+        final double[] usedBinMax = Arrays.copyOf(binMax, nrBins);
+        final TreeNumericColumnMetaData metaData = new TreeNumericColumnMetaData(
+            sortedColumn.getMetaData().getAttributeName());
+        if (nrBins <= MAX_NR_BYTE_BINS) {
+            final byte[] byteBins = new byte[length];
+            for (int i = 0; i < length; i++) {
+                byteBins[i] = (byte)bins[i];
+            }
+            return new TreeBinnedNumericColumnData(metaData, configuration, byteBins, null, usedBinMin, usedBinMax,
+                sortedColumn.getOriginalIndicesInColumnList(), length);
+        }
+        return new TreeBinnedNumericColumnData(metaData, configuration, null, bins, usedBinMin, usedBinMax,
+            sortedColumn.getOriginalIndicesInColumnList(), length);
+    }
+
+    /** @return the number of bins */
+    public int getNrBins() {
+        return m_binMax.length;
+    }
+
+    private int getBin(final int indexInColumn) {
+        return m_byteBins != null ? m_byteBins[indexInColumn] & 0xFF : m_shortBins[indexInColumn] & 0xFFFF;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getSorted(final int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("A negative index is not allowed.");
+        } else if (index >= getOriginalIndicesInColumnList().length) {
+            throw new IndexOutOfBoundsException("The index is too large.");
+        }
+        return index < m_lengthNonMissing ? m_binMax[getBin(index)] : Double.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getFirstIndexWithValue(final double value) {
+        int low = 0;
+        int high = m_lengthNonMissing;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (m_binMax[getBin(mid)] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLengthNonMissing() {
+        return m_lengthNonMissing;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsMissingValues() {
+        return m_containsMissingValues;
+    }
+
+    /**
+     * Collects the class distribution per bin for the rows in <b>dataMemberships</b>.
+     *
+     * @param dataMemberships the rows of the current tree node
+     * @param targetColumn the target column
+     * @return the histogram
+     */
+    public NumericBinHistogram createHistogramClassification(final DataMemberships dataMemberships,
+        final TreeTargetNominalColumnData targetColumn) {
+        final NumericBinHistogram histogram =
+            new NumericBinHistogram(getNrBins(), targetColumn.getMetaData().getValues().length);
+        final ColumnMemberships columnMemberships =
+            dataMemberships.getColumnMemberships(getMetaData().getAttributeIndex());
+        columnMemberships.reset();
+        while (columnMemberships.next()) {
+            final int indexInColumn = columnMemberships.getIndexInColumn();
+            final int bin = indexInColumn < m_lengthNonMissing ? getBin(indexInColumn) : histogram.getMissingBin();
+            histogram.addNominal(bin, columnMemberships.getRowWeight(),
+                targetColumn.getValueFor(columnMemberships.getOriginalIndex()));
+        }
+        columnMemberships.reset();
+        return histogram;
+    }
+
+    /**
+     * Collects the target sums per bin for the rows in <b>dataMemberships</b>.
+     *
+     * @param dataMemberships the rows of the current tree node
+     * @param targetColumn the target column
+     * @return the histogram
+     */
+    public NumericBinHistogram createHistogramRegression(final DataMemberships dataMemberships,
+        final TreeTargetNumericColumnData targetColumn) {
+        final NumericBinHistogram histogram = new NumericBinHistogram(getNrBins(), 1);
+        final ColumnMemberships columnMemberships =
+            dataMemberships.getColumnMemberships(getMetaData().getAttributeIndex());
+        columnMemberships.reset();
+        while (columnMemberships.next()) {
+            final int indexInColumn = columnMemberships.getIndexInColumn();
+            final int bin = indexInColumn < m_lengthNonMissing ? getBin(indexInColumn) : histogram.getMissingBin();
+            histogram.addNumeric(bin, columnMemberships.getRowWeight(),
+                targetColumn.getValueFor(columnMemberships.getOriginalIndex()));
+        }
+        columnMemberships.reset();
+        return histogram;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NumericSplitCandidate calcBestSplitClassification(final DataMemberships dataMemberships,
+        final ClassificationPriors targetPriors, final TreeTargetNominalColumnData targetColumn, final RandomData rd) {
+        return calcBestSplitClassification(dataMemberships, targetPriors, targetColumn, rd,
+            createHistogramClassification(dataMemberships, targetColumn));
+    }
+
+    /**
+     * Finds the best split on the boundaries of the bins in <b>histogram</b>.
+     *
+     * @param dataMemberships the rows of the current tree node
+     * @param targetPriors the target distribution in the current tree node
+     * @param targetColumn the target column
+     * @param rd used for random tie breaking
+     * @param histogram the histogram of the current tree node, see
+     *            {@link #createHistogramClassification(DataMemberships, TreeTargetNominalColumnData)}
+     * @return the best split or null if there is no split that improves the impurity
+     */
+    public NumericSplitCandidate calcBestSplitClassification(final DataMemberships dataMemberships,
+        final ClassificationPriors targetPriors, final TreeTargetNominalColumnData targetColumn, final RandomData rd,
+        final NumericBinHistogram histogram) {
+        final TreeEnsembleLearnerConfiguration config = getConfiguration();
+        final boolean useAverageSplitPoints = config.isUseAverageSplitPoints();
+        final int minChildNodeSize = config.getMinChildSize();
+        final boolean useXGBoostMissingValueHandling = config.getMissingValueHandling() == MissingValueHandling.XGBoost;
+        final IImpurity impurityCriterion = targetPriors.getImpurityCriterion();
+        final int targetCounts = histogram.getNrTargetStats();
+        final double totalSumWeight = targetPriors.getNrRecords();
+
+        final int missingBin = histogram.getMissingBin();
+        final double missingWeight = histogram.getWeight(missingBin);
+        final double[] missingTargetCounts = new double[targetCounts];
+        histogram.addTargetStatsTo(missingBin, missingTargetCounts);
+        // a histogram derived by subtraction may leave a rounding residue in the missing bin
+        final boolean branchContainsMissingValues = missingWeight >= EPSILON;
+
+        final double[] targetCountsLeftOfSplit = new double[targetCounts];
+        final double[] targetCountsRightOfSplit =
+            TreeNominalColumnData.subtractMissingClassCounts(targetPriors.getDistribution(), missingTargetCounts);
+        double sumWeightsLeftOfSplit = 0.0;
+        double sumWeightsRightOfSplit = totalSumWeight - missingWeight;
+        if (sumWeightsRightOfSplit < EPSILON) {
+            // all values in branch are missing
+            return null;
+        }
+        final double priorImpurity = useXGBoostMissingValueHandling || !branchContainsMissingValues
+            ? targetPriors.getPriorImpurity()
+            : impurityCriterion.getPartitionImpurity(targetCountsRightOfSplit, sumWeightsRightOfSplit);
+
+        double bestSplit = Double.NEGATIVE_INFINITY;
+        double bestGain = Double.NEGATIVE_INFINITY;
+        double bestGainValueForSplit = Double.NEGATIVE_INFINITY;
+        boolean missingsGoLeft = true;
+        final double[] partitionImpurities = new double[2];
+        final double[] missingsLeftWeights = new double[2];
+        final double[] missingsRightWeights = new double[2];
+        final double[] countsPlusMissing = new double[targetCounts];
+
+        int lastNonEmptyBin = -1;
+        for (int bin = 0; bin < missingBin; bin++) {
+            final double binWeight = histogram.getWeight(bin);
+            if (binWeight < EPSILON) {
+                continue;
+            }
+            if (lastNonEmptyBin >= 0 && sumWeightsLeftOfSplit >= minChildNodeSize
+                && sumWeightsRightOfSplit >= minChildNodeSize) {
+                double postSplitImpurity;
+                double[] partitionWeights;
+                boolean tempMissingsGoLeft = false;
+                if (branchContainsMissingValues && useXGBoostMissingValueHandling) {
+                    // send all missing values left
+                    addArrays(targetCountsLeftOfSplit, missingTargetCounts, countsPlusMissing);
+                    missingsLeftWeights[0] = sumWeightsLeftOfSplit + missingWeight;
+                    missingsLeftWeights[1] = sumWeightsRightOfSplit;
+                    partitionImpurities[0] =
+                        impurityCriterion.getPartitionImpurity(countsPlusMissing, missingsLeftWeights[0]);
+                    partitionImpurities[1] =
+                        impurityCriterion.getPartitionImpurity(targetCountsRightOfSplit, missingsLeftWeights[1]);
+                    final double impurityMissingsLeft =
+                        impurityCriterion.getPostSplitImpurity(partitionImpurities, missingsLeftWeights, totalSumWeight);
+                    // send all missing values right
+                    addArrays(targetCountsRightOfSplit, missingTargetCounts, countsPlusMissing);
+                    missingsRightWeights[0] = sumWeightsLeftOfSplit;
+                    missingsRightWeights[1] = sumWeightsRightOfSplit + missingWeight;
+                    partitionImpurities[0] =
+                        impurityCriterion.getPartitionImpurity(targetCountsLeftOfSplit, missingsRightWeights[0]);
+                    partitionImpurities[1] =
+                        impurityCriterion.getPartitionImpurity(countsPlusMissing, missingsRightWeights[1]);
+                    final double impurityMissingsRight = impurityCriterion.getPostSplitImpurity(partitionImpurities,
+                        missingsRightWeights, totalSumWeight);
+                    tempMissingsGoLeft = impurityMissingsLeft < impurityMissingsRight;
+                    postSplitImpurity = tempMissingsGoLeft ? impurityMissingsLeft : impurityMissingsRight;
+                    partitionWeights = tempMissingsGoLeft ? missingsLeftWeights : missingsRightWeights;
+                } else {
+                    partitionImpurities[0] =
+                        impurityCriterion.getPartitionImpurity(targetCountsLeftOfSplit, sumWeightsLeftOfSplit);
+                    partitionImpurities[1] =
+                        impurityCriterion.getPartitionImpurity(targetCountsRightOfSplit, sumWeightsRightOfSplit);
+                    missingsRightWeights[0] = sumWeightsLeftOfSplit;
+                    missingsRightWeights[1] = sumWeightsRightOfSplit;
+                    partitionWeights = missingsRightWeights;
+                    postSplitImpurity =
+                        impurityCriterion.getPostSplitImpurity(partitionImpurities, partitionWeights, totalSumWeight);
+                }
+                if (postSplitImpurity < priorImpurity) {
+                    // use absolute gain for the comparison, see TreeNumericColumnData for the reasoning
+                    final double gain = priorImpurity - postSplitImpurity;
+                    final boolean randomTieBreaker = gain == bestGain ? rd.nextInt(0, 1) == 1 : false;
+                    if (gain > bestGain || randomTieBreaker) {
+                        bestGainValueForSplit = impurityCriterion.getGain(priorImpurity, postSplitImpurity,
+                            partitionWeights, totalSumWeight);
+                        bestGain = gain;
+                        bestSplit = useAverageSplitPoints ? getCenter(m_binMax[lastNonEmptyBin], m_binMin[bin])
+                            : m_binMax[lastNonEmptyBin];
+                        missingsGoLeft = branchContainsMissingValues ? tempMissingsGoLeft
+                            : sumWeightsLeftOfSplit > sumWeightsRightOfSplit;
+                    }
+                }
+            }
+            for (int i = 0; i < targetCounts; i++) {
+                final double count = histogram.getTargetStat(bin, i);
+                targetCountsLeftOfSplit[i] += count;
+                targetCountsRightOfSplit[i] -= count;
+            }
+            sumWeightsLeftOfSplit += binWeight;
+            sumWeightsRightOfSplit -= binWeight;
+            lastNonEmptyBin = bin;
+        }
+
+        if (bestGainValueForSplit < 0.0) {
+            return null;
+        }
+        return createSplitCandidate(dataMemberships, bestSplit, bestGainValueForSplit, useXGBoostMissingValueHandling,
+            missingsGoLeft);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NumericSplitCandidate calcBestSplitRegression(final DataMemberships dataMemberships,
+        final RegressionPriors targetPriors, final TreeTargetNumericColumnData targetColumn, final RandomData rd) {
+        return calcBestSplitRegression(dataMemberships, targetPriors, targetColumn, rd,
+            createHistogramRegression(dataMemberships, targetColumn));
+    }
+
+    /**
+     * Finds the best split on the boundaries of the bins in <b>histogram</b>.
+     *
+     * @param dataMemberships the rows of the current tree node
+     * @param targetPriors the target priors of the current tree node
+     * @param targetColumn the target column
+     * @param rd used for random tie breaking
+     * @param histogram the histogram of the current tree node, see
+     *            {@link #createHistogramRegression(DataMemberships, TreeTargetNumericColumnData)}
+     * @return the best split or null if there is no split that reduces the squared error
+     */
+    public NumericSplitCandidate calcBestSplitRegression(final DataMemberships dataMemberships,
+        final RegressionPriors targetPriors, final TreeTargetNumericColumnData targetColumn, final RandomData rd,
+        final NumericBinHistogram histogram) {
+        final TreeEnsembleLearnerConfiguration config = getConfiguration();
+        final boolean useAverageSplitPoints = config.isUseAverageSplitPoints();
+        final int minChildNodeSize = config.getMinChildSize();
+        final boolean useXGBoostMissingValueHandling = config.getMissingValueHandling() == MissingValueHandling.XGBoost;
+
+        final int missingBin = histogram.getMissingBin();
+        final double missingWeight = histogram.getWeight(missingBin);
+        final double missingY = histogram.getTargetStat(missingBin, 0);
+        // a histogram derived by subtraction may leave a rounding residue in the missing bin
+        final boolean branchContainsMissingValues = missingWeight >= EPSILON;
+
+        final double ySumTotal = targetPriors.getYSum() - missingY;
+        final double nrRecordsTotal = targetPriors.getNrRecords() - missingWeight;
+        if (nrRecordsTotal < EPSILON) {
+            // all values in the current branch are missing
+            return null;
+        }
+        final double criterionTotal = useXGBoostMissingValueHandling
+            ? (ySumTotal + missingY) * (ySumTotal + missingY) / (nrRecordsTotal + missingWeight)
+            : ySumTotal * ySumTotal / nrRecordsTotal;
+
+        double ySumLeft = 0.0;
+        double nrRecordsLeft = 0.0;
+        double ySumRight = ySumTotal;
+        double nrRecordsRight = nrRecordsTotal;
+
+        double bestSplit = Double.NEGATIVE_INFINITY;
+        double bestImprovement = 0.0;
+        boolean missingsGoLeft = true;
+
+        int lastNonEmptyBin = -1;
+        for (int bin = 0; bin < missingBin; bin++) {
+            final double binWeight = histogram.getWeight(bin);
+            if (binWeight < EPSILON) {
+                continue;
+            }
+            if (lastNonEmptyBin >= 0 && nrRecordsLeft >= minChildNodeSize && nrRecordsRight >= minChildNodeSize) {
+                boolean tempMissingsGoLeft = true;
+                double childrenSquaredSum;
+                if (branchContainsMissingValues && useXGBoostMissingValueHandling) {
+                    final double missingsLeft =
+                        ((ySumLeft + missingY) * (ySumLeft + missingY) / (nrRecordsLeft + missingWeight))
+                            + (ySumRight * ySumRight / nrRecordsRight);
+                    final double missingsRight = (ySumLeft * ySumLeft / nrRecordsLeft)
+                        + ((ySumRight + missingY) * (ySumRight + missingY) / (nrRecordsRight + missingWeight));
+                    tempMissingsGoLeft = missingsLeft >= missingsRight;
+                    childrenSquaredSum = tempMissingsGoLeft ? missingsLeft : missingsRight;
+                } else {
+                    childrenSquaredSum =
+                        (ySumLeft * ySumLeft / nrRecordsLeft) + (ySumRight * ySumRight / nrRecordsRight);
+                }
+                final double criterion = childrenSquaredSum - criterionTotal;
+                final boolean randomTieBreaker = criterion == bestImprovement ? rd.nextInt(0, 1) == 1 : false;
+                if (criterion > bestImprovement || randomTieBreaker) {
+                    bestImprovement = criterion;
+                    bestSplit = useAverageSplitPoints ? getCenter(m_binMax[lastNonEmptyBin], m_binMin[bin])
+                        : m_binMax[lastNonEmptyBin];
+                    missingsGoLeft = branchContainsMissingValues ? tempMissingsGoLeft : nrRecordsLeft >= nrRecordsRight;
+                }
+            }
+            final double binYSum = histogram.getTargetStat(bin, 0);
+            ySumLeft += binYSum;
+            ySumRight -= binYSum;
+            nrRecordsLeft += binWeight;
+            nrRecordsRight -= binWeight;
+            lastNonEmptyBin = bin;
+        }
+
+        if (bestImprovement > 0.0) {
+            return createSplitCandidate(dataMemberships, bestSplit, bestImprovement, useXGBoostMissingValueHandling,
+                missingsGoLeft);
+        }
+        return null;
+    }
+
+    private NumericSplitCandidate createSplitCandidate(final DataMemberships dataMemberships, final double splitValue,
+        final double gainValue, final boolean useXGBoostMissingValueHandling, final boolean missingsGoLeft) {
+        if (useXGBoostMissingValueHandling) {
+            return new NumericSplitCandidate(this, splitValue, gainValue, new BitSet(),
+                missingsGoLeft ? NumericSplitCandidate.MISSINGS_GO_LEFT : NumericSplitCandidate.MISSINGS_GO_RIGHT);
+        }
+        final ColumnMemberships columnMemberships =
+            dataMemberships.getColumnMemberships(getMetaData().getAttributeIndex());
+        return new NumericSplitCandidate(this, splitValue, gainValue, getMissedRows(columnMemberships),
+            NumericSplitCandidate.NO_MISSINGS);
+    }
+
+    private static void addArrays(final double[] a, final double[] b, final double[] result) {
+        for (int i = 0; i < result.length; i++) {
+            result[i] = a[i] + b[i];
+        }
+    }
+
+}
@@ -118,7 +118,12 @@ public TreeDataCreator(final TreeEnsembleLearnerConfiguration configuration, fin
                 m_attrColCreators[i] = new TreeNominalColumnDataCreator(col);
                 treeType = TreeType.Ordinary;
             } else if (colType.isCompatible(DoubleValue.class)) {
-                m_attrColCreators[i] = new TreeOrdinaryNumericColumnDataCreator(col);
+                if (configuration.isUseNumericBinning()) {
+                    // numeric values are discretized once here, splits are then searched on bin histograms
+                    m_attrColCreators[i] = new TreeBinnedNumericColumnDataCreator(col);
+                } else {
+                    m_attrColCreators[i] = new TreeOrdinaryNumericColumnDataCreator(col);
+                }
                 treeType = TreeType.Ordinary;
             } else if (colType.isCompatible(BitVectorValue.class)) {
                 m_attrColCreators[i] = new TreeBitVectorColumnDataCreator(col);
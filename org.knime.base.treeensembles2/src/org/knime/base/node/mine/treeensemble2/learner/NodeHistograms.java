@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.learner;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.base.node.mine.treeensemble2.data.NumericBinHistogram;
+import org.knime.base.node.mine.treeensemble2.data.TreeBinnedNumericColumnData;
+import org.knime.base.node.mine.treeensemble2.data.TreeTargetNominalColumnData;
+import org.knime.base.node.mine.treeensemble2.data.TreeTargetNumericColumnData;
+import org.knime.base.node.mine.treeensemble2.data.memberships.DataMemberships;
+
+/**
+ * Holds the bin histograms that were computed for the binned numeric attributes of a single tree node. If the rows of
+ * a node are partitioned into exactly two children, only the histograms of the smaller child are computed by scanning
+ * its rows; the histograms of the larger child are derived as parent minus smaller child.
+ * <p>
+ * Histograms of different attributes may be requested concurrently if the split search of a node is parallelized.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeHistograms {
+
+    private final NodeHistograms m_parent;
+
+    private final NodeHistograms m_smallerSibling;
+
+    private final DataMemberships m_dataMemberships;
+
+    private final Map<Integer, NumericBinHistogram> m_histograms = new ConcurrentHashMap<Integer, NumericBinHistogram>();
+
+    /**
+     * Creates the histograms for a root node.
+     *
+     * @param rootMemberships the rows of the root node
+     */
+    NodeHistograms(final DataMemberships rootMemberships) {
+        this(null, null, rootMemberships);
+    }
+
+    private NodeHistograms(final NodeHistograms parent, final NodeHistograms smallerSibling,
+        final DataMemberships dataMemberships) {
+        m_parent = parent;
+        m_smallerSibling = smallerSibling;
+        m_dataMemberships = dataMemberships;
+    }
+
+    /**
+     * Creates the histograms for all children of this node. If there are exactly two children whose row counts add up
+     * to the row count of this node, the larger child derives its histograms from this node and the smaller child,
+     * independent of the order in which the children are learned. All other children scan their rows.
+     *
+     * @param childMemberships the rows of the children
+     * @return the histograms for the children, in the same order as <b>childMemberships</b>
+     */
+    NodeHistograms[] createChildren(final DataMemberships[] childMemberships) {
+        final NodeHistograms[] children = new NodeHistograms[childMemberships.length];
+        if (childMemberships.length == 2 && childMemberships[0].getRowCount()
+            + childMemberships[1].getRowCount() == m_dataMemberships.getRowCount()) {
+            final int smaller = childMemberships[0].getRowCount() <= childMemberships[1].getRowCount() ? 0 : 1;
+            children[smaller] = new NodeHistograms(this, null, childMemberships[smaller]);
+            children[1 - smaller] = new NodeHistograms(this, children[smaller], childMemberships[1 - smaller]);
+        } else {
+            for (int i = 0; i < childMemberships.length; i++) {
+                children[i] = new NodeHistograms(this, null, childMemberships[i]);
+            }
+        }
+        return children;
+    }
+
+    NumericBinHistogram getClassification(final TreeBinnedNumericColumnData column,
+        final DataMemberships dataMemberships, final TreeTargetNominalColumnData targetColumn) {
+        final Integer attributeIndex = column.getMetaData().getAttributeIndex();
+        NumericBinHistogram histogram = m_histograms.get(attributeIndex);
+        if (histogram == null) {
+            final NumericBinHistogram parentHistogram = getParentHistogram(attributeIndex);
+            if (parentHistogram != null) {
+                histogram = parentHistogram.subtract(m_smallerSibling.getClassification(column,
+                    m_smallerSibling.m_dataMemberships, targetColumn));
+            } else {
+                histogram = column.createHistogramClassification(dataMemberships, targetColumn);
+            }
+            m_histograms.put(attributeIndex, histogram);
+        }
+        return histogram;
+    }
+
+    NumericBinHistogram getRegression(final TreeBinnedNumericColumnData column,
+        final DataMemberships dataMemberships, final TreeTargetNumericColumnData targetColumn) {
+        final Integer attributeIndex = column.getMetaData().getAttributeIndex();
+        NumericBinHistogram histogram = m_histograms.get(attributeIndex);
+        if (histogram == null) {
+            final NumericBinHistogram parentHistogram = getParentHistogram(attributeIndex);
+            if (parentHistogram != null) {
+                histogram = parentHistogram.subtract(m_smallerSibling.getRegression(column,
+                    m_smallerSibling.m_dataMemberships, targetColumn));
+            } else {
+                histogram = column.createHistogramRegression(dataMemberships, targetColumn);
+            }
+            m_histograms.put(attributeIndex, histogram);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the histogram of the parent if this node is the larger of two complementary children and the parent has
+     * a histogram for the attribute, otherwise null. The histogram of the smaller sibling is computed on demand.
+     */
+    private NumericBinHistogram getParentHistogram(final Integer attributeIndex) {
+        if (m_parent == null || m_smallerSibling == null) {
+            return null;
+        }
+        return m_parent.m_histograms.get(attributeIndex);
+    }
+
+}
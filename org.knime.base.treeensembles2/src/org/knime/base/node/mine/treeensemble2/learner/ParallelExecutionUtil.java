@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.learner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Helper to run independent parts of a single learning step (e.g. the split search of different attributes or the
+ * gradient computation for disjoint row ranges) on a {@link ThreadPool}. The caller waits for the results without
+ * occupying a slot of the pool if it is a pool thread itself (e.g. a tree learner of a {@link TreeEnsembleLearner}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ParallelExecutionUtil {
+
+    private ParallelExecutionUtil() {
+        // utility class
+    }
+
+    /**
+     * Processes a range of rows.
+     */
+    public interface RowRangeTask {
+        /**
+         * @param from the first row to process (inclusive)
+         * @param to the last row to process (exclusive)
+         */
+        void process(final int from, final int to);
+    }
+
+    /**
+     * Runs all <b>tasks</b> in <b>pool</b> and returns their results in the order of the tasks. The first task is
+     * executed by the calling thread.
+     *
+     * @param pool the pool to run the tasks in
+     * @param tasks the tasks to run
+     * @return the results of the tasks
+     * @throws CanceledExecutionException if the calling thread was interrupted or any task was canceled
+     */
+    public static <T> List<T> invokeAll(final ThreadPool pool, final List<? extends Callable<T>> tasks)
+        throws CanceledExecutionException {
+        final int nrTasks = tasks.size();
+        final List<Future<T>> futures = new ArrayList<Future<T>>(nrTasks);
+        for (int i = 1; i < nrTasks; i++) {
+            futures.add(pool.enqueue(tasks.get(i)));
+        }
+        final List<T> results = new ArrayList<T>(nrTasks);
+        try {
+            if (nrTasks > 0) {
+                results.add(tasks.get(0).call());
+            }
+            final Callable<Void> collector = new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    for (Future<T> future : futures) {
+                        results.add(future.get());
+                    }
+                    return null;
+                }
+            };
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                currentPool.runInvisible(collector);
+            } else {
+                collector.call();
+            }
+        } catch (Exception e) {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+            throw unwrap(e);
+        }
+        return results;
+    }
+
+    /**
+     * Splits the rows <code>0..nrRows-1</code> into contiguous ranges of at least <b>minRowsPerTask</b> rows and
+     * processes them in parallel. If there are too few rows to split, <b>task</b> is simply called once for all rows
+     * by the calling thread.
+     *
+     * @param pool the pool to run the tasks in
+     * @param nrRows the number of rows
+     * @param minRowsPerTask the minimal number of rows processed by a single task
+     * @param task the task, it must only write data belonging to the rows it is called for
+     * @throws CanceledExecutionException if the calling thread was interrupted
+     */
+    public static void processRowRanges(final ThreadPool pool, final int nrRows, final int minRowsPerTask,
+        final RowRangeTask task) throws CanceledExecutionException {
+        final int nrTasks = Math.min(pool.getMaxThreads(), Math.max(1, nrRows / Math.max(1, minRowsPerTask)));
+        if (nrTasks <= 1) {
+            task.process(0, nrRows);
+            return;
+        }
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(nrTasks);
+        final int rowsPerTask = (nrRows + nrTasks - 1) / nrTasks;
+        for (int from = 0; from < nrRows; from += rowsPerTask) {
+            final int start = from;
+            final int end = Math.min(nrRows, from + rowsPerTask);
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    task.process(start, end);
+                    return null;
+                }
+            });
+        }
+        invokeAll(pool, tasks);
+    }
+
+    private static CanceledExecutionException unwrap(final Exception e) {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof CanceledExecutionException) {
+            return (CanceledExecutionException)cause;
+        } else if (cause instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            return new CanceledExecutionException("Execution interrupted");
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+        } else if (cause instanceof Error) {
+            throw (Error)cause;
+        }
+        throw new RuntimeException(cause);
+    }
+}
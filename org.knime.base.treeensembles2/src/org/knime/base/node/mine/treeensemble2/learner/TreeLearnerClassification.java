@@ -54,6 +54,7 @@
 import org.apache.commons.math.random.RandomData;
 import org.knime.base.node.mine.treeensemble2.data.ClassificationPriors;
 import org.knime.base.node.mine.treeensemble2.data.TreeAttributeColumnData;
+import org.knime.base.node.mine.treeensemble2.data.TreeBinnedNumericColumnData;
 import org.knime.base.node.mine.treeensemble2.data.TreeColumnData;
 import org.knime.base.node.mine.treeensemble2.data.TreeData;
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetNominalColumnData;
@@ -110,9 +111,11 @@ private TreeModelClassification learnSingleTreeRecursive(final ExecutionMonitor
         //        final DataMemberships rootDataMemberships = new IntArrayDataMemberships(sampleWeights, data);
         final TreeNodeSignature rootSignature = TreeNodeSignature.ROOT_SIGNATURE;
         final ColumnSample rootColumnSample = getColSamplingStrategy().getColumnSampleForTreeNode(rootSignature);
+        final NodeHistograms rootHistograms =
+            config.isUseNumericBinning() ? new NodeHistograms(rootDataMemberships) : null;
         TreeNodeClassification rootNode = null;
         rootNode = buildTreeNode(exec, 0, rootDataMemberships, rootColumnSample, rootSignature, targetPriors,
-            forbiddenColumnSet);
+            forbiddenColumnSet, rootHistograms);
         assert forbiddenColumnSet.cardinality() == 0;
         rootNode.setTreeNodeCondition(TreeNodeTrueCondition.INSTANCE);
         return new TreeModelClassification(rootNode);
@@ -121,7 +124,7 @@ private TreeModelClassification learnSingleTreeRecursive(final ExecutionMonitor
     private TreeNodeClassification buildTreeNode(final ExecutionMonitor exec, final int currentDepth,
         final DataMemberships dataMemberships, final ColumnSample columnSample,
         final TreeNodeSignature treeNodeSignature, final ClassificationPriors targetPriors,
-        final BitSet forbiddenColumnSet) throws CanceledExecutionException {
+        final BitSet forbiddenColumnSet, final NodeHistograms histograms) throws CanceledExecutionException {
         final TreeData data = getData();
         final TreeEnsembleLearnerConfiguration config = getConfig();
         exec.checkCanceled();
@@ -133,7 +136,7 @@ private TreeNodeClassification buildTreeNode(final ExecutionMonitor exec, final
         int attributeIndex = -1;
         if (useSurrogates) {
             SplitCandidate[] candidates = findBestSplitsClassification(currentDepth, dataMemberships, columnSample,
-                treeNodeSignature, targetPriors, forbiddenColumnSet);
+                treeNodeSignature, targetPriors, forbiddenColumnSet, histograms);
             if (candidates == null) {
                 return new TreeNodeClassification(treeNodeSignature, targetPriors, config);
             }
@@ -142,20 +145,27 @@ private TreeNodeClassification buildTreeNode(final ExecutionMonitor exec, final
             childConditions = surrogateSplit.getChildConditions();
             BitSet[] childMarkers = surrogateSplit.getChildMarkers();
             childNodes = new TreeNodeClassification[2];
+            final DataMemberships[] allChildMemberships = new DataMemberships[2];
             for (int i = 0; i < 2; i++) {
-                DataMemberships childMemberships = dataMemberships.createChildMemberships(childMarkers[i]);
+                allChildMemberships[i] = dataMemberships.createChildMemberships(childMarkers[i]);
+            }
+            final NodeHistograms[] childHistograms =
+                histograms == null ? null : histograms.createChildren(allChildMemberships);
+            for (int i = 0; i < 2; i++) {
+                DataMemberships childMemberships = allChildMemberships[i];
                 ClassificationPriors childTargetPriors = targetColumn.getDistribution(childMemberships, config);
                 TreeNodeSignature childSignature =
                     getSignatureFactory().getChildSignatureFor(treeNodeSignature, (byte)i);
                 ColumnSample childColumnSample = getColSamplingStrategy().getColumnSampleForTreeNode(childSignature);
+                final NodeHistograms childHistogramsOfNode = childHistograms == null ? null : childHistograms[i];
                 childNodes[i] = buildTreeNode(exec, currentDepth + 1, childMemberships, childColumnSample,
-                    childSignature, childTargetPriors, forbiddenColumnSet);
+                    childSignature, childTargetPriors, forbiddenColumnSet, childHistogramsOfNode);
                 childNodes[i].setTreeNodeCondition(childConditions[i]);
             }
         } else {
             // handle non surrogate case
             SplitCandidate bestSplit = findBestSplitClassification(currentDepth, dataMemberships, columnSample,
-                treeNodeSignature, targetPriors, forbiddenColumnSet);
+                treeNodeSignature, targetPriors, forbiddenColumnSet, histograms);
             if (bestSplit == null) {
                 return new TreeNodeClassification(treeNodeSignature, targetPriors, config);
             }
@@ -172,16 +182,22 @@ private TreeNodeClassification buildTreeNode(final ExecutionMonitor exec, final
                         + " (maximum supported: " + Short.MAX_VALUE + "): " + childConditions.length);
             }
             // Build child nodes
+            final DataMemberships[] allChildMemberships = new DataMemberships[childConditions.length];
             for (int i = 0; i < childConditions.length; i++) {
-                DataMemberships childMemberships = null;
+                allChildMemberships[i] = dataMemberships
+                    .createChildMemberships(splitColumn.updateChildMemberships(childConditions[i], dataMemberships));
+            }
+            final NodeHistograms[] childHistograms =
+                histograms == null ? null : histograms.createChildren(allChildMemberships);
+            for (int i = 0; i < childConditions.length; i++) {
+                DataMemberships childMemberships = allChildMemberships[i];
                 TreeNodeCondition cond = childConditions[i];
-                childMemberships =
-                    dataMemberships.createChildMemberships(splitColumn.updateChildMemberships(cond, dataMemberships));
                 ClassificationPriors childTargetPriors = targetColumn.getDistribution(childMemberships, config);
                 TreeNodeSignature childSignature = treeNodeSignature.createChildSignature((byte)i);
                 ColumnSample childColumnSample = getColSamplingStrategy().getColumnSampleForTreeNode(childSignature);
+                final NodeHistograms childHistogramsOfNode = childHistograms == null ? null : childHistograms[i];
                 childNodes[i] = buildTreeNode(exec, currentDepth + 1, childMemberships, childColumnSample,
-                    childSignature, childTargetPriors, forbiddenColumnSet);
+                    childSignature, childTargetPriors, forbiddenColumnSet, childHistogramsOfNode);
                 childNodes[i].setTreeNodeCondition(cond);
             }
         }
@@ -199,12 +215,12 @@ private TreeNodeClassification buildTreeNode(final ExecutionMonitor exec, final
      * @param treeNodeSignature
      * @param targetPriors
      * @param forbiddenColumnSet
-     * @param membershipController
+     * @param histograms the histograms of the binned numeric columns or null if binning is not used
      * @return
      */
     private SplitCandidate[] findBestSplitsClassification(final int currentDepth, final DataMemberships dataMemberships,
         final ColumnSample columnSample, final TreeNodeSignature treeNodeSignature,
-        final ClassificationPriors targetPriors, final BitSet forbiddenColumnSet) {
+        final ClassificationPriors targetPriors, final BitSet forbiddenColumnSet, final NodeHistograms histograms) {
         final TreeData data = getData();
         final RandomData rd = getRandomData();
         //        final ColumnSampleStrategy colSamplingStrategy = getColSamplingStrategy();
@@ -247,7 +263,7 @@ public int compare(final SplitCandidate o1, final SplitCandidate o2) {
                 continue;
             }
             SplitCandidate currentColSplit =
-                col.calcBestSplitClassification(dataMemberships, targetPriors, targetColumn, rd);
+                calcBestSplit(col, dataMemberships, targetPriors, targetColumn, rd, histograms);
             if (currentColSplit != null) {
                 candidates.add(currentColSplit);
             }
@@ -261,7 +277,7 @@ public int compare(final SplitCandidate o1, final SplitCandidate o2) {
 
     private SplitCandidate findBestSplitClassification(final int currentDepth, final DataMemberships dataMemberships,
         final ColumnSample columnSample, final TreeNodeSignature treeNodeSignature,
-        final ClassificationPriors targetPriors, final BitSet forbiddenColumnSet) {
+        final ClassificationPriors targetPriors, final BitSet forbiddenColumnSet, final NodeHistograms histograms) {
         final TreeData data = getData();
         final RandomData rd = getRandomData();
         //        final ColumnSampleStrategy colSamplingStrategy = getColSamplingStrategy();
@@ -293,7 +309,7 @@ private SplitCandidate findBestSplitClassification(final int currentDepth, final
                 continue;
             }
             final SplitCandidate currentColSplit =
-                col.calcBestSplitClassification(dataMemberships, targetPriors, targetColumn, rd);
+                calcBestSplit(col, dataMemberships, targetPriors, targetColumn, rd, histograms);
             if (currentColSplit != null) {
                 final double currentGain = currentColSplit.getGainValue();
                 final boolean tiebreaker = currentGain == bestGainValue ? (rd.nextInt(0, 1) == 0) : false;
@@ -306,4 +322,19 @@ private SplitCandidate findBestSplitClassification(final int currentDepth, final
         return splitCandidate;
     }
 
+    /**
+     * Searches the best split of <b>col</b>. Binned numeric columns reuse (or derive) the histograms of the current
+     * node if <b>histograms</b> is not null.
+     */
+    private static SplitCandidate calcBestSplit(final TreeAttributeColumnData col,
+        final DataMemberships dataMemberships, final ClassificationPriors targetPriors,
+        final TreeTargetNominalColumnData targetColumn, final RandomData rd, final NodeHistograms histograms) {
+        if (histograms != null && col instanceof TreeBinnedNumericColumnData) {
+            final TreeBinnedNumericColumnData binnedCol = (TreeBinnedNumericColumnData)col;
+            return binnedCol.calcBestSplitClassification(dataMemberships, targetPriors, targetColumn, rd,
+                histograms.getClassification(binnedCol, dataMemberships, targetColumn));
+        }
+        return col.calcBestSplitClassification(dataMemberships, targetPriors, targetColumn, rd);
+    }
+
 }
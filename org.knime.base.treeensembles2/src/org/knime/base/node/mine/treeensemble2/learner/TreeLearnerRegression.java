@@ -51,10 +51,12 @@
 import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.math.random.RandomData;
 import org.knime.base.node.mine.treeensemble2.data.RegressionPriors;
 import org.knime.base.node.mine.treeensemble2.data.TreeAttributeColumnData;
+import org.knime.base.node.mine.treeensemble2.data.TreeBinnedNumericColumnData;
 import org.knime.base.node.mine.treeensemble2.data.TreeColumnData;
 import org.knime.base.node.mine.treeensemble2.data.TreeData;
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetNumericColumnData;
@@ -73,6 +75,7 @@
 import org.knime.base.node.mine.treeensemble2.sample.row.RowSample;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.ThreadPool;
 
 /**
  *
@@ -80,8 +83,13 @@
  */
 public class TreeLearnerRegression extends AbstractTreeLearner {
 
+    /** Nodes with fewer rows are always searched sequentially as the overhead of a parallel search dominates. */
+    static final int MIN_ROWS_PARALLEL_SPLIT_SEARCH = 2000;
+
     private List<TreeNodeRegression> m_leafs;
 
+    private final ThreadPool m_splitSearchPool;
+
     /**
      * Constructor for TreeLearnerRegression
      *
@@ -94,10 +102,30 @@ public class TreeLearnerRegression extends AbstractTreeLearner {
     public TreeLearnerRegression(final TreeEnsembleLearnerConfiguration config, final TreeData data,
       	final IDataIndexManager indexManager, final TreeNodeSignatureFactory signatureFactory,
         final RandomData randomData, final RowSample rowSample) {
+        this(config, data, indexManager, signatureFactory, randomData, rowSample, null);
+    }
+
+    /**
+     * Constructor for TreeLearnerRegression that searches the best split of large nodes in parallel. Each attribute
+     * is evaluated in a separate task in <b>splitSearchPool</b>. The learned tree is reproducible for a given
+     * <b>randomData</b> but random tie breaking may differ from the sequential search.
+     *
+     * @param config holds the configuration information
+     * @param data holds the data
+     * @param indexManager needed for datamemberships
+     * @param signatureFactory factory for TreeNodeSignatures
+     * @param randomData needed for randomization (for example random tie breaking, column sampling, ...)
+     * @param rowSample the rows to learn the tree on
+     * @param splitSearchPool the pool used for the split search or null to search sequentially
+     */
+    public TreeLearnerRegression(final TreeEnsembleLearnerConfiguration config, final TreeData data,
+        final IDataIndexManager indexManager, final TreeNodeSignatureFactory signatureFactory,
+        final RandomData randomData, final RowSample rowSample, final ThreadPool splitSearchPool) {
         super(config, data, indexManager, signatureFactory, randomData, rowSample);
         if (!(data.getTargetColumn() instanceof TreeTargetNumericColumnData)) {
             throw new IllegalStateException("Can't learn regression model on categorical target");
         }
+        m_splitSearchPool = splitSearchPool;
     }
 
     private TreeTargetNumericColumnData getTargetData() {
@@ -122,8 +150,10 @@ public TreeModelRegression learnSingleTree(final ExecutionMonitor exec, final Ra
         }
         final TreeNodeSignature rootSignature = TreeNodeSignature.ROOT_SIGNATURE;
         final ColumnSample rootColumnSample = getColSamplingStrategy().getColumnSampleForTreeNode(rootSignature);
+        final NodeHistograms rootHistograms =
+            config.isUseNumericBinning() ? new NodeHistograms(rootDataMemberships) : null;
         TreeNodeRegression rootNode = buildTreeNode(exec, 0, rootDataMemberships, rootColumnSample, getSignatureFactory().getRootSignature(),
-            targetPriors, forbiddenColumnSet);
+            targetPriors, forbiddenColumnSet, rootHistograms);
         assert forbiddenColumnSet.cardinality() == 0;
         rootNode.setTreeNodeCondition(TreeNodeTrueCondition.INSTANCE);
         if (isGradientBoosting) {
@@ -134,7 +164,7 @@ public TreeModelRegression learnSingleTree(final ExecutionMonitor exec, final Ra
 
     private SplitCandidate findBestSplitRegression(final int currentDepth, final DataMemberships dataMemberships, final ColumnSample columnSample,
         final RegressionPriors targetPriors,
-        final BitSet forbiddenColumnSet) {
+        final BitSet forbiddenColumnSet, final NodeHistograms histograms) throws CanceledExecutionException {
         final TreeData data = getData();
         final RandomData rd = getRandomData();
         final TreeEnsembleLearnerConfiguration config = getConfig();
@@ -157,6 +187,9 @@ private SplitCandidate findBestSplitRegression(final int currentDepth, final Dat
         if (currentDepth == 0 && config.getHardCodedRootColumn() != null) {
             final TreeAttributeColumnData rootColumn = data.getColumn(config.getHardCodedRootColumn());
             return rootColumn.calcBestSplitRegression(dataMemberships, targetPriors, targetColumn, rd);
+        } else if (m_splitSearchPool != null && dataMemberships.getRowCount() >= MIN_ROWS_PARALLEL_SPLIT_SEARCH) {
+            return findBestSplitRegressionParallel(dataMemberships, columnSample, targetPriors, forbiddenColumnSet,
+                histograms);
         } else {
             double bestGainValue = 0.0;
             for (TreeAttributeColumnData col : columnSample) {
@@ -164,7 +197,7 @@ private SplitCandidate findBestSplitRegression(final int currentDepth, final Dat
                     continue;
                 }
                 SplitCandidate currentColSplit =
-                    col.calcBestSplitRegression(dataMemberships, targetPriors, targetColumn, rd);
+                    calcBestSplit(col, dataMemberships, targetPriors, targetColumn, rd, histograms);
                 if (currentColSplit != null) {
                     double gainValue = currentColSplit.getGainValue();
                     if (gainValue > bestGainValue) {
@@ -177,6 +210,43 @@ private SplitCandidate findBestSplitRegression(final int currentDepth, final Dat
         }
     }
 
+    /**
+     * Evaluates the attributes of <b>columnSample</b> concurrently. Every task gets its own {@link RandomData}, seeded
+     * in attribute order from the learner's random data, so the result does not depend on the scheduling.
+     */
+    private SplitCandidate findBestSplitRegressionParallel(final DataMemberships dataMemberships,
+        final ColumnSample columnSample, final RegressionPriors targetPriors, final BitSet forbiddenColumnSet,
+        final NodeHistograms histograms) throws CanceledExecutionException {
+        final RandomData rd = getRandomData();
+        final TreeTargetNumericColumnData targetColumn = getTargetData();
+        final List<Callable<SplitCandidate>> tasks = new ArrayList<Callable<SplitCandidate>>(columnSample.getNumCols());
+        for (final TreeAttributeColumnData col : columnSample) {
+            if (forbiddenColumnSet.get(col.getMetaData().getAttributeIndex())) {
+                continue;
+            }
+            final long seed = rd.nextLong(Long.MIN_VALUE, Long.MAX_VALUE);
+            tasks.add(new Callable<SplitCandidate>() {
+                @Override
+                public SplitCandidate call() throws Exception {
+                    return calcBestSplit(col, dataMemberships, targetPriors, targetColumn,
+                        TreeEnsembleLearnerConfiguration.createRandomData(seed), histograms);
+                }
+            });
+        }
+        SplitCandidate splitCandidate = null;
+        double bestGainValue = 0.0;
+        for (SplitCandidate currentColSplit : ParallelExecutionUtil.invokeAll(m_splitSearchPool, tasks)) {
+            if (currentColSplit != null) {
+                double gainValue = currentColSplit.getGainValue();
+                if (gainValue > bestGainValue) {
+                    bestGainValue = gainValue;
+                    splitCandidate = currentColSplit;
+                }
+            }
+        }
+        return splitCandidate;
+    }
+
     private SplitCandidate[] findBestSplitsRegression(final int currentDepth, final DataMemberships dataMemberships, final ColumnSample columnSample,
         final RegressionPriors targetPriors,
         final BitSet forbiddenColumnSet) {
@@ -232,13 +302,15 @@ public int compare(final SplitCandidate arg0, final SplitCandidate arg1) {
 
     private TreeNodeRegression buildTreeNode(final ExecutionMonitor exec, final int currentDepth,
         final DataMemberships dataMemberships, final ColumnSample columnSample, final TreeNodeSignature treeNodeSignature,
-        final RegressionPriors targetPriors, final BitSet forbiddenColumnSet) throws CanceledExecutionException {
+        final RegressionPriors targetPriors, final BitSet forbiddenColumnSet, final NodeHistograms histograms)
+        throws CanceledExecutionException {
         final TreeData data = getData();
         final RandomData rd = getRandomData();
         final TreeEnsembleLearnerConfiguration config = getConfig();
         exec.checkCanceled();
         final SplitCandidate candidate =
-            findBestSplitRegression(currentDepth, dataMemberships, columnSample, targetPriors, forbiddenColumnSet);
+            findBestSplitRegression(currentDepth, dataMemberships, columnSample, targetPriors, forbiddenColumnSet,
+                histograms);
         if (candidate == null) {
             if (config instanceof GradientBoostingLearnerConfiguration) {
                 TreeNodeRegression leaf =
@@ -258,13 +330,20 @@ private TreeNodeRegression buildTreeNode(final ExecutionMonitor exec, final int
             BitSet[] childMarkers = surrogateSplit.getChildMarkers();
             assert childMarkers[0].cardinality() + childMarkers[1].cardinality() == dataMemberships.getRowCount(): "Sum of rows in children does not add up to number of rows in parent.";
             childNodes = new TreeNodeRegression[2];
+            final DataMemberships[] allChildMemberships = new DataMemberships[2];
             for (int i = 0; i < 2; i++) {
-                DataMemberships childMemberships = dataMemberships.createChildMemberships(childMarkers[i]);
+                allChildMemberships[i] = dataMemberships.createChildMemberships(childMarkers[i]);
+            }
+            final NodeHistograms[] childHistograms =
+                histograms == null ? null : histograms.createChildren(allChildMemberships);
+            for (int i = 0; i < 2; i++) {
+                DataMemberships childMemberships = allChildMemberships[i];
                 TreeNodeSignature childSignature = getSignatureFactory().getChildSignatureFor(treeNodeSignature, (byte)i);
                 ColumnSample childColumnSample = getColSamplingStrategy().getColumnSampleForTreeNode(childSignature);
                 RegressionPriors childTargetPriors = targetColumn.getPriors(childMemberships, config);
+                final NodeHistograms childHistogramsOfNode = childHistograms == null ? null : childHistograms[i];
                 childNodes[i] = buildTreeNode(exec, currentDepth + 1, childMemberships, childColumnSample, childSignature,
-                    childTargetPriors, forbiddenColumnSet);
+                    childTargetPriors, forbiddenColumnSet, childHistogramsOfNode);
                 childNodes[i].setTreeNodeCondition(childConditions[i]);
             }
         } else {
@@ -280,15 +359,22 @@ private TreeNodeRegression buildTreeNode(final ExecutionMonitor exec, final int
                         + " (maximum supported: " + Short.MAX_VALUE + "): " + childConditions.length);
             }
             childNodes = new TreeNodeRegression[childConditions.length];
+            final DataMemberships[] allChildMemberships = new DataMemberships[childConditions.length];
+            for (int i = 0; i < childConditions.length; i++) {
+                allChildMemberships[i] = dataMemberships
+                    .createChildMemberships(splitColumn.updateChildMemberships(childConditions[i], dataMemberships));
+            }
+            final NodeHistograms[] childHistograms =
+                histograms == null ? null : histograms.createChildren(allChildMemberships);
             for (int i = 0; i < childConditions.length; i++) {
                 TreeNodeCondition cond = childConditions[i];
-                DataMemberships childMemberships =
-                    dataMemberships.createChildMemberships(splitColumn.updateChildMemberships(cond, dataMemberships));
+                DataMemberships childMemberships = allChildMemberships[i];
                 RegressionPriors childTargetPriors = targetColumn.getPriors(childMemberships, config);
                 TreeNodeSignature childSignature = treeNodeSignature.createChildSignature((byte)i);
                 ColumnSample childColumnSample = getColSamplingStrategy().getColumnSampleForTreeNode(childSignature);
+                final NodeHistograms childHistogramsOfNode = childHistograms == null ? null : childHistograms[i];
                 childNodes[i] = buildTreeNode(exec, currentDepth + 1, childMemberships, childColumnSample, childSignature,
-                    childTargetPriors, forbiddenColumnSet);
+                    childTargetPriors, forbiddenColumnSet, childHistogramsOfNode);
                 childNodes[i].setTreeNodeCondition(cond);
             }
             if (markAttributeAsForbidden) {
@@ -301,4 +387,19 @@ private TreeNodeRegression buildTreeNode(final ExecutionMonitor exec, final int
     private synchronized void addToLeafList(final TreeNodeRegression leaf) {
         m_leafs.add(leaf);
     }
+
+    /**
+     * Searches the best split of <b>col</b>. Binned numeric columns reuse (or derive) the histograms of the current
+     * node if <b>histograms</b> is not null.
+     */
+    private static SplitCandidate calcBestSplit(final TreeAttributeColumnData col,
+        final DataMemberships dataMemberships, final RegressionPriors targetPriors,
+        final TreeTargetNumericColumnData targetColumn, final RandomData rd, final NodeHistograms histograms) {
+        if (histograms != null && col instanceof TreeBinnedNumericColumnData) {
+            final TreeBinnedNumericColumnData binnedCol = (TreeBinnedNumericColumnData)col;
+            return binnedCol.calcBestSplitRegression(dataMemberships, targetPriors, targetColumn, rd,
+                histograms.getRegression(binnedCol, dataMemberships, targetColumn));
+        }
+        return col.calcBestSplitRegression(dataMemberships, targetPriors, targetColumn, rd);
+    }
 }
@@ -53,9 +53,11 @@
 import org.knime.base.node.mine.treeensemble2.data.PredictorRecord;
 import org.knime.base.node.mine.treeensemble2.data.TreeData;
 import org.knime.base.node.mine.treeensemble2.data.memberships.IDataIndexManager;
+import org.knime.base.node.mine.treeensemble2.learner.ParallelExecutionUtil.RowRangeTask;
 import org.knime.base.node.mine.treeensemble2.model.TreeModelRegression;
 import org.knime.base.node.mine.treeensemble2.model.TreeNodeSignature;
 import org.knime.base.node.mine.treeensemble2.node.gradientboosting.learner.GradientBoostingLearnerConfiguration;
+import org.knime.core.node.CanceledExecutionException;
 
 /**
  *
@@ -79,15 +81,21 @@ public AbstractGradientBoostedTreesLearner(final GradientBoostingLearnerConfigur
      * @param previousPrediction Prediction of the previous steps
      * @param tree the tree of the current iteration
      * @param coefficientMap contains the coefficients for the leafs of the tree
+     * @throws CanceledExecutionException if the execution was interrupted
      */
     protected void adaptPreviousPrediction(final double[] previousPrediction, final TreeModelRegression tree,
-        final Map<TreeNodeSignature, Double> coefficientMap) {
-        TreeData data = getData();
-        IDataIndexManager indexManager = getIndexManager();
-        for (int i = 0; i < data.getNrRows(); i++) {
-            PredictorRecord record = createPredictorRecord(data, indexManager, i);
-            previousPrediction[i] += coefficientMap.get(tree.findMatchingNode(record).getSignature());
-        }
+        final Map<TreeNodeSignature, Double> coefficientMap) throws CanceledExecutionException {
+        final TreeData data = getData();
+        final IDataIndexManager indexManager = getIndexManager();
+        processRows(new RowRangeTask() {
+            @Override
+            public void process(final int from, final int to) {
+                for (int i = from; i < to; i++) {
+                    PredictorRecord record = createPredictorRecord(data, indexManager, i);
+                    previousPrediction[i] += coefficientMap.get(tree.findMatchingNode(record).getSignature());
+                }
+            }
+        });
     }
 
     /**
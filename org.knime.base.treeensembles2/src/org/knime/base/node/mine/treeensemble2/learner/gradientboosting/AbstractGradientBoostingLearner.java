@@ -65,6 +65,8 @@
 import org.knime.base.node.mine.treeensemble2.data.memberships.BitVectorDataIndexManager;
 import org.knime.base.node.mine.treeensemble2.data.memberships.DefaultDataIndexManager;
 import org.knime.base.node.mine.treeensemble2.data.memberships.IDataIndexManager;
+import org.knime.base.node.mine.treeensemble2.learner.ParallelExecutionUtil;
+import org.knime.base.node.mine.treeensemble2.learner.ParallelExecutionUtil.RowRangeTask;
 import org.knime.base.node.mine.treeensemble2.model.AbstractGradientBoostingModel;
 import org.knime.base.node.mine.treeensemble2.model.AbstractTreeEnsembleModel.TreeType;
 import org.knime.base.node.mine.treeensemble2.model.TreeModelRegression;
@@ -74,6 +76,8 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
 
 import com.google.common.primitives.Doubles;
 
@@ -83,6 +87,9 @@
  */
 public abstract class AbstractGradientBoostingLearner {
 
+    /** Minimum number of rows handled by a single task if per row computations are done in parallel. */
+    private static final int MIN_ROWS_PER_TASK = 5000;
+
     private final TreeData m_data;
 
     private final IDataIndexManager m_indexManager;
@@ -141,6 +148,23 @@ protected RowSampler getRowSampler() {
         return m_rowSampler;
     }
 
+    /**
+     * @return the pool used to parallelize the learning of a single tree and per row computations
+     */
+    protected ThreadPool getThreadPool() {
+        return KNIMEConstants.GLOBAL_THREAD_POOL;
+    }
+
+    /**
+     * Processes all rows of the data with <b>task</b>, in parallel if the data is large enough.
+     *
+     * @param task the task, it must only write data belonging to the rows it is called for
+     * @throws CanceledExecutionException if the execution was interrupted
+     */
+    protected void processRows(final RowRangeTask task) throws CanceledExecutionException {
+        ParallelExecutionUtil.processRowRanges(getThreadPool(), m_data.getNrRows(), MIN_ROWS_PER_TASK, task);
+    }
+
     /**
      * Learns some kind of gradient boosting model
      *
@@ -244,12 +268,18 @@ private static Object handleMissingValues(final Object value, final TreeAttribut
     /**
      * @param tree that should be used to predict the data
      * @return prediction of <b>tree</b>
+     * @throws CanceledExecutionException if the execution was interrupted
      */
-    protected double[] predictTreeModel(final TreeModelRegression tree) {
+    protected double[] predictTreeModel(final TreeModelRegression tree) throws CanceledExecutionException {
         final double[] prediction = new double[m_data.getNrRows()];
-        for (int i = 0; i < prediction.length; i++) {
-            prediction[i] = tree.findMatchingNode(createPredictorRecord(m_data, m_indexManager, i)).getMean();
-        }
+        processRows(new RowRangeTask() {
+            @Override
+            public void process(final int from, final int to) {
+                for (int i = from; i < to; i++) {
+                    prediction[i] = tree.findMatchingNode(createPredictorRecord(m_data, m_indexManager, i)).getMean();
+                }
+            }
+        });
         return prediction;
     }
 
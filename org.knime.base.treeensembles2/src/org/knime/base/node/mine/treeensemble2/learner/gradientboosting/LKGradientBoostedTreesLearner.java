@@ -66,6 +66,7 @@
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetNumericColumnData;
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetNumericColumnMetaData;
 import org.knime.base.node.mine.treeensemble2.data.memberships.IDataIndexManager;
+import org.knime.base.node.mine.treeensemble2.learner.ParallelExecutionUtil.RowRangeTask;
 import org.knime.base.node.mine.treeensemble2.learner.TreeLearnerRegression;
 import org.knime.base.node.mine.treeensemble2.learner.TreeNodeSignatureFactory;
 import org.knime.base.node.mine.treeensemble2.model.MultiClassGradientBoostedTreesModel;
@@ -151,15 +152,20 @@ public MultiClassGradientBoostedTreesModel learn(final ExecutionMonitor exec)
                 new ArrayList<Map<TreeNodeSignature, Double>>(numClasses);
             // prepare calculation of pseudoResiduals
             final double[][] probs = new double[numClasses][nrRows];
-            for (int r = 0; r < nrRows; r++) {
-                double sumExpF = 0;
-                for (int j = 0; j < numClasses; j++) {
-                    sumExpF += Math.exp(previousFunctions[j][r]);
+            processRows(new RowRangeTask() {
+                @Override
+                public void process(final int from, final int to) {
+                    for (int r = from; r < to; r++) {
+                        double sumExpF = 0;
+                        for (int j = 0; j < numClasses; j++) {
+                            sumExpF += Math.exp(previousFunctions[j][r]);
+                        }
+                        for (int j = 0; j < numClasses; j++) {
+                            probs[j][r] = Math.exp(previousFunctions[j][r]) / sumExpF;
+                        }
+                    }
                 }
-                for (int j = 0; j < numClasses; j++) {
-                    probs[j][r] = Math.exp(previousFunctions[j][r]) / sumExpF;
-                }
-            }
+            });
 
             final Future<?>[] treeCoefficientMapPairs = new Future<?>[numClasses];
             for (int j = 0; j < numClasses; j++) {
@@ -250,8 +256,8 @@ public Pair<TreeModelRegression, Map<TreeNodeSignature, Double>> call() throws E
                 }
                 final TreeData pseudoResiduals = createResidualDataFromArray(residualData, m_actual);
                 final RowSample rowSample = getRowSampler().createRowSample(m_rd);
-                final TreeLearnerRegression treeLearner =
-                    new TreeLearnerRegression(getConfig(), pseudoResiduals, getIndexManager(), m_signatureFactory, m_rd, rowSample);
+                final TreeLearnerRegression treeLearner = new TreeLearnerRegression(getConfig(), pseudoResiduals,
+                    getIndexManager(), m_signatureFactory, m_rd, rowSample, getThreadPool());
                 final TreeModelRegression tree = treeLearner.learnSingleTree(m_subExec, m_rd);
                 final Map<TreeNodeSignature, Double> coefficientMap =
                     calculateCoefficientMap(tree, pseudoResiduals, m_numClasses);
@@ -268,14 +274,19 @@ public Pair<TreeModelRegression, Map<TreeNodeSignature, Double>> call() throws E
     }
 
     private void adaptPreviousFunction(final double[] previousFunction, final TreeModelRegression tree,
-        final Map<TreeNodeSignature, Double> coefficientMap) {
+        final Map<TreeNodeSignature, Double> coefficientMap) throws CanceledExecutionException {
         final TreeData data = getData();
         final IDataIndexManager indexManager = getIndexManager();
-        for (int i = 0; i < previousFunction.length; i++) {
-            final PredictorRecord record = createPredictorRecord(data, indexManager, i);
-            final TreeNodeSignature signature = tree.findMatchingNode(record).getSignature();
-            previousFunction[i] += coefficientMap.get(signature);
-        }
+        processRows(new RowRangeTask() {
+            @Override
+            public void process(final int from, final int to) {
+                for (int i = from; i < to; i++) {
+                    final PredictorRecord record = createPredictorRecord(data, indexManager, i);
+                    final TreeNodeSignature signature = tree.findMatchingNode(record).getSignature();
+                    previousFunction[i] += coefficientMap.get(signature);
+                }
+            }
+        });
     }
 
     private Map<TreeNodeSignature, Double> calculateCoefficientMap(final TreeModelRegression tree,
@@ -50,7 +50,6 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +57,7 @@
 import org.apache.commons.math.random.RandomData;
 import org.knime.base.node.mine.treeensemble2.data.TreeData;
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetNumericColumnData;
+import org.knime.base.node.mine.treeensemble2.learner.ParallelExecutionUtil.RowRangeTask;
 import org.knime.base.node.mine.treeensemble2.learner.TreeLearnerRegression;
 import org.knime.base.node.mine.treeensemble2.learner.TreeNodeSignatureFactory;
 import org.knime.base.node.mine.treeensemble2.model.AbstractGradientBoostingModel;
@@ -72,7 +72,6 @@
 import org.knime.core.node.ExecutionMonitor;
 
 import com.google.common.math.IntMath;
-import com.google.common.primitives.Doubles;
 
 /**
  * This class learns a Gradient Boosted Trees model for regression using the Huber loss.
@@ -120,20 +119,31 @@ public AbstractGradientBoostingModel learn(final ExecutionMonitor exec) throws C
         TreeData residualData;
         for (int i = 0; i < nrModels; i++) {
             final double[] residuals = new double[actualTarget.getNrRows()];
-            for (int j = 0; j < actualTarget.getNrRows(); j++) {
-                residuals[j] = actualTarget.getValueFor(j) - previousPrediction[j];
-            }
+            processRows(new RowRangeTask() {
+                @Override
+                public void process(final int from, final int to) {
+                    for (int j = from; j < to; j++) {
+                        residuals[j] = actualTarget.getValueFor(j) - previousPrediction[j];
+                    }
+                }
+            });
             final double quantile = calculateAlphaQuantile(residuals, alpha);
             final double[] gradients = new double[residuals.length];
-            for (int j = 0; j < gradients.length; j++) {
-                gradients[j] = Math.abs(residuals[j]) <= quantile ? residuals[j] : quantile * Math.signum(residuals[j]);
-            }
+            processRows(new RowRangeTask() {
+                @Override
+                public void process(final int from, final int to) {
+                    for (int j = from; j < to; j++) {
+                        gradients[j] = Math.abs(residuals[j]) <= quantile ? residuals[j]
+                            : quantile * Math.signum(residuals[j]);
+                    }
+                }
+            });
             residualData = createResidualDataFromArray(gradients, actualData);
             final RandomData rdSingle =
                 TreeEnsembleLearnerConfiguration.createRandomData(rd.nextLong(Long.MIN_VALUE, Long.MAX_VALUE));
             final RowSample rowSample = getRowSampler().createRowSample(rdSingle);
-            final TreeLearnerRegression treeLearner =
-                new TreeLearnerRegression(getConfig(), residualData, getIndexManager(), signatureFactory, rdSingle, rowSample);
+            final TreeLearnerRegression treeLearner = new TreeLearnerRegression(getConfig(), residualData,
+                getIndexManager(), signatureFactory, rdSingle, rowSample, getThreadPool());
             final TreeModelRegression tree = treeLearner.learnSingleTree(exec, rdSingle);
             final Map<TreeNodeSignature, Double> coefficientMap = calcCoefficientMap(residuals, quantile, tree);
             adaptPreviousPrediction(previousPrediction, tree, coefficientMap);
@@ -171,21 +181,10 @@ private Map<TreeNodeSignature, Double> calcCoefficientMap(final double[] residua
     }
 
     private static double calculateAlphaQuantile(final double[] array, final double alpha) {
-        final Integer[] idx = new Integer[array.length];
-        for (int i = 0; i < idx.length; i++) {
-            idx[i] = i;
-        }
-        Comparator<Integer> idxComp = new Comparator<Integer>() {
-
-            @Override
-            public int compare(final Integer arg0, final Integer arg1) {
-                return Doubles.compare(array[arg0], array[arg1]);
-            }
-
-        };
-        Arrays.sort(idx, idxComp);
+        final double[] sorted = Arrays.copyOf(array, array.length);
+        Arrays.sort(sorted);
         final int quantileIndex = (int)(alpha * array.length);
-        return array[idx[quantileIndex]];
+        return sorted[quantileIndex];
     }
 
 
@@ -99,6 +99,13 @@ public boolean testCondition(final PredictorRecord record) {
         return m_defaultResponse;
     }
 
+    /**
+     * @return the response if the values of the first condition and all its surrogates are missing
+     */
+    boolean getDefaultResponse() {
+        return m_defaultResponse;
+    }
+
     /**
      * @return the first condition (corresponding to the best split determined during training)
      */
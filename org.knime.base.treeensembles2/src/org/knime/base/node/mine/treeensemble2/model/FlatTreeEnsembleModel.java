@@ -0,0 +1,476 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.base.node.mine.treeensemble2.data.NominalValueRepresentation;
+import org.knime.base.node.mine.treeensemble2.data.TreeAttributeColumnMetaData;
+import org.knime.base.node.mine.treeensemble2.data.TreeMetaData;
+import org.knime.base.node.mine.treeensemble2.data.TreeNominalColumnMetaData;
+import org.knime.base.node.mine.treeensemble2.learner.ParallelExecutionUtil;
+import org.knime.base.node.mine.treeensemble2.model.AbstractTreeEnsembleModel.TreeType;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.data.vector.bytevector.ByteVectorValue;
+import org.knime.core.data.vector.doublevector.DoubleVectorValue;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Compiled form of a tree ensemble model that predicts batches of records without creating a
+ * {@link org.knime.base.node.mine.treeensemble2.data.PredictorRecord} per row. The trees are flattened into
+ * {@link FlatTreeModel}s so that finding the matching leaf of a record only requires array lookups.
+ * <p>
+ * For gradient boosted trees the coefficients of the leaves are resolved once and a batch is evaluated tree by tree
+ * by {@link #predict(RecordBatch, double[])}, i.e. each tree is applied to all rows of the batch before the next tree
+ * is considered, which keeps the arrays of a single tree in the cache. Each tree contributes to one of
+ * {@link #getNrOutputs()} outputs, e.g. the logits of the different classes of a multi-class model.
+ * <p>
+ * The trees of a random forest ({@link TreeEnsembleModel}) are combined by voting or averaging, possibly leaving out
+ * the trees a row was used to learn, which is up to the predictor. For these models only the leaves are looked up
+ * with {@link #findLeaf(int, RecordBatch, int)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class FlatTreeEnsembleModel {
+
+    private static final int MIN_ROWS_PER_TASK = 1000;
+
+    private final TreeMetaData m_metaData;
+
+    private final TreeType m_type;
+
+    private final Map<String, Integer>[] m_nominalValueIndices;
+
+    private final FlatTreeModel[] m_trees;
+
+    /** The contribution of each node of each tree, only set for leaves, <code>null</code> for random forests. */
+    private final double[][] m_leafValues;
+
+    private final int[] m_treeOutput;
+
+    private final double[] m_initialValues;
+
+    private FlatTreeEnsembleModel(final AbstractTreeEnsembleModel model, final FlatTreeModel[] trees,
+        final double[][] leafValues, final int[] treeOutput, final double[] initialValues) {
+        m_metaData = model.getMetaData();
+        m_type = model.getType();
+        m_trees = trees;
+        m_leafValues = leafValues;
+        m_treeOutput = treeOutput;
+        m_initialValues = initialValues;
+        m_nominalValueIndices = createNominalValueIndices(m_metaData);
+    }
+
+    /**
+     * Compiles the trees of a random forest (classification or regression), whose leaves are looked up with
+     * {@link #findLeaf(int, RecordBatch, int)}. The compiled model has no outputs.
+     *
+     * @param model the model to compile
+     * @return the compiled model
+     */
+    public static FlatTreeEnsembleModel compile(final TreeEnsembleModel model) {
+        final Map<String, Integer> attributeIndexMap = createAttributeIndexMap(model.getMetaData());
+        final int nrModels = model.getNrModels();
+        final FlatTreeModel[] trees = new FlatTreeModel[nrModels];
+        for (int i = 0; i < nrModels; i++) {
+            trees[i] = FlatTreeModel.compile(model.getTreeModel(i), attributeIndexMap);
+        }
+        return new FlatTreeEnsembleModel(model, trees, null, new int[nrModels], new double[0]);
+    }
+
+    /**
+     * Compiles a single-output gradient boosted trees model (regression).
+     *
+     * @param model the model to compile
+     * @return the compiled model
+     */
+    public static FlatTreeEnsembleModel compile(final GradientBoostedTreesModel model) {
+        final Map<String, Integer> attributeIndexMap = createAttributeIndexMap(model.getMetaData());
+        final int nrModels = model.getNrModels();
+        final FlatTreeModel[] trees = new FlatTreeModel[nrModels];
+        final double[][] leafValues = new double[nrModels][];
+        int i = 0;
+        for (Map<TreeNodeSignature, Double> coefficientMap : model.getCoeffientMaps()) {
+            trees[i] = FlatTreeModel.compile(model.getTreeModel(i), attributeIndexMap);
+            leafValues[i] = resolveLeafValues(trees[i], coefficientMap);
+            i++;
+        }
+        return new FlatTreeEnsembleModel(model, trees, leafValues, new int[nrModels],
+            new double[]{model.getInitialValue()});
+    }
+
+    /**
+     * Compiles a multi-class gradient boosted trees model, the outputs correspond to the logits of the classes.
+     *
+     * @param model the model to compile
+     * @return the compiled model
+     */
+    public static FlatTreeEnsembleModel compile(final MultiClassGradientBoostedTreesModel model) {
+        final Map<String, Integer> attributeIndexMap = createAttributeIndexMap(model.getMetaData());
+        final int nrLevels = model.getNrLevels();
+        final int nrClasses = model.getNrClasses();
+        final FlatTreeModel[] trees = new FlatTreeModel[nrLevels * nrClasses];
+        final double[][] leafValues = new double[trees.length][];
+        final int[] treeOutput = new int[trees.length];
+        for (int l = 0; l < nrLevels; l++) {
+            for (int c = 0; c < nrClasses; c++) {
+                final int t = l * nrClasses + c;
+                trees[t] = FlatTreeModel.compile(model.getModel(l, c), attributeIndexMap);
+                leafValues[t] = resolveLeafValues(trees[t], model.getCoefficientMap(l, c));
+                treeOutput[t] = c;
+            }
+        }
+        final double[] initialValues = new double[nrClasses];
+        Arrays.fill(initialValues, model.getInitialValue());
+        return new FlatTreeEnsembleModel(model, trees, leafValues, treeOutput, initialValues);
+    }
+
+    private static double[] resolveLeafValues(final FlatTreeModel tree,
+        final Map<TreeNodeSignature, Double> coefficientMap) {
+        final double[] values = new double[tree.getNrNodes()];
+        for (int n = 0; n < values.length; n++) {
+            final AbstractTreeNode node = tree.getNode(n);
+            if (node.getNrChildren() == 0) {
+                final Double coefficient = coefficientMap.get(node.getSignature());
+                if (coefficient == null) {
+                    throw new IllegalStateException("No coefficient for leaf " + node.getSignature());
+                }
+                values[n] = coefficient;
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, Integer> createAttributeIndexMap(final TreeMetaData metaData) {
+        final int nrAttributes = metaData.getNrAttributes();
+        final Map<String, Integer> map = new HashMap<String, Integer>((int)(nrAttributes / 0.75 + 1.0));
+        for (int i = 0; i < nrAttributes; i++) {
+            map.put(metaData.getAttributeMetaData(i).getAttributeName(), i);
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer>[] createNominalValueIndices(final TreeMetaData metaData) {
+        final int nrAttributes = metaData.getNrAttributes();
+        final Map<String, Integer>[] result = new Map[nrAttributes];
+        for (int i = 0; i < nrAttributes; i++) {
+            final TreeAttributeColumnMetaData attributeMetaData = metaData.getAttributeMetaData(i);
+            if (attributeMetaData instanceof TreeNominalColumnMetaData) {
+                final NominalValueRepresentation[] values =
+                    ((TreeNominalColumnMetaData)attributeMetaData).getValues();
+                final Map<String, Integer> map = new HashMap<String, Integer>((int)(values.length / 0.75 + 1.0));
+                for (NominalValueRepresentation value : values) {
+                    // the record based prediction uses the first matching value
+                    map.putIfAbsent(value.getNominalValue(), value.getAssignedInteger());
+                }
+                result[i] = map;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of values produced for each record
+     */
+    public int getNrOutputs() {
+        return m_initialValues.length;
+    }
+
+    /**
+     * @return the number of trees in the ensemble
+     */
+    public int getNrTrees() {
+        return m_trees.length;
+    }
+
+    /**
+     * Finds the leaf of a tree that matches a record of the batch, it's the node
+     * {@link AbstractTreeModel#findMatchingNode(org.knime.base.node.mine.treeensemble2.data.PredictorRecord)}
+     * returns for the record.
+     *
+     * @param treeIndex the index of the tree in the ensemble
+     * @param batch the batch containing the record
+     * @param index the index of the record in the batch, the record must be {@link RecordBatch#isValid(int) valid}
+     * @return the matching node
+     */
+    public AbstractTreeNode findLeaf(final int treeIndex, final RecordBatch batch, final int index) {
+        assert batch.m_valid[index] : "Record " + index + " is not valid";
+        final FlatTreeModel tree = m_trees[treeIndex];
+        return tree.getNode(tree.findLeaf(batch.m_values, batch.m_missing, index * batch.m_nrAttributes));
+    }
+
+    /**
+     * @param capacity the maximal number of records in the batch
+     * @return a new empty batch for this model
+     */
+    public RecordBatch createBatch(final int capacity) {
+        return new RecordBatch(m_metaData.getNrAttributes(), capacity);
+    }
+
+    /**
+     * Predicts all records in the batch. For each record the {@link #getNrOutputs()} outputs are written consecutively
+     * into <b>outputs</b>, i.e. output <i>j</i> of record <i>i</i> is found at <code>i * getNrOutputs() + j</code>.
+     * Records that are not {@link RecordBatch#isValid(int) valid} get {@link Double#NaN} as outputs.
+     *
+     * @param batch the records to predict
+     * @param outputs the array to write the outputs into
+     * @throws IllegalStateException if the model is a random forest
+     */
+    public void predict(final RecordBatch batch, final double[] outputs) {
+        predict(batch, outputs, 0, batch.size());
+    }
+
+    /**
+     * Predicts the records of the batch in parallel, see {@link #predict(RecordBatch, double[])}.
+     *
+     * @param batch the records to predict
+     * @param outputs the array to write the outputs into
+     * @param pool the pool used to process subsets of the rows in parallel
+     * @throws CanceledExecutionException if the calling thread was interrupted
+     */
+    public void predict(final RecordBatch batch, final double[] outputs, final ThreadPool pool)
+        throws CanceledExecutionException {
+        ParallelExecutionUtil.processRowRanges(pool, batch.size(), MIN_ROWS_PER_TASK,
+            (from, to) -> predict(batch, outputs, from, to));
+    }
+
+    private void predict(final RecordBatch batch, final double[] outputs, final int from, final int to) {
+        if (m_leafValues == null) {
+            throw new IllegalStateException("The trees of a random forest are not predicted by summing up leaves");
+        }
+        final int nrOutputs = getNrOutputs();
+        final int nrAttributes = batch.m_nrAttributes;
+        for (int r = from; r < to; r++) {
+            System.arraycopy(m_initialValues, 0, outputs, r * nrOutputs, nrOutputs);
+        }
+        for (int t = 0; t < m_trees.length; t++) {
+            final FlatTreeModel tree = m_trees[t];
+            final double[] leafValues = m_leafValues[t];
+            final int output = m_treeOutput[t];
+            for (int r = from; r < to; r++) {
+                if (batch.m_valid[r]) {
+                    final int leaf = tree.findLeaf(batch.m_values, batch.m_missing, r * nrAttributes);
+                    outputs[r * nrOutputs + output] += leafValues[leaf];
+                }
+            }
+        }
+        for (int r = from; r < to; r++) {
+            if (!batch.m_valid[r]) {
+                Arrays.fill(outputs, r * nrOutputs, (r + 1) * nrOutputs, Double.NaN);
+            }
+        }
+    }
+
+    /**
+     * A batch of records stored row by row in primitive arrays. The rows are added in the form of the learn columns
+     * (as used by {@link AbstractTreeEnsembleModel#createPredictorRecord(DataRow,
+     * org.knime.core.data.DataTableSpec)}).
+     */
+    public final class RecordBatch {
+
+        private final int m_nrAttributes;
+
+        private final double[] m_values;
+
+        private final boolean[] m_missing;
+
+        private final boolean[] m_valid;
+
+        private int m_size;
+
+        private RecordBatch(final int nrAttributes, final int capacity) {
+            m_nrAttributes = nrAttributes;
+            m_values = new double[nrAttributes * capacity];
+            m_missing = new boolean[nrAttributes * capacity];
+            m_valid = new boolean[capacity];
+        }
+
+        /**
+         * @return the number of records in the batch
+         */
+        public int size() {
+            return m_size;
+        }
+
+        /**
+         * @return true if no more records can be added
+         */
+        public boolean isFull() {
+            return m_size == m_valid.length;
+        }
+
+        /**
+         * @param index the index of a record in the batch
+         * @return false if no record could be created for the row (e.g. because a vector cell is missing)
+         */
+        public boolean isValid(final int index) {
+            return m_valid[index];
+        }
+
+        /** Removes all records from the batch. */
+        public void clear() {
+            m_size = 0;
+        }
+
+        /**
+         * Adds the row to the batch.
+         *
+         * @param filterRow a row containing the learn columns
+         * @return the index of the record in the batch
+         * @throws IllegalStateException if the batch is full
+         * @throws IllegalArgumentException if a vector has the wrong length
+         */
+        public int add(final DataRow filterRow) {
+            if (isFull()) {
+                throw new IllegalStateException("The batch is full");
+            }
+            final int index = m_size;
+            final int offset = index * m_nrAttributes;
+            Arrays.fill(m_missing, offset, offset + m_nrAttributes, false);
+            switch (m_type) {
+                case Ordinary:
+                    m_valid[index] = addNominalNumeric(filterRow, offset);
+                    break;
+                case BitVector:
+                    m_valid[index] = addBitVector(filterRow, offset);
+                    break;
+                case ByteVector:
+                    m_valid[index] = addByteVector(filterRow, offset);
+                    break;
+                case DoubleVector:
+                    m_valid[index] = addDoubleVector(filterRow, offset);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown tree type " + "(not implemented): " + m_type);
+            }
+            m_size++;
+            return index;
+        }
+
+        private boolean addNominalNumeric(final DataRow filterRow, final int offset) {
+            for (int i = 0; i < m_nrAttributes; i++) {
+                final DataCell cell = filterRow.getCell(i);
+                final Map<String, Integer> nominalValueIndices = m_nominalValueIndices[i];
+                if (cell.isMissing()) {
+                    m_missing[offset + i] = true;
+                } else if (nominalValueIndices != null) {
+                    final Integer assignedInteger = nominalValueIndices.get(cell.toString());
+                    if (assignedInteger == null) {
+                        // the value is not known to the model, treat as missing value
+                        m_missing[offset + i] = true;
+                    } else {
+                        m_values[offset + i] = assignedInteger;
+                    }
+                } else {
+                    final double val = ((DoubleValue)cell).getDoubleValue();
+                    m_missing[offset + i] = Double.isNaN(val);
+                    m_values[offset + i] = val;
+                }
+            }
+            return true;
+        }
+
+        private boolean addBitVector(final DataRow filterRow, final int offset) {
+            final DataCell c = filterRow.getCell(0);
+            if (c.isMissing()) {
+                return false;
+            }
+            final BitVectorValue bv = (BitVectorValue)c;
+            checkLength(filterRow, bv.length(), "bit");
+            for (int i = 0; i < m_nrAttributes; i++) {
+                m_values[offset + i] = bv.get(i) ? 1 : 0;
+            }
+            return true;
+        }
+
+        private boolean addByteVector(final DataRow filterRow, final int offset) {
+            final DataCell c = filterRow.getCell(0);
+            if (c.isMissing()) {
+                return false;
+            }
+            final ByteVectorValue bv = (ByteVectorValue)c;
+            checkLength(filterRow, bv.length(), "byte");
+            for (int i = 0; i < m_nrAttributes; i++) {
+                m_values[offset + i] = bv.get(i);
+            }
+            return true;
+        }
+
+        private boolean addDoubleVector(final DataRow filterRow, final int offset) {
+            final DataCell c = filterRow.getCell(0);
+            if (c.isMissing()) {
+                return false;
+            }
+            final DoubleVectorValue dv = (DoubleVectorValue)c;
+            checkLength(filterRow, dv.getLength(), "double");
+            for (int i = 0; i < m_nrAttributes; i++) {
+                final double val = dv.getValue(i);
+                // treat NaNs as missing values
+                m_missing[offset + i] = Double.isNaN(val);
+                m_values[offset + i] = val;
+            }
+            return true;
+        }
+
+        private void checkLength(final DataRow filterRow, final long length, final String vectorType) {
+            if (length != m_nrAttributes) {
+                throw new IllegalArgumentException("The " + vectorType + "-vector in " + filterRow.getKey().getString()
+                    + " has the wrong length. (" + length + " instead of " + m_nrAttributes + ")");
+            }
+        }
+    }
+
+}
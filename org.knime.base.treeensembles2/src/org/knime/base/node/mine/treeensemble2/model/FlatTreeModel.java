@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.treeensemble2.model;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.base.node.mine.treeensemble2.model.TreeNodeNominalBinaryCondition.SetLogic;
+import org.knime.base.node.mine.treeensemble2.model.TreeNodeNumericCondition.NumericOperator;
+
+/**
+ * Flattened, array based representation of a single {@link AbstractTreeModel} used for fast prediction. The nodes are
+ * stored in breadth first order such that the children of a node occupy a contiguous index range and the conditions
+ * are compiled into primitive arrays that are evaluated against a record given as a row in a
+ * {@link FlatTreeEnsembleModel.RecordBatch}. Evaluating a record with {@link #findLeaf(double[], boolean[], int)}
+ * yields the same leaf as {@link AbstractTreeModel#findMatchingNode(org.knime.base.node.mine.treeensemble2.data.PredictorRecord)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class FlatTreeModel {
+
+    private static final byte KIND_TRUE = 0;
+
+    private static final byte KIND_NUMERIC_LARGER = 1;
+
+    private static final byte KIND_NUMERIC_LESS_OR_EQUAL = 2;
+
+    private static final byte KIND_NOMINAL = 3;
+
+    private static final byte KIND_NOMINAL_SET = 4;
+
+    private static final byte KIND_BIT = 5;
+
+    private static final byte KIND_SURROGATE = 6;
+
+    private final AbstractTreeNode[] m_nodes;
+
+    private final int[] m_firstChild;
+
+    private final int[] m_nrChildren;
+
+    private final int[] m_nodeCondition;
+
+    // struct of arrays holding the compiled conditions, the surrogate column conditions are stored at the end
+    private final byte[] m_kind;
+
+    private final int[] m_attribute;
+
+    private final double[] m_value;
+
+    private final boolean[] m_acceptsMissing;
+
+    private final long[][] m_valuesMask;
+
+    private final int[] m_surrogateFirst;
+
+    private final int[] m_surrogateCount;
+
+    private FlatTreeModel(final AbstractTreeNode[] nodes, final int[] firstChild, final int[] nrChildren,
+        final int[] nodeCondition, final ConditionCompiler conditions) {
+        m_nodes = nodes;
+        m_firstChild = firstChild;
+        m_nrChildren = nrChildren;
+        m_nodeCondition = nodeCondition;
+        final int nrConditions = conditions.m_conditions.size();
+        m_kind = new byte[nrConditions];
+        m_attribute = new int[nrConditions];
+        m_value = new double[nrConditions];
+        m_acceptsMissing = new boolean[nrConditions];
+        m_valuesMask = new long[nrConditions][];
+        m_surrogateFirst = new int[nrConditions];
+        m_surrogateCount = new int[nrConditions];
+        for (int i = 0; i < nrConditions; i++) {
+            conditions.m_conditions.get(i).copyTo(this, i);
+        }
+    }
+
+    /**
+     * Compiles the given tree.
+     *
+     * @param tree the tree to flatten
+     * @param attributeIndexMap maps the attribute names used in the conditions of the tree to the index of the
+     *            attribute in a record
+     * @return the flattened tree
+     */
+    public static FlatTreeModel compile(final AbstractTreeModel<?> tree, final Map<String, Integer> attributeIndexMap) {
+        final List<AbstractTreeNode> nodes = new ArrayList<AbstractTreeNode>();
+        final Deque<AbstractTreeNode> queue = new ArrayDeque<AbstractTreeNode>();
+        queue.add(tree.getRootNode());
+        while (!queue.isEmpty()) {
+            AbstractTreeNode node = queue.poll();
+            nodes.add(node);
+            for (int i = 0; i < node.getNrChildren(); i++) {
+                queue.add(node.getChild(i));
+            }
+        }
+        final int nrNodes = nodes.size();
+        final int[] firstChild = new int[nrNodes];
+        final int[] nrChildren = new int[nrNodes];
+        final int[] nodeCondition = new int[nrNodes];
+        final ConditionCompiler compiler = new ConditionCompiler(attributeIndexMap);
+        // in breadth first order the children of the nodes are enumerated in the same order as the nodes
+        int nextChild = 1;
+        for (int n = 0; n < nrNodes; n++) {
+            AbstractTreeNode node = nodes.get(n);
+            firstChild[n] = nextChild;
+            nrChildren[n] = node.getNrChildren();
+            nextChild += nrChildren[n];
+            nodeCondition[n] = n == 0 ? -1 : compiler.compile(node.getCondition());
+        }
+        compiler.appendSurrogateColumns();
+        return new FlatTreeModel(nodes.toArray(new AbstractTreeNode[nrNodes]), firstChild, nrChildren, nodeCondition,
+            compiler);
+    }
+
+    /**
+     * @return the number of nodes in the tree
+     */
+    public int getNrNodes() {
+        return m_nodes.length;
+    }
+
+    /**
+     * @param nodeIndex index of a node as returned by {@link #findLeaf(double[], boolean[], int)}
+     * @return the tree node
+     */
+    public AbstractTreeNode getNode(final int nodeIndex) {
+        return m_nodes[nodeIndex];
+    }
+
+    /**
+     * Finds the leaf that matches the record that starts at <b>offset</b> in the given arrays.
+     *
+     * @param values the attribute values of the record (nominal values are given by their assigned integer, bits as 0
+     *            or 1)
+     * @param missing flags for the missing attribute values
+     * @param offset the index of the first attribute of the record
+     * @return the index of the matching node
+     */
+    public int findLeaf(final double[] values, final boolean[] missing, final int offset) {
+        int node = 0;
+        boolean descend = true;
+        while (descend) {
+            descend = false;
+            final int end = m_firstChild[node] + m_nrChildren[node];
+            for (int child = m_firstChild[node]; child < end; child++) {
+                if (test(m_nodeCondition[child], values, missing, offset)) {
+                    node = child;
+                    descend = true;
+                    break;
+                }
+            }
+        }
+        return node;
+    }
+
+    private boolean test(final int condition, final double[] values, final boolean[] missing, final int offset) {
+        if (m_kind[condition] == KIND_SURROGATE) {
+            final int end = m_surrogateFirst[condition] + m_surrogateCount[condition];
+            for (int c = m_surrogateFirst[condition]; c < end; c++) {
+                if (!missing[offset + m_attribute[c]]) {
+                    return test(c, values, missing, offset);
+                }
+            }
+            return m_value[condition] != 0;
+        }
+        if (m_kind[condition] == KIND_TRUE) {
+            return true;
+        }
+        final int index = offset + m_attribute[condition];
+        if (missing[index]) {
+            if (m_kind[condition] == KIND_BIT) {
+                throw new UnsupportedOperationException("Missing values currently not supported for bitvectors");
+            }
+            return m_acceptsMissing[condition];
+        }
+        final double v = values[index];
+        switch (m_kind[condition]) {
+            case KIND_NUMERIC_LARGER:
+                return v > m_value[condition];
+            case KIND_NUMERIC_LESS_OR_EQUAL:
+                return v <= m_value[condition];
+            case KIND_NOMINAL:
+                return (int)v == (int)m_value[condition];
+            case KIND_NOMINAL_SET:
+                final int valueIndex = (int)v;
+                final long[] mask = m_valuesMask[condition];
+                final boolean isContained = valueIndex >= 0 && (valueIndex >>> 6) < mask.length
+                    && (mask[valueIndex >>> 6] & (1L << valueIndex)) != 0;
+                // m_value holds 1 for IS_IN and 0 for IS_NOT_IN
+                return isContained == (m_value[condition] != 0);
+            case KIND_BIT:
+                return (v != 0) == (m_value[condition] != 0);
+            default:
+                throw new IllegalStateException("Unknown condition kind: " + m_kind[condition]);
+        }
+    }
+
+    /** Collects the conditions of a tree before they are copied into the arrays of the flat tree. */
+    private static final class ConditionCompiler {
+
+        private final Map<String, Integer> m_attributeIndexMap;
+
+        private final List<CompiledCondition> m_conditions = new ArrayList<CompiledCondition>();
+
+        private final List<CompiledCondition> m_surrogates = new ArrayList<CompiledCondition>();
+
+        ConditionCompiler(final Map<String, Integer> attributeIndexMap) {
+            m_attributeIndexMap = attributeIndexMap;
+        }
+
+        int compile(final TreeNodeCondition condition) {
+            m_conditions.add(create(condition));
+            return m_conditions.size() - 1;
+        }
+
+        /** Appends the column conditions of all surrogate conditions and links them to their parent condition. */
+        void appendSurrogateColumns() {
+            for (CompiledCondition surrogate : m_surrogates) {
+                surrogate.m_surrogateFirst = m_conditions.size();
+                for (TreeNodeColumnCondition columnCondition : surrogate.m_surrogateColumns) {
+                    m_conditions.add(create(columnCondition));
+                }
+            }
+        }
+
+        private CompiledCondition create(final TreeNodeCondition condition) {
+            final CompiledCondition c = new CompiledCondition();
+            if (condition instanceof TreeNodeTrueCondition) {
+                c.m_kind = KIND_TRUE;
+            } else if (condition instanceof AbstractTreeNodeSurrogateCondition) {
+                final AbstractTreeNodeSurrogateCondition surrogate = (AbstractTreeNodeSurrogateCondition)condition;
+                c.m_kind = KIND_SURROGATE;
+                c.m_value = surrogate.getDefaultResponse() ? 1 : 0;
+                final int nrColumns = surrogate.getNumSurrogates() + 1;
+                c.m_surrogateColumns = new TreeNodeColumnCondition[nrColumns];
+                for (int i = 0; i < nrColumns; i++) {
+                    c.m_surrogateColumns[i] = surrogate.getColumnCondition(i);
+                }
+                m_surrogates.add(c);
+            } else if (condition instanceof TreeNodeColumnCondition) {
+                final TreeNodeColumnCondition columnCondition = (TreeNodeColumnCondition)condition;
+                final String attributeName = columnCondition.getAttributeName();
+                final Integer attributeIndex = m_attributeIndexMap.get(attributeName);
+                if (attributeIndex == null) {
+                    throw new IllegalStateException("Unknown attribute \"" + attributeName + "\" in condition "
+                        + condition);
+                }
+                c.m_attribute = attributeIndex;
+                c.m_acceptsMissing = columnCondition.acceptsMissings();
+                compileColumnCondition(columnCondition, c);
+            } else {
+                throw new IllegalStateException("Unsupported condition type: " + condition.getClass().getSimpleName());
+            }
+            return c;
+        }
+
+        private static void compileColumnCondition(final TreeNodeColumnCondition condition, final CompiledCondition c) {
+            if (condition instanceof TreeNodeNumericCondition) {
+                final TreeNodeNumericCondition numCondition = (TreeNodeNumericCondition)condition;
+                final NumericOperator operator = numCondition.getNumericOperator();
+                switch (operator) {
+                    case LargerThan:
+                    case LargerThanOrMissing:
+                        c.m_kind = KIND_NUMERIC_LARGER;
+                        break;
+                    case LessThanOrEqual:
+                    case LessThanOrEqualOrMissing:
+                        c.m_kind = KIND_NUMERIC_LESS_OR_EQUAL;
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown operator " + operator);
+                }
+                c.m_value = numCondition.getSplitValue();
+            } else if (condition instanceof TreeNodeNominalBinaryCondition) {
+                final TreeNodeNominalBinaryCondition setCondition = (TreeNodeNominalBinaryCondition)condition;
+                c.m_kind = KIND_NOMINAL_SET;
+                c.m_value = setCondition.getSetLogic() == SetLogic.IS_IN ? 1 : 0;
+                c.m_valuesMask = toLongArray(setCondition.getValuesMask());
+            } else if (condition instanceof TreeNodeNominalCondition) {
+                c.m_kind = KIND_NOMINAL;
+                c.m_value = ((TreeNodeNominalCondition)condition).getValueIndex();
+            } else if (condition instanceof TreeNodeBitCondition) {
+                c.m_kind = KIND_BIT;
+                c.m_value = ((TreeNodeBitCondition)condition).getValue() ? 1 : 0;
+            } else {
+                throw new IllegalStateException("Unsupported condition type: " + condition.getClass().getSimpleName());
+            }
+        }
+
+        private static long[] toLongArray(final BigInteger mask) {
+            final int bitLength = mask.bitLength();
+            final long[] result = new long[(bitLength + 63) / 64];
+            for (int i = 0; i < bitLength; i++) {
+                if (mask.testBit(i)) {
+                    result[i >>> 6] |= 1L << i;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class CompiledCondition {
+
+        private byte m_kind;
+
+        private int m_attribute;
+
+        private double m_value;
+
+        private boolean m_acceptsMissing;
+
+        private long[] m_valuesMask;
+
+        private TreeNodeColumnCondition[] m_surrogateColumns;
+
+        private int m_surrogateFirst;
+
+        void copyTo(final FlatTreeModel tree, final int index) {
+            tree.m_kind[index] = m_kind;
+            tree.m_attribute[index] = m_attribute;
+            tree.m_value[index] = m_value;
+            tree.m_acceptsMissing[index] = m_acceptsMissing;
+            tree.m_valuesMask[index] = m_valuesMask;
+            if (m_surrogateColumns != null) {
+                tree.m_surrogateFirst[index] = m_surrogateFirst;
+                tree.m_surrogateCount[index] = m_surrogateColumns.length;
+            }
+        }
+    }
+
+}
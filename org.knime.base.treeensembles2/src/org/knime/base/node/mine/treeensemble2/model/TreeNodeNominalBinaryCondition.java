@@ -201,6 +201,13 @@ public SetLogic getSetLogic() {
         return m_setLogic;
     }
 
+    /**
+     * @return the mask of the value indices contained in the set
+     */
+    BigInteger getValuesMask() {
+        return m_valuesMask;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean testCondition(final PredictorRecord record) {
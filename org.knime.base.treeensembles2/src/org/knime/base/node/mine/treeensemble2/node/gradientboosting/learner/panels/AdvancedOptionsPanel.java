@@ -70,6 +70,7 @@
 import javax.swing.JTextField;
 import javax.swing.SpinnerNumberModel;
 
+import org.knime.base.node.mine.treeensemble2.data.TreeBinnedNumericColumnData;
 import org.knime.base.node.mine.treeensemble2.node.gradientboosting.learner.GradientBoostingLearnerConfiguration;
 import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration;
 import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration.ColumnSamplingMode;
@@ -117,6 +118,10 @@ public class AdvancedOptionsPanel extends JPanel {
 
     private final JCheckBox m_useBinaryNominalSplitsChecker;
 
+    private final JCheckBox m_nrNumericBinsChecker;
+
+    private final JSpinner m_nrNumericBinsSpinner;
+
     private final JSpinner m_alphaFractionSpinner;
 
     private final JComboBox<MissingValueHandling> m_missingValueHandlingComboBox;
@@ -220,6 +225,16 @@ public void actionPerformed(final ActionEvent e) {
         m_useAverageSplitPointsChecker = new JCheckBox("Use mid point splits (only for numeric attributes)");
         m_useBinaryNominalSplitsChecker = new JCheckBox("Use binary splits for nominal columns");
         m_missingValueHandlingComboBox = new JComboBox<MissingValueHandling>(MissingValueHandling.values());
+        m_nrNumericBinsSpinner = new JSpinner(new SpinnerNumberModel(
+            TreeEnsembleLearnerConfiguration.DEF_NR_NUMERIC_BINS, 2, TreeBinnedNumericColumnData.MAX_NR_BINS, 1));
+        m_nrNumericBinsChecker = new JCheckBox("Bin numeric attributes (number of bins)");
+        m_nrNumericBinsChecker.addItemListener(new ItemListener() {
+            @Override
+            public void itemStateChanged(final ItemEvent e) {
+                m_nrNumericBinsSpinner.setEnabled(m_nrNumericBinsChecker.isSelected());
+            }
+        });
+        m_nrNumericBinsSpinner.setEnabled(false);
 
         initPanel();
     }
@@ -259,6 +274,15 @@ private void initPanel() {
         add(m_useBinaryNominalSplitsChecker, gbc);
         gbc.gridwidth = 1;
 
+        gbc.gridx = 0;
+        gbc.gridy += 1;
+        gbc.weightx = 0.0;
+        add(m_nrNumericBinsChecker, gbc);
+        gbc.gridx = 1;
+        gbc.weightx = 1.0;
+        add(m_nrNumericBinsSpinner, gbc);
+        gbc.gridx = 0;
+
         gbc.gridy += 1;
         gbc.gridwidth = 2;
         add(new JLabel("Missing value handling"), gbc);
@@ -396,6 +420,13 @@ public void loadSettings(final GradientBoostingLearnerConfiguration cfg) {
         m_useAverageSplitPointsChecker.setSelected(cfg.isUseAverageSplitPoints());
         m_useBinaryNominalSplitsChecker.setSelected(cfg.isUseBinaryNominalSplits());
         m_missingValueHandlingComboBox.setSelectedItem(cfg.getMissingValueHandling());
+        int nrNumericBins = cfg.getNrNumericBins();
+        if ((nrNumericBins != TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED) != m_nrNumericBinsChecker
+            .isSelected()) {
+            m_nrNumericBinsChecker.doClick();
+        }
+        m_nrNumericBinsSpinner.setValue(nrNumericBins == TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED
+            ? TreeEnsembleLearnerConfiguration.DEF_NR_NUMERIC_BINS : nrNumericBins);
 
         double dataFrac = cfg.getDataFractionPerTree();
         boolean isDataWithReplacement = cfg.isDataSelectionWithReplacement();
@@ -456,6 +487,8 @@ public void saveSettings(final GradientBoostingLearnerConfiguration cfg) throws
             throw new InvalidSettingsException("Surrogate missing value handling can only be used if binary nominal splits are enabled.");
         }
         cfg.setMissingValueHandling((MissingValueHandling)m_missingValueHandlingComboBox.getSelectedItem());
+        cfg.setNrNumericBins(m_nrNumericBinsChecker.isSelected() ? (Integer)m_nrNumericBinsSpinner.getValue()
+            : TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED);
 
         double dataFrac;
         boolean isSamplingWithReplacement;
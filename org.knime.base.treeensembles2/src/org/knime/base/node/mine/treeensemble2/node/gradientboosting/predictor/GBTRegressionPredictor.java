@@ -5,11 +5,18 @@
 
 import java.util.function.Function;
 
+import org.knime.base.data.filter.column.FilterColumnRow;
 import org.knime.base.node.mine.treeensemble2.data.PredictorRecord;
+import org.knime.base.node.mine.treeensemble2.model.FlatTreeEnsembleModel;
+import org.knime.base.node.mine.treeensemble2.model.FlatTreeEnsembleModel.RecordBatch;
 import org.knime.base.node.mine.treeensemble2.model.GradientBoostedTreesModel;
+import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModelPortObjectSpec;
 import org.knime.base.node.mine.treeensemble2.node.predictor.AbstractPredictor;
 import org.knime.base.node.mine.treeensemble2.node.predictor.RegressionPrediction;
+import org.knime.base.node.mine.treeensemble2.node.predictor.TreeEnsemblePredictionUtil;
 import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.InvalidSettingsException;
 
 /**
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
@@ -18,6 +25,13 @@ public class GBTRegressionPredictor extends AbstractPredictor<RegressionPredicti
 
     private final GradientBoostedTreesModel m_model;
 
+    private final FlatTreeEnsembleModel m_flatModel;
+
+    private final int[] m_filterIndices;
+
+    /** A batch of a single record per thread, reused for all rows the thread predicts. */
+    private final ThreadLocal<RecordBatch> m_batch;
+
     /**
      * Constructor for a {@link GBTRegressionPredictor}.
      *
@@ -28,6 +42,50 @@ public GBTRegressionPredictor(final GradientBoostedTreesModel model,
         final Function<DataRow, PredictorRecord> rowConverter) {
         super(rowConverter);
         m_model = model;
+        m_flatModel = null;
+        m_filterIndices = null;
+        m_batch = null;
+    }
+
+    /**
+     * Constructor for a {@link GBTRegressionPredictor} that predicts rows with the {@link FlatTreeEnsembleModel
+     * compiled} form of the model.
+     *
+     * @param model the gbt model (may be null during configure)
+     * @param modelSpec the spec of the model
+     * @param predictSpec the spec of the table to predict
+     * @throws InvalidSettingsException if the columns of the model are not contained in <b>predictSpec</b>
+     */
+    public GBTRegressionPredictor(final GradientBoostedTreesModel model,
+        final TreeEnsembleModelPortObjectSpec modelSpec, final DataTableSpec predictSpec)
+        throws InvalidSettingsException {
+        super(TreeEnsemblePredictionUtil.createRowConverter(modelSpec, model, predictSpec));
+        m_model = model;
+        final FlatTreeEnsembleModel flatModel = model == null ? null : FlatTreeEnsembleModel.compile(model);
+        m_flatModel = flatModel;
+        m_filterIndices = modelSpec.calculateFilterIndices(predictSpec);
+        m_batch = flatModel == null ? null : ThreadLocal.withInitial(() -> flatModel.createBatch(1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RegressionPrediction predict(final DataRow row) {
+        if (m_flatModel == null) {
+            return super.predict(row);
+        }
+        final RecordBatch batch = m_batch.get();
+        batch.clear();
+        batch.add(new FilterColumnRow(row, m_filterIndices));
+        if (!batch.isValid(0)) {
+            // let the record based prediction deal with rows that can't be converted
+            return super.predict(row);
+        }
+        final double[] outputs = new double[1];
+        m_flatModel.predict(batch, outputs);
+        final double prediction = outputs[0];
+        return () -> prediction;
     }
 
     /* (non-Javadoc)
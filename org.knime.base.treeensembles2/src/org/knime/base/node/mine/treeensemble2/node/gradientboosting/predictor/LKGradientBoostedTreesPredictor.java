@@ -6,12 +6,19 @@
 import java.util.Arrays;
 import java.util.function.Function;
 
+import org.knime.base.data.filter.column.FilterColumnRow;
 import org.knime.base.node.mine.treeensemble2.data.PredictorRecord;
+import org.knime.base.node.mine.treeensemble2.model.FlatTreeEnsembleModel;
+import org.knime.base.node.mine.treeensemble2.model.FlatTreeEnsembleModel.RecordBatch;
 import org.knime.base.node.mine.treeensemble2.model.MultiClassGradientBoostedTreesModel;
+import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModelPortObjectSpec;
 import org.knime.base.node.mine.treeensemble2.model.TreeNodeRegression;
 import org.knime.base.node.mine.treeensemble2.node.predictor.AbstractPredictor;
 import org.knime.base.node.mine.treeensemble2.node.predictor.ClassificationPrediction;
+import org.knime.base.node.mine.treeensemble2.node.predictor.TreeEnsemblePredictionUtil;
 import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.InvalidSettingsException;
 
 /**
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
@@ -22,6 +29,13 @@ public class LKGradientBoostedTreesPredictor extends AbstractPredictor<Classific
 
     private final boolean m_calculateProbabilities;
 
+    private final FlatTreeEnsembleModel m_flatModel;
+
+    private final int[] m_filterIndices;
+
+    /** A batch of a single record per thread, reused for all rows the thread predicts. */
+    private final ThreadLocal<RecordBatch> m_batch;
+
     /**
      * Constructor for classification gbt predictors.
      *
@@ -34,6 +48,51 @@ public LKGradientBoostedTreesPredictor(final MultiClassGradientBoostedTreesModel
         super(rowConverter);
         m_model = model;
         m_calculateProbabilities = calculateProbabilities;
+        m_flatModel = null;
+        m_filterIndices = null;
+        m_batch = null;
+    }
+
+    /**
+     * Constructor for classification gbt predictors that predict rows with the {@link FlatTreeEnsembleModel compiled}
+     * form of the model.
+     *
+     * @param model the gradient boosted trees model (may be null during configure)
+     * @param calculateProbabilities indicates whether probabilities should be calculated
+     * @param modelSpec the spec of the model
+     * @param predictSpec the spec of the table to predict
+     * @throws InvalidSettingsException if the columns of the model are not contained in <b>predictSpec</b>
+     */
+    public LKGradientBoostedTreesPredictor(final MultiClassGradientBoostedTreesModel model,
+        final boolean calculateProbabilities, final TreeEnsembleModelPortObjectSpec modelSpec,
+        final DataTableSpec predictSpec) throws InvalidSettingsException {
+        super(TreeEnsemblePredictionUtil.createRowConverter(modelSpec, model, predictSpec));
+        m_model = model;
+        m_calculateProbabilities = calculateProbabilities;
+        final FlatTreeEnsembleModel flatModel = model == null ? null : FlatTreeEnsembleModel.compile(model);
+        m_flatModel = flatModel;
+        m_filterIndices = modelSpec.calculateFilterIndices(predictSpec);
+        m_batch = flatModel == null ? null : ThreadLocal.withInitial(() -> flatModel.createBatch(1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClassificationPrediction predict(final DataRow row) {
+        if (m_flatModel == null) {
+            return super.predict(row);
+        }
+        final RecordBatch batch = m_batch.get();
+        batch.clear();
+        batch.add(new FilterColumnRow(row, m_filterIndices));
+        if (!batch.isValid(0)) {
+            // let the record based prediction deal with rows that can't be converted
+            return super.predict(row);
+        }
+        final double[] logits = new double[m_flatModel.getNrOutputs()];
+        m_flatModel.predict(batch, logits);
+        return createPrediction(logits);
     }
 
     /* (non-Javadoc)
@@ -41,7 +100,10 @@ public LKGradientBoostedTreesPredictor(final MultiClassGradientBoostedTreesModel
      */
     @Override
     public ClassificationPrediction predictRecord(final PredictorRecord record) {
-        double[] logits = calculateLogits(record);
+        return createPrediction(calculateLogits(record));
+    }
+
+    private ClassificationPrediction createPrediction(final double[] logits) {
         if (m_calculateProbabilities) {
             transformToProbabilities(logits);
             return new LKGBTPrediction(argmax(logits), logits);
@@ -57,6 +57,7 @@
 import org.apache.commons.math.random.JDKRandomGenerator;
 import org.apache.commons.math.random.RandomData;
 import org.apache.commons.math.random.RandomDataImpl;
+import org.knime.base.node.mine.treeensemble2.data.TreeBinnedNumericColumnData;
 import org.knime.base.node.mine.treeensemble2.data.TreeData;
 import org.knime.base.node.mine.treeensemble2.learner.GainImpurity;
 import org.knime.base.node.mine.treeensemble2.learner.GainRatioImpurity;
@@ -147,6 +148,8 @@ public class TreeEnsembleLearnerConfiguration {
 
     private static final String KEY_ROW_SAMPLING_MODE = "rowSamplingMode";
 
+    private static final String KEY_NR_NUMERIC_BINS = "nrNumericBins";
+
     public enum MissingValueHandling {
             /**
              * Use surrogates to handle missing values
@@ -241,6 +244,14 @@ public enum ColumnSamplingMode {
     /** indicates minimum leaf size parameter is not defined. */
     public static final int MIN_CHILD_SIZE_UNDEFINED = -1;
 
+    /** indicates that numeric attributes are used as they are (no binning). */
+    public static final int NR_NUMERIC_BINS_UNDEFINED = -1;
+
+    /**
+     * Default number of bins if numeric attributes are binned.
+     */
+    public static final int DEF_NR_NUMERIC_BINS = 255;
+
     static final int DEF_MAX_LEVEL = MAX_LEVEL_INFINITE;
 
     static final RowSamplingMode DEF_ROW_SAMPLING_MODE = RowSamplingMode.Random;
@@ -336,6 +347,8 @@ public enum ColumnSamplingMode {
 
     private RowSamplingMode m_rowSamplingMode = DEF_ROW_SAMPLING_MODE;
 
+    private int m_nrNumericBins = NR_NUMERIC_BINS_UNDEFINED;
+
     /**
      * @param isRegression
      */
@@ -791,6 +804,38 @@ public void setRowSamplingMode(final RowSamplingMode mode) {
         m_rowSamplingMode = mode;
     }
 
+    /**
+     * The number of bins numeric attributes are discretized into before learning. If binning is used, the split
+     * search of numeric attributes operates on bin histograms instead of the sorted values, which reduces the memory
+     * footprint of the data and speeds up learning on large data sets at the cost of only considering split points
+     * on bin boundaries.
+     *
+     * @return the number of bins or {@link #NR_NUMERIC_BINS_UNDEFINED} if numeric attributes are not binned
+     */
+    public int getNrNumericBins() {
+        return m_nrNumericBins;
+    }
+
+    /**
+     * @return true if numeric attributes are binned, see {@link #getNrNumericBins()}
+     */
+    public boolean isUseNumericBinning() {
+        return m_nrNumericBins != NR_NUMERIC_BINS_UNDEFINED;
+    }
+
+    /**
+     * @param nrNumericBins the number of bins or {@link #NR_NUMERIC_BINS_UNDEFINED}, see {@link #getNrNumericBins()}
+     * @throws InvalidSettingsException if the number of bins is out of range
+     */
+    public void setNrNumericBins(final int nrNumericBins) throws InvalidSettingsException {
+        if (nrNumericBins != NR_NUMERIC_BINS_UNDEFINED
+            && (nrNumericBins < 2 || nrNumericBins > TreeBinnedNumericColumnData.MAX_NR_BINS)) {
+            throw new InvalidSettingsException("Number of bins for numeric attributes must be between 2 and "
+                + TreeBinnedNumericColumnData.MAX_NR_BINS + ": " + nrNumericBins);
+        }
+        m_nrNumericBins = nrNumericBins;
+    }
+
     /**
      * Saves the settings.
      *
@@ -823,6 +868,7 @@ public void save(final NodeSettingsWO settings) {
         settings.addInt(KEY_NR_HILITE_PATTERNS, m_nrHilitePatterns);
         settings.addBoolean(KEY_SAVE_TARGET_DISTRIBUTION_IN_NODES, m_saveTargetDistributionInNodes);
         settings.addString(KEY_ROW_SAMPLING_MODE, m_rowSamplingMode.name());
+        settings.addInt(KEY_NR_NUMERIC_BINS, m_nrNumericBins);
     }
 
     /**
@@ -911,6 +957,8 @@ public void loadInModel(final NodeSettingsRO settings) throws InvalidSettingsExc
 
         setRowSamplingMode(
             RowSamplingMode.valueOf(settings.getString(KEY_ROW_SAMPLING_MODE, DEF_ROW_SAMPLING_MODE.name())));
+        // added in 3.7
+        setNrNumericBins(settings.getInt(KEY_NR_NUMERIC_BINS, NR_NUMERIC_BINS_UNDEFINED));
     }
 
     /**
@@ -1109,6 +1157,12 @@ public void loadInDialog(final NodeSettingsRO settings, final DataTableSpec inSp
 
         setRowSamplingMode(
             RowSamplingMode.valueOf(settings.getString(KEY_ROW_SAMPLING_MODE, DEF_ROW_SAMPLING_MODE.name())));
+
+        try {
+            setNrNumericBins(settings.getInt(KEY_NR_NUMERIC_BINS, NR_NUMERIC_BINS_UNDEFINED));
+        } catch (InvalidSettingsException e) {
+            m_nrNumericBins = NR_NUMERIC_BINS_UNDEFINED;
+        }
     }
 
     /**
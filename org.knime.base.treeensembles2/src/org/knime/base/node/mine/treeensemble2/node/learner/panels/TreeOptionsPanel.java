@@ -63,6 +63,7 @@
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
+import org.knime.base.node.mine.treeensemble2.data.TreeBinnedNumericColumnData;
 import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration;
 import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration.SplitCriterion;
 import org.knime.core.data.DataColumnSpec;
@@ -101,6 +102,10 @@ public final class TreeOptionsPanel extends JPanel {
 
     private final JSpinner m_minChildNodeSizeSpinner;
 
+    private final JCheckBox m_nrNumericBinsChecker;
+
+    private final JSpinner m_nrNumericBinsSpinner;
+
     private final JCheckBox m_hardCodedRootColumnChecker;
 
     private final ColumnSelectionComboxBox m_hardCodedRootColumnBox;
@@ -153,6 +158,17 @@ public void itemStateChanged(final ItemEvent e) {
             }
         });
         m_minChildNodeSizeChecker.doClick();
+        m_nrNumericBinsSpinner = new JSpinner(new SpinnerNumberModel(
+            TreeEnsembleLearnerConfiguration.DEF_NR_NUMERIC_BINS, 2, TreeBinnedNumericColumnData.MAX_NR_BINS, 1));
+        m_nrNumericBinsChecker = new JCheckBox("Bin numeric attributes (number of bins)");
+        m_nrNumericBinsChecker.addItemListener(new ItemListener() {
+            @Override
+            public void itemStateChanged(final ItemEvent e) {
+                final boolean s = m_nrNumericBinsChecker.isSelected();
+                m_nrNumericBinsSpinner.setEnabled(s);
+            }
+        });
+        m_nrNumericBinsSpinner.setEnabled(false);
         m_hardCodedRootColumnBox = new ColumnSelectionComboxBox((Border)null, NominalValue.class, DoubleValue.class);
         m_hardCodedRootColumnChecker = new JCheckBox("Use fixed root attribute");
         m_hardCodedRootColumnChecker.addItemListener(new ItemListener() {
@@ -223,6 +239,14 @@ private void initPanel() {
         gbc.weightx = 1.0;
         add(m_minChildNodeSizeSpinner, gbc);
 
+        gbc.gridy += 1;
+        gbc.gridx = 0;
+        gbc.weightx = 0.0;
+        add(m_nrNumericBinsChecker, gbc);
+        gbc.gridx += 1;
+        gbc.weightx = 1.0;
+        add(m_nrNumericBinsSpinner, gbc);
+
         gbc.gridy += 1;
         gbc.gridx = 0;
         gbc.weightx = 0.0;
@@ -291,6 +315,13 @@ public void loadSettingsFrom(final DataTableSpec inSpec, final TreeEnsembleLearn
         } else {
             m_minChildNodeSizeSpinner.setValue(minChildNodeSize);
         }
+        int nrNumericBins = cfg.getNrNumericBins();
+        if ((nrNumericBins != TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED) != m_nrNumericBinsChecker
+            .isSelected()) {
+            m_nrNumericBinsChecker.doClick();
+        }
+        m_nrNumericBinsSpinner.setValue(nrNumericBins == TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED
+            ? TreeEnsembleLearnerConfiguration.DEF_NR_NUMERIC_BINS : nrNumericBins);
         String rootCol = cfg.getHardCodedRootColumn();
         if (hasOrdinaryColumnsInInput) {
             DataTableSpec attSpec = m_attributePanel.getCurrentAttributeSpec();
@@ -350,6 +381,10 @@ public void saveSettings(final TreeEnsembleLearnerConfiguration cfg) throws Inva
                 : TreeEnsembleLearnerConfiguration.MIN_CHILD_SIZE_UNDEFINED;
         cfg.setMinSizes(minNodeSize, minChildNodeSize);
 
+        int nrNumericBins = m_nrNumericBinsChecker.isSelected() ? (Integer)m_nrNumericBinsSpinner.getValue()
+            : TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED;
+        cfg.setNrNumericBins(nrNumericBins);
+
         String hardCodedRootCol =
             m_hardCodedRootColumnChecker.isSelected() ? m_hardCodedRootColumnBox.getSelectedColumn() : null;
         cfg.setHardCodedRootColumn(hardCodedRootCol);
@@ -5,10 +5,14 @@
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 import org.knime.base.data.filter.column.FilterColumnRow;
 import org.knime.base.node.mine.treeensemble2.data.PredictorRecord;
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetColumnData;
+import org.knime.base.node.mine.treeensemble2.model.AbstractTreeNode;
+import org.knime.base.node.mine.treeensemble2.model.FlatTreeEnsembleModel;
+import org.knime.base.node.mine.treeensemble2.model.FlatTreeEnsembleModel.RecordBatch;
 import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModel;
 import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModelPortObjectSpec;
 import org.knime.base.node.mine.treeensemble2.sample.row.RowSample;
@@ -33,6 +37,12 @@
 
     private final int[] m_filterIndices;
 
+    /** The compiled trees, <code>null</code> if there is no model (during configure). */
+    private final FlatTreeEnsembleModel m_flatModel;
+
+    /** A batch of a single record per thread, reused for all rows the thread predicts. */
+    private final ThreadLocal<RecordBatch> m_batch;
+
     /**
      * @param model
      * @param modelSpec
@@ -44,6 +54,9 @@ public AbstractRandomForestPredictor(final TreeEnsembleModel model, final TreeEn
         m_model = model;
         m_filterIndices = modelSpec.calculateFilterIndices(predictSpec);
         m_learnSpec = modelSpec.getLearnTableSpec();
+        final FlatTreeEnsembleModel flatModel = model == null ? null : FlatTreeEnsembleModel.compile(model);
+        m_flatModel = flatModel;
+        m_batch = flatModel == null ? null : ThreadLocal.withInitial(() -> flatModel.createBatch(1));
     }
 
     /**
@@ -67,6 +80,15 @@ public AbstractRandomForestPredictor(final TreeEnsembleModel model, final TreeEn
     @Override
     public P predict(final DataRow row) {
         FilterColumnRow filterRow = new FilterColumnRow(row, m_filterIndices);
+        if (m_flatModel != null) {
+            final RecordBatch batch = m_batch.get();
+            batch.clear();
+            batch.add(filterRow);
+            if (batch.isValid(0)) {
+                return predictLeaves(i -> m_flatModel.findLeaf(i, batch, 0), row.getKey());
+            }
+            // let the record based prediction deal with rows that can't be converted
+        }
         return predictRecord(m_model.createPredictorRecord(filterRow, m_learnSpec), row.getKey());
     }
 
@@ -75,7 +97,19 @@ public P predict(final DataRow row) {
      * @param key the row key to access out of bag information
      * @return the prediction
      */
-    protected abstract P predictRecord(PredictorRecord record, RowKey key);
+    protected P predictRecord(final PredictorRecord record, final RowKey key) {
+        return predictLeaves(i -> m_model.getTreeModel(i).findMatchingNode(record), key);
+    }
+
+    /**
+     * Creates the prediction of a row from the leaves matching the row. The leaves must be retrieved before this
+     * method returns.
+     *
+     * @param leaves returns the leaf of the tree with the given index that matches the row
+     * @param key the row key to access out of bag information
+     * @return the prediction
+     */
+    protected abstract P predictLeaves(IntFunction<AbstractTreeNode> leaves, RowKey key);
 
     private void setOutofBagFilter(final RowSample[] modelRowSamples, final TreeTargetColumnData targetColumnData) {
         if (modelRowSamples == null || targetColumnData == null) {
@@ -3,11 +3,12 @@
  */
 package org.knime.base.node.mine.treeensemble2.node.predictor.classification;
 
-import org.knime.base.node.mine.treeensemble2.data.PredictorRecord;
+import java.util.function.IntFunction;
+
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetColumnData;
+import org.knime.base.node.mine.treeensemble2.model.AbstractTreeNode;
 import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModel;
 import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModelPortObjectSpec;
-import org.knime.base.node.mine.treeensemble2.model.TreeModelClassification;
 import org.knime.base.node.mine.treeensemble2.model.TreeNodeClassification;
 import org.knime.base.node.mine.treeensemble2.node.predictor.AbstractRandomForestPredictor;
 import org.knime.base.node.mine.treeensemble2.node.predictor.RandomForestClassificationPrediction;
@@ -56,26 +57,27 @@ public RandomForestClassificationPredictor(final TreeEnsembleModel model,
     }
 
     /* (non-Javadoc)
-     * @see org.knime.base.node.mine.treeensemble2.node.predictor.AbstractRandomForestPredictor#predictRecord(org.knime.base.node.mine.treeensemble2.data.PredictorRecord, org.knime.core.data.RowKey)
+     * @see org.knime.base.node.mine.treeensemble2.node.predictor.AbstractRandomForestPredictor#predictLeaves(java.util.function.IntFunction, org.knime.core.data.RowKey)
      */
     @Override
-    protected RandomForestClassificationPrediction predictRecord(final PredictorRecord record, final RowKey key) {
-        return new RFClassificationPrediction(record, key, hasOutOfBagFilter());
+    protected RandomForestClassificationPrediction predictLeaves(final IntFunction<AbstractTreeNode> leaves,
+        final RowKey key) {
+        return new RFClassificationPrediction(leaves, key, hasOutOfBagFilter());
     }
 
     private class RFClassificationPrediction implements RandomForestClassificationPrediction {
 
         private final Voting m_voting;
 
-        RFClassificationPrediction(final PredictorRecord record, final RowKey key, final boolean hasOutOfBagFilter) {
+        RFClassificationPrediction(final IntFunction<AbstractTreeNode> leaves, final RowKey key,
+            final boolean hasOutOfBagFilter) {
             m_voting = m_votingFactory.createVoting();
             final int nrModels = m_model.getNrModels();
             for (int i = 0; i < nrModels; i++) {
                 if (hasOutOfBagFilter && isRowPartOfTrainingData(key, i)) {
                     // ignore, row was used to train the model
                 } else {
-                    TreeModelClassification m = m_model.getTreeModelClassification(i);
-                    TreeNodeClassification match = m.findMatchingNode(record);
+                    TreeNodeClassification match = (TreeNodeClassification)leaves.apply(i);
                     m_voting.addVote(match);
                 }
             }
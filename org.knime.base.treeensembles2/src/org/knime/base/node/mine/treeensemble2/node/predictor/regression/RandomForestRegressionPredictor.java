@@ -3,13 +3,14 @@
  */
 package org.knime.base.node.mine.treeensemble2.node.predictor.regression;
 
+import java.util.function.IntFunction;
+
 import org.apache.commons.math.stat.descriptive.moment.Mean;
 import org.apache.commons.math.stat.descriptive.moment.Variance;
-import org.knime.base.node.mine.treeensemble2.data.PredictorRecord;
 import org.knime.base.node.mine.treeensemble2.data.TreeTargetColumnData;
+import org.knime.base.node.mine.treeensemble2.model.AbstractTreeNode;
 import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModel;
 import org.knime.base.node.mine.treeensemble2.model.TreeEnsembleModelPortObjectSpec;
-import org.knime.base.node.mine.treeensemble2.model.TreeModelRegression;
 import org.knime.base.node.mine.treeensemble2.model.TreeNodeRegression;
 import org.knime.base.node.mine.treeensemble2.node.predictor.AbstractRandomForestPredictor;
 import org.knime.base.node.mine.treeensemble2.node.predictor.RandomForestRegressionPrediction;
@@ -51,11 +52,12 @@ public RandomForestRegressionPredictor(final TreeEnsembleModel model,
     }
 
     /* (non-Javadoc)
-     * @see org.knime.base.node.mine.treeensemble2.node.predictor.AbstractRandomForestPredictor#predictRecord(org.knime.base.node.mine.treeensemble2.data.PredictorRecord, org.knime.core.data.RowKey)
+     * @see org.knime.base.node.mine.treeensemble2.node.predictor.AbstractRandomForestPredictor#predictLeaves(java.util.function.IntFunction, org.knime.core.data.RowKey)
      */
     @Override
-    protected RandomForestRegressionPrediction predictRecord(final PredictorRecord record, final RowKey key) {
-        return new RFRegressionPrediction(record, key, hasOutOfBagFilter());
+    protected RandomForestRegressionPrediction predictLeaves(final IntFunction<AbstractTreeNode> leaves,
+        final RowKey key) {
+        return new RFRegressionPrediction(leaves, key, hasOutOfBagFilter());
     }
 
     private class RFRegressionPrediction implements RandomForestRegressionPrediction {
@@ -69,7 +71,8 @@ private class RFRegressionPrediction implements RandomForestRegressionPrediction
         /**
          *
          */
-        RFRegressionPrediction(final PredictorRecord record, final RowKey key, final boolean hasOutOfBagFilter) {
+        RFRegressionPrediction(final IntFunction<AbstractTreeNode> leaves, final RowKey key,
+            final boolean hasOutOfBagFilter) {
             Mean mean = new Mean();
             Variance variance = new Variance();
             final int nrModels = m_model.getNrModels();
@@ -77,8 +80,7 @@ private class RFRegressionPrediction implements RandomForestRegressionPrediction
                 if (hasOutOfBagFilter && isRowPartOfTrainingData(key, i)) {
                     // ignore, row was used to train the model
                 } else {
-                    TreeModelRegression m = m_model.getTreeModelRegression(i);
-                    TreeNodeRegression match = m.findMatchingNode(record);
+                    TreeNodeRegression match = (TreeNodeRegression)leaves.apply(i);
                     double nodeMean = match.getMean();
                     mean.increment(nodeMean);
                     variance.increment(nodeMean);
@@ -75,6 +75,7 @@
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
+import org.knime.base.node.mine.treeensemble2.data.TreeBinnedNumericColumnData;
 import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration;
 import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration.ColumnSamplingMode;
 import org.knime.base.node.mine.treeensemble2.node.learner.TreeEnsembleLearnerConfiguration.SplitCriterion;
@@ -147,6 +148,10 @@ public final class OptionsPanel extends JPanel {
 
     private final JSpinner m_minChildNodeSizeSpinner;
 
+    private final JCheckBox m_nrNumericBinsChecker;
+
+    private final JSpinner m_nrNumericBinsSpinner;
+
     // Forest Options
 
     private final JCheckBox m_seedChecker;
@@ -243,6 +248,18 @@ public void itemStateChanged(final ItemEvent e) {
         });
         m_minChildNodeSizeChecker.doClick();
 
+        m_nrNumericBinsSpinner = new JSpinner(new SpinnerNumberModel(
+            TreeEnsembleLearnerConfiguration.DEF_NR_NUMERIC_BINS, 2, TreeBinnedNumericColumnData.MAX_NR_BINS, 1));
+        m_nrNumericBinsChecker = new JCheckBox("Bin numeric attributes (number of bins)");
+        m_nrNumericBinsChecker.addItemListener(new ItemListener() {
+            @Override
+            public void itemStateChanged(final ItemEvent e) {
+                final boolean s = m_nrNumericBinsChecker.isSelected();
+                m_nrNumericBinsSpinner.setEnabled(s);
+            }
+        });
+        m_nrNumericBinsSpinner.setEnabled(false);
+
         // Forest Options
 
         m_nrModelsSpinner = new JSpinner(new SpinnerNumberModel(20, 1, Integer.MAX_VALUE, 2));
@@ -401,6 +418,14 @@ private void initPanel() {
         gbc.weightx = 1.0;
         add(m_minChildNodeSizeSpinner, gbc);
 
+        gbc.gridy += 1;
+        gbc.gridx = 0;
+        gbc.weightx = 0.0;
+        add(m_nrNumericBinsChecker, gbc);
+        gbc.gridx += 1;
+        gbc.weightx = 1.0;
+        add(m_nrNumericBinsSpinner, gbc);
+
         // Forest Options
 
         gbc.gridy += 1;
@@ -542,6 +567,14 @@ public void loadSettingsFrom(final DataTableSpec inSpec, final TreeEnsembleLearn
             m_minChildNodeSizeSpinner.setValue(minChildNodeSize);
         }
 
+        int nrNumericBins = cfg.getNrNumericBins();
+        if ((nrNumericBins != TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED) != m_nrNumericBinsChecker
+            .isSelected()) {
+            m_nrNumericBinsChecker.doClick();
+        }
+        m_nrNumericBinsSpinner.setValue(nrNumericBins == TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED
+            ? TreeEnsembleLearnerConfiguration.DEF_NR_NUMERIC_BINS : nrNumericBins);
+
         // Forest Options
 
         m_nrModelsSpinner.setValue(cfg.getNrModels());
@@ -595,6 +628,10 @@ public void saveSettings(final TreeEnsembleLearnerConfiguration cfg) throws Inva
             : TreeEnsembleLearnerConfiguration.MIN_CHILD_SIZE_UNDEFINED;
         cfg.setMinSizes(TreeEnsembleLearnerConfiguration.MIN_NODE_SIZE_UNDEFINED, minChildNodeSize);
 
+        int nrNumericBins = m_nrNumericBinsChecker.isSelected() ? (Integer)m_nrNumericBinsSpinner.getValue()
+            : TreeEnsembleLearnerConfiguration.NR_NUMERIC_BINS_UNDEFINED;
+        cfg.setNrNumericBins(nrNumericBins);
+
         cfg.setHardCodedRootColumn(null);
 
         // Forest Options
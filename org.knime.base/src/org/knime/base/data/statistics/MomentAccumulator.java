@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.statistics;
+
+/**
+ * Accumulates the first four central moments of a sequence of double values in a single pass. Accumulators of
+ * disjoint parts of the data can be {@link #merge(MomentAccumulator) merged}, which allows to compute the moments of
+ * a table in parallel. Values are accumulated with the same update formulas as the Apache Commons Math moment
+ * statistics, the results of {@link #getVariance()}, {@link #getSkewness()} and {@link #getKurtosis()} are defined as
+ * the results of the bias corrected {@code Variance}, {@code Skewness} and {@code Kurtosis} statistics.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class MomentAccumulator {
+
+    /** Variances below this value are treated as zero when computing skewness and kurtosis (as in Commons Math). */
+    private static final double VARIANCE_EPSILON = 10E-20;
+
+    private long m_n;
+
+    private double m_m1;
+
+    private double m_m2;
+
+    private double m_m3;
+
+    private double m_m4;
+
+    /**
+     * Adds a value.
+     *
+     * @param d the value to add
+     */
+    public void add(final double d) {
+        final double prevM2 = m_m2;
+        final double prevM3 = m_m3;
+        m_n++;
+        final double n = m_n;
+        final double dev = d - m_m1;
+        final double nDev = dev / n;
+        final double nDevSq = nDev * nDev;
+        m_m1 += nDev;
+        m_m2 += (n - 1) * dev * nDev;
+        m_m3 = m_m3 - 3.0 * nDev * prevM2 + (n - 1) * (n - 2) * nDevSq * dev;
+        m_m4 = m_m4 - 4.0 * nDev * prevM3 + 6.0 * nDevSq * prevM2
+            + ((n * n) - 3 * (n - 1)) * (nDevSq * nDevSq * (n - 1) * n);
+    }
+
+    /**
+     * Merges the moments of <b>other</b> into this accumulator. The result is the same (up to rounding) as if all
+     * values added to <b>other</b> had been added to this accumulator.
+     *
+     * @param other the accumulator to merge, not modified
+     */
+    public void merge(final MomentAccumulator other) {
+        if (other.m_n == 0) {
+            return;
+        }
+        if (m_n == 0) {
+            m_n = other.m_n;
+            m_m1 = other.m_m1;
+            m_m2 = other.m_m2;
+            m_m3 = other.m_m3;
+            m_m4 = other.m_m4;
+            return;
+        }
+        final double na = m_n;
+        final double nb = other.m_n;
+        final double n = na + nb;
+        final double delta = other.m_m1 - m_m1;
+        final double delta2 = delta * delta;
+        final double m2 = m_m2 + other.m_m2 + delta2 * na * nb / n;
+        final double m3 = m_m3 + other.m_m3 + delta2 * delta * na * nb * (na - nb) / (n * n)
+            + 3.0 * delta * (na * other.m_m2 - nb * m_m2) / n;
+        final double m4 = m_m4 + other.m_m4 + delta2 * delta2 * na * nb * (na * na - na * nb + nb * nb) / (n * n * n)
+            + 6.0 * delta2 * (na * na * other.m_m2 + nb * nb * m_m2) / (n * n)
+            + 4.0 * delta * (na * other.m_m3 - nb * m_m3) / n;
+        m_m1 += delta * nb / n;
+        m_m2 = m2;
+        m_m3 = m3;
+        m_m4 = m4;
+        m_n += other.m_n;
+    }
+
+    /**
+     * @return the number of added values
+     */
+    public long getN() {
+        return m_n;
+    }
+
+    /**
+     * @return the mean or {@link Double#NaN} if no value was added
+     */
+    public double getMean() {
+        return m_n == 0 ? Double.NaN : m_m1;
+    }
+
+    /**
+     * @return the sum of the added values, {@code 0} if no value was added
+     */
+    public double getSum() {
+        return m_n == 0 ? 0.0 : m_m1 * m_n;
+    }
+
+    /**
+     * @return the bias corrected sample variance, {@code 0} for a single value and {@link Double#NaN} if no value was
+     *         added
+     */
+    public double getVariance() {
+        if (m_n == 0) {
+            return Double.NaN;
+        }
+        return m_n == 1 ? 0.0 : m_m2 / (m_n - 1);
+    }
+
+    /**
+     * @return the bias corrected skewness or {@link Double#NaN} if less than three values were added
+     */
+    public double getSkewness() {
+        if (m_n < 3) {
+            return Double.NaN;
+        }
+        final double variance = m_m2 / (m_n - 1);
+        if (variance < VARIANCE_EPSILON) {
+            return 0.0;
+        }
+        final double n = m_n;
+        return (n * m_m3) / ((n - 1) * (n - 2) * Math.sqrt(variance) * variance);
+    }
+
+    /**
+     * @return the bias corrected excess kurtosis or {@link Double#NaN} if less than four values were added
+     */
+    public double getKurtosis() {
+        if (m_n < 4) {
+            return Double.NaN;
+        }
+        final double variance = m_m2 / (m_n - 1);
+        if (variance < VARIANCE_EPSILON) {
+            return 0.0;
+        }
+        final double n = m_n;
+        return (n * (n + 1) * m_m4 - 3 * m_m2 * m_m2 * (n - 1))
+            / ((n - 1) * (n - 2) * (n - 3) * variance * variance);
+    }
+}
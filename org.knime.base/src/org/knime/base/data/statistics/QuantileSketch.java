@@ -0,0 +1,232 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A mergeable sketch that approximates quantiles of a sequence of double values in a single pass with bounded
+ * memory. The values are kept in a hierarchy of compactors: level {@code i} holds values that represent
+ * {@code 2^i} original values each. Whenever a level exceeds its capacity, it is sorted and every other value is
+ * promoted to the next level. Compaction is deterministic, so the same values added (and merged) in the same order
+ * always give the same result.
+ * <p>
+ * As long as no compaction took place (i.e. fewer values than the capacity were added) the quantiles are exact. The
+ * rank error of the approximation decreases with the capacity and is typically well below one percent for the
+ * default capacity. Values are ordered as by {@link Double#compare(double, double)}, i.e. {@link Double#NaN} is
+ * larger than all other values.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class QuantileSketch {
+
+    /** The default number of values per level. */
+    public static final int DEFAULT_CAPACITY = 2048;
+
+    private final int m_capacity;
+
+    private final List<double[]> m_levels = new ArrayList<>();
+
+    private final List<Integer> m_sizes = new ArrayList<>();
+
+    /** Per level toggle which half of the sorted values is promoted, alternating avoids a systematic bias. */
+    private final List<Boolean> m_oddOffsets = new ArrayList<>();
+
+    private long m_n;
+
+    /**
+     * Creates a sketch with the {@link #DEFAULT_CAPACITY default capacity}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of values per level, must be at least 2
+     */
+    public QuantileSketch(final int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("The capacity must be at least 2 but was " + capacity + ".");
+        }
+        m_capacity = capacity;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param d the value to add
+     */
+    public void add(final double d) {
+        append(0, d);
+        m_n++;
+    }
+
+    /**
+     * Merges the values summarized by <b>other</b> into this sketch.
+     *
+     * @param other the sketch to merge, not modified
+     * @throws IllegalArgumentException if the capacities of the sketches differ
+     */
+    public void merge(final QuantileSketch other) {
+        if (other.m_capacity != m_capacity) {
+            throw new IllegalArgumentException("Can't merge sketches with different capacities (" + m_capacity
+                + " vs. " + other.m_capacity + ").");
+        }
+        for (int level = 0; level < other.m_levels.size(); level++) {
+            final double[] values = other.m_levels.get(level);
+            final int size = other.m_sizes.get(level);
+            for (int i = 0; i < size; i++) {
+                append(level, values[i]);
+            }
+        }
+        m_n += other.m_n;
+    }
+
+    /**
+     * @return the number of values summarized by this sketch
+     */
+    public long getN() {
+        return m_n;
+    }
+
+    /**
+     * Returns the (approximate) quantile for the given probability. The quantile is the mean of the values at the
+     * positions {@code floor(p * (n - 1))} and {@code ceil(p * (n - 1))} of the sorted values, in particular the
+     * median ({@code p = 0.5}) is the mean of the two middle values for an even number of values.
+     *
+     * @param p the probability, in [0, 1]
+     * @return the quantile or {@link Double#NaN} if the sketch is empty
+     */
+    public double getQuantile(final double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("The probability must be in [0, 1] but was " + p + ".");
+        }
+        if (m_n == 0) {
+            return Double.NaN;
+        }
+        // collect all values with their weights
+        int total = 0;
+        for (int size : m_sizes) {
+            total += size;
+        }
+        final double[] values = new double[total];
+        final long[] weights = new long[total];
+        int pos = 0;
+        for (int level = 0; level < m_levels.size(); level++) {
+            final int size = m_sizes.get(level);
+            System.arraycopy(m_levels.get(level), 0, values, pos, size);
+            Arrays.fill(weights, pos, pos + size, 1L << level);
+            pos += size;
+        }
+        final Integer[] order = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        // compaction preserves the total weight, so the weights sum up to m_n
+        final double rank = p * (m_n - 1);
+        final long lower = (long)Math.floor(rank);
+        final long upper = (long)Math.ceil(rank);
+        double lowerValue = Double.NaN;
+        double upperValue = Double.NaN;
+        boolean lowerFound = false;
+        long cumulated = 0;
+        for (int i = 0; i < total; i++) {
+            final double v = values[order[i]];
+            cumulated += weights[order[i]];
+            if (!lowerFound && cumulated > lower) {
+                lowerValue = v;
+                lowerFound = true;
+            }
+            if (cumulated > upper) {
+                upperValue = v;
+                break;
+            }
+        }
+        return (lowerValue + upperValue) / 2;
+    }
+
+    private void append(final int level, final double d) {
+        while (m_levels.size() <= level) {
+            m_levels.add(new double[m_capacity]);
+            m_sizes.add(0);
+            m_oddOffsets.add(Boolean.FALSE);
+        }
+        final double[] values = m_levels.get(level);
+        final int size = m_sizes.get(level);
+        values[size] = d;
+        if (size + 1 == m_capacity) {
+            compact(level);
+        } else {
+            m_sizes.set(level, size + 1);
+        }
+    }
+
+    /** Sorts the full level and promotes every other value to the next level. */
+    private void compact(final int level) {
+        final double[] values = m_levels.get(level);
+        Arrays.sort(values);
+        final boolean odd = m_oddOffsets.get(level);
+        m_oddOffsets.set(level, !odd);
+        m_sizes.set(level, 0);
+        // with an odd capacity the largest value stays on this level to keep the weights exact
+        final int nrPairs = m_capacity / 2;
+        final double remainder = m_capacity % 2 == 1 ? values[m_capacity - 1] : Double.NaN;
+        for (int i = 0; i < nrPairs; i++) {
+            append(level + 1, values[2 * i + (odd ? 1 : 0)]);
+        }
+        if (m_capacity % 2 == 1) {
+            m_levels.get(level)[0] = remainder;
+            m_sizes.set(level, 1);
+        }
+    }
+}
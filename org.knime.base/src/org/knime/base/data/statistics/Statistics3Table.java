@@ -47,10 +47,12 @@
  */
 package org.knime.base.data.statistics;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -58,12 +60,11 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import org.apache.commons.math.stat.descriptive.moment.Kurtosis;
-import org.apache.commons.math.stat.descriptive.moment.Mean;
-import org.apache.commons.math.stat.descriptive.moment.Skewness;
-import org.apache.commons.math.stat.descriptive.moment.Variance;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnDomainCreator;
 import org.knime.core.data.DataColumnSpec;
@@ -88,9 +89,11 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.util.MutableInteger;
+import org.knime.core.util.ThreadPool;
 
 /**
  * New statistic table utility class to compute statistical moments, such as mean, variance, column sum, count missing
@@ -129,6 +132,9 @@ public class Statistics3Table {
                 negInfCreator.createSpec(), medianCreator.createSpec(), rowCountCreator.createSpec());
     }
 
+    /** The number of rows whose statistics are computed by a single task if the computation is parallelized. */
+    private static final int CHUNK_SIZE = 4096;
+
     /** Used to cache the media for each column. */
     private final double[] m_median;
 
@@ -212,6 +218,28 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
             table.getDataTableSpec(), nominalValueColumns));
     }
 
+    /**
+     * Create new statistic table from an existing one. This constructor calculates all values for all applicable
+     * columns, see
+     * {@link #Statistics3Table(BufferedDataTable, boolean, boolean, boolean, int, List, ExecutionContext, int...)}.
+     *
+     * @param table table to be wrapped
+     * @param computeMedian if the median has to be computed
+     * @param exactMedian if the median is computed exactly by sorting the table, otherwise it is approximated
+     * @param parallel if chunks of rows are processed in parallel, the moments can then differ in the last digits
+     * @param numNomValuesOutput number of possible values in output table
+     * @param nominalValueColumns columns used to determine all poss. values
+     * @param exec an object to check with if user canceled operation
+     * @throws CanceledExecutionException if user canceled
+     * @since 3.7
+     */
+    public Statistics3Table(final BufferedDataTable table, final boolean computeMedian, final boolean exactMedian,
+        final boolean parallel, final int numNomValuesOutput, final List<String> nominalValueColumns,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        this(table, computeMedian, exactMedian, parallel, numNomValuesOutput, nominalValueColumns, exec,
+            allApplicableColumns(table.getDataTableSpec(), nominalValueColumns));
+    }
+
     /**
      * Finds those columns that have applicable columns.
      *
@@ -272,19 +300,39 @@ private static int[] allColumns(final int numberOfColumns) {
     public Statistics3Table(final BufferedDataTable table, final boolean computeMedian, final int numNomValuesOutput,
         final List<String> nominalValueColumns, final ExecutionContext exec, final int... selectedColumnIndices)
         throws CanceledExecutionException {
+        this(table, computeMedian, true, false, numNomValuesOutput, nominalValueColumns, exec, selectedColumnIndices);
+    }
+
+    /**
+     * Create new statistic table from an existing one. This constructor calculates all values. The moments, counts and
+     * extreme values are computed in a single pass over the table. By default the values are added row by row, which
+     * gives the same results as the Commons Math moment statistics. If <b>parallel</b> is set, chunks of rows are
+     * processed in parallel and their statistics are merged in the order of the rows; the merged moments can differ
+     * in the last digits. The exact median needs a second pass that sorts the numeric columns, an approximate median
+     * is estimated with a {@link QuantileSketch} during the first pass. User can cancel action if an execution monitor
+     * is passed.
+     *
+     * @param table table to be wrapped
+     * @param computeMedian if the median has to be computed
+     * @param exactMedian if the median is computed exactly by sorting the table, otherwise it is approximated (only
+     *            used if <b>computeMedian</b> is <code>true</code>)
+     * @param parallel if chunks of rows are processed in parallel
+     * @param numNomValuesOutput number of possible values in output table
+     * @param nominalValueColumns columns used to determine all poss. values
+     * @param exec an object to check with if user canceled operation
+     * @param selectedColumnIndices The indices of columns to compute the statistics.
+     * @throws CanceledExecutionException if user canceled
+     * @since 3.7
+     */
+    public Statistics3Table(final BufferedDataTable table, final boolean computeMedian, final boolean exactMedian,
+        final boolean parallel, final int numNomValuesOutput, final List<String> nominalValueColumns,
+        final ExecutionContext exec, final int... selectedColumnIndices) throws CanceledExecutionException {
         final int[] colIndices = check(selectedColumnIndices, table.getSpec(), nominalValueColumns);
         int nrCols = table.getDataTableSpec().getNumColumns();
         m_spec = table.getDataTableSpec();
         // initialize cache arrays
         m_meanValues = new double[nrCols];
-        //Using Mean and Variance from commons math. Bug: 4286
-        Mean[] means = new Mean[nrCols];
         m_varianceValues = new double[nrCols];
-        Variance[] variances = new Variance[nrCols];
-        for (int i = nrCols; i-- > 0;) {
-            means[i] = new Mean();
-            variances[i] = new Variance(true);
-        }
         m_sum = new double[nrCols];
         m_minValues = new double[nrCols];
         m_maxValues = new double[nrCols];
@@ -302,21 +350,11 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
             m_nominalValues.add(null);
         }
         m_rowCount = table.getRowCount();
-        //Using Skewness and Kurtosis from commons math.
         m_skewness = new double[nrCols];
         m_kurtosis = new double[nrCols];
-        final Skewness[] skewness = new Skewness[nrCols];
-        final Kurtosis[] kurtosis = new Kurtosis[nrCols];
-        for (int i = nrCols; i-- > 0;) {
-            skewness[i] = new Skewness();
-            kurtosis[i] = new Kurtosis();
-        }
 
         Set<String> nominalValueColumnsSet = new HashSet<String>(nominalValueColumns);
 
-        // the number of non-missing cells in each column
-        int[] validCount = new int[nrCols];
-        double[] sumsquare = new double[nrCols];
         for (int i = 0; i < nrCols; i++) {
             m_missingValueCnt[i] = 0;
             m_meanValues[i] = Double.NaN;
@@ -329,8 +367,18 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
             m_skewness[i] = Double.NaN;
             m_kurtosis[i] = Double.NaN;
             m_median[i] = Double.NaN;
-            sumsquare[i] = 0.0;
-            validCount[i] = 0;
+        }
+
+        final boolean approximateMedian = computeMedian && !exactMedian;
+        // comparators of the numeric columns, null for all other columns
+        final DataValueComparator[] comparators = new DataValueComparator[nrCols];
+        final boolean[] isNominal = new boolean[nrCols];
+        for (int c : colIndices) {
+            final DataColumnSpec cspec = m_spec.getColumnSpec(c);
+            if (cspec.getType().isCompatible(DoubleValue.class)) {
+                comparators[c] = cspec.getType().getComparator();
+            }
+            isNominal[c] = nominalValueColumnsSet.contains(cspec.getName());
         }
 
         // used to store warnings
@@ -345,75 +393,90 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
 
         final int rowCnt = table.getRowCount();
         double diffProgress = rowCnt;
-        if (computeMedian) {
+        if (computeMedian && exactMedian) {
             for (int i : colIndices) {
                 if (m_spec.getColumnSpec(i).getType().isCompatible(DoubleValue.class)) {
                     diffProgress += rowCnt;
                 }
             }
         }
-        int rowIdx = 0;
-        for (RowIterator rowIt = table.iterator(); rowIt.hasNext(); rowIdx++) {
-            DataRow row = rowIt.next();
-            exec.setProgress(rowIdx / diffProgress, "Calculating statistics, processing row " + (rowIdx + 1) + " (\""
-                + row.getKey() + "\")");
-
-            onStatisticComputation(row);
 
-            for (int c : colIndices) {
+        // If parallel, the numeric statistics of full chunks are computed in the thread pool while this thread reads
+        // the table and counts the nominal values. The chunk results are merged in the order of the rows, so the
+        // result does not depend on the scheduling of the tasks.
+        final ColumnStatistics[] stats = new ColumnStatistics[nrCols];
+        for (int c : colIndices) {
+            stats[c] = new ColumnStatistics(approximateMedian && comparators[c] != null);
+        }
+        final ThreadPool pool = parallel ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool() : null;
+        final int maxPendingChunks = parallel ? 2 * Math.max(1, pool.getMaxThreads()) : 0;
+        final Deque<Future<ColumnStatistics[]>> pendingChunks = new ArrayDeque<Future<ColumnStatistics[]>>();
+        try {
+            List<DataRow> chunk = parallel ? new ArrayList<DataRow>(Math.min(CHUNK_SIZE, rowCnt)) : null;
+            int rowIdx = 0;
+            for (RowIterator rowIt = table.iterator(); rowIt.hasNext(); rowIdx++) {
                 exec.checkCanceled();
-                DataColumnSpec cspec = m_spec.getColumnSpec(c);
-                final DataCell cell = row.getCell(c);
-                if (!(cell.isMissing())) {
-                    // for double columns we calc the sum (for the mean calc)
-                    if (cspec.getType().isCompatible(DoubleValue.class)) {
-                        double d = ((DoubleValue)cell).getDoubleValue();
-                        means[c].increment(d);
-                        variances[c].increment(d);
-                        updateMinMax(c, cell, cspec.getType().getComparator());
-                        if (d == Double.POSITIVE_INFINITY) {
-                            m_posInfinityValueCnt[c]++;
-                        }
-                        if (d == Double.NEGATIVE_INFINITY) {
-                            m_negInfinityValueCnt[c]++;
-                        }
-                        if (Double.isNaN(d)) {
-                            m_nanValueCnt[c]++;
-                        }
-                        skewness[c].increment(d);
-                        kurtosis[c].increment(d);
-                        sumsquare[c] += d * d;
-                        validCount[c]++;
-                    }
-                } else {
-                    m_missingValueCnt[c]++;
-                }
-                if (nominalValueColumnsSet.contains(cspec.getName())) {
-                    if (nominalValues.get(c) == null || (nominalValues.get(c) != null
-                    // list is only empty, when the number of poss.
-                    // values exceeded the maximum
-                        && nominalValues.get(c).size() > 0)) {
-                        if (nominalValues.get(c) == null) {
-                            nominalValues.set(c, new LinkedHashMap<DataCell, MutableInteger>());
-                        }
-                        MutableInteger cnt = nominalValues.get(c).get(cell);
-                        if (cnt == null) {
-                            nominalValues.get(c).put(cell, new MutableInteger(1));
-                        } else {
-                            cnt.inc();
-                        }
-                        if (nominalValues.get(c).size() == numNomValuesOutput + 1) {
-                            if (warn.length() == 0) {
-                                warn.append("Maximum number of unique possible " + "values (" + numNomValuesOutput
-                                    + ") exceeds for column(s): ");
+                DataRow row = rowIt.next();
+                exec.setProgress(rowIdx / diffProgress, "Calculating statistics, processing row " + (rowIdx + 1)
+                    + " (\"" + row.getKey() + "\")");
+
+                onStatisticComputation(row);
+
+                for (int c : colIndices) {
+                    if (isNominal[c]) {
+                        final DataCell cell = row.getCell(c);
+                        if (nominalValues.get(c) == null || (nominalValues.get(c) != null
+                        // list is only empty, when the number of poss.
+                        // values exceeded the maximum
+                            && nominalValues.get(c).size() > 0)) {
+                            if (nominalValues.get(c) == null) {
+                                nominalValues.set(c, new LinkedHashMap<DataCell, MutableInteger>());
+                            }
+                            MutableInteger cnt = nominalValues.get(c).get(cell);
+                            if (cnt == null) {
+                                nominalValues.get(c).put(cell, new MutableInteger(1));
                             } else {
-                                warn.append(",");
+                                cnt.inc();
+                            }
+                            if (nominalValues.get(c).size() == numNomValuesOutput + 1) {
+                                if (warn.length() == 0) {
+                                    warn.append("Maximum number of unique possible " + "values ("
+                                        + numNomValuesOutput + ") exceeds for column(s): ");
+                                } else {
+                                    warn.append(",");
+                                }
+                                warn.append("\"" + m_spec.getColumnSpec(c).getName() + "\"");
+                                nominalValues.get(c).clear();
                             }
-                            warn.append("\"" + m_spec.getColumnSpec(c).getName() + "\"");
-                            nominalValues.get(c).clear();
                         }
                     }
                 }
+                if (!parallel) {
+                    for (int c : colIndices) {
+                        stats[c].add(row.getCell(c), comparators[c]);
+                    }
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    pendingChunks.add(pool.enqueue(createChunkTask(chunk, colIndices, comparators, approximateMedian)));
+                    chunk = new ArrayList<DataRow>(CHUNK_SIZE);
+                    while (pendingChunks.size() >= maxPendingChunks) {
+                        merge(stats, waitFor(pendingChunks.poll()), colIndices, comparators);
+                    }
+                }
+            }
+            if (parallel) {
+                // the remaining rows are processed by this thread
+                final ColumnStatistics[] lastChunk = computeChunk(chunk, colIndices, comparators, approximateMedian);
+                while (!pendingChunks.isEmpty()) {
+                    merge(stats, waitFor(pendingChunks.poll()), colIndices, comparators);
+                }
+                merge(stats, lastChunk, colIndices, comparators);
+            }
+        } finally {
+            for (Future<ColumnStatistics[]> future : pendingChunks) {
+                future.cancel(true);
             }
         }
         //Table is empty, but we should provide the nominal values an empty map.
@@ -433,9 +496,20 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
         }
 
         for (int j = 0; j < nrCols; j++) {
+            final ColumnStatistics s = stats[j];
+            if (s != null) {
+                m_missingValueCnt[j] = s.m_missingCnt;
+                m_nanValueCnt[j] = s.m_nanCnt;
+                m_posInfinityValueCnt[j] = s.m_posInfinityCnt;
+                m_negInfinityValueCnt[j] = s.m_negInfinityCnt;
+                m_minCells[j] = s.m_min;
+                m_maxCells[j] = s.m_max;
+                m_minNonInfValues[j] = s.m_minNonInf;
+                m_maxNonInfValues[j] = s.m_maxNonInf;
+            }
             // in case we got an empty table or columns that contain only
             // missing values
-            if (validCount[j] == 0) {
+            if (s == null || s.m_moments.getN() == 0) {
                 m_minValues[j] = Double.NaN;
                 m_maxValues[j] = Double.NaN;
                 m_meanValues[j] = Double.NaN;
@@ -446,11 +520,11 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
             } else {
                 m_minValues[j] = m_minCells[j].isMissing() ? Double.NaN : ((DoubleValue) m_minCells[j]).getDoubleValue();
                 m_maxValues[j] = m_maxCells[j].isMissing() ? Double.NaN : ((DoubleValue) m_maxCells[j]).getDoubleValue();
-                m_meanValues[j] = means[j].getResult();
-                m_varianceValues[j] = variances[j].getResult();
-                m_sum[j] = means[j].getResult() * means[j].getN();
-                m_skewness[j] = skewness[j].getResult();
-                m_kurtosis[j] = kurtosis[j].getResult();
+                m_meanValues[j] = s.m_moments.getMean();
+                m_varianceValues[j] = s.m_moments.getVariance();
+                m_sum[j] = s.m_moments.getSum();
+                m_skewness[j] = s.m_moments.getSkewness();
+                m_kurtosis[j] = s.m_moments.getKurtosis();
                 // unreported bug fix: in cases in which a column contains
                 // almost only one value (for instance 1.0) but one single
                 // 'outlier' whose value is, for instance 0.9999998, we get
@@ -486,7 +560,7 @@ public int compare(final Entry<DataCell, MutableInteger> o1, final Entry<DataCel
         }
 
         // compute median values if desired
-        if (computeMedian) {
+        if (computeMedian && exactMedian) {
             final int[] filteredIndices = filter(table.getSpec(), colIndices);
             final MedianTable medianTable = new MedianTable(table, filteredIndices);
             medianTable.setInMemory(table.getRowCount() < Runtime.getRuntime().freeMemory() / Double.SIZE / 2);
@@ -494,6 +568,12 @@ public int compare(final Entry<DataCell, MutableInteger> o1, final Entry<DataCel
             for (int i = 0; i < filteredIndices.length; ++i) {
                 m_median[filteredIndices[i]] = medianValues[i];
             }
+        } else if (approximateMedian) {
+            for (int c : colIndices) {
+                if (comparators[c] != null) {
+                    m_median[c] = stats[c].m_sketch.getQuantile(0.5);
+                }
+            }
         }
     }
 
@@ -1324,36 +1404,214 @@ public static DataTableSpec getStatisticsSpecification() {
     }
 
 
-    /** Updates the min and max value for an respective column. This method
-     * does nothing if the min and max values don't need to be stored, e.g.
-     * the column at hand contains string values.
-     * @param col The column of interest.
-     * @param cell The new value to check.
+    /**
+     * Creates a task that computes the statistics of a chunk of rows.
+     */
+    private static Callable<ColumnStatistics[]> createChunkTask(final List<DataRow> rows, final int[] colIndices,
+        final DataValueComparator[] comparators, final boolean approximateMedian) {
+        return new Callable<ColumnStatistics[]>() {
+            @Override
+            public ColumnStatistics[] call() {
+                return computeChunk(rows, colIndices, comparators, approximateMedian);
+            }
+        };
+    }
+
+    /**
+     * Computes the statistics of the selected columns for a chunk of rows.
+     *
+     * @return the statistics indexed by column, <code>null</code> for columns that are not selected
      */
-    private void updateMinMax(final int col, final DataCell cell, final DataValueComparator comparator) {
-        if (cell.isMissing()) {
-            return;
+    private static ColumnStatistics[] computeChunk(final List<DataRow> rows, final int[] colIndices,
+        final DataValueComparator[] comparators, final boolean approximateMedian) {
+        final ColumnStatistics[] result = new ColumnStatistics[comparators.length];
+        for (int c : colIndices) {
+            result[c] = new ColumnStatistics(approximateMedian && comparators[c] != null);
         }
-        DataCell value = handleNaN(cell instanceof BlobWrapperDataCell ? ((BlobWrapperDataCell)cell).getCell() : cell);
-        if (value.isMissing()) {
-            return;
+        for (DataRow row : rows) {
+            for (int c : colIndices) {
+                result[c].add(row.getCell(c), comparators[c]);
+            }
         }
+        return result;
+    }
 
-        if (m_minCells[col].isMissing() || (comparator.compare(value, m_minCells[col]) < 0)) {
-            m_minCells[col] = value;
+    /** Merges the statistics of the next chunk of rows into <b>stats</b>. */
+    private static void merge(final ColumnStatistics[] stats, final ColumnStatistics[] chunkStats,
+        final int[] colIndices, final DataValueComparator[] comparators) {
+        for (int c : colIndices) {
+            stats[c].merge(chunkStats[c], comparators[c]);
         }
-        if (m_maxCells[col].isMissing() || (comparator.compare(value, m_maxCells[col]) > 0)) {
-            m_maxCells[col] = value;
+    }
+
+    /**
+     * Waits for the statistics of a chunk. If called from a pool thread, the thread is not counted as running while
+     * waiting, so the chunk tasks can't starve.
+     */
+    private static ColumnStatistics[] waitFor(final Future<ColumnStatistics[]> future)
+        throws CanceledExecutionException {
+        try {
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                return currentPool.runInvisible(new Callable<ColumnStatistics[]>() {
+                    @Override
+                    public ColumnStatistics[] call() throws Exception {
+                        return future.get();
+                    }
+                });
+            }
+            return future.get();
+        } catch (InterruptedException e) {
+            throw new CanceledExecutionException("Statistics computation interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e;
+            while ((cause instanceof ExecutionException) && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof InterruptedException) {
+                throw new CanceledExecutionException("Statistics computation interrupted");
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Mergeable statistics of a single column for a part of the rows.
+     */
+    private static final class ColumnStatistics {
+        private final MomentAccumulator m_moments = new MomentAccumulator();
+
+        /** Only used for numeric columns if the median is approximated, <code>null</code> otherwise. */
+        private final QuantileSketch m_sketch;
+
+        private int m_missingCnt;
+
+        private int m_nanCnt;
+
+        private int m_posInfinityCnt;
+
+        private int m_negInfinityCnt;
+
+        private DataCell m_min = DataType.getMissingCell();
+
+        private DataCell m_max = DataType.getMissingCell();
+
+        /** The first value is taken even if it is infinite, afterwards only finite values replace it. */
+        private DataCell m_minNonInf = DataType.getMissingCell();
+
+        private DataCell m_maxNonInf = DataType.getMissingCell();
+
+        /** The extreme finite values, needed to merge the non-infinite extremes. */
+        private DataCell m_minFinite = DataType.getMissingCell();
+
+        private DataCell m_maxFinite = DataType.getMissingCell();
+
+        ColumnStatistics(final boolean createSketch) {
+            m_sketch = createSketch ? new QuantileSketch() : null;
         }
 
+        /**
+         * @param cell the next cell of the column
+         * @param comparator the comparator of a numeric column, <code>null</code> for other columns
+         */
+        void add(final DataCell cell, final DataValueComparator comparator) {
+            if (cell.isMissing()) {
+                m_missingCnt++;
+                return;
+            }
+            // for double columns we calc the moments and extreme values
+            if (comparator == null) {
+                return;
+            }
+            final double d = ((DoubleValue)cell).getDoubleValue();
+            m_moments.add(d);
+            if (m_sketch != null) {
+                m_sketch.add(d);
+            }
+            if (d == Double.POSITIVE_INFINITY) {
+                m_posInfinityCnt++;
+            }
+            if (d == Double.NEGATIVE_INFINITY) {
+                m_negInfinityCnt++;
+            }
+            if (Double.isNaN(d)) {
+                m_nanCnt++;
+            }
+            updateMinMax(cell, comparator);
+        }
 
-        if (m_minNonInfValues[col].isMissing() || (!Double.isInfinite(((DoubleValue) value).getDoubleValue())
-                && (comparator.compare(value, m_minNonInfValues[col]) < 0))) {
-            m_minNonInfValues[col] = value;
+        /** Updates the min and max values, NaNs are ignored. */
+        private void updateMinMax(final DataCell cell, final DataValueComparator comparator) {
+            DataCell value =
+                handleNaN(cell instanceof BlobWrapperDataCell ? ((BlobWrapperDataCell)cell).getCell() : cell);
+            if (value.isMissing()) {
+                return;
+            }
+            if (m_min.isMissing() || (comparator.compare(value, m_min) < 0)) {
+                m_min = value;
+            }
+            if (m_max.isMissing() || (comparator.compare(value, m_max) > 0)) {
+                m_max = value;
+            }
+            final boolean finite = !Double.isInfinite(((DoubleValue)value).getDoubleValue());
+            if (m_minNonInf.isMissing() || (finite && (comparator.compare(value, m_minNonInf) < 0))) {
+                m_minNonInf = value;
+            }
+            if (m_maxNonInf.isMissing() || (finite && (comparator.compare(value, m_maxNonInf) > 0))) {
+                m_maxNonInf = value;
+            }
+            if (finite && (m_minFinite.isMissing() || (comparator.compare(value, m_minFinite) < 0))) {
+                m_minFinite = value;
+            }
+            if (finite && (m_maxFinite.isMissing() || (comparator.compare(value, m_maxFinite) > 0))) {
+                m_maxFinite = value;
+            }
         }
-        if (m_maxNonInfValues[col].isMissing() || (!Double.isInfinite(((DoubleValue) value).getDoubleValue())
-                && (comparator.compare(value, m_maxNonInfValues[col]) > 0))) {
-            m_maxNonInfValues[col] = value;
+
+        /**
+         * Merges the statistics of the rows following the rows of this object. The result is the same as if the
+         * cells had been added to this object.
+         */
+        void merge(final ColumnStatistics next, final DataValueComparator comparator) {
+            m_missingCnt += next.m_missingCnt;
+            if (comparator == null) {
+                return;
+            }
+            m_moments.merge(next.m_moments);
+            if (m_sketch != null) {
+                m_sketch.merge(next.m_sketch);
+            }
+            m_nanCnt += next.m_nanCnt;
+            m_posInfinityCnt += next.m_posInfinityCnt;
+            m_negInfinityCnt += next.m_negInfinityCnt;
+            if (m_min.isMissing() || (!next.m_min.isMissing() && comparator.compare(next.m_min, m_min) < 0)) {
+                m_min = next.m_min;
+            }
+            if (m_max.isMissing() || (!next.m_max.isMissing() && comparator.compare(next.m_max, m_max) > 0)) {
+                m_max = next.m_max;
+            }
+            if (m_minNonInf.isMissing()) {
+                m_minNonInf = next.m_minNonInf;
+            } else if (!next.m_minFinite.isMissing() && comparator.compare(next.m_minFinite, m_minNonInf) < 0) {
+                m_minNonInf = next.m_minFinite;
+            }
+            if (m_maxNonInf.isMissing()) {
+                m_maxNonInf = next.m_maxNonInf;
+            } else if (!next.m_maxFinite.isMissing() && comparator.compare(next.m_maxFinite, m_maxNonInf) > 0) {
+                m_maxNonInf = next.m_maxFinite;
+            }
+            if (m_minFinite.isMissing()
+                || (!next.m_minFinite.isMissing() && comparator.compare(next.m_minFinite, m_minFinite) < 0)) {
+                m_minFinite = next.m_minFinite;
+            }
+            if (m_maxFinite.isMissing()
+                || (!next.m_maxFinite.isMissing() && comparator.compare(next.m_maxFinite, m_maxFinite) > 0)) {
+                m_maxFinite = next.m_maxFinite;
+            }
         }
     }
 
@@ -48,6 +48,7 @@
  */
 package org.knime.base.node.io.database;
 
+import org.knime.base.node.io.database.util.DBReadPartitioningSettings;
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 
@@ -63,5 +64,8 @@ class DBConnectionNodeDialog extends DefaultNodeSettingsPane {
     public DBConnectionNodeDialog() {
         addDialogComponent(new DialogComponentBoolean(DBConnectionNodeModel.createUseRowIdModel(),
             "Use database row id"));
+        createNewGroup("Parallel Read");
+        new DBReadPartitioningSettings().createDialogComponents().forEach(this::addDialogComponent);
+        closeCurrentGroup();
     }
 }
@@ -48,6 +48,7 @@
 import java.io.File;
 import java.io.IOException;
 
+import org.knime.base.node.io.database.util.DBReadPartitioningSettings;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -63,6 +64,7 @@
 import org.knime.core.node.port.database.DatabasePortObject;
 import org.knime.core.node.port.database.DatabasePortObjectSpec;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.reader.DBReadPartitioning;
 import org.knime.core.node.port.database.reader.DBReader;
 import org.knime.core.node.workflow.CredentialsProvider;
 
@@ -74,6 +76,8 @@ final class DBConnectionNodeModel extends NodeModel {
 
     private final SettingsModelBoolean m_useDbRowId = createUseRowIdModel();
 
+    private final DBReadPartitioningSettings m_partitioning = new DBReadPartitioningSettings();
+
     /** Creates a new database connection reader. */
     DBConnectionNodeModel() {
         super(new PortType[]{DatabasePortObject.TYPE}, new PortType[]{BufferedDataTable.TYPE});
@@ -100,6 +104,12 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
 //		final DatabaseReaderConnection load = new DatabaseReaderConnection(conn);
         exec.setProgress("Reading data from database...");
         CredentialsProvider cp = getCredentialsProvider();
+        final DBReadPartitioning partitioning = m_partitioning.createPartitioning();
+        if (partitioning != null) {
+            getLogger().debug("Reading query in partitions: " + partitioning);
+            return new BufferedDataTable[]{
+                reader.createTable(exec, cp, m_useDbRowId.getBooleanValue(), partitioning)};
+        }
         return new BufferedDataTable[]{reader.createTable(exec, cp, m_useDbRowId.getBooleanValue())};
     }
 
@@ -181,7 +191,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs)
     @Override
     protected void validateSettings(final NodeSettingsRO settings)
             throws InvalidSettingsException {
-        //nothing to validate
+        DBReadPartitioningSettings.validateSettings(settings);
     }
 
     /**
@@ -196,6 +206,7 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             //this option was introduced in KNIME 2.12
             m_useDbRowId.setBooleanValue(true);
         }
+        m_partitioning.loadSettingsFrom(settings);
     }
 
     /**
@@ -204,6 +215,7 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_useDbRowId.saveSettingsTo(settings);
+        m_partitioning.saveSettingsTo(settings);
     }
 
 }
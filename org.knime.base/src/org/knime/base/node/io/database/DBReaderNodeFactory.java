@@ -105,6 +105,18 @@ public NodeDialogPane createNodeDialogPane() {
             protected boolean runWithoutConfigure() {
                 return true;
             }
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean showResultCache() {
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean showPartitioning() {
+                return true;
+            }
         };
     }
 
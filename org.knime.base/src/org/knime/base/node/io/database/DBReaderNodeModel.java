@@ -50,10 +50,14 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Optional;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
+import org.knime.base.node.io.database.util.DBReadPartitioningSettings;
+import org.knime.base.node.io.database.util.DBReaderDialogPane;
 import org.knime.base.util.flowvariable.FlowVariableProvider;
 import org.knime.base.util.flowvariable.FlowVariableResolver;
+import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -64,6 +68,7 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
@@ -71,7 +76,9 @@
 import org.knime.core.node.port.database.DatabaseConnectionPortObjectSpec;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.reader.DBReadPartitioning;
 import org.knime.core.node.port.database.reader.DBReader;
+import org.knime.core.node.port.database.reader.DBResultCache;
 import org.knime.core.node.streamable.StreamableOperatorInternals;
 import org.knime.core.node.workflow.CredentialsProvider;
 
@@ -85,6 +92,10 @@ class DBReaderNodeModel extends NodeModel implements FlowVariableProvider {
 
     private DataTableSpec m_lastSpec = null;
 
+    private final SettingsModelIntegerBounded m_resultCacheTTL = DBReaderDialogPane.createResultCacheTTLModel();
+
+    private final DBReadPartitioningSettings m_partitioning = new DBReadPartitioningSettings();
+
     /* Flag that is true if the node is just about to be executed in streaming mode.
      * It is set true in the computeFinalOutputSpecs-method to guarantee that the
      * configure-method returns a non-null data table spec
@@ -144,10 +155,43 @@ protected PortObject[] execute(final PortObject[] inData,
     protected BufferedDataTable getResultTable(final ExecutionContext exec, final PortObject[] inData, final DBReader load)
         throws CanceledExecutionException, SQLException, InvalidSettingsException {
         CredentialsProvider cp = getCredentialsProvider();
-        final BufferedDataTable result = load.createTable(exec, cp);
+        final int cacheTTL = m_resultCacheTTL.getIntValue();
+        if (cacheTTL <= 0) {
+            return createTable(exec, cp, load);
+        }
+        final DBResultCache cache = DBResultCache.getInstance();
+        final String cacheKey =
+            DBResultCache.createKey(load.getQueryConnection(), cp, true, m_partitioning.createPartitioning());
+        try {
+            final Optional<DataTable> cached = cache.get(cacheKey, cacheTTL * 1000L);
+            if (cached.isPresent()) {
+                getLogger().debug("Using cached result of query: " + load.getQueryConnection().getQuery());
+                exec.setMessage("Reading cached query result...");
+                return exec.createBufferedDataTable(cached.get(), exec);
+            }
+        } catch (IOException ex) {
+            getLogger().warn("Could not read cached query result, executing query: " + ex.getMessage(), ex);
+            cache.remove(cacheKey);
+        }
+        final BufferedDataTable result = createTable(exec, cp, load);
+        try {
+            cache.put(cacheKey, result, exec.createSilentSubProgress(0));
+        } catch (IOException ex) {
+            getLogger().warn("Could not cache query result: " + ex.getMessage(), ex);
+        }
         return result;
     }
 
+    private BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final DBReader load) throws CanceledExecutionException, SQLException, InvalidSettingsException {
+        final DBReadPartitioning partitioning = m_partitioning.createPartitioning();
+        if (partitioning == null) {
+            return load.createTable(exec, cp);
+        }
+        getLogger().debug("Reading query in partitions: " + partitioning);
+        return load.createTable(exec, cp, true, partitioning);
+    }
+
     /**
      * @param dbPortObject
      * @return
@@ -302,6 +346,11 @@ protected void saveInternals(final File nodeInternDir,
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs)
             throws InvalidSettingsException {
+        if (m_partitioning.createPartitioning() != null && m_settings.getQuery() != null
+            && DBReadPartitioning.containsOrderBy(m_settings.getQuery())) {
+            throw new InvalidSettingsException("The query contains an ORDER BY clause, the order of the rows can't be "
+                + "kept when reading in parallel. Remove the ORDER BY clause or disable the parallel read.");
+        }
         final DataTableSpec lastSpec = getLastSpec();
         if (lastSpec != null) {
             return new DataTableSpec[]{lastSpec};
@@ -377,6 +426,7 @@ protected void validateSettings(final NodeSettingsRO settings)
 
         DatabaseQueryConnectionSettings s = new DatabaseQueryConnectionSettings();
         s.validateConnection(settings, getCredentialsProvider());
+        DBReadPartitioningSettings.validateSettings(settings);
     }
 
     /**
@@ -386,6 +436,13 @@ protected void validateSettings(final NodeSettingsRO settings)
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         boolean settingsChanged = m_settings.loadValidatedConnection(settings, getCredentialsProvider());
+        if (settings.containsKey(m_resultCacheTTL.getKey())) {
+            m_resultCacheTTL.loadSettingsFrom(settings);
+        } else {
+            // added in 3.7
+            m_resultCacheTTL.setIntValue(0);
+        }
+        m_partitioning.loadSettingsFrom(settings);
 
         if (settingsChanged || (m_settings.getQuery() == null) || m_settings.getQuery().isEmpty()) {
             setLastSpec(null);
@@ -398,6 +455,8 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_settings.saveConnection(settings);
+        m_resultCacheTTL.saveSettingsTo(settings);
+        m_partitioning.saveSettingsTo(settings);
     }
 
     /**
@@ -53,11 +53,14 @@
 import java.awt.GridLayout;
 
 import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
 import javax.swing.JCheckBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
 import javax.swing.JTextField;
+import javax.swing.SpinnerNumberModel;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
@@ -93,6 +96,14 @@ final class DBWriterDialogPane extends NodeDialogPane {
 
     private final JTextField m_batchSize;
 
+    private final JSpinner m_writeConnections = new JSpinner(new SpinnerNumberModel(1, 1, 64, 1));
+
+    private final JSpinner m_commitInterval =
+        new JSpinner(new SpinnerNumberModel(Long.valueOf(0), Long.valueOf(0), Long.valueOf(Long.MAX_VALUE),
+            Long.valueOf(1000)));
+
+    private final JCheckBox m_useBulkLoader = new JCheckBox("Use bulk loader of the database (if supported)");
+
     /**
      * Creates new dialog.
      */
@@ -151,7 +162,29 @@ public void stateChanged(final ChangeEvent e) {
         m_batchSize = new JTextField();
         m_batchSize.setPreferredSize(new Dimension(100, 20));
         batchSizePanel.add(m_batchSize);
-        super.addTab("Advanced", batchSizePanel);
+
+        final JPanel parallelPanel = new JPanel(new GridLayout(0, 1));
+        final JPanel connectionsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        connectionsPanel.add(new JLabel("Number of connections: "));
+        m_writeConnections.setToolTipText("Rows are written by this many connections concurrently, "
+            + "each in its own transaction.");
+        connectionsPanel.add(m_writeConnections);
+        parallelPanel.add(connectionsPanel);
+        final JPanel commitPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        commitPanel.add(new JLabel("Commit after (rows, 0 commits at the end): "));
+        m_commitInterval.setPreferredSize(new Dimension(100, 20));
+        m_commitInterval.setToolTipText("Rows committed by a connection are not rolled back if another connection "
+            + "fails later on.");
+        commitPanel.add(m_commitInterval);
+        parallelPanel.add(commitPanel);
+        parallelPanel.add(m_useBulkLoader);
+        parallelPanel.setBorder(BorderFactory.createTitledBorder(" Parallel Write "));
+
+        final JPanel advancedPanel = new JPanel();
+        advancedPanel.setLayout(new BoxLayout(advancedPanel, BoxLayout.Y_AXIS));
+        advancedPanel.add(batchSizePanel);
+        advancedPanel.add(parallelPanel);
+        super.addTab("Advanced", advancedPanel);
     }
 
     /**
@@ -186,6 +219,10 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         final int batchSize = settings.getInt(DBWriterNodeModel.KEY_BATCH_SIZE,
                                               DatabaseConnectionSettings.BATCH_WRITE_SIZE);
         m_batchSize.setText(Integer.toString(batchSize));
+        //introduced in KNIME 3.7, a single connection writing sequentially before
+        m_writeConnections.setValue(Math.max(1, settings.getInt(DBWriterNodeModel.KEY_WRITE_CONNECTIONS, 1)));
+        m_commitInterval.setValue(Math.max(0, settings.getLong(DBWriterNodeModel.KEY_COMMIT_INTERVAL, 0)));
+        m_useBulkLoader.setSelected(settings.getBoolean(DBWriterNodeModel.KEY_USE_BULK_LOADER, false));
 
         if ((specs.length > 1) && (specs[1] instanceof DatabaseConnectionPortObjectSpec)) {
             m_loginPane.setVisible(false);
@@ -224,5 +261,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
             throw new InvalidSettingsException("Can't parse batch size \"" + strBatchSite
                                                + "\", reason: " + nfe.getMessage(), nfe);
         }
+        settings.addInt(DBWriterNodeModel.KEY_WRITE_CONNECTIONS, (Integer)m_writeConnections.getValue());
+        settings.addLong(DBWriterNodeModel.KEY_COMMIT_INTERVAL, ((Number)m_commitInterval.getValue()).longValue());
+        settings.addBoolean(DBWriterNodeModel.KEY_USE_BULK_LOADER, m_useBulkLoader.isSelected());
     }
 }
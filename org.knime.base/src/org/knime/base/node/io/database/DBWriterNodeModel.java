@@ -68,6 +68,7 @@
 import org.knime.core.node.port.database.DatabaseConnectionPortObject;
 import org.knime.core.node.port.database.DatabaseConnectionPortObjectSpec;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.writer.DBParallelWriteSettings;
 import org.knime.core.node.port.database.writer.DBWriter;
 import org.knime.core.node.streamable.DataTableRowInput;
 import org.knime.core.node.streamable.InputPortRole;
@@ -116,6 +117,19 @@ final class DBWriterNodeModel extends NodeModel {
     static final String KEY_INSERT_NULL_FOR_MISSING_COLS = "insert_null_for_missing_cols";
     private boolean m_insertNullForMissingCols = false;
 
+    //introduced in KNIME 3.7, a single connection writing sequentially before
+    /** Config key for the number of connections writing concurrently. */
+    static final String KEY_WRITE_CONNECTIONS = "write_connections";
+    private int m_writeConnections = 1;
+
+    /** Config key for the number of rows after which each connection commits, 0 to commit at the end. */
+    static final String KEY_COMMIT_INTERVAL = "commit_interval";
+    private long m_commitInterval = 0;
+
+    /** Config key to use the bulk loader of the database (if any). */
+    static final String KEY_USE_BULK_LOADER = "use_bulk_loader";
+    private boolean m_useBulkLoader = false;
+
     private final Map<String, String> m_types = new LinkedHashMap<>();
 
     /** Default SQL-type for Strings. */
@@ -166,6 +180,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         }
         // save batch size
         settings.addInt(KEY_BATCH_SIZE, m_batchSize);
+        settings.addInt(KEY_WRITE_CONNECTIONS, m_writeConnections);
+        settings.addLong(KEY_COMMIT_INTERVAL, m_commitInterval);
+        settings.addBoolean(KEY_USE_BULK_LOADER, m_useBulkLoader);
     }
 
     /**
@@ -202,6 +219,15 @@ private void loadSettings(
         if (batchSize <= 0) {
             throw new InvalidSettingsException("Batch size must be greater than 0, is " + batchSize);
         }
+        final int writeConnections = settings.getInt(KEY_WRITE_CONNECTIONS, 1);
+        if (writeConnections <= 0) {
+            throw new InvalidSettingsException(
+                "Number of connections must be greater than 0, is " + writeConnections);
+        }
+        final long commitInterval = settings.getLong(KEY_COMMIT_INTERVAL, 0);
+        if (commitInterval < 0) {
+            throw new InvalidSettingsException("Commit interval must not be negative, is " + commitInterval);
+        }
         // write settings or skip it
         if (write) {
             m_tableName = table;
@@ -219,6 +245,9 @@ private void loadSettings(
             }
             // load batch size
             m_batchSize = batchSize;
+            m_writeConnections = writeConnections;
+            m_commitInterval = commitInterval;
+            m_useBulkLoader = settings.getBoolean(KEY_USE_BULK_LOADER, false);
         }
         //introduced in KNIME 2.11 default behavior before was inserting null
         m_insertNullForMissingCols = settings.getBoolean(KEY_INSERT_NULL_FOR_MISSING_COLS, true);
@@ -247,8 +276,8 @@ protected PortObject[] execute(final PortObject[] inData,
         BufferedDataTable inputTable = (BufferedDataTable)inData[0];
         DataTableRowInput rowInput = new DataTableRowInput(inputTable);
         // write entire data
-        final String error = writer.writeData(m_tableName, rowInput, inputTable.size(),
-            m_append, exec, m_types, getCredentialsProvider(), m_batchSize, m_insertNullForMissingCols, m_failOnError);
+        final String error = writer.writeData(m_tableName, rowInput, inputTable.size(), m_append, exec, m_types,
+            getCredentialsProvider(), m_batchSize, m_insertNullForMissingCols, m_failOnError, getParallelWrite());
         // set error message generated during writing rows
         if (error != null) {
             super.setWarningMessage(error);
@@ -256,6 +285,17 @@ protected PortObject[] execute(final PortObject[] inData,
         return new BufferedDataTable[0];
     }
 
+    /**
+     * @return the settings for writing with several connections or <code>null</code> if the rows are written
+     *         sequentially with a single connection (the default)
+     */
+    private DBParallelWriteSettings getParallelWrite() {
+        if (m_writeConnections <= 1 && m_commitInterval == 0 && !m_useBulkLoader) {
+            return null;
+        }
+        return new DBParallelWriteSettings(m_writeConnections, m_commitInterval, m_useBulkLoader);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -289,9 +329,16 @@ public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final
                 }
                 DBWriter writer = connSettings.getUtility().getWriter(connSettings);
                 // write entire data
-                m_errorMessage =
-                    writer.writeData(m_tableName, (RowInput) inputs[0], -1,
-                        m_append, exec, m_types, getCredentialsProvider(), m_batchSize, m_insertNullForMissingCols);
+                final DBParallelWriteSettings parallelWrite = getParallelWrite();
+                if (parallelWrite == null) {
+                    m_errorMessage =
+                        writer.writeData(m_tableName, (RowInput) inputs[0], -1,
+                            m_append, exec, m_types, getCredentialsProvider(), m_batchSize, m_insertNullForMissingCols);
+                } else {
+                    m_errorMessage = writer.writeData(m_tableName, (RowInput)inputs[0], -1, m_append, exec, m_types,
+                        getCredentialsProvider(), m_batchSize, m_insertNullForMissingCols, m_failOnError,
+                        parallelWrite);
+                }
             }
 
         };
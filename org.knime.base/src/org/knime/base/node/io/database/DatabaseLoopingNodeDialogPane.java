@@ -116,6 +116,12 @@ public class DatabaseLoopingNodeDialogPane extends DBReaderDialogPane {
         columnPanel.add(southPanel, BorderLayout.SOUTH);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean showResultCache() {
+        return true;
+    }
+
     /** @return string model for column selection */
     static SettingsModelString createColumnModel() {
         return new SettingsModelString("column_selection", null);
@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.database.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.DialogComponent;
+import org.knime.core.node.defaultnodesettings.DialogComponentButtonGroup;
+import org.knime.core.node.defaultnodesettings.DialogComponentMultiLineString;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.core.node.defaultnodesettings.DialogComponentString;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.database.reader.DBReadPartitioning;
+
+/**
+ * Settings of the partitioned parallel read of database reader nodes, see {@link DBReadPartitioning}. A query is
+ * read as a whole (the default), split into value ranges of a column or split by one SQL condition per line.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class DBReadPartitioningSettings {
+
+    /** Mode: the query is read as a whole. */
+    public static final String MODE_NONE = "none";
+
+    /** Mode: the query is split into value ranges of a column. */
+    public static final String MODE_RANGE = "range";
+
+    /** Mode: the query is split by conditions, one per line. */
+    public static final String MODE_CONDITIONS = "conditions";
+
+    private final SettingsModelString m_mode = new SettingsModelString("partition_mode", MODE_NONE);
+
+    private final SettingsModelString m_column = new SettingsModelString("partition_column", "");
+
+    private final SettingsModelIntegerBounded m_count =
+        new SettingsModelIntegerBounded("partition_count", 4, 1, Integer.MAX_VALUE);
+
+    private final SettingsModelString m_conditions = new SettingsModelString("partition_conditions", "");
+
+    /** Creates new settings, the query is read as a whole. */
+    public DBReadPartitioningSettings() {
+        m_mode.addChangeListener(e -> updateEnabled());
+        updateEnabled();
+    }
+
+    private void updateEnabled() {
+        m_column.setEnabled(MODE_RANGE.equals(m_mode.getStringValue()));
+        m_count.setEnabled(MODE_RANGE.equals(m_mode.getStringValue()));
+        m_conditions.setEnabled(MODE_CONDITIONS.equals(m_mode.getStringValue()));
+    }
+
+    /**
+     * @return the partitioning or <code>null</code> if the query is read as a whole
+     * @throws InvalidSettingsException if the column or the conditions are missing
+     */
+    public DBReadPartitioning createPartitioning() throws InvalidSettingsException {
+        try {
+            switch (m_mode.getStringValue()) {
+                case MODE_RANGE:
+                    return DBReadPartitioning.byRange(m_column.getStringValue(), m_count.getIntValue());
+                case MODE_CONDITIONS:
+                    return DBReadPartitioning.byConditions(getConditions().toArray(new String[0]));
+                default:
+                    return null;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException(e.getMessage(), e);
+        }
+    }
+
+    private List<String> getConditions() {
+        return Arrays.stream(m_conditions.getStringValue().split("\\R")).map(String::trim).filter(c -> !c.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the dialog components editing these settings: the mode, the column and number of partitions of the
+     * range mode and the conditions.
+     *
+     * @return the components, in the order they should be shown
+     */
+    public List<DialogComponent> createDialogComponents() {
+        final DialogComponentButtonGroup mode = new DialogComponentButtonGroup(m_mode, "Parallel read", false,
+            new String[]{"Off", "By column range", "By conditions"},
+            new String[]{MODE_NONE, MODE_RANGE, MODE_CONDITIONS});
+        mode.setToolTipText("Splits the query into partitions that are read concurrently on separate connections. "
+            + "The rows are returned partition by partition, queries with ORDER BY can't be read in parallel.");
+        final DialogComponentString column = new DialogComponentString(m_column, "Partition column: ", false, 20);
+        column.setToolTipText("A numeric or date/time column of the query result");
+        final DialogComponentNumber count = new DialogComponentNumber(m_count, "Number of partitions: ", 1, 5);
+        final DialogComponentMultiLineString conditions =
+            new DialogComponentMultiLineString(m_conditions, "Partition conditions (one per line): ", false, 40, 4);
+        conditions.setToolTipText("Disjoint SQL conditions on the query result that together cover all rows, "
+            + "e.g. MOD(id, 4) = 0");
+        return Arrays.asList(mode, column, count, conditions);
+    }
+
+    /**
+     * @param settings to save to
+     */
+    public void saveSettingsTo(final NodeSettingsWO settings) {
+        m_mode.saveSettingsTo(settings);
+        m_column.saveSettingsTo(settings);
+        m_count.saveSettingsTo(settings);
+        m_conditions.saveSettingsTo(settings);
+    }
+
+    /**
+     * @param settings to validate
+     * @throws InvalidSettingsException if the settings are incomplete
+     */
+    public static void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        final DBReadPartitioningSettings s = new DBReadPartitioningSettings();
+        s.loadSettingsFrom(settings);
+        s.createPartitioning();
+    }
+
+    /**
+     * Loads the settings, the query is read as a whole if the settings don't contain partitioning settings.
+     *
+     * @param settings to load from
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    public void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        if (!settings.containsKey(m_mode.getKey())) {
+            // added in 3.7
+            m_mode.setStringValue(MODE_NONE);
+            return;
+        }
+        m_mode.loadSettingsFrom(settings);
+        m_column.loadSettingsFrom(settings);
+        m_count.loadSettingsFrom(settings);
+        m_conditions.loadSettingsFrom(settings);
+    }
+}
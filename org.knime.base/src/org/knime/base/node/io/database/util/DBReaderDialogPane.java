@@ -52,9 +52,11 @@
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.sql.DatabaseMetaData;
+import java.util.List;
 import java.util.Map;
 
 import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
 import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
@@ -73,9 +75,13 @@
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeDialogPane;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.NotConfigurableException;
+import org.knime.core.node.defaultnodesettings.DialogComponent;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.database.DatabaseConnectionPortObjectSpec;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
@@ -105,6 +111,11 @@ public class DBReaderDialogPane extends NodeDialogPane {
     private final JCheckBox m_configureBox = new JCheckBox(
             "Run SQL query only during execute, skips configure");
 
+    private final DialogComponentNumber m_resultCacheTTL = new DialogComponentNumber(createResultCacheTTLModel(),
+        "Re-use result of identical query for (seconds, 0 disables): ", 60);
+
+    private final List<DialogComponent> m_partitioning = new DBReadPartitioningSettings().createDialogComponents();
+
     private static final NodeLogger LOGGER =
             NodeLogger.getLogger(DBReaderDialogPane.class);
 
@@ -188,11 +199,25 @@ protected void doneWithContext() {
 
         JPanel configurePanel = new JPanel(new BorderLayout());
         configurePanel.add(scrollPane, BorderLayout.CENTER);
+        final JPanel optionsPanel = new JPanel(new BorderLayout());
         if (runWithoutConfigure()) {
             m_configureBox.setToolTipText(
                     "Returns an empty spec during configure.");
-            configurePanel.add(m_configureBox, BorderLayout.SOUTH);
+            optionsPanel.add(m_configureBox, BorderLayout.NORTH);
+        }
+        if (showResultCache()) {
+            m_resultCacheTTL.setToolTipText("Re-uses the result of an identical query (same SQL and connection) "
+                + "executed within the given number of seconds instead of running it again.");
+            optionsPanel.add(m_resultCacheTTL.getComponentPanel(), BorderLayout.SOUTH);
         }
+        if (showPartitioning()) {
+            final JPanel partitioningPanel = new JPanel();
+            partitioningPanel.setLayout(new BoxLayout(partitioningPanel, BoxLayout.Y_AXIS));
+            partitioningPanel.setBorder(BorderFactory.createTitledBorder(" Parallel Read "));
+            m_partitioning.forEach(c -> partitioningPanel.add(c.getComponentPanel()));
+            optionsPanel.add(partitioningPanel, BorderLayout.CENTER);
+        }
+        configurePanel.add(optionsPanel, BorderLayout.SOUTH);
         JPanel allPanel = new JPanel(new BorderLayout());
 
         allPanel.add(m_connectionPane, BorderLayout.NORTH);
@@ -249,6 +274,32 @@ protected boolean runWithoutConfigure() {
         return false;
     }
 
+    /**
+     * @return false (default), or true if the option to re-use cached query results should be visible. The model has
+     *         to load and save the {@link #createResultCacheTTLModel() cache settings} then.
+     * @since 3.7
+     */
+    protected boolean showResultCache() {
+        return false;
+    }
+
+    /**
+     * @return false (default), or true if the options to read the query in partitions should be visible. The model
+     *         has to load and save the {@link DBReadPartitioningSettings} then.
+     * @since 3.7
+     */
+    protected boolean showPartitioning() {
+        return false;
+    }
+
+    /**
+     * @return the model for the number of seconds a cached query result is re-used, 0 if the cache is not used
+     * @since 3.7
+     */
+    public static SettingsModelIntegerBounded createResultCacheTTLModel() {
+        return new SettingsModelIntegerBounded("result_cache_ttl", 0, 0, Integer.MAX_VALUE);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void loadSettingsFrom(final NodeSettingsRO settings,
@@ -281,6 +332,14 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         if (runWithoutConfigure()) {
             m_configureBox.setSelected(!s.getValidateQuery());
         }
+        if (showResultCache()) {
+            m_resultCacheTTL.loadSettingsFrom(settings, specs);
+        }
+        if (showPartitioning()) {
+            for (DialogComponent c : m_partitioning) {
+                c.loadSettingsFrom(settings, specs);
+            }
+        }
 
         m_upstreamConnectionSettings = null;
         for (PortObjectSpec pos : specs) {
@@ -335,6 +394,17 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
             s.setValidateQuery(!m_configureBox.isSelected());
         }
         s.saveConnection(settings);
+        if (showResultCache()) {
+            m_resultCacheTTL.saveSettingsTo(settings);
+        }
+        if (showPartitioning()) {
+            final NodeSettings partitioning = new NodeSettings("partitioning");
+            for (DialogComponent c : m_partitioning) {
+                c.saveSettingsTo(partitioning);
+                c.saveSettingsTo(settings);
+            }
+            DBReadPartitioningSettings.validateSettings(partitioning);
+        }
 
         if (m_showConnectionPanel) {
             m_connectionPane.saveSettingsTo(settings, getCredentialsProvider());
@@ -78,6 +78,8 @@
 
     private final JCheckBox m_addIterationColumn = new JCheckBox("Add iteration column");
 
+    private final JCheckBox m_collectByReference = new JCheckBox("Collect results without copying (if possible)");
+
     private final ButtonGroup m_rowKeyPolicy = new ButtonGroup();
 
     private final T m_settings;
@@ -113,6 +115,9 @@ public AbstractLoopEndNodeDialog(final T settings) {
         m_gbc.gridy++;
 
         m_panel.add(m_addIterationColumn, m_gbc);
+        m_gbc.gridy++;
+
+        m_panel.add(m_collectByReference, m_gbc);
 
         addTab("Standard settings", m_panel);
     }
@@ -134,6 +139,7 @@ protected void addComponent(final Component component) {
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSettingsException {
         m_settings.addIterationColumn(m_addIterationColumn.isSelected());
+        m_settings.collectByReference(m_collectByReference.isSelected());
         m_settings.rowKeyPolicy(RowKeyPolicy.valueOf(m_rowKeyPolicy.getSelection().getActionCommand()));
         addToSettings(m_settings);
         m_settings.saveSettings(settings);
@@ -154,6 +160,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
             final DataTableSpec[] specs) throws NotConfigurableException {
         m_settings.loadSettings(settings);
         m_addIterationColumn.setSelected(m_settings.addIterationColumn());
+        m_collectByReference.setSelected(m_settings.collectByReference());
         RowKeyPolicy p = m_settings.rowKeyPolicy();
         for (Enumeration<AbstractButton> e = m_rowKeyPolicy.getElements(); e.hasMoreElements();) {
             AbstractButton b = e.nextElement();
@@ -90,6 +90,9 @@ String label() {
     /** @since 3.1 */
     private RowKeyPolicy m_rowKeyPolicy = RowKeyPolicy.APPEND_SUFFIX;
 
+    /** @since 3.7 */
+    private boolean m_collectByReference = false;
+
 
     /**
      *
@@ -171,6 +174,26 @@ public boolean addIterationColumn() {
         return m_addIterationColumn;
     }
 
+    /**
+     * Sets if the results of the iterations are referenced by the output table rather than copied, if possible.
+     *
+     * @param byReference <code>true</code> if the results should not be copied, <code>false</code> otherwise
+     * @since 3.7
+     */
+    public void collectByReference(final boolean byReference) {
+        m_collectByReference = byReference;
+    }
+
+    /**
+     * Returns if the results of the iterations are referenced by the output table rather than copied, if possible.
+     *
+     * @return <code>true</code> if the results are not copied, <code>false</code> otherwise
+     * @since 3.7
+     */
+    public boolean collectByReference() {
+        return m_collectByReference;
+    }
+
     /**
      * Writes the settings into the node settings object.
      *
@@ -179,6 +202,7 @@ public boolean addIterationColumn() {
     public void saveSettings(final NodeSettingsWO settings) {
         settings.addBoolean("addIterationColumn", m_addIterationColumn);
         settings.addString("rowKeyPolicy", m_rowKeyPolicy.name());
+        settings.addBoolean("collectByReference", m_collectByReference);
     }
 
     /**
@@ -188,6 +212,8 @@ public void saveSettings(final NodeSettingsWO settings) {
      */
     public void loadSettings(final NodeSettingsRO settings) {
         m_addIterationColumn = settings.getBoolean("addIterationColumn", true);
+        // added in 3.7
+        m_collectByReference = settings.getBoolean("collectByReference", false);
 
         //old settings -> check for backwards compatibility
         if (settings.containsKey("uniqueRowIDs")) {
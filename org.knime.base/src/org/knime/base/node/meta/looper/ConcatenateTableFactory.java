@@ -50,9 +50,11 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
+import org.knime.base.node.meta.looper.AbstractLoopEndNodeSettings.RowKeyPolicy;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -61,6 +63,7 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
 import org.knime.core.data.append.AppendedRowsTable;
 import org.knime.core.data.container.BlobSupportDataRow;
 import org.knime.core.data.container.ConcatenateTable;
@@ -106,6 +109,40 @@ class ConcatenateTableFactory {
     /** keeps track of the number of call of the addTable-function. m_iterationCount <= m_tables.size() */
     private int m_iterationCount = 0;
 
+    /** false if the row keys are unique by construction (suffix or new keys). */
+    private boolean m_checkDuplicates = true;
+
+    /** Whether the tables are collected by reference rather than copied (if the loop end may reference them). */
+    private boolean m_referenceTables;
+
+    private RowKeyPolicy m_rowKeyPolicy = RowKeyPolicy.UNMODIFIED;
+
+    /** overall number of rows added so far, used for new row keys. */
+    private long m_rowCount;
+
+    // the fields below are only used if the tables are collected by reference
+
+    /** The (closed) tables in output order, referenced or copied. */
+    private final List<BufferedDataTable> m_parts = new ArrayList<BufferedDataTable>();
+
+    /** Iteration of each part, -1 if it was copied (row keys and iteration column already applied). */
+    private final List<Integer> m_partIterations = new ArrayList<Integer>();
+
+    private final List<Long> m_partFirstRows = new ArrayList<Long>();
+
+    /** Output specs of the parts, merged to the final spec. */
+    private final List<DataTableSpec> m_partSpecs = new ArrayList<DataTableSpec>();
+
+    /** Container for tables that couldn't be referenced, null if the last part is a referenced table. */
+    private BufferedDataContainer m_copyContainer;
+
+    private long m_copyContainerFirstRow;
+
+    /** The spec all further tables are compared to, null if no table was added so far. */
+    private DataTableSpec m_referenceSpec;
+
+    private boolean m_isCreated;
+
 
     /**
      * Creates a new factory that allows to create a {@link ConcatenateTable}.
@@ -132,6 +169,39 @@ class ConcatenateTableFactory {
         m_iterationCount = 0;
     }
 
+    /**
+     * Creates a new factory that derives the row keys from the given policy. If <b>referenceTables</b> is set and
+     * neither the column types nor the table specs may change, the added tables are referenced by the final table
+     * rather than copied, the row keys and the iteration column are then applied when the final table is read. Tables
+     * that can't be referenced by the loop end node (see
+     * {@link ExecutionContext#referenceLoopBodyTable(BufferedDataTable)})
+     * are still copied.
+     *
+     * @param ignoreEmptyTables if empty tables should entirely be skipped
+     * @param tolerateColumnTypes if the change of a column type should be tolerated (common supertype is determined)
+     * @param addIterationColumn if an iteration column should be appended
+     * @param tolerateChangingSpecs if the table specs may change between iterations
+     * @param rowKeyPolicy how to create the row keys of the final table
+     * @param referenceTables whether to collect the added tables by reference if possible
+     * @since 3.7
+     */
+    ConcatenateTableFactory(final boolean ignoreEmptyTables, final boolean tolerateColumnTypes,
+        final boolean addIterationColumn, final boolean tolerateChangingSpecs, final RowKeyPolicy rowKeyPolicy,
+        final boolean referenceTables) {
+        this(ignoreEmptyTables, tolerateColumnTypes, addIterationColumn, tolerateChangingSpecs, Optional.empty());
+        m_rowKeyPolicy = rowKeyPolicy;
+        if (rowKeyPolicy != RowKeyPolicy.UNMODIFIED) {
+            m_rowKeyCreator = k -> LoopEndConcatenateTable.createRowKey(rowKeyPolicy, k, m_iterationCount, m_rowCount++);
+        }
+        // No duplicate check needed for the other policies, their keys are unique by construction:
+        // - APPEND_SUFFIX creates "<key>#<iteration>". The keys within one input table are unique and as the
+        //   iteration never contains a '#', the last '#' of a new key separates the (unique) pair of original key
+        //   and iteration, i.e. two rows of different iterations can't get the same key.
+        // - GENERATE_NEW creates "Row<index>" from the overall row index, which increases with every row.
+        m_checkDuplicates = rowKeyPolicy == RowKeyPolicy.UNMODIFIED;
+        m_referenceTables = referenceTables && !tolerateColumnTypes && !tolerateChangingSpecs;
+    }
+
     /**
      * Table is added and rows are copied to a new data container. Creates a new data container if this data table spec
      * differs from the previous table. This method call checks for row keys duplicates and throws a
@@ -146,6 +216,28 @@ class ConcatenateTableFactory {
      */
     void addTable(final BufferedDataTable table, final ExecutionContext exec)
         throws InterruptedException, DuplicateKeyException, IOException, CanceledExecutionException {
+        addTable(table, true, exec);
+    }
+
+    /**
+     * Adds a table. If the factory collects tables by reference and <b>mayReference</b> is set, the table is
+     * referenced if it remains valid for the loop end node, otherwise its rows are copied.
+     *
+     * @param table the table to be added
+     * @param mayReference false if the table must be copied, e.g. because it's disposed before the loop finishes
+     * @param exec the execution context to possibly create a new data container
+     * @throws InterruptedException
+     * @throws IOException
+     * @throws DuplicateKeyException
+     * @throws CanceledExecutionException
+     * @since 3.7
+     */
+    void addTable(final BufferedDataTable table, final boolean mayReference, final ExecutionContext exec)
+        throws InterruptedException, DuplicateKeyException, IOException, CanceledExecutionException {
+        if (m_referenceTables) {
+            addTableByReference(table, mayReference, exec);
+            return;
+        }
         DataTableRowInput rowInput = new DataTableRowInput(table);
         addTable(rowInput, exec);
         rowInput.close();
@@ -241,12 +333,14 @@ void addTable(final RowInput table, final ExecutionContext exec) throws Interrup
                 //change row key
                 row = new BlobSupportDataRow(m_rowKeyCreator.apply(row.getKey()),row);
             }
-            m_duplicateChecker.addKey(row.getKey().toString());
+            if (m_checkDuplicates) {
+                m_duplicateChecker.addKey(row.getKey().toString());
+            }
 
             //add additional iteration column if desired
             if(m_addIterationColumn) {
                 IntCell currIterCell = new IntCell(m_iterationCount);
-                row = new org.knime.core.data.append.AppendedColumnRow(row, currIterCell);
+                row = new AppendedColumnRow(row, currIterCell);
             }
             con.addRowToTable(row);
         } while ((row = table.poll()) != null);
@@ -254,6 +348,104 @@ void addTable(final RowInput table, final ExecutionContext exec) throws Interrup
         m_iterationCount++;
     }
 
+    private void addTableByReference(final BufferedDataTable table, final boolean mayReference,
+        final ExecutionContext exec) throws DuplicateKeyException, IOException, CanceledExecutionException {
+        if (m_isCreated) {
+            throw new IllegalStateException("No more tables can be added! ConcatenateTable has already been created.");
+        }
+        final DataTableSpec spec = createSpec(table.getDataTableSpec(), m_addIterationColumn, false);
+        if (table.size() == 0) {
+            if (m_referenceSpec == null) {
+                // keep the spec of the first table even if it's empty
+                m_referenceSpec = spec;
+            } else if (!m_ignoreEmptyTables) {
+                compareSpecsAndFail(m_referenceSpec, spec);
+            }
+            m_iterationCount++;
+            return;
+        }
+        if (m_referenceSpec == null || (m_parts.isEmpty() && m_copyContainer == null && m_ignoreEmptyTables)) {
+            // first non-empty table
+            m_referenceSpec = spec;
+        } else {
+            compareSpecsAndFail(m_referenceSpec, spec);
+        }
+
+        if (mayReference && exec.referenceLoopBodyTable(table)) {
+            closeCopyContainer();
+            if (m_checkDuplicates) {
+                for (DataRow row : table) {
+                    m_duplicateChecker.addKey(row.getKey().toString());
+                }
+            }
+            m_parts.add(table);
+            m_partIterations.add(m_iterationCount);
+            m_partFirstRows.add(m_rowCount);
+            m_partSpecs.add(spec);
+            m_rowCount += table.size();
+        } else {
+            if (m_copyContainer == null) {
+                m_copyContainer = exec.createDataContainer(spec);
+                m_copyContainerFirstRow = m_rowCount;
+            }
+            for (DataRow r : table) {
+                exec.checkCanceled();
+                DataRow row = r;
+                if (m_rowKeyPolicy != RowKeyPolicy.UNMODIFIED) {
+                    row = new BlobSupportDataRow(LoopEndConcatenateTable.createRowKey(m_rowKeyPolicy, row.getKey(),
+                        m_iterationCount, m_rowCount), row);
+                } else if (m_checkDuplicates) {
+                    m_duplicateChecker.addKey(row.getKey().toString());
+                }
+                if (m_addIterationColumn) {
+                    row = new AppendedColumnRow(row, new IntCell(m_iterationCount));
+                }
+                m_copyContainer.addRowToTable(row);
+                m_rowCount++;
+            }
+        }
+        m_iterationCount++;
+    }
+
+    private void closeCopyContainer() {
+        if (m_copyContainer != null) {
+            m_copyContainer.close();
+            m_parts.add(m_copyContainer.getTable());
+            m_partIterations.add(-1);
+            m_partFirstRows.add(m_copyContainerFirstRow);
+            m_partSpecs.add(m_copyContainer.getTableSpec());
+            m_copyContainer = null;
+        }
+    }
+
+    private BufferedDataTable createTableFromReferences(final ExecutionContext exec)
+        throws DuplicateKeyException, IOException {
+        m_isCreated = true;
+        closeCopyContainer();
+        if (m_parts.isEmpty()) {
+            BufferedDataContainer empty = exec.createDataContainer(m_referenceSpec);
+            empty.close();
+            return empty.getTable();
+        }
+        if (m_checkDuplicates) {
+            m_duplicateChecker.checkForDuplicates();
+        }
+        if (m_parts.size() == 1 && m_partIterations.get(0) < 0) {
+            // everything was copied
+            return m_parts.get(0);
+        }
+        int[] iterations = new int[m_parts.size()];
+        long[] firstRows = new long[m_parts.size()];
+        for (int i = 0; i < iterations.length; i++) {
+            iterations[i] = m_partIterations.get(i);
+            firstRows[i] = m_partFirstRows.get(i);
+        }
+        DataTableSpec spec =
+            DataTableSpec.mergeDataTableSpecs(m_partSpecs.toArray(new DataTableSpec[m_partSpecs.size()]));
+        return LoopEndConcatenateTable.create(m_parts, iterations, firstRows, m_rowKeyPolicy, m_addIterationColumn,
+            spec, exec);
+    }
+
     /**
      * Finally creates the {@link ConcatenateTable}. All data containers will be closed and no more tables can be added
      * to the factory after this method call.
@@ -264,6 +456,9 @@ void addTable(final RowInput table, final ExecutionContext exec) throws Interrup
      * @throws DuplicateKeyException
      */
     BufferedDataTable createTable(final ExecutionContext exec) throws CanceledExecutionException, DuplicateKeyException, IOException {
+        if (m_referenceTables) {
+            return createTableFromReferences(exec);
+        }
 
     	//return at least the empty table if thats the only one that is available
         if(m_tables.size() == 0 && m_emptyTable != null) {
@@ -271,7 +466,9 @@ BufferedDataTable createTable(final ExecutionContext exec) throws CanceledExecut
             return m_emptyTable.getTable();
         }
 
-        m_duplicateChecker.checkForDuplicates();
+        if (m_checkDuplicates) {
+            m_duplicateChecker.checkForDuplicates();
+        }
 
         //close last used table
         m_tables.get(m_tables.size() - 1).close();
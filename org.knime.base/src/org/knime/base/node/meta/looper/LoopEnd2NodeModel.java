@@ -47,11 +47,8 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Optional;
-import java.util.function.Function;
 
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -60,28 +57,22 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndOptionalParallelizeNode;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class LoopEnd2NodeModel extends NodeModel implements LoopEndNode {
-
-    /* Overall row count port 1 */
-    private int m_count1 = 0;
-
-    /* Overall row count port 2 */
-    private int m_count2 = 0;
-
-    /* Current iteration */
-    private int m_iteration  = 0;
+public class LoopEnd2NodeModel extends NodeModel implements LoopEndOptionalParallelizeNode {
 
     private ConcatenateTableFactory[] m_tableFactories  = new ConcatenateTableFactory[2];
 
     private final LoopEnd2NodeSettings m_settings = new LoopEnd2NodeSettings();
 
+    private final LoopEndParallelChunks m_parallelChunks = new LoopEndParallelChunks();
+
     /** Creates a new model. */
     public LoopEnd2NodeModel() {
         super(2, 2);
@@ -96,8 +87,6 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
         if (m_settings.ignoreEmptyTables1() || m_settings.tolerateColumnTypes1() || m_settings.tolerateChangingTableSpecs1()) {
             spec0 = null;
         } else {
-            ConcatenateTableFactory fac = new ConcatenateTableFactory(m_settings.ignoreEmptyTables1(),
-                m_settings.tolerateColumnTypes1(), m_settings.addIterationColumn(), false, Optional.empty());
             spec0 = ConcatenateTableFactory.createSpec(inSpecs[0], m_settings.addIterationColumn(), false);
         }
         final DataTableSpec spec1;
@@ -125,48 +114,33 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
 
         if(m_tableFactories[0] == null) {
             //first iteration -> create table factories
-            Optional<Function<RowKey, RowKey>> rowKeyFunc1;
-            Optional<Function<RowKey, RowKey>> rowKeyFunc2;
-            switch(m_settings.rowKeyPolicy()) {
-                case APPEND_SUFFIX:
-                    rowKeyFunc1 = Optional.of(k -> {return new RowKey(k.toString() + "#" + (m_iteration));});
-                    rowKeyFunc2 = Optional.of(k -> {return new RowKey(k.toString() + "#" + (m_iteration));});
-                    break;
-                case GENERATE_NEW:
-                    rowKeyFunc1 = Optional.of(k -> {return new RowKey("Row" + (m_count1++));});
-                    rowKeyFunc2 = Optional.of(k -> {return new RowKey("Row" + (m_count2++));});
-                    break;
-                case UNMODIFIED:
-                default:
-                    rowKeyFunc1 = Optional.empty();
-                    rowKeyFunc2 = Optional.empty();
-            }
-
-            m_tableFactories[0] =
-                new ConcatenateTableFactory(m_settings.ignoreEmptyTables1(), m_settings.tolerateColumnTypes1(),
-                    m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs1(), rowKeyFunc1);
-            m_tableFactories[1] =
-                new ConcatenateTableFactory(m_settings.ignoreEmptyTables2(), m_settings.tolerateColumnTypes2(),
-                    m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs2(), rowKeyFunc2);
+            m_tableFactories[0] = new ConcatenateTableFactory(m_settings.ignoreEmptyTables1(),
+                m_settings.tolerateColumnTypes1(), m_settings.addIterationColumn(),
+                m_settings.tolerateChangingTableSpecs1(), m_settings.rowKeyPolicy(), m_settings.collectByReference());
+            m_tableFactories[1] = new ConcatenateTableFactory(m_settings.ignoreEmptyTables2(),
+                m_settings.tolerateColumnTypes2(), m_settings.addIterationColumn(),
+                m_settings.tolerateChangingTableSpecs2(), m_settings.rowKeyPolicy(), m_settings.collectByReference());
         }
 
         //add tables to factories
         m_tableFactories[0].addTable(inData[0], exec);
         m_tableFactories[1].addTable(inData[1], exec);
+        // add the results of the following iterations if they were executed in parallel
+        // (copied, the chunks are removed before the loop continues)
+        m_parallelChunks.collect(exec, outputs -> {
+            m_tableFactories[0].addTable((BufferedDataTable)outputs[0], false, exec);
+            m_tableFactories[1].addTable((BufferedDataTable)outputs[1], false, exec);
+        });
 
         final boolean terminateLoop =
             ((LoopStartNodeTerminator)this.getLoopStartNode()).terminateLoop();
         if (terminateLoop) {
-            m_iteration = 0;
-            m_count1 = 0;
-            m_count2 = 0;
             BufferedDataTable[] outTables = new BufferedDataTable[2];
             outTables[0] = m_tableFactories[0].createTable(exec);
             outTables[1] = m_tableFactories[1].createTable(exec);
             return outTables;
         } else {
             continueLoop();
-            m_iteration++;
             return new BufferedDataTable[2];
         }
     }
@@ -196,9 +170,7 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
      */
     @Override
     protected void reset() {
-        m_count1 = 0;
-        m_count2 = 0;
-        m_iteration = 0;
+        m_parallelChunks.reset();
         Arrays.fill(m_tableFactories, null);
     }
 
@@ -229,4 +201,24 @@ protected void validateSettings(final NodeSettingsRO settings)
         AbstractLoopEndNodeSettings s = new LoopEndNodeSettings();
         s.loadSettings(settings);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_parallelChunks.setChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelChunks.updateStatus();
+    }
 }
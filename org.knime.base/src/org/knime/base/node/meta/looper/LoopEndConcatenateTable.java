@@ -0,0 +1,332 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.knime.base.node.meta.looper.AbstractLoopEndNodeSettings.RowKeyPolicy;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.container.BlobSupportDataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.ExtensionTable;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.WorkflowDataRepository;
+
+/**
+ * Table created by the loop end nodes if the iteration results are collected by reference (see
+ * {@link ConcatenateTableFactory}). It concatenates the referenced tables and applies the row key policy and the
+ * iteration column while iterating, so the rows of the loop body are not copied. Tables that had to be copied during
+ * the loop are part of it as well, their rows are returned unmodified.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LoopEndConcatenateTable extends ExtensionTable {
+
+    private static final String CFG_REFERENCE_IDS = "table_reference_IDs";
+
+    private static final String CFG_ITERATIONS = "iterations";
+
+    private static final String CFG_FIRST_ROW_INDICES = "first_row_indices";
+
+    private static final String CFG_ROW_KEY_POLICY = "row_key_policy";
+
+    private static final String CFG_ADD_ITERATION_COLUMN = "add_iteration_column";
+
+    private static final String CFG_ROW_COUNT = "row_count";
+
+    private final BufferedDataTable[] m_tables;
+
+    /** Iteration of the referenced table or -1 if its rows are final (copied during the loop). */
+    private final int[] m_iterations;
+
+    /** Overall index of the first row of each table, used for {@link RowKeyPolicy#GENERATE_NEW}. */
+    private final long[] m_firstRowIndices;
+
+    private final RowKeyPolicy m_rowKeyPolicy;
+
+    private final boolean m_addIterationColumn;
+
+    private final DataTableSpec m_spec;
+
+    private final long m_rowCount;
+
+    private LoopEndConcatenateTable(final BufferedDataTable[] tables, final int[] iterations,
+        final long[] firstRowIndices, final RowKeyPolicy rowKeyPolicy, final boolean addIterationColumn,
+        final DataTableSpec spec, final long rowCount) {
+        m_tables = tables;
+        m_iterations = iterations;
+        m_firstRowIndices = firstRowIndices;
+        m_rowKeyPolicy = rowKeyPolicy;
+        m_addIterationColumn = addIterationColumn;
+        m_spec = spec;
+        m_rowCount = rowCount;
+    }
+
+    /**
+     * Restores the table from a saved workflow.
+     *
+     * @param context the load context
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    @SuppressWarnings("unused") // invoked by reflection
+    private LoopEndConcatenateTable(final LoadContext context) throws InvalidSettingsException {
+        NodeSettingsRO s = context.getSettings();
+        int[] referenceIDs = s.getIntArray(CFG_REFERENCE_IDS);
+        m_tables = new BufferedDataTable[referenceIDs.length];
+        for (int i = 0; i < referenceIDs.length; i++) {
+            m_tables[i] = context.getTable(referenceIDs[i]);
+            if (m_tables[i] == null) {
+                throw new InvalidSettingsException("Referenced table with ID " + referenceIDs[i] + " not found");
+            }
+        }
+        m_iterations = s.getIntArray(CFG_ITERATIONS);
+        m_firstRowIndices = s.getLongArray(CFG_FIRST_ROW_INDICES);
+        try {
+            m_rowKeyPolicy = RowKeyPolicy.valueOf(s.getString(CFG_ROW_KEY_POLICY));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidSettingsException("Invalid row key policy: " + s.getString(CFG_ROW_KEY_POLICY), e);
+        }
+        m_addIterationColumn = s.getBoolean(CFG_ADD_ITERATION_COLUMN);
+        m_rowCount = s.getLong(CFG_ROW_COUNT);
+        m_spec = context.getTableSpec();
+        if (m_iterations.length != m_tables.length || m_firstRowIndices.length != m_tables.length) {
+            throw new InvalidSettingsException("Inconsistent number of referenced tables");
+        }
+    }
+
+    /**
+     * Creates the table.
+     *
+     * @param tables the tables in output order
+     * @param iterations the iteration of each table whose row keys and iteration column are yet to be applied, -1 for
+     *            tables that contain the final rows
+     * @param firstRowIndices the overall index of the first row of each table
+     * @param rowKeyPolicy the policy of the loop end
+     * @param addIterationColumn whether to append the iteration column to the referenced tables
+     * @param spec the spec of the concatenated table
+     * @param exec to create the table, the referenced tables remain owned by the nodes that created them
+     * @return the new table
+     */
+    static BufferedDataTable create(final List<BufferedDataTable> tables, final int[] iterations,
+        final long[] firstRowIndices, final RowKeyPolicy rowKeyPolicy, final boolean addIterationColumn,
+        final DataTableSpec spec, final ExecutionContext exec) {
+        long rowCount = 0;
+        for (BufferedDataTable t : tables) {
+            rowCount += t.size();
+        }
+        return new LoopEndConcatenateTable(tables.toArray(new BufferedDataTable[tables.size()]), iterations,
+            firstRowIndices, rowKeyPolicy, addIterationColumn, spec, rowCount).create(exec);
+    }
+
+    /**
+     * Determines the row key of a row in the loop end output.
+     *
+     * @param policy the row key policy
+     * @param key the original key
+     * @param iteration the iteration of the row
+     * @param rowIndex the overall index of the row in the output
+     * @return the new key
+     */
+    static RowKey createRowKey(final RowKeyPolicy policy, final RowKey key, final int iteration,
+        final long rowIndex) {
+        switch (policy) {
+            case APPEND_SUFFIX:
+                return new RowKey(key.getString() + "#" + iteration);
+            case GENERATE_NEW:
+                return new RowKey("Row" + rowIndex);
+            case UNMODIFIED:
+            default:
+                return key;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataTableSpec getDataTableSpec() {
+        return m_spec;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Deprecated
+    public int getRowCount() {
+        return KnowsRowCountTable.checkRowCount(m_rowCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() {
+        return m_rowCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BufferedDataTable[] getReferenceTables() {
+        return m_tables;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        // no own data, the referenced tables are cleared by their owner
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ensureOpen() {
+        // no own data
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putIntoTableRepository(final WorkflowDataRepository dataRepository) {
+        // no new tables
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean removeFromTableRepository(final WorkflowDataRepository dataRepository) {
+        // no new tables
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveToFileOverwrite(final File f, final NodeSettingsWO settings, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        int[] referenceIDs = new int[m_tables.length];
+        for (int i = 0; i < m_tables.length; i++) {
+            referenceIDs[i] = m_tables[i].getBufferedTableId();
+        }
+        settings.addIntArray(CFG_REFERENCE_IDS, referenceIDs);
+        settings.addIntArray(CFG_ITERATIONS, m_iterations);
+        settings.addLongArray(CFG_FIRST_ROW_INDICES, m_firstRowIndices);
+        settings.addString(CFG_ROW_KEY_POLICY, m_rowKeyPolicy.name());
+        settings.addBoolean(CFG_ADD_ITERATION_COLUMN, m_addIterationColumn);
+        settings.addLong(CFG_ROW_COUNT, m_rowCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CloseableRowIterator iterator() {
+        return new LoopEndConcatenateIterator();
+    }
+
+    private final class LoopEndConcatenateIterator extends CloseableRowIterator {
+
+        private int m_tableIndex = -1;
+
+        private CloseableRowIterator m_current;
+
+        private long m_rowIndex;
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            while (m_current == null || !m_current.hasNext()) {
+                if (m_current != null) {
+                    m_current.close();
+                    m_current = null;
+                }
+                if (m_tableIndex >= m_tables.length - 1) {
+                    return false;
+                }
+                m_tableIndex++;
+                m_current = m_tables[m_tableIndex].iterator();
+                m_rowIndex = m_firstRowIndices[m_tableIndex];
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows");
+            }
+            DataRow row = m_current.next();
+            int iteration = m_iterations[m_tableIndex];
+            long rowIndex = m_rowIndex++;
+            if (iteration < 0) {
+                return row;
+            }
+            if (m_rowKeyPolicy != RowKeyPolicy.UNMODIFIED) {
+                row = new BlobSupportDataRow(createRowKey(m_rowKeyPolicy, row.getKey(), iteration, rowIndex), row);
+            }
+            if (m_addIterationColumn) {
+                row = new AppendedColumnRow(row, new IntCell(iteration));
+            }
+            return row;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            if (m_current != null) {
+                m_current.close();
+                m_current = null;
+            }
+            m_tableIndex = m_tables.length;
+        }
+    }
+}
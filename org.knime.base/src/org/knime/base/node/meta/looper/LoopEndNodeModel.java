@@ -49,11 +49,8 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Optional;
-import java.util.function.Function;
 
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -63,32 +60,29 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopEndOptionalParallelizeNode;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 
 /**
  * This model is the tail node of a for loop.
  *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class LoopEndNodeModel extends NodeModel implements LoopEndNode {
+public class LoopEndNodeModel extends NodeModel implements LoopEndOptionalParallelizeNode {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(LoopEndNodeModel.class);
 
     private long m_startTime;
 
-    //overall row count
-    private long m_count = 0;
-
-    //current iteration
-    private int m_iteration = 0;
-
     /* Helper factory to collect the intermediate tables and create
      * the final concatenated table. */
     private ConcatenateTableFactory m_tableFactory;
 
     private final LoopEndNodeSettings m_settings = new LoopEndNodeSettings();
 
+    private final LoopEndParallelChunks m_parallelChunks = new LoopEndParallelChunks();
+
 
     /** Creates a new model. */
     public LoopEndNodeModel() {
@@ -122,34 +116,24 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
 
         if(m_tableFactory == null) {
             //first time we get here: create table factory
-            Optional<Function<RowKey, RowKey>> rowKeyFunc;
-            switch(m_settings.rowKeyPolicy()) {
-                case APPEND_SUFFIX:
-                    rowKeyFunc = Optional.of(k -> {return new RowKey(k.toString() + "#" + (m_iteration));});
-                    break;
-                case GENERATE_NEW:
-                    rowKeyFunc = Optional.of(k -> {return new RowKey("Row" + (m_count++));});
-                    break;
-                case UNMODIFIED:
-                default:
-                    rowKeyFunc = Optional.empty();
-            }
             m_tableFactory = new ConcatenateTableFactory(m_settings.ignoreEmptyTables(),
-                m_settings.tolerateColumnTypes(), m_settings.addIterationColumn(), m_settings.tolerateChangingTableSpecs(), rowKeyFunc);
+                m_settings.tolerateColumnTypes(), m_settings.addIterationColumn(),
+                m_settings.tolerateChangingTableSpecs(), m_settings.rowKeyPolicy(), m_settings.collectByReference());
             m_startTime = System.currentTimeMillis();
         }
 
         m_tableFactory.addTable(inData[0], exec);
+        // add the results of the following iterations if they were executed in parallel
+        // (copied, the chunks are removed before the loop continues)
+        m_parallelChunks.collect(exec,
+            outputs -> m_tableFactory.addTable((BufferedDataTable)outputs[0], false, exec));
 
         boolean terminateLoop = ((LoopStartNodeTerminator)this.getLoopStartNode()).terminateLoop();
         if (terminateLoop) {
             LOGGER.debug("Total loop execution time: " + (System.currentTimeMillis() - m_startTime) + "ms");
             m_startTime = 0;
-            m_iteration = 0;
-            m_count = 0;
             return new BufferedDataTable[]{m_tableFactory.createTable(exec)};
         } else {
-            m_iteration++;
             continueLoop();
             return new BufferedDataTable[1];
         }
@@ -180,10 +164,9 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
      */
     @Override
     protected void reset() {
+        m_parallelChunks.reset();
         m_startTime = 0;
         m_tableFactory = null;
-        m_count = 0;
-        m_iteration = 0;
     }
 
     /**
@@ -213,4 +196,24 @@ protected void validateSettings(final NodeSettingsRO settings)
         AbstractLoopEndNodeSettings s = new LoopEndNodeSettings();
         s.loadSettings(settings);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_parallelChunks.setChunkMaster(pcm);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.7
+     */
+    @Override
+    public void updateStatus() {
+        m_parallelChunks.updateStatus();
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Helper for loop end nodes that collect the results of iterations which were run as parallel chunks
+ * ({@link LoopEndParallelizeNode}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LoopEndParallelChunks {
+
+    /** Consumes the output of a single remote chunk. */
+    @FunctionalInterface
+    interface ChunkOutputConsumer {
+        /**
+         * @param outputs the objects at the (virtual) loop end of the chunk, without flow variable port
+         * @throws Exception if the output can't be processed
+         */
+        void accept(PortObject[] outputs) throws Exception;
+    }
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
+    /**
+     * @param chunkMaster the chunks of the current iteration
+     */
+    synchronized void setChunkMaster(final ParallelizedChunkContentMaster chunkMaster) {
+        m_chunkMaster = chunkMaster;
+    }
+
+    /** Wakes up a thread waiting for the chunks. */
+    synchronized void updateStatus() {
+        notifyAll();
+    }
+
+    /**
+     * Waits for the remote chunks of the current iteration, passes their outputs in chunk (i.e. iteration) order to
+     * <b>consumer</b> and removes the chunks afterwards. Does nothing if the iteration was not parallelized.
+     *
+     * @param exec to check for cancellation
+     * @param consumer the consumer of the chunk outputs
+     * @throws Exception if a chunk failed, the execution was canceled or the consumer failed
+     */
+    void collect(final ExecutionContext exec, final ChunkOutputConsumer consumer) throws Exception {
+        final ParallelizedChunkContentMaster chunkMaster;
+        synchronized (this) {
+            chunkMaster = m_chunkMaster;
+            m_chunkMaster = null;
+        }
+        if (chunkMaster == null) {
+            return;
+        }
+        try {
+            waitForChunks(chunkMaster, exec);
+            final int nrFailed = chunkMaster.nrFailedChunks();
+            if (nrFailed > 0) {
+                throw new IllegalStateException(nrFailed + " of " + chunkMaster.nrChunks()
+                    + " iteration(s) running in parallel failed.");
+            }
+            for (int i = 0; i < chunkMaster.nrChunks(); i++) {
+                consumer.accept(chunkMaster.getChunk(i).getOutportContent());
+            }
+        } catch (CanceledExecutionException e) {
+            chunkMaster.cancelChunkExecution();
+            throw e;
+        } finally {
+            chunkMaster.cleanupChunks();
+        }
+    }
+
+    /**
+     * Removes the chunks of an interrupted iteration.
+     */
+    void reset() {
+        final ParallelizedChunkContentMaster chunkMaster;
+        synchronized (this) {
+            chunkMaster = m_chunkMaster;
+            m_chunkMaster = null;
+        }
+        if (chunkMaster != null) {
+            chunkMaster.cancelChunkExecution();
+            chunkMaster.cleanupChunks();
+        }
+    }
+
+    private void waitForChunks(final ParallelizedChunkContentMaster chunkMaster, final ExecutionContext exec)
+        throws Exception {
+        final Callable<Void> waiter = () -> {
+            synchronized (this) {
+                while (chunkMaster.nrExecutingChunks() > 0) {
+                    exec.checkCanceled();
+                    exec.setMessage(chunkMaster.nrExecutedChunks() + " of " + chunkMaster.nrChunks()
+                        + " parallel iterations finished");
+                    wait(500);
+                }
+            }
+            return null;
+        };
+        // don't block a pool thread while the chunks execute
+        final ThreadPool pool = ThreadPool.currentPool();
+        if (pool == null) {
+            waiter.call();
+            return;
+        }
+        try {
+            pool.runInvisible(waiter);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception)e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -49,6 +49,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -61,7 +62,11 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartOptionalParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * This model is the head node of a for loop.
@@ -69,10 +74,12 @@
  * @author Thorsten Meinl, University of Konstanz
  */
 public class LoopStartCountNodeModel extends NodeModel
-implements LoopStartNodeTerminator {
+implements LoopStartNodeTerminator, LoopStartOptionalParallelizeNode {
 
     private int m_iteration;
 
+    private final LoopStartParallelChunks m_parallelChunks = new LoopStartParallelChunks();
+
     private final LoopStartCountSettings m_settings = new LoopStartCountSettings();
 
     /**
@@ -114,14 +121,58 @@ protected PortObject[] execute(final PortObject[] inData,
             assert m_iteration > 0;
             // otherwise we do this again.
         }
+        final int maxRemoteChunks = m_parallelChunks.startIteration(m_settings.parallelIterations());
         // let's also put the counts on the stack for someone else:
         pushFlowVariableInt("currentIteration", m_iteration);
         pushFlowVariableInt("maxIterations", m_settings.loops());
         // increment counter for next iteration
         m_iteration++;
+        // the following iterations are run in parallel copies of the loop body (if allowed)
+        while (m_parallelChunks.getNrRemoteChunks() < maxRemoteChunks && m_iteration < m_settings.loops()) {
+            m_parallelChunks.addRemoteChunk(inData, Arrays.asList(
+                new FlowVariable("currentIteration", m_iteration),
+                new FlowVariable("maxIterations", m_settings.loops())));
+            m_iteration++;
+        }
         return inData;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public void setParallelizable(final boolean parallelizable) {
+        m_parallelChunks.setParallelizable(parallelizable);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        return m_parallelChunks.getVirtualNodeInput(chunkIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_parallelChunks.getNrRemoteChunks();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_parallelChunks.setChunkMaster(pccm);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -155,6 +206,7 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
     @Override
     protected void reset() {
         m_iteration = 0;
+        m_parallelChunks.reset();
     }
 
     /**
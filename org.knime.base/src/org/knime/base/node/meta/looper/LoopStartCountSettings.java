@@ -56,6 +56,8 @@
 public class LoopStartCountSettings {
     private int m_loops = 10;
 
+    private int m_parallelIterations = 1;
+
     /**
      * Sets the number of times the inner workflow should be executed.
      * @param loops the number loops, which must be &gt; 0
@@ -73,6 +75,24 @@ public int loops() {
     }
 
 
+    /**
+     * Sets the number of iterations that are executed concurrently if the loop body allows it.
+     * @param parallelIterations the number of parallel iterations, 1 executes the loop sequentially
+     * @since 3.7
+     */
+    public void parallelIterations(final int parallelIterations) {
+        m_parallelIterations = parallelIterations;
+    }
+
+    /**
+     * Returns the number of iterations that are executed concurrently.
+     * @return the number of parallel iterations, 1 if the loop is executed sequentially
+     * @since 3.7
+     */
+    public int parallelIterations() {
+        return m_parallelIterations;
+    }
+
     /**
      * Loads the settings from the node settings object.
      *
@@ -80,6 +100,8 @@ public int loops() {
      */
     public void loadSettingsFrom(final NodeSettingsRO settings) {
         m_loops = settings.getInt("loops", 10);
+        // added in 3.7
+        m_parallelIterations = settings.getInt("parallelIterations", 1);
     }
 
 
@@ -90,5 +112,6 @@ public void loadSettingsFrom(final NodeSettingsRO settings) {
      */
     public void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addInt("loops", m_loops);
+        settings.addInt("parallelIterations", m_parallelIterations);
     }
 }
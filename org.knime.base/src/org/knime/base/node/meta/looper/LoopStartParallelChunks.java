@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.meta.looper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.LoopStartOptionalParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
+
+/**
+ * Helper for ordinary loop start nodes that can run several iterations concurrently
+ * ({@link LoopStartOptionalParallelizeNode}). In each execution the start node emits its next iteration as usual and
+ * additionally prepares the input of up to <code>n - 1</code> following iterations as remote chunks. The framework
+ * copies the loop body for each remote chunk and the loop end appends the chunk results in iteration order.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class LoopStartParallelChunks {
+
+    private final List<VirtualParallelizedChunkNodeInput> m_remoteChunks =
+        new ArrayList<VirtualParallelizedChunkNodeInput>();
+
+    private boolean m_parallelizable;
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
+    /**
+     * @param parallelizable whether the framework allows to run the loop body in parallel, see
+     *            {@link LoopStartOptionalParallelizeNode#setParallelizable(boolean)}
+     */
+    public void setParallelizable(final boolean parallelizable) {
+        m_parallelizable = parallelizable;
+    }
+
+    /**
+     * Starts a new execution of the loop start node, i.e. forgets the remote chunks of the previous execution.
+     *
+     * @param nrParallelIterations the number of iterations to run concurrently as configured by the user
+     * @return the number of remote chunks to prepare in addition to the iteration of the start node itself,
+     *         <code>0</code> if the loop runs sequentially
+     */
+    public int startIteration(final int nrParallelIterations) {
+        m_remoteChunks.clear();
+        m_chunkMaster = null;
+        return m_parallelizable ? Math.max(0, nrParallelIterations - 1) : 0;
+    }
+
+    /**
+     * Adds the input of the next iteration that is run as a remote chunk.
+     *
+     * @param inputObjects the data of the iteration (the output of the loop start node without flow variable port)
+     * @param flowVariables the variables the loop start node pushes for this iteration, only int, double and string
+     *            variables are supported
+     */
+    public void addRemoteChunk(final PortObject[] inputObjects, final List<FlowVariable> flowVariables) {
+        m_remoteChunks.add(
+            new VirtualParallelizedChunkNodeInput(inputObjects, flowVariables, m_remoteChunks.size()));
+    }
+
+    /**
+     * @return the number of remote chunks prepared in the current execution
+     */
+    public int getNrRemoteChunks() {
+        return m_remoteChunks.size();
+    }
+
+    /**
+     * @param chunkIndex the index of the remote chunk
+     * @return the input of the virtual start node of the chunk
+     */
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        return m_remoteChunks.get(chunkIndex);
+    }
+
+    /**
+     * @param chunkMaster the chunk master of the current execution
+     */
+    public void setChunkMaster(final ParallelizedChunkContentMaster chunkMaster) {
+        m_chunkMaster = chunkMaster;
+    }
+
+    /**
+     * Removes the remote chunks (if not done yet by the loop end) and forgets the prepared iterations. To be called
+     * when the loop start node is reset.
+     */
+    public void reset() {
+        if (m_chunkMaster != null) {
+            m_chunkMaster.cleanupChunks();
+            m_chunkMaster = null;
+        }
+        m_remoteChunks.clear();
+    }
+}
@@ -68,6 +68,7 @@ enum Mode {
     private Mode m_mode = Mode.RowsPerChunk;
     private int m_nrRowsPerChunk = 1;
     private int m_nrOfChunks = 1;
+    private int m_nrParallelChunks = 1;
 
     /** @return the mode */
     Mode getMode() {
@@ -109,12 +110,27 @@ void setNrOfChunks(final int nrOfChunks) throws InvalidSettingsException {
         m_nrOfChunks = nrOfChunks;
     }
 
+    /** @return the number of chunks that are processed concurrently */
+    int getNrParallelChunks() {
+        return m_nrParallelChunks;
+    }
+    /** @param nrParallelChunks the number of chunks to process concurrently
+    * @throws InvalidSettingsException If argument &lt; 1*/
+    void setNrParallelChunks(final int nrParallelChunks) throws InvalidSettingsException {
+        if (nrParallelChunks < 1) {
+            throw new InvalidSettingsException("No of parallel chunks must "
+                    + "be at least 1: " + nrParallelChunks);
+        }
+        m_nrParallelChunks = nrParallelChunks;
+    }
+
     /** Saves current settings to argument.
      * @param settings To save to. */
     void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addString("mode", m_mode.name());
         settings.addInt("nrRowsPerChunk", m_nrRowsPerChunk);
         settings.addInt("nrOfChunks", m_nrOfChunks);
+        settings.addInt("nrParallelChunks", m_nrParallelChunks);
     }
 
     /** Load settings in model, fails if incomplete.
@@ -134,6 +150,8 @@ void loadSettingsInModel(final NodeSettingsRO settings)
         }
         setNrRowsPerChunk(settings.getInt("nrRowsPerChunk"));
         setNrOfChunks(settings.getInt("nrOfChunks"));
+        // added in 3.7
+        setNrParallelChunks(settings.getInt("nrParallelChunks", 1));
     }
 
     /** Load settings in dialog, use default if invalid.
@@ -159,6 +177,11 @@ void loadSettingsInDialog(final NodeSettingsRO settings) {
         } catch (InvalidSettingsException e) {
             // use default;
         }
+        try {
+            setNrParallelChunks(settings.getInt("nrParallelChunks", 1));
+        } catch (InvalidSettingsException e) {
+            // use default;
+        }
     }
 
     /** {@inheritDoc} */
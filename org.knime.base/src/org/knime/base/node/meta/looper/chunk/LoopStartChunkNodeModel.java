@@ -49,7 +49,9 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 
+import org.knime.base.node.meta.looper.LoopStartParallelChunks;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataContainer;
@@ -61,7 +63,12 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartOptionalParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
 /**
  * Loop start node that outputs a set of rows at a time. Used to implement
@@ -71,7 +78,7 @@
  * @author Bernd Wiswedel, KNIME AG, Zurich, Switzerland
  */
 public class LoopStartChunkNodeModel extends NodeModel implements
-        LoopStartNodeTerminator {
+        LoopStartNodeTerminator, LoopStartOptionalParallelizeNode {
 
     private LoopStartChunkConfiguration m_config;
 
@@ -82,6 +89,9 @@ public class LoopStartChunkNodeModel extends NodeModel implements
     // loop variants
     private int m_iteration;
 
+    private final LoopStartParallelChunks m_parallelChunks =
+        new LoopStartParallelChunks();
+
     /**
      * Creates a new model.
      */
@@ -140,15 +150,65 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             assert table == m_table : "Input tables differ between iterations";
         }
 
-        BufferedDataContainer cont = exec.createDataContainer(table.getSpec());
-        for (int i = 0; i < nrRowsPerIteration && m_iterator.hasNext(); i++) {
-            cont.addRowToTable(m_iterator.next());
-        }
-        cont.close();
+        final int maxRemoteChunks = m_parallelChunks.startIteration(
+                m_config.getNrParallelChunks());
+        BufferedDataTable chunk = readChunk(nrRowsPerIteration, exec);
         pushFlowVariableInt("currentIteration", m_iteration);
         pushFlowVariableInt("maxIterations", totalChunkCount);
         m_iteration++;
-        return new BufferedDataTable[] {cont.getTable()};
+        // the following chunks are processed in parallel copies of the
+        // loop body (if allowed)
+        while (m_parallelChunks.getNrRemoteChunks() < maxRemoteChunks
+                && m_iterator.hasNext()) {
+            BufferedDataTable remoteChunk =
+                readChunk(nrRowsPerIteration, exec);
+            m_parallelChunks.addRemoteChunk(
+                    new PortObject[] {remoteChunk}, Arrays.asList(
+                    new FlowVariable("currentIteration", m_iteration),
+                    new FlowVariable("maxIterations", totalChunkCount)));
+            m_iteration++;
+        }
+        return new BufferedDataTable[] {chunk};
+    }
+
+    private BufferedDataTable readChunk(final int nrRows,
+            final ExecutionContext exec) {
+        BufferedDataContainer cont =
+            exec.createDataContainer(m_table.getSpec());
+        for (int i = 0; i < nrRows && m_iterator.hasNext(); i++) {
+            cont.addRowToTable(m_iterator.next());
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public void setParallelizable(final boolean parallelizable) {
+        m_parallelChunks.setParallelizable(parallelizable);
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(
+            final int chunkIndex) {
+        return m_parallelChunks.getVirtualNodeInput(chunkIndex);
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_parallelChunks.getNrRemoteChunks();
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_parallelChunks.setChunkMaster(pccm);
     }
 
     /**
@@ -162,6 +222,7 @@ protected void reset() {
         }
         m_iterator = null;
         m_table = null;
+        m_parallelChunks.reset();
     }
 
     /** {@inheritDoc} */
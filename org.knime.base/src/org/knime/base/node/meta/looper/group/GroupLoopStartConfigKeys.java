@@ -64,4 +64,9 @@ private GroupLoopStartConfigKeys() { /* empty constructor */ }
      * The configuration key for "sorted input" setting.
      */
     static final String SORTED_INPUT_TABLE = "SortedInput";
+
+    /**
+     * The configuration key for the number of groups processed in parallel.
+     */
+    static final String PARALLEL_ITERATIONS = "ParallelIterations";
 }
@@ -50,8 +50,10 @@
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnFilter2;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 
 /**
  * Creates the dialog of the group loop start node and provides static methods
@@ -83,6 +85,17 @@ static final SettingsModelBoolean getSortedInputTableModel() {
                 GroupLoopStartNodeModel.DEF_SORTED_INPUT_TABLE);
     }
 
+    /**
+     * Creates and returns the settings model, storing the number of groups
+     * that are processed in parallel.
+     *
+     * @return The settings model with the number of parallel iterations.
+     */
+    static final SettingsModelIntegerBounded getParallelIterationsModel() {
+        return new SettingsModelIntegerBounded(
+                GroupLoopStartConfigKeys.PARALLEL_ITERATIONS, 1, 1, 1024);
+    }
+
     /**
      * Creates new instance of <code>GroupLoopStartNodeDialog</code>.
      */
@@ -97,5 +110,9 @@ public GroupLoopStartNodeDialog() {
                 new DialogComponentBoolean(getSortedInputTableModel(),
                         "Input is already sorted by group column(s) "
                         + "[execution fails if not correctly sorted]"));
+
+        // parallel iterations
+        addDialogComponent(new DialogComponentNumber(
+                getParallelIterationsModel(), "Parallel iterations", 1));
     }
 }
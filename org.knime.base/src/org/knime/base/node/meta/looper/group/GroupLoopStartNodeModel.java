@@ -49,9 +49,11 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.knime.base.node.meta.looper.LoopStartParallelChunks;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -72,7 +74,13 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.LoopStartNodeTerminator;
+import org.knime.core.node.workflow.LoopStartOptionalParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
 
@@ -86,7 +94,8 @@
  * @author Kilian Thiel, KNIME.com, Berlin, Germany
  */
 class GroupLoopStartNodeModel extends NodeModel implements
-        LoopStartNodeTerminator, BufferedDataTableHolder {
+        LoopStartNodeTerminator, LoopStartOptionalParallelizeNode,
+        BufferedDataTableHolder {
 
     /**
      * The default "sorted input table" setting.
@@ -104,6 +113,12 @@ class GroupLoopStartNodeModel extends NodeModel implements
     private final SettingsModelBoolean m_sortedInputTableModel =
         GroupLoopStartNodeDialog.getSortedInputTableModel();
 
+    private final SettingsModelIntegerBounded m_parallelIterationsModel =
+        GroupLoopStartNodeDialog.getParallelIterationsModel();
+
+    private final LoopStartParallelChunks m_parallelChunks =
+        new LoopStartParallelChunks();
+
     // loop invariants
     private BufferedDataTable m_table;
     private BufferedDataTable m_sortedTable;
@@ -212,12 +227,55 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         }
 
 
+        final int maxRemoteChunks = m_parallelChunks.startIteration(
+                m_parallelIterationsModel.getIntValue());
+        BufferedDataTable group = nextGroup(exec, checkDuplicates);
+
+        // push variables
+        pushFlowVariableInt("currentIteration", m_iteration);
+        for (FlowVariable v : createGroupColumnValueVariables(
+                m_lastGroupingState)) {
+            pushVariable(v);
+        }
+        pushFlowVariableString("groupIdentifier",
+                m_lastGroupingState.getGroupIdentifier());
+        m_iteration++;
+
+        // the following groups are processed in parallel copies of the
+        // loop body (if allowed)
+        while (m_parallelChunks.getNrRemoteChunks() < maxRemoteChunks
+                && !m_endLoop) {
+            BufferedDataTable remoteGroup = nextGroup(exec, checkDuplicates);
+            List<FlowVariable> vars = new ArrayList<FlowVariable>();
+            vars.add(new FlowVariable("currentIteration", m_iteration));
+            vars.addAll(createGroupColumnValueVariables(m_lastGroupingState));
+            vars.add(new FlowVariable("groupIdentifier",
+                    m_lastGroupingState.getGroupIdentifier()));
+            m_parallelChunks.addRemoteChunk(
+                    new PortObject[] {remoteGroup}, vars);
+            m_iteration++;
+        }
+
+        return new BufferedDataTable[] {group};
+    }
+
+    /**
+     * Collects the rows of the next group from the sorted table and updates
+     * the grouping state (and the end loop flag) accordingly.
+     *
+     * @param exec To create the group table.
+     * @param checkDuplicates Whether to check that the input is sorted.
+     * @return The rows of the next group.
+     * @throws DuplicateKeyException If the input is not properly sorted.
+     */
+    private BufferedDataTable nextGroup(final ExecutionContext exec,
+            final boolean checkDuplicates) throws DuplicateKeyException {
         ///////////////////////////
         //
         /// INIT
         //
         ///////////////////////////
-        BufferedDataContainer cont = exec.createDataContainer(table.getSpec());
+        BufferedDataContainer cont = exec.createDataContainer(m_spec);
 
         // create new duplicate checker if null
         if (m_duplicateChecker == null) {
@@ -317,14 +375,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             }
         }
 
-        // push variables
-        pushFlowVariableInt("currentIteration", m_iteration);
-        pushGroupColumnValuesAsFlowVariables(m_lastGroupingState);
-        pushFlowVariableString("groupIdentifier",
-                m_lastGroupingState.getGroupIdentifier());
-        m_iteration++;
-
-        return new BufferedDataTable[] {cont.getTable()};
+        return cont.getTable();
     }
 
     /**
@@ -362,6 +413,8 @@ protected void reset() {
 
         m_lastGroupingState = null;
         m_currentGroupingState = null;
+
+        m_parallelChunks.reset();
     }
 
     /** {@inheritDoc} */
@@ -380,22 +433,27 @@ public void setInternalTables(final BufferedDataTable[] tables) {
     }
 
     /**
-     * Pushed the values of the specified grouping state as flow variables.
+     * Creates flow variables holding the values of the specified grouping
+     * state.
      *
-     * @param gs The grouping state holding the variables (cells) to push.
+     * @param gs The grouping state holding the variables (cells).
+     * @return The variables, one for each group column.
      */
-    private void pushGroupColumnValuesAsFlowVariables(final GroupingState gs) {
+    private List<FlowVariable> createGroupColumnValueVariables(
+            final GroupingState gs) {
+        List<FlowVariable> vars = new ArrayList<FlowVariable>();
         if (gs != null) {
             DataCell[] cells = gs.getGroupCells();
             if (cells != null) {
                 for (int i = 0; i < cells.length; i++) {
                     DataCell c = cells[i];
                     int j = m_includedColIndices[i];
-                    pushVariable(c.getType(), m_spec.getColumnSpec(j).getName(),
-                            c);
+                    vars.add(createVariable(c.getType(),
+                            m_spec.getColumnSpec(j).getName(), c));
                 }
             }
         }
+        return vars;
     }
 
     /**
@@ -407,20 +465,22 @@ private void initGroupColumnsAsFlowVariables() {
                     m_spec).getIncludes());
             for (String colName : inclCols) {
                 DataType dt = m_spec.getColumnSpec(colName).getType();
-                pushVariable(dt, m_spec.getColumnSpec(colName).getName(), null);
+                pushVariable(createVariable(dt,
+                        m_spec.getColumnSpec(colName).getName(), null));
             }
         }
     }
 
     /**
-     * Pushes a certain flow variable based on the specified data type.
+     * Creates a certain flow variable based on the specified data type.
      *
-     * @param type The type of the variable to push.
-     * @param name The name of the variable to push.
-     * @param c The value of the variable to push.
+     * @param type The type of the variable to create.
+     * @param name The name of the variable to create.
+     * @param c The value of the variable to create.
+     * @return The int, double or string variable.
      */
-    private void pushVariable(final DataType type, final String name,
-            final DataCell c) {
+    private static FlowVariable createVariable(final DataType type,
+            final String name, final DataCell c) {
         DataType dt = type;
         if (c != null) {
             dt = c.getType();
@@ -433,7 +493,7 @@ private void pushVariable(final DataType type, final String name,
                     value = ((IntValue)c).getIntValue();
                 }
             }
-            pushFlowVariableInt(name, value);
+            return new FlowVariable(name, value);
         } else if (dt.isCompatible(DoubleValue.class)) {
             double value = 0.0;
             if (c != null) {
@@ -441,7 +501,7 @@ private void pushVariable(final DataType type, final String name,
                     value = ((DoubleValue)c).getDoubleValue();
                 }
             }
-            pushFlowVariableDouble(name, value);
+            return new FlowVariable(name, value);
         } else {
             String value = "";
             if (c != null) {
@@ -449,10 +509,57 @@ private void pushVariable(final DataType type, final String name,
                     value = c.toString();
                 }
             }
-            pushFlowVariableString(name, value);
+            return new FlowVariable(name, value);
         }
     }
 
+    /**
+     * Pushes the specified int, double or string flow variable.
+     *
+     * @param v The variable to push.
+     */
+    private void pushVariable(final FlowVariable v) {
+        switch (v.getType()) {
+            case INTEGER:
+                pushFlowVariableInt(v.getName(), v.getIntValue());
+                break;
+            case DOUBLE:
+                pushFlowVariableDouble(v.getName(), v.getDoubleValue());
+                break;
+            default:
+                pushFlowVariableString(v.getName(), v.getStringValue());
+        }
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public void setParallelizable(final boolean parallelizable) {
+        m_parallelChunks.setParallelizable(parallelizable);
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(
+            final int chunkIndex) {
+        return m_parallelChunks.getVirtualNodeInput(chunkIndex);
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_parallelChunks.getNrRemoteChunks();
+    }
+
+    /** {@inheritDoc}
+     * @since 3.7 */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_parallelChunks.setChunkMaster(pccm);
+    }
+
     private GroupingState getGroupingState(final DataRow row) {
         // sanity checks
         if (row == null) {
@@ -542,6 +649,7 @@ private int[] getIncludedColIndices(final DataTableSpec dataSpec) {
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_filterGroupColModel.saveSettingsTo(settings);
         m_sortedInputTableModel.saveSettingsTo(settings);
+        m_parallelIterationsModel.saveSettingsTo(settings);
     }
 
     /**
@@ -562,6 +670,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         m_filterGroupColModel.loadSettingsFrom(settings);
         m_sortedInputTableModel.loadSettingsFrom(settings);
+        // added in 3.7
+        try {
+            m_parallelIterationsModel.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException e) {
+            m_parallelIterationsModel.setIntValue(1);
+        }
     }
 
 
@@ -273,19 +273,21 @@ private ColumnRearranger createColumnRearranger(final DataTableSpec spec,
 
         DataColumnSpecCreator replaceSpecCreator =
                 new DataColumnSpecCreator(newColName, outputType);
-        CellFactory c = new SingleCellFactory(replaceSpecCreator.createSpec()) {
-            private Map<DataCell, DataCell> m_dictionaryMap;
+        // the dictionary is read once (by the first worker) and only read afterwards, rows are independent
+        CellFactory c = new SingleCellFactory(true, replaceSpecCreator.createSpec()) {
+            private volatile Map<DataCell, DataCell> m_dictionaryMap;
 
             @Override
             public DataCell getCell(final DataRow row) {
+                final Map<DataCell, DataCell> dictionaryMap;
                 try {
-                    ensureInitDictionaryMap();
+                    dictionaryMap = ensureInitDictionaryMap();
                 } catch (CanceledExecutionException e) {
                     // cancellation done by the framework
                     return DataType.getMissingCell();
                 }
                 DataCell cell = row.getCell(targetColIndex);
-                DataCell output = m_dictionaryMap.get(cell);
+                DataCell output = dictionaryMap.get(cell);
                 if (output == null) {
                     switch (noMatchPolicy) {
                     case Input:
@@ -297,41 +299,55 @@ public DataCell getCell(final DataRow row) {
                 return output;
             }
 
-            private void ensureInitDictionaryMap()
+            private Map<DataCell, DataCell> ensureInitDictionaryMap()
                     throws CanceledExecutionException {
-                if (m_dictionaryMap == null) {
-                    m_dictionaryMap = new HashMap<DataCell, DataCell>();
-                    int i = 0;
-                    double rowCount = dictTable.size();
-                    for (DataRow r : dictTable) {
-                        dictionaryInitExec.setProgress((i++) / rowCount,
-                                "Reading dictionary into memory, row " + i);
-                        dictionaryInitExec.checkCanceled();
-                        DataCell output =
-                                dictOutputColIndex < 0 ? new StringCell(r
-                                        .getKey().getString()) : r
-                                        .getCell(dictOutputColIndex);
-                        DataCell input =
-                                dictInputColIndex < 0 ? new StringCell(r
-                                        .getKey().getString()) : r
-                                        .getCell(dictInputColIndex);
-                        if (input.isMissing()) {
-                            addSearchPair(input, output);
-                        } else if (dictInputIsCollection) {
-                            CollectionDataValue v = (CollectionDataValue)input;
-                            for (DataCell element : v) {
-                                addSearchPair(element, output);
-                            }
-                        } else {
-                            addSearchPair(input, output);
+                Map<DataCell, DataCell> dictionaryMap = m_dictionaryMap;
+                if (dictionaryMap == null) {
+                    synchronized (this) {
+                        if (m_dictionaryMap == null) {
+                            m_dictionaryMap = readDictionaryMap();
                         }
+                        dictionaryMap = m_dictionaryMap;
                     }
                 }
+                return dictionaryMap;
             }
 
-            private void addSearchPair(final DataCell input,
-                    final DataCell output) {
-                if (m_dictionaryMap.put(input, output) != null) {
+            private Map<DataCell, DataCell> readDictionaryMap()
+                    throws CanceledExecutionException {
+                final Map<DataCell, DataCell> dictionaryMap =
+                        new HashMap<DataCell, DataCell>();
+                int i = 0;
+                double rowCount = dictTable.size();
+                for (DataRow r : dictTable) {
+                    dictionaryInitExec.setProgress((i++) / rowCount,
+                            "Reading dictionary into memory, row " + i);
+                    dictionaryInitExec.checkCanceled();
+                    DataCell output =
+                            dictOutputColIndex < 0 ? new StringCell(r
+                                    .getKey().getString()) : r
+                                    .getCell(dictOutputColIndex);
+                    DataCell input =
+                            dictInputColIndex < 0 ? new StringCell(r
+                                    .getKey().getString()) : r
+                                    .getCell(dictInputColIndex);
+                    if (input.isMissing()) {
+                        addSearchPair(dictionaryMap, input, output);
+                    } else if (dictInputIsCollection) {
+                        CollectionDataValue v = (CollectionDataValue)input;
+                        for (DataCell element : v) {
+                            addSearchPair(dictionaryMap, element, output);
+                        }
+                    } else {
+                        addSearchPair(dictionaryMap, input, output);
+                    }
+                }
+                return dictionaryMap;
+            }
+
+            private void addSearchPair(final Map<DataCell, DataCell> dictionaryMap,
+                    final DataCell input, final DataCell output) {
+                if (dictionaryMap.put(input, output) != null) {
                     setWarningMessage("Duplicate search key \"" + input + "\"");
                 }
             }
@@ -271,7 +271,7 @@ public static final class RuntimeCanceledExecutionException extends
          *
          * @param cee The exception to wrap.
          */
-        private RuntimeCanceledExecutionException(
+        RuntimeCanceledExecutionException(
                 final CanceledExecutionException cee) {
             super(cee.getMessage(), cee);
         }
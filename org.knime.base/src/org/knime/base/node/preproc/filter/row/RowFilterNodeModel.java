@@ -54,9 +54,13 @@
 import org.knime.base.node.preproc.filter.row.rowfilter.IRowFilter;
 import org.knime.base.node.preproc.filter.row.rowfilter.IncludeFromNowOn;
 import org.knime.base.node.preproc.filter.row.rowfilter.RowFilterFactory;
+import org.knime.base.node.preproc.filter.row.rowfilter.RowFilterPredicate;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowPredicate;
+import org.knime.core.data.container.BlockStatistics;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -221,6 +225,27 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         BufferedDataContainer container =
             exec.createDataContainer(in.getDataTableSpec());
         exec.setMessage("Searching first matching row...");
+        final RowFilterPredicate predicate = RowFilterPredicate.create(m_rowFilter);
+        if (predicate != null) {
+            // the filter only depends on the cell values, let the table skip the rows that don't match
+            final RowPredicate monitoredPredicate = new MonitoredRowPredicate(predicate, inData[0].size(), exec);
+            try (CloseableRowIterator it = inData[0].iteratorBuilder().filterRows(monitoredPredicate).build()) {
+                int count = 0;
+                while (it.hasNext()) {
+                    DataRow row = it.next();
+                    count++;
+                    container.addRowToTable(row);
+                    exec.setMessage("Added row " + count + " (\""
+                            + row.getKey() + "\")");
+                }
+            } catch (RowFilterIterator.RuntimeCanceledExecutionException rce) {
+                throw rce.getCause();
+            } finally {
+                container.close();
+            }
+            exec.checkCanceled();
+            return new BufferedDataTable[]{container.getTable()};
+        }
         try {
             int count = 0;
             RowFilterIterator it = new RowFilterIterator(in, m_rowFilter, exec);
@@ -239,6 +264,48 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         return new BufferedDataTable[]{container.getTable()};
     }
 
+    /**
+     * Reports the progress and checks for cancellation for every row the table tests, also for the rows that don't
+     * match and are skipped while reading.
+     */
+    private static final class MonitoredRowPredicate implements RowPredicate {
+
+        private final RowPredicate m_predicate;
+
+        private final long m_rowCount;
+
+        private final ExecutionMonitor m_exec;
+
+        private long m_rowNumber;
+
+        MonitoredRowPredicate(final RowPredicate predicate, final long rowCount, final ExecutionMonitor exec) {
+            m_predicate = predicate;
+            m_rowCount = rowCount;
+            m_exec = exec;
+        }
+
+        @Override
+        public boolean test(final DataRow row) {
+            try {
+                m_exec.checkCanceled();
+            } catch (CanceledExecutionException cee) {
+                throw new RowFilterIterator.RuntimeCanceledExecutionException(cee);
+            }
+            m_exec.setProgress(m_rowNumber++ / (double)m_rowCount);
+            return m_predicate.test(row);
+        }
+
+        @Override
+        public int[] getColumnIndices() {
+            return m_predicate.getColumnIndices();
+        }
+
+        @Override
+        public boolean mayMatch(final BlockStatistics statistics, final int block) {
+            return m_predicate.mayMatch(statistics, block);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public InputPortRole[] getInputPortRoles() {
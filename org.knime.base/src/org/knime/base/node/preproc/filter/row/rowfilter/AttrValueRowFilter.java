@@ -184,6 +184,16 @@ protected int getColIdx() {
         return m_colIdx;
     }
 
+    /**
+     * {@inheritDoc}
+     * Attribute value based filters only read the cell of the selected column.
+     * @since 3.7
+     */
+    @Override
+    public int[] getColumnIndices() {
+        return new int[]{m_colIdx};
+    }
+
     /**
      * @return the include
      */
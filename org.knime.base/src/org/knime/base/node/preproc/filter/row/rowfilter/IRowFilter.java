@@ -50,6 +50,7 @@
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.BlockStatistics;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -112,6 +113,34 @@ public interface IRowFilter extends Cloneable {
      */
     DataTableSpec configure(DataTableSpec inSpec) throws InvalidSettingsException;
 
+    /**
+     * Returns the indices of the columns read by this filter if the result of {@link #matches(DataRow, long)} only
+     * depends on the row key and the cells of these columns, i.e. neither on the row index nor on the rows tested
+     * before. Such filters can be evaluated while a table is read, see {@link RowFilterPredicate}.
+     *
+     * @return the indices of the columns read by the filter (valid after {@link #configure(DataTableSpec)} was called)
+     *         or <code>null</code> if the filter depends on the row index, which is the default
+     * @since 3.7
+     */
+    default int[] getColumnIndices() {
+        return null;
+    }
+
+    /**
+     * Tests whether any row of a block of a table may match this filter, see
+     * {@link org.knime.core.data.RowPredicate#mayMatch(BlockStatistics, int)}. Only called for filters that provide
+     * their {@link #getColumnIndices() column indices}.
+     *
+     * @param statistics the statistics of the table
+     * @param block the index of the block
+     * @return <code>false</code> if no row in the block matches, the default implementation always returns
+     *         <code>true</code>
+     * @since 3.7
+     */
+    default boolean mayMatch(final BlockStatistics statistics, final int block) {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
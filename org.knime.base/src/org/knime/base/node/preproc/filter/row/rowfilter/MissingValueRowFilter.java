@@ -50,6 +50,7 @@
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.container.BlockStatistics;
 
 /**
  * Filters rows with a missing value in a certain column.<br>
@@ -123,6 +124,20 @@ public boolean matches(final DataCell theCell) {
         return theCell.isMissing();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public boolean mayMatch(final BlockStatistics statistics, final int block) {
+        if (getDeepFiltering()) {
+            // missing values in collections aren't recorded
+            return true;
+        }
+        final int missingCount = statistics.getMissingCount(block, getColIdx());
+        return getInclude() ? missingCount > 0 : missingCount < statistics.getNumRows(block);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -158,6 +158,15 @@ public DataTableSpec configure(final DataTableSpec inSpec)
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public int[] getColumnIndices() {
+        return m_inFilter.getColumnIndices();
+    }
+
     /**
      * {@inheritDoc}
      */
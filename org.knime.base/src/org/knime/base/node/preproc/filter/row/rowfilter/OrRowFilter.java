@@ -49,6 +49,7 @@
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.BlockStatistics;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -235,6 +236,24 @@ public DataTableSpec configure(final DataTableSpec inSpec)
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public int[] getColumnIndices() {
+        return RowFilterPredicate.union(m_in1.getColumnIndices(), m_in2.getColumnIndices());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public boolean mayMatch(final BlockStatistics statistics, final int block) {
+        return m_in1.mayMatch(statistics, block) || m_in2.mayMatch(statistics, block);
+    }
+
     /**
      * {@inheritDoc}
      */
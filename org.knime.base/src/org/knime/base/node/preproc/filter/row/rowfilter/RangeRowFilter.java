@@ -53,6 +53,7 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValueComparator;
 import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.container.BlockStatistics;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -251,6 +252,35 @@ public boolean matches(final DataRow row, final long rowIndex) throws EndOfTable
         return ((getInclude() && match) || (!getInclude() && !match));
     }
 
+    /**
+     * {@inheritDoc} Uses the minimum and maximum of the column in the block.
+     * @since 3.7
+     */
+    @Override
+    public boolean mayMatch(final BlockStatistics statistics, final int block) {
+        if (getDeepFiltering()) {
+            return true;
+        }
+        final int colIdx = getColIdx();
+        final int missingCount = statistics.getMissingCount(block, colIdx);
+        if (!getInclude() && missingCount > 0) {
+            // missing values are never in range, hence included
+            return true;
+        }
+        final DataCell min = statistics.getMin(block, colIdx);
+        final DataCell max = statistics.getMax(block, colIdx);
+        if (min == null) {
+            // no range recorded, the block can only be skipped if all values are missing
+            return !getInclude() || missingCount < statistics.getNumRows(block);
+        }
+        if (getInclude()) {
+            final boolean allAboveRange = m_upperBound != null && m_comparator.compare(min, m_upperBound) > 0;
+            final boolean allBelowRange = m_lowerBound != null && m_comparator.compare(max, m_lowerBound) < 0;
+            return !allAboveRange && !allBelowRange;
+        }
+        return !(matches(min) && matches(max));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,137 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.filter.row.rowfilter;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowPredicate;
+import org.knime.core.data.container.BlockStatistics;
+
+/**
+ * Adapts a configured {@link IRowFilter} whose result only depends on the cells of a row (see
+ * {@link IRowFilter#getColumnIndices()}) to a {@link RowPredicate}, so that it can be passed to
+ * {@link org.knime.core.data.RowIteratorBuilder#filterRows(RowPredicate)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class RowFilterPredicate implements RowPredicate {
+
+    private final IRowFilter m_filter;
+
+    private final int[] m_columnIndices;
+
+    private RowFilterPredicate(final IRowFilter filter, final int[] columnIndices) {
+        m_filter = filter;
+        m_columnIndices = columnIndices;
+    }
+
+    /**
+     * Creates a predicate for a filter.
+     *
+     * @param filter a filter, already configured
+     * @return the predicate or <code>null</code> if the filter depends on the row index
+     */
+    public static RowFilterPredicate create(final IRowFilter filter) {
+        final int[] columnIndices = filter.getColumnIndices();
+        return columnIndices == null ? null : new RowFilterPredicate(filter, columnIndices);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getColumnIndices() {
+        return m_columnIndices.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(final DataRow row) {
+        try {
+            return m_filter.matches(row, 0L);
+        } catch (EndOfTableException | IncludeFromNowOn e) {
+            throw new IllegalStateException("Row filter depends on the row index: " + m_filter, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mayMatch(final BlockStatistics statistics, final int block) {
+        return m_filter.mayMatch(statistics, block);
+    }
+
+    /**
+     * Combines the columns of two filters.
+     *
+     * @param columns1 the columns of the first filter, may be <code>null</code>
+     * @param columns2 the columns of the second filter, may be <code>null</code>
+     * @return the distinct columns of both filters or <code>null</code> if one of the arguments is
+     */
+    static int[] union(final int[] columns1, final int[] columns2) {
+        if (columns1 == null || columns2 == null) {
+            return null;
+        }
+        return IntStream.concat(Arrays.stream(columns1), Arrays.stream(columns2)).distinct().toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return m_filter.toString();
+    }
+}
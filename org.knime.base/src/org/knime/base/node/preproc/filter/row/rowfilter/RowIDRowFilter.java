@@ -243,6 +243,15 @@ public DataTableSpec configure(final DataTableSpec inSpec)
         return inSpec;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public int[] getColumnIndices() {
+        return new int[0];
+    }
+
     /**
      * {@inheritDoc}
      */
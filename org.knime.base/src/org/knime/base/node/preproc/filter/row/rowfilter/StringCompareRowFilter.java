@@ -53,7 +53,10 @@
 import org.knime.base.util.WildcardMatcher;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.container.BlockStatistics;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -90,6 +93,9 @@ public class StringCompareRowFilter extends AttrValueRowFilter {
 
     private boolean m_isRegExpr;
 
+    /** Whether the column is a string column, determined in {@link #configure(DataTableSpec)}. */
+    private boolean m_isStringCellColumn;
+
     /**
      * Creates a row filter that compares the string representation of the cell
      * in the specified column with the given string pattern. Matching rows are
@@ -341,6 +347,30 @@ public String getPattern() {
     }
 
 
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public DataTableSpec configure(final DataTableSpec inSpec) throws InvalidSettingsException {
+        final DataTableSpec result = super.configure(inSpec);
+        // for string cells the compared string representation is also the one the statistics are based on
+        m_isStringCellColumn = StringCell.TYPE.equals(inSpec.getColumnSpec(getColIdx()).getType());
+        return result;
+    }
+
+    /**
+     * {@inheritDoc} Exact, case sensitive matches on string columns are looked up in the value statistics of the block.
+     * @since 3.7
+     */
+    @Override
+    public boolean mayMatch(final BlockStatistics statistics, final int block) {
+        if (!getInclude() || getDeepFiltering() || !m_isStringCellColumn || m_regExpr != null || !m_caseSensitive) {
+            return true;
+        }
+        return statistics.mightContain(block, getColIdx(), new StringCell(m_pattern));
+    }
+
     /**
      * {@inheritDoc}
      */
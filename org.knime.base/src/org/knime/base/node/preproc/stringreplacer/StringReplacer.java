@@ -0,0 +1,370 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.knime.base.util.AhoCorasickMatcher;
+import org.knime.base.util.WildcardMatcher;
+
+/**
+ * Performs the replacement configured in {@link StringReplacerSettings} on single strings. Besides the general
+ * implementation based on a regular expression, there are specialized implementations for the common simple cases
+ * which give the same results:
+ * <ul>
+ * <li>literal patterns (no wildcards) are searched with {@link String#indexOf(String, int)},</li>
+ * <li>regular expressions that are an alternation of literals (<code>foo|bar|baz</code>) are searched with an
+ * {@link AhoCorasickMatcher},</li>
+ * <li>wildcard patterns that must match the entire string are matched by their precompiled literal segments.</li>
+ * </ul>
+ * Instances are thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class StringReplacer {
+
+    /**
+     * Replaces the pattern in a string.
+     *
+     * @param value a string
+     * @return the string after the replacement, possibly the argument itself
+     */
+    abstract String replace(final String value);
+
+    /**
+     * Creates the pattern described by the settings.
+     *
+     * @param settings the settings
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the pattern is invalid
+     */
+    static Pattern createPattern(final StringReplacerSettings settings) {
+        String regex;
+        int flags = 0;
+        if (settings.patternIsRegex()) {
+            regex = settings.pattern();
+        } else {
+            regex = WildcardMatcher.wildcardToRegex(settings.pattern(), settings.enableEscaping());
+            flags = Pattern.DOTALL | Pattern.MULTILINE;
+        }
+        // support for \n and international characters
+        if (!settings.caseSensitive()) {
+            flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        }
+        return Pattern.compile(regex, flags);
+    }
+
+    /**
+     * Creates the replacer for the settings, choosing the fastest applicable implementation.
+     *
+     * @param settings the settings
+     * @return a new replacer
+     * @throws java.util.regex.PatternSyntaxException if the pattern is invalid
+     */
+    static StringReplacer create(final StringReplacerSettings settings) {
+        final Pattern pattern = createPattern(settings);
+        final String replacement;
+        if (settings.patternIsRegex()) {
+            replacement = settings.replacement();
+        } else {
+            replacement = settings.replacement().replaceAll("(\\$\\d+)", "\\\\$1");
+        }
+        final boolean replaceAll = settings.replaceAllOccurrences();
+        final String patternString = settings.pattern();
+        // replacements with group references or escapes as well as case insensitive matching need the regex engine
+        if (!settings.caseSensitive() || replacement.indexOf('$') >= 0 || replacement.indexOf('\\') >= 0
+            || patternString.isEmpty() || containsSurrogate(patternString)) {
+            return new RegexReplacer(pattern, replacement, replaceAll);
+        }
+        if (settings.patternIsRegex()) {
+            final List<String> literals = splitLiteralAlternation(patternString);
+            if (literals == null) {
+                return new RegexReplacer(pattern, replacement, replaceAll);
+            } else if (literals.size() == 1) {
+                return new LiteralReplacer(literals.get(0), replacement, replaceAll);
+            } else {
+                return new AlternationReplacer(literals, replacement, replaceAll);
+            }
+        }
+        final boolean hasWildcards = patternString.indexOf('*') >= 0 || patternString.indexOf('?') >= 0;
+        if (settings.enableEscaping() && patternString.indexOf('\\') >= 0) {
+            return new RegexReplacer(pattern, replacement, replaceAll);
+        } else if (!hasWildcards) {
+            return new LiteralReplacer(patternString, replacement, replaceAll);
+        } else if (!replaceAll && patternString.replace("*", "").length() > 0) {
+            // patterns consisting of stars only match twice (see RegexReplacer), only the others are sped up
+            return new WildcardReplacer(patternString, replacement, new RegexReplacer(pattern, replacement, false));
+        }
+        return new RegexReplacer(pattern, replacement, replaceAll);
+    }
+
+    /**
+     * Splits a regular expression consisting of literals separated by '|'.
+     *
+     * @return the literals or <code>null</code> if the expression contains other meta characters or empty literals
+     */
+    private static List<String> splitLiteralAlternation(final String regex) {
+        final List<String> literals = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= regex.length(); i++) {
+            final char c = i < regex.length() ? regex.charAt(i) : '|';
+            if (c == '|') {
+                if (i == start) {
+                    return null;
+                }
+                literals.add(regex.substring(start, i));
+                start = i + 1;
+            } else if ("\\^$.?*+()[]{}".indexOf(c) >= 0) {
+                return null;
+            }
+        }
+        return literals;
+    }
+
+    private static boolean containsSurrogate(final String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.isSurrogate(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** General implementation, one matcher per thread is reused for all strings. */
+    private static final class RegexReplacer extends StringReplacer {
+
+        private final Pattern m_pattern;
+
+        private final String m_replacement;
+
+        private final boolean m_replaceAll;
+
+        private final ThreadLocal<Matcher> m_matcher;
+
+        RegexReplacer(final Pattern pattern, final String replacement, final boolean replaceAll) {
+            m_pattern = pattern;
+            m_replacement = replacement;
+            m_replaceAll = replaceAll;
+            m_matcher = ThreadLocal.withInitial(() -> m_pattern.matcher(""));
+        }
+
+        @Override
+        String replace(final String value) {
+            final Matcher m = m_matcher.get().reset(value);
+            if (m_replaceAll) {
+                return m.replaceAll(m_replacement);
+            } else if (m.matches()) {
+                if (".*".equals(m_pattern.pattern())) {
+                    // .* matches twice, first for the empty string and then for the whole string
+                    // therefore the replacement value is doubled
+                    return m_replacement;
+                } else {
+                    return m.replaceAll(m_replacement);
+                }
+            } else {
+                return value;
+            }
+        }
+    }
+
+    /** A single literal pattern. */
+    private static final class LiteralReplacer extends StringReplacer {
+
+        private final String m_literal;
+
+        private final String m_replacement;
+
+        private final boolean m_replaceAll;
+
+        LiteralReplacer(final String literal, final String replacement, final boolean replaceAll) {
+            m_literal = literal;
+            m_replacement = replacement;
+            m_replaceAll = replaceAll;
+        }
+
+        @Override
+        String replace(final String value) {
+            if (!m_replaceAll) {
+                return m_literal.equals(value) ? m_replacement : value;
+            }
+            int index = value.indexOf(m_literal);
+            if (index < 0) {
+                return value;
+            }
+            final StringBuilder buf = new StringBuilder(value.length() + m_replacement.length());
+            int pos = 0;
+            do {
+                buf.append(value, pos, index).append(m_replacement);
+                pos = index + m_literal.length();
+                index = value.indexOf(m_literal, pos);
+            } while (index >= 0);
+            return buf.append(value, pos, value.length()).toString();
+        }
+    }
+
+    /** An alternation of literals, a whole string matches if it is one of them. */
+    private static final class AlternationReplacer extends StringReplacer {
+
+        private final AhoCorasickMatcher m_matcher;
+
+        private final Set<String> m_literals;
+
+        private final String m_replacement;
+
+        private final boolean m_replaceAll;
+
+        AlternationReplacer(final List<String> literals, final String replacement, final boolean replaceAll) {
+            m_matcher = new AhoCorasickMatcher(literals);
+            m_literals = new HashSet<>(literals);
+            m_replacement = replacement;
+            m_replaceAll = replaceAll;
+        }
+
+        @Override
+        String replace(final String value) {
+            if (m_replaceAll || m_literals.contains(value)) {
+                // also for whole matches: the first alternative matching at the start may be a shorter literal
+                return m_matcher.replaceAll(value, m_replacement);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A wildcard pattern that must match the whole string (and then replaces it). The pattern is split at the stars
+     * into segments of literal characters and question marks; the first segment must match at the start, the last one
+     * at the end and the others are searched from left to right in between.
+     */
+    private static final class WildcardReplacer extends StringReplacer {
+
+        private final String[] m_segments;
+
+        /** Whether the pattern contains a question mark, which matches a code point (i.e. maybe two chars). */
+        private final boolean m_hasQuestionMark;
+
+        private final String m_replacement;
+
+        /** Used for strings with surrogate pairs if the pattern contains question marks. */
+        private final StringReplacer m_fallback;
+
+        WildcardReplacer(final String wildcard, final String replacement, final StringReplacer fallback) {
+            final List<String> segments = new ArrayList<>();
+            int start = 0;
+            for (int i = 0; i <= wildcard.length(); i++) {
+                if (i == wildcard.length() || wildcard.charAt(i) == '*') {
+                    segments.add(wildcard.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            m_segments = segments.toArray(new String[segments.size()]);
+            m_hasQuestionMark = wildcard.indexOf('?') >= 0;
+            m_replacement = replacement;
+            m_fallback = fallback;
+        }
+
+        @Override
+        String replace(final String value) {
+            if (m_hasQuestionMark && containsSurrogate(value)) {
+                return m_fallback.replace(value);
+            }
+            return matches(value) ? m_replacement : value;
+        }
+
+        private boolean matches(final String value) {
+            final String first = m_segments[0];
+            if (m_segments.length == 1) {
+                return first.length() == value.length() && matchesAt(first, value, 0);
+            }
+            final String last = m_segments[m_segments.length - 1];
+            final int lastStart = value.length() - last.length();
+            if (lastStart < first.length() || !matchesAt(first, value, 0) || !matchesAt(last, value, lastStart)) {
+                return false;
+            }
+            int pos = first.length();
+            for (String segment : Arrays.asList(m_segments).subList(1, m_segments.length - 1)) {
+                final int index = indexOf(segment, value, pos, lastStart);
+                if (index < 0) {
+                    return false;
+                }
+                pos = index + segment.length();
+            }
+            return true;
+        }
+
+        /** Finds the first position in [from, to - segment length] at which the segment matches. */
+        private static int indexOf(final String segment, final String value, final int from, final int to) {
+            if (segment.indexOf('?') < 0) {
+                final int index = value.indexOf(segment, from);
+                return index >= 0 && index + segment.length() <= to ? index : -1;
+            }
+            for (int i = from; i + segment.length() <= to; i++) {
+                if (matchesAt(segment, value, i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean matchesAt(final String segment, final String value, final int offset) {
+            for (int i = 0; i < segment.length(); i++) {
+                final char c = segment.charAt(i);
+                if (c != '?' && c != value.charAt(offset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -183,7 +183,9 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) {
         } else {
             newColCreator = new DataColumnSpecCreator(m_newColumnName, StringCell.TYPE);
         }
-        CellFactory amendedCol = new SingleCellFactory(newColCreator.createSpec()) {
+        // the map is read before the rows are processed and not modified afterwards
+        final HashMap<String, String> replacementMap = m_replacementMap;
+        CellFactory amendedCol = new SingleCellFactory(true, newColCreator.createSpec()) {
             @Override
             public DataCell getCell(final DataRow row) {
                 DataCell c = row.getCell(targetColIndex);
@@ -191,7 +193,7 @@ public DataCell getCell(final DataRow row) {
                     return c;
                 }
                 String cellContent = c.toString();
-                String replacement = m_replacementMap.get(cellContent);
+                String replacement = replacementMap.get(cellContent);
                 if (replacement != null) {
                     return new StringCell(replacement);
                 } else {
@@ -0,0 +1,273 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds occurrences of a set of literal strings in a text in a single pass using the Aho-Corasick automaton. Matches
+ * are reported with the semantics of a regular expression consisting of the alternation of the (quoted) keys: the
+ * leftmost match wins and, among matches starting at the same position, the key that was given first. This allows to
+ * replace regular expressions such as <code>foo|bar|baz</code> by this matcher without changing the results.
+ *
+ * <p>
+ * Instances are immutable and can be used by several threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+
+    /** The characters of the transitions of each state, sorted. */
+    private final char[][] m_transitionChars;
+
+    /** The target states of the transitions of each state, in the order of {@link #m_transitionChars}. */
+    private final int[][] m_transitionTargets;
+
+    /** The failure state of each state (the state of the longest proper suffix that is a prefix of a key). */
+    private final int[] m_failure;
+
+    /** The next state on the failure chain of each state with a key, -1 if there is none. */
+    private final int[] m_output;
+
+    /** The index of the (first) key ending in each state, -1 if no key ends in it. */
+    private final int[] m_keyIndex;
+
+    /** The length of the prefix each state represents. */
+    private final int[] m_depth;
+
+    private final int m_keyCount;
+
+    /**
+     * Creates a matcher for a list of keys.
+     *
+     * @param keys the non-empty keys, the order determines which key matches if several match at the same position
+     * @throws IllegalArgumentException if the list is empty or contains an empty key
+     */
+    public AhoCorasickMatcher(final List<String> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("No keys given");
+        }
+        m_keyCount = keys.size();
+        // build the trie with growing per-state transition lists
+        final List<StringBuilder> chars = new ArrayList<>();
+        final List<List<Integer>> targets = new ArrayList<>();
+        final List<Integer> keyIndices = new ArrayList<>();
+        final List<Integer> depths = new ArrayList<>();
+        chars.add(new StringBuilder());
+        targets.add(new ArrayList<>());
+        keyIndices.add(-1);
+        depths.add(0);
+        for (int k = 0; k < keys.size(); k++) {
+            final String key = keys.get(k);
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Keys must not be empty");
+            }
+            int state = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                final int pos = chars.get(state).indexOf(String.valueOf(key.charAt(i)));
+                if (pos >= 0) {
+                    state = targets.get(state).get(pos);
+                } else {
+                    final int newState = chars.size();
+                    chars.get(state).append(key.charAt(i));
+                    targets.get(state).add(newState);
+                    chars.add(new StringBuilder());
+                    targets.add(new ArrayList<>());
+                    keyIndices.add(-1);
+                    depths.add(i + 1);
+                    state = newState;
+                }
+            }
+            if (keyIndices.get(state) < 0) {
+                // duplicate keys: the first one wins
+                keyIndices.set(state, k);
+            }
+        }
+        final int stateCount = chars.size();
+        m_transitionChars = new char[stateCount][];
+        m_transitionTargets = new int[stateCount][];
+        m_keyIndex = new int[stateCount];
+        m_depth = new int[stateCount];
+        for (int s = 0; s < stateCount; s++) {
+            final char[] c = chars.get(s).toString().toCharArray();
+            final List<Integer> t = targets.get(s);
+            // sort transitions by character for binary search
+            final Integer[] order = new Integer[c.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Character.compare(c[a], c[b]));
+            m_transitionChars[s] = new char[c.length];
+            m_transitionTargets[s] = new int[c.length];
+            for (int i = 0; i < order.length; i++) {
+                m_transitionChars[s][i] = c[order[i]];
+                m_transitionTargets[s][i] = t.get(order[i]);
+            }
+            m_keyIndex[s] = keyIndices.get(s);
+            m_depth[s] = depths.get(s);
+        }
+        m_failure = new int[stateCount];
+        m_output = new int[stateCount];
+        computeFailureStates();
+    }
+
+    /** Computes failure and output links in breadth-first order. */
+    private void computeFailureStates() {
+        final Deque<Integer> queue = new ArrayDeque<>();
+        m_output[ROOT] = -1;
+        for (int child : m_transitionTargets[ROOT]) {
+            m_failure[child] = ROOT;
+            m_output[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (int i = 0; i < m_transitionChars[state].length; i++) {
+                final char c = m_transitionChars[state][i];
+                final int child = m_transitionTargets[state][i];
+                int failure = m_failure[state];
+                int next;
+                while ((next = transition(failure, c)) < 0 && failure != ROOT) {
+                    failure = m_failure[failure];
+                }
+                m_failure[child] = next < 0 ? ROOT : next;
+                final int f = m_failure[child];
+                m_output[child] = m_keyIndex[f] >= 0 ? f : m_output[f];
+                queue.add(child);
+            }
+        }
+    }
+
+    /** @return the target of the transition of the state with the character or -1 if there is none */
+    private int transition(final int state, final char c) {
+        final int pos = Arrays.binarySearch(m_transitionChars[state], c);
+        return pos < 0 ? -1 : m_transitionTargets[state][pos];
+    }
+
+    /**
+     * @return the number of keys
+     */
+    public int getNumberOfKeys() {
+        return m_keyCount;
+    }
+
+    /**
+     * Finds the next match in a text.
+     *
+     * @param text the text to search
+     * @param from the index to start searching at
+     * @param match an array of length 3 that is filled with the start index, the end index (exclusive) and the index of
+     *            the key of the match if one is found
+     * @return <code>true</code> if a match was found
+     */
+    public boolean find(final CharSequence text, final int from, final int[] match) {
+        int bestStart = -1;
+        int bestEnd = -1;
+        int bestKey = -1;
+        int state = ROOT;
+        final int length = text.length();
+        for (int i = from; i < length; i++) {
+            final char c = text.charAt(i);
+            int next;
+            while ((next = transition(state, c)) < 0 && state != ROOT) {
+                state = m_failure[state];
+            }
+            state = next < 0 ? ROOT : next;
+            final int end = i + 1;
+            if (bestStart >= 0 && bestStart < end - m_depth[state]) {
+                // no match that is still to be found can start at or before the best match
+                break;
+            }
+            // all keys ending here, longest (i.e. leftmost) first
+            for (int s = m_keyIndex[state] >= 0 ? state : m_output[state]; s >= 0; s = m_output[s]) {
+                final int start = end - m_depth[s];
+                if (bestStart < 0 || start < bestStart || (start == bestStart && m_keyIndex[s] < bestKey)) {
+                    bestStart = start;
+                    bestEnd = end;
+                    bestKey = m_keyIndex[s];
+                }
+            }
+        }
+        if (bestStart < 0) {
+            return false;
+        }
+        match[0] = bestStart;
+        match[1] = bestEnd;
+        match[2] = bestKey;
+        return true;
+    }
+
+    /**
+     * Replaces all (non-overlapping) matches in a text, scanning from left to right.
+     *
+     * @param text the text
+     * @param replacement the literal replacement for each match
+     * @return the text with all matches replaced, the argument itself if there is no match
+     */
+    public String replaceAll(final String text, final String replacement) {
+        final int[] match = new int[3];
+        if (!find(text, 0, match)) {
+            return text;
+        }
+        final StringBuilder buf = new StringBuilder(text.length() + replacement.length());
+        int pos = 0;
+        do {
+            buf.append(text, pos, match[0]).append(replacement);
+            pos = match[1];
+        } while (pos < text.length() && find(text, pos, match));
+        return buf.append(text, pos, text.length()).toString();
+    }
+}
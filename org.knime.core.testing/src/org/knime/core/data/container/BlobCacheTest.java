@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+
+/**
+ * Tests for {@link BlobCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BlobCacheTest {
+
+    /** Blob cell holding a string. */
+    @SuppressWarnings("serial")
+    private static final class StringBlobCell extends BlobDataCell {
+        private final String m_value;
+
+        StringBlobCell(final String value) {
+            m_value = value;
+        }
+
+        @Override
+        public String toString() {
+            return m_value;
+        }
+
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return m_value.equals(((StringBlobCell)dc).m_value);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_value.hashCode();
+        }
+    }
+
+    private File m_blobFile;
+
+    private int m_reads;
+
+    /**
+     * Creates the blob file.
+     *
+     * @throws IOException if it can't be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_blobFile = File.createTempFile("blob", ".bin");
+        Files.write(m_blobFile.toPath(), "blob content".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Deletes the blob file. */
+    @After
+    public void tearDown() {
+        m_blobFile.delete();
+    }
+
+    private static BlobAddress address(final int index) {
+        final BlobAddress address = new BlobAddress(1, 0, false);
+        address.setIndexOfBlobInColumn(index);
+        return address;
+    }
+
+    /** Reads the file content into a cell and reports the given size. */
+    private BlobCache.BlobReader reader(final long size) {
+        return (in, sizeConsumer) -> {
+            m_reads++;
+            try (InputStream stream = in) {
+                final StringBlobCell cell =
+                    new StringBlobCell(new String(IOUtils.toByteArray(stream), StandardCharsets.UTF_8));
+                if (sizeConsumer != null) {
+                    sizeConsumer.accept(size);
+                }
+                return cell;
+            }
+        };
+    }
+
+    /**
+     * Entries are weighted by their size and the least recently used ones are evicted.
+     *
+     * @throws IOException if the blob file can't be read
+     */
+    @Test
+    public void testSizeWeightedEviction() throws IOException {
+        final BlobCache cache = new BlobCache(1000, false);
+        final BlobDataCell first = cache.get(1, address(0), m_blobFile, reader(300));
+        cache.get(1, address(1), m_blobFile, reader(300));
+        assertSame("Cached cell must be returned", first, cache.get(1, address(0), m_blobFile, reader(300)));
+        assertEquals("Number of file reads", 2, m_reads);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+
+        // exceeds the budget, evicts blob 1 (blob 0 was used more recently)
+        cache.get(1, address(2), m_blobFile, reader(300));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getEntryCount());
+        cache.get(1, address(0), m_blobFile, reader(300));
+        assertEquals("Blob 0 must still be cached", 3, m_reads);
+        cache.get(1, address(1), m_blobFile, reader(300));
+        assertEquals("Blob 1 must have been evicted", 4, m_reads);
+
+        // larger than half of the budget, not cached
+        cache.get(1, address(3), m_blobFile, reader(600));
+        cache.get(1, address(3), m_blobFile, reader(600));
+        assertEquals("Large blobs must not be cached", 6, m_reads);
+    }
+
+    /**
+     * Invalidating a buffer removes only its blobs.
+     *
+     * @throws IOException if the blob file can't be read
+     */
+    @Test
+    public void testInvalidate() throws IOException {
+        final BlobCache cache = new BlobCache(10000, false);
+        cache.get(1, address(0), m_blobFile, reader(100));
+        cache.get(2, address(0), m_blobFile, reader(100));
+        assertEquals("Same address in different buffers are different blobs", 2, m_reads);
+        cache.invalidate(1);
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(228, cache.getSize());
+        cache.get(2, address(0), m_blobFile, reader(100));
+        assertEquals(2, m_reads);
+    }
+
+    /**
+     * In off-heap mode the file content is cached and each access deserializes a new cell from it.
+     *
+     * @throws IOException if the blob file can't be read
+     */
+    @Test
+    public void testOffHeap() throws IOException {
+        final BlobCache cache = new BlobCache(10000, true);
+        final BlobDataCell first = cache.get(1, address(0), m_blobFile, reader(0));
+        Files.write(m_blobFile.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        final BlobDataCell second = cache.get(1, address(0), m_blobFile, reader(0));
+        assertEquals("blob content", first.toString());
+        assertEquals("Content must be read from the cache", "blob content", second.toString());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getEntryCount());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+
+/**
+ * Tests for {@link BufferMemoryManager}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BufferMemoryManagerTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"Int"}, new DataType[]{IntCell.TYPE});
+
+    private static Buffer createInMemoryBuffer() {
+        final DataContainer container = new DataContainer(SPEC, true, Integer.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        container.close();
+        final Buffer buffer = container.getBufferedTable().getBuffer();
+        assertFalse(buffer.usesOutFile());
+        return buffer;
+    }
+
+    private static void waitForSpill(final Buffer buffer) throws InterruptedException {
+        for (int i = 0; i < 100 && !buffer.usesOutFile(); i++) {
+            Thread.sleep(50);
+        }
+    }
+
+    /** The least recently used closed tables are written to disc first, only as many as needed. */
+    @Test
+    public void testSpillLeastRecentlyUsed() throws Exception {
+        final BufferMemoryManager manager = new BufferMemoryManager(1000);
+        final Buffer a = createInMemoryBuffer();
+        final Buffer b = createInMemoryBuffer();
+        final Buffer c = createInMemoryBuffer();
+        manager.addClosed(a, 300, false);
+        manager.addClosed(b, 300, false);
+        Thread.sleep(1);
+        manager.touch(a);
+        assertEquals(600, manager.getResidentSize());
+        assertEquals(2, manager.getTableCount());
+
+        manager.addClosed(c, 450, false);
+        waitForSpill(b);
+        assertTrue(b.usesOutFile());
+        assertFalse(a.usesOutFile());
+        assertFalse(c.usesOutFile());
+        // spilled table still returns its rows (now from disc)
+        int count = 0;
+        for (CloseableRowIterator it = b.iteratorBuilder().build(); it.hasNext(); it.next()) {
+            count++;
+        }
+        assertEquals(10, count);
+    }
+
+    /** An open buffer exceeding the budget on its own is asked to spill itself. */
+    @Test
+    public void testSpillCaller() {
+        final BufferMemoryManager manager = new BufferMemoryManager(1000);
+        final Buffer a = createInMemoryBuffer();
+        assertFalse(manager.update(a, 500));
+        assertTrue(manager.update(a, 1500));
+        manager.spilled(a);
+        assertEquals(0, manager.getResidentSize());
+        assertEquals(1, manager.getSpillCount());
+        assertEquals(1500, manager.getSpilledSize());
+    }
+}
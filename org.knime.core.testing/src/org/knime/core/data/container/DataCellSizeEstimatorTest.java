@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.xml.XMLCellFactory;
+
+/**
+ * Tests for {@link DataCellSizeEstimator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DataCellSizeEstimatorTest {
+
+    /** Shared instances don't count, small cells are smaller than strings, strings grow with their length. */
+    @Test
+    public void testCoreCells() {
+        assertEquals(0, DataCellSizeEstimator.estimateCell(DataType.getMissingCell()));
+        assertEquals(0, DataCellSizeEstimator.estimateCell(BooleanCell.TRUE));
+        final long intSize = DataCellSizeEstimator.estimateCell(new IntCell(1));
+        final long doubleSize = DataCellSizeEstimator.estimateCell(new DoubleCell(1));
+        final long shortStringSize = DataCellSizeEstimator.estimateCell(new StringCell("a"));
+        final long longStringSize = DataCellSizeEstimator.estimateCell(new StringCell(String.join("", "abcdefgh",
+            "abcdefgh", "abcdefgh", "abcdefgh")));
+        assertTrue(intSize > 0);
+        assertTrue(doubleSize >= intSize);
+        assertTrue(shortStringSize > doubleSize);
+        assertTrue(longStringSize >= shortStringSize + 2 * 31);
+    }
+
+    /** Collections are estimated by their elements, other cells by their serialized size. */
+    @Test
+    public void testOtherCells() throws Exception {
+        final DataCell[] elements = new DataCell[100];
+        Arrays.fill(elements, new StringCell("element"));
+        final long listSize =
+            DataCellSizeEstimator.estimateCell(CollectionCellFactory.createListCell(Arrays.asList(elements)));
+        assertTrue(listSize >= 100 * DataCellSizeEstimator.estimateCell(new StringCell("element")));
+
+        final StringBuilder xml = new StringBuilder("<root>");
+        for (int i = 0; i < 1000; i++) {
+            xml.append("<element>").append(i).append("</element>");
+        }
+        xml.append("</root>");
+        final DataCell xmlCell = XMLCellFactory.create(xml.toString());
+        assertTrue(DataCellSizeEstimator.estimateCell(xmlCell) > xml.length());
+    }
+
+    /**
+     * Cells of a type without known size are estimated by many threads at the same time. As all cells have the same
+     * serialized size, the estimates must agree (except for the ones made before the first sample was taken).
+     */
+    @Test
+    public void testConcurrentSamples() throws Exception {
+        final int threadCount = 8;
+        final Set<Long> estimates = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        estimates.add(DataCellSizeEstimator.estimateCell(new SampledCell(i)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final long estimate = DataCellSizeEstimator.estimateCell(new SampledCell(0));
+        assertTrue(estimate > 0);
+        assertTrue("Estimate " + estimate + " not among concurrent estimates " + estimates,
+            estimates.contains(estimate));
+        assertTrue("Too many different estimates: " + estimates, estimates.size() <= 2);
+    }
+
+    /** A row is larger than the sum of its cells. */
+    @Test
+    public void testRow() {
+        final DataCell[] cells = new DataCell[]{new IntCell(1), new StringCell("a")};
+        final long cellsSize =
+            DataCellSizeEstimator.estimateCell(cells[0]) + DataCellSizeEstimator.estimateCell(cells[1]);
+        assertTrue(DataCellSizeEstimator.estimateRow(new DefaultRow(new RowKey("Row0"), cells)) > cellsSize);
+    }
+
+    /** A cell without serializer and with a constant serialized size. */
+    private static final class SampledCell extends DataCell {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int m_value;
+
+        SampledCell(final int value) {
+            m_value = value;
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toString(m_value);
+        }
+
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return ((SampledCell)dc).m_value == m_value;
+        }
+
+        @Override
+        public int hashCode() {
+            return m_value;
+        }
+    }
+}
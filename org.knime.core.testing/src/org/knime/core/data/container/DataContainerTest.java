@@ -54,6 +54,7 @@
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -61,6 +62,7 @@
 import java.util.Random;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.RandomStringUtils;
@@ -71,9 +73,12 @@
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.IntValue;
 import org.knime.core.data.MissingValue;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.RowPredicate;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
@@ -84,6 +89,7 @@
 import org.knime.core.node.DefaultNodeProgressMonitor;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.util.DuplicateKeyException;
 import org.knime.core.util.FileUtil;
 
@@ -791,6 +797,335 @@ public void testWriteRead() throws IOException, CanceledExecutionException {
         }
     }
 
+    /**
+     * Saves a table twice into the same and once into a different location and checks that the first file is
+     * re-used rather than written again.
+     *
+     * @throws IOException if writing fails
+     * @throws CanceledExecutionException never
+     */
+    public void testSaveReusesUnchangedFile() throws IOException, CanceledExecutionException {
+        final DataContainer c = new DataContainer(SPEC_STR_INT_DBL, true);
+        IntStream
+            .range(0, 1000).mapToObj(i -> new DefaultRow(RowKey.createRowKey((long)i),
+                new StringCell(Integer.toString(i)), new IntCell(i), new DoubleCell(i + .5)))
+            .forEach(r -> c.addRowToTable(r));
+        c.close();
+        final ContainerTable table = c.getBufferedTable();
+        final ExecutionMonitor exec = new ExecutionMonitor(new DefaultNodeProgressMonitor());
+
+        final File dir = FileUtil.createTempDir("testSaveReusesUnchangedFile");
+        try {
+            final File file = new File(dir, "data.zip");
+            assertNull("No saved file before first save", table.getSavedFile());
+            table.saveToFile(file, new NodeSettings("table"), exec);
+            assertEquals("Saved file", file, table.getSavedFile());
+            final long length = file.length();
+            final long lastModified = file.lastModified();
+
+            table.saveToFile(file, new NodeSettings("table"), exec);
+            assertEquals("Length of re-saved file", length, file.length());
+            assertEquals("Modification time of re-saved file", lastModified, file.lastModified());
+
+            final File otherFile = new File(dir, "other.zip");
+            table.saveToFile(otherFile, new NodeSettings("table"), exec);
+            assertEquals("Length of file saved to other location", length, otherFile.length());
+            assertEquals("Saved file", otherFile, table.getSavedFile());
+
+            // a file that is gone (or modified) must not be re-used
+            assertTrue(otherFile.delete());
+            assertNull("Deleted file is not re-used", table.getSavedFile());
+        } finally {
+            FileUtil.deleteRecursively(dir);
+        }
+    }
+
+    /**
+     * Filters the rows of a table written to disc and of a table kept in memory and checks that the predicate is
+     * only passed the cells of its column.
+     */
+    public void testFilterRows() {
+        final RowPredicate predicate = new RowPredicate() {
+            @Override
+            public int[] getColumnIndices() {
+                return new int[]{1};
+            }
+
+            @Override
+            public boolean test(final DataRow row) {
+                return ((IntValue)row.getCell(1)).getIntValue() % 10 == 3;
+            }
+        };
+        for (int maxCellsInMemory : new int[]{0, Integer.MAX_VALUE}) {
+            DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, maxCellsInMemory);
+            for (RowIterator it = generateRows(1000); it.hasNext();) {
+                container.addRowToTable(it.next());
+            }
+            container.close();
+            assertEquals(maxCellsInMemory == 0, container.getBufferedTable().getBuffer().usesOutFile());
+            RowIterator expected = generateRows(1000);
+            int count = 0;
+            try (CloseableRowIterator it =
+                container.getBufferedTable().iteratorBuilder().filterRows(predicate).build()) {
+                while (it.hasNext()) {
+                    DataRow row = it.next();
+                    DataRow expectedRow;
+                    do {
+                        expectedRow = expected.next();
+                    } while (!predicate.test(expectedRow));
+                    assertEquals(expectedRow, row);
+                    count++;
+                }
+            }
+            assertEquals(100, count);
+        }
+
+        final RowPredicate keyPredicate = new RowPredicate() {
+            @Override
+            public int[] getColumnIndices() {
+                return new int[0];
+            }
+
+            @Override
+            public boolean test(final DataRow row) {
+                assertTrue(row.getCell(0) instanceof UnmaterializedCell);
+                return row.getKey().getString().equals("Row5");
+            }
+        };
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, 0);
+        for (RowIterator it = generateRows(10); it.hasNext();) {
+            container.addRowToTable(it.next());
+        }
+        container.close();
+        try (CloseableRowIterator it =
+            container.getBufferedTable().iteratorBuilder().filterRows(keyPredicate).build()) {
+            assertTrue(it.hasNext());
+            assertEquals(new IntCell(5), it.next().getCell(1));
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /**
+     * Tests the block statistics recorded by the buffer and that filtered iterators skip blocks using them.
+     * @throws Exception If that fails for any reason.
+     */
+    public void testBlockStatistics() throws Exception {
+        final int rowCount = 2 * BlockStatistics.DEFAULT_BLOCK_SIZE + 100;
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, 0);
+        for (RowIterator it = generateRows(rowCount); it.hasNext();) {
+            container.addRowToTable(it.next());
+        }
+        container.addRowToTable(new DefaultRow("Missing", DataType.getMissingCell(), DataType.getMissingCell(),
+            DataType.getMissingCell()));
+        container.close();
+        final ContainerTable table = container.getBufferedTable();
+        BlockStatistics statistics = table.getBuffer().getBlockStatistics();
+        assertNotNull(statistics);
+
+        // round trip through the meta information
+        NodeSettings settings = new NodeSettings("statistics");
+        statistics.save(settings);
+        statistics = BlockStatistics.load(settings, SPEC_STR_INT_DBL);
+
+        assertEquals(3, statistics.getNumBlocks());
+        assertEquals(rowCount + 1, statistics.getRowCount());
+        assertEquals(BlockStatistics.DEFAULT_BLOCK_SIZE, statistics.getNumRows(0));
+        assertEquals(101, statistics.getNumRows(2));
+        assertEquals(new IntCell(0), statistics.getMin(0, 1));
+        assertEquals(new IntCell(BlockStatistics.DEFAULT_BLOCK_SIZE - 1), statistics.getMax(0, 1));
+        assertEquals(new DoubleCell(rowCount - 1), statistics.getMax(2, 2));
+        assertEquals(0, statistics.getMissingCount(0, 0));
+        assertEquals(1, statistics.getMissingCount(2, 0));
+        assertTrue(statistics.mightContain(0, 1, new IntCell(5)));
+        assertFalse(statistics.mightContain(1, 1, new IntCell(5)));
+        assertTrue(statistics.mightContain(2, 1, DataType.getMissingCell()));
+        assertFalse(statistics.mightContain(0, 1, DataType.getMissingCell()));
+
+        final int searched = BlockStatistics.DEFAULT_BLOCK_SIZE + 10;
+        final AtomicInteger testCount = new AtomicInteger();
+        final RowPredicate predicate = new RowPredicate() {
+            @Override
+            public int[] getColumnIndices() {
+                return new int[]{1};
+            }
+
+            @Override
+            public boolean test(final DataRow row) {
+                testCount.incrementAndGet();
+                DataCell cell = row.getCell(1);
+                return !cell.isMissing() && ((IntValue)cell).getIntValue() == searched;
+            }
+
+            @Override
+            public boolean mayMatch(final BlockStatistics s, final int block) {
+                return s.mightContain(block, 1, new IntCell(searched));
+            }
+        };
+        try (CloseableRowIterator it = table.iteratorBuilder().filterRows(predicate).build()) {
+            assertTrue(it.hasNext());
+            assertEquals(new RowKey("Row" + searched), it.next().getKey());
+            assertFalse(it.hasNext());
+        }
+        assertEquals(BlockStatistics.DEFAULT_BLOCK_SIZE, testCount.get());
+    }
+
+    /**
+     * Tests that the range of a string column is not recorded for blocks containing long strings.
+     * @throws Exception If that fails for any reason.
+     */
+    public void testBlockStatisticsLongStrings() throws Exception {
+        final DataTableSpec spec = new DataTableSpec(new String[] {"String"}, new DataType[] {StringCell.TYPE});
+        final char[] longChars = new char[BlockStatistics.MAX_STRING_LENGTH + 1];
+        Arrays.fill(longChars, 'z');
+        final String longString = new String(longChars);
+        DataContainer container = new DataContainer(spec, true, 0);
+        for (int i = 0; i < 2 * BlockStatistics.DEFAULT_BLOCK_SIZE; i++) {
+            // the second block contains a single long string
+            final String value = i == BlockStatistics.DEFAULT_BLOCK_SIZE + 10 ? longString : "Value " + (i % 10);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new StringCell(value)));
+        }
+        container.close();
+        final BlockStatistics statistics = container.getBufferedTable().getBuffer().getBlockStatistics();
+        assertEquals(new StringCell("Value 0"), statistics.getMin(0, 0));
+        assertEquals(new StringCell("Value 9"), statistics.getMax(0, 0));
+        assertNull(statistics.getMin(1, 0));
+        assertNull(statistics.getMax(1, 0));
+        assertTrue(statistics.mightContain(1, 0, new StringCell(longString)));
+        assertFalse(statistics.mightContain(0, 0, new StringCell(longString)));
+    }
+
+    /**
+     * Writes string columns of different cardinality to disc and checks that they are restored correctly and that
+     * equal values of a dictionary encoded column share the same cell instance, also when reading filtered rows.
+     * The table also contains cells written using Java serialization, which start with the same char as the
+     * dictionary cells.
+     * @throws Exception ...
+     */
+    public void testStringDictionary() throws Exception {
+        final DataTableSpec spec = new DataTableSpec(new String[] {"Category", "Pair", "Id", "Int", "Serialized"},
+            new DataType[] {StringCell.TYPE, StringCell.TYPE, StringCell.TYPE, IntCell.TYPE,
+                DataType.getType(JavaSerializedCell.class)});
+        final int rowCount = 12000;
+        DataContainer container = new DataContainer(spec, true, 0);
+        // the encoding is opt-in, the reader takes it from the table's meta information
+        DefaultTableStoreWriter.useStringDictionary = true;
+        try {
+            for (int i = 0; i < rowCount; i++) {
+                // "Pair" values repeat once and exceed the dictionary size, "Id" values are all distinct
+                container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i),
+                    new StringCell("Category " + (i % 7)), new StringCell("Pair " + (i / 2)),
+                    new StringCell("Id " + i), new IntCell(i), new JavaSerializedCell(i % 5)));
+            }
+            container.close();
+        } finally {
+            DefaultTableStoreWriter.useStringDictionary = false;
+        }
+        final ContainerTable table = container.getBufferedTable();
+        assertTrue(table.getBuffer().usesOutFile());
+
+        DataCell[] firstCategoryCells = new DataCell[7];
+        int index = 0;
+        for (DataRow row : table) {
+            assertEquals(new StringCell("Category " + (index % 7)), row.getCell(0));
+            assertEquals(new StringCell("Pair " + (index / 2)), row.getCell(1));
+            assertEquals(new StringCell("Id " + index), row.getCell(2));
+            assertEquals(new IntCell(index), row.getCell(3));
+            assertEquals(new JavaSerializedCell(index % 5), row.getCell(4));
+            if (index < 7) {
+                firstCategoryCells[index] = row.getCell(0);
+            } else if (index < 4096) {
+                assertSame(firstCategoryCells[index % 7], row.getCell(0));
+            }
+            index++;
+        }
+        assertEquals(rowCount, index);
+
+        // skipped rows and unmaterialized cells must still update the dictionary
+        final RowPredicate predicate = new RowPredicate() {
+            @Override
+            public int[] getColumnIndices() {
+                return new int[]{3};
+            }
+
+            @Override
+            public boolean test(final DataRow row) {
+                return ((IntValue)row.getCell(3)).getIntValue() % 3 == 0;
+            }
+
+            @Override
+            public boolean mayMatch(final BlockStatistics s, final int block) {
+                return block > 0;
+            }
+        };
+        int count = 0;
+        try (CloseableRowIterator it = table.iteratorBuilder().filterRows(predicate).build()) {
+            while (it.hasNext()) {
+                DataRow row = it.next();
+                int i = ((IntValue)row.getCell(3)).getIntValue();
+                assertTrue(i >= BlockStatistics.DEFAULT_BLOCK_SIZE);
+                assertEquals(new StringCell("Category " + (i % 7)), row.getCell(0));
+                assertEquals(new StringCell("Pair " + (i / 2)), row.getCell(1));
+                assertEquals(new StringCell("Id " + i), row.getCell(2));
+                assertEquals(new JavaSerializedCell(i % 5), row.getCell(4));
+                count++;
+            }
+        }
+        assertEquals(IntStream.range(BlockStatistics.DEFAULT_BLOCK_SIZE, rowCount).filter(i -> i % 3 == 0).count(),
+            count);
+    }
+
+    /**
+     * String cells are written with their full content by default, i.e. equal values read back are distinct
+     * instances, as in tables written by previous versions.
+     * @throws Exception ...
+     */
+    public void testStringDictionaryDisabledByDefault() throws Exception {
+        final DataTableSpec spec = new DataTableSpec(new String[] {"Category"}, new DataType[] {StringCell.TYPE});
+        DataContainer container = new DataContainer(spec, true, 0);
+        for (int i = 0; i < 100; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new StringCell("Category")));
+        }
+        container.close();
+        final ContainerTable table = container.getBufferedTable();
+        assertTrue(table.getBuffer().usesOutFile());
+        DataCell first = null;
+        for (DataRow row : table) {
+            assertEquals(new StringCell("Category"), row.getCell(0));
+            if (first == null) {
+                first = row.getCell(0);
+            } else {
+                assertNotSame(first, row.getCell(0));
+            }
+        }
+    }
+
+    /** A cell without serializer, it's written using Java serialization. */
+    private static final class JavaSerializedCell extends DataCell {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int m_value;
+
+        JavaSerializedCell(final int value) {
+            m_value = value;
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toString(m_value);
+        }
+
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return ((JavaSerializedCell)dc).m_value == m_value;
+        }
+
+        @Override
+        public int hashCode() {
+            return m_value;
+        }
+    }
+
     private static DataRow createRandomRow(final int index, final int colCount, final Random rand1,
         final ObjectToDataCellConverter conv) {
         RowKey key = new RowKey("Row " + index);
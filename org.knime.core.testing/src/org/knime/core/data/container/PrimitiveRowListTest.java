@@ -0,0 +1,137 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests for {@link PrimitiveRowList}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PrimitiveRowListTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"Int", "Long", "Double", "Boolean"},
+        new DataType[]{IntCell.TYPE, LongCell.TYPE, DoubleCell.TYPE, BooleanCell.TYPE});
+
+    private static BlobSupportDataRow createRow(final int index) {
+        final DataCell[] cells = new DataCell[]{new IntCell(index), new LongCell(index * 1000000000L),
+            new DoubleCell(index / 3.0), BooleanCell.get(index % 2 == 0)};
+        if (index % 5 == 0) {
+            cells[index % 4] = DataType.getMissingCell();
+        }
+        return new BlobSupportDataRow(RowKey.createRowKey((long)index), cells);
+    }
+
+    /** Only tables with int, long, double and boolean columns are supported. */
+    @Test
+    public void testApplicability() {
+        assertNotNull(PrimitiveRowList.createIfApplicable(SPEC, 0));
+        assertNull(PrimitiveRowList.createIfApplicable(new DataTableSpec(), 0));
+        assertNull(PrimitiveRowList.createIfApplicable(
+            new DataTableSpec(new String[]{"Int", "String"}, new DataType[]{IntCell.TYPE, StringCell.TYPE}), 0));
+    }
+
+    /** Rows are restored with the same keys and cells. */
+    @Test
+    public void testAddGet() {
+        final PrimitiveRowList list = PrimitiveRowList.createIfApplicable(SPEC, 0);
+        final int rowCount = 1000;
+        for (int i = 0; i < rowCount; i++) {
+            list.add(createRow(i));
+        }
+        assertEquals(rowCount, list.size());
+        for (int i = 0; i < rowCount; i++) {
+            final BlobSupportDataRow expected = createRow(i);
+            final BlobSupportDataRow row = list.get(i);
+            assertEquals(expected.getKey(), row.getKey());
+            for (int c = 0; c < expected.getNumCells(); c++) {
+                assertEquals(expected.getCell(c), row.getCell(c));
+            }
+        }
+        list.trimToSize();
+        assertEquals(createRow(rowCount - 1).getCell(2), list.get(rowCount - 1).getCell(2));
+        long objectRowsSize = 0;
+        for (int i = 0; i < rowCount; i++) {
+            objectRowsSize += DataCellSizeEstimator.estimateRow(createRow(i));
+        }
+        assertTrue(list.getSizeInBytes() > rowCount * (4L + 8L + 8L + 1L));
+        assertTrue(list.getSizeInBytes() < objectRowsSize);
+    }
+
+    /** Rows with cells that have no primitive representation are kept as they are. */
+    @Test
+    public void testRawRows() {
+        final PrimitiveRowList list = PrimitiveRowList.createIfApplicable(SPEC, 0);
+        list.add(createRow(1));
+        final BlobSupportDataRow rawRow = new BlobSupportDataRow(new RowKey("raw"), new DataCell[]{
+            new MissingCell("error"), new LongCell(1), new DoubleCell(1), BooleanCell.TRUE});
+        list.add(rawRow);
+        list.add(createRow(2));
+        assertSame(rawRow, list.get(1));
+        assertEquals(createRow(2).getKey(), list.get(2).getKey());
+        assertTrue(list.getSizeInBytes() > 2 * (4L + 8L + 8L + 1L));
+    }
+}
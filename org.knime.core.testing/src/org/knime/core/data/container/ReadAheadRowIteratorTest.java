@@ -0,0 +1,248 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.RowPredicate;
+import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests for {@link ReadAheadRowIterator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ReadAheadRowIteratorTest {
+
+    /** Iterator over <code>rowCount</code> rows with a single int cell, optionally failing at a given row. */
+    private static final class CountingIterator extends TableStoreCloseableRowIterator {
+
+        private final int m_rowCount;
+
+        private final int m_failAt;
+
+        private volatile int m_index;
+
+        private volatile boolean m_isClosed;
+
+        CountingIterator(final int rowCount, final int failAt) {
+            m_rowCount = rowCount;
+            m_failAt = failAt;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            return !m_isClosed && m_index < m_rowCount;
+        }
+
+        @Override
+        public synchronized DataRow next() {
+            if (m_index == m_failAt) {
+                throw new IllegalStateException("Failing at row " + m_index);
+            }
+            final int i = m_index++;
+            return new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i));
+        }
+
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            final boolean wasOpen = !m_isClosed;
+            m_isClosed = true;
+            return wasOpen;
+        }
+    }
+
+    private static void assertRows(final CloseableRowIterator it, final int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            assertTrue("Missing row " + i, it.hasNext());
+            final DataRow row = it.next();
+            assertEquals(RowKey.createRowKey((long)i), row.getKey());
+            assertEquals(i, ((IntCell)row.getCell(0)).getIntValue());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    /** All rows are returned in order, independent of how they are split into batches. */
+    @Test
+    public void testAllRowsInOrder() {
+        for (int rowCount : new int[]{0, 1, 511, 512, 513, 10000}) {
+            final ReadAheadRowIterator it = new ReadAheadRowIterator(new CountingIterator(rowCount, -1), 1);
+            assertRows(it, rowCount);
+        }
+        for (int colCount : new int[]{1, 100, 100000}) {
+            final ReadAheadRowIterator it = new ReadAheadRowIterator(new CountingIterator(3000, -1), colCount);
+            assertRows(it, 3000);
+        }
+    }
+
+    /** Exceptions of the file iterator are thrown in the consumer, after the rows read before. */
+    @Test
+    public void testException() {
+        final ReadAheadRowIterator it = new ReadAheadRowIterator(new CountingIterator(10000, 1000), 1);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, ((IntCell)it.next().getCell(0)).getIntValue());
+        }
+        try {
+            it.hasNext();
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("Failing at row 1000", e.getMessage());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    /** Closing stops the reading thread and closes the file iterator, which then provides the remaining calls. */
+    @Test
+    public void testClose() throws IOException {
+        final CountingIterator fileIterator = new CountingIterator(100000, -1);
+        final ReadAheadRowIterator it = new ReadAheadRowIterator(fileIterator, 1);
+        assertTrue(it.hasNext());
+        it.next();
+        assertTrue(it.performClose());
+        assertTrue(fileIterator.m_isClosed);
+        assertTrue("Read ahead far beyond the queue capacity", fileIterator.m_index < 10000);
+        // rows of the current batch are still returned
+        for (int i = 1; i < 512; i++) {
+            assertEquals(i, ((IntCell)it.next().getCell(0)).getIntValue());
+        }
+        assertFalse(it.hasNext());
+        assertFalse(it.performClose());
+    }
+
+    /** Only tables spanning multiple batches are read ahead. */
+    @Test
+    public void testIsApplicable() {
+        assertFalse(ReadAheadRowIterator.isApplicable(0, 1));
+        assertFalse(ReadAheadRowIterator.isApplicable(100, 1));
+        assertTrue(ReadAheadRowIterator.isApplicable(100000, 1));
+        assertTrue(ReadAheadRowIterator.isApplicable(100, 100000));
+    }
+
+    private static Buffer createBufferOnDisc(final int rowCount) {
+        final DataTableSpec spec = new DataTableSpec(new String[]{"Int", "String"},
+            new DataType[]{IntCell.TYPE, StringCell.TYPE});
+        final DataContainer container = new DataContainer(spec, true, 0);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i),
+                new StringCell("Row " + (i % 17))));
+        }
+        container.close();
+        final Buffer buffer = container.getBufferedTable().getBuffer();
+        assertTrue(buffer.usesOutFile());
+        return buffer;
+    }
+
+    /** Tables written to disc are read ahead, with and without filtering rows. */
+    @Test
+    public void testBufferIterator() {
+        final int rowCount = 5000;
+        final Buffer buffer = createBufferOnDisc(rowCount);
+
+        try (CloseableRowIterator it = buffer.iteratorBuilder().build()) {
+            assertSame(ReadAheadRowIterator.class, it.getClass());
+            assertRows(it, rowCount);
+        }
+
+        final RowPredicate predicate = new RowPredicate() {
+            @Override
+            public int[] getColumnIndices() {
+                return new int[]{0};
+            }
+
+            @Override
+            public boolean test(final DataRow row) {
+                return ((IntCell)row.getCell(0)).getIntValue() % 3 == 0;
+            }
+        };
+        try (CloseableRowIterator it = buffer.iteratorBuilder().filterRows(predicate).build()) {
+            int count = 0;
+            while (it.hasNext()) {
+                final DataCell cell = it.next().getCell(0);
+                assertEquals(count * 3, ((IntCell)cell).getIntValue());
+                count++;
+            }
+            assertEquals((rowCount + 2) / 3, count);
+        }
+        buffer.clear();
+    }
+
+    /** Clearing the table stops the reading thread of an open iterator, the iterator then ends after its batch. */
+    @Test(timeout = 60000)
+    public void testClearBufferWhileIterating() {
+        final int rowCount = 20000;
+        final Buffer buffer = createBufferOnDisc(rowCount);
+        final CloseableRowIterator it = buffer.iteratorBuilder().build();
+        assertSame(ReadAheadRowIterator.class, it.getClass());
+        assertTrue(it.hasNext());
+        it.next();
+        buffer.clear();
+        int remaining = 0;
+        while (it.hasNext()) {
+            it.next();
+            remaining++;
+        }
+        assertTrue("Read " + remaining + " rows after clearing the table", remaining < rowCount - 1);
+        it.close();
+    }
+}
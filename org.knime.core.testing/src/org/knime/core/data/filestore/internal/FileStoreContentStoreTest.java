@@ -0,0 +1,160 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.filestore.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests for {@link FileStoreContentStore}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FileStoreContentStoreTest {
+
+    private File m_tempDir;
+
+    /**
+     * Creates the temporary directory.
+     *
+     * @throws IOException if it can't be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_tempDir = FileUtil.createTempDir(getClass().getSimpleName());
+    }
+
+    /** Deletes the temporary directory. */
+    @After
+    public void tearDown() {
+        FileUtil.deleteRecursively(m_tempDir);
+    }
+
+    private File write(final String name, final String content) throws IOException {
+        final File f = new File(m_tempDir, name);
+        f.getParentFile().mkdirs();
+        Files.write(f.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return f;
+    }
+
+    /**
+     * Identical content is stored once and released when the last referencing handler is released.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testIdenticalContentIsStoredOnce() throws IOException {
+        final FileStoreContentStore store = new FileStoreContentStore();
+        final File source1 = write("a/file.bin", "same content");
+        final File source2 = write("b/other.bin", "same content");
+        final File source3 = write("c/file.bin", "different content");
+        final UUID handler1 = UUID.randomUUID();
+        final UUID handler2 = UUID.randomUUID();
+
+        final File target1 = new File(m_tempDir, "t1");
+        final File target2 = new File(m_tempDir, "t2");
+        final File target3 = new File(m_tempDir, "t3");
+        store.copy(source1, target1, handler1);
+        store.copy(source2, target2, handler2);
+        store.copy(source3, target3, handler2);
+
+        assertEquals("Number of distinct contents", 2, store.getContentCount());
+        assertArrayEquals(Files.readAllBytes(source1.toPath()), Files.readAllBytes(target1.toPath()));
+        assertArrayEquals(Files.readAllBytes(source1.toPath()), Files.readAllBytes(target2.toPath()));
+        assertArrayEquals(Files.readAllBytes(source3.toPath()), Files.readAllBytes(target3.toPath()));
+        assertEquals("Bytes not copied", source2.length(), store.getLinkedBytes());
+
+        store.release(handler2);
+        assertEquals("Content of first handler must remain", 1, store.getContentCount());
+        assertTrue("Target of released handler must not be affected", target1.isFile());
+        store.release(handler1);
+        assertEquals("All content must be released", 0, store.getContentCount());
+        assertTrue("Targets are owned by the handlers", target1.isFile() && target2.isFile());
+    }
+
+    /**
+     * Directory file stores are compared by their relative paths and contents.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testDirectoryDigest() throws IOException {
+        write("d1/x/1.txt", "one");
+        write("d1/2.txt", "two");
+        write("d2/x/1.txt", "one");
+        write("d2/2.txt", "two");
+        write("d3/x/1.txt", "one");
+        write("d3/3.txt", "two");
+        final String d1 = FileStoreContentStore.digest(new File(m_tempDir, "d1").toPath());
+        assertEquals(d1, FileStoreContentStore.digest(new File(m_tempDir, "d2").toPath()));
+        assertNotEquals(d1, FileStoreContentStore.digest(new File(m_tempDir, "d3").toPath()));
+
+        final FileStoreContentStore store = new FileStoreContentStore();
+        final File target = new File(m_tempDir, "target");
+        store.copy(new File(m_tempDir, "d1"), target, UUID.randomUUID());
+        assertEquals("two", new String(Files.readAllBytes(new File(target, "2.txt").toPath()),
+            StandardCharsets.UTF_8));
+        assertTrue(new File(target, "x/1.txt").isFile());
+        assertFalse(new File(target, "3.txt").exists());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.TimeZone;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the CSV encoding of {@link PostgreSQLCopyLoader}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PostgreSQLCopyLoaderTest {
+
+    private static String encode(final DataType type, final DataCell cell) throws Exception {
+        final DataColumnSpec cspec = new DataColumnSpecCreator("col", type).createSpec();
+        final StringBuilder csv = new StringBuilder();
+        PostgreSQLCopyLoader.appendValue(csv, cspec, cell, TimeZone.getTimeZone("UTC"));
+        return csv.toString();
+    }
+
+    /**
+     * Numbers and booleans are written unquoted, NaN and missing values as NULL.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testPrimitiveValues() throws Exception {
+        assertEquals("42", encode(IntCell.TYPE, new IntCell(42)));
+        assertEquals("-9000000000", encode(LongCell.TYPE, new LongCell(-9000000000L)));
+        assertEquals("1.5", encode(DoubleCell.TYPE, new DoubleCell(1.5)));
+        assertEquals("", encode(DoubleCell.TYPE, new DoubleCell(Double.NaN)));
+        assertEquals("true", encode(BooleanCell.TYPE, BooleanCell.TRUE));
+        assertEquals("", encode(IntCell.TYPE, DataType.getMissingCell()));
+    }
+
+    /**
+     * Strings are quoted, so that empty strings are distinguished from NULL.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testStringValues() throws Exception {
+        assertEquals("\"\"", encode(StringCell.TYPE, new StringCell("")));
+        assertEquals("\"a,\"\"b\"\"\nc\"", encode(StringCell.TYPE, new StringCell("a,\"b\"\nc")));
+        assertEquals("", encode(StringCell.TYPE, DataType.getMissingCell()));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the range computation of {@link DBReadPartitioning}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBReadPartitioningTest {
+
+    /**
+     * Numeric ranges are split into equally wide ranges.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSplitNumericRange() throws Exception {
+        List<Object> boundaries = DBReadPartitioning.splitRange(Integer.valueOf(0), Long.valueOf(100), 4);
+        assertEquals(3, boundaries.size());
+        assertEquals(0, new BigDecimal("25").compareTo((BigDecimal)boundaries.get(0)));
+        assertEquals(0, new BigDecimal("50").compareTo((BigDecimal)boundaries.get(1)));
+        assertEquals(0, new BigDecimal("75").compareTo((BigDecimal)boundaries.get(2)));
+
+        boundaries = DBReadPartitioning.splitRange(Double.valueOf(-1.5), Double.valueOf(1.5), 2);
+        assertEquals(1, boundaries.size());
+        assertEquals(0, BigDecimal.ZERO.compareTo((BigDecimal)boundaries.get(0)));
+
+        // large values must not lose precision
+        boundaries = DBReadPartitioning.splitRange(Long.valueOf(Long.MAX_VALUE - 4), Long.valueOf(Long.MAX_VALUE), 2);
+        assertEquals(0, BigDecimal.valueOf(Long.MAX_VALUE - 2).compareTo((BigDecimal)boundaries.get(0)));
+    }
+
+    /**
+     * Ranges that can't be split result in a single partition.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSplitDegenerateRange() throws Exception {
+        assertEquals(Collections.emptyList(), DBReadPartitioning.splitRange(null, null, 4));
+        assertEquals(Collections.emptyList(), DBReadPartitioning.splitRange(5, 5, 4));
+        assertEquals(Collections.emptyList(), DBReadPartitioning.splitRange(1, 10, 1));
+    }
+
+    /**
+     * Floating point bounds that are NaN or infinite result in a single partition.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSplitNonFiniteRange() throws Exception {
+        assertEquals(Collections.emptyList(), DBReadPartitioning.splitRange(0.0, Double.NaN, 4));
+        assertEquals(Collections.emptyList(), DBReadPartitioning.splitRange(Double.NaN, Double.NaN, 4));
+        assertEquals(Collections.emptyList(),
+            DBReadPartitioning.splitRange(Double.NEGATIVE_INFINITY, Double.valueOf(1), 4));
+        assertEquals(Collections.emptyList(),
+            DBReadPartitioning.splitRange(Float.valueOf(0), Float.POSITIVE_INFINITY, 4));
+        assertEquals(1, DBReadPartitioning.splitRange(Float.valueOf(0), Float.valueOf(1), 2).size());
+    }
+
+    /**
+     * Dates are split into timestamps, coinciding boundaries are dropped.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSplitDateRange() throws Exception {
+        List<Object> boundaries = DBReadPartitioning.splitRange(new Date(0), new Timestamp(3000), 3);
+        assertEquals(Arrays.asList(new Timestamp(1000), new Timestamp(2000)), boundaries);
+
+        boundaries = DBReadPartitioning.splitRange(new Timestamp(0), new Timestamp(2), 10);
+        assertEquals(Arrays.asList(new Timestamp(1)), boundaries);
+    }
+
+    /**
+     * Columns other than numbers and dates can't be used for ranges.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(expected = SQLException.class)
+    public void testSplitStringRange() throws Exception {
+        DBReadPartitioning.splitRange("a", "z", 2);
+    }
+
+    /**
+     * The conditions cover all values including missing values.
+     */
+    @Test
+    public void testRangeConditions() {
+        assertEquals(Collections.singletonList(null), DBReadPartitioning.createRangeConditions("\"c\"", 0));
+        final List<String> conditions = DBReadPartitioning.createRangeConditions("\"c\"", 2);
+        assertEquals(Arrays.asList("\"c\" < ?", "\"c\" >= ? AND \"c\" < ?", "\"c\" >= ? OR \"c\" IS NULL"),
+            conditions);
+    }
+
+    /**
+     * Partitioning by conditions.
+     */
+    @Test
+    public void testConditions() {
+        final DBReadPartitioning p = DBReadPartitioning.byConditions("MOD(id, 2) = 0", "MOD(id, 2) = 1");
+        assertTrue(!p.isRange());
+        assertEquals(2, p.getPartitionCount());
+        assertEquals(Arrays.asList("MOD(id, 2) = 0", "MOD(id, 2) = 1"), p.getConditions());
+        assertTrue(DBReadPartitioning.byRange("id", 4).isRange());
+    }
+
+    /**
+     * Queries with an ORDER BY clause are detected.
+     */
+    @Test
+    public void testContainsOrderBy() {
+        assertTrue(DBReadPartitioning.containsOrderBy("SELECT * FROM t ORDER BY id"));
+        assertTrue(DBReadPartitioning.containsOrderBy("select * from t order\n  by id desc"));
+        assertTrue(DBReadPartitioning.containsOrderBy("SELECT * FROM (SELECT * FROM t ORDER BY id) s"));
+        assertFalse(DBReadPartitioning.containsOrderBy("SELECT * FROM t"));
+        assertFalse(DBReadPartitioning.containsOrderBy("SELECT border, bypass FROM t"));
+        assertFalse(DBReadPartitioning.containsOrderBy("SELECT * FROM t GROUP BY id"));
+    }
+}
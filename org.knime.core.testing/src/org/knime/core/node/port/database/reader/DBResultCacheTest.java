@@ -0,0 +1,228 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests the {@link DBResultCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBResultCacheTest {
+
+    private File m_dir;
+
+    /**
+     * Creates the cache directory.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void createDirectory() throws Exception {
+        m_dir = FileUtil.createTempDir(getClass().getSimpleName());
+    }
+
+    /**
+     * Deletes the cache directory.
+     */
+    @After
+    public void deleteDirectory() {
+        FileUtil.deleteRecursively(m_dir);
+    }
+
+    private static DataTable createTable(final int rowCount) {
+        final DataContainer cont =
+            new DataContainer(new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec()));
+        for (int i = 0; i < rowCount; i++) {
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey(i), new IntCell(i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /**
+     * A cached result is read back with the same content.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testPutAndGet() throws Exception {
+        final DBResultCache cache = new DBResultCache(1L << 20, m_dir);
+        cache.put("key", createTable(100), new ExecutionMonitor());
+        assertEquals(1, cache.getEntryCount());
+        assertTrue(cache.getSize() > 0);
+
+        final Optional<DataTable> cached = cache.get("key", 60000);
+        assertTrue(cached.isPresent());
+        int count = 0;
+        for (RowIterator it = cached.get().iterator(); it.hasNext();) {
+            final DataRow row = it.next();
+            final DataCell cell = row.getCell(0);
+            assertEquals(new IntCell(count), cell);
+            assertEquals(RowKey.createRowKey(count), row.getKey());
+            count++;
+        }
+        assertEquals(100, count);
+        assertFalse(cache.get("other", 60000).isPresent());
+    }
+
+    /**
+     * Entries older than the requested age are removed.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testExpiry() throws Exception {
+        final DBResultCache cache = new DBResultCache(1L << 20, m_dir);
+        cache.put("key", createTable(10), new ExecutionMonitor());
+        Thread.sleep(20);
+        assertFalse(cache.get("key", 1).isPresent());
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getSize());
+        assertEquals(0, m_dir.listFiles().length);
+    }
+
+    /**
+     * The least recently used entries are evicted if the cache exceeds its size.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSizeEviction() throws Exception {
+        final File probe = new File(m_dir, "probe.table");
+        DataContainer.writeToZip(createTable(1000), probe, new ExecutionMonitor());
+        final long tableSize = probe.length();
+        probe.delete();
+
+        final DBResultCache cache = new DBResultCache(2 * tableSize + tableSize / 2, m_dir);
+        cache.put("a", createTable(1000), new ExecutionMonitor());
+        cache.put("b", createTable(1000), new ExecutionMonitor());
+        assertTrue(cache.get("a", 60000).isPresent());
+        cache.put("c", createTable(1000), new ExecutionMonitor());
+
+        assertEquals(2, cache.getEntryCount());
+        assertTrue(cache.get("a", 60000).isPresent());
+        assertFalse(cache.get("b", 60000).isPresent());
+        assertTrue(cache.get("c", 60000).isPresent());
+        assertTrue(cache.getSize() <= 2 * tableSize + tableSize / 2);
+    }
+
+    /**
+     * A disabled cache does not store anything.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDisabled() throws Exception {
+        final DBResultCache cache = new DBResultCache(0, m_dir);
+        cache.put("key", createTable(10), new ExecutionMonitor());
+        assertEquals(0, cache.getEntryCount());
+        assertFalse(cache.get("key", 60000).isPresent());
+    }
+
+    /**
+     * The key depends on the query and on whether database row ids are used.
+     */
+    @Test
+    public void testCreateKey() {
+        final DatabaseQueryConnectionSettings settings = new DatabaseQueryConnectionSettings();
+        settings.setQuery("SELECT * FROM a");
+        final String key = DBResultCache.createKey(settings, null, false);
+        assertEquals(key, DBResultCache.createKey(settings, null, false));
+        assertNotEquals(key, DBResultCache.createKey(settings, null, true));
+        settings.setQuery("SELECT * FROM b");
+        assertNotEquals(key, DBResultCache.createKey(settings, null, false));
+    }
+
+    /**
+     * The key depends on the partitioning as it determines the row order and ids of the result.
+     */
+    @Test
+    public void testCreateKeyPartitioned() {
+        final DatabaseQueryConnectionSettings settings = new DatabaseQueryConnectionSettings();
+        settings.setQuery("SELECT * FROM a");
+        final String key = DBResultCache.createKey(settings, null, false);
+        assertEquals(key, DBResultCache.createKey(settings, null, false, null));
+        final String range = DBResultCache.createKey(settings, null, false, DBReadPartitioning.byRange("id", 4));
+        assertNotEquals(key, range);
+        assertEquals(range, DBResultCache.createKey(settings, null, false, DBReadPartitioning.byRange("id", 4)));
+        assertNotEquals(range, DBResultCache.createKey(settings, null, false, DBReadPartitioning.byRange("id", 2)));
+        assertNotEquals(range, DBResultCache.createKey(settings, null, false, DBReadPartitioning.byRange("x", 4)));
+        final String conditions =
+            DBResultCache.createKey(settings, null, false, DBReadPartitioning.byConditions("id < 5", "id >= 5"));
+        assertNotEquals(key, conditions);
+        assertNotEquals(range, conditions);
+        assertNotEquals(conditions,
+            DBResultCache.createKey(settings, null, false, DBReadPartitioning.byConditions("id >= 5", "id < 5")));
+    }
+}
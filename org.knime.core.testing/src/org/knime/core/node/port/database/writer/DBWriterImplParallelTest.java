@@ -0,0 +1,372 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.ExecuteStatement;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.workflow.CredentialsProvider;
+
+/**
+ * Tests writing with several connections in {@link DBWriterImpl}. The database is simulated by JDBC proxies that
+ * keep the inserted values of each connection until they are committed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBWriterImplParallelTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static final int BATCH_SIZE = 10;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private FakeDatabase m_db;
+
+    /** Creates an empty database. */
+    @Before
+    public void setUp() {
+        m_db = new FakeDatabase();
+    }
+
+    /**
+     * All rows are committed exactly once and every connection is used.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testAllRowsWritten() throws Exception {
+        final String error = write(new DBParallelWriteSettings(4, 50, false), false);
+        assertNull("Unexpected error: " + error, error);
+        assertEquals(values(1, ROW_COUNT), sorted(m_db.m_committed));
+        assertEquals("Number of connections", 4, m_db.m_borrowed.size());
+    }
+
+    /**
+     * Without a commit interval the rows are committed at the end, a single connection writes all rows.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSingleConnectionCommitAtEnd() throws Exception {
+        final String error = write(new DBParallelWriteSettings(1, 0, false), false);
+        assertNull("Unexpected error: " + error, error);
+        assertEquals(values(1, ROW_COUNT), m_db.m_committed);
+        assertEquals("Number of commits", 1, m_db.m_commits.size());
+    }
+
+    /**
+     * If the node doesn't fail on errors, the failing batch is reported and all other rows are written.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testErrorReportedWithoutFailing() throws Exception {
+        m_db.m_failingValue = 500;
+        final String error = write(new DBParallelWriteSettings(4, 100, false), false);
+        assertEquals("Errors \"1\" writing " + ROW_COUNT + " rows.", error);
+        final List<Integer> expected = values(1, ROW_COUNT);
+        expected.removeAll(values(491, 500));
+        assertEquals(expected, sorted(m_db.m_committed));
+    }
+
+    /**
+     * If a connection fails, its uncommitted rows are rolled back but the rows committed by the other connections
+     * remain in the database.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFailureKeepsRowsCommittedByOtherConnections() throws Exception {
+        m_db.m_failingValue = 900;
+        m_db.m_failWhenCommitted = 500;
+        try {
+            write(new DBParallelWriteSettings(4, BATCH_SIZE, false), true);
+            fail("Expected exception not thrown");
+        } catch (Exception ex) {
+            assertThat(ex.getMessage(), CoreMatchers.containsString("rows #891 - #900"));
+        }
+        final List<Integer> committed = new ArrayList<>(m_db.m_committed);
+        assertTrue("Rows committed by other connections were lost: " + committed.size(), committed.size() >= 500);
+        assertEquals("Rows committed twice", committed.size(), new HashSet<>(committed).size());
+        for (Integer v : values(891, 900)) {
+            assertFalse("Row of failed batch committed: " + v, committed.contains(v));
+        }
+        assertEquals("Partial batches committed", 0, committed.size() % BATCH_SIZE);
+    }
+
+    private String write(final DBParallelWriteSettings parallelWrite, final boolean failOnError) throws Exception {
+        final DBWriterImpl writer = new DBWriterImpl(new FakeConnectionSettings(m_db));
+        final Map<String, String> sqlTypes = Collections.singletonMap("value", "integer");
+        return writer.writeData("test_table", new ListRowInput(ROW_COUNT), ROW_COUNT, false, new ExecutionMonitor(),
+            sqlTypes, null, BATCH_SIZE, false, failOnError, parallelWrite);
+    }
+
+    private static List<Integer> values(final int from, final int to) {
+        return IntStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Integer> sorted(final List<Integer> list) {
+        final List<Integer> copy = new ArrayList<>(list);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    /** Input rows with the values 1 to <i>count</i>. */
+    private static final class ListRowInput extends RowInput {
+        private final Iterator<Integer> m_values;
+
+        ListRowInput(final int count) {
+            m_values = values(1, count).iterator();
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return SPEC;
+        }
+
+        @Override
+        public DataRow poll() {
+            if (!m_values.hasNext()) {
+                return null;
+            }
+            final int v = m_values.next();
+            return new DefaultRow(RowKey.createRowKey(v), new IntCell(v));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /** Connection settings handing out connections to the fake database. */
+    private static final class FakeConnectionSettings extends DatabaseConnectionSettings {
+        private final FakeDatabase m_db;
+
+        FakeConnectionSettings(final FakeDatabase db) {
+            m_db = db;
+        }
+
+        @Override
+        public <T> T execute(final CredentialsProvider cp, final ExecuteStatement<T> stmt) throws SQLException {
+            try {
+                return stmt.apply(m_db.createConnection());
+            } catch (SQLException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new SQLException(ex);
+            }
+        }
+
+        @Override
+        public Connection borrowConnection(final CredentialsProvider cp) {
+            final Connection conn = m_db.createConnection();
+            m_db.m_borrowed.add(conn);
+            return conn;
+        }
+
+        @Override
+        public void releaseConnection(final CredentialsProvider cp, final Connection conn) {
+            // nothing to release
+        }
+    }
+
+    /**
+     * Table with a single integer column. Values inserted by a connection become visible when the connection
+     * commits. A batch containing {@link #m_failingValue} fails once at least {@link #m_failWhenCommitted} rows are
+     * committed.
+     */
+    private static final class FakeDatabase {
+        private final List<Integer> m_committed = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<Integer> m_commits = Collections.synchronizedList(new ArrayList<>());
+
+        private final Set<Connection> m_borrowed = ConcurrentHashMap.newKeySet();
+
+        private volatile int m_failingValue = -1;
+
+        private volatile int m_failWhenCommitted;
+
+        Connection createConnection() {
+            final List<Integer> pending = new ArrayList<>();
+            final boolean[] autoCommit = {true};
+            final PreparedStatement insert = proxy(PreparedStatement.class, new InvocationHandler() {
+                private final List<Integer> m_batch = new ArrayList<>();
+
+                private Integer m_value;
+
+                @Override
+                public Object invoke(final Object p, final Method method, final Object[] args)
+                    throws Throwable {
+                    switch (method.getName()) {
+                        case "setInt":
+                            m_value = (Integer)args[1];
+                            return null;
+                        case "setNull":
+                            m_value = null;
+                            return null;
+                        case "addBatch":
+                            m_batch.add(m_value);
+                            return null;
+                        case "clearBatch":
+                            m_batch.clear();
+                            return null;
+                        case "executeBatch":
+                            final List<Integer> batch = new ArrayList<>(m_batch);
+                            m_batch.clear();
+                            if (batch.contains(m_failingValue)) {
+                                awaitCommitted(m_failWhenCommitted);
+                                throw new SQLException("Constraint violated by value " + m_failingValue);
+                            }
+                            pending.addAll(batch);
+                            return new int[batch.size()];
+                        default:
+                            return defaultValue(p, method, args);
+                    }
+                }
+            });
+            final Statement statement = proxy(Statement.class, (p, method, args) -> defaultValue(p, method, args));
+            return proxy(Connection.class, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "getAutoCommit":
+                        return autoCommit[0];
+                    case "setAutoCommit":
+                        autoCommit[0] = (Boolean)args[0];
+                        return null;
+                    case "commit":
+                        m_committed.addAll(pending);
+                        m_commits.add(pending.size());
+                        pending.clear();
+                        return null;
+                    case "rollback":
+                        pending.clear();
+                        return null;
+                    case "createStatement":
+                        return statement;
+                    case "prepareStatement":
+                        return insert;
+                    default:
+                        return defaultValue(p, method, args);
+                }
+            });
+        }
+
+        private void awaitCommitted(final int count) throws InterruptedException {
+            final long timeout = System.currentTimeMillis() + 10000;
+            while (m_committed.size() < count && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+            return (T)Proxy.newProxyInstance(DBWriterImplParallelTest.class.getClassLoader(), new Class<?>[]{type},
+                handler);
+        }
+
+        private static Object defaultValue(final Object proxy, final Method method,
+            final Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Fake" + method.getDeclaringClass().getSimpleName();
+                default:
+                    break;
+            }
+            final Class<?> type = method.getReturnType();
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests which loops the framework allows to run as parallel chunks: the body of a loop started by a
+ * {@link LoopStartOptionalParallelizeNode} must not read flow variables the chunks can't reproduce and an ordinary
+ * loop end ({@link LoopEndOptionalParallelizeNode}) must not collect the chunks of a "Parallel Chunk Start".
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelizableLoops extends WorkflowTestCase {
+
+    private static final int ITERATIONS = 3;
+
+    private File m_workflowDirectory;
+
+    private NodeID m_source;
+
+    private NodeID m_start;
+
+    private NodeID m_body;
+
+    private NodeID m_end;
+
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        WorkflowManager wm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        setManager(wm);
+        wm.addWorkflowVariables(true, new FlowVariable("workflowVariable", 7));
+        m_source = wm.addNode(new UpstreamVariableNodeFactory());
+    }
+
+    /** Body reads the variable the loop start pushes for each iteration, which is passed to the chunks. */
+    @Test
+    public void testBodyUsingIterationVariableIsParallelizable() throws Exception {
+        createLoop(new OptionalParallelStartNodeFactory(), "currentIteration");
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_start, m_body, m_end);
+        assertEquals(Boolean.TRUE, getStartModel().m_parallelizable);
+    }
+
+    /** Body reads a workflow variable, which is visible in the chunks as well. */
+    @Test
+    public void testBodyUsingWorkflowVariableIsParallelizable() throws Exception {
+        createLoop(new OptionalParallelStartNodeFactory(), "workflowVariable");
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_start, m_body, m_end);
+        assertEquals(Boolean.TRUE, getStartModel().m_parallelizable);
+    }
+
+    /** Body reads a variable defined upstream of the loop start, which the chunks don't get. */
+    @Test
+    public void testBodyUsingUpstreamVariableIsNotParallelizable() throws Exception {
+        createLoop(new OptionalParallelStartNodeFactory(), "upstreamVariable");
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_start, m_body, m_end);
+        assertEquals(Boolean.FALSE, getStartModel().m_parallelizable);
+    }
+
+    /** A "Parallel Chunk Start" followed by an ordinary loop end is rejected. */
+    @Test
+    public void testParallelChunkStartRejectsOrdinaryLoopEnd() throws Exception {
+        createLoop(new ParallelChunkStartNodeFactory(), null);
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.CONFIGURED, m_start, m_body, m_end);
+        NodeMessage message = getManager().getNodeContainer(m_start).getNodeMessage();
+        assertEquals(NodeMessage.Type.ERROR, message.getMessageType());
+        assertThat(message.getMessage(), containsString("not connected to matching end node"));
+    }
+
+    /** Creates source -> start -> body -> end, the body's setting is controlled by the given variable. */
+    private void createLoop(final AdapterNodeFactory startFactory, final String bodyVariable) throws Exception {
+        WorkflowManager wm = getManager();
+        m_start = wm.addNode(startFactory);
+        m_body = wm.addNode(new VariableReaderNodeFactory());
+        m_end = wm.addNode(new OptionalParallelEndNodeFactory());
+        wm.addConnection(m_source, 1, m_start, 1);
+        wm.addConnection(m_start, 1, m_body, 1);
+        wm.addConnection(m_body, 1, m_end, 1);
+        if (bodyVariable != null) {
+            NodeSettings settings = new NodeSettings("body");
+            wm.saveNodeSettings(m_body, settings);
+            NodeSettings variable = settings.addNodeSettings("variables").addNodeSettings("value");
+            variable.addString("used_variable", bodyVariable);
+            variable.addString("exposed_variable", null);
+            wm.loadNodeSettings(m_body, settings);
+        }
+    }
+
+    private OptionalParallelStartNodeModel getStartModel() {
+        return (OptionalParallelStartNodeModel)((NativeNodeContainer)getManager().getNodeContainer(m_start))
+            .getNodeModel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** Source of a simple table that also defines the variable "upstreamVariable". */
+    public static final class UpstreamVariableNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(0, 1) {
+                @Override
+                protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+                    pushFlowVariableInt("upstreamVariable", 42);
+                    return super.configure(inSpecs);
+                }
+
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    pushFlowVariableInt("upstreamVariable", 42);
+                    return super.execute(inObjects, exec);
+                }
+            };
+        }
+    }
+
+    /** Loop body node with a single int setting "value". */
+    public static final class VariableReaderNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(1, 1) {
+                private int m_value;
+
+                @Override
+                protected void saveSettingsTo(final NodeSettingsWO settings) {
+                    settings.addInt("value", m_value);
+                }
+
+                @Override
+                protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+                    settings.getInt("value");
+                }
+
+                @Override
+                protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
+                    throws InvalidSettingsException {
+                    m_value = settings.getInt("value");
+                }
+            };
+        }
+    }
+
+    /** Counting loop start that may be parallelized, it records the decision of the framework. */
+    public static final class OptionalParallelStartNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new OptionalParallelStartNodeModel();
+        }
+    }
+
+    static final class OptionalParallelStartNodeModel extends AdapterNodeModel
+        implements LoopStartOptionalParallelizeNode, LoopStartNodeTerminator {
+
+        private int m_iteration;
+
+        private volatile Boolean m_parallelizable;
+
+        OptionalParallelStartNodeModel() {
+            super(1, 1);
+        }
+
+        @Override
+        protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+            pushFlowVariableInt("currentIteration", m_iteration);
+            return inSpecs;
+        }
+
+        @Override
+        protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+            throws Exception {
+            pushFlowVariableInt("currentIteration", m_iteration);
+            m_iteration++;
+            // the decision is only recorded, all iterations are run by the node itself
+            return inObjects;
+        }
+
+        @Override
+        public boolean terminateLoop() {
+            return m_iteration >= ITERATIONS;
+        }
+
+        @Override
+        protected void reset() {
+            m_iteration = 0;
+        }
+
+        @Override
+        public void setParallelizable(final boolean parallelizable) {
+            m_parallelizable = parallelizable;
+        }
+
+        @Override
+        public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+            throw new IllegalStateException("No remote chunks");
+        }
+
+        @Override
+        public int getNrRemoteChunks() {
+            return 0;
+        }
+
+        @Override
+        public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        }
+    }
+
+    /** Loop start that always asks for one remote chunk, like the "Parallel Chunk Start" node. */
+    public static final class ParallelChunkStartNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new ParallelChunkStartNodeModel();
+        }
+    }
+
+    static final class ParallelChunkStartNodeModel extends AdapterNodeModel
+        implements LoopStartParallelizeNode, LoopStartNodeTerminator {
+
+        private PortObject[] m_chunkInput;
+
+        ParallelChunkStartNodeModel() {
+            super(1, 1);
+        }
+
+        @Override
+        protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+            throws Exception {
+            m_chunkInput = inObjects;
+            return inObjects;
+        }
+
+        @Override
+        public boolean terminateLoop() {
+            return true;
+        }
+
+        @Override
+        protected void reset() {
+            m_chunkInput = null;
+        }
+
+        @Override
+        public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+            return new VirtualParallelizedChunkNodeInput(m_chunkInput, chunkIndex);
+        }
+
+        @Override
+        public int getNrRemoteChunks() {
+            return 1;
+        }
+
+        @Override
+        public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        }
+    }
+
+    /** Ordinary loop end, like the "Loop End" node. The tests never create chunks for it. */
+    public static final class OptionalParallelEndNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new OptionalParallelEndNodeModel();
+        }
+    }
+
+    static final class OptionalParallelEndNodeModel extends AdapterNodeModel
+        implements LoopEndOptionalParallelizeNode {
+
+        OptionalParallelEndNodeModel() {
+            super(1, 1);
+        }
+
+        @Override
+        protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+            throws Exception {
+            if (((LoopStartNodeTerminator)getLoopStartNode()).terminateLoop()) {
+                return inObjects;
+            }
+            continueLoop();
+            return new PortObject[1];
+        }
+
+        @Override
+        public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+            throw new IllegalStateException("Chunks must not be collected by this loop end");
+        }
+
+        @Override
+        public void updateStatus() {
+        }
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Saves a workflow while one of its nodes is executing. The table data of the executed nodes is written before the
+ * nodes are saved (concurrently, outside the workflow lock, into a staging directory that is moved into the node
+ * directories), the save must neither wait for the executing node nor leave the staging directory behind, and the
+ * saved tables must load again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SaveWhileExecuting extends WorkflowTestCase {
+
+    private File m_workflowDirectory;
+
+    private NodeID m_source;
+
+    private NodeID m_blocking;
+
+    private BlockingNodeFactory m_blockingFactory;
+
+    private ExecutorService m_saveExecutor;
+
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        WorkflowManager wm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        setManager(wm);
+        m_source = wm.addNode(new AdapterNodeFactory());
+        m_blockingFactory = new BlockingNodeFactory();
+        m_blocking = wm.addNode(m_blockingFactory);
+        wm.addConnection(m_source, 1, m_blocking, 1);
+        m_saveExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    /** Saves while the second node is executing, then again once it's done, and loads the saved workflow. */
+    @Test(timeout = 60000)
+    public void testSaveWhileExecuting() throws Exception {
+        WorkflowManager wm = getManager();
+        wm.executeAll();
+        m_blockingFactory.m_started.await();
+        checkState(m_source, InternalNodeContainerState.EXECUTED);
+        checkState(m_blocking, InternalNodeContainerState.EXECUTING);
+
+        // neither the table data nor the nodes must wait for the executing node
+        save();
+        checkState(m_blocking, InternalNodeContainerState.EXECUTING);
+        File sourceDir = wm.getNodeContainer(m_source).getNodeContainerDirectory().getFile();
+        assertTrue("Table of executed node not saved", new File(sourceDir, "port_1/data.zip").isFile());
+        assertNoStagingDirectory();
+
+        m_blockingFactory.m_release.countDown();
+        waitWhileInExecution();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_source, m_blocking);
+        save();
+        assertNoStagingDirectory();
+        // the tables are cleared along with the workflow
+        DataTableSpec expectedSpec = getOutput(wm, m_blocking).getDataTableSpec();
+        List<DataRow> expectedRows = getRows(getOutput(wm, m_blocking));
+        assertEquals("Rows of executed node", 3, expectedRows.size());
+
+        closeWorkflow();
+        WorkflowManager loaded = loadWorkflow(m_workflowDirectory, new ExecutionMonitor()).getWorkflowManager();
+        setManager(loaded);
+        NodeID loadedBlocking = new NodeID(loaded.getID(), m_blocking.getIndex());
+        checkState(loadedBlocking, InternalNodeContainerState.EXECUTED);
+        BufferedDataTable loadedTable = getOutput(loaded, loadedBlocking);
+        assertEquals("Table spec", expectedSpec, loadedTable.getDataTableSpec());
+        assertEquals("Rows", expectedRows, getRows(loadedTable));
+    }
+
+    /** Saves in another thread and fails if that takes long, e.g. because the save waits for the execution. */
+    private void save() throws Exception {
+        final WorkflowManager wm = getManager();
+        Future<?> future = m_saveExecutor.submit(() -> {
+            wm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+            return null;
+        });
+        future.get(30, TimeUnit.SECONDS);
+    }
+
+    private void assertNoStagingDirectory() {
+        for (String name : m_workflowDirectory.list()) {
+            assertTrue("Staging directory not deleted: " + name, !name.startsWith(".staged-tables-"));
+        }
+    }
+
+    private static BufferedDataTable getOutput(final WorkflowManager wm, final NodeID id) {
+        return (BufferedDataTable)wm.getNodeContainer(id).getOutPort(1).getPortObject();
+    }
+
+    private static List<DataRow> getRows(final BufferedDataTable table) {
+        List<DataRow> rows = new ArrayList<>();
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                DataRow row = it.next();
+                rows.add(new DefaultRow(row.getKey(), row));
+            }
+        }
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        m_blockingFactory.m_release.countDown();
+        m_saveExecutor.shutdownNow();
+        super.tearDown();
+        FileUtil.deleteRecursively(m_workflowDirectory);
+    }
+
+    /** Node that copies its input once it is released. */
+    public static final class BlockingNodeFactory extends AdapterNodeFactory {
+
+        private final CountDownLatch m_started = new CountDownLatch(1);
+
+        private final CountDownLatch m_release = new CountDownLatch(1);
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(1, 1) {
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    m_started.countDown();
+                    m_release.await();
+                    BufferedDataTable in = (BufferedDataTable)inObjects[0];
+                    BufferedDataContainer cont = exec.createDataContainer(in.getDataTableSpec());
+                    try (CloseableRowIterator it = in.iterator()) {
+                        while (it.hasNext()) {
+                            cont.addRowToTable(it.next());
+                        }
+                    }
+                    cont.close();
+                    return new PortObject[]{cont.getTable()};
+                }
+            };
+        }
+    }
+}
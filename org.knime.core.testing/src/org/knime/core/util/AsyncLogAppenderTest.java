@@ -0,0 +1,215 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Appender;
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
+import org.apache.log4j.varia.LevelRangeFilter;
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Tests for {@link AsyncLogAppender}, including a throughput comparison of synchronous and asynchronous logging.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AsyncLogAppenderTest {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AsyncLogAppenderTest.class);
+
+    /** Collects the messages of all appended events. */
+    private static final class CollectingAppender extends AppenderSkeleton {
+        private final List<String> m_messages = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected void append(final LoggingEvent event) {
+            m_messages.add(event.getRenderedMessage());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean requiresLayout() {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that events of concurrent threads are all written in the order in which they were logged per thread, even
+     * if the buffer is much smaller than the number of events.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testOrderAndCompleteness() throws Exception {
+        final CollectingAppender delegate = new CollectingAppender();
+        delegate.setName("collect");
+        final AsyncLogAppender appender = new AsyncLogAppender(delegate, 16);
+        final Logger logger = Logger.getLogger("AsyncLogAppenderTest.order");
+        final int threadCount = 4;
+        final int eventsPerThread = 20000;
+        final Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                    appender.doAppend(new LoggingEvent(Logger.class.getName(), logger, Level.INFO, thread + ":" + i,
+                        null));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        appender.close();
+
+        assertEquals("Number of written events", threadCount * eventsPerThread, delegate.m_messages.size());
+        final int[] last = new int[threadCount];
+        Arrays.fill(last, -1);
+        for (String msg : delegate.m_messages) {
+            final String[] parts = msg.split(":");
+            final int thread = Integer.parseInt(parts[0]);
+            final int index = Integer.parseInt(parts[1]);
+            assertEquals("Unexpected event order of thread " + thread, last[thread] + 1, index);
+            last[thread] = index;
+        }
+    }
+
+    /**
+     * Checks that the level range of the wrapped appender is applied and can be changed through the wrapper.
+     */
+    @Test
+    public void testFilterOfDelegate() {
+        final CollectingAppender delegate = new CollectingAppender();
+        final LevelRangeFilter filter = new LevelRangeFilter();
+        filter.setLevelMin(Level.INFO);
+        delegate.addFilter(filter);
+        final AsyncLogAppender appender = new AsyncLogAppender(delegate);
+        assertTrue("Wrapper must expose the filter of the delegate", appender.getFilter() == filter);
+        final Logger logger = Logger.getLogger("AsyncLogAppenderTest.filter");
+        appender.doAppend(new LoggingEvent(Logger.class.getName(), logger, Level.DEBUG, "debug", null));
+        appender.doAppend(new LoggingEvent(Logger.class.getName(), logger, Level.WARN, "warn", null));
+        appender.close();
+        assertEquals("Only events in the level range must be written", Collections.singletonList("warn"),
+            delegate.m_messages);
+    }
+
+    /**
+     * Compares the throughput of synchronous logging into a {@link LogfileAppender}, of asynchronous logging into
+     * the same appender, and of disabled debug logging using the supplier-based API. The timings are only logged,
+     * nothing is asserted on them.
+     *
+     * @throws IOException if the log directory cannot be created
+     */
+    @Test
+    public void testThroughputComparison() throws IOException {
+        final int eventCount = 200000;
+        final File logDir = FileUtil.createTempDir("async-log-test");
+        try {
+            long sync = logToFile(logDir, false, eventCount);
+            long async = logToFile(logDir, true, eventCount);
+            LOGGER.info("Logging " + eventCount + " events: sync " + sync + "ms, async " + async + "ms");
+
+            final NodeLogger nodeLogger = NodeLogger.getLogger("AsyncLogAppenderTest.disabled");
+            // must be set after creating the node logger, which enables all levels
+            Logger.getLogger("AsyncLogAppenderTest.disabled").setLevel(Level.INFO);
+            final int[] evaluated = new int[1];
+            long t = System.currentTimeMillis();
+            for (int i = 0; i < eventCount; i++) {
+                final int index = i;
+                nodeLogger.debug(() -> {
+                    evaluated[0]++;
+                    return "Message " + index + " of " + eventCount;
+                });
+            }
+            LOGGER.info("Logging " + eventCount + " disabled events: " + (System.currentTimeMillis() - t) + "ms");
+            assertEquals("Message of disabled level must not be created", 0, evaluated[0]);
+        } finally {
+            FileUtil.deleteRecursively(logDir);
+        }
+    }
+
+    private static long logToFile(final File logDir, final boolean async, final int eventCount) {
+        final Logger logger = Logger.getLogger("AsyncLogAppenderTest.throughput");
+        logger.setAdditivity(false);
+        logger.setLevel(Level.ALL);
+        final LogfileAppender fileAppender = new LogfileAppender(logDir);
+        fileAppender.setName("AsyncLogAppenderTest.throughput");
+        fileAppender.setLayout(new PatternLayout("%d %-5p\t %c{1}\t %m%n"));
+        fileAppender.activateOptions();
+        final Appender appender = async ? new AsyncLogAppender(fileAppender) : fileAppender;
+        logger.addAppender(appender);
+        final long t = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < eventCount; i++) {
+                logger.debug("Message " + i + " of " + eventCount);
+            }
+        } finally {
+            logger.removeAppender(appender);
+            appender.close();
+        }
+        return System.currentTimeMillis() - t;
+    }
+}
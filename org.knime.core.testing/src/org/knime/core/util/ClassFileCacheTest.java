@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ClassFileCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ClassFileCacheTest {
+
+    private File m_dir;
+
+    /**
+     * Creates the test directory.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void createDirectory() throws Exception {
+        m_dir = FileUtil.createTempDir(getClass().getSimpleName());
+    }
+
+    /**
+     * Deletes the test directory.
+     */
+    @After
+    public void deleteDirectory() {
+        FileUtil.deleteRecursively(m_dir);
+    }
+
+    private File createFile(final File dir, final String path, final String content) throws Exception {
+        final File file = new File(dir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Class files are restored with their package directories.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testStoreAndRestore() throws Exception {
+        final ClassFileCache cache = new ClassFileCache(new File(m_dir, "cache"), 1L << 20);
+        final File output = new File(m_dir, "output");
+        final File classFile = createFile(output, "a/b/Foo.class", "foo");
+        final File innerClassFile = createFile(output, "a/b/Foo$1.class", "foo1");
+        createFile(output, "Other.class", "other");
+
+        assertFalse(cache.restore("key", output));
+        cache.store("key", output, Arrays.asList(classFile, innerClassFile));
+
+        final File restoreDir = new File(m_dir, "restore");
+        assertTrue(cache.restore("key", restoreDir));
+        assertArrayEquals("foo".getBytes(StandardCharsets.UTF_8),
+            Files.readAllBytes(new File(restoreDir, "a/b/Foo.class").toPath()));
+        assertArrayEquals("foo1".getBytes(StandardCharsets.UTF_8),
+            Files.readAllBytes(new File(restoreDir, "a/b/Foo$1.class").toPath()));
+        assertFalse("Class file not part of the compilation restored", new File(restoreDir, "Other.class").exists());
+        assertEquals(2, ClassFileCache.listClassFiles(restoreDir).size());
+    }
+
+    /**
+     * The key depends on the content of the class path, not its location.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCreateKey() throws Exception {
+        final File jar1 = createFile(m_dir, "1/lib.jar", "content");
+        final File jar2 = createFile(m_dir, "2/lib.jar", "content");
+        final File jar3 = createFile(m_dir, "3/lib.jar", "other content");
+        final List<String> args = Arrays.asList("-source", "1.8");
+        final List<String> source = Collections.singletonList("class Foo {}");
+
+        final String key = ClassFileCache.createKey("compiler", args, new File[]{jar1}, source);
+        assertEquals(key, ClassFileCache.createKey("compiler", args, new File[]{jar2}, source));
+        assertNotEquals(key, ClassFileCache.createKey("compiler", args, new File[]{jar3}, source));
+        assertNotEquals(key, ClassFileCache.createKey("compiler2", args, new File[]{jar1}, source));
+        assertNotEquals(key,
+            ClassFileCache.createKey("compiler", Arrays.asList("-source", "1.7"), new File[]{jar1}, source));
+        assertNotEquals(key, ClassFileCache.createKey("compiler", args, new File[]{jar1},
+            Collections.singletonList("class Bar {}")));
+    }
+
+    /**
+     * The least recently used entries are removed if the cache exceeds its size.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testPrune() throws Exception {
+        final ClassFileCache cache = new ClassFileCache(new File(m_dir, "cache"), 250);
+        final File output = new File(m_dir, "output");
+        final char[] content = new char[100];
+        Arrays.fill(content, 'x');
+        for (String name : new String[]{"A", "B", "C"}) {
+            final File classFile = createFile(output, name + ".class", new String(content));
+            cache.store(name, output, Collections.singletonList(classFile));
+            // make sure that the modification times differ
+            final long lastUsed = System.currentTimeMillis() - 10000 + name.charAt(0);
+            new File(new File(m_dir, "cache"), name).setLastModified(lastUsed);
+        }
+        final File restoreDir = new File(m_dir, "restore");
+        assertFalse(cache.restore("A", restoreDir));
+        assertTrue(cache.restore("B", restoreDir));
+        assertTrue(cache.restore("C", restoreDir));
+    }
+
+    /**
+     * A disabled cache neither stores nor restores class files.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDisabled() throws Exception {
+        final ClassFileCache cache = new ClassFileCache(new File(m_dir, "cache"), 0);
+        final File output = new File(m_dir, "output");
+        cache.store("key", output, Collections.singletonList(createFile(output, "Foo.class", "foo")));
+        assertFalse(cache.restore("key", new File(m_dir, "restore")));
+        assertFalse(new File(m_dir, "cache").exists());
+    }
+}
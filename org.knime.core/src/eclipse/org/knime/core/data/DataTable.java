@@ -95,7 +95,8 @@ public interface DataTable extends Iterable<DataRow> {
      * @since 3.7
      */
     default RowIteratorBuilder<? extends RowIterator> iteratorBuilder() {
-        return new DefaultRowIteratorBuilder<RowIterator>(() -> iterator(), getDataTableSpec());
+        return new DefaultRowIteratorBuilder<RowIterator>(() -> iterator(),
+            p -> new FilterRowIterator(iterator(), p), getDataTableSpec());
     }
 
 }
@@ -52,6 +52,7 @@
 import java.util.UUID;
 
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.filestore.internal.FileStoreContentStore;
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 
@@ -152,4 +153,16 @@ public interface IDataRepository {
      */
     void printValidFileStoreHandlersToLogDebug();
 
+    /**
+     * Returns the store used to share identical file store content between the file store handlers of this
+     * repository. Only present if enabled via
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_DEDUPLICATE_FILE_STORES}.
+     *
+     * @return the content store, if enabled for this repository
+     * @since 3.7
+     */
+    default Optional<FileStoreContentStore> getFileStoreContentStore() {
+        return Optional.empty();
+    }
+
 }
\ No newline at end of file
@@ -48,6 +48,7 @@
  */
 package org.knime.core.data;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.knime.core.node.util.CheckUtils;
@@ -89,6 +90,20 @@
      */
     RowIteratorBuilder<I> filterColumns(String... columns);
 
+    /**
+     * Iterate only over the rows matching the given predicate. Tables may evaluate the predicate while reading their
+     * content, so that the cells of rows that don't match don't need to be deserialized.
+     *
+     * @param predicate the predicate the returned rows have to match
+     * @return this {@link RowIteratorBuilder}
+     * @throws IndexOutOfBoundsException if the predicate refers to columns smaller than 0 or larger than the width of
+     *             the table
+     * @throws IllegalArgumentException if the predicate refers to a column multiple times
+     * @throws UnsupportedOperationException if the builder can't filter rows
+     * @since 3.7
+     */
+    RowIteratorBuilder<I> filterRows(RowPredicate predicate);
+
     /**
      * Build a new row iterator with the behavior specified via methods invoked in this builder.
      *
@@ -108,17 +123,39 @@
 
         private final Supplier<I> m_iteratorSupplier;
 
+        private final Function<RowPredicate, I> m_filteredIteratorFactory;
+
         private final DataTableSpec m_spec;
 
+        private RowPredicate m_predicate;
+
         /**
-         * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}.
+         * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}, which doesn't
+         * support {@link #filterRows(RowPredicate)}.
          *
          * @param iteratorSupplier the supplier default iterators that are to be returned when
          *            {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder#build()} is invoked
          * @param spec the specification of the table over which to iterate
          */
         public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataTableSpec spec) {
+            this(iteratorSupplier, null, spec);
+        }
+
+        /**
+         * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}.
+         *
+         * @param iteratorSupplier the supplier default iterators that are to be returned when
+         *            {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder#build()} is invoked
+         * @param filteredIteratorFactory creates the iterators over the rows matching a predicate that are to be
+         *            returned when {@link #build()} is invoked after {@link #filterRows(RowPredicate)}, may be
+         *            <code>null</code> if rows can't be filtered
+         * @param spec the specification of the table over which to iterate
+         * @since 3.7
+         */
+        public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier,
+            final Function<RowPredicate, I> filteredIteratorFactory, final DataTableSpec spec) {
             m_iteratorSupplier = CheckUtils.checkArgumentNotNull(iteratorSupplier, "Argument must not be null");
+            m_filteredIteratorFactory = filteredIteratorFactory;
             m_spec = CheckUtils.checkArgumentNotNull(spec, "Spec must not be null");
         }
 
@@ -139,12 +176,26 @@ public RowIteratorBuilder<I> filterColumns(final String... columns) {
             return filterColumns(m_spec.columnsToIndices(columns));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> filterRows(final RowPredicate predicate) {
+            CheckUtils.checkArgumentNotNull(predicate, "Predicate must not be null");
+            if (m_filteredIteratorFactory == null) {
+                throw new UnsupportedOperationException("Rows can't be filtered by this iterator builder");
+            }
+            m_spec.verifyIndices(predicate.getColumnIndices());
+            m_predicate = predicate;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public I build() {
-            return m_iteratorSupplier.get();
+            return m_predicate == null ? m_iteratorSupplier.get() : m_filteredIteratorFactory.apply(m_predicate);
         }
 
     }
@@ -0,0 +1,87 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data;
+
+import java.util.function.Predicate;
+
+import org.knime.core.data.container.BlockStatistics;
+
+/**
+ * A condition on the rows of a table that depends on the values of a few columns (and the row key) only. Predicates
+ * can be passed to {@link RowIteratorBuilder#filterRows(RowPredicate)}, which allows tables to evaluate them while
+ * reading and to skip the remaining cells of a row that does not match without deserializing them.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public interface RowPredicate extends Predicate<DataRow> {
+
+    /**
+     * Returns the indices of the columns the predicate reads. The cells of all other columns of the row passed to
+     * {@link #test(Object)} may be {@link UnmaterializedCell}s.
+     *
+     * @return the indices of the columns read by {@link #test(Object)}, possibly empty (e.g. if only the row key is
+     *         tested)
+     */
+    int[] getColumnIndices();
+
+    /**
+     * Tests whether any row in a block of a table may match the predicate, given the statistics of the block. Tables
+     * that record {@link BlockStatistics} skip blocks for which this method returns <code>false</code>, so it must
+     * only do so if no row in the block matches. The default implementation doesn't exploit the statistics and
+     * returns <code>true</code>.
+     *
+     * @param statistics the statistics of the table
+     * @param block the index of the block in the statistics
+     * @return <code>false</code> if no row in the block matches the predicate
+     */
+    default boolean mayMatch(final BlockStatistics statistics, final int block) {
+        return true;
+    }
+}
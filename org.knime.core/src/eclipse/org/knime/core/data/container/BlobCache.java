@@ -0,0 +1,407 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Cache for blob cells that is shared by all {@link Buffer Buffers}. The cache has a fixed memory budget (see
+ * {@link KNIMEConstants#PROPERTY_BLOB_CACHE_SIZE}), entries are weighted by their size and the least recently used
+ * entries are evicted when the budget is exceeded.
+ *
+ * <p>By default the deserialized cells are cached, weighted by their serialized size. In off-heap mode (see
+ * {@link KNIMEConstants#PROPERTY_BLOB_CACHE_OFF_HEAP}) the content of the blob files is kept in direct byte buffers
+ * instead and each hit deserializes the cell from memory, which keeps the cache out of the Java heap.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BlobCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BlobCache.class);
+
+    /** Estimated memory overhead per cache entry in bytes (key, entry, map node). */
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private static final BlobCache INSTANCE = new BlobCache(getBudgetFromProperty(),
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_BLOB_CACHE_OFF_HEAP));
+
+    /** Reads a blob cell from the content of its blob file. */
+    @FunctionalInterface
+    interface BlobReader {
+        /**
+         * @param fileContent the content of the blob file, to be closed by the reader
+         * @param sizeConsumer if not <code>null</code>, receives the number of (uncompressed) bytes read
+         * @return the blob cell
+         * @throws IOException if reading fails
+         */
+        BlobDataCell read(InputStream fileContent, LongConsumer sizeConsumer) throws IOException;
+    }
+
+    /** Identifies a blob: the id of the owning buffer, column and index. */
+    private static final class Key {
+        private final long m_ownerID;
+        private final int m_column;
+        private final int m_index;
+
+        Key(final long ownerID, final BlobAddress address) {
+            m_ownerID = ownerID;
+            m_column = address.getColumn();
+            m_index = address.getIndexOfBlobInColumn();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return m_ownerID == other.m_ownerID && m_column == other.m_column && m_index == other.m_index;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * (31 * Long.hashCode(m_ownerID) + m_column)) + m_index;
+        }
+    }
+
+    /** A cell (on heap) or the blob file content (off heap) and its weight. */
+    private static final class Entry {
+        private final Object m_value;
+        private final long m_weight;
+
+        Entry(final Object value, final long weight) {
+            m_value = value;
+            m_weight = weight;
+        }
+    }
+
+    private final long m_budget;
+
+    private final boolean m_offHeap;
+
+    /** In access order, the first entry is the least recently used one. */
+    private final LinkedHashMap<Key, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Keys by owner, used to invalidate all blobs of a buffer when it's cleared. */
+    private final Map<Long, Set<Key>> m_keysByOwner = new HashMap<>();
+
+    private long m_size;
+
+    private long m_hits;
+
+    private long m_misses;
+
+    private long m_evictions;
+
+    /**
+     * @param budget the maximum size of all entries in bytes, caching is disabled if not positive
+     * @param offHeap whether to cache the blob file content in direct buffers instead of the cells
+     */
+    BlobCache(final long budget, final boolean offHeap) {
+        m_budget = budget;
+        m_offHeap = offHeap;
+    }
+
+    /** @return the instance shared by all buffers */
+    static BlobCache getInstance() {
+        return INSTANCE;
+    }
+
+    static {
+        if (!INSTANCE.m_offHeap && INSTANCE.m_budget > 0) {
+            MemoryAlertSystem.getInstance().addListener(new MemoryAlertListener() {
+                @Override
+                protected boolean memoryAlert(final MemoryAlert alert) {
+                    LOGGER.debug(() -> "Clearing blob cache due to low memory: " + INSTANCE);
+                    INSTANCE.clear();
+                    return false;
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the cached blob or reads it from the blob file and caches it.
+     *
+     * @param ownerID the id of the buffer owning the blob, unique within the JVM
+     * @param address the address of the blob
+     * @param blobFile the file containing the blob
+     * @param reader reads the cell from the file content
+     * @return the blob cell
+     * @throws IOException if the blob can't be read
+     */
+    BlobDataCell get(final long ownerID, final BlobAddress address, final File blobFile, final BlobReader reader)
+        throws IOException {
+        if (m_budget <= 0) {
+            return reader.read(new FileInputStream(blobFile), null);
+        }
+        final Key key = new Key(ownerID, address);
+        final Entry entry;
+        synchronized (this) {
+            entry = m_entries.get(key);
+            if (entry != null) {
+                m_hits++;
+            } else {
+                m_misses++;
+            }
+        }
+        if (m_offHeap) {
+            ByteBuffer content;
+            if (entry != null) {
+                content = (ByteBuffer)entry.m_value;
+            } else {
+                final long length = blobFile.length();
+                if (!isCacheable(length) || length > Integer.MAX_VALUE) {
+                    return reader.read(new FileInputStream(blobFile), null);
+                }
+                content = readFully(blobFile, length);
+                put(key, content, content.capacity() + ENTRY_OVERHEAD);
+            }
+            // duplicates are independent views, the cached buffer's position is never changed
+            return reader.read(new ByteBufferInputStream(content.duplicate()), null);
+        }
+        if (entry != null) {
+            return (BlobDataCell)entry.m_value;
+        }
+        final long[] size = new long[1];
+        final BlobDataCell cell = reader.read(new FileInputStream(blobFile), s -> size[0] = s);
+        put(key, cell, size[0] + ENTRY_OVERHEAD);
+        return cell;
+    }
+
+    private boolean isCacheable(final long weight) {
+        // a single blob must not displace the whole cache
+        return weight <= m_budget / 2;
+    }
+
+    private synchronized void put(final Key key, final Object value, final long weight) {
+        if (!isCacheable(weight) || m_entries.containsKey(key)) {
+            // too large or read concurrently by another thread
+            return;
+        }
+        m_entries.put(key, new Entry(value, weight));
+        m_keysByOwner.computeIfAbsent(key.m_ownerID, k -> new HashSet<>()).add(key);
+        m_size += weight;
+        final Iterator<Map.Entry<Key, Entry>> it = m_entries.entrySet().iterator();
+        while (m_size > m_budget && it.hasNext()) {
+            final Map.Entry<Key, Entry> eldest = it.next();
+            it.remove();
+            removeFromOwner(eldest.getKey());
+            m_size -= eldest.getValue().m_weight;
+            m_evictions++;
+        }
+    }
+
+    private void removeFromOwner(final Key key) {
+        final Set<Key> keys = m_keysByOwner.get(key.m_ownerID);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            m_keysByOwner.remove(key.m_ownerID);
+        }
+    }
+
+    /**
+     * Removes all blobs of a buffer, called when the buffer is cleared.
+     *
+     * @param ownerID the id of the buffer
+     */
+    synchronized void invalidate(final long ownerID) {
+        final Set<Key> keys = m_keysByOwner.remove(ownerID);
+        if (keys != null) {
+            for (Key key : keys) {
+                final Entry entry = m_entries.remove(key);
+                if (entry != null) {
+                    m_size -= entry.m_weight;
+                }
+            }
+        }
+    }
+
+    /** Removes all entries. */
+    synchronized void clear() {
+        m_entries.clear();
+        m_keysByOwner.clear();
+        m_size = 0;
+    }
+
+    /** @return the number of lookups that were served from the cache */
+    synchronized long getHitCount() {
+        return m_hits;
+    }
+
+    /** @return the number of lookups that required reading the blob file */
+    synchronized long getMissCount() {
+        return m_misses;
+    }
+
+    /** @return the number of entries evicted because the budget was exceeded */
+    synchronized long getEvictionCount() {
+        return m_evictions;
+    }
+
+    /** @return the current size of all entries in bytes */
+    synchronized long getSize() {
+        return m_size;
+    }
+
+    /** @return the number of cached blobs */
+    synchronized int getEntryCount() {
+        return m_entries.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String toString() {
+        final long lookups = m_hits + m_misses;
+        return String.format("%d blob(s), %d of %d bytes (%s), %d hit(s), %d miss(es) (hit rate %.1f%%), "
+            + "%d eviction(s)", m_entries.size(), m_size, m_budget, m_offHeap ? "off-heap" : "on-heap", m_hits,
+            m_misses, lookups == 0 ? 0.0 : 100.0 * m_hits / lookups, m_evictions);
+    }
+
+    private static ByteBuffer readFully(final File file, final long length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int)length);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until full or end of file
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /** Parses {@link KNIMEConstants#PROPERTY_BLOB_CACHE_SIZE}, defaults to 1/16 of the heap but at most 128MB. */
+    private static long getBudgetFromProperty() {
+        return readByteSizeProperty(KNIMEConstants.PROPERTY_BLOB_CACHE_SIZE,
+            Math.min(128L << 20, Runtime.getRuntime().maxMemory() / 16));
+    }
+
+    /**
+     * Parses a java property denoting a number of bytes, optionally with a suffix "k", "m" or "g".
+     *
+     * @param property the name of the property
+     * @param defaultValue the value if the property is not set or invalid
+     * @return the number of bytes
+     */
+    static long readByteSizeProperty(final String property, final long defaultValue) {
+        final String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        String size = value.trim().toLowerCase();
+        long multiplier = 1;
+        if (size.endsWith("g")) {
+            multiplier = 1L << 30;
+        } else if (size.endsWith("m")) {
+            multiplier = 1L << 20;
+        } else if (size.endsWith("k")) {
+            multiplier = 1L << 10;
+        }
+        if (multiplier > 1) {
+            size = size.substring(0, size.length() - 1).trim();
+        }
+        try {
+            return multiplier * Long.parseLong(size);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Unable to parse size \"" + value + "\" (property " + property + "), using default of "
+                + defaultValue + " bytes");
+            return defaultValue;
+        }
+    }
+
+    /** Reads from a byte buffer (without changing the position of other views). */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer m_buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            m_buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return m_buffer.hasRemaining() ? (m_buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!m_buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, m_buffer.remaining());
+            m_buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return m_buffer.remaining();
+        }
+    }
+}
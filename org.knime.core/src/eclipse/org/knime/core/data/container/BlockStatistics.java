@@ -0,0 +1,554 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import org.knime.core.data.BoundedValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Statistics of a table in blocks of consecutive rows (also known as zone maps). For each block of
+ * {@link #getBlockSize()} rows and each column they record the number of missing values, the minimum and maximum
+ * (according to the column type's comparator) for numeric and string columns, and, for string columns with few
+ * distinct values per block, a bloom filter of the contained values. The range of a string column is not recorded
+ * for blocks that contain strings longer than {@value #MAX_STRING_LENGTH} characters.
+ *
+ * <p>
+ * All information is conservative: a consumer can use it to skip blocks that cannot contain rows of interest, e.g. a
+ * row filter that is evaluated while the table is read, but it must always be prepared to read a block that turns out
+ * not to contain any such row.
+ *
+ * <p>
+ * The statistics are collected by the {@link Buffer} while the table is written and are stored as part of the table's
+ * meta information. They are available via {@link org.knime.core.node.BufferedDataTable#getBlockStatistics()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class BlockStatistics {
+
+    /** The number of rows in a block. */
+    public static final int DEFAULT_BLOCK_SIZE = 8192;
+
+    /** Size of a bloom filter in 64 bit words. */
+    private static final int BLOOM_FILTER_WORDS = 16;
+
+    private static final int BLOOM_FILTER_BITS = BLOOM_FILTER_WORDS * Long.SIZE;
+
+    private static final int BLOOM_FILTER_HASHES = 3;
+
+    /** Bloom filters with more bits set are useless (high false positive rate) and are dropped. */
+    private static final int BLOOM_FILTER_MAX_CARDINALITY = BLOOM_FILTER_BITS / 2;
+
+    /**
+     * Strings longer than this are not recorded as minimum or maximum, a block containing such a string has no range
+     * of the column. This keeps the meta information small.
+     */
+    static final int MAX_STRING_LENGTH = 128;
+
+    private static final String CFG_BLOCK_SIZE = "blockSize";
+
+    private static final String CFG_ROW_COUNT = "rowCount";
+
+    private static final String CFG_BLOCK_PREFIX = "block_";
+
+    private static final String CFG_MISSING_PREFIX = "missing_";
+
+    private static final String CFG_MIN_PREFIX = "min_";
+
+    private static final String CFG_MAX_PREFIX = "max_";
+
+    private static final String CFG_BLOOM_PREFIX = "bloom_";
+
+    private final int m_blockSize;
+
+    private final long m_rowCount;
+
+    private final DataValueComparator[] m_comparators;
+
+    private final Block[] m_blocks;
+
+    private BlockStatistics(final int blockSize, final long rowCount, final DataValueComparator[] comparators,
+        final Block[] blocks) {
+        m_blockSize = blockSize;
+        m_rowCount = rowCount;
+        m_comparators = comparators;
+        m_blocks = blocks;
+    }
+
+    /**
+     * @return the number of rows in each block, except for the last one, which may be smaller
+     */
+    public int getBlockSize() {
+        return m_blockSize;
+    }
+
+    /**
+     * @return the number of blocks
+     */
+    public int getNumBlocks() {
+        return m_blocks.length;
+    }
+
+    /**
+     * @return the number of rows of the table
+     */
+    public long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @param rowIndex the index of a row in the table
+     * @return the index of the block containing the row
+     */
+    public int getBlockIndex(final long rowIndex) {
+        return (int)(rowIndex / m_blockSize);
+    }
+
+    /**
+     * @param block the index of a block
+     * @return the index of the first row in the block
+     */
+    public long getFirstRowIndex(final int block) {
+        checkBlockIndex(block);
+        return (long)block * m_blockSize;
+    }
+
+    /**
+     * @param block the index of a block
+     * @return the number of rows in the block
+     */
+    public int getNumRows(final int block) {
+        checkBlockIndex(block);
+        return (int)Math.min(m_blockSize, m_rowCount - getFirstRowIndex(block));
+    }
+
+    /**
+     * @param block the index of a block
+     * @param column the index of a column
+     * @return the number of missing values of the column in the block
+     */
+    public int getMissingCount(final int block, final int column) {
+        checkBlockIndex(block);
+        return m_blocks[block].m_missingCounts[column];
+    }
+
+    /**
+     * @param block the index of a block
+     * @param column the index of a column
+     * @return the smallest non-missing value of the column in the block or <code>null</code> if it is not known
+     *         (only recorded for numeric and string columns) or if there is no such value (see
+     *         {@link #getMissingCount(int, int)})
+     */
+    public DataCell getMin(final int block, final int column) {
+        checkBlockIndex(block);
+        return m_blocks[block].m_min[column];
+    }
+
+    /**
+     * @param block the index of a block
+     * @param column the index of a column
+     * @return the largest non-missing value of the column in the block or <code>null</code> if it is not known
+     *         (only recorded for numeric and string columns) or if there is no such value
+     */
+    public DataCell getMax(final int block, final int column) {
+        checkBlockIndex(block);
+        return m_blocks[block].m_max[column];
+    }
+
+    /**
+     * Tests whether a column might contain a value in a block. A result of <code>false</code> is definite, i.e. the
+     * value does not occur in the block, a result of <code>true</code> may be a false positive.
+     *
+     * @param block the index of a block
+     * @param column the index of a column
+     * @param value the value, equality is determined by {@link DataCell#equals(Object)}; a missing cell tests for
+     *            missing values
+     * @return <code>false</code> if the value definitely does not occur in the column of the block
+     */
+    public boolean mightContain(final int block, final int column, final DataCell value) {
+        checkBlockIndex(block);
+        final Block b = m_blocks[block];
+        if (value.isMissing()) {
+            return b.m_missingCounts[column] > 0;
+        }
+        if (b.m_missingCounts[column] == getNumRows(block)) {
+            return false;
+        }
+        final DataValueComparator comparator = m_comparators[column];
+        if (comparator != null && b.m_min[column] != null) {
+            if (comparator.compare(value, b.m_min[column]) < 0 || comparator.compare(value, b.m_max[column]) > 0) {
+                return false;
+            }
+        }
+        final long[] bloomFilter = b.m_bloomFilters[column];
+        return bloomFilter == null || bloomFilterContains(bloomFilter, value);
+    }
+
+    private void checkBlockIndex(final int block) {
+        if (block < 0 || block >= m_blocks.length) {
+            throw new IndexOutOfBoundsException(
+                "Invalid block index " + block + ", number of blocks is " + m_blocks.length);
+        }
+    }
+
+    /**
+     * Saves the statistics.
+     *
+     * @param settings to save to
+     */
+    void save(final NodeSettingsWO settings) {
+        settings.addInt(CFG_BLOCK_SIZE, m_blockSize);
+        settings.addLong(CFG_ROW_COUNT, m_rowCount);
+        for (int b = 0; b < m_blocks.length; b++) {
+            final Block block = m_blocks[b];
+            final NodeSettingsWO blockSettings = settings.addNodeSettings(CFG_BLOCK_PREFIX + b);
+            for (int c = 0; c < m_comparators.length; c++) {
+                // only non-default values are saved in order to keep the meta information small
+                if (block.m_missingCounts[c] > 0) {
+                    blockSettings.addInt(CFG_MISSING_PREFIX + c, block.m_missingCounts[c]);
+                }
+                if (block.m_min[c] != null) {
+                    blockSettings.addDataCell(CFG_MIN_PREFIX + c, block.m_min[c]);
+                    blockSettings.addDataCell(CFG_MAX_PREFIX + c, block.m_max[c]);
+                }
+                if (block.m_bloomFilters[c] != null) {
+                    blockSettings.addString(CFG_BLOOM_PREFIX + c, encodeBloomFilter(block.m_bloomFilters[c]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads statistics saved with {@link #save(NodeSettingsWO)}.
+     *
+     * @param settings to load from
+     * @param spec the spec of the table
+     * @return the statistics
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    static BlockStatistics load(final NodeSettingsRO settings, final DataTableSpec spec)
+        throws InvalidSettingsException {
+        final int blockSize = settings.getInt(CFG_BLOCK_SIZE);
+        final long rowCount = settings.getLong(CFG_ROW_COUNT);
+        if (blockSize <= 0 || rowCount < 0) {
+            throw new InvalidSettingsException(
+                "Invalid block statistics, block size " + blockSize + ", row count " + rowCount);
+        }
+        final DataValueComparator[] comparators = createComparators(spec);
+        final int colCount = comparators.length;
+        final Block[] blocks = new Block[(int)((rowCount + blockSize - 1) / blockSize)];
+        for (int b = 0; b < blocks.length; b++) {
+            final NodeSettingsRO blockSettings = settings.getNodeSettings(CFG_BLOCK_PREFIX + b);
+            final Block block = new Block(colCount);
+            for (int c = 0; c < colCount; c++) {
+                block.m_missingCounts[c] = blockSettings.getInt(CFG_MISSING_PREFIX + c, 0);
+                if (comparators[c] != null && blockSettings.containsKey(CFG_MIN_PREFIX + c)) {
+                    block.m_min[c] = blockSettings.getDataCell(CFG_MIN_PREFIX + c);
+                    block.m_max[c] = blockSettings.getDataCell(CFG_MAX_PREFIX + c);
+                }
+                final String bloomFilter = blockSettings.getString(CFG_BLOOM_PREFIX + c, null);
+                if (bloomFilter != null) {
+                    block.m_bloomFilters[c] = decodeBloomFilter(bloomFilter);
+                }
+            }
+            blocks[b] = block;
+        }
+        return new BlockStatistics(blockSize, rowCount, comparators, blocks);
+    }
+
+    /**
+     * Determines the comparators of the columns for which minimum and maximum are recorded, those are columns with
+     * numeric (or otherwise bounded) and string values, excluding collections and blobs.
+     */
+    private static DataValueComparator[] createComparators(final DataTableSpec spec) {
+        final DataValueComparator[] comparators = new DataValueComparator[spec.getNumColumns()];
+        for (int c = 0; c < comparators.length; c++) {
+            final DataType type = spec.getColumnSpec(c).getType();
+            final Class<? extends DataCell> cellClass = type.getCellClass();
+            if (!type.isCollectionType() && (cellClass == null || !BlobDataCell.class.isAssignableFrom(cellClass))
+                && (type.isCompatible(BoundedValue.class) || type.isCompatible(StringValue.class))) {
+                comparators[c] = type.getComparator();
+            }
+        }
+        return comparators;
+    }
+
+    private static String encodeBloomFilter(final long[] bloomFilter) {
+        final byte[] bytes = new byte[bloomFilter.length * Long.BYTES];
+        for (int i = 0; i < bloomFilter.length; i++) {
+            for (int j = 0; j < Long.BYTES; j++) {
+                bytes[i * Long.BYTES + j] = (byte)(bloomFilter[i] >>> (j * Byte.SIZE));
+            }
+        }
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static long[] decodeBloomFilter(final String encoded) throws InvalidSettingsException {
+        final byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(encoded);
+        } catch (IllegalArgumentException iae) {
+            throw new InvalidSettingsException("Invalid bloom filter: " + iae.getMessage(), iae);
+        }
+        if (bytes.length != BLOOM_FILTER_WORDS * Long.BYTES) {
+            throw new InvalidSettingsException("Invalid bloom filter length: " + bytes.length);
+        }
+        final long[] bloomFilter = new long[BLOOM_FILTER_WORDS];
+        for (int i = 0; i < bloomFilter.length; i++) {
+            for (int j = 0; j < Long.BYTES; j++) {
+                bloomFilter[i] |= (bytes[i * Long.BYTES + j] & 0xFFL) << (j * Byte.SIZE);
+            }
+        }
+        return bloomFilter;
+    }
+
+    /** Double hashing of the (stable) hash code of the cell, see Kirsch &amp; Mitzenmacher. */
+    private static int bloomFilterBit(final int hash1, final int hash2, final int i) {
+        return Math.floorMod(hash1 + i * hash2, BLOOM_FILTER_BITS);
+    }
+
+    private static int secondHash(final int hash) {
+        // murmur3 finalizer
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h | 1;
+    }
+
+    /** Adds a value to a bloom filter and returns the number of bits that were newly set. */
+    private static int bloomFilterAdd(final long[] bloomFilter, final DataCell value) {
+        final int hash = value.hashCode();
+        final int hash2 = secondHash(hash);
+        int newBits = 0;
+        for (int i = 0; i < BLOOM_FILTER_HASHES; i++) {
+            final int bit = bloomFilterBit(hash, hash2, i);
+            final long mask = 1L << bit;
+            if ((bloomFilter[bit >>> 6] & mask) == 0) {
+                bloomFilter[bit >>> 6] |= mask;
+                newBits++;
+            }
+        }
+        return newBits;
+    }
+
+    private static boolean bloomFilterContains(final long[] bloomFilter, final DataCell value) {
+        final int hash = value.hashCode();
+        final int hash2 = secondHash(hash);
+        for (int i = 0; i < BLOOM_FILTER_HASHES; i++) {
+            final int bit = bloomFilterBit(hash, hash2, i);
+            if ((bloomFilter[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The statistics of a single block. */
+    private static final class Block {
+
+        private final int[] m_missingCounts;
+
+        private final DataCell[] m_min;
+
+        private final DataCell[] m_max;
+
+        private final long[][] m_bloomFilters;
+
+        Block(final int colCount) {
+            m_missingCounts = new int[colCount];
+            m_min = new DataCell[colCount];
+            m_max = new DataCell[colCount];
+            m_bloomFilters = new long[colCount][];
+        }
+    }
+
+    /**
+     * Collects the statistics while the rows of a table are added. Not thread-safe.
+     */
+    static final class Creator {
+
+        private final int m_blockSize;
+
+        private final DataValueComparator[] m_comparators;
+
+        /** Whether a bloom filter is collected for a column, only for string columns. */
+        private final boolean[] m_isBloomFilterColumn;
+
+        /** Whether the range of a column is compared as strings, their length is then limited. */
+        private final boolean[] m_isStringRangeColumn;
+
+        private final List<Block> m_blocks = new ArrayList<>();
+
+        private Block m_current;
+
+        /** The number of bits set in the bloom filters of the current block, per column. */
+        private final int[] m_bloomFilterCardinalities;
+
+        /** Whether min/max of a column in the current block are unknown (a value couldn't be compared). */
+        private final boolean[] m_isRangeInvalid;
+
+        private long m_rowCount;
+
+        /**
+         * @param spec the spec of the table
+         * @param blockSize the number of rows in a block
+         */
+        Creator(final DataTableSpec spec, final int blockSize) {
+            if (blockSize <= 0) {
+                throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+            }
+            m_blockSize = blockSize;
+            m_comparators = createComparators(spec);
+            final int colCount = m_comparators.length;
+            m_isBloomFilterColumn = new boolean[colCount];
+            m_isStringRangeColumn = new boolean[colCount];
+            for (int c = 0; c < colCount; c++) {
+                final DataType type = spec.getColumnSpec(c).getType();
+                m_isBloomFilterColumn[c] = StringCell.TYPE.equals(type);
+                m_isStringRangeColumn[c] = m_comparators[c] != null && !type.isCompatible(BoundedValue.class);
+            }
+            m_bloomFilterCardinalities = new int[colCount];
+            m_isRangeInvalid = new boolean[colCount];
+        }
+
+        /**
+         * Adds the next row of the table.
+         *
+         * @param row the row, the cells of a {@link BlobSupportDataRow} are accessed without loading blobs
+         */
+        void addRow(final DataRow row) {
+            if (m_current == null) {
+                m_current = new Block(m_comparators.length);
+                for (int c = 0; c < m_comparators.length; c++) {
+                    if (m_isBloomFilterColumn[c]) {
+                        m_current.m_bloomFilters[c] = new long[BLOOM_FILTER_WORDS];
+                    }
+                }
+            }
+            final Block block = m_current;
+            for (int c = 0; c < m_comparators.length; c++) {
+                final DataCell cell =
+                    row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(c) : row.getCell(c);
+                if (cell.isMissing()) {
+                    block.m_missingCounts[c]++;
+                    continue;
+                }
+                final DataValueComparator comparator = m_comparators[c];
+                if (comparator != null && !m_isRangeInvalid[c]) {
+                    if (cell instanceof BlobWrapperDataCell) {
+                        // can't compare without reading the blob
+                        m_isRangeInvalid[c] = true;
+                    } else if (m_isStringRangeColumn[c]
+                        && ((StringValue)cell).getStringValue().length() > MAX_STRING_LENGTH) {
+                        m_isRangeInvalid[c] = true;
+                    } else if (block.m_min[c] == null) {
+                        block.m_min[c] = cell;
+                        block.m_max[c] = cell;
+                    } else if (comparator.compare(cell, block.m_min[c]) < 0) {
+                        block.m_min[c] = cell;
+                    } else if (comparator.compare(cell, block.m_max[c]) > 0) {
+                        block.m_max[c] = cell;
+                    }
+                }
+                final long[] bloomFilter = block.m_bloomFilters[c];
+                if (bloomFilter != null) {
+                    m_bloomFilterCardinalities[c] += bloomFilterAdd(bloomFilter, cell);
+                    if (m_bloomFilterCardinalities[c] > BLOOM_FILTER_MAX_CARDINALITY) {
+                        block.m_bloomFilters[c] = null;
+                    }
+                }
+            }
+            m_rowCount++;
+            if (m_rowCount % m_blockSize == 0) {
+                finishBlock();
+            }
+        }
+
+        private void finishBlock() {
+            for (int c = 0; c < m_comparators.length; c++) {
+                if (m_isRangeInvalid[c]) {
+                    m_current.m_min[c] = null;
+                    m_current.m_max[c] = null;
+                }
+            }
+            m_blocks.add(m_current);
+            m_current = null;
+            Arrays.fill(m_bloomFilterCardinalities, 0);
+            Arrays.fill(m_isRangeInvalid, false);
+        }
+
+        /**
+         * @return the statistics of all rows added
+         */
+        BlockStatistics create() {
+            if (m_current != null) {
+                finishBlock();
+            }
+            return new BlockStatistics(m_blockSize, m_rowCount, m_comparators.clone(),
+                m_blocks.toArray(new Block[m_blocks.size()]));
+        }
+    }
+}
@@ -56,7 +56,6 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.text.NumberFormat;
@@ -66,10 +65,8 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -77,10 +74,12 @@
 import java.util.UUID;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
@@ -89,6 +88,7 @@
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.FilterRowIterator;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowIteratorBuilder;
@@ -218,6 +218,13 @@ public class Buffer implements KNIMEStreamConstants {
      */
     private static final String CFG_SIZE_L = "table.size.long";
 
+    /** Config entry: the {@link BlockStatistics} of the table (added in 3.7, optional). */
+    private static final String CFG_BLOCK_STATISTICS = "table.block.statistics";
+
+    /** Whether block statistics are collected, see {@link KNIMEConstants#PROPERTY_TABLE_BLOCK_STATISTICS}. */
+    private static final boolean COLLECT_BLOCK_STATISTICS =
+        Boolean.parseBoolean(System.getProperty(KNIMEConstants.PROPERTY_TABLE_BLOCK_STATISTICS, "true"));
+
     /** Current version string. */
     public static final String VERSION = "container_11";
 
@@ -287,12 +294,16 @@ public class Buffer implements KNIMEStreamConstants {
         }
     }
 
+    /** Source of {@link #m_blobCacheID}. */
+    private static final AtomicLong BLOB_CACHE_ID_COUNTER = new AtomicLong();
+
     /**
-     * Hash used to reduce the overhead of reading a blob cell over and over again. Useful in cases where a blob is
-     * added multiple times to a table... the iterator will read the blob address, treat it as unseen and then ask the
-     * owning Buffer to restore the blob.
+     * Identifies the blobs of this buffer in the {@link BlobCache}, which reduces the overhead of reading a blob cell
+     * over and over again. Useful in cases where a blob is added multiple times to a table... the iterator will read
+     * the blob address, treat it as unseen and then ask the owning Buffer to restore the blob. (Buffer IDs are only
+     * unique within a workflow.)
      */
-    private final BlobLRUCache m_blobLRUCache = new BlobLRUCache();
+    private final long m_blobCacheID = BLOB_CACHE_ID_COUNTER.incrementAndGet();
 
     static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         @SuppressWarnings("unchecked")
@@ -394,6 +405,19 @@ enum CompressionFormat {
     /** the list that keeps up to m_maxRowsInMem in memory. */
     private List<BlobSupportDataRow> m_list;
 
+    /** {@link #m_list} if it's a {@link PrimitiveRowList}, otherwise <code>null</code>. The list itself is wrapped
+     * into an unmodifiable list when the buffer is closed. */
+    private PrimitiveRowList m_primitiveList;
+
+    /** The estimated size of the rows in {@link #m_list} while it is written, unless it's a {@link PrimitiveRowList}. */
+    private long m_inMemorySize;
+
+    /** The size last reported to the {@link BufferMemoryManager}. */
+    private long m_reportedInMemorySize;
+
+    /** Whether {@link #closeInternal()} has been called. */
+    private boolean m_isClosed;
+
     private int[] m_indicesOfBlobInColumns;
 
     /** the spec the rows comply with, no checking is done, however. */
@@ -427,6 +451,12 @@ enum CompressionFormat {
      */
     private HashMap<BlobAddress, BlobAddress> m_copiedBlobsMap;
 
+    /** Collects the block statistics while rows are added, <code>null</code> if not in write-mode or disabled. */
+    private BlockStatistics.Creator m_blockStatisticsCreator;
+
+    /** The statistics of the closed buffer or <code>null</code> if not available. */
+    private BlockStatistics m_blockStatistics;
+
     /**
      * Creates new buffer for <strong>writing</strong>. It has assigned a given spec, and a max row count that may
      * resize in memory.
@@ -443,13 +473,13 @@ enum CompressionFormat {
         final IWriteFileStoreHandler fileStoreHandler) {
         assert (maxRowsInMemory >= 0);
         m_maxRowsInMem = maxRowsInMemory;
-        m_list = new ArrayList<BlobSupportDataRow>();
         m_size = 0;
         m_bufferID = bufferID;
         m_localRepository = localRep;
         m_fileStoreHandler = fileStoreHandler;
         m_dataRepository = dataRepository;
         m_spec = spec;
+        initInMemoryList(0);
         TableStoreFormat storeFormat = TableStoreFormatRegistry.getInstance().getFormatFor(spec);
         TableStoreFormat prefFormat = TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat();
         if (storeFormat == prefFormat) {
@@ -459,6 +489,9 @@ enum CompressionFormat {
                     + "using '%s' instead", prefFormat.getClass().getName(), storeFormat.getClass().getName());
         }
         m_outputFormat = storeFormat;
+        if (COLLECT_BLOCK_STATISTICS) {
+            m_blockStatisticsCreator = new BlockStatistics.Creator(spec, BlockStatistics.DEFAULT_BLOCK_SIZE);
+        }
         BufferTracker.getInstance().bufferCreated(this);
     }
 
@@ -526,6 +559,30 @@ final int getReadVersion() {
         return m_version;
     }
 
+    /**
+     * Reads the version of a table file from its meta information, without reading the table.
+     *
+     * @param zipFile The zip file a table was saved to.
+     * @return The version ID for internal use, -1 if the file was written with an unknown (future) version.
+     * @throws IOException If the file can't be read or lacks the meta information.
+     */
+    static int readVersion(final File zipFile) throws IOException {
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            ZipEntry metaEntry = zip.getEntry(ZIP_ENTRY_META);
+            if (metaEntry == null) {
+                throw new IOException("No entry " + ZIP_ENTRY_META + " in file " + zipFile.getAbsolutePath());
+            }
+            try (InputStream metaIn = new BufferedInputStream(zip.getInputStream(metaEntry))) {
+                NodeSettingsRO settings = NodeSettings.loadFromXML(metaIn);
+                String version = settings.getNodeSettings(CFG_INTERNAL_META).getString(CFG_VERSION);
+                Integer iVersion = COMPATIBILITY_MAP.get(version);
+                return iVersion == null ? -1 : iVersion;
+            } catch (InvalidSettingsException ise) {
+                throw new IOException("Unable to read the version of " + zipFile.getAbsolutePath(), ise);
+            }
+        }
+    }
+
     /** @return Underlying binary file. */
     final File getBinFile() {
         return m_binFile;
@@ -572,9 +629,15 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
         try {
             BlobSupportDataRow row = saveBlobsAndFileStores(r, isCopyOfExisting, forceCopyOfBlobs);
             getAndIncrementSize();
+            if (m_blockStatisticsCreator != null) {
+                m_blockStatisticsCreator.addRow(row);
+            }
             if ((m_list != null) && (m_maxRowsInMem > 0)) {
                 m_list.add(row);
-                if (m_list.size() > m_maxRowsInMem) {
+                if (m_primitiveList == null) {
+                    m_inMemorySize += DataCellSizeEstimator.estimateRow(row);
+                }
+                if (isInMemoryLimitExceeded() || reportInMemorySize()) {
                     flushBuffer();
                 }
             } else {
@@ -601,6 +664,81 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
         }
     } // addRow(DataRow)
 
+    /**
+     * Creates the list that keeps the rows in memory, a {@link PrimitiveRowList} for purely numeric tables.
+     *
+     * @param initialCapacity The number of rows to allocate space for.
+     */
+    private void initInMemoryList(final int initialCapacity) {
+        m_primitiveList = m_spec == null ? null : PrimitiveRowList.createIfApplicable(m_spec, initialCapacity);
+        m_list = m_primitiveList != null ? m_primitiveList : new ArrayList<BlobSupportDataRow>(initialCapacity);
+    }
+
+    /** @return the (estimated) number of bytes occupied by the rows in {@link #m_list} */
+    private long getInMemorySize() {
+        return m_primitiveList != null ? m_primitiveList.getSizeInBytes() : m_inMemorySize;
+    }
+
+    /**
+     * Whether the rows in memory exceed {@link #m_maxRowsInMem}. The limit is converted to bytes (assuming
+     * {@link DataCellSizeEstimator#NOMINAL_CELL_SIZE} per cell) and compared to the estimated size of the rows, i.e.
+     * small cells allow for more and large cells for fewer rows than the limit. The size of the rows is the sum of
+     * the {@link DataCellSizeEstimator#estimateRow(DataRow) estimates} accumulated in {@link #addRow(DataRow,
+     * boolean, boolean) addRow}, so that each row is estimated only once. A {@link PrimitiveRowList} isn't estimated
+     * as it knows the exact size of its arrays (in the same units as the estimator).
+     */
+    private boolean isInMemoryLimitExceeded() {
+        final long maxBytes = (long)m_maxRowsInMem * Math.max(m_spec.getNumColumns(), 1)
+            * DataCellSizeEstimator.NOMINAL_CELL_SIZE;
+        return getInMemorySize() > maxBytes || m_list.size() == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Reports the size of the rows in memory to the {@link BufferMemoryManager} if it changed noticeably.
+     *
+     * @return whether the manager asks this buffer to spill its rows to disc
+     */
+    private boolean reportInMemorySize() {
+        final long size = getInMemorySize();
+        if (Math.abs(size - m_reportedInMemorySize) < BufferMemoryManager.REPORT_THRESHOLD) {
+            return false;
+        }
+        m_reportedInMemorySize = size;
+        return BufferMemoryManager.getInstance().update(this, size);
+    }
+
+    /** Stops the tracking by the {@link BufferMemoryManager} if the size was ever reported. */
+    private void unregisterFromMemoryManager() {
+        if (m_reportedInMemorySize > 0) {
+            m_reportedInMemorySize = 0;
+            BufferMemoryManager.getInstance().remove(this);
+        }
+    }
+
+    /** Writes the rows kept in memory to disc, called by the {@link BufferMemoryManager}. */
+    synchronized void spill() {
+        if (m_list == null || m_list.isEmpty()) {
+            BufferMemoryManager.getInstance().remove(this);
+            return;
+        }
+        BufferMemoryManager.getInstance().spilled(this);
+        m_reportedInMemorySize = 0;
+        final int nrRowsInMemory = m_list.size();
+        if (m_outputReader != null) {
+            // rows were read back into memory, they are still on disc
+            m_list = null;
+            m_primitiveList = null;
+            LOGGER.debug(() -> "Dropped " + nrRowsInMemory + " rows read back into memory in order to stay within "
+                + "the table memory budget");
+            return;
+        }
+        flushBuffer();
+        if (m_isClosed) {
+            closeInternal();
+        }
+        LOGGER.debug(() -> "Wrote " + nrRowsInMemory + " rows in order to stay within the table memory budget");
+    }
+
     /**
      * Write all rows from list into file. Used while rows are added and if low mem condition is met.
      *
@@ -970,13 +1108,25 @@ synchronized void close(final DataTableSpec spec) {
     /** Closes by creating shortcut array for file access. */
     void closeInternal() {
         assert Thread.holdsLock(this);
+        m_isClosed = true;
+        unregisterFromMemoryManager();
+        if (m_blockStatisticsCreator != null) {
+            m_blockStatistics = m_blockStatisticsCreator.create();
+            m_blockStatisticsCreator = null;
+        }
         // everything is in the list, i.e. in memory
         if (m_outputWriter == null) {
+            if (m_primitiveList != null) {
+                m_primitiveList.trimToSize();
+            }
+            final long inMemorySize = getInMemorySize();
             // disallow modification
             List<BlobSupportDataRow> newList = Collections.unmodifiableList(m_list);
             m_list = newList;
             if (!m_list.isEmpty()) {
                 registerMemoryAlertListener();
+                m_reportedInMemorySize = Math.max(inMemorySize, 1);
+                BufferMemoryManager.getInstance().addClosed(this, inMemorySize, false);
             }
         } else {
             try {
@@ -986,10 +1136,13 @@ void closeInternal() {
                 m_outputWriter.writeMetaInfoAfterWrite(formatSettings);
                 m_formatSettings = formatSettings;
                 m_list = null;
+                m_primitiveList = null;
                 if (m_hasTempFile) {
-                    double sizeInMB = m_binFile.length() / (double)(1 << 20);
-                    String size = NumberFormat.getInstance().format(sizeInMB);
-                    LOGGER.debug("Buffer file (" + m_binFile.getAbsolutePath() + ") is " + size + "MB in size");
+                    LOGGER.debug(() -> {
+                        double sizeInMB = m_binFile.length() / (double)(1 << 20);
+                        String size = NumberFormat.getInstance().format(sizeInMB);
+                        return "Buffer file (" + m_binFile.getAbsolutePath() + ") is " + size + "MB in size";
+                    });
                     initOutputReader(formatSettings, IVERSION);
                 }
             } catch (IOException ioe) {
@@ -1028,7 +1181,7 @@ private synchronized void onMemoryAlert() {
             final int nrRowsWritten = m_list.size();
             flushBuffer();
             closeInternal();
-            LOGGER.debug("Wrote " + nrRowsWritten + " rows in order to free memory");
+            LOGGER.debug(() -> "Wrote " + nrRowsWritten + " rows in order to free memory");
         }
     }
 
@@ -1076,6 +1229,9 @@ private void writeMetaToFile(final OutputStream out) throws IOException {
             // these settings are no longer read in newer versions of KNIME (3.6+) -- attempt of forward compatibility
             m_formatSettings.copyTo(subSettings);
         }
+        if (m_blockStatistics != null) {
+            m_blockStatistics.save(subSettings.addNodeSettings(CFG_BLOCK_STATISTICS));
+        }
         settings.saveToXML(out);
     }
 
@@ -1150,6 +1306,14 @@ private void readMetaFromFile(final InputStream metaIn, final File fileStoreDir)
             NodeSettingsRO outputFormatSettings =
                     m_version >= 10 ? subSettings.getNodeSettings(CFG_TABLE_FORMAT_CONFIG) : subSettings;
             m_formatSettings = outputFormatSettings;
+            if (subSettings.containsKey(CFG_BLOCK_STATISTICS)) {
+                try {
+                    m_blockStatistics = BlockStatistics.load(subSettings.getNodeSettings(CFG_BLOCK_STATISTICS), m_spec);
+                } catch (InvalidSettingsException ise) {
+                    // the statistics are only an optimization, the table is still readable
+                    LOGGER.debug("Unable to read block statistics of table, ignoring them: " + ise.getMessage(), ise);
+                }
+            }
             initOutputReader(outputFormatSettings, m_version);
         }
     }
@@ -1185,6 +1349,17 @@ public DataTableSpec getTableSpec() {
         return m_spec;
     }
 
+    /**
+     * Get the statistics of the rows in blocks. They are available once the buffer is closed, unless they were
+     * disabled or the table was written by a version that didn't collect them.
+     *
+     * @return the statistics or <code>null</code>
+     * @since 3.7
+     */
+    public BlockStatistics getBlockStatistics() {
+        return m_blockStatistics;
+    }
+
     /**
      * Get the row count.
      *
@@ -1219,10 +1394,16 @@ final synchronized void onAllRowsReadBackIntoMemory() {
                 @Override
                 protected boolean memoryAlert(final MemoryAlert alert) {
                     m_list = null;
+                    m_primitiveList = null;
+                    BufferMemoryManager.getInstance().remove(Buffer.this);
                     return true;
                 }
             };
         }
+        final long inMemorySize = m_primitiveList != null ? m_primitiveList.getSizeInBytes()
+            : m_list.stream().mapToLong(DataCellSizeEstimator::estimateRow).sum();
+        m_reportedInMemorySize = Math.max(inMemorySize, 1);
+        BufferMemoryManager.getInstance().addClosed(this, inMemorySize, true);
     }
 
     /**
@@ -1260,18 +1441,13 @@ BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellClassInfo
             Buffer blobBuffer = cnTbl.getBuffer();
             return blobBuffer.readBlobDataCell(blobAddress, cl);
         }
-        SoftReference<BlobDataCell> softRef = m_blobLRUCache.get(blobAddress);
-        BlobDataCell result = softRef != null ? softRef.get() : null;
-        if (result != null) {
-            return result;
-        }
-        if (getReadVersion() <= 5) { // 2.0 TechPreview and earlier
-            result = BufferFromFileIteratorVersion1x.readBlobDataCell(this, blobAddress, cl);
-        } else {
-            result = BufferFromFileIteratorVersion20.readBlobDataCell(blobAddress, cl, this);
+        if (getReadVersion() <= 5) { // 2.0 TechPreview and earlier, not cached
+            return BufferFromFileIteratorVersion1x.readBlobDataCell(this, blobAddress, cl);
         }
-        m_blobLRUCache.put(blobAddress, new SoftReference<BlobDataCell>(result));
-        return result;
+        File blobFile = getBlobFile(blobAddress.getIndexOfBlobInColumn(), blobAddress.getColumn(), false,
+            blobAddress.isUseCompression());
+        return BlobCache.getInstance().get(m_blobCacheID, blobAddress, blobFile,
+            (in, sizeConsumer) -> BufferFromFileIteratorVersion20.readBlobDataCell(in, blobAddress, cl, sizeConsumer));
     }
 
     private void ensureBlobDirExists() throws IOException {
@@ -1387,14 +1563,19 @@ synchronized RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder(
                 m_useBackIntoMemoryIterator = false;
                 m_backIntoMemoryIterator = iteratorBuilder().build();
                 // we never store more than 2^31 rows in memory, therefore it's safe to cast to int
-                m_list = new ArrayList<BlobSupportDataRow>((int) size());
-                return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(), getTableSpec());
+                initInMemoryList((int) size());
+                return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> new FromListIterator(),
+                    p -> new FilterRowIterator(new FromListIterator(), p), getTableSpec());
             }
             RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder =
                 m_outputReader.iteratorBuilder();
             return iteratorBuilder;
         } else {
-            return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(), getTableSpec());
+            if (m_reportedInMemorySize > 0) {
+                BufferMemoryManager.getInstance().touch(this);
+            }
+            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> new FromListIterator(),
+                p -> new FilterRowIterator(new FromListIterator(), p), getTableSpec());
         }
     }
 
@@ -1513,6 +1694,7 @@ synchronized void addToZipFile(final ZipOutputStream zipOut, final ExecutionMoni
             if (usesOutFile()) {
                 // can safely be set to null because it wrote to stream already
                 copy.m_list = null;
+                copy.m_primitiveList = null;
             }
             File blobDir = m_blobDir;
             // use the copy's blob dir if we have a version hop
@@ -1602,6 +1784,8 @@ public int getBufferID() {
     synchronized void clear() {
         BufferTracker.getInstance().bufferCleared(this);
         m_list = null;
+        m_primitiveList = null;
+        unregisterFromMemoryManager();
         unregisterMemoryAlertListener();
         if (m_binFile != null) {
             if (m_outputReader != null) {
@@ -1617,9 +1801,7 @@ synchronized void clear() {
         if (m_fileStoreHandler instanceof NotInWorkflowWriteFileStoreHandler) {
             m_fileStoreHandler.clearAndDispose();
         }
-        if (m_blobLRUCache != null) {
-            m_blobLRUCache.clear();
-        }
+        BlobCache.getInstance().invalidate(m_blobCacheID);
         m_binFile = null;
         m_blobDir = null;
     }
@@ -1670,40 +1852,14 @@ synchronized void flushBuffer() {
         try {
             writeAllRowsFromListToFile();
             m_list = null; // don't write to internal cache any more
+            m_primitiveList = null;
+            m_inMemorySize = 0;
+            unregisterFromMemoryManager();
         } catch (IOException ioe) {
             LOGGER.error("Failed to swap to disc while freeing memory", ioe);
         }
     }
 
-    /** Last recently used cache for blobs. */
-    private static final class BlobLRUCache extends LinkedHashMap<BlobAddress, SoftReference<BlobDataCell>> {
-
-        /** Default constructor, instructs for access order. */
-        BlobLRUCache() {
-            super(16, 0.75f, true); // args copied from HashMap implementation
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        protected synchronized boolean removeEldestEntry(final Entry<BlobAddress, SoftReference<BlobDataCell>> eldest) {
-            return size() >= 100;
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> get(final Object key) {
-            return super.get(key);
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> put(final BlobAddress key,
-                                                            final SoftReference<BlobDataCell> value) {
-            return super.put(key, value);
-        }
-
-    }
-
 
     /**
      * Iterator to be used when data is contained in m_list. It uses access by index rather than wrapping an
@@ -48,18 +48,25 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
 import java.util.zip.GZIPInputStream;
 
+import org.apache.commons.io.input.CountingInputStream;
+
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.RowPredicate;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
@@ -102,11 +109,49 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     /** Utility object with designated functionality to deserialize datacell. */
     private DataCellStreamReader m_dataCellStreamReader;
 
+    /** The predicate the returned rows match, <code>null</code> to return all rows. */
+    private final RowPredicate m_predicate;
+
+    /** For each column whether it is read by {@link #m_predicate}, <code>null</code> if there is no predicate. */
+    private final boolean[] m_isPredicateColumn;
+
+    /** The serialized cells of the current row in the columns not read by the predicate, deserialized only if the
+     * row matches. <code>null</code> if there is no predicate. */
+    private final CellBytes[] m_cellBytes;
+
+    /** The next matching row if already read (only used with a predicate). */
+    private BlobSupportDataRow m_nextMatch;
+
+    /** The statistics of the table used to skip blocks that don't match {@link #m_predicate}, may be
+     * <code>null</code>. */
+    private final BlockStatistics m_statistics;
+
+    /** The index of the first row after the current block of {@link #m_statistics}. */
+    private long m_blockEnd;
+
+    /** Whether the rows of the current block are skipped as none of them matches the predicate. */
+    private boolean m_isSkipBlock;
+
+    /** The string dictionary of the stream, <code>null</code> if the table was written without it. */
+    private final StringDictionary.Decoder m_stringDictionary;
+
     /** Inits iterator, opens input stream.
      * @param tableFormatReader The associated buffer.
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, null, null);
+    }
+
+    /** Inits iterator that only returns the rows matching a predicate, opens input stream.
+     * @param tableFormatReader The associated buffer.
+     * @param predicate The predicate the returned rows match or <code>null</code>.
+     * @param statistics The statistics of the table, if not <code>null</code> blocks of rows that can't match the
+     *            predicate are skipped (see {@link RowPredicate#mayMatch(BlockStatistics, int)}).
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader, final RowPredicate predicate,
+        final BlockStatistics statistics) throws IOException {
         m_pointer = 0;
         if (tableFormatReader.getBinFile() == null) {
             throw new IOException("Unable to read table from file, "
@@ -133,12 +178,40 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
         }
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
         m_inStream = new BlockableDCObjectInputVersion2(in, m_dataCellStreamReader);
+        m_stringDictionary = tableFormatReader.isStringDictionaryEncoded() ? new StringDictionary.Decoder() : null;
+        m_predicate = predicate;
+        m_statistics = predicate != null && statistics != null
+            && statistics.getRowCount() == tableFormatReader.size() ? statistics : null;
+        if (predicate != null) {
+            final int colCount = tableFormatReader.getTableSpec().getNumColumns();
+            m_isPredicateColumn = new boolean[colCount];
+            m_cellBytes = new CellBytes[colCount];
+            for (int i : predicate.getColumnIndices()) {
+                m_isPredicateColumn[i] = true;
+            }
+            for (int i = 0; i < colCount; i++) {
+                if (!m_isPredicateColumn[i]) {
+                    m_cellBytes[i] = new CellBytes();
+                }
+            }
+        } else {
+            m_isPredicateColumn = null;
+            m_cellBytes = null;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        boolean hasNext;
+        if (m_predicate != null) {
+            while (m_nextMatch == null && m_inStream != null && m_pointer < m_tableFormatReader.size()) {
+                m_nextMatch = readNextMatch();
+            }
+            hasNext = m_nextMatch != null;
+        } else {
+            hasNext = m_pointer < m_tableFormatReader.size();
+        }
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -151,6 +224,11 @@ public synchronized BlobSupportDataRow next() {
         if (!hasNext()) {
             throw new NoSuchElementException("Iterator at end");
         }
+        if (m_predicate != null) {
+            final BlobSupportDataRow next = m_nextMatch;
+            m_nextMatch = null;
+            return next;
+        }
         final BlockableDCObjectInputVersion2 inStream = m_inStream;
         int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
         if (inStream == null) { // iterator was closed
@@ -165,31 +243,162 @@ public synchronized BlobSupportDataRow next() {
             m_pointer++;
             return new BlobSupportDataRow(key, m_missingCellsForClosedTable);
         }
-        RowKey key;
+        RowKey key = readRowKey(inStream);
+        DataCell[] cells = new DataCell[colCount];
+        for (int i = 0; i < colCount; i++) {
+            cells[i] = readDataCellAndEndBlock(inStream);
+        }
+        readRowSeparator(inStream);
+        return new BlobSupportDataRow(key, cells);
+    }
+
+    /** Reads the next row and returns it if it matches the predicate. The cells of the columns not read by the
+     * predicate are only copied as bytes and deserialized if the row matches.
+     * @return The row or <code>null</code> if it doesn't match.
+     */
+    private BlobSupportDataRow readNextMatch() {
+        final BlockableDCObjectInputVersion2 inStream = m_inStream;
+        final int colCount = m_isPredicateColumn.length;
+        if (m_statistics != null && m_pointer >= m_blockEnd) {
+            final int block = m_statistics.getBlockIndex(m_pointer);
+            m_blockEnd = m_statistics.getFirstRowIndex(block) + m_statistics.getNumRows(block);
+            m_isSkipBlock = !m_predicate.mayMatch(m_statistics, block);
+        }
+        if (m_isSkipBlock) {
+            skipRow(inStream, colCount);
+            return null;
+        }
+        final RowKey key = readRowKey(inStream);
+        final DataCell[] cells = new DataCell[colCount];
+        for (int i = 0; i < colCount; i++) {
+            if (m_isPredicateColumn[i]) {
+                cells[i] = readDataCellAndEndBlock(inStream);
+            } else {
+                m_cellBytes[i].reset();
+                try {
+                    if (m_stringDictionary != null) {
+                        // dictionary cells are read right away as the dictionary depends on the order of reading
+                        cells[i] = readDictionaryCell(inStream, m_cellBytes[i]);
+                        if (cells[i] != UnmaterializedCell.getInstance()) {
+                            inStream.endBlock();
+                        }
+                    } else {
+                        inStream.readBlock(m_cellBytes[i]);
+                        cells[i] = UnmaterializedCell.getInstance();
+                    }
+                } catch (final Exception e) {
+                    handleReadThrowable(e);
+                    cells[i] = DataType.getMissingCell();
+                }
+            }
+        }
+        readRowSeparator(inStream);
+        if (!m_predicate.test(new BlobSupportDataRow(key, cells))) {
+            return null;
+        }
+        for (int i = 0; i < colCount; i++) {
+            if (cells[i] == UnmaterializedCell.getInstance()) {
+                try {
+                    cells[i] = m_dataCellStreamReader.readDataCell(
+                        new DCObjectInputVersion2(m_cellBytes[i].toInputStream(), m_dataCellStreamReader));
+                } catch (final Exception e) {
+                    handleReadThrowable(e);
+                    cells[i] = DataType.getMissingCell();
+                }
+            }
+        }
+        return new BlobSupportDataRow(key, cells);
+    }
+
+    /** Skips the next row without deserializing any of its cells. */
+    private void skipRow(final BlockableDCObjectInputVersion2 inStream, final int colCount) {
+        try {
+            // ending a block skips its remaining content
+            if (m_tableFormatReader.isReadRowKey()) {
+                inStream.endBlock();
+            }
+            for (int i = 0; i < colCount; i++) {
+                if (m_stringDictionary != null) {
+                    // new dictionary entries are needed to resolve the references in the following rows
+                    if (inStream.readControlByte() == BYTE_TYPE_DICTIONARY
+                        && inStream.readControlByte() == BYTE_DICTIONARY_ENTRY) {
+                        m_stringDictionary.add(m_dataCellStreamReader.readDataCell(inStream));
+                    }
+                }
+                inStream.endBlock();
+            }
+        } catch (IOException ioe) {
+            handleReadThrowable(ioe);
+        }
+        readRowSeparator(inStream);
+    }
+
+    /** Reads the row key, generating a key if that fails. */
+    private RowKey readRowKey(final BlockableDCObjectInputVersion2 inStream) {
         try {
-            key = readRowKeyAndEndBlock(inStream);
+            return readRowKeyAndEndBlock(inStream);
         } catch (Exception throwable) {
             handleReadThrowable(throwable);
             // can't ensure that we generate a unique key but it should
             // cover 99.9% of all cases
             String keyS = "Read_failed__auto_generated_key_" + m_pointer;
-            key = new RowKey(keyS);
+            return new RowKey(keyS);
         }
-        DataCell[] cells = new DataCell[colCount];
-        for (int i = 0; i < colCount; i++) {
-            DataCell nextCell;
+    }
+
+    /** Reads the next cell, returning a missing cell if that fails. */
+    private DataCell readDataCellAndEndBlock(final BlockableDCObjectInputVersion2 inStream) {
+        try {
             try {
-                try {
-                    nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
-                } finally {
-                    m_inStream.endBlock();
+                if (m_stringDictionary == null) {
+                    return m_dataCellStreamReader.readDataCell(inStream);
                 }
-            } catch (final Exception e) {
-                handleReadThrowable(e);
-                nextCell = DataType.getMissingCell();
+                return readDictionaryCell(inStream, null);
+            } finally {
+                inStream.endBlock();
+            }
+        } catch (final Exception e) {
+            handleReadThrowable(e);
+            return DataType.getMissingCell();
+        }
+    }
+
+    /** Reads the next cell of a table with string dictionary, the block of the cell is not ended.
+     * @param inStream To read from.
+     * @param cellBytes If not <code>null</code>, a cell that is not dictionary encoded isn't deserialized but its
+     *            bytes are copied to the argument (ending the block) and {@link UnmaterializedCell} is returned.
+     * @return The cell.
+     * @throws IOException If reading fails. */
+    private DataCell readDictionaryCell(final BlockableDCObjectInputVersion2 inStream, final CellBytes cellBytes)
+        throws IOException {
+        final byte identifier = inStream.readControlByte();
+        if (identifier == BYTE_TYPE_DICTIONARY) {
+            // the dictionary char is only distinguished from the serialization char by the char following it
+            final byte typeIdentifier = inStream.readControlByte();
+            switch (typeIdentifier) {
+                case BYTE_DICTIONARY_ENTRY:
+                    return m_stringDictionary.add(m_dataCellStreamReader.readDataCell(inStream));
+                case BYTE_DICTIONARY_REFERENCE:
+                    return m_stringDictionary.readReference(inStream);
+                default:
+                    if (cellBytes == null) {
+                        return m_dataCellStreamReader.readDataCell(inStream, true, typeIdentifier);
+                    }
+                    cellBytes.write(identifier);
+                    cellBytes.write(typeIdentifier);
+                    break;
             }
-            cells[i] = nextCell;
+        } else if (cellBytes == null) {
+            return m_dataCellStreamReader.readDataCell(inStream, false, identifier);
+        } else {
+            cellBytes.write(identifier);
         }
+        inStream.readBlock(cellBytes);
+        return UnmaterializedCell.getInstance();
+    }
+
+    /** Reads the end of row byte and increments the row pointer. */
+    private void readRowSeparator(final BlockableDCObjectInputVersion2 inStream) {
         try {
             byte eoRow = inStream.readControlByte();
             if (eoRow != BYTE_ROW_SEPARATOR) {
@@ -201,7 +410,6 @@ public synchronized BlobSupportDataRow next() {
         } finally {
             m_pointer++;
         }
-        return new BlobSupportDataRow(key, cells);
     }
 
     /** Reads a row key from the stream and ends the block. In case of buffers
@@ -285,12 +493,31 @@ static BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellCl
         int indexInColumn = blobAddress.getIndexOfBlobInColumn();
         boolean isCompress = blobAddress.isUseCompression();
         File inFile = buffer.getBlobFile(indexInColumn, column, false, isCompress);
-        InputStream in = new BufferedInputStream(new FileInputStream(inFile));
-        if (isCompress) {
+        return readBlobDataCell(new FileInputStream(inFile), blobAddress, cl, null);
+    }
+
+    /**
+     * Reads a blob cell from the content of its blob file.
+     *
+     * @param fileContent the content of the blob file (compressed if so declared by the address), closed when done
+     * @param blobAddress the address of the blob
+     * @param cl the class of the blob cell
+     * @param sizeConsumer if not <code>null</code>, receives the number of uncompressed bytes read
+     * @return the blob cell
+     * @throws IOException if reading fails
+     */
+    static BlobDataCell readBlobDataCell(final InputStream fileContent, final BlobAddress blobAddress,
+        final CellClassInfo cl, final LongConsumer sizeConsumer) throws IOException {
+        InputStream in = new BufferedInputStream(fileContent);
+        if (blobAddress.isUseCompression()) {
             in = new GZIPInputStream(in);
             // that buffering is important
             in = new BufferedInputStream(in);
         }
+        final CountingInputStream countingIn = sizeConsumer != null ? new CountingInputStream(in) : null;
+        if (countingIn != null) {
+            in = countingIn;
+        }
         Class<? extends DataCell> cellClass = cl.getCellClass();
         DataCellSerializer<? extends DataCell> ser = cl.getSerializer();
         BlockableDCObjectInputVersion2 inStream = new BlockableDCObjectInputVersion2(in);
@@ -305,10 +532,22 @@ static BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellCl
                 result = (BlobDataCell)inStream.readDataCellPerJavaSerialization();
             }
             result.setBlobAddress(blobAddress);
-            return result;
         } finally {
             inStream.close();
         }
+        if (countingIn != null) {
+            sizeConsumer.accept(countingIn.getByteCount());
+        }
+        return result;
+    }
+
+    /** The serialized content of a cell. */
+    private static final class CellBytes extends ByteArrayOutputStream {
+
+        /** @return A stream on the bytes written so far (without copying them). */
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
     }
 
     /** Utility class that separates the logic of reading DataCells from the stream. */
@@ -331,18 +570,31 @@ public DataCellStreamReader(final AbstractTableStoreReader tableFormatReader) {
          * @throws IOException If exceptions occur.
          */
         public DataCell readDataCell(final DCObjectInputVersion2 inStream) throws IOException {
+            final byte identifier = inStream.readControlByte();
+            if (identifier == BYTE_TYPE_SERIALIZATION) {
+                return readDataCell(inStream, true, inStream.readControlByte());
+            }
+            return readDataCell(inStream, false, identifier);
+        }
+
+        /**
+         * Reads a data cell whose control bytes have already been read.
+         *
+         * @param inStream To read from.
+         * @param isJavaSerialization Whether the cell starts with {@link KNIMEStreamConstants#BYTE_TYPE_SERIALIZATION}.
+         * @param identifier The (following) control byte of the cell, i.e. the type char or
+         *            {@link KNIMEStreamConstants#BYTE_TYPE_MISSING}.
+         * @return the data cell being read
+         * @throws IOException If exceptions occur.
+         */
+        DataCell readDataCell(final DCObjectInputVersion2 inStream, final boolean isJavaSerialization,
+            final byte identifier) throws IOException {
             inStream.setCurrentClassLoader(null);
 
-            byte identifier = inStream.readControlByte();
-            if (identifier == BYTE_TYPE_MISSING) {
+            if (!isJavaSerialization && identifier == BYTE_TYPE_MISSING) {
                 return DataType.getMissingCell();
             }
 
-            final boolean isJavaSerialization = identifier == BYTE_TYPE_SERIALIZATION;
-            if (isJavaSerialization) {
-                identifier = inStream.readControlByte();
-            }
-
             CellClassInfo type = m_tableFormatReader.getTypeForChar(identifier);
             Class<? extends DataCell> cellClass = type.getCellClass();
             boolean isBlob = BlobDataCell.class.isAssignableFrom(cellClass);
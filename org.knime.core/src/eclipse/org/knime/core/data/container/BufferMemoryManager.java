@@ -0,0 +1,302 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Keeps track of the memory occupied by the rows that {@link Buffer Buffers} keep in memory and enforces a global
+ * budget for all of them (see {@link KNIMEConstants#PROPERTY_TABLE_MEMORY_BUDGET}). Two kinds of buffers are tracked:
+ * <ul>
+ * <li>open buffers that are written, which report their (estimated) size whenever it changed by at least
+ * {@link #REPORT_THRESHOLD} bytes, and</li>
+ * <li>closed buffers that keep all their rows in memory (small tables and tables read back into memory), which
+ * report each access.</li>
+ * </ul>
+ * If the sum of the sizes exceeds the budget, buffers are spilled to disc until the sum is below
+ * {@link #SPILL_TARGET} of the budget: first the closed buffers that were not accessed for {@link #IDLE_TIME_MILLIS}
+ * (least recently used first), then the largest open buffers and finally the other closed buffers. This way the
+ * output of nodes that were executed a while ago is written to disc before tables that are in use, rather than all
+ * tables at once when the heap is almost exhausted.
+ *
+ * <p>Statistics of the manager are available through the getters, which are meant for monitoring.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class BufferMemoryManager {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BufferMemoryManager.class);
+
+    /** Open buffers report their size when it changed by at least this number of bytes. */
+    static final long REPORT_THRESHOLD = 1L << 20;
+
+    /** Closed buffers that were not accessed for this time are spilled first. */
+    static final long IDLE_TIME_MILLIS = 10000;
+
+    /** The fraction of the budget that is occupied after buffers were spilled. */
+    private static final double SPILL_TARGET = 0.75;
+
+    private static final BufferMemoryManager INSTANCE = new BufferMemoryManager(BlobCache.readByteSizeProperty(
+        KNIMEConstants.PROPERTY_TABLE_MEMORY_BUDGET, Runtime.getRuntime().maxMemory() / 4));
+
+    /** The tracking information of a buffer. */
+    private static final class Entry {
+        private long m_size;
+
+        private boolean m_isClosed;
+
+        /** {@link System#nanoTime()} of the last access (closed buffers only). */
+        private long m_lastAccess;
+
+        /** Whether the buffer was asked to spill but didn't do so yet. */
+        private boolean m_isSpilling;
+    }
+
+    private final long m_budget;
+
+    /** The tracked buffers, weak as buffers of discarded containers are not always cleared. */
+    private final Map<Buffer, Entry> m_entries = new WeakHashMap<>();
+
+    /** The sum of the sizes in {@link #m_entries}, possibly including garbage collected buffers. */
+    private long m_residentSize;
+
+    private long m_spillCount;
+
+    private long m_spilledSize;
+
+    private long m_reloadCount;
+
+    /** @param budget the number of bytes all buffers may keep in memory */
+    BufferMemoryManager(final long budget) {
+        m_budget = budget;
+    }
+
+    /** @return the singleton instance */
+    public static BufferMemoryManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Updates the size of an open buffer's rows in memory and spills buffers if the budget is exceeded. Spilling
+     * buffers other than the argument is done asynchronously as the caller may hold the lock of its buffer.
+     *
+     * @param buffer the buffer
+     * @param size its estimated size in bytes
+     * @return <code>true</code> if the argument buffer is to be spilled, which is left to the caller
+     */
+    synchronized boolean update(final Buffer buffer, final long size) {
+        final Entry entry = getOrCreateEntry(buffer);
+        m_residentSize += size - entry.m_size;
+        entry.m_size = size;
+        entry.m_isClosed = false;
+        return checkBudget(buffer);
+    }
+
+    /**
+     * Starts (or continues) tracking a closed buffer that keeps its rows in memory. The buffer counts as accessed.
+     *
+     * @param buffer the buffer
+     * @param size the estimated size of its rows in bytes
+     * @param isReload whether the rows were read back into memory from disc
+     */
+    synchronized void addClosed(final Buffer buffer, final long size, final boolean isReload) {
+        final Entry entry = getOrCreateEntry(buffer);
+        m_residentSize += size - entry.m_size;
+        entry.m_size = size;
+        entry.m_isClosed = true;
+        entry.m_lastAccess = System.nanoTime();
+        if (isReload) {
+            m_reloadCount++;
+        }
+        checkBudget(null);
+    }
+
+    /**
+     * Marks a closed buffer as accessed, called when it is iterated.
+     *
+     * @param buffer the buffer
+     */
+    synchronized void touch(final Buffer buffer) {
+        final Entry entry = m_entries.get(buffer);
+        if (entry != null) {
+            entry.m_lastAccess = System.nanoTime();
+        }
+    }
+
+    /**
+     * Stops tracking a buffer, called when it was closed or cleared.
+     *
+     * @param buffer the buffer
+     */
+    synchronized void remove(final Buffer buffer) {
+        final Entry entry = m_entries.remove(buffer);
+        if (entry != null) {
+            m_residentSize -= entry.m_size;
+        }
+    }
+
+    /**
+     * Stops tracking a buffer because its rows were written to disc (or dropped as they are on disc already).
+     *
+     * @param buffer the buffer
+     */
+    synchronized void spilled(final Buffer buffer) {
+        final Entry entry = m_entries.remove(buffer);
+        if (entry != null) {
+            m_residentSize -= entry.m_size;
+            m_spillCount++;
+            m_spilledSize += entry.m_size;
+        }
+    }
+
+    private Entry getOrCreateEntry(final Buffer buffer) {
+        Entry entry = m_entries.get(buffer);
+        if (entry == null) {
+            entry = new Entry();
+            m_entries.put(buffer, entry);
+        }
+        return entry;
+    }
+
+    /** Spills buffers if the budget is exceeded, returns whether the (open) caller is to be spilled by itself. */
+    private boolean checkBudget(final Buffer caller) {
+        if (m_residentSize <= m_budget) {
+            return false;
+        }
+        m_residentSize = m_entries.values().stream().mapToLong(e -> e.m_size).sum();
+        if (m_residentSize <= m_budget) {
+            return false;
+        }
+        long remaining = m_residentSize;
+        final long now = System.nanoTime();
+        final List<Map.Entry<Buffer, Entry>> idleClosed = new ArrayList<>();
+        final List<Map.Entry<Buffer, Entry>> open = new ArrayList<>();
+        final List<Map.Entry<Buffer, Entry>> activeClosed = new ArrayList<>();
+        for (Map.Entry<Buffer, Entry> e : m_entries.entrySet()) {
+            final Entry entry = e.getValue();
+            if (entry.m_isSpilling) {
+                remaining -= entry.m_size;
+            } else if (!entry.m_isClosed) {
+                open.add(e);
+            } else if (TimeUnit.NANOSECONDS.toMillis(now - entry.m_lastAccess) >= IDLE_TIME_MILLIS) {
+                idleClosed.add(e);
+            } else {
+                activeClosed.add(e);
+            }
+        }
+        final Comparator<Map.Entry<Buffer, Entry>> leastRecentlyUsed =
+            Comparator.comparingLong(e -> e.getValue().m_lastAccess);
+        idleClosed.sort(leastRecentlyUsed);
+        open.sort(Comparator.comparingLong((Map.Entry<Buffer, Entry> e) -> e.getValue().m_size).reversed());
+        activeClosed.sort(leastRecentlyUsed);
+        final List<Map.Entry<Buffer, Entry>> candidates = new ArrayList<>(idleClosed);
+        candidates.addAll(open);
+        candidates.addAll(activeClosed);
+
+        final long target = (long)(m_budget * SPILL_TARGET);
+        boolean isSpillCaller = false;
+        for (Map.Entry<Buffer, Entry> e : candidates) {
+            if (remaining <= target) {
+                break;
+            }
+            final Buffer buffer = e.getKey();
+            final Entry entry = e.getValue();
+            remaining -= entry.m_size;
+            entry.m_isSpilling = true;
+            if (buffer == caller) {
+                isSpillCaller = true;
+            } else {
+                DataContainer.ASYNC_EXECUTORS.execute(buffer::spill);
+            }
+            LOGGER.debugWithFormat("Table memory budget of %d MB exceeded, writing %s buffer %d (%d MB) to disc",
+                m_budget >> 20, entry.m_isClosed ? "closed" : "open", buffer.getBufferID(), entry.m_size >> 20);
+        }
+        return isSpillCaller;
+    }
+
+    /** @return the budget in bytes for the rows all tables keep in memory */
+    public long getBudget() {
+        return m_budget;
+    }
+
+    /** @return the (estimated) number of bytes occupied by the rows of all tracked tables */
+    public synchronized long getResidentSize() {
+        return m_residentSize;
+    }
+
+    /** @return the number of tables that currently keep rows in memory and are tracked by the manager */
+    public synchronized int getTableCount() {
+        return m_entries.size();
+    }
+
+    /** @return how often tables were written to disc (or dropped from memory) to stay within the budget */
+    public synchronized long getSpillCount() {
+        return m_spillCount;
+    }
+
+    /** @return the (estimated) number of bytes freed by spilling tables */
+    public synchronized long getSpilledSize() {
+        return m_spilledSize;
+    }
+
+    /** @return how often tables were read back into memory from disc */
+    public synchronized long getReloadCount() {
+        return m_reloadCount;
+    }
+}
@@ -49,6 +49,10 @@
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.zip.ZipOutputStream;
 
 import org.knime.core.data.DataTable;
@@ -88,6 +92,13 @@ public final class ContainerTable implements DataTable, KnowsRowCountTable {
     private CopyOnAccessTask m_readTask;
     private DataTableSpec m_spec;
 
+    /** The zip file this table was read from or last saved to, null if none. Together with its length and
+     * modification time (as seen when it was read or written) it allows to re-use the file on subsequent saves
+     * instead of writing all rows again. */
+    private File m_savedFile;
+    private long m_savedFileLength;
+    private long m_savedFileLastModified;
+
     /**
      * Create new Table based on a Buffer. This constructor is called from
      * <code>DataContainer.getTable()</code>.
@@ -108,6 +119,7 @@ public final class ContainerTable implements DataTable, KnowsRowCountTable {
     ContainerTable(final CopyOnAccessTask readTask, final DataTableSpec spec) {
         m_readTask = readTask;
         m_spec = spec;
+        setSavedFile(readTask.getFile());
     }
 
     /**
@@ -198,13 +210,108 @@ protected void restoreIntoMemory() {
      * {@inheritDoc}
      */
     @Override
-    public void saveToFile(final File f, final NodeSettingsWO settings,
+    public synchronized void saveToFile(final File f, final NodeSettingsWO settings,
             final ExecutionMonitor exec) throws IOException,
             CanceledExecutionException {
+        // synchronized: writing the file and remembering it is one step for concurrent saves of this table
+        if (reuseSavedFile(f)) {
+            return;
+        }
         ensureBufferOpen();
+        // don't write into an existing file, it may be a hard link to the file of another saved copy
+        Files.deleteIfExists(f.toPath());
         try (ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(f)))) {
             m_buffer.addToZipFile(zipOut, exec);
         }
+        setSavedFile(f);
+    }
+
+    /**
+     * Re-uses the file this table was read from or last saved to, if it is still unchanged. If the argument file is
+     * that very file nothing needs to be done, otherwise the file is hard-linked (or copied if linking is not
+     * supported) to the argument location.
+     *
+     * @param f the file to save to
+     * @return true if the table is saved to <code>f</code>, false if it needs to be written
+     * @throws IOException if linking or copying fails
+     */
+    private synchronized boolean reuseSavedFile(final File f) throws IOException {
+        final File savedFile = getSavedFile();
+        // tables written by an older version are re-written in order to get the current format; if the buffer
+        // isn't open yet, the version is read from the meta information of the file (without reading the table)
+        if (savedFile == null || (m_buffer != null ? m_buffer.getReadVersion() : Buffer.readVersion(savedFile))
+                < Buffer.IVERSION) {
+            return false;
+        }
+        final Path source = savedFile.toPath();
+        final Path target = f.toPath();
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            LOGGER.debugWithFormat("Table file \"%s\" is unchanged, not writing it again", f.getAbsolutePath());
+            return true;
+        }
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+            LOGGER.debugWithFormat("Linked table file \"%s\" to \"%s\"", savedFile.getAbsolutePath(),
+                f.getAbsolutePath());
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+            LOGGER.debugWithFormat("Copied table file \"%s\" to \"%s\"", savedFile.getAbsolutePath(),
+                f.getAbsolutePath());
+        }
+        setSavedFile(f);
+        return true;
+    }
+
+    /**
+     * Do not call this method! Internal use!
+     * Moves the file this table was last saved to (a staging location) to its final location, atomically if the
+     * file system supports it, and remembers the new location as the saved file.
+     *
+     * @param source the file this table was saved to
+     * @param target the final location of the file
+     * @return true if the file was moved, false if the table was saved to another file since (or the file was
+     *         modified) and it needs to be written again
+     * @throws IOException if moving fails
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.7
+     */
+    public synchronized boolean moveSavedFile(final File source, final File target) throws IOException {
+        if (!source.equals(getSavedFile())) {
+            return false;
+        }
+        Files.createDirectories(target.toPath().getParent());
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        setSavedFile(target);
+        return true;
+    }
+
+    private synchronized void setSavedFile(final File f) {
+        m_savedFile = f;
+        if (f != null) {
+            m_savedFileLength = f.length();
+            m_savedFileLastModified = f.lastModified();
+        }
+    }
+
+    /** Do not use!
+     * @return the zip file this table was read from or last saved to, if it still exists and has not been modified
+     * since, otherwise null
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.7
+     */
+    public synchronized File getSavedFile() {
+        final File savedFile = m_savedFile;
+        if (savedFile == null || !savedFile.isFile() || savedFile.length() != m_savedFileLength
+            || savedFile.lastModified() != m_savedFileLastModified) {
+            m_savedFile = null;
+            return null;
+        }
+        return savedFile;
     }
 
     /**
@@ -265,6 +265,14 @@ String getFileName() {
         return m_fileRef.toString();
     }
 
+    /** Get the file to copy from.
+     * @return source file or null if the buffer is read from a stream
+     * @since 3.7
+     */
+    File getFile() {
+        return m_fileRef == null ? null : m_fileRef.getFile();
+    }
+
     /** Get this buffer's ID.
      * @return the buffer ID or -1
      */
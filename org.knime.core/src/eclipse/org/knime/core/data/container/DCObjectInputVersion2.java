@@ -51,6 +51,7 @@
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellDataInput;
@@ -216,6 +217,18 @@ private BlockableDCObjectInputVersion2(final BlockableInputStream in, final Data
         void endBlock() throws IOException {
             m_in.endBlock();
         }
+
+        /** Copies the remainder of the current block to the argument stream and ends the block. The bytes can be
+         * read later using a {@link DCObjectInputVersion2} on the copied content.
+         * @param out To copy to.
+         * @throws IOException If IO problems occur. */
+        void readBlock(final OutputStream out) throws IOException {
+            int c;
+            while ((c = m_in.read()) >= 0) {
+                out.write(c);
+            }
+            m_in.endBlock();
+        }
     }
 
     /** Data input stream with functionality to read encapsulated DataCell
@@ -0,0 +1,230 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Estimates the heap size of rows and cells kept in memory by a {@link Buffer}. The sizes of the core cell types are
+ * computed from their content (assuming a 64bit VM with compressed references). For other cell types the serialized
+ * size of a sample of the cells is measured and the average, times {@link #SERIALIZED_SIZE_FACTOR}, is used as
+ * estimate for all cells of that type.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class DataCellSizeEstimator {
+
+    /** The number of bytes a cell is assumed to occupy on average (including its share of the row and key) when
+     * converting a cell count such as {@link DataContainer#MAX_CELLS_IN_MEMORY} to a number of bytes. */
+    static final int NOMINAL_CELL_SIZE = 64;
+
+    /** Object header plus one field, rounded to 8 bytes. */
+    private static final int SMALL_OBJECT_SIZE = 16;
+
+    private static final int REFERENCE_SIZE = 4;
+
+    /** The in-memory size of a cell is assumed to be this factor times its serialized size. */
+    private static final int SERIALIZED_SIZE_FACTOR = 2;
+
+    /** Number of cells of a type that are serialized before the average is used. */
+    private static final int SAMPLE_COUNT = 32;
+
+    /** After {@link #SAMPLE_COUNT} cells, every n-th cell of a type is still serialized to refine the average. */
+    private static final int RESAMPLE_INTERVAL = 1024;
+
+    /** Number of elements of a collection cell whose size is estimated (the others are extrapolated). */
+    private static final int COLLECTION_SAMPLE_SIZE = 16;
+
+    private static final ConcurrentHashMap<Class<?>, SerializedSizeSample> SAMPLES = new ConcurrentHashMap<>();
+
+    private DataCellSizeEstimator() {
+    }
+
+    /**
+     * @param row the row
+     * @return the estimated number of bytes occupied by the row, its key and cells
+     */
+    static long estimateRow(final DataRow row) {
+        final int cellCount = row.getNumCells();
+        long size = SMALL_OBJECT_SIZE + estimateKey(row.getKey())
+            + align(SMALL_OBJECT_SIZE + cellCount * REFERENCE_SIZE);
+        for (int i = 0; i < cellCount; i++) {
+            size += estimateCell(row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i)
+                : row.getCell(i));
+        }
+        return size;
+    }
+
+    /**
+     * @param key the row key
+     * @return the estimated number of bytes occupied by the key and its string
+     */
+    static long estimateKey(final RowKey key) {
+        return SMALL_OBJECT_SIZE + estimateString(key.getString());
+    }
+
+    /**
+     * @param cell the cell
+     * @return the estimated number of bytes occupied by the cell, 0 for shared instances
+     */
+    static long estimateCell(final DataCell cell) {
+        if (cell == DataType.getMissingCell() || cell instanceof BooleanCell) {
+            // singletons
+            return 0;
+        }
+        final Class<? extends DataCell> cellClass = cell.getClass();
+        if (cellClass == IntCell.class) {
+            return SMALL_OBJECT_SIZE;
+        }
+        if (cellClass == DoubleCell.class || cellClass == LongCell.class) {
+            return 2 * SMALL_OBJECT_SIZE - 8;
+        }
+        if (cellClass == StringCell.class) {
+            return SMALL_OBJECT_SIZE + estimateString(((StringCell)cell).getStringValue());
+        }
+        if (cell instanceof BlobWrapperDataCell) {
+            // the blob itself is held by the blob cache, not the row
+            return 3 * SMALL_OBJECT_SIZE;
+        }
+        if (cell instanceof CollectionDataValue) {
+            return estimateCollection((CollectionDataValue)cell);
+        }
+        return SAMPLES.computeIfAbsent(cellClass, c -> new SerializedSizeSample()).estimate(cell);
+    }
+
+    private static long estimateString(final String s) {
+        // String object (hash, value) plus char array
+        return 3 * SMALL_OBJECT_SIZE - 8 + align(SMALL_OBJECT_SIZE + 2L * s.length());
+    }
+
+    private static long estimateCollection(final CollectionDataValue collection) {
+        final int size = collection.size();
+        long sampleSize = 0;
+        int sampleCount = 0;
+        for (Iterator<DataCell> it = collection.iterator(); it.hasNext() && sampleCount < COLLECTION_SAMPLE_SIZE;) {
+            sampleSize += estimateCell(it.next()) + REFERENCE_SIZE;
+            sampleCount++;
+        }
+        final long elementsSize = sampleCount == 0 ? 0 : sampleSize * size / sampleCount;
+        return 3 * SMALL_OBJECT_SIZE + elementsSize;
+    }
+
+    private static long align(final long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * The average serialized size of the sampled cells of one type. It's used by all threads writing tables, hence
+     * the common case of a cell that isn't sampled only reads the current average. Sampled cells are serialized by
+     * the calling thread, only the update of the average is synchronized.
+     */
+    private static final class SerializedSizeSample {
+
+        private final AtomicLong m_count = new AtomicLong();
+
+        /** Guarded by this. */
+        private long m_sampledCount;
+
+        /** Guarded by this. */
+        private long m_sampledSize;
+
+        /** The average serialized size, {@link #NOMINAL_CELL_SIZE} until the first sample is taken. */
+        private volatile long m_averageSize = NOMINAL_CELL_SIZE;
+
+        long estimate(final DataCell cell) {
+            final long count = m_count.getAndIncrement();
+            if (count < SAMPLE_COUNT || count % RESAMPLE_INTERVAL == 0) {
+                addSample(serializedSize(cell));
+            }
+            return SMALL_OBJECT_SIZE + SERIALIZED_SIZE_FACTOR * m_averageSize;
+        }
+
+        private synchronized void addSample(final long size) {
+            m_sampledSize += size;
+            m_sampledCount++;
+            m_averageSize = m_sampledSize / m_sampledCount;
+        }
+
+        private static long serializedSize(final DataCell cell) {
+            @SuppressWarnings("unchecked")
+            final DataCellSerializer<DataCell> serializer =
+                (DataCellSerializer<DataCell>)CellClassInfo.get(cell).getSerializer();
+            final CountingOutputStream counter = new CountingOutputStream(new NullOutputStream());
+            try (DCObjectOutputVersion2 out = new DCObjectOutputVersion2(counter, null)) {
+                if (serializer != null) {
+                    out.writeDataCellPerKNIMESerializer(serializer, cell);
+                } else {
+                    out.writeDataCellPerJavaSerialization(cell);
+                }
+                out.flush();
+                return counter.getByteCount();
+            } catch (IOException | RuntimeException e) {
+                // e.g. cells that contain other cells, which can't be written without table context
+                return NOMINAL_CELL_SIZE;
+            }
+        }
+    }
+}
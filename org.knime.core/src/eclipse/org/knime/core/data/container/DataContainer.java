@@ -250,7 +250,9 @@ public class DataContainer implements RowAppender {
     /**
      * Number of cells that are cached without being written to the temp file (see Buffer implementation); It defaults
      * to the value defined by {@link #DEF_MAX_CELLS_IN_MEMORY} but can be changed using the java property
-     * {@link #PROPERTY_CELLS_IN_MEMORY}.
+     * {@link #PROPERTY_CELLS_IN_MEMORY}. The number is converted to an estimated number of bytes, i.e. tables with
+     * small cells keep more and tables with large cells fewer cells in memory. All tables together are also limited by
+     * the budget defined by {@link KNIMEConstants#PROPERTY_TABLE_MEMORY_BUDGET}.
      */
     public static final int MAX_CELLS_IN_MEMORY;
 
@@ -75,6 +75,9 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     /** Compression format. */
     static final String CFG_COMPRESSION = "container.compression";
 
+    /** Whether string cells are dictionary encoded (added in 3.7, optional). */
+    static final String CFG_STRING_DICTIONARY = "container.stringdictionary";
+
     /**
      * Static field to enable/disable the usage of a GZipInput/OutpuStream when writing the binary data. This option
      * defaults to {@value DataContainer#DEF_GZIP_COMPRESSION}. */
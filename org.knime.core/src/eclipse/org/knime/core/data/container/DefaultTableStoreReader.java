@@ -51,6 +51,7 @@
 import java.io.IOException;
 
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowPredicate;
 import org.knime.core.data.container.Buffer.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
@@ -64,6 +65,7 @@
 final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
     private CompressionFormat m_compressionFormat;
+    private final boolean m_isStringDictionary;
     private final File m_binFile;
     private final DataTableSpec m_spec;
     private final boolean m_isReadRowKey;
@@ -111,30 +113,73 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
             cF = CompressionFormat.Gzip;
         }
         m_compressionFormat = cF;
+        m_isStringDictionary = settings.getBoolean(DefaultTableStoreFormat.CFG_STRING_DICTIONARY, false);
     }
 
     @Override
     public TableStoreCloseableRowIterator iterator() {
         try {
             if (getReadVersion() <= 5) { // 2.0 tech preview and before
-                return new BufferFromFileIteratorVersion1x(this);
+                return readAhead(new BufferFromFileIteratorVersion1x(this));
             } else {
-                return new BufferFromFileIteratorVersion20(this);
+                return readAhead(new BufferFromFileIteratorVersion20(this));
             }
         } catch (IOException ioe) {
-            StringBuilder b = new StringBuilder("Cannot read file \"");
-            b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
-            b.append("\"");
-            checkAndReportOpenFiles(ioe);
-            throw new RuntimeException(b.toString(), ioe);
+            throw createCannotReadException(ioe);
         }
     }
 
+    /**
+     * {@inheritDoc} The predicate is evaluated right after deserializing the cells it reads, the other cells of
+     * rows that don't match are skipped without being deserialized. Blocks of rows that can't match according to the
+     * buffer's {@link BlockStatistics} are skipped entirely.
+     */
+    @Override
+    public TableStoreCloseableRowIterator iterator(final RowPredicate predicate) {
+        if (getReadVersion() <= 5) {
+            return super.iterator(predicate);
+        }
+        try {
+            return readAhead(new BufferFromFileIteratorVersion20(this, predicate, getBuffer().getBlockStatistics()));
+        } catch (IOException ioe) {
+            throw createCannotReadException(ioe);
+        }
+    }
+
+    /**
+     * Wraps the argument iterator so that the rows are decoded in a read-ahead thread while the consumer processes the
+     * previous rows, unless asynchronous IO is disabled or the table is too small to benefit from it. The wrapper
+     * (instead of the file iterator) is registered with the open iterators, so that clearing the table stops the
+     * read-ahead thread.
+     */
+    private TableStoreCloseableRowIterator readAhead(final FromFileIterator iterator) {
+        final int colCount = m_spec.getNumColumns();
+        if (ReadAheadRowIterator.isApplicable(size(), colCount)) {
+            final ReadAheadRowIterator readAheadIterator = new ReadAheadRowIterator(iterator, colCount);
+            registerNewIteratorInstance(readAheadIterator);
+            return readAheadIterator;
+        }
+        return iterator;
+    }
+
+    private RuntimeException createCannotReadException(final IOException ioe) {
+        StringBuilder b = new StringBuilder("Cannot read file \"");
+        b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+        b.append("\"");
+        checkAndReportOpenFiles(ioe);
+        return new RuntimeException(b.toString(), ioe);
+    }
+
     /** @return Whether stream is zipped. */
     CompressionFormat getBinFileCompressionFormat() {
         return m_compressionFormat;
     }
 
+    /** @return Whether string cells are dictionary encoded. */
+    boolean isStringDictionaryEncoded() {
+        return m_isStringDictionary;
+    }
+
     /** @return Underlying binary file. */
     final File getBinFile() {
         return m_binFile;
@@ -59,6 +59,8 @@
 import org.knime.core.data.container.DCObjectOutputVersion2.BlockableDCObjectOutputVersion2;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeSettingsWO;
 
 /**
@@ -67,6 +69,11 @@
  */
 final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements KNIMEStreamConstants {
 
+    /** Whether string cells are dictionary encoded, see {@link KNIMEConstants#PROPERTY_TABLE_STRING_DICTIONARY}.
+     * Not final so that test cases can enable it. */
+    static volatile boolean useStringDictionary =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_STRING_DICTIONARY);
+
     private final CompressionFormat m_compressionFormat;
 
     /**
@@ -75,6 +82,9 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      */
     private final BlockableDCObjectOutputVersion2 m_outStream;
 
+    /** Encodes repeated string values, <code>null</code> if disabled. */
+    private final StringDictionary.Encoder m_stringDictionary;
+
     /**
      * Constructs a writer for writing KNIME tables to disk.
      *
@@ -88,6 +98,7 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
         super(spec, writeRowKey);
         m_compressionFormat = DefaultTableStoreFormat.IS_USE_GZIP ? CompressionFormat.Gzip : CompressionFormat.None;
         m_outStream = initOutFile(new BufferedOutputStream(outputStream));
+        m_stringDictionary = useStringDictionary ? new StringDictionary.Encoder(spec.getNumColumns()) : null;
     }
 
     /**
@@ -102,7 +113,10 @@ public void writeRow(final DataRow row) throws IOException {
         for (int i = 0; i < row.getNumCells(); i++) {
             DataCell cell =
                 row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
-            writeDataCell(cell, m_outStream);
+            if (m_stringDictionary == null || cell.getClass() != StringCell.class
+                || !m_stringDictionary.writeReference(i, (StringCell)cell, m_outStream)) {
+                writeDataCell(cell, m_outStream);
+            }
             m_outStream.endBlock();
         }
         m_outStream.endRow();
@@ -151,6 +165,7 @@ private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
         settings.addString(DefaultTableStoreFormat.CFG_COMPRESSION, m_compressionFormat.name());
+        settings.addBoolean(DefaultTableStoreFormat.CFG_STRING_DICTIONARY, m_stringDictionary != null);
         super.writeMetaInfoAfterWrite(settings);
     }
 
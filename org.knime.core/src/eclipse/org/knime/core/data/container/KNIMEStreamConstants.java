@@ -81,5 +81,19 @@ public interface KNIMEStreamConstants {
     /** Separator for different rows. */
     static final byte BYTE_ROW_SEPARATOR = BYTE_TYPE_MISSING + 3;
 
+    /** The char starting a cell of the string dictionary of the stream, followed by
+     * {@link #BYTE_DICTIONARY_ENTRY} or {@link #BYTE_DICTIONARY_REFERENCE}. It is the same char as
+     * {@link #BYTE_TYPE_SERIALIZATION}, which is otherwise always followed by a type char, i.e. the dictionary
+     * doesn't take any char of the map char --&gt; type.
+     * @since 3.7 */
+    static final byte BYTE_TYPE_DICTIONARY = BYTE_TYPE_SERIALIZATION;
+
+    /** Following {@link #BYTE_TYPE_DICTIONARY}: a string cell that is added to the dictionary, followed by the cell.
+     * @since 3.7 */
+    static final byte BYTE_DICTIONARY_ENTRY = BYTE_TYPE_MISSING;
+
+    /** Following {@link #BYTE_TYPE_DICTIONARY}: a reference to an entry of the dictionary, followed by its code.
+     * @since 3.7 */
+    static final byte BYTE_DICTIONARY_REFERENCE = BYTE_TYPE_SERIALIZATION;
 
 }
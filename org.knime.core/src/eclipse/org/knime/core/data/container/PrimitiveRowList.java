@@ -0,0 +1,318 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.RandomAccess;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+
+/**
+ * Compact replacement for the list of rows a {@link Buffer} keeps in memory, used for tables whose columns are all
+ * int, long, double or boolean columns. The values are stored column-wise in primitive arrays (plus a bit set for
+ * missing values) and the rows and cells are created on demand in {@link #get(int)}. Rows containing other cells
+ * (such as missing cells with an error message or cells of a sub type) are stored as they are.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrimitiveRowList extends AbstractList<BlobSupportDataRow> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private enum Kind {
+        INT(Integer.BYTES), LONG(Long.BYTES), DOUBLE(Double.BYTES), BOOLEAN(1);
+
+        private final int m_bytes;
+
+        Kind(final int bytes) {
+            m_bytes = bytes;
+        }
+    }
+
+    private final Kind[] m_kinds;
+
+    /** Per column an int[], long[], double[] or, for boolean columns, a {@link BitSet}. */
+    private final Object[] m_values;
+
+    /** Per column the rows with a missing value, <code>null</code> if there is none. */
+    private final BitSet[] m_missing;
+
+    private RowKey[] m_keys;
+
+    /** The rows that can't be stored in the primitive arrays, <code>null</code> if there is none. */
+    private BlobSupportDataRow[] m_rawRows;
+
+    /** The estimated size of the rows in {@link #m_rawRows}. */
+    private long m_rawRowsSize;
+
+    /** The estimated size of the keys of the other rows. */
+    private long m_keysSize;
+
+    private int m_size;
+
+    private PrimitiveRowList(final Kind[] kinds, final int initialCapacity) {
+        m_kinds = kinds;
+        final int capacity = Math.max(initialCapacity, INITIAL_CAPACITY);
+        m_values = new Object[kinds.length];
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case INT:
+                    m_values[i] = new int[capacity];
+                    break;
+                case LONG:
+                    m_values[i] = new long[capacity];
+                    break;
+                case DOUBLE:
+                    m_values[i] = new double[capacity];
+                    break;
+                default:
+                    m_values[i] = new BitSet();
+            }
+        }
+        m_missing = new BitSet[kinds.length];
+        m_keys = new RowKey[capacity];
+    }
+
+    /**
+     * Creates a new list if the argument spec only contains int, long, double and boolean columns.
+     *
+     * @param spec The spec of the rows.
+     * @param initialCapacity The number of rows to allocate space for.
+     * @return A new list or <code>null</code> if the spec contains other columns (or no column at all).
+     */
+    static PrimitiveRowList createIfApplicable(final DataTableSpec spec, final int initialCapacity) {
+        final int colCount = spec.getNumColumns();
+        if (colCount == 0) {
+            return null;
+        }
+        final Kind[] kinds = new Kind[colCount];
+        for (int i = 0; i < colCount; i++) {
+            final DataType type = spec.getColumnSpec(i).getType();
+            if (type.equals(IntCell.TYPE)) {
+                kinds[i] = Kind.INT;
+            } else if (type.equals(LongCell.TYPE)) {
+                kinds[i] = Kind.LONG;
+            } else if (type.equals(DoubleCell.TYPE)) {
+                kinds[i] = Kind.DOUBLE;
+            } else if (type.equals(BooleanCell.TYPE)) {
+                kinds[i] = Kind.BOOLEAN;
+            } else {
+                return null;
+            }
+        }
+        return new PrimitiveRowList(kinds, initialCapacity);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean add(final BlobSupportDataRow row) {
+        ensureCapacity(m_size + 1);
+        final int index = m_size;
+        if (!isPrimitive(row)) {
+            if (m_rawRows == null) {
+                m_rawRows = new BlobSupportDataRow[m_keys.length];
+            }
+            m_rawRows[index] = row;
+            m_rawRowsSize += DataCellSizeEstimator.estimateRow(row);
+        } else {
+            m_keys[index] = row.getKey();
+            m_keysSize += DataCellSizeEstimator.estimateKey(row.getKey());
+            for (int i = 0; i < m_kinds.length; i++) {
+                final DataCell cell = row.getRawCell(i);
+                if (cell == DataType.getMissingCell()) {
+                    if (m_missing[i] == null) {
+                        m_missing[i] = new BitSet();
+                    }
+                    m_missing[i].set(index);
+                    continue;
+                }
+                switch (m_kinds[i]) {
+                    case INT:
+                        ((int[])m_values[i])[index] = ((IntCell)cell).getIntValue();
+                        break;
+                    case LONG:
+                        ((long[])m_values[i])[index] = ((LongCell)cell).getLongValue();
+                        break;
+                    case DOUBLE:
+                        ((double[])m_values[i])[index] = ((DoubleCell)cell).getDoubleValue();
+                        break;
+                    default:
+                        ((BitSet)m_values[i]).set(index, ((BooleanCell)cell).getBooleanValue());
+                }
+            }
+        }
+        m_size++;
+        modCount++;
+        return true;
+    }
+
+    /** Whether all cells of the row can be stored in the primitive arrays. */
+    private boolean isPrimitive(final BlobSupportDataRow row) {
+        if (row.getNumCells() != m_kinds.length) {
+            return false;
+        }
+        for (int i = 0; i < m_kinds.length; i++) {
+            final DataCell cell = row.getRawCell(i);
+            if (cell == DataType.getMissingCell()) {
+                continue;
+            }
+            final Class<?> expected;
+            switch (m_kinds[i]) {
+                case INT:
+                    expected = IntCell.class;
+                    break;
+                case LONG:
+                    expected = LongCell.class;
+                    break;
+                case DOUBLE:
+                    expected = DoubleCell.class;
+                    break;
+                default:
+                    expected = BooleanCell.class;
+            }
+            if (cell.getClass() != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BlobSupportDataRow get(final int index) {
+        if (index < 0 || index >= m_size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_size);
+        }
+        if (m_rawRows != null && m_rawRows[index] != null) {
+            return m_rawRows[index];
+        }
+        final DataCell[] cells = new DataCell[m_kinds.length];
+        for (int i = 0; i < cells.length; i++) {
+            if (m_missing[i] != null && m_missing[i].get(index)) {
+                cells[i] = DataType.getMissingCell();
+                continue;
+            }
+            switch (m_kinds[i]) {
+                case INT:
+                    cells[i] = new IntCell(((int[])m_values[i])[index]);
+                    break;
+                case LONG:
+                    cells[i] = new LongCell(((long[])m_values[i])[index]);
+                    break;
+                case DOUBLE:
+                    cells[i] = new DoubleCell(((double[])m_values[i])[index]);
+                    break;
+                default:
+                    cells[i] = BooleanCell.get(((BitSet)m_values[i]).get(index));
+            }
+        }
+        return new BlobSupportDataRow(m_keys[index], cells);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * @return the approximate number of bytes occupied by the rows in this list, the rows stored as they are
+     *         estimated by the {@link DataCellSizeEstimator}
+     */
+    long getSizeInBytes() {
+        // key reference plus values
+        long rowBytes = Integer.BYTES;
+        for (Kind kind : m_kinds) {
+            rowBytes += kind.m_bytes;
+        }
+        return (long)m_size * rowBytes + m_keysSize + m_rawRowsSize;
+    }
+
+    /** Trims the arrays to the size of the list, called when no more rows are added. */
+    void trimToSize() {
+        setCapacity(m_size);
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity > m_keys.length) {
+            setCapacity(Math.max(minCapacity, m_keys.length + (m_keys.length >> 1)));
+        }
+    }
+
+    private void setCapacity(final int capacity) {
+        for (int i = 0; i < m_kinds.length; i++) {
+            switch (m_kinds[i]) {
+                case INT:
+                    m_values[i] = Arrays.copyOf((int[])m_values[i], capacity);
+                    break;
+                case LONG:
+                    m_values[i] = Arrays.copyOf((long[])m_values[i], capacity);
+                    break;
+                case DOUBLE:
+                    m_values[i] = Arrays.copyOf((double[])m_values[i], capacity);
+                    break;
+                default:
+                    // bit sets grow by themselves
+            }
+        }
+        m_keys = Arrays.copyOf(m_keys, capacity);
+        if (m_rawRows != null) {
+            m_rawRows = Arrays.copyOf(m_rawRows, capacity);
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Iterator that reads the rows of a file iterator on a separate read-ahead thread. The rows are decoded in batches
+ * into a bounded queue, so that deserializing the table content overlaps with the processing of the returned rows.
+ * Batches are only handed over when full, which keeps the synchronization per row small.
+ *
+ * <p>
+ * The reading thread is started with the first call to {@link #hasNext()}. The read-ahead threads have their own pool
+ * (independent of the {@link DataContainer#ASYNC_EXECUTORS table IO threads} writing tables) with at most
+ * {@link #MAX_READ_AHEAD_THREADS} threads. If all of them are busy, the rows are read in the calling thread, as if the
+ * file iterator had been used directly.
+ *
+ * <p>
+ * This iterator, not the file iterator, is registered with the reader's open iterators, i.e. clearing the table
+ * stops the reading thread before the file is closed. The iterator closes itself (like a file iterator) when reaching
+ * the end of the table. Once closed, the remaining calls are delegated to the (closed) file iterator.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ReadAheadRowIterator extends TableStoreCloseableRowIterator {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ReadAheadRowIterator.class);
+
+    /** Number of cells decoded per batch, the number of rows per batch depends on the number of columns. */
+    private static final int CELLS_PER_BATCH = 8192;
+
+    /** Upper bound for the number of rows per batch, limits the latency until the first row is available. */
+    private static final int MAX_ROWS_PER_BATCH = 512;
+
+    /** Number of batches the reading thread may be ahead of the consumer. */
+    private static final int QUEUE_CAPACITY = 4;
+
+    /** Put into the queue after the last batch, and when the iterator is closed. */
+    private static final Object END_OF_TABLE = new Object();
+
+    /** Maximum number of tables read ahead at the same time, other tables are read synchronously. */
+    static final int MAX_READ_AHEAD_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /** The executor running the {@link Producer}s, separate from the table IO threads writing tables. */
+    private static final ThreadPoolExecutor READ_AHEAD_EXECUTOR = new ThreadPoolExecutor(0, MAX_READ_AHEAD_THREADS,
+        60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger m_threadCount = new AtomicInteger();
+
+            /** {@inheritDoc} */
+            @Override
+            public Thread newThread(final Runnable r) {
+                return new Thread(r, "KNIME-TableReadAhead-" + m_threadCount.incrementAndGet());
+            }
+        });
+
+    private final TableStoreCloseableRowIterator m_iterator;
+
+    private final int m_rowsPerBatch;
+
+    /** The reading task, <code>null</code> until {@link #hasNext()} is called for the first time. */
+    private Producer m_producer;
+
+    /** Whether the rows are read in the calling thread (no read-ahead thread was available). */
+    private boolean m_isSynchronous;
+
+    private List<DataRow> m_batch = Collections.emptyList();
+
+    private int m_batchIndex;
+
+    private boolean m_isAtEnd;
+
+    private final AtomicBoolean m_isClosed = new AtomicBoolean();
+
+    /**
+     * @param iterator the file iterator to read from, not registered with the reader (it then closes itself directly,
+     *            without the reader, when reaching the end of the table)
+     * @param colCount the number of columns in the table
+     */
+    ReadAheadRowIterator(final TableStoreCloseableRowIterator iterator, final int colCount) {
+        m_iterator = iterator;
+        m_rowsPerBatch = getRowsPerBatch(colCount);
+    }
+
+    /**
+     * Whether it's worth reading a table ahead, i.e. asynchronous IO is enabled and the table spans more than a
+     * couple of batches.
+     *
+     * @param rowCount the number of rows in the table
+     * @param colCount the number of columns in the table
+     * @return whether to wrap the table's file iterators into a {@link ReadAheadRowIterator}
+     */
+    static boolean isApplicable(final long rowCount, final int colCount) {
+        return !DataContainer.SYNCHRONOUS_IO && rowCount >= 2L * getRowsPerBatch(colCount);
+    }
+
+    private static int getRowsPerBatch(final int colCount) {
+        return Math.max(1, Math.min(MAX_ROWS_PER_BATCH, CELLS_PER_BATCH / Math.max(1, colCount)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (m_batchIndex < m_batch.size()) {
+            return true;
+        }
+        if (m_isAtEnd) {
+            return false;
+        }
+        if (m_producer == null && !m_isSynchronous) {
+            startProducer();
+        }
+        if (m_isSynchronous || m_producer.isClosed()) {
+            if (m_iterator.hasNext()) {
+                return true;
+            }
+            onEndOfTable();
+            return false;
+        }
+        final Object next = m_producer.take();
+        if (next == END_OF_TABLE) {
+            if (m_producer.isClosed()) {
+                return m_iterator.hasNext();
+            }
+            onEndOfTable();
+            return false;
+        }
+        if (next instanceof Throwable) {
+            onEndOfTable();
+            throw rethrow((Throwable)next);
+        }
+        @SuppressWarnings("unchecked")
+        final List<DataRow> batch = (List<DataRow>)next;
+        m_batch = batch;
+        m_batchIndex = 0;
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Iterator at end");
+        }
+        if (m_batchIndex < m_batch.size()) {
+            // release the row, the consumer may hold on to the iterator much longer than to the row
+            return m_batch.set(m_batchIndex++, null);
+        }
+        return m_iterator.next();
+    }
+
+    /**
+     * {@inheritDoc} Stops the reading thread (waiting until it returned) and closes the file iterator.
+     *
+     * @return whether this iterator was still open
+     */
+    @Override
+    public boolean performClose() throws IOException {
+        final Producer producer = m_producer;
+        if (producer != null) {
+            producer.close();
+        }
+        final boolean wasOpen = m_isClosed.compareAndSet(false, true);
+        return m_iterator.performClose() || wasOpen;
+    }
+
+    /** Closes this iterator once all rows have been returned, which removes it from the reader's open iterators. */
+    private void onEndOfTable() {
+        m_isAtEnd = true;
+        close();
+    }
+
+    private void startProducer() {
+        m_producer = new Producer(this, m_iterator, m_rowsPerBatch);
+        try {
+            READ_AHEAD_EXECUTOR.execute(ThreadUtils.runnableWithContext(m_producer, false));
+        } catch (RejectedExecutionException ree) {
+            LOGGER.debug("All " + MAX_READ_AHEAD_THREADS + " read-ahead threads are busy -- reading table "
+                + "synchronously");
+            m_producer = null;
+            m_isSynchronous = true;
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof Error) {
+            throw (Error)t;
+        }
+        if (t instanceof RuntimeException) {
+            return (RuntimeException)t;
+        }
+        return new RuntimeException(t.getMessage(), t);
+    }
+
+    /**
+     * The task reading the rows in the read-ahead thread. Only keeps a weak reference to the consuming iterator, so that
+     * an iterator that is abandoned before the end of the table is still garbage collected and the task terminates.
+     */
+    private static final class Producer implements Runnable {
+
+        private final WeakReference<ReadAheadRowIterator> m_owner;
+
+        private final TableStoreCloseableRowIterator m_iterator;
+
+        private final int m_rowsPerBatch;
+
+        /** Contains row batches, followed by {@link #END_OF_TABLE} or the throwable that stopped the reading. */
+        private final BlockingQueue<Object> m_queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        private final CountDownLatch m_finished = new CountDownLatch(1);
+
+        private volatile boolean m_isClosed;
+
+        Producer(final ReadAheadRowIterator owner, final TableStoreCloseableRowIterator iterator,
+            final int rowsPerBatch) {
+            m_owner = new WeakReference<>(owner);
+            m_iterator = iterator;
+            m_rowsPerBatch = rowsPerBatch;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void run() {
+            List<DataRow> batch = null;
+            try {
+                while (!m_isClosed) {
+                    batch = new ArrayList<>(m_rowsPerBatch);
+                    while (!m_isClosed && batch.size() < m_rowsPerBatch && m_iterator.hasNext()) {
+                        batch.add(m_iterator.next());
+                    }
+                    final boolean isLastBatch = batch.size() < m_rowsPerBatch;
+                    if (!batch.isEmpty() && !put(batch)) {
+                        return;
+                    }
+                    batch = null;
+                    if (isLastBatch) {
+                        put(END_OF_TABLE);
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                // the rows read before the failure are still returned
+                if (batch == null || batch.isEmpty() || put(batch)) {
+                    put(t);
+                }
+            } finally {
+                m_finished.countDown();
+            }
+        }
+
+        /**
+         * Waits until there is space in the queue.
+         *
+         * @return <code>false</code> if the iterator was closed or abandoned in the meantime
+         */
+        private boolean put(final Object o) {
+            boolean isInterrupted = false;
+            try {
+                while (true) {
+                    try {
+                        if (m_queue.offer(o, 1, TimeUnit.SECONDS)) {
+                            return !m_isClosed;
+                        }
+                    } catch (InterruptedException ie) {
+                        isInterrupted = true;
+                    }
+                    if (m_isClosed) {
+                        return false;
+                    }
+                    if (m_owner.get() == null) {
+                        LOGGER.debug("Table iterator was discarded before reaching the end of the table");
+                        m_iterator.close();
+                        return false;
+                    }
+                }
+            } finally {
+                if (isInterrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /** @return the next element from the queue, waits until there is one */
+        Object take() {
+            boolean isInterrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return m_queue.take();
+                    } catch (InterruptedException ie) {
+                        // the row can't be skipped, continue waiting and keep the interrupt for the caller
+                        isInterrupted = true;
+                    }
+                }
+            } finally {
+                if (isInterrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        boolean isClosed() {
+            return m_isClosed;
+        }
+
+        /** Stops the reading and waits until the task has returned, the consumer then receives the end marker. */
+        void close() {
+            m_isClosed = true;
+            m_queue.clear(); // wakes up the task if it waits for space
+            boolean isInterrupted = false;
+            while (m_finished.getCount() > 0) {
+                try {
+                    m_finished.await();
+                } catch (InterruptedException ie) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+            m_queue.clear();
+            m_queue.offer(END_OF_TABLE);
+        }
+    }
+}
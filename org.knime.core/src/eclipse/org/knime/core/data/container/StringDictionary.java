@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Dictionary encoding of {@link StringCell}s in the stream written by a {@link Buffer}. The first occurrence of a
+ * value is written as {@link KNIMEStreamConstants#BYTE_TYPE_DICTIONARY},
+ * {@link KNIMEStreamConstants#BYTE_DICTIONARY_ENTRY} followed by the cell, any repetition as
+ * {@link KNIMEStreamConstants#BYTE_TYPE_DICTIONARY}, {@link KNIMEStreamConstants#BYTE_DICTIONARY_REFERENCE} followed
+ * by the (variable length) code of the entry. The
+ * dictionary is shared by all columns and cleared once it contains {@link #MAX_SIZE} entries, i.e. the stream is
+ * split into chunks with separate dictionaries. Writer and reader clear their dictionaries at the same positions, no
+ * extra marker is written.
+ *
+ * <p>Only top-level cells are encoded (cells contained in collections are written as usual). Columns whose values
+ * are mostly distinct are detected on their first {@link #SAMPLE_SIZE} values and written without dictionary from
+ * then on.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StringDictionary implements KNIMEStreamConstants {
+
+    /** Number of entries after which the dictionary is cleared (codes need at most two bytes). */
+    static final int MAX_SIZE = 4096;
+
+    /** Strings longer than this are never added to the dictionary. */
+    static final int MAX_LENGTH = 128;
+
+    /** Number of values of a column after which its hit rate is checked. */
+    static final int SAMPLE_SIZE = 1024;
+
+    private StringDictionary() {
+    }
+
+    /** Assigns codes to the string cells of a table while it is written. */
+    static final class Encoder {
+
+        private final HashMap<String, Integer> m_codes = new HashMap<>();
+
+        private final int[] m_lookups;
+
+        private final int[] m_misses;
+
+        private final boolean[] m_isDisabled;
+
+        /** @param colCount The number of columns in the table. */
+        Encoder(final int colCount) {
+            m_lookups = new int[colCount];
+            m_misses = new int[colCount];
+            m_isDisabled = new boolean[colCount];
+        }
+
+        /**
+         * Writes the dictionary control bytes for a cell.
+         *
+         * @param column The column of the cell.
+         * @param cell The cell to write.
+         * @param outStream To write to.
+         * @return <code>true</code> if the cell was written as a reference to an earlier entry, <code>false</code> if
+         *         the caller needs to write the cell (possibly after the entry marker written by this method)
+         * @throws IOException If writing fails.
+         */
+        boolean writeReference(final int column, final StringCell cell, final DCObjectOutputVersion2 outStream)
+            throws IOException {
+            if (m_isDisabled[column]) {
+                return false;
+            }
+            final String value = cell.getStringValue();
+            if (value.length() > MAX_LENGTH) {
+                return false;
+            }
+            final Integer code = m_codes.get(value);
+            if (m_lookups[column] < SAMPLE_SIZE) {
+                m_lookups[column]++;
+                if (code == null) {
+                    m_misses[column]++;
+                }
+                if (m_lookups[column] == SAMPLE_SIZE && m_misses[column] > SAMPLE_SIZE / 2) {
+                    // mostly distinct values (ids, free text), the dictionary would only add overhead
+                    m_isDisabled[column] = true;
+                }
+            }
+            if (code != null) {
+                outStream.writeControlByte(BYTE_TYPE_DICTIONARY);
+                outStream.writeControlByte(BYTE_DICTIONARY_REFERENCE);
+                writeCode(code, outStream);
+                return true;
+            }
+            if (m_isDisabled[column]) {
+                return false;
+            }
+            if (m_codes.size() == MAX_SIZE) {
+                m_codes.clear();
+            }
+            m_codes.put(value, m_codes.size());
+            outStream.writeControlByte(BYTE_TYPE_DICTIONARY);
+            outStream.writeControlByte(BYTE_DICTIONARY_ENTRY);
+            return false;
+        }
+
+        private static void writeCode(final int code, final DCObjectOutputVersion2 outStream) throws IOException {
+            int remaining = code;
+            while (remaining >= 0x80) {
+                outStream.writeControlByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            outStream.writeControlByte(remaining);
+        }
+    }
+
+    /** Restores the string cells of a table while it is read. Equal values share the same cell instance. */
+    static final class Decoder {
+
+        private final ArrayList<DataCell> m_entries = new ArrayList<>();
+
+        /**
+         * Adds the cell following a {@link KNIMEStreamConstants#BYTE_DICTIONARY_ENTRY}.
+         *
+         * @param cell The cell as read from the stream.
+         * @return The argument.
+         */
+        DataCell add(final DataCell cell) {
+            if (m_entries.size() == MAX_SIZE) {
+                m_entries.clear();
+            }
+            m_entries.add(cell);
+            return cell;
+        }
+
+        /**
+         * Reads the code following a {@link KNIMEStreamConstants#BYTE_DICTIONARY_REFERENCE} and returns the
+         * referenced cell.
+         *
+         * @param inStream To read from.
+         * @return The cell of the entry.
+         * @throws IOException If reading fails or the code is invalid.
+         */
+        DataCell readReference(final DCObjectInputVersion2 inStream) throws IOException {
+            int code = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = inStream.readControlByte();
+                code |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0 && shift < 32);
+            if (code < 0 || code >= m_entries.size()) {
+                throw new IOException("Invalid string dictionary code " + code + " (dictionary has "
+                    + m_entries.size() + " entries)");
+            }
+            return m_entries.get(code);
+        }
+    }
+}
@@ -55,6 +55,7 @@
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -63,12 +64,14 @@
 import org.apache.commons.io.IOUtils;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataTypeRegistry;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
+import org.knime.core.data.RowPredicate;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.Buffer;
@@ -190,6 +193,19 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      */
     public abstract TableStoreCloseableRowIterator iterator();
 
+    /**
+     * Returns a row iterator which returns the rows matching the argument predicate. The default implementation tests
+     * the rows returned by {@link #iterator()}, readers that can evaluate the predicate before deserializing the
+     * remaining cells of a row should override it.
+     *
+     * @param predicate the predicate the returned rows have to match
+     * @return row iterator
+     * @since 3.7
+     */
+    public TableStoreCloseableRowIterator iterator(final RowPredicate predicate) {
+        return new FilterTableStoreRowIterator(iterator(), predicate);
+    }
+
     /**
      * Returns a {@link RowIteratorBuilder} that can be used to assemble more complex
      * {@link TableStoreCloseableRowIterator}s that only iterate over parts of a table.
@@ -199,7 +215,8 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      * @since 3.7
      */
     public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder() {
-        return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
+        return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), p -> iterator(p),
+            m_spec) {
             @Override
             public TableStoreCloseableRowIterator build() {
                 TableStoreCloseableRowIterator iterator = super.build();
@@ -308,17 +325,18 @@ public final CellClassInfo getTypeForChar(final byte identifier) throws IOExcept
     }
 
     /**
-     * Register a new iterator with this buffer.
+     * Register a new iterator with this buffer. Registering an iterator a second time has no effect.
      *
      * @param it The iterator
      */
     protected void registerNewIteratorInstance (final TableStoreCloseableRowIterator it) {
-        LOGGER.debug("Opening input stream on file \"" + m_file.getAbsolutePath() + "\", "
-                + m_nrOpenInputStreams + " open streams");
         it.setReader(this);
         synchronized (m_openIteratorSet) {
-            m_nrOpenInputStreams.incrementAndGet();
-            m_openIteratorSet.put(it, DUMMY);
+            if (m_openIteratorSet.put(it, DUMMY) == null) {
+                LOGGER.debug("Opening input stream on file \"" + m_file.getAbsolutePath() + "\", "
+                        + m_nrOpenInputStreams + " open streams");
+                m_nrOpenInputStreams.incrementAndGet();
+            }
         }
     }
 
@@ -406,13 +424,69 @@ public void setReader(final AbstractTableStoreReader reader) {
             m_reader = reader;
         }
 
-        /** {@inheritDoc} */
+        /**
+         * {@inheritDoc} Iterators that aren't registered with a reader (e.g. ones wrapped by another iterator) are
+         * closed directly.
+         */
         @Override
         public final void close() {
-            m_reader.clearIteratorInstance(this, true);
+            if (m_reader != null) {
+                m_reader.clearIteratorInstance(this, true);
+            } else {
+                try {
+                    performClose();
+                } catch (IOException ioe) {
+                    LOGGER.debug("Closing iterator failed!", ioe);
+                }
+            }
         }
 
         public abstract boolean performClose() throws IOException;
     }
 
+    /** Filters the rows of another iterator of the same reader, see {@link #iterator(RowPredicate)}. */
+    private static final class FilterTableStoreRowIterator extends TableStoreCloseableRowIterator {
+
+        private final TableStoreCloseableRowIterator m_iterator;
+
+        private final RowPredicate m_predicate;
+
+        private DataRow m_next;
+
+        FilterTableStoreRowIterator(final TableStoreCloseableRowIterator iterator, final RowPredicate predicate) {
+            m_iterator = iterator;
+            m_predicate = predicate;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            while (m_next == null && m_iterator.hasNext()) {
+                final DataRow row = m_iterator.next();
+                if (m_predicate.test(row)) {
+                    m_next = row;
+                }
+            }
+            return m_next != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            final DataRow next = m_next;
+            m_next = null;
+            return next;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean performClose() throws IOException {
+            m_next = null;
+            return m_iterator.performClose();
+        }
+    }
+
 }
@@ -0,0 +1,305 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.data.filestore.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Content addressed storage for file store payloads of a data repository. The content of a file store (a file or
+ * a directory) is identified by its SHA-256 digest and kept once in a private directory; file stores with identical
+ * content are hard links to this copy. Each {@link #copy(File, File, UUID) copy} counts as a reference of the
+ * handler that owns the target, the stored content is deleted once all handlers referencing it have been
+ * {@link #release(UUID) released}.
+ *
+ * <p>Content must not be modified once it was passed to this class, which is the case for file stores after their
+ * cell or port object has been flushed. If the file system doesn't support hard links, the content is copied (and
+ * then only the digest computation is overhead).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class FileStoreContentStore {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(FileStoreContentStore.class);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** A stored content and the number of references to it. */
+    private static final class Entry {
+        private final File m_file;
+        private int m_referenceCount;
+
+        Entry(final File file) {
+            m_file = file;
+        }
+    }
+
+    private final Map<String, Entry> m_entries = new HashMap<>();
+
+    /** Digests of the content referenced by a file store handler, one element per reference. */
+    private final Map<UUID, List<String>> m_referencesByHandler = new HashMap<>();
+
+    private File m_baseDir;
+
+    private long m_linkedBytes;
+
+    /**
+     * Copies a file store file or directory. If content with the same digest is already stored, the target is
+     * created as hard link(s) to the stored content, otherwise the source is added to the store.
+     *
+     * @param source the file store file or directory, whose content is final
+     * @param target the target file, must not exist
+     * @param targetHandlerUUID the store UUID of the handler owning the target
+     * @throws IOException if the source can't be read or the target can't be created
+     */
+    public void copy(final File source, final File target, final UUID targetHandlerUUID) throws IOException {
+        if (!source.exists()) {
+            throw new IOException("Source file store \"" + source + "\" does not exist.");
+        }
+        // computed outside the lock, it's the expensive part
+        final String digest = digest(source.toPath());
+        File content = addReference(digest, targetHandlerUUID, source);
+        if (content == null) {
+            // new content: linked (or copied) outside the lock into a temporary name, then added under the lock by
+            // an atomic rename -- or discarded if another thread added the same content in the meantime
+            final File baseDir;
+            synchronized (this) {
+                baseDir = getBaseDir();
+            }
+            final Path tempContent = baseDir.toPath().resolve(digest + "-" + UUID.randomUUID() + ".tmp");
+            try {
+                link(source.toPath(), tempContent);
+                synchronized (this) {
+                    content = addReference(digest, targetHandlerUUID, source);
+                    if (content == null) {
+                        final Entry entry = new Entry(new File(baseDir, digest));
+                        Files.move(tempContent, entry.m_file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                        m_entries.put(digest, entry);
+                        content = addReference(digest, targetHandlerUUID, null);
+                    }
+                }
+            } finally {
+                if (Files.exists(tempContent) && !FileUtil.deleteRecursively(tempContent.toFile())) {
+                    LOGGER.warn("Unable to delete temporary file store content \"" + tempContent + "\"");
+                }
+            }
+        }
+        link(content.toPath(), target.toPath());
+    }
+
+    /**
+     * Adds a reference of a handler to stored content, if the content is stored.
+     *
+     * @param digest the digest of the content
+     * @param handlerUUID the store UUID of the referencing handler
+     * @param linkedSource the source whose size is counted as linked bytes, or null
+     * @return the stored content, or null if no content with the digest is stored
+     */
+    private synchronized File addReference(final String digest, final UUID handlerUUID, final File linkedSource) {
+        final Entry entry = m_entries.get(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (linkedSource != null) {
+            m_linkedBytes += FileUtils.sizeOf(linkedSource);
+        }
+        entry.m_referenceCount++;
+        m_referencesByHandler.computeIfAbsent(handlerUUID, k -> new ArrayList<>()).add(digest);
+        return entry.m_file;
+    }
+
+    /**
+     * Releases all references of a file store handler, called when the handler is disposed. Stored content that is
+     * no longer referenced is deleted.
+     *
+     * @param handlerUUID the store UUID of the handler
+     */
+    public synchronized void release(final UUID handlerUUID) {
+        final List<String> digests = m_referencesByHandler.remove(handlerUUID);
+        if (digests == null) {
+            return;
+        }
+        for (String digest : digests) {
+            final Entry entry = m_entries.get(digest);
+            if (entry != null && --entry.m_referenceCount <= 0) {
+                m_entries.remove(digest);
+                if (!FileUtil.deleteRecursively(entry.m_file)) {
+                    LOGGER.warn("Unable to delete file store content \"" + entry.m_file + "\"");
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes all stored content along with the base directory, called when the data repository is disposed. All
+     * handlers are released.
+     */
+    public synchronized void dispose() {
+        m_entries.clear();
+        m_referencesByHandler.clear();
+        if (m_baseDir != null && m_baseDir.exists() && !FileUtil.deleteRecursively(m_baseDir)) {
+            LOGGER.warn("Unable to delete file store content directory \"" + m_baseDir + "\"");
+        }
+        m_baseDir = null;
+    }
+
+    /** @return the number of distinct contents that are currently stored */
+    public synchronized int getContentCount() {
+        return m_entries.size();
+    }
+
+    /** @return the number of bytes that were not copied because identical content was already stored */
+    public synchronized long getLinkedBytes() {
+        return m_linkedBytes;
+    }
+
+    private File getBaseDir() throws IOException {
+        assert Thread.holdsLock(this);
+        if (m_baseDir == null || !m_baseDir.isDirectory()) {
+            m_baseDir = FileUtil.createTempDir("fs-content-");
+        }
+        return m_baseDir;
+    }
+
+    /** Creates <b>target</b> as hard link of <b>source</b>, directories are created and their files linked. */
+    private static void link(final Path source, final Path target) throws IOException {
+        if (Files.isDirectory(source)) {
+            Files.createDirectories(target);
+            try (Stream<Path> children = Files.list(source)) {
+                for (Path child : children.collect(Collectors.toList())) {
+                    link(child, target.resolve(child.getFileName().toString()));
+                }
+            }
+        } else {
+            try {
+                Files.createLink(target, source);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(source, target);
+            }
+        }
+    }
+
+    /** Digest of a file's content or of the relative paths and contents of all files in a directory. */
+    static String digest(final Path path) throws IOException {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 not supported", e);
+        }
+        final byte[] buffer = new byte[8192];
+        if (Files.isDirectory(path)) {
+            final List<Path> files;
+            try (Stream<Path> walk = Files.walk(path)) {
+                files = walk.sorted().collect(Collectors.toList());
+            }
+            for (Path p : files) {
+                // separates names and contents, and directories from files with the same name
+                final String name = path.relativize(p).toString().replace(File.separatorChar, '/');
+                md.update((Files.isDirectory(p) ? "d:" : "f:").getBytes(StandardCharsets.UTF_8));
+                md.update(name.getBytes(StandardCharsets.UTF_8));
+                md.update((byte)0);
+                if (!Files.isDirectory(p)) {
+                    update(md, p, buffer);
+                }
+            }
+        } else {
+            md.update("f:".getBytes(StandardCharsets.UTF_8));
+            update(md, path, buffer);
+        }
+        final byte[] digest = md.digest();
+        final char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[2 * i] = HEX[(digest[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static void update(final MessageDigest md, final Path file, final byte[] buffer) throws IOException {
+        // the length prevents that the concatenation of files is ambiguous
+        final long size = Files.size(file);
+        for (int i = 0; i < 8; i++) {
+            md.update((byte)(size >>> (8 * i)));
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                md.update(buffer, 0, read);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String toString() {
+        return "File store content store (" + m_entries.size() + " content(s), "
+            + (m_baseDir == null ? "<no directory>" : m_baseDir.getAbsolutePath()) + ")";
+    }
+}
@@ -49,6 +49,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.knime.core.data.IDataRepository;
@@ -123,6 +124,7 @@ public IDataRepository getDataRepository() {
     @Override
     public void clearAndDispose() {
         if (m_dataRepository != null) {
+            m_dataRepository.getFileStoreContentStore().ifPresent(store -> store.release(m_storeUUID));
             m_dataRepository.removeFileStoreHandler(this);
             m_dataRepository = null;
         }
@@ -191,7 +193,12 @@ private synchronized FileStoreKey copyFileStore(final FileStore fs, final FlushC
             // notify them that a copy is taken place and that they need to flush their in memory content
             FileStoreUtil.invokeFlush(flushCallback);
             newStore = createFileStoreInternal(getNextIndex() + "_" + key.getName(), null, -1);
-            FileUtil.copyDir(fs.getFile(), newStore.getFile());
+            final Optional<FileStoreContentStore> contentStore = m_dataRepository.getFileStoreContentStore();
+            if (contentStore.isPresent()) {
+                contentStore.get().copy(fs.getFile(), newStore.getFile(), m_storeUUID);
+            } else {
+                FileUtil.copyDir(fs.getFile(), newStore.getFile());
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed copying file stores to local handler", e);
         }
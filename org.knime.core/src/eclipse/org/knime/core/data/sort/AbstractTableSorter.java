@@ -604,7 +604,9 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
             buffer.add(row);
             if ((memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers))
                 || (counter % m_maxRowsPerChunk == 0)) {
-                LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
+                final long chunkStart = chunkStartRow;
+                final long chunkEnd = counter;
+                LOGGER.debug(() -> "Writing chunk [" + chunkStart + ":" + chunkEnd + "] - mem usage: " + getMemUsage());
                 if (m_rowsInInputTable > 0) {
                     long estimatedIncrements = m_rowsInInputTable - counter + buffer.size();
                     m_incProgress = (0.5 - m_progress) / estimatedIncrements;
@@ -630,7 +632,7 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                 buffer.clear();
                 closeChunk();
 
-                LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
+                LOGGER.debug(() -> "Wrote chunk [" + chunkStart + ":" + chunkEnd + "] - mem usage: " + getMemUsage());
                 chunkStartRow = counter + 1;
                 rowsInCurrentChunk = 0;
             }
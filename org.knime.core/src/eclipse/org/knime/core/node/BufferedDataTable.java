@@ -70,11 +70,13 @@
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.FilterRowIterator;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.BlobSupportDataRow;
+import org.knime.core.data.container.BlockStatistics;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ConcatenateTable;
 import org.knime.core.data.container.ContainerTable;
@@ -95,6 +97,8 @@
 import org.knime.core.node.port.PortTypeRegistry;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.BufferedDataTableView;
+import org.knime.core.node.workflow.FlowLoopContext;
+import org.knime.core.node.workflow.FlowObjectStack;
 import org.knime.core.node.workflow.WorkflowDataRepository;
 import org.knime.core.util.MutableBoolean;
 
@@ -180,6 +184,9 @@ static PortObjectSerializer<BufferedDataTable> getPortObjectSerializer() {
     private final KnowsRowCountTable m_delegate;
     private int m_tableID;
     private Node m_owner;
+    /** The loop end whose result references this table (created in the loop body), see
+     * {@link ExecutionContext#referenceLoopBodyTable(BufferedDataTable)}. */
+    private Node m_referencingLoopEnd;
 
     /**
      * Creates a new buffered data table based on a container table (caching everything).
@@ -412,6 +419,22 @@ public long size() {
         return m_delegate.size();
     }
 
+    /**
+     * Returns the statistics of this table in blocks of consecutive rows (minimum, maximum, missing values per column),
+     * which allow to skip blocks that can't contain any row of interest. The statistics are only available for tables
+     * that were created by a {@link org.knime.core.data.container.DataContainer}, e.g. not for tables with rearranged
+     * columns or concatenated tables.
+     *
+     * @return the statistics or <code>null</code> if not available
+     * @since 3.7
+     */
+    public BlockStatistics getBlockStatistics() {
+        if (m_delegate instanceof ContainerTable) {
+            return ((ContainerTable)m_delegate).getBuffer().getBlockStatistics();
+        }
+        return null;
+    }
+
 
     /** Method being used internally, not interesting for the implementor of
      * a new node model. It will return a unique ID to identify the table
@@ -516,6 +539,11 @@ public void close() {
      */
     void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
+        save(dir, getOwner(), savedTableIDs, exec);
+    }
+
+    private void save(final File dir, final Node savingNode, final Set<Integer> savedTableIDs,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
         NodeSettings s = new NodeSettings(CFG_TABLE_META);
         Integer bufferedTableID = getBufferedTableId();
         s.addInt(CFG_TABLE_ID, bufferedTableID);
@@ -562,8 +590,7 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
             BufferedDataTable[] references = m_delegate.getReferenceTables();
             ArrayList<String> referenceDirs = new ArrayList<String>();
             for (BufferedDataTable reference : references) {
-                if (reference.getOwner() == getOwner()
-                        && !savedTableIDs.contains(reference.getBufferedTableId())) {
+                if (isSavedWith(reference, savingNode) && !savedTableIDs.contains(reference.getBufferedTableId())) {
                     int index = referenceDirs.size();
                     String dirName = "r" + index;
                     File subDir = new File(dir, dirName);
@@ -574,7 +601,7 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
                         throw new IOException("Unable to write directory " + subDir.getAbsolutePath());
                     }
                     referenceDirs.add(dirName);
-                    reference.save(subDir, savedTableIDs, exec);
+                    reference.save(subDir, savingNode, savedTableIDs, exec);
                 }
             }
             s.addStringArray(CFG_TABLE_REFERENCE,
@@ -594,6 +621,14 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
         }
     }
 
+    /** Whether a referenced table is written along with a table of the argument node (rather than only its ID).
+     * These are the tables created by the node itself and the tables of previous loop iterations that the node (a
+     * loop end) references, which are no longer part of the output of the loop body node that created them. */
+    private static boolean isSavedWith(final BufferedDataTable reference, final Node savingNode) {
+        return reference.getOwner() == savingNode
+            || (savingNode != null && savingNode.isSavedWithLoopEnd(reference));
+    }
+
     /**
      * Utility method that is used when the node saves its state. It saves
      * it to a file spec.xml.
@@ -817,6 +852,65 @@ void setOwnerRecursively(final Node owner) {
         }
     }
 
+    /** Collects this table and all referenced tables that were created by nodes in the body of the given loop,
+     * which the argument node (the loop end) is about to reference. Tables created outside the loop are not
+     * collected, they are valid at least as long as the loop.
+     * @param loopEnd The loop end node.
+     * @param loopContext The context of the loop, whose body nodes created the tables.
+     * @param result The collection to add the tables of the loop body to.
+     * @return <code>false</code> if the table can't be referenced beyond the current iteration because it (or one of
+     *         its references) was created by the loop start node or has no owner. */
+    synchronized boolean collectLoopBodyTables(final Node loopEnd, final FlowLoopContext loopContext,
+        final Collection<BufferedDataTable> result) {
+        return collectLoopBodyTablesRecursively(loopEnd, loopContext, result);
+    }
+
+    /** @return The loop end node whose output references this table, which was created by a node in the loop's
+     * body, or <code>null</code> if not referenced by a loop end. */
+    synchronized Node getReferencingLoopEnd() {
+        return m_referencingLoopEnd;
+    }
+
+    /** @param loopEnd The loop end node whose output references this table or <code>null</code> if the reference is
+     * released. */
+    synchronized void setReferencingLoopEnd(final Node loopEnd) {
+        m_referencingLoopEnd = loopEnd;
+    }
+
+    private boolean collectLoopBodyTablesRecursively(final Node loopEnd, final FlowLoopContext loopContext,
+        final Collection<BufferedDataTable> result) {
+        Node owner = getOwner();
+        if (owner == loopEnd) {
+            return true;
+        }
+        if (owner == null) {
+            return false;
+        }
+        if (containsLoopContext(owner.getFlowObjectStack(), loopContext)) {
+            result.add(this);
+            for (BufferedDataTable reference : m_delegate.getReferenceTables()) {
+                if (!reference.collectLoopBodyTablesRecursively(loopEnd, loopContext, result)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // created outside the loop body - fine unless it's the loop start (it clears its output in each iteration)
+        return !containsLoopContext(owner.getOutgoingFlowObjectStack(), loopContext);
+    }
+
+    private static boolean containsLoopContext(final FlowObjectStack stack, final FlowLoopContext loopContext) {
+        if (stack == null) {
+            return false;
+        }
+        for (Object o : stack) { // flow objects aren't API
+            if (loopContext.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /** Finds all tables owned by the argument node, which are directly
      * reachable (including this table).
      * @param dataOwner The owner.
@@ -887,6 +981,84 @@ void ensureOpen() {
         m_delegate.ensureOpen();
     }
 
+    /** Writes the data file of this table (and of the references written along with it) into a directory that has
+     * the same layout as the one {@link #save(File, Set, ExecutionMonitor)} uses. Once moved into the node
+     * directory, the subsequent save re-uses the files; this method only allows to write the (expensive) data files
+     * of different nodes concurrently and outside the workflow lock.
+     * @param dir The directory to write to.
+     * @param savedTableIDs Ids of tables that were previously written, same semantics as in
+     *            {@link #save(File, Set, ExecutionMonitor)}.
+     * @param writtenFiles To add the written files and the tables they belong to.
+     * @param exec The progress monitor for cancellation.
+     * @throws IOException If writing fails.
+     * @throws CanceledExecutionException If canceled.
+     */
+    void saveDataFile(final File dir, final Set<Integer> savedTableIDs, final Map<File, ContainerTable> writtenFiles,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        saveDataFile(dir, getOwner(), savedTableIDs, writtenFiles, exec);
+    }
+
+    private void saveDataFile(final File dir, final Node savingNode, final Set<Integer> savedTableIDs,
+        final Map<File, ContainerTable> writtenFiles, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        if (!savedTableIDs.add(getBufferedTableId())) {
+            return;
+        }
+        if (!dir.mkdirs() && !dir.isDirectory()) {
+            throw new IOException("Could not create directory " + dir.getAbsolutePath());
+        }
+        if (!(m_delegate instanceof ContainerTable)) {
+            // same traversal (and directory names) as in save
+            int index = 0;
+            for (BufferedDataTable reference : m_delegate.getReferenceTables()) {
+                if (isSavedWith(reference, savingNode) && !savedTableIDs.contains(reference.getBufferedTableId())) {
+                    reference.saveDataFile(new File(dir, "r" + index), savingNode, savedTableIDs, writtenFiles,
+                        exec);
+                    index++;
+                }
+            }
+        }
+        ContainerTable containerTable = getDataFileTable();
+        if (containerTable != null) {
+            // settings are not written by container tables
+            File dataFile = new File(dir, TABLE_FILE);
+            containerTable.saveToFile(dataFile, new NodeSettings(CFG_TABLE_META), exec);
+            writtenFiles.put(dataFile, containerTable);
+        }
+    }
+
+    /** @return the table whose content is written to the data file of this table, null if there is none or if it's
+     * not a container table */
+    private ContainerTable getDataFileTable() {
+        if (m_delegate instanceof ContainerTable) {
+            return (ContainerTable)m_delegate;
+        } else if (m_delegate instanceof RearrangeColumnsTable) {
+            return ((RearrangeColumnsTable)m_delegate).getAppendTable();
+        }
+        return null;
+    }
+
+    /** Adds the (still unchanged) zip files this table and the references written along with it were last saved to
+     * or loaded from. These files are re-used when the table is saved into the same location again.
+     * @param files to add to
+     * @see ContainerTable#getSavedFile() */
+    void collectSavedFiles(final Set<File> files) {
+        collectSavedFiles(getOwner(), files);
+    }
+
+    private void collectSavedFiles(final Node savingNode, final Set<File> files) {
+        ContainerTable containerTable = getDataFileTable();
+        File savedFile = containerTable == null ? null : containerTable.getSavedFile();
+        if (savedFile != null) {
+            files.add(savedFile);
+        }
+        for (BufferedDataTable reference : m_delegate.getReferenceTables()) {
+            if (isSavedWith(reference, savingNode)) {
+                reference.collectSavedFiles(savingNode, files);
+            }
+        }
+    }
+
     /**
      * Internally used interface. You won't have any benefit by implementing
      * this interface! It's used for selected classes in the KNIME core.
@@ -940,7 +1112,8 @@ void saveToFile(final File f, final NodeSettingsWO settings,
          */
         @Override
         default RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
-            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), getDataTableSpec());
+            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(),
+                p -> new FilterRowIterator(iterator(), p), getDataTableSpec());
         }
 
         /** Reference to the underlying tables, if any. A reference
@@ -48,7 +48,9 @@
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 
@@ -73,6 +75,8 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.util.KNIMEJob;
+import org.knime.core.node.workflow.FlowLoopContext;
+import org.knime.core.node.workflow.FlowObjectStack;
 import org.knime.core.node.workflow.LoopEndNode;
 import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
 import org.knime.core.node.workflow.virtual.subnode.VirtualSubNodeOutputNodeModel;
@@ -615,6 +619,41 @@ public void clearTable(final BufferedDataTable table) {
         m_localTableRepository.remove(id);
     }
 
+    /**
+     * Registers that the result of this (loop end) node references a table that was created in the body of the loop
+     * closed by this node. The table and the tables it references keep their owners but are no longer cleared when
+     * the loop body is reset for the next iteration; they are cleared when this node (or the node that created them)
+     * is reset. This allows loop end nodes to collect the results of the individual iterations by reference rather
+     * than copying all rows, similar to an {@link ExtensionTable} that references its input tables.
+     *
+     * <p>
+     * Tables that were created outside the loop are not affected, they are valid at least as long as the loop. The
+     * table is not registered if it (or one of its references) was created by the loop start node, which disposes
+     * its output whenever it emits the next iteration.
+     *
+     * @param table The table to reference.
+     * @return <code>true</code> if the table can still be used after the loop body has been reset,
+     *         <code>false</code> if the caller needs to copy its content.
+     * @throws IllegalStateException If this node is not a loop end node.
+     * @since 3.7
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public boolean referenceLoopBodyTable(final BufferedDataTable table) {
+        CheckUtils.checkState(m_node.isModelCompatibleTo(LoopEndNode.class),
+            "Only loop end nodes can reference tables of the loop body");
+        FlowObjectStack stack = m_node.getFlowObjectStack();
+        FlowLoopContext loopContext = stack == null ? null : stack.peek(FlowLoopContext.class);
+        if (loopContext == null) {
+            return false;
+        }
+        Set<BufferedDataTable> loopBodyTables = new LinkedHashSet<BufferedDataTable>();
+        if (!table.collectLoopBodyTables(m_node, loopContext, loopBodyTables)) {
+            return false;
+        }
+        m_node.addLoopBodyTableReferences(loopBodyTables);
+        return true;
+    }
+
     /**
      * Creates a new execution context with a different max progress value.
      * This method is the counterpart to {@link #createSubProgress(double)}
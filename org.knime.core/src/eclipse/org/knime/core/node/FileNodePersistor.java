@@ -51,9 +51,11 @@
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -63,6 +65,7 @@
 import java.util.stream.IntStream;
 
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.container.storage.TableStoreFormatUnknownException;
 import org.knime.core.data.filestore.FileStoreKey;
 import org.knime.core.data.filestore.FileStorePortObject;
@@ -1196,11 +1199,14 @@ public static void save(final NativeNodeContainer nnc, final NodeSettingsWO sett
          * table is returned in multiple outputs or if an output table is used
          * as "internal" held table. See bug 2117. */
         final Set<Integer> savedTableIDs = new HashSet<Integer>();
+        // table files of the previous save that are re-used, determined once before the tables are saved
+        final Set<Path> reusedTableFiles = node.getSavedTableFiles().stream()
+            .map(f -> f.toPath().toAbsolutePath().normalize()).collect(Collectors.toSet());
         execMon.setMessage("Ports");
-        savePorts(node, nodeDirRef, settings, savedTableIDs, portMon, isSaveData);
+        savePorts(node, nodeDirRef, settings, savedTableIDs, reusedTableFiles, portMon, isSaveData);
         portMon.setProgress(1.0);
         execMon.setMessage("Internal Tables");
-        saveInternalHeldTables(node, nodeDirRef, settings, savedTableIDs, internalMon, isSaveData);
+        saveInternalHeldTables(node, nodeDirRef, settings, savedTableIDs, reusedTableFiles, internalMon, isSaveData);
         intTblsMon.setProgress(1.0);
         // save them last as now all tables have been saved (all cells ran through persistor) and all
         // FileStore#getFile() have been called and saved
@@ -1210,9 +1216,140 @@ public static void save(final NativeNodeContainer nnc, final NodeSettingsWO sett
         execMon.setProgress(1.0);
     }
 
+    /**
+     * The tables of a node, taken while the workflow is locked, whose data files are written into a staging
+     * directory without holding the workflow lock. Before the node is saved (again under the lock), the files are
+     * moved into the node directory, provided that the node still has the same tables; the node save then re-uses
+     * them. Neither the node nor any settings are changed, which allows to write the tables of different nodes
+     * concurrently.
+     *
+     * @noreference This class is not intended to be referenced by clients.
+     * @since 3.7
+     */
+    public static final class TableDataSnapshot {
+
+        private final Node m_node;
+
+        /** The output objects of the node at the time the snapshot was taken (index 0 is the flow variable port). */
+        private final PortObject[] m_outputObjects;
+
+        /** The internally held objects of the node at the time the snapshot was taken, may be null. */
+        private final PortObject[] m_internalObjects;
+
+        /** The data files written into the staging directory and the tables they belong to. */
+        private final Map<File, ContainerTable> m_writtenFiles = new LinkedHashMap<File, ContainerTable>();
+
+        private File m_stagingDir;
+
+        private TableDataSnapshot(final Node node) {
+            m_node = node;
+            m_outputObjects = new PortObject[node.getNrOutPorts()];
+            for (int i = 0; i < m_outputObjects.length; i++) {
+                m_outputObjects[i] = node.getOutputObject(i);
+            }
+            PortObject[] internalObjects = node.getInternalHeldPortObjects();
+            m_internalObjects = internalObjects == null ? null : internalObjects.clone();
+        }
+
+        /**
+         * Takes the snapshot of the node's output and internally held tables. Must be called while the workflow is
+         * locked.
+         *
+         * @param nnc The (executed) node container.
+         * @return The snapshot or null if the node has no tables.
+         */
+        public static TableDataSnapshot create(final NativeNodeContainer nnc) {
+            TableDataSnapshot snapshot = new TableDataSnapshot(nnc.getNode());
+            boolean hasTables = Arrays.stream(snapshot.m_outputObjects).anyMatch(o -> o instanceof BufferedDataTable)
+                || (snapshot.m_internalObjects != null
+                    && Arrays.stream(snapshot.m_internalObjects).anyMatch(o -> o instanceof BufferedDataTable));
+            return hasTables ? snapshot : null;
+        }
+
+        /**
+         * Writes the data files of the tables into the staging directory, which uses the same layout as the node
+         * directory. Doesn't require the workflow lock.
+         *
+         * @param stagingDir The (empty) directory to write to.
+         * @param exec For cancellation.
+         * @throws IOException If writing fails.
+         * @throws CanceledExecutionException If canceled.
+         */
+        public void write(final File stagingDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+            m_stagingDir = stagingDir;
+            // same order as in save: output tables first
+            final Set<Integer> savedTableIDs = new HashSet<Integer>();
+            for (int i = 1; i < m_outputObjects.length; i++) {
+                if (m_outputObjects[i] instanceof BufferedDataTable) {
+                    exec.checkCanceled();
+                    ((BufferedDataTable)m_outputObjects[i]).saveDataFile(
+                        new File(stagingDir, PORT_FOLDER_PREFIX + i), savedTableIDs, m_writtenFiles, exec);
+                }
+            }
+            if (m_internalObjects != null) {
+                File internalDir = new File(stagingDir, INTERNAL_TABLE_FOLDER_PREFIX);
+                for (int i = 0; i < m_internalObjects.length; i++) {
+                    if (m_internalObjects[i] instanceof BufferedDataTable) {
+                        exec.checkCanceled();
+                        ((BufferedDataTable)m_internalObjects[i]).saveDataFile(
+                            new File(internalDir, "object_" + i), savedTableIDs, m_writtenFiles, exec);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Moves the written data files into the node directory, if the node still has the tables of the snapshot
+         * (it may have been reset or re-executed since). Must be called while the workflow is locked, right before
+         * the node is saved.
+         *
+         * @param nodeDir The directory the node is saved to.
+         * @return Whether the files were moved. If not, the node save writes the tables.
+         * @throws IOException If moving fails.
+         */
+        public boolean commit(final File nodeDir) throws IOException {
+            if (m_stagingDir == null || !isUnchanged()) {
+                return false;
+            }
+            final Path stagingPath = m_stagingDir.toPath();
+            boolean allMoved = true;
+            for (Map.Entry<File, ContainerTable> e : m_writtenFiles.entrySet()) {
+                File target = nodeDir.toPath().resolve(stagingPath.relativize(e.getKey().toPath())).toFile();
+                allMoved &= e.getValue().moveSavedFile(e.getKey(), target);
+            }
+            return allMoved;
+        }
+
+        /** @return whether the node still has the output and internally held objects of the snapshot */
+        private boolean isUnchanged() {
+            if (m_node.getNrOutPorts() != m_outputObjects.length) {
+                return false;
+            }
+            for (int i = 0; i < m_outputObjects.length; i++) {
+                if (m_node.getOutputObject(i) != m_outputObjects[i]) {
+                    return false;
+                }
+            }
+            PortObject[] internalObjects = m_node.getInternalHeldPortObjects();
+            if (internalObjects == null || m_internalObjects == null) {
+                return internalObjects == m_internalObjects;
+            }
+            if (internalObjects.length != m_internalObjects.length) {
+                return false;
+            }
+            for (int i = 0; i < internalObjects.length; i++) {
+                if (internalObjects[i] != m_internalObjects[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static void savePorts(final Node node, final ReferencedFile nodeDirRef, final NodeSettingsWO settings,
-        final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final boolean saveData) throws IOException,
-        CanceledExecutionException {
+        final Set<Integer> savedTableIDs, final Set<Path> reusedTableFiles, final ExecutionMonitor exec,
+        final boolean saveData) throws IOException, CanceledExecutionException {
         if (node.getNrOutPorts() == 0) {
             return;
         }
@@ -1232,7 +1369,7 @@ private static void savePorts(final Node node, final ReferencedFile nodeDirRef,
                 ReferencedFile portDirRef = new ReferencedFile(nodeDirRef, portDirName);
                 File portDir = portDirRef.getFile();
                 subProgress.setMessage("Cleaning directory " + portDir.getAbsolutePath());
-                FileUtil.deleteRecursively(portDir);
+                deleteUnlessReused(reusedTableFiles, portDir);
                 if (!portDir.mkdir() && !portDir.isDirectory()) {
                     throw new IOException("Cannot create port directory " + portDir.getAbsolutePath() + " ("
                         + "exists: " + portDir.exists() + ", isDir: " + portDir.isDirectory() + ", "
@@ -1253,8 +1390,8 @@ private static void savePorts(final Node node, final ReferencedFile nodeDirRef,
     }
 
     private static void saveInternalHeldTables(final Node node, final ReferencedFile nodeDirRef,
-        final NodeSettingsWO settings, final Set<Integer> savedTableIDs, final ExecutionMonitor exec,
-        final boolean saveData) throws IOException, CanceledExecutionException {
+        final NodeSettingsWO settings, final Set<Integer> savedTableIDs, final Set<Path> reusedTableFiles,
+        final ExecutionMonitor exec, final boolean saveData) throws IOException, CanceledExecutionException {
         PortObject[] internalObjects = node.getInternalHeldPortObjects();
         if (internalObjects == null || !saveData) {
             return;
@@ -1265,7 +1402,7 @@ private static void saveInternalHeldTables(final Node node, final ReferencedFile
         ReferencedFile subDirFile = new ReferencedFile(nodeDirRef, subDirName);
         subSettings.addString("location", subDirName);
         NodeSettingsWO portSettings = subSettings.addNodeSettings("content");
-        FileUtil.deleteRecursively(subDirFile.getFile());
+        deleteUnlessReused(reusedTableFiles, subDirFile.getFile());
         subDirFile.getFile().mkdirs();
 
         exec.setMessage("Saving internally held objects");
@@ -1301,6 +1438,18 @@ private static void saveInternalHeldTables(final Node node, final ReferencedFile
         }
     }
 
+    /** Deletes the directory unless it contains table files that are re-used when saving the node into the same
+     * location (see {@link Node#getSavedTableFiles()}). Such directories are cleaned up along with the node
+     * directory before the node is saved.
+     * @param reusedTableFiles the normalized absolute paths of the re-used table files
+     * @param dir the directory to delete */
+    private static void deleteUnlessReused(final Set<Path> reusedTableFiles, final File dir) {
+        Path path = dir.toPath().toAbsolutePath().normalize();
+        if (reusedTableFiles.stream().noneMatch(f -> f.startsWith(path))) {
+            FileUtil.deleteRecursively(dir);
+        }
+    }
+
     /** Check if argument is a directory and can be read, otherwise throws exception. */
     private static File readDirectory(final File dir) throws IOException {
         if (!(dir.isDirectory() && dir.canRead())) {
@@ -263,6 +263,17 @@ public final class KNIMEConstants {
      * @since 2.8 */
     public static final String PROPERTY_DATABASE_CONCURRENCY = "knime.database.enable.concurrency";
 
+    /** Java property used to set the maximum number of connections that read the partitions of a partitioned
+     * database query concurrently, defaults to 4.
+     * @since 3.7 */
+    public static final String PROPERTY_DATABASE_PARTITION_READ_CONNECTIONS =
+        "knime.database.partition_read_connections";
+
+    /** Java property used to set the maximum size in MB of the local cache for database query results used by the
+     * database reader nodes, defaults to 1024. A value of 0 disables the cache.
+     * @since 3.7 */
+    public static final String PROPERTY_DATABASE_RESULT_CACHE_SIZE = "knime.database.result_cache_size";
+
     /** @deprecated Use #PROPERTY_DATABASE_FETCHSIZE instead. */
     @Deprecated
     // obsolete as of v2.3
@@ -313,6 +324,83 @@ public final class KNIMEConstants {
     * @since 3.0 */
    public static final String PROPERTY_HIGH_DPI_SUPPORT = "knime.highdpi.support";
 
+    /**
+     * Java property to specify the number of threads that write the table data of different nodes concurrently
+     * when a workflow is saved. A value of 1 disables concurrent writing. Defaults to the number of available
+     * processors but at most 4 (as the writing is usually bound by the disk).
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_WORKFLOW_SAVE_THREADS = "knime.workflow.save.threads";
+
+    /**
+     * Java property to enable asynchronous logging. If set to <code>true</code> the messages for the KNIME log file
+     * and the workflow log files are written in batches by a background thread, the logging threads only hand the
+     * messages over.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_ASYNC_LOGGING = "knime.logging.async";
+
+    /**
+     * Java property to enable the deduplication of file stores. If set to <code>true</code>, file stores that are
+     * copied between nodes of a workflow are stored once per distinct content and shared via hard links.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_DEDUPLICATE_FILE_STORES = "knime.filestore.deduplicate";
+
+    /**
+     * Java property to specify the memory budget of the cache for blob cells that are read from disk, in bytes or
+     * with a suffix "k", "m" or "g". A value of 0 disables the cache. Defaults to 1/16 of the heap, at most 128MB.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_BLOB_CACHE_SIZE = "knime.blobcache.size";
+
+    /**
+     * Java property to keep the blob cache outside of the Java heap. If set to <code>true</code> the serialized
+     * blobs are cached in direct memory and deserialized on each access.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_BLOB_CACHE_OFF_HEAP = "knime.blobcache.offheap";
+
+    /**
+     * Java property to specify the size of the on-disk cache for compiled code snippets in MB. The cache is kept in
+     * the KNIME home directory and shared by all workflows. A value of 0 disables the cache, the default is 256MB.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_CLASS_FILE_CACHE_SIZE = "knime.classfilecache.size";
+
+    /**
+     * Java property to disable the collection of per-block statistics (minimum, maximum, missing values) of tables.
+     * If set to <code>false</code> tables are written without them and can't be filtered by skipping blocks.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_TABLE_BLOCK_STATISTICS = "knime.table.blockstatistics";
+
+    /**
+     * Java property to enable the dictionary encoding of string cells in table files. If set to <code>true</code>
+     * repeated values are written as references into a dictionary and share a single cell instance when read back,
+     * otherwise each string cell is written with its full content. Tables written with the dictionary can only be
+     * read by versions that know this property.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_TABLE_STRING_DICTIONARY = "knime.table.stringdictionary";
+
+    /**
+     * Java property to specify the heap budget shared by all tables that keep their rows in memory, in bytes or with a
+     * suffix "k", "m" or "g". When the (estimated) size of the rows held in memory exceeds the budget, tables are
+     * written to disc, least recently used tables first. Defaults to 1/4 of the heap.
+     *
+     * @since 3.7
+     */
+    public static final String PROPERTY_TABLE_MEMORY_BUDGET = "knime.table.memorybudget";
+
     /**
      * The minimum refresh interval in ms, e.g. to refresh the node progress or the state of the remote job view.
      *
@@ -55,6 +55,7 @@
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -229,6 +230,14 @@ static class Input {
      */
     private final Set<ContainerTable> m_localTempTables;
 
+    /** Tables of the loop body (owned by other nodes) that the result of this (loop end) node references, see
+     * {@link ExecutionContext#referenceLoopBodyTable(BufferedDataTable)}. Released when this node is reset. */
+    private final Set<BufferedDataTable> m_loopBodyTableReferences = new LinkedHashSet<BufferedDataTable>();
+
+    /** Tables created by this (loop body) node in previous iterations that are still referenced by the loop end.
+     * They are no longer part of the output but are only cleared when this node or the loop end is reset. */
+    private final Set<BufferedDataTable> m_retainedLoopBodyTables = new LinkedHashSet<BufferedDataTable>();
+
     /** File store handler that is non null during and after execution.
      * Set null on reset. */
     private IFileStoreHandler m_fileStoreHandler;
@@ -1556,6 +1565,14 @@ public void cleanOutPorts(final boolean isLoopRestart) {
             m_outputs[i].summary = null;
         }
 
+        if (!isLoopRestart) {
+            releaseLoopBodyTableReferences();
+            synchronized (m_retainedLoopBodyTables) {
+                disposableTables.addAll(m_retainedLoopBodyTables);
+                m_retainedLoopBodyTables.clear();
+            }
+        }
+
         if (m_internalHeldPortObjects != null) {
             Set<BufferedDataTable> internalTableSet =
                 collectTableAndReferences(m_internalHeldPortObjects);
@@ -1572,7 +1589,14 @@ public void cleanOutPorts(final boolean isLoopRestart) {
             }
         }
         for (BufferedDataTable disposable : disposableTables) {
-            disposable.clearSingle(this);
+            if (isLoopRestart && disposable.getReferencingLoopEnd() != null) {
+                // part of the loop end's result, keep it until the loop end is reset
+                synchronized (m_retainedLoopBodyTables) {
+                    m_retainedLoopBodyTables.add(disposable);
+                }
+            } else {
+                disposable.clearSingle(this);
+            }
         }
         // clear temporary tables that have been created during execute
         for (ContainerTable t : m_localTempTables) {
@@ -1596,6 +1620,59 @@ private Set<BufferedDataTable> collectTableAndReferences(
         return result;
     }
 
+    /** Remembers tables of the loop body that the result of this (loop end) node references. The nodes that
+     * created them keep them beyond the current iteration until this node is reset (also if the loop is canceled
+     * and the tables never end up in the output).
+     * @param tables The tables, owned by nodes in the loop body. */
+    void addLoopBodyTableReferences(final Collection<BufferedDataTable> tables) {
+        synchronized (m_loopBodyTableReferences) {
+            for (BufferedDataTable t : tables) {
+                t.setReferencingLoopEnd(this);
+                m_loopBodyTableReferences.add(t);
+            }
+        }
+    }
+
+    /** Releases the tables of the loop body referenced by this (loop end) node. Tables that are no longer part of
+     * the output of the node that created them are cleared. */
+    private void releaseLoopBodyTableReferences() {
+        synchronized (m_loopBodyTableReferences) {
+            for (BufferedDataTable t : m_loopBodyTableReferences) {
+                t.setReferencingLoopEnd(null);
+                t.getOwner().clearRetainedLoopBodyTable(t);
+            }
+            m_loopBodyTableReferences.clear();
+        }
+    }
+
+    /** Clears a table created by this node in a previous loop iteration once the loop end releases it. Does nothing
+     * if the table is (still) part of the output.
+     * @param table The released table. */
+    private void clearRetainedLoopBodyTable(final BufferedDataTable table) {
+        synchronized (m_retainedLoopBodyTables) {
+            if (m_retainedLoopBodyTables.remove(table)) {
+                table.clearSingle(this);
+            }
+        }
+    }
+
+    /** Whether a table of the loop body is saved along with the result of this (loop end) node. This is the case
+     * for the referenced tables of previous iterations, which the loop body nodes don't save as they are no longer
+     * part of their output. After loading the workflow these tables are owned by the loop end.
+     * @param table A table referenced by a table of this node.
+     * @return That property. */
+    boolean isSavedWithLoopEnd(final BufferedDataTable table) {
+        synchronized (m_loopBodyTableReferences) {
+            if (!m_loopBodyTableReferences.contains(table)) {
+                return false;
+            }
+        }
+        Node owner = table.getOwner();
+        synchronized (owner.m_retainedLoopBodyTables) {
+            return owner.m_retainedLoopBodyTables.contains(table);
+        }
+    }
+
     /**
      * Adds the argument set of tables to the set of temporary tables in this
      * node. Called after execute.
@@ -2378,6 +2455,29 @@ public void ensureOutputDataIsRead() {
         }
     }
 
+    /** Get the files the output and internally held tables of this node were last saved to (or loaded from) and
+     * that are still unchanged. They don't need to be written again if the node is saved into the same directory.
+     * @return a new set of such files, possibly empty
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.7
+     */
+    public Set<File> getSavedTableFiles() {
+        Set<File> result = new HashSet<File>();
+        for (Output p : m_outputs) {
+            if (p.object instanceof BufferedDataTable) {
+                ((BufferedDataTable)p.object).collectSavedFiles(result);
+            }
+        }
+        if (m_internalHeldPortObjects != null) {
+            for (PortObject o : m_internalHeldPortObjects) {
+                if (o instanceof BufferedDataTable) {
+                    ((BufferedDataTable)o).collectSavedFiles(result);
+                }
+            }
+        }
+        return result;
+    }
+
     /** Exposes {@link BufferedDataTable#ensureOpen()} as public method. This
      * method has been added here in order to keep the scope of the above method
      * at a minimum.
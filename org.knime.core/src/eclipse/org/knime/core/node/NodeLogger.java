@@ -59,9 +59,11 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 import org.apache.log4j.Appender;
-import org.apache.log4j.FileAppender;
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Category;
 import org.apache.log4j.Layout;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -70,6 +72,7 @@
 import org.apache.log4j.WriterAppender;
 import org.apache.log4j.helpers.LogLog;
 import org.apache.log4j.spi.Filter;
+import org.apache.log4j.spi.HierarchyEventListener;
 import org.apache.log4j.spi.LoggerRepository;
 import org.apache.log4j.spi.LoggingEvent;
 import org.apache.log4j.spi.RendererSupport;
@@ -86,6 +89,7 @@
 import org.knime.core.node.workflow.WorkflowEvent.Type;
 import org.knime.core.node.workflow.WorkflowListener;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.AsyncLogAppender;
 import org.knime.core.util.EclipseUtil;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.LogfileAppender;
@@ -272,6 +276,18 @@ public void workflowChanged(final WorkflowEvent event) {
     /** Default log file appender. */
     private static final Appender LOG_FILE_APPENDER;
 
+    /** Whether the log file and the workflow log files are written asynchronously. */
+    private static final boolean ASYNC_LOGGING = Boolean.getBoolean(KNIMEConstants.PROPERTY_ASYNC_LOGGING);
+
+    /**
+     * The lowest level that passes the level range of at least one appender (except the workflow directory appenders
+     * which use the filter of the log file appender), see {@link #updateMinimumAppenderLevel()}.
+     */
+    private static volatile Level MIN_APPENDER_LEVEL = Level.ALL;
+
+    /** Set if an appender was added, the minimum level is then updated with the next check. */
+    private static volatile boolean MIN_APPENDER_LEVEL_OUTDATED = false;
+
     private static boolean LOG_IN_WF_DIR = false;
 
     private static boolean LOG_GLOBAL_IN_WF_DIR = false;
@@ -300,6 +316,11 @@ public void workflowChanged(final WorkflowEvent event) {
                 LOG_FILE_APPENDER = a;
                 WF_DIR_LOG_FILE_LAYOUT = a.getLayout();
                 checkLayoutFlags(WF_DIR_LOG_FILE_LAYOUT);
+                if (ASYNC_LOGGING && (a instanceof LogfileAppender)) {
+                    // the wrapper has the same name and filters, hence setAppenderLevelRange still works
+                    root.removeAppender(a);
+                    root.addAppender(new AsyncLogAppender(a));
+                }
             } else {
                 root.warn("Could not find '" + LOGFILE_APPENDER + "' appender");
                 LOG_FILE_APPENDER = new NullAppender();
@@ -307,6 +328,22 @@ public void workflowChanged(final WorkflowEvent event) {
         } else {
             LOG_FILE_APPENDER = new NullAppender();
         }
+        Logger.getRootLogger().getLoggerRepository().addHierarchyEventListener(new HierarchyEventListener() {
+            @Override
+            public void addAppenderEvent(final Category cat, final Appender appender) {
+                // workflow directory appenders are added on (almost) every log call, they use the log file filter;
+                // don't update here as the listener is called while holding the lock of the logger
+                if (!WF_APPENDER.containsKey(appender.getName())) {
+                    MIN_APPENDER_LEVEL_OUTDATED = true;
+                }
+            }
+
+            @Override
+            public void removeAppenderEvent(final Category cat, final Appender appender) {
+                MIN_APPENDER_LEVEL_OUTDATED = true;
+            }
+        });
+        updateMinimumAppenderLevel();
         startMessage();
     }
 
@@ -584,6 +621,121 @@ public void debugWithoutContext(final Object o) {
         m_logger.debug(o);
     }
 
+    /**
+     * Write debugging message into this logger. The message is only created if debug messages are written by any of
+     * the appenders, which makes it cheap to log messages that are expensive to create.
+     *
+     * @param messageSupplier supplies the message to print
+     * @since 3.7
+     */
+    public void debug(final Supplier<String> messageSupplier) {
+        if (isLogged(Level.DEBUG)) {
+            debug(getMessage(messageSupplier));
+        }
+    }
+
+    /**
+     * Write info message into this logger. The message is only created if info messages are written by any of the
+     * appenders.
+     *
+     * @param messageSupplier supplies the message to print
+     * @since 3.7
+     */
+    public void info(final Supplier<String> messageSupplier) {
+        if (isLogged(Level.INFO)) {
+            info(getMessage(messageSupplier));
+        }
+    }
+
+    /**
+     * Write warning message into this logger. The message is only created if warning messages are written by any of
+     * the appenders.
+     *
+     * @param messageSupplier supplies the message to print
+     * @since 3.7
+     */
+    public void warn(final Supplier<String> messageSupplier) {
+        if (isLogged(Level.WARN)) {
+            warn(getMessage(messageSupplier));
+        }
+    }
+
+    /**
+     * Write error message into this logger. The message is only created if error messages are written by any of the
+     * appenders.
+     *
+     * @param messageSupplier supplies the message to print
+     * @since 3.7
+     */
+    public void error(final Supplier<String> messageSupplier) {
+        if (isLogged(Level.ERROR)) {
+            error(getMessage(messageSupplier));
+        }
+    }
+
+    /** Evaluates the supplier, <code>debug(null)</code> resolves to the supplier methods and logs "null". */
+    private static Object getMessage(final Supplier<String> messageSupplier) {
+        return messageSupplier == null ? null : messageSupplier.get();
+    }
+
+    /**
+     * @param level the level of a message
+     * @return whether a message of the given level passes the level of this logger and the level range of at least
+     *         one appender
+     */
+    private boolean isLogged(final Level level) {
+        if (MIN_APPENDER_LEVEL_OUTDATED) {
+            updateMinimumAppenderLevel();
+        }
+        return level.isGreaterOrEqual(MIN_APPENDER_LEVEL) && m_logger.isEnabledFor(level);
+    }
+
+    /**
+     * Determines the lowest level that is written by any appender. Appenders that don't have a
+     * {@link LevelRangeFilter} as first filter are assumed to write all levels.
+     */
+    private static void updateMinimumAppenderLevel() {
+        MIN_APPENDER_LEVEL_OUTDATED = false;
+        final Logger root = Logger.getRootLogger();
+        Level min = getMinimumLevel(root, Level.OFF);
+        @SuppressWarnings("unchecked")
+        final Enumeration<Logger> loggers = root.getLoggerRepository().getCurrentLoggers();
+        while (loggers.hasMoreElements()) {
+            min = getMinimumLevel(loggers.nextElement(), min);
+        }
+        MIN_APPENDER_LEVEL = min;
+    }
+
+    private static Level getMinimumLevel(final Logger logger, final Level currentMin) {
+        Level min = currentMin;
+        @SuppressWarnings("unchecked")
+        final Enumeration<Appender> appenders = logger.getAllAppenders();
+        while (appenders.hasMoreElements()) {
+            Appender a = appenders.nextElement();
+            if ((a instanceof NullAppender) || WF_APPENDER.containsKey(a.getName())) {
+                continue;
+            }
+            if (a instanceof AsyncLogAppender) {
+                a = ((AsyncLogAppender)a).getDelegate();
+            }
+            Level appenderMin = Level.ALL;
+            if ((a instanceof AppenderSkeleton) && (((AppenderSkeleton)a).getThreshold() != null)) {
+                appenderMin = (Level)((AppenderSkeleton)a).getThreshold();
+            }
+            final Filter filter = a.getFilter();
+            if (filter instanceof LevelRangeFilter) {
+                final Level filterMin = ((LevelRangeFilter)filter).getLevelMin();
+                if ((filterMin != null) && filterMin.isGreaterOrEqual(appenderMin)) {
+                    appenderMin = filterMin;
+                }
+            }
+            if (!appenderMin.isGreaterOrEqual(min)) {
+                min = appenderMin;
+            }
+        }
+        return min;
+    }
+
 
     /**
      * @param layout checks if any of the KNIME specific flags e.g. node id is set in the layout pattern and ensures
@@ -693,7 +845,7 @@ private void addWorkflowDirAppender(final File workflowDir) {
                     //use the KNIME specific LogfielAppender that moves larger log files into a separate zip file
                     //and that implements equals and hash code to ensure that two LogfileAppender
                     //with the same name are considered equal to prevent duplicate appender registration
-                    final FileAppender fileAppender = new LogfileAppender(workflowDir);
+                    final LogfileAppender fileAppender = new LogfileAppender(workflowDir);
                     fileAppender.setLayout(WF_DIR_LOG_FILE_LAYOUT);
                     fileAppender.setName(workflowDirPath);
                     final Filter mainFilter = LOG_FILE_APPENDER.getFilter();
@@ -718,8 +870,10 @@ public int decide(final LoggingEvent event) {
                     });
                     //we have to call this function to activate the writer!!!
                     fileAppender.activateOptions();
-                    logger.addAppender(fileAppender);
-                    WF_APPENDER.put(workflowDirPath, fileAppender);
+                    wfAppender = ASYNC_LOGGING ? new AsyncLogAppender(fileAppender) : fileAppender;
+                    //register before adding it to the logger, see the hierarchy listener in the static initializer
+                    WF_APPENDER.put(workflowDirPath, wfAppender);
+                    logger.addAppender(wfAppender);
                     if (m_listener == null) {
                         m_listener = new MyWorkflowListener();
                         WorkflowManager.ROOT.addListener(m_listener);
@@ -912,7 +1066,7 @@ public void fatal(final Object o, final Throwable t) {
      * @since 2.10
      */
     public void warnWithFormat(final String format, final Object... args) {
-        if (isEnabledFor(LEVEL.WARN)) {
+        if (isLogged(Level.WARN)) {
             this.warn(String.format(format, args));
         }
     }
@@ -927,7 +1081,7 @@ public void warnWithFormat(final String format, final Object... args) {
      * @since 2.10
      */
     public void debugWithFormat(final String format, final Object... args) {
-        if (isEnabledFor(LEVEL.DEBUG)) {
+        if (isLogged(Level.DEBUG)) {
             this.debug(String.format(format, args));
         }
     }
@@ -942,7 +1096,7 @@ public void debugWithFormat(final String format, final Object... args) {
      * @since 2.10
      */
     public void infoWithFormat(final String format, final Object... args) {
-        if (isEnabledFor(LEVEL.INFO)) {
+        if (isLogged(Level.INFO)) {
             this.info(String.format(format, args));
         }
     }
@@ -957,7 +1111,7 @@ public void infoWithFormat(final String format, final Object... args) {
      * @since 2.10
      */
     public void errorWithFormat(final String format, final Object... args) {
-        if (isEnabledFor(LEVEL.ERROR)) {
+        if (isLogged(Level.ERROR)) {
             this.error(String.format(format, args));
         }
     }
@@ -972,7 +1126,7 @@ public void errorWithFormat(final String format, final Object... args) {
      * @since 2.10
      */
     public void fatalWithFormat(final String format, final Object... args) {
-        if (isEnabledFor(LEVEL.FATAL)) {
+        if (isLogged(Level.FATAL)) {
             this.fatal(String.format(format, args));
         }
     }
@@ -1055,6 +1209,7 @@ public static void addWriter(final Writer writer, final Layout layout,
         }
         Logger.getRootLogger().addAppender(app);
         checkLayoutFlags(layout);
+        updateMinimumAppenderLevel();
     }
 
     /**
@@ -1069,6 +1224,7 @@ public static void removeWriter(final Writer writer) {
                 if (o != LOG_FILE_APPENDER) {
                     Logger.getRootLogger().removeAppender(o);
                     WRITER.remove(writer);
+                    updateMinimumAppenderLevel();
                 }
             } else {
                 getLogger(NodeLogger.class).warn(
@@ -1240,6 +1396,7 @@ public static void setAppenderLevelRange(final String appenderName, final LEVEL
             ((LevelRangeFilter) filter).setLevelMin(transLEVEL(min));
             ((LevelRangeFilter) filter).setLevelMax(transLEVEL(max));
         }
+        updateMinimumAppenderLevel();
     }
 
     /**
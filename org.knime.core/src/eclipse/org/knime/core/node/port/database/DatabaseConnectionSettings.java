@@ -257,6 +257,27 @@ private static int initBatchWriteSize() {
         return 1;
     }
 
+    /** Maximum number of connections used concurrently to read the partitions of a query.
+     * @since 3.7 */
+    public static final int PARTITION_READ_CONNECTIONS = initPartitionReadConnections();
+    private static int initPartitionReadConnections() {
+        String sconns = System.getProperty(KNIMEConstants.PROPERTY_DATABASE_PARTITION_READ_CONNECTIONS);
+        if (sconns != null) {
+            try {
+                final int conns = Integer.parseInt(sconns);
+                if (conns > 0) {
+                    LOGGER.debug("Database partition read connections: " + conns);
+                    return conns;
+                }
+                LOGGER.warn("Database property " + KNIMEConstants.PROPERTY_DATABASE_PARTITION_READ_CONNECTIONS + "="
+                    + conns + " can't be smaller than 1, using 4 as default.");
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Database partition read connections not valid '" + sconns + "', using 4 as default.");
+            }
+        }
+        return 4;
+    }
+
     private String m_driver;
     private String m_credName = null;
 
@@ -474,6 +495,37 @@ public Connection createConnection(final CredentialsProvider cp)
         return getUtility().getConnectionFactory().getConnection(cp, this);
     }
 
+    /**
+     * Borrows a connection that is not shared with other callers until it is handed back via
+     * {@link #releaseConnection(CredentialsProvider, Connection)}. Used to run several queries concurrently.
+     * @param cp {@link CredentialsProvider} provides user/password pairs
+     * @return a database connection used exclusively by the caller
+     * @throws SQLException {@link SQLException}
+     * @throws InvalidSettingsException {@link InvalidSettingsException}
+     * @throws IOException {@link IOException}
+     * @since 3.7
+     */
+    public Connection borrowConnection(final CredentialsProvider cp)
+            throws InvalidSettingsException, SQLException, IOException {
+        CheckUtils.checkSettingNotNull(m_driver, "No settings available to create database connection.");
+        CheckUtils.checkSettingNotNull(m_jdbcUrl, "No JDBC URL set.");
+        return getUtility().getConnectionFactory().borrowConnection(cp, this);
+    }
+
+    /**
+     * Hands back a connection obtained by {@link #borrowConnection(CredentialsProvider)}.
+     * @param cp {@link CredentialsProvider} provides user/password pairs
+     * @param conn the borrowed connection, may be <code>null</code>
+     * @since 3.7
+     */
+    public void releaseConnection(final CredentialsProvider cp, final Connection conn) {
+        try {
+            getUtility().getConnectionFactory().releaseConnection(cp, this, conn);
+        } catch (SQLException ex) {
+            LOGGER.debug("Error releasing database connection: " + ex.getMessage(), ex);
+        }
+    }
+
     /**
      * Used to sync access to all databases depending if <code>SQL_CONCURRENCY</code> is true.
      * @param conn connection used to sync access to all databases
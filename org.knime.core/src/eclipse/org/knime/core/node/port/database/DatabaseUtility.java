@@ -78,6 +78,7 @@
 import org.knime.core.node.port.database.reader.DBReaderImpl;
 import org.knime.core.node.port.database.tablecreator.DBTableCreator;
 import org.knime.core.node.port.database.tablecreator.DBTableCreatorImpl;
+import org.knime.core.node.port.database.writer.DBBulkLoader;
 import org.knime.core.node.port.database.writer.DBWriter;
 import org.knime.core.node.port.database.writer.DBWriterImpl;
 
@@ -386,6 +387,17 @@ public DBWriter getWriter(final DatabaseConnectionSettings connSettings) {
         return new DBWriterImpl(connSettings);
     }
 
+    /**
+     * Returns the loader used by the parallel write mode of the {@link DBWriter} to write rows with a database
+     * specific bulk load mechanism. The default is <code>null</code>, that is rows are written with insert statements.
+     *
+     * @return the {@link DBBulkLoader} or <code>null</code> if the database has none
+     * @since 3.7
+     */
+    public DBBulkLoader getBulkLoader() {
+        return null;
+    }
+
     /**
      * {@link DBConnectionFactory} to use
      * @return {@link DBConnectionFactory}
@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.apache.commons.io.IOUtils;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.date.DateAndTimeValue;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.database.writer.DBBulkLoader;
+
+/**
+ * Bulk loader for PostgreSQL that streams the rows as CSV into a <code>COPY ... FROM STDIN</code> statement. The
+ * driver's <code>CopyManager</code> is accessed via reflection as the driver is registered at runtime. Values are
+ * converted as in {@link DatabaseHelper#fillStatement(java.sql.PreparedStatement, int, DataColumnSpec, DataCell,
+ * TimeZone, java.util.Map)}, the database casts the text to the type of the column.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PostgreSQLCopyLoader implements DBBulkLoader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PostgreSQLCopyLoader.class);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** {@inheritDoc} */
+    @Override
+    public void load(final Connection conn, final String table, final String columnNames, final DataTableSpec spec,
+        final int[] mapping, final List<DataRow> rows, final TimeZone timeZone) throws Exception {
+        final StringBuilder csv = new StringBuilder(rows.size() * 16 * Math.max(1, mapping.length));
+        for (DataRow row : rows) {
+            for (int i = 0; i < mapping.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                if (mapping[i] >= 0) {
+                    appendValue(csv, spec.getColumnSpec(mapping[i]), row.getCell(mapping[i]), timeZone);
+                }
+            }
+            csv.append('\n');
+        }
+        final String sql = "COPY " + table + " " + columnNames + " FROM STDIN WITH (FORMAT csv)";
+        LOGGER.debug(() -> "Executing SQL statement as copyIn (" + rows.size() + " rows): " + sql);
+        copyIn(conn, sql, new StringReader(csv.toString()));
+    }
+
+    /**
+     * Appends a single value in PostgreSQL's CSV format, a missing value is written as an empty unquoted field.
+     */
+    static void appendValue(final StringBuilder csv, final DataColumnSpec cspec, final DataCell cell,
+        final TimeZone tz) throws IOException {
+        if (cell.isMissing()) {
+            return;
+        }
+        if (cspec.getType().isCompatible(BooleanValue.class)) {
+            csv.append(((BooleanValue)cell).getBooleanValue());
+        } else if (cspec.getType().isCompatible(IntValue.class)) {
+            csv.append(((IntValue)cell).getIntValue());
+        } else if (cspec.getType().isCompatible(LongValue.class)) {
+            csv.append(((LongValue)cell).getLongValue());
+        } else if (cspec.getType().isCompatible(DoubleValue.class)) {
+            final double dbl = ((DoubleValue)cell).getDoubleValue();
+            if (!Double.isNaN(dbl)) {
+                csv.append(dbl);
+            }
+        } else if (cspec.getType().isCompatible(DateAndTimeValue.class)) {
+            final DateAndTimeValue dateCell = (DateAndTimeValue)cell;
+            final long corrDate = dateCell.getUTCTimeInMillis() - tz.getOffset(dateCell.getUTCTimeInMillis());
+            if (!dateCell.hasTime() && !dateCell.hasMillis()) {
+                csv.append(new java.sql.Date(corrDate));
+            } else if (!dateCell.hasDate()) {
+                csv.append(new java.sql.Time(corrDate));
+            } else {
+                csv.append(new java.sql.Timestamp(corrDate));
+            }
+        } else if (cspec.getType().isCompatible(BinaryObjectDataValue.class)) {
+            try (InputStream is = ((BinaryObjectDataValue)cell).openInputStream()) {
+                if (is != null) {
+                    // bytea hex format, the backslash is not special in CSV
+                    csv.append("\\x");
+                    for (byte b : IOUtils.toByteArray(is)) {
+                        csv.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+                    }
+                }
+            }
+        } else {
+            final String s = cell.toString();
+            csv.append('"');
+            for (int i = 0; i < s.length(); i++) {
+                final char c = s.charAt(i);
+                if (c == '"') {
+                    csv.append('"');
+                }
+                csv.append(c);
+            }
+            csv.append('"');
+        }
+    }
+
+    private static void copyIn(final Connection conn, final String sql, final Reader data) throws SQLException {
+        final Object copyManager;
+        final Method copyIn;
+        try {
+            final ClassLoader loader = conn.getClass().getClassLoader();
+            final Class<?> baseConnectionClass = Class.forName("org.postgresql.core.BaseConnection", true, loader);
+            if (!conn.isWrapperFor(baseConnectionClass)) {
+                throw new SQLFeatureNotSupportedException("Not a PostgreSQL driver connection: " + conn.getClass());
+            }
+            final Class<?> copyManagerClass = Class.forName("org.postgresql.copy.CopyManager", true, loader);
+            copyManager = copyManagerClass.getConstructor(baseConnectionClass)
+                .newInstance(conn.unwrap(baseConnectionClass));
+            copyIn = copyManagerClass.getMethod("copyIn", String.class, Reader.class);
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            throw new SQLFeatureNotSupportedException("PostgreSQL COPY not available: " + ex.getMessage(), ex);
+        }
+        try {
+            copyIn.invoke(copyManager, sql, data);
+        } catch (InvocationTargetException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException)cause;
+            }
+            throw new SQLException(cause.getMessage(), cause);
+        } catch (IllegalAccessException ex) {
+            throw new SQLFeatureNotSupportedException("PostgreSQL COPY not accessible: " + ex.getMessage(), ex);
+        }
+    }
+}
@@ -76,6 +76,7 @@
 import org.knime.core.node.port.database.aggregation.function.VarPopDBAggregationFunction;
 import org.knime.core.node.port.database.aggregation.function.VarSampDBAggregationFunction;
 import org.knime.core.node.port.database.aggregation.function.postgresql.ArrayAggDBAggregationFunction;
+import org.knime.core.node.port.database.writer.DBBulkLoader;
 
 /**
  * Database utility for PostgreSQL.
@@ -128,6 +129,8 @@ public String randomRows(final String sql, final long count) {
 
     private static final StatementManipulator MANIPULATOR = new PostgreSQLStatementManipulator();
 
+    private static final DBBulkLoader BULK_LOADER = new PostgreSQLCopyLoader();
+
     /**The unique database identifier.
      * @since 2.11*/
     public static final String DATABASE_IDENTIFIER = "postgresql";
@@ -152,6 +155,15 @@ public PostgreSQLUtility() {
             new VarPopDBAggregationFunction.Factory(), new VarSampDBAggregationFunction.Factory());
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public DBBulkLoader getBulkLoader() {
+        return BULK_LOADER;
+    }
+
     @Override
     public boolean supportsRandomSampling() {
         return true;
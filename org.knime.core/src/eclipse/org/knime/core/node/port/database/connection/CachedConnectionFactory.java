@@ -52,7 +52,9 @@
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -86,6 +88,11 @@ public class CachedConnectionFactory implements DBConnectionFactory {
     /** Holding the database connection keys used to sync the open connection
      * process. */
     private static final Map<ConnectionKey, ConnectionKey> CONNECTION_KEYS = new HashMap<ConnectionKey, ConnectionKey>();
+    /** Idle connections handed out exclusively by {@link #borrowConnection(CredentialsProvider,
+     * DatabaseConnectionSettings)}, most recently released first. */
+    private static final Map<ConnectionKey, Deque<Connection>> IDLE_CONNECTIONS = new HashMap<>();
+    /** Maximum number of idle connections kept per key. */
+    private static final int MAX_IDLE_CONNECTIONS = 8;
     private static final ExecutorService CONNECTION_CREATOR_EXECUTOR = ThreadUtils.executorServiceWithContext(Executors.newCachedThreadPool());
     private DBDriverFactory m_driverFactory;
 
@@ -172,11 +179,6 @@ public DBDriverFactory getDriverFactory() {
      */
     @Override
     public Connection getConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
-        final String jdbcUrl = settings.getJDBCUrl();
-        final String user = settings.getUserName(cp);
-        final String pass = settings.getPassword(cp);
-        final boolean kerberos = settings.useKerberos();
-
         ConnectionKey databaseConnKey = createConnectionKey(cp, settings);
 
         // retrieve original key and/or modify connection key map
@@ -205,44 +207,113 @@ public Connection getConnection(final CredentialsProvider cp, final DatabaseConn
                 CONNECTION_MAP.remove(databaseConnKey);
             }
             LOGGER.debug("Create new connection for key: " + databaseConnKey);
-            final Driver d;
-            try {
-                d = getDriverFactory().getDriver(settings);
-            } catch (Exception ex1) {
-                throw new InvalidSettingsException(ex1);
+            conn = openConnection(cp, settings);
+            LOGGER.debug("Add connection to map for key: " + databaseConnKey);
+            CONNECTION_MAP.put(databaseConnKey, conn);
+            return conn;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Connections that are released are kept in a small pool (per user and database) and handed out again by
+     * subsequent calls, they are not shared with {@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)}.
+     * @since 3.7
+     */
+    @Override
+    public Connection borrowConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings)
+        throws InvalidSettingsException, SQLException, IOException {
+        final ConnectionKey databaseConnKey = createConnectionKey(cp, settings);
+        while (true) {
+            final Connection conn;
+            synchronized (IDLE_CONNECTIONS) {
+                final Deque<Connection> idle = IDLE_CONNECTIONS.get(databaseConnKey);
+                conn = idle == null ? null : idle.pollFirst();
             }
-            if (!d.acceptsURL(jdbcUrl)) {
-                throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+            if (conn == null) {
+                break;
             }
-            // if a connection is not available
-            Callable<Connection> callable = new Callable<Connection>() {
-                /** {@inheritDoc} */
-                @Override
-                public Connection call() throws Exception {
-                    LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
-                    return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
-                }
-            };
-            //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
-            //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
-            //alive for ages
-            Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
-            try {
-                conn = task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
-                LOGGER.debug("Add connection to map for key: " + databaseConnKey);
-                CONNECTION_MAP.put(databaseConnKey, conn);
+            if (isOpenAndValid(settings, conn, databaseConnKey)) {
                 return conn;
-            } catch (ExecutionException ee) {
-                if (ee.getCause() instanceof SQLException) {
-                    throw (SQLException) ee.getCause();
-                } else {
-                    throw new SQLException(ee.getCause());
-                }
-            } catch (InterruptedException ex) {
-                throw new SQLException("Thread was interrupted while waiting for database to respond");
-            } catch (TimeoutException ex) {
-                throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
             }
+            closeSafely(databaseConnKey, conn);
+        }
+        LOGGER.debug("Create new pooled connection for key: " + databaseConnKey);
+        return openConnection(cp, settings);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.7
+     */
+    @Override
+    public void releaseConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings,
+        final Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        final ConnectionKey databaseConnKey = createConnectionKey(cp, settings);
+        try {
+            if (conn.isClosed()) {
+                return;
+            }
+        } catch (SQLException ex) {
+            LOGGER.debug("Error checking state of released connection: " + ex.getMessage(), ex);
+            return;
+        }
+        synchronized (IDLE_CONNECTIONS) {
+            final Deque<Connection> idle =
+                IDLE_CONNECTIONS.computeIfAbsent(databaseConnKey, k -> new ArrayDeque<Connection>());
+            if (idle.size() < MAX_IDLE_CONNECTIONS) {
+                idle.addFirst(conn);
+                return;
+            }
+        }
+        closeSafely(databaseConnKey, conn);
+    }
+
+    /** Opens a new connection (with timeout), the connection is not added to any cache. */
+    private Connection openConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings)
+        throws InvalidSettingsException, SQLException, IOException {
+        final String jdbcUrl = settings.getJDBCUrl();
+        final String user = settings.getUserName(cp);
+        final String pass = settings.getPassword(cp);
+        final boolean kerberos = settings.useKerberos();
+        final Driver d;
+        try {
+            d = getDriverFactory().getDriver(settings);
+        } catch (Exception ex1) {
+            throw new InvalidSettingsException(ex1);
+        }
+        if (!d.acceptsURL(jdbcUrl)) {
+            throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+        }
+        // if a connection is not available
+        Callable<Connection> callable = new Callable<Connection>() {
+            /** {@inheritDoc} */
+            @Override
+            public Connection call() throws Exception {
+                LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
+                return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
+            }
+        };
+        //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
+        //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
+        //alive for ages
+        Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
+        try {
+            return task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof SQLException) {
+                throw (SQLException) ee.getCause();
+            } else {
+                throw new SQLException(ee.getCause());
+            }
+        } catch (InterruptedException ex) {
+            throw new SQLException("Thread was interrupted while waiting for database to respond");
+        } catch (TimeoutException ex) {
+            throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
         }
     }
 
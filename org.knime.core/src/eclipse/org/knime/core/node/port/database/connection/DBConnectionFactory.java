@@ -74,6 +74,42 @@ public interface DBConnectionFactory {
     Connection getConnection(final CredentialsProvider cp,
         final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException;
 
+    /**
+     * Returns a connection that is used exclusively by the caller, e.g. to run several queries of one operation
+     * concurrently. The connection must not be closed by the caller but be handed back via
+     * {@link #releaseConnection(CredentialsProvider, DatabaseConnectionSettings, Connection)}.
+     * The default implementation returns {@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)}.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return a {@link Connection} that is not used by anybody else until it is released
+     * @throws InvalidSettingsException
+     * @throws SQLException
+     * @throws IOException
+     * @since 3.7
+     */
+    default Connection borrowConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings)
+        throws InvalidSettingsException, SQLException, IOException {
+        return getConnection(cp, settings);
+    }
+
+    /**
+     * Hands back a connection obtained by {@link #borrowConnection(CredentialsProvider, DatabaseConnectionSettings)}.
+     * The default implementation closes the connection.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @param conn the borrowed connection, may be <code>null</code>
+     * @throws SQLException if the connection could not be closed
+     * @since 3.7
+     */
+    default void releaseConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings,
+        final Connection conn) throws SQLException {
+        if (conn != null) {
+            conn.close();
+        }
+    }
+
     /**
      * @return the {@link DBDriverFactory} the connection factory uses
      */
@@ -0,0 +1,248 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Describes how {@link DBReader#createTable(org.knime.core.node.ExecutionContext,
+ * org.knime.core.node.workflow.CredentialsProvider, boolean, DBReadPartitioning)} splits a query into partitions that
+ * are read concurrently. A query is either split into equally sized value ranges of a numeric or date/time column
+ * (see {@link #byRange(String, int)}) or by a list of conditions, one per partition (see
+ * {@link #byConditions(String...)}). The latter allows to follow the native partitioning of a table, e.g. by using
+ * the partition key ranges of the table or a hash condition such as <code>MOD(id, 8) = 3</code>. The conditions
+ * must be disjoint and together cover all rows, otherwise rows are missing or duplicated.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class DBReadPartitioning {
+
+    /** Matches an ORDER BY clause (anywhere in the query, also in sub-queries). */
+    private static final Pattern ORDER_BY = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
+
+    private final String m_column;
+
+    private final int m_partitionCount;
+
+    private final List<String> m_conditions;
+
+    private DBReadPartitioning(final String column, final int partitionCount, final List<String> conditions) {
+        m_column = column;
+        m_partitionCount = partitionCount;
+        m_conditions = conditions;
+    }
+
+    /**
+     * Splits the value range of a numeric or date/time column into partitions of equal width. The minimum and
+     * maximum value are determined by an additional query, rows with a missing value are read as part of the last
+     * partition.
+     *
+     * @param column the (unquoted) name of the column in the result of the query
+     * @param partitionCount the number of partitions, at least 1
+     * @return a new partitioning
+     */
+    public static DBReadPartitioning byRange(final String column, final int partitionCount) {
+        CheckUtils.checkArgument(column != null && !column.isEmpty(), "Partition column must not be empty");
+        CheckUtils.checkArgument(partitionCount > 0, "Partition count must be positive: %d", partitionCount);
+        return new DBReadPartitioning(column, partitionCount, null);
+    }
+
+    /**
+     * Creates one partition per SQL condition, which is applied to the result of the query.
+     *
+     * @param conditions the conditions, e.g. <code>region = 'EMEA'</code>, at least one
+     * @return a new partitioning
+     */
+    public static DBReadPartitioning byConditions(final String... conditions) {
+        CheckUtils.checkArgument(conditions != null && conditions.length > 0, "No partition conditions given");
+        for (String c : conditions) {
+            CheckUtils.checkArgument(c != null && !c.trim().isEmpty(), "Partition condition must not be empty");
+        }
+        return new DBReadPartitioning(null, conditions.length,
+            Collections.unmodifiableList(new ArrayList<>(Arrays.asList(conditions))));
+    }
+
+    /**
+     * @return <code>true</code> if the query is split by the value range of a column, <code>false</code> if it is
+     *         split by conditions
+     */
+    public boolean isRange() {
+        return m_conditions == null;
+    }
+
+    /**
+     * @return the partition column or <code>null</code> if split by conditions
+     */
+    public String getColumn() {
+        return m_column;
+    }
+
+    /**
+     * @return the (maximum) number of partitions
+     */
+    public int getPartitionCount() {
+        return m_partitionCount;
+    }
+
+    /**
+     * @return the partition conditions or <code>null</code> if split by range
+     */
+    public List<String> getConditions() {
+        return m_conditions;
+    }
+
+    /**
+     * Whether the query contains an <code>ORDER BY</code> clause. The order of such a query gets lost when it's read
+     * in partitions, hence it must be read as a whole.
+     *
+     * @param query the SQL query
+     * @return <code>true</code> if the query (or one of its sub-queries) sorts its rows
+     */
+    public static boolean containsOrderBy(final String query) {
+        return ORDER_BY.matcher(query).find();
+    }
+
+    /**
+     * Computes the inner boundaries of equally wide ranges between <b>min</b> and <b>max</b>. Numbers are split as
+     * {@link BigDecimal}, dates and times as {@link Timestamp}. Boundaries that coincide are dropped, hence the result
+     * might contain less than <code>count - 1</code> elements. Floating point values that are NaN or infinite can't
+     * be split, the query is then read as a single partition.
+     *
+     * @param min the minimum value as returned by the database, may be <code>null</code> if there is no value
+     * @param max the maximum value as returned by the database, may be <code>null</code> if there is no value
+     * @param count the number of ranges
+     * @return the ascending boundaries, empty if the values can't be split
+     * @throws SQLException if the values are neither numbers nor dates
+     */
+    static List<Object> splitRange(final Object min, final Object max, final int count) throws SQLException {
+        if (min == null || max == null || count < 2) {
+            return Collections.emptyList();
+        }
+        final List<Object> boundaries = new ArrayList<>(count - 1);
+        if (min instanceof Number && max instanceof Number) {
+            if (!isFinite((Number)min) || !isFinite((Number)max)) {
+                return Collections.emptyList();
+            }
+            final BigDecimal lower = new BigDecimal(min.toString());
+            final BigDecimal width = new BigDecimal(max.toString()).subtract(lower)
+                    .divide(BigDecimal.valueOf(count), MathContext.DECIMAL64);
+            if (width.signum() <= 0) {
+                return Collections.emptyList();
+            }
+            for (int i = 1; i < count; i++) {
+                final BigDecimal b = lower.add(width.multiply(BigDecimal.valueOf(i)));
+                if (boundaries.isEmpty() || ((BigDecimal)boundaries.get(boundaries.size() - 1)).compareTo(b) < 0) {
+                    boundaries.add(b);
+                }
+            }
+        } else if (min instanceof Date && max instanceof Date) {
+            final long lower = ((Date)min).getTime();
+            final double width = (((Date)max).getTime() - lower) / (double)count;
+            long last = lower;
+            for (int i = 1; i < count; i++) {
+                final long b = lower + (long)(width * i);
+                if (b > last) {
+                    boundaries.add(new Timestamp(b));
+                    last = b;
+                }
+            }
+        } else {
+            throw new SQLException("Values of type " + min.getClass().getName()
+                + " can't be used for range partitioning, use a numeric or date/time column");
+        }
+        return boundaries;
+    }
+
+    private static boolean isFinite(final Number n) {
+        return !(n instanceof Double || n instanceof Float) || Double.isFinite(n.doubleValue());
+    }
+
+    /**
+     * Creates the conditions of the ranges separated by <b>boundaryCount</b> boundaries. The first range is open to
+     * the left, the last one to the right and also contains the missing values. The parameters of condition
+     * <i>i</i> are the boundaries <i>i-1</i> and <i>i</i> (if existing) as returned by
+     * {@link #splitRange(Object, Object, int)}.
+     *
+     * @param quotedColumn the quoted column identifier
+     * @param boundaryCount the number of boundaries
+     * @return <code>boundaryCount + 1</code> conditions with <code>?</code> as parameter placeholders or a single
+     *         <code>null</code> element if the query isn't split
+     */
+    static List<String> createRangeConditions(final String quotedColumn, final int boundaryCount) {
+        if (boundaryCount == 0) {
+            return Collections.singletonList(null);
+        }
+        final List<String> conditions = new ArrayList<>(boundaryCount + 1);
+        conditions.add(quotedColumn + " < ?");
+        for (int i = 1; i < boundaryCount; i++) {
+            conditions.add(quotedColumn + " >= ? AND " + quotedColumn + " < ?");
+        }
+        conditions.add(quotedColumn + " >= ? OR " + quotedColumn + " IS NULL");
+        return conditions;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return isRange() ? "range of \"" + m_column + "\" in " + m_partitionCount + " partitions"
+            : m_conditions.size() + " partition conditions";
+    }
+}
@@ -155,6 +155,27 @@ default BufferedDataTable createTable(final ExecutionContext exec, final Credent
         return exec.createBufferedDataTable(table, exec);
     }
 
+    /**
+     * Read data from database by splitting the query into partitions that are read concurrently. The rows of the
+     * result are ordered by partition, the rows of a partition are in the order returned by the database. Queries
+     * that sort their rows (<code>ORDER BY</code>) can't be read in partitions. Implementations that don't support
+     * partitioned reads read the query as a whole, which is also what the default implementation does.
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param useDbRowId <code>true</code> if the row id returned by the database should be used to generate the
+     * KNIME row id
+     * @param partitioning describes how the query is split, <code>null</code> to read it as a whole
+     * @return buffered data table read from database
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened
+     * @since 3.7
+     */
+    default BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final DBReadPartitioning partitioning)
+        throws CanceledExecutionException, SQLException {
+        return createTable(exec, cp, useDbRowId);
+    }
+
     /**
      * Read data from database.
      * @param exec used for progress info
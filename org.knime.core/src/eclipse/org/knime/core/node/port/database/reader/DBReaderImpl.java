@@ -50,8 +50,17 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.DataCell;
@@ -80,6 +89,7 @@
 import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -258,6 +268,211 @@ public RowIterator iterator() {
 
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each partition is read with its own connection borrowed from the connection pool, at most
+     * {@link DatabaseConnectionSettings#PARTITION_READ_CONNECTIONS} partitions are read at a time. The
+     * {@link ResultSet}s are converted into rows on the reading threads and buffered in a table per partition. The
+     * rows are added to the result table in the order of the partitions, i.e. the result (and the generated row keys)
+     * only depend on the order in which the database returns the rows of each partition. Queries consisting of
+     * several statements are read without partitioning as the preceding statements might only affect their own
+     * session. Queries containing an <code>ORDER BY</code> clause are rejected as their order would get lost.
+     * @since 3.7
+     */
+    @Override
+    public BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final DBReadPartitioning partitioning)
+        throws CanceledExecutionException, SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
+        if (partitioning == null || oQueries.length > 1) {
+            if (partitioning != null) {
+                LOGGER.debug("Query consists of several statements, reading it without partitioning");
+            }
+            return createTable(exec, cp, useDbRowId);
+        }
+        if (m_blobFactory == null) {
+            m_blobFactory = new BinaryObjectCellFactory(exec);
+        }
+        String selectQuery = oQueries[0].trim();
+        if (selectQuery.endsWith(";")) {
+            selectQuery = selectQuery.substring(0, selectQuery.length() - 1);
+        }
+        if (DBReadPartitioning.containsOrderBy(selectQuery)) {
+            throw new SQLException("The query contains an ORDER BY clause, the order of the rows can't be kept "
+                + "when reading the query in partitions. Remove the ORDER BY clause or disable the parallel read.");
+        }
+        exec.setMessage("Determining partitions of query...");
+        final List<PartitionQuery> partitions = createPartitionQueries(cp, selectQuery, partitioning);
+        LOGGER.debug("Reading query in " + partitions.size() + " partition(s) (" + partitioning + ")");
+        exec.setMessage("Start reading rows from database...");
+
+        final int threads = Math.min(partitions.size(), DatabaseConnectionSettings.PARTITION_READ_CONNECTIONS);
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService executor = ThreadUtils.executorServiceWithContext(Executors.newFixedThreadPool(threads,
+            r -> new Thread(r, "KNIME-DB-Partition-Reader-" + threadCounter.incrementAndGet())));
+        // the partitions are started in order, i.e. the partition waited for is always being read or done
+        final List<Future<DataContainer>> partitionTables = new ArrayList<>(partitions.size());
+        int nextPartition = 0;
+        try {
+            for (PartitionQuery partition : partitions) {
+                partitionTables.add(executor.submit(() -> readPartition(cp, partition, useDbRowId)));
+            }
+            BufferedDataContainer container = null;
+            long rowCount = 0;
+            for (; nextPartition < partitionTables.size(); nextPartition++) {
+                final DataContainer partitionTable = waitForPartition(exec, partitionTables.get(nextPartition));
+                if (container == null) {
+                    container = exec.createDataContainer(partitionTable.getTableSpec());
+                }
+                for (DataRow row : partitionTable.getTable()) {
+                    exec.checkCanceled();
+                    container.addRowToTable(useDbRowId ? row : new DefaultRow(RowKey.createRowKey(rowCount), row));
+                    rowCount++;
+                }
+                partitionTable.dispose();
+                final long count = rowCount;
+                final int read = nextPartition + 1;
+                exec.setMessage(() -> "Row " + count + " (" + read + "/" + partitions.size() + " partitions read)");
+            }
+            container.close();
+            m_spec = container.getTableSpec();
+            return container.getTable();
+        } finally {
+            executor.shutdownNow();
+            // partitions that were read but not added to the result as reading failed or was canceled
+            for (int i = nextPartition; i < partitionTables.size(); i++) {
+                final Future<DataContainer> partitionTable = partitionTables.get(i);
+                if (partitionTable.isDone() && !partitionTable.isCancelled()) {
+                    try {
+                        partitionTable.get().dispose();
+                    } catch (InterruptedException | ExecutionException ex) {
+                        // failed partitions have no table
+                    }
+                }
+            }
+        }
+    }
+
+    /** Waits for a partition to be read, checking for cancellation in between. */
+    private static DataContainer waitForPartition(final ExecutionContext exec,
+        final Future<DataContainer> partitionTable) throws CanceledExecutionException, SQLException {
+        while (true) {
+            exec.checkCanceled();
+            try {
+                return partitionTable.get(100, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                // check for cancellation and continue waiting
+            } catch (InterruptedException ex) {
+                throw new CanceledExecutionException("Interrupted while reading partitions");
+            } catch (ExecutionException ex) {
+                final Throwable t = ex.getCause();
+                if (t instanceof CanceledExecutionException) {
+                    throw (CanceledExecutionException)t;
+                }
+                throw t instanceof SQLException ? (SQLException)t : new SQLException(t.getMessage(), t);
+            }
+        }
+    }
+
+    /** Query (and its parameters) that reads a single partition. */
+    private static final class PartitionQuery {
+        private final String m_sql;
+        private final Object[] m_parameters;
+
+        private PartitionQuery(final String sql, final Object... parameters) {
+            m_sql = sql;
+            m_parameters = parameters;
+        }
+    }
+
+    private List<PartitionQuery> createPartitionQueries(final CredentialsProvider cp, final String selectQuery,
+        final DBReadPartitioning partitioning) throws SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final String wrappedQuery = "SELECT * FROM (" + selectQuery + ") table_" + System.identityHashCode(this);
+        final List<PartitionQuery> partitions = new ArrayList<>();
+        if (!partitioning.isRange()) {
+            for (String condition : partitioning.getConditions()) {
+                partitions.add(new PartitionQuery(wrappedQuery + " WHERE " + condition));
+            }
+            return partitions;
+        }
+        final String column =
+            dbConn.getUtility().getStatementManipulator().quoteIdentifier(partitioning.getColumn());
+        final String rangeQuery = "SELECT MIN(" + column + "), MAX(" + column + ") FROM (" + selectQuery
+            + ") table_" + System.identityHashCode(this);
+        final Object[] range = dbConn.execute(cp, conn -> {
+            try (final Statement stmt = initStatement(cp, conn)) {
+                LOGGER.debug("Executing SQL statement as executeQuery: " + rangeQuery);
+                try (final ResultSet result = stmt.executeQuery(rangeQuery)) {
+                    return result.next() ? new Object[]{result.getObject(1), result.getObject(2)} : new Object[2];
+                }
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+        });
+        final List<Object> boundaries =
+            DBReadPartitioning.splitRange(range[0], range[1], partitioning.getPartitionCount());
+        final List<String> conditions = DBReadPartitioning.createRangeConditions(column, boundaries.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            final String condition = conditions.get(i);
+            if (condition == null) {
+                partitions.add(new PartitionQuery(selectQuery));
+            } else if (i == 0) {
+                partitions.add(new PartitionQuery(wrappedQuery + " WHERE " + condition, boundaries.get(0)));
+            } else if (i == conditions.size() - 1) {
+                partitions.add(new PartitionQuery(wrappedQuery + " WHERE " + condition, boundaries.get(i - 1)));
+            } else {
+                partitions.add(new PartitionQuery(wrappedQuery + " WHERE " + condition, boundaries.get(i - 1),
+                    boundaries.get(i)));
+            }
+        }
+        return partitions;
+    }
+
+    /** Reads a single partition with a borrowed connection into a closed container, which is disposed by the
+     * caller. It's not created by the execution context, which isn't meant to be used by several threads. */
+    private DataContainer readPartition(final CredentialsProvider cp, final PartitionQuery partition,
+        final boolean useDbRowId) throws SQLException, CanceledExecutionException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        Connection conn = null;
+        try {
+            conn = dbConn.borrowConnection(cp);
+            try (final PreparedStatement stmt = conn.prepareStatement(partition.m_sql)) {
+                int fetchsize =
+                    (DatabaseConnectionSettings.FETCH_SIZE != null) ? DatabaseConnectionSettings.FETCH_SIZE : -1;
+                dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, fetchsize);
+                for (int i = 0; i < partition.m_parameters.length; i++) {
+                    stmt.setObject(i + 1, partition.m_parameters[i]);
+                }
+                LOGGER.debug("Executing SQL statement as executeQuery: " + partition.m_sql);
+                try (final ResultSet result = stmt.executeQuery()) {
+                    final DataTableSpec spec = createTableSpec(result.getMetaData());
+                    final RowIterator it = createDBRowIterator(spec, dbConn, m_blobFactory, useDbRowId, result);
+                    final DataContainer container = new DataContainer(spec);
+                    while (it.hasNext()) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            // reading was canceled or another partition failed
+                            throw new CanceledExecutionException("Reading partition interrupted");
+                        }
+                        container.addRowToTable(it.next());
+                    }
+                    container.close();
+                    return container;
+                }
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+        } finally {
+            dbConn.releaseConnection(cp, conn);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,336 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.knime.core.data.DataTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Local cache for the results of database queries, used by the database reader nodes to avoid re-running identical
+ * queries. Results are stored as table files in the KNIME temp directory and keyed by a hash of the connection
+ * settings, the SQL query and the way it is read (see
+ * {@link #createKey(DatabaseQueryConnectionSettings, CredentialsProvider, boolean, DBReadPartitioning)}).
+ * The freshness of an entry is decided by the reader when it accesses the cache, entries that are too old are removed
+ * then. In addition the least recently used entries are removed if the total size of the cached files exceeds
+ * {@link KNIMEConstants#PROPERTY_DATABASE_RESULT_CACHE_SIZE}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class DBResultCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DBResultCache.class);
+
+    private static final DBResultCache INSTANCE = new DBResultCache(initMaxSize(), null);
+
+    private final long m_maxSize;
+
+    /** Entries in access order, least recently used first. */
+    private final LinkedHashMap<String, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_size;
+
+    private File m_dir;
+
+    private static final class Entry {
+        private final File m_file;
+        private final long m_created;
+        private final long m_size;
+
+        private Entry(final File file, final long created, final long size) {
+            m_file = file;
+            m_created = created;
+            m_size = size;
+        }
+    }
+
+    /**
+     * @param maxSize the maximum total size of the cached files in bytes, 0 to disable the cache
+     * @param dir the directory to store the files in or <code>null</code> to create one in the KNIME temp directory
+     *            on first use
+     */
+    DBResultCache(final long maxSize, final File dir) {
+        m_maxSize = maxSize;
+        m_dir = dir;
+    }
+
+    private static long initMaxSize() {
+        final String sizeMB = System.getProperty(KNIMEConstants.PROPERTY_DATABASE_RESULT_CACHE_SIZE);
+        if (sizeMB != null) {
+            try {
+                final long size = Long.parseLong(sizeMB.trim());
+                if (size >= 0) {
+                    LOGGER.debug("Database result cache size: " + size + "MB");
+                    return size << 20;
+                }
+            } catch (NumberFormatException nfe) {
+                // warning below
+            }
+            LOGGER.warn("Database result cache size not valid '" + sizeMB + "', using 1024MB as default.");
+        }
+        return 1024L << 20;
+    }
+
+    /**
+     * @return the cache shared by all nodes
+     */
+    public static DBResultCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates the cache key of a query. The key is a hash of the driver, the JDBC URL, the database and workflow
+     * user, the time zone setting (which influences the read values) and the query.
+     *
+     * @param settings the connection settings including the query with all flow variables resolved
+     * @param cp the {@link CredentialsProvider} providing the user name
+     * @param useDbRowId whether the row ids are read from the database
+     * @return the key
+     */
+    public static String createKey(final DatabaseQueryConnectionSettings settings, final CredentialsProvider cp,
+        final boolean useDbRowId) {
+        return createKey(settings, cp, useDbRowId, null);
+    }
+
+    /**
+     * Creates the cache key of a query read in partitions. In addition to the parts of
+     * {@link #createKey(DatabaseQueryConnectionSettings, CredentialsProvider, boolean)} the key depends on the
+     * partitioning, which determines the row order and the generated row ids of the result.
+     *
+     * @param settings the connection settings including the query with all flow variables resolved
+     * @param cp the {@link CredentialsProvider} providing the user name
+     * @param useDbRowId whether the row ids are read from the database
+     * @param partitioning the partitioning the query is read with or <code>null</code> if it is read as a whole
+     * @return the key
+     */
+    public static String createKey(final DatabaseQueryConnectionSettings settings, final CredentialsProvider cp,
+        final boolean useDbRowId, final DBReadPartitioning partitioning) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA-256 is supported by every JVM
+            throw new IllegalStateException(ex);
+        }
+        for (String part : new String[]{settings.getDriver(), settings.getJDBCUrl(), settings.getUserName(cp),
+            NodeContext.getWorkflowUser().orElse(null), settings.getTimezone(), Boolean.toString(useDbRowId),
+            settings.getQuery()}) {
+            update(digest, part);
+        }
+        if (partitioning == null) {
+            update(digest, "whole");
+        } else if (partitioning.isRange()) {
+            update(digest, "range");
+            update(digest, partitioning.getColumn());
+            update(digest, Integer.toString(partitioning.getPartitionCount()));
+        } else {
+            update(digest, "conditions");
+            for (String condition : partitioning.getConditions()) {
+                update(digest, condition);
+            }
+        }
+        final StringBuilder key = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    private static void update(final MessageDigest digest, final String part) {
+        digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte)0);
+    }
+
+    /**
+     * Returns the cached result of a query if it is not older than <b>maxAgeMillis</b>. An older entry is removed.
+     *
+     * @param key the key of the query
+     * @param maxAgeMillis the maximum age of the entry in milliseconds
+     * @return the cached result or an empty optional
+     * @throws IOException if the cached file can't be read
+     */
+    public Optional<DataTable> get(final String key, final long maxAgeMillis) throws IOException {
+        final Entry entry;
+        synchronized (this) {
+            entry = m_entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (System.currentTimeMillis() - entry.m_created > maxAgeMillis) {
+                LOGGER.debug("Removing outdated database result from cache: " + key);
+                remove(key);
+                return Optional.empty();
+            }
+        }
+        try {
+            // the content is copied, so the entry can be evicted while the table is in use
+            return Optional.of(DataContainer.readFromStream(new FileInputStream(entry.m_file)));
+        } catch (FileNotFoundException ex) {
+            // evicted concurrently
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds the result of a query to the cache, replacing an existing entry. Results that are larger than the cache
+     * are not added.
+     *
+     * @param key the key of the query
+     * @param table the result of the query
+     * @param exec to report progress and cancel writing
+     * @throws IOException if the table can't be written
+     * @throws CanceledExecutionException if canceled
+     */
+    public void put(final String key, final DataTable table, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        if (m_maxSize <= 0) {
+            return;
+        }
+        final File file = File.createTempFile("result_", ".table", getDirectory());
+        boolean added = false;
+        try {
+            DataContainer.writeToZip(table, file, exec);
+            final long size = file.length();
+            if (size > m_maxSize) {
+                LOGGER.debug("Database result of " + size + " bytes exceeds the cache size, not caching it");
+                return;
+            }
+            synchronized (this) {
+                final Entry old = m_entries.put(key, new Entry(file, System.currentTimeMillis(), size));
+                if (old != null) {
+                    m_size -= old.m_size;
+                    delete(old.m_file);
+                }
+                m_size += size;
+                added = true;
+                for (Iterator<Map.Entry<String, Entry>> it = m_entries.entrySet().iterator();
+                        m_size > m_maxSize && it.hasNext();) {
+                    final Entry evicted = it.next().getValue();
+                    it.remove();
+                    m_size -= evicted.m_size;
+                    delete(evicted.m_file);
+                }
+            }
+        } finally {
+            if (!added) {
+                delete(file);
+            }
+        }
+    }
+
+    /**
+     * Removes the entry of a query.
+     *
+     * @param key the key of the query
+     */
+    public synchronized void remove(final String key) {
+        final Entry entry = m_entries.remove(key);
+        if (entry != null) {
+            m_size -= entry.m_size;
+            delete(entry.m_file);
+        }
+    }
+
+    /** Removes all entries. */
+    public synchronized void clear() {
+        for (Entry entry : m_entries.values()) {
+            delete(entry.m_file);
+        }
+        m_entries.clear();
+        m_size = 0;
+    }
+
+    /**
+     * @return the total size of the cached files in bytes
+     */
+    public synchronized long getSize() {
+        return m_size;
+    }
+
+    /**
+     * @return the number of cached results
+     */
+    public synchronized int getEntryCount() {
+        return m_entries.size();
+    }
+
+    private synchronized File getDirectory() throws IOException {
+        if (m_dir == null) {
+            m_dir = FileUtil.createTempDir("knime_db_result_cache", new File(KNIMEConstants.getKNIMETempDir()));
+        }
+        return m_dir;
+    }
+
+    private static void delete(final File file) {
+        if (!file.delete() && file.exists()) {
+            LOGGER.debug("Could not delete cached database result " + file.getAbsolutePath());
+            file.deleteOnExit();
+        }
+    }
+}
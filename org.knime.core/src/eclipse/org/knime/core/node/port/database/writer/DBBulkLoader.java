@@ -0,0 +1,89 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import java.sql.Connection;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+
+/**
+ * Writes rows into a database table with a database specific mechanism that is faster than batched insert
+ * statements, e.g. <code>COPY</code> in PostgreSQL. Bulk loaders are provided by
+ * {@link org.knime.core.node.port.database.DatabaseUtility#getBulkLoader()} and are used by the parallel writer mode of
+ * {@link DBWriterImpl}, they must be thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+@FunctionalInterface
+public interface DBBulkLoader {
+
+    /**
+     * Writes the given rows within the current transaction of the connection.
+     *
+     * @param conn the connection, auto commit is disabled and the connection is not used concurrently
+     * @param table the (schema qualified) table name
+     * @param columnNames the parenthesized, comma separated list of the database columns that are written, as used
+     *            in the insert statement
+     * @param spec the spec of the rows
+     * @param mapping the index of the input column for each database column in <b>columnNames</b>, -1 if
+     *            <code>NULL</code> is written
+     * @param rows the rows to write
+     * @param timeZone the time zone used to convert date and time values
+     * @throws SQLFeatureNotSupportedException if the connection does not support bulk loading, in which case the rows
+     *             are written with insert statements instead
+     * @throws Exception if the rows can't be written
+     */
+    void load(Connection conn, String table, String columnNames, DataTableSpec spec, int[] mapping,
+        List<DataRow> rows, TimeZone timeZone) throws Exception;
+}
@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Settings for writing rows into a database with several connections at once, see
+ * {@link DBWriter#writeData(String, org.knime.core.node.streamable.RowInput, long, boolean,
+ * org.knime.core.node.ExecutionMonitor, java.util.Map, org.knime.core.node.workflow.CredentialsProvider, int, boolean,
+ * boolean, DBParallelWriteSettings)}. Each connection writes its batches in its own transaction, which is committed
+ * after the given number of rows (commit interval) and at the end. Committed rows are not rolled back if another
+ * connection fails later on.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class DBParallelWriteSettings {
+
+    private final int m_connections;
+
+    private final long m_commitInterval;
+
+    private final boolean m_useBulkLoader;
+
+    /**
+     * @param connections the number of connections that write concurrently, at least 1
+     * @param commitInterval the number of rows after which a connection commits its transaction, 0 to only commit
+     *            at the end
+     * @param useBulkLoader <code>true</code> to use the bulk loader of the database (if there is one, see
+     *            {@link org.knime.core.node.port.database.DatabaseUtility#getBulkLoader()}) instead of insert
+     *            statements
+     */
+    public DBParallelWriteSettings(final int connections, final long commitInterval, final boolean useBulkLoader) {
+        CheckUtils.checkArgument(connections > 0, "Number of connections must be positive: %d", connections);
+        CheckUtils.checkArgument(commitInterval >= 0, "Commit interval must not be negative: %d", commitInterval);
+        m_connections = connections;
+        m_commitInterval = commitInterval;
+        m_useBulkLoader = useBulkLoader;
+    }
+
+    /**
+     * @return the number of connections that write concurrently
+     */
+    public int getConnections() {
+        return m_connections;
+    }
+
+    /**
+     * @return the number of rows after which a connection commits, 0 if it only commits at the end
+     */
+    public long getCommitInterval() {
+        return m_commitInterval;
+    }
+
+    /**
+     * @return <code>true</code> if the bulk loader of the database is used if available
+     */
+    public boolean isUseBulkLoader() {
+        return m_useBulkLoader;
+    }
+}
@@ -126,6 +126,33 @@ String writeData(String table, RowInput input, final long rowCount, boolean appe
         Map<String, String> sqlTypes, CredentialsProvider cp, int batchSize, boolean insertNullForMissingCols,
         boolean failOnError) throws Exception;
 
+    /** Create connection to write into database. Rows are read from the input on the calling thread and written
+     * by several connections concurrently.
+     * @param table name of table to write
+     * @param input the data table as as row input
+     * @param rowCount number of row of the table to write, -1 if unknown
+     * @param appendData if checked the data is appended to an existing table
+     * @param exec Used the cancel writing.
+     * @param sqlTypes A mapping from column name to SQL-type.
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param batchSize number of rows written in one batch
+     * @param insertNullForMissingCols <code>true</code> if <code>null</code> should be inserted for missing columns
+     * @param failOnError <code>true</code> if the node should fail with invalid input data otherwise it will
+     * return a warning if an error occurs
+     * @param parallelWrite the number of connections and their commit interval, <code>null</code> to write
+     * sequentially with a single connection (as the default implementation always does)
+     * @return error string or null, if non
+     * @throws Exception if connection could not be established
+     * @since 3.7
+     */
+    default String writeData(final String table, final RowInput input, final long rowCount, final boolean appendData,
+        final ExecutionMonitor exec, final Map<String, String> sqlTypes, final CredentialsProvider cp,
+        final int batchSize, final boolean insertNullForMissingCols, final boolean failOnError,
+        final DBParallelWriteSettings parallelWrite) throws Exception {
+        return writeData(table, input, rowCount, appendData, exec, sqlTypes, cp, batchSize, insertNullForMissingCols,
+            failOnError);
+    }
+
     /** Update rows in the given database table.
      * @param schema optional db schema
      * @param table name of table to write
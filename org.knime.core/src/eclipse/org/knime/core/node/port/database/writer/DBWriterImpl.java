@@ -44,16 +44,29 @@
  */
 package org.knime.core.node.port.database.writer;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataCell;
@@ -74,6 +87,7 @@
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
 
 /**
  * Creates a connection to write to database.
@@ -107,209 +121,13 @@ public String writeData(final String table, final RowInput input, final long row
 //        final Connection conn = conSettings.createConnection(cp);
         return conSettings.execute(cp, conn -> {
         exec.setMessage("Waiting for free database connection...");
-        final StringBuilder columnNamesForInsertStatement = new StringBuilder("(");
 //        synchronized (conSettings.syncConnection(conn)) {
             exec.setMessage("Start writing rows in database...");
-            DataTableSpec spec = input.getDataTableSpec();
-            // mapping from spec columns to database columns
-            final int[] mapping;
-            // append data to existing table
-            if (appendData) {
-                if (conSettings.getUtility().tableExists(conn, table)) {
-                    String query =
-                        conSettings.getUtility().getStatementManipulator().forMetadataOnly("SELECT * FROM " + table);
-                    try (ResultSet rs = conn.createStatement().executeQuery(query)) {
-                        ResultSetMetaData rsmd = rs.getMetaData();
-                        final Map<String, Integer> columnNames =
-                                new LinkedHashMap<String, Integer>();
-                        for (int i = 0; i < spec.getNumColumns(); i++) {
-                            String colName = replaceColumnName(spec.getColumnSpec(i).getName());
-                            columnNames.put(colName.toLowerCase(), i);
-                        }
-
-                        // sanity check to lock if all input columns are in db
-                        ArrayList<String> columnNotInSpec = new ArrayList<String>(
-                                columnNames.keySet());
-                        for (int i = 0; i < rsmd.getColumnCount(); i++) {
-                            String dbColName = replaceColumnName(rsmd.getColumnName(i + 1));
-                            if (columnNames.containsKey(dbColName.toLowerCase())) {
-                                columnNotInSpec.remove(dbColName.toLowerCase());
-                                columnNamesForInsertStatement.append(dbColName).append(',');
-                            } else if (insertNullForMissingCols) {
-                                //append the column name of a missing column only if the insert null for missing
-                                //column option is enabled
-                                columnNamesForInsertStatement.append(dbColName).append(',');
-                            }
-                        }
-                        if (rsmd.getColumnCount() > 0) {
-                            columnNamesForInsertStatement.deleteCharAt(columnNamesForInsertStatement.length() - 1);
-                        }
-                        columnNamesForInsertStatement.append(')');
-
-                        if (columnNotInSpec.size() > 0) {
-                            throw new RuntimeException("No. of columns in input"
-                                    + " table > in database; not existing columns: "
-                                    + columnNotInSpec.toString());
-                        }
-                        mapping = new int[rsmd.getColumnCount()];
-                        for (int i = 0; i < mapping.length; i++) {
-                            String name = replaceColumnName(rsmd.getColumnName(i + 1)).toLowerCase();
-                            if (!columnNames.containsKey(name)) {
-                                mapping[i] = -1;
-                                continue;
-                            }
-                            mapping[i] = columnNames.get(name);
-                            DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
-                            int type = rsmd.getColumnType(i + 1);
-                            switch (type) {
-                                // check all boolean compatible types
-                                case Types.BIT:
-                                case Types.BOOLEAN:
-                                    // types must be compatible to BooleanValue
-                                    if (!cspec.getType().isCompatible(BooleanValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check all int compatible types
-                                case Types.TINYINT:
-                                case Types.SMALLINT:
-                                case Types.INTEGER:
-                                    // types must be compatible to IntValue
-                                    if (!cspec.getType().isCompatible(IntValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                case Types.BIGINT:
-                                    // types must also be compatible to LongValue
-                                    if (!cspec.getType().isCompatible(LongValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check all double compatible types
-                                case Types.FLOAT:
-                                case Types.DOUBLE:
-                                case Types.NUMERIC:
-                                case Types.DECIMAL:
-                                case Types.REAL:
-                                    // types must also be compatible to DoubleValue
-                                    if (!cspec.getType().isCompatible(DoubleValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check for date-and-time compatible types
-                                case Types.DATE:
-                                case Types.TIME:
-                                case Types.TIMESTAMP:
-                                    // types must also be compatible to DataValue
-                                    if (!cspec.getType().isCompatible(DateAndTimeValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check for blob compatible types
-                                case Types.BLOB:
-                                case Types.BINARY:
-                                case Types.LONGVARBINARY:
-                                    // types must also be compatible to DataValue
-                                    if (!cspec.getType().isCompatible(BinaryObjectDataValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // all other cases are defined as StringValue types
-                            }
-                        }
-                    }
-                } else {
-                    LOGGER.info("Table \"" + table
-                        + "\" does not exist in database, "
-                        + "will create new table.");
-                    // and create new table
-                    final String query =
-                            "CREATE TABLE " + table + " "
-                                    + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
-                    LOGGER.debug("Executing SQL statement as execute: " + query);
-                    try (Statement statement = conn.createStatement()) {
-                        statement.execute(query);
-                    }
-                    if (!conn.getAutoCommit()) {
-                        conn.commit();
-                    }
-                    mapping = new int[spec.getNumColumns()];
-                    for (int k = 0; k < mapping.length; k++) {
-                        mapping[k] = k;
-                    }
-                }
-            } else {
-                LOGGER.debug("Append not enabled. Table " + table + " will be dropped if exists.");
-                mapping = new int[spec.getNumColumns()];
-                for (int k = 0; k < mapping.length; k++) {
-                    mapping[k] = k;
-                }
-                Statement statement = null;
-                try {
-                    statement = conn.createStatement();
-                    // remove existing table (if any)
-                    final String query = "DROP TABLE " + table;
-                    LOGGER.debug("Executing SQL statement as execute: " + query);
-                    statement.execute(query);
-                } catch (Throwable t) {
-                    if (statement == null) {
-                        throw new SQLException("Could not create SQL statement,"
-                            + " reason: " + t.getMessage(), t);
-                    }
-                    LOGGER.info("Exception droping table \"" + table + "\": " + t.getMessage()
-                        + ". Will create new table.");
-                } finally {
-                    if (!conn.getAutoCommit()) {
-                        conn.commit();
-                    }
-                }
-                // and create new table
-                final String query =
-                    "CREATE TABLE " + table + " " + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
-                LOGGER.debug("Executing SQL statement as execute: " + query);
-                statement.execute(query);
-                statement.close();
-                if (!conn.getAutoCommit()) {
-                    conn.commit();
-                }
-            }
-
-            // this is a (temporary) workaround for bug #5802: if there is a DataValue column in the input table
-            // we need to use the SQL type for creating the insert statements.
-            Map<Integer, Integer> columnTypes = null;
-            for (DataColumnSpec cs : spec) {
-                if (cs.getType().getPreferredValueClass() == DataValue.class) {
-                    columnTypes = getColumnTypes(conn, table);
-                    break;
-                }
-            }
-
-            final String insertStamtement =
-                    createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols);
+            final DataTableSpec spec = input.getDataTableSpec();
+            final InsertTarget target = prepareInsert(conn, table, spec, appendData, sqlTypes, insertNullForMissingCols);
+            final int[] mapping = target.m_mapping;
+            final Map<Integer, Integer> columnTypes = target.m_columnTypes;
+            final String insertStamtement = target.m_insertStatement;
 
             // problems writing more than 13 columns. the prepare statement
             // ensures that we can set the columns directly row-by-row, the
@@ -439,6 +257,507 @@ public String writeData(final String table, final RowInput input, final long row
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The calling thread reads the input and hands batches of rows via a bounded queue to the writing threads. Each
+     * writing thread borrows its own connection, converts the rows into statement parameters (or uses the bulk loader
+     * of the database) and commits according to the commit interval.
+     * @since 3.7
+     */
+    @Override
+    public String writeData(final String table, final RowInput input, final long rowCount, final boolean appendData,
+        final ExecutionMonitor exec, final Map<String, String> sqlTypes, final CredentialsProvider cp,
+        final int batchSize, final boolean insertNullForMissingCols, final boolean failOnError,
+        final DBParallelWriteSettings parallelWrite) throws Exception {
+        if (parallelWrite == null) {
+            return writeData(table, input, rowCount, appendData, exec, sqlTypes, cp, batchSize,
+                insertNullForMissingCols, failOnError);
+        }
+        final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
+        final DataTableSpec spec = input.getDataTableSpec();
+        exec.setMessage("Waiting for free database connection...");
+        final InsertTarget target = conSettings.execute(cp,
+            conn -> prepareInsert(conn, table, spec, appendData, sqlTypes, insertNullForMissingCols));
+        final DBBulkLoader bulkLoader =
+            parallelWrite.isUseBulkLoader() ? conSettings.getUtility().getBulkLoader() : null;
+        final int connections = parallelWrite.getConnections();
+        final int rowsPerBatch = Math.max(1, batchSize);
+        exec.setMessage("Start writing rows in database...");
+        LOGGER.debug("Writing rows with " + connections + " connection(s)"
+            + (bulkLoader != null ? " using bulk loader" : "") + ", statement: " + target.m_insertStatement);
+
+        final BlockingQueue<RowBatch> queue = new ArrayBlockingQueue<>(2 * connections);
+        final WriteErrors errors = new WriteErrors(exec);
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService executor = ThreadUtils.executorServiceWithContext(Executors.newFixedThreadPool(
+            connections, r -> new Thread(r, "KNIME-DB-Writer-" + threadCounter.incrementAndGet())));
+        try {
+            final List<Future<?>> writers = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                writers.add(executor.submit(() -> writeBatches(table, spec, target, bulkLoader, cp, batchSize,
+                    insertNullForMissingCols, failOnError, parallelWrite.getCommitInterval(), queue, errors)));
+            }
+            long cnt = 0;
+            List<DataRow> rows = new ArrayList<>(rowsPerBatch);
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                rows.add(row);
+                cnt++;
+                exec.checkCanceled();
+                if (rowCount > 0) {
+                    exec.setProgress(1.0 * cnt / rowCount, "Row " + "#" + cnt);
+                } else {
+                    exec.setProgress("Writing Row#" + cnt);
+                }
+                if (rows.size() == rowsPerBatch) {
+                    enqueue(queue, new RowBatch(cnt - rows.size() + 1, rows), exec, errors);
+                    rows = new ArrayList<>(rowsPerBatch);
+                }
+            }
+            if (!rows.isEmpty()) {
+                enqueue(queue, new RowBatch(cnt - rows.size() + 1, rows), exec, errors);
+            }
+            for (int i = 0; i < connections; i++) {
+                enqueue(queue, RowBatch.END, exec, errors);
+            }
+            exec.setMessage("Waiting for database to finish writing...");
+            for (Future<?> writer : writers) {
+                while (true) {
+                    try {
+                        writer.get(100, TimeUnit.MILLISECONDS);
+                        break;
+                    } catch (TimeoutException ex) {
+                        exec.checkCanceled();
+                    }
+                }
+            }
+            errors.checkFailure();
+            if (errors.getCount() == 0) {
+                return null;
+            } else {
+                return "Errors \"" + errors.getCount() + "\" writing " + cnt + " rows.";
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Consecutive input rows that are written together, row numbers start at 1. */
+    private static final class RowBatch {
+        /** Tells a writing thread that there are no more rows, compared by identity. */
+        private static final RowBatch END = new RowBatch(-1, null);
+
+        private final long m_firstRow;
+        private final List<DataRow> m_rows;
+
+        private RowBatch(final long firstRow, final List<DataRow> rows) {
+            m_firstRow = firstRow;
+            m_rows = rows;
+        }
+
+        private String getErrorMessage(final Throwable t) {
+            if (m_rows.size() > 1) {
+                return "Error while adding rows #" + m_firstRow + " - #" + (m_firstRow + m_rows.size() - 1)
+                    + ", reason: " + t.getMessage();
+            }
+            return "Error while adding row #" + m_firstRow + " (" + m_rows.get(0).getKey() + "), reason: "
+                + t.getMessage();
+        }
+    }
+
+    /** Collects the errors of the writing threads; reports only the first ones like the sequential writer. */
+    private static final class WriteErrors {
+        private final ExecutionMonitor m_exec;
+        private final AtomicReference<Exception> m_failure = new AtomicReference<>();
+        private long m_count;
+        private long m_reported;
+
+        private WriteErrors(final ExecutionMonitor exec) {
+            m_exec = exec;
+        }
+
+        private synchronized void add(final String errorMsg, final Throwable t) {
+            m_count++;
+            if (m_reported > -1) {
+                m_exec.setMessage(errorMsg);
+                if (m_reported++ < 10) {
+                    LOGGER.warn(errorMsg);
+                } else {
+                    m_reported = -1;
+                    LOGGER.warn(errorMsg + " - more errors...", t);
+                }
+            }
+        }
+
+        private synchronized long getCount() {
+            return m_count;
+        }
+
+        private void fail(final Exception ex) {
+            m_failure.compareAndSet(null, ex);
+        }
+
+        private void checkFailure() throws Exception {
+            final Exception ex = m_failure.get();
+            if (ex != null) {
+                throw ex;
+            }
+        }
+    }
+
+    private static void enqueue(final BlockingQueue<RowBatch> queue, final RowBatch batch,
+        final ExecutionMonitor exec, final WriteErrors errors) throws Exception {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            exec.checkCanceled();
+            errors.checkFailure();
+        }
+        errors.checkFailure();
+    }
+
+    /** Body of a writing thread, takes batches from the queue until it receives {@link RowBatch#END}. */
+    private Void writeBatches(final String table, final DataTableSpec spec, final InsertTarget target,
+        final DBBulkLoader bulkLoader, final CredentialsProvider cp, final int batchSize,
+        final boolean insertNullForMissingCols, final boolean failOnError, final long commitInterval,
+        final BlockingQueue<RowBatch> queue, final WriteErrors errors) {
+        final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
+        Connection conn = null;
+        try {
+            conn = conSettings.borrowConnection(cp);
+            final boolean autoCommit = conn.getAutoCommit();
+            DatabaseConnectionSettings.setAutoCommit(conn, false);
+            boolean completed = false;
+            LOGGER.debug("Executing SQL statement as prepareStatement: " + target.m_insertStatement);
+            try (final PreparedStatement stmt = conn.prepareStatement(target.m_insertStatement)) {
+                final TimeZone timezone = conSettings.getTimeZone();
+                final int[] loaderMapping = getWrittenColumnMapping(target.m_mapping, insertNullForMissingCols);
+                DBBulkLoader loader = bulkLoader;
+                long uncommitted = 0;
+                RowBatch batch;
+                while ((batch = queue.take()) != RowBatch.END) {
+                    try {
+                        boolean loaded = false;
+                        if (loader != null) {
+                            try {
+                                loader.load(conn, table, target.m_columnNames, spec, loaderMapping, batch.m_rows,
+                                    timezone);
+                                loaded = true;
+                            } catch (SQLFeatureNotSupportedException ex) {
+                                LOGGER.info("Bulk loading not supported by connection, using insert statements: "
+                                    + ex.getMessage(), ex);
+                                loader = null;
+                            }
+                        }
+                        if (!loaded) {
+                            insertBatch(stmt, batch.m_rows, spec, target, batchSize, insertNullForMissingCols,
+                                timezone);
+                        }
+                        uncommitted += batch.m_rows.size();
+                        if (commitInterval > 0 && uncommitted >= commitInterval) {
+                            conn.commit();
+                            uncommitted = 0;
+                        }
+                    } catch (Exception ex) {
+                        final String errorMsg = batch.getErrorMessage(ex);
+                        if (failOnError) {
+                            errors.fail(new Exception(errorMsg, ex));
+                            return null;
+                        }
+                        // Postgres will refuse any more commands in this transaction after errors, commit the changes
+                        // that were possible (as the sequential writer does)
+                        conn.commit();
+                        uncommitted = 0;
+                        errors.add(errorMsg, ex);
+                    } finally {
+                        if (batchSize > 1) {
+                            stmt.clearBatch();
+                        }
+                    }
+                }
+                conn.commit();
+                completed = true;
+            } finally {
+                if (!completed) {
+                    try {
+                        conn.rollback();
+                        LOGGER.debug("Rollback uncommitted rows of writer connection");
+                    } catch (Throwable ex) {
+                        LOGGER.info("Failed rollback of writer connection: " + ex.getMessage(), ex);
+                    }
+                }
+                DatabaseConnectionSettings.setAutoCommit(conn, autoCommit);
+            }
+        } catch (InterruptedException ex) {
+            // writing was canceled or another writer failed
+        } catch (Exception ex) {
+            errors.fail(ex);
+        } finally {
+            conSettings.releaseConnection(cp, conn);
+        }
+        return null;
+    }
+
+    private void insertBatch(final PreparedStatement stmt, final List<DataRow> rows, final DataTableSpec spec,
+        final InsertTarget target, final int batchSize, final boolean insertNullForMissingCols,
+        final TimeZone timezone) throws SQLException {
+        final int[] mapping = target.m_mapping;
+        for (DataRow row : rows) {
+            int dbIdx = 1;
+            for (int i = 0; i < mapping.length; i++) {
+                if (mapping[i] < 0) {
+                    if (insertNullForMissingCols) {
+                        //insert only null if the insert null for missing col option is enabled
+                        stmt.setNull(dbIdx++, Types.NULL);
+                    }
+                } else {
+                    final DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
+                    final DataCell cell = row.getCell(mapping[i]);
+                    fillStatement(stmt, dbIdx++, cspec, cell, timezone, target.m_columnTypes);
+                }
+            }
+            if (batchSize > 1) {
+                stmt.addBatch();
+            } else {
+                stmt.execute();
+            }
+        }
+        if (batchSize > 1) {
+            stmt.executeBatch();
+        }
+    }
+
+    /** The mapping restricted to the database columns in the insert statement. */
+    private static int[] getWrittenColumnMapping(final int[] mapping, final boolean insertNullForMissingCols) {
+        return insertNullForMissingCols ? mapping : Arrays.stream(mapping).filter(i -> i >= 0).toArray();
+    }
+
+    /** Mapping and insert statement of the database table the input rows are written to. */
+    private static final class InsertTarget {
+        /** Index of the input column for each database column, -1 if not in the input. */
+        private final int[] m_mapping;
+        /** Parenthesized list of the database columns written. */
+        private final String m_columnNames;
+        /** SQL types of the database columns if needed, see bug #5802, might be <code>null</code>. */
+        private final Map<Integer, Integer> m_columnTypes;
+        private final String m_insertStatement;
+
+        private InsertTarget(final int[] mapping, final String columnNames, final Map<Integer, Integer> columnTypes,
+            final String insertStatement) {
+            m_mapping = mapping;
+            m_columnNames = columnNames;
+            m_columnTypes = columnTypes;
+            m_insertStatement = insertStatement;
+        }
+    }
+
+    /**
+     * Checks the input columns against an existing table or (re-)creates the table and derives the insert statement.
+     */
+    private InsertTarget prepareInsert(final Connection conn, final String table, final DataTableSpec spec,
+        final boolean appendData, final Map<String, String> sqlTypes, final boolean insertNullForMissingCols)
+        throws SQLException {
+        final StringBuilder columnNamesForInsertStatement = new StringBuilder("(");
+        // mapping from spec columns to database columns
+        final int[] mapping;
+        // append data to existing table
+        if (appendData) {
+            if (getDatabaseConnectionSettings().getUtility().tableExists(conn, table)) {
+                String query =
+                    getDatabaseConnectionSettings().getUtility().getStatementManipulator().forMetadataOnly("SELECT * FROM " + table);
+                try (ResultSet rs = conn.createStatement().executeQuery(query)) {
+                    ResultSetMetaData rsmd = rs.getMetaData();
+                    final Map<String, Integer> columnNames =
+                            new LinkedHashMap<String, Integer>();
+                    for (int i = 0; i < spec.getNumColumns(); i++) {
+                        String colName = replaceColumnName(spec.getColumnSpec(i).getName());
+                        columnNames.put(colName.toLowerCase(), i);
+                    }
+
+                    // sanity check to lock if all input columns are in db
+                    ArrayList<String> columnNotInSpec = new ArrayList<String>(
+                            columnNames.keySet());
+                    for (int i = 0; i < rsmd.getColumnCount(); i++) {
+                        String dbColName = replaceColumnName(rsmd.getColumnName(i + 1));
+                        if (columnNames.containsKey(dbColName.toLowerCase())) {
+                            columnNotInSpec.remove(dbColName.toLowerCase());
+                            columnNamesForInsertStatement.append(dbColName).append(',');
+                        } else if (insertNullForMissingCols) {
+                            //append the column name of a missing column only if the insert null for missing
+                            //column option is enabled
+                            columnNamesForInsertStatement.append(dbColName).append(',');
+                        }
+                    }
+                    if (rsmd.getColumnCount() > 0) {
+                        columnNamesForInsertStatement.deleteCharAt(columnNamesForInsertStatement.length() - 1);
+                    }
+                    columnNamesForInsertStatement.append(')');
+
+                    if (columnNotInSpec.size() > 0) {
+                        throw new RuntimeException("No. of columns in input"
+                                + " table > in database; not existing columns: "
+                                + columnNotInSpec.toString());
+                    }
+                    mapping = new int[rsmd.getColumnCount()];
+                    for (int i = 0; i < mapping.length; i++) {
+                        String name = replaceColumnName(rsmd.getColumnName(i + 1)).toLowerCase();
+                        if (!columnNames.containsKey(name)) {
+                            mapping[i] = -1;
+                            continue;
+                        }
+                        mapping[i] = columnNames.get(name);
+                        DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
+                        int type = rsmd.getColumnType(i + 1);
+                        switch (type) {
+                            // check all boolean compatible types
+                            case Types.BIT:
+                            case Types.BOOLEAN:
+                                // types must be compatible to BooleanValue
+                                if (!cspec.getType().isCompatible(BooleanValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check all int compatible types
+                            case Types.TINYINT:
+                            case Types.SMALLINT:
+                            case Types.INTEGER:
+                                // types must be compatible to IntValue
+                                if (!cspec.getType().isCompatible(IntValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                            case Types.BIGINT:
+                                // types must also be compatible to LongValue
+                                if (!cspec.getType().isCompatible(LongValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check all double compatible types
+                            case Types.FLOAT:
+                            case Types.DOUBLE:
+                            case Types.NUMERIC:
+                            case Types.DECIMAL:
+                            case Types.REAL:
+                                // types must also be compatible to DoubleValue
+                                if (!cspec.getType().isCompatible(DoubleValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check for date-and-time compatible types
+                            case Types.DATE:
+                            case Types.TIME:
+                            case Types.TIMESTAMP:
+                                // types must also be compatible to DataValue
+                                if (!cspec.getType().isCompatible(DateAndTimeValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check for blob compatible types
+                            case Types.BLOB:
+                            case Types.BINARY:
+                            case Types.LONGVARBINARY:
+                                // types must also be compatible to DataValue
+                                if (!cspec.getType().isCompatible(BinaryObjectDataValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // all other cases are defined as StringValue types
+                        }
+                    }
+                }
+            } else {
+                LOGGER.info("Table \"" + table
+                    + "\" does not exist in database, "
+                    + "will create new table.");
+                // and create new table
+                final String query =
+                        "CREATE TABLE " + table + " "
+                                + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
+                LOGGER.debug("Executing SQL statement as execute: " + query);
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute(query);
+                }
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+                mapping = new int[spec.getNumColumns()];
+                for (int k = 0; k < mapping.length; k++) {
+                    mapping[k] = k;
+                }
+            }
+        } else {
+            LOGGER.debug("Append not enabled. Table " + table + " will be dropped if exists.");
+            mapping = new int[spec.getNumColumns()];
+            for (int k = 0; k < mapping.length; k++) {
+                mapping[k] = k;
+            }
+            Statement statement = null;
+            try {
+                statement = conn.createStatement();
+                // remove existing table (if any)
+                final String query = "DROP TABLE " + table;
+                LOGGER.debug("Executing SQL statement as execute: " + query);
+                statement.execute(query);
+            } catch (Throwable t) {
+                if (statement == null) {
+                    throw new SQLException("Could not create SQL statement,"
+                        + " reason: " + t.getMessage(), t);
+                }
+                LOGGER.info("Exception droping table \"" + table + "\": " + t.getMessage()
+                    + ". Will create new table.");
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+            // and create new table
+            final String query =
+                "CREATE TABLE " + table + " " + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
+            LOGGER.debug("Executing SQL statement as execute: " + query);
+            statement.execute(query);
+            statement.close();
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+
+        // this is a (temporary) workaround for bug #5802: if there is a DataValue column in the input table
+        // we need to use the SQL type for creating the insert statements.
+        Map<Integer, Integer> columnTypes = null;
+        for (DataColumnSpec cs : spec) {
+            if (cs.getType().getPreferredValueClass() == DataValue.class) {
+                columnTypes = getColumnTypes(conn, table);
+                break;
+            }
+        }
+
+        return new InsertTarget(mapping, columnNamesForInsertStatement.toString(), columnTypes,
+            createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols));
+    }
+
     /** Create connection to update table in database.
      * @param data The data to write.
      * @param setColumns columns part of the SET clause
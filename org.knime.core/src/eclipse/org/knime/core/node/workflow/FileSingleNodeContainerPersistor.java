@@ -51,12 +51,15 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.knime.core.internal.ReferencedFile;
 import org.knime.core.node.BufferedDataTable;
@@ -527,24 +530,29 @@ protected static String save(final SingleNodeContainer singleNC, final Reference
         ReferencedFile sncAutoSaveDirRef = singleNC.getAutoSaveDirectory();
         File nodeDir = nodeDirRef.getFile();
         boolean nodeDirExists = nodeDir.exists();
-        // the if-checks below also update the nodeDirRef so that we can make changes on that object
+        if (!isNodeDirectoryToBeWritten(singleNC, nodeDirRef, saveHelper)) {
+            return settingsDotXML;
+        }
+        // the if-checks below update the nodeDirRef so that we can make changes on that object
         if (!saveHelper.isAutoSave() && nodeDirRef.equals(sncWorkingDirRef)) {
-            if (!sncWorkingDirRef.isDirty() && nodeDirExists) {
-                return settingsDotXML;
-            } else {
-                nodeDirRef = sncWorkingDirRef;
-            }
+            nodeDirRef = sncWorkingDirRef;
         }
         if (saveHelper.isAutoSave() && nodeDirRef.equals(sncAutoSaveDirRef)) {
-            if (!sncAutoSaveDirRef.isDirty() && nodeDirExists) {
-                return settingsDotXML;
-            } else {
-                nodeDirRef = sncAutoSaveDirRef;
-            }
+            nodeDirRef = sncAutoSaveDirRef;
         }
         boolean nodeDirDeleted = true;
         if (singleNC instanceof NativeNodeContainer) {
-            nodeDirDeleted = deleteChildren(nodeDir, SingleNodeContainer.DROP_DIR_NAME);
+            // table files that were saved into (or loaded from) this directory and are unchanged are kept and re-used
+            Set<File> keep = Collections.emptySet();
+            if (saveHelper.isSaveData() && singleNC.getInternalState().equals(InternalNodeContainerState.EXECUTED)) {
+                // move the table files written in advance into the node directory (if the tables are unchanged)
+                StagedTableData stagedTableData = saveHelper.getStagedTableData();
+                if (stagedTableData != null) {
+                    stagedTableData.commit((NativeNodeContainer)singleNC, nodeDir);
+                }
+                keep = ((NativeNodeContainer)singleNC).getNode().getSavedTableFiles();
+            }
+            nodeDirDeleted = deleteChildren(nodeDir, keep, SingleNodeContainer.DROP_DIR_NAME);
         }
         nodeDir.mkdirs();
         if (!nodeDir.isDirectory() || !nodeDir.canWrite()) {
@@ -617,6 +625,29 @@ protected static String save(final SingleNodeContainer singleNC, final Reference
     }
 
 
+    /**
+     * Whether {@link #save(SingleNodeContainer, ReferencedFile, ExecutionMonitor, WorkflowSaveHelper)} writes the
+     * node directory or skips it because it is unchanged since the last save into the same location.
+     *
+     * @param singleNC The node to save.
+     * @param nodeDirRef The node directory to save to.
+     * @param saveHelper The save helper of the current save operation.
+     * @return true if the node directory is (re-)written
+     */
+    static boolean isNodeDirectoryToBeWritten(final SingleNodeContainer singleNC, final ReferencedFile nodeDirRef,
+        final WorkflowSaveHelper saveHelper) {
+        if (!nodeDirRef.getFile().exists()) {
+            return true;
+        }
+        if (!saveHelper.isAutoSave() && nodeDirRef.equals(singleNC.getNodeContainerDirectory())) {
+            return singleNC.getNodeContainerDirectory().isDirty();
+        }
+        if (saveHelper.isAutoSave() && nodeDirRef.equals(singleNC.getAutoSaveDirectory())) {
+            return singleNC.getAutoSaveDirectory().isDirty();
+        }
+        return true;
+    }
+
     protected static ReferencedFile saveNodeFileName(final SingleNodeContainer snc, final NodeSettingsWO settings,
         final ReferencedFile nodeDirectoryRef) {
         // KNIME 2.7- reads from this file. It used to be "node.xml", which was removed in 2.8 and now the settings.xml
@@ -675,18 +706,21 @@ protected static void saveFlowObjectStack(final NodeSettingsWO settings, final S
     }
 
     /**
-     * Delete content of directory, skipping (direct) childs as given in 2nd argument. Use case is: to delete a node
-     * directory but skip its drop folder.
+     * Delete content of directory, skipping (direct) childs as given in 3rd argument. Use case is: to delete a node
+     * directory but skip its drop folder and table files that are re-used.
      *
      * @param directory The directory whose content is to be deleted
+     * @param keep Files (anywhere in the directory tree) that are not deleted, along with their parent directories
      * @param exclude A list of direct child names that are to be skipped
      * @return false if directory does not exist, true if non-listed children are deleted
      */
-    private static boolean deleteChildren(final File directory, final String... exclude) {
+    private static boolean deleteChildren(final File directory, final Set<File> keep, final String... exclude) {
         if (!directory.isDirectory()) {
             return false;
         }
         HashSet<String> excludeSet = new HashSet<String>(Arrays.asList(exclude));
+        Set<Path> keepPaths =
+            keep.stream().map(f -> f.toPath().toAbsolutePath().normalize()).collect(Collectors.toSet());
         File[] children = directory.listFiles();
         if (children == null) {
             return true;
@@ -694,7 +728,16 @@ private static boolean deleteChildren(final File directory, final String... excl
         boolean success = true;
         for (File f : children) {
             if (!excludeSet.contains(f.getName())) {
-                boolean s = FileUtil.deleteRecursively(f);
+                Path path = f.toPath().toAbsolutePath().normalize();
+                if (keepPaths.contains(path)) {
+                    continue;
+                }
+                boolean s;
+                if (f.isDirectory() && keepPaths.stream().anyMatch(p -> p.startsWith(path))) {
+                    s = deleteChildren(f, keep);
+                } else {
+                    s = FileUtil.deleteRecursively(f);
+                }
                 success &= s;
             }
         }
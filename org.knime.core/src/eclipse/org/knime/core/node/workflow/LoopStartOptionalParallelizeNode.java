@@ -0,0 +1,74 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+/**
+ * A {@link LoopStartParallelizeNode} of an ordinary loop that may run some of its iterations as parallel chunks. In
+ * contrast to a plain {@link LoopStartParallelizeNode} the loop is only parallelized if its body allows it, i.e. if
+ * the loop ends in a {@link LoopEndOptionalParallelizeNode} and no state is carried from one iteration to the next
+ * (the body must only read flow variables that are also available in the chunks). Before
+ * each execution of the node the framework tells it whether the body qualifies. If it doesn't (or the node doesn't
+ * create remote chunks for other reasons) the node returns <code>0</code> from {@link #getNrRemoteChunks()} and the
+ * loop is executed sequentially as usual.
+ *
+ * <p>NO API!
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public interface LoopStartOptionalParallelizeNode extends LoopStartParallelizeNode {
+
+    /**
+     * Called by the framework before each execution of the loop start node.
+     *
+     * @param parallelizable <code>true</code> if the iterations of the loop can run as parallel chunks,
+     *            <code>false</code> if the node must not create remote chunks
+     */
+    void setParallelizable(final boolean parallelizable);
+}
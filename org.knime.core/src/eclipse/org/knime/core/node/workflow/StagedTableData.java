@@ -0,0 +1,274 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.internal.ReferencedFile;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.FileNodePersistor.TableDataSnapshot;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * The table data of the executed nodes of a workflow that is written before the workflow is saved. The tables are
+ * determined while the workflow is locked ({@link #create(WorkflowManager, File, WorkflowSaveHelper)}), their data
+ * files are then written concurrently into a staging directory without holding the lock ({@link #write(
+ * ExecutionMonitor)}). The subsequent save (holding the lock again) moves the files of each node into its node
+ * directory ({@link #commit(NativeNodeContainer, File)}) and re-uses them. Tables of nodes that are reset in the
+ * meantime are discarded along with the staging directory ({@link #close()}).
+ *
+ * <p>
+ * The number of threads is controlled by {@link KNIMEConstants#PROPERTY_WORKFLOW_SAVE_THREADS}, the threads are taken
+ * from the {@link KNIMEConstants#GLOBAL_THREAD_POOL}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StagedTableData implements AutoCloseable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StagedTableData.class);
+
+    /** Number of threads writing table data concurrently, see {@link KNIMEConstants#PROPERTY_WORKFLOW_SAVE_THREADS}. */
+    private static final int THREADS = getThreads();
+
+    private final File m_workflowDir;
+
+    private final Map<NativeNodeContainer, TableDataSnapshot> m_snapshots;
+
+    private File m_stagingDir;
+
+    private StagedTableData(final File workflowDir, final Map<NativeNodeContainer, TableDataSnapshot> snapshots) {
+        m_workflowDir = workflowDir;
+        m_snapshots = snapshots;
+    }
+
+    /**
+     * Takes a snapshot of the tables of all executed nodes in the workflow (and its metanodes and wrapped metanodes)
+     * that are going to be written. Must be called while the workflow is locked.
+     *
+     * @param wfm The workflow to save.
+     * @param directory The directory the workflow is saved to.
+     * @param saveHelper The save helper of the save operation.
+     * @return The tables to write or null if concurrent writing is disabled or there is nothing to write.
+     */
+    static StagedTableData create(final WorkflowManager wfm, final File directory,
+        final WorkflowSaveHelper saveHelper) {
+        if (THREADS <= 1 || !saveHelper.isSaveData()) {
+            return null;
+        }
+        ReferencedFile workingDir = saveHelper.isAutoSave() ? wfm.getAutoSaveDirectory()
+            : wfm.getNodeContainerDirectory();
+        boolean isWorkingDir = new ReferencedFile(directory).equals(workingDir);
+        Map<NativeNodeContainer, TableDataSnapshot> snapshots =
+            new LinkedHashMap<NativeNodeContainer, TableDataSnapshot>();
+        collectSnapshots(wfm, isWorkingDir, saveHelper, snapshots);
+        return snapshots.isEmpty() ? null : new StagedTableData(directory, snapshots);
+    }
+
+    private static void collectSnapshots(final WorkflowManager wfm, final boolean isWorkingDir,
+        final WorkflowSaveHelper saveHelper, final Map<NativeNodeContainer, TableDataSnapshot> snapshots) {
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            if (isWorkingDir && !isToBeWritten(nc, saveHelper)) {
+                continue;
+            }
+            if (nc instanceof WorkflowManager) {
+                collectSnapshots((WorkflowManager)nc, isWorkingDir, saveHelper, snapshots);
+            } else if (nc instanceof SubNodeContainer) {
+                collectSnapshots(((SubNodeContainer)nc).getWorkflowManager(), isWorkingDir, saveHelper, snapshots);
+            } else if (nc instanceof NativeNodeContainer
+                && nc.getInternalState().equals(InternalNodeContainerState.EXECUTED)) {
+                TableDataSnapshot snapshot = TableDataSnapshot.create((NativeNodeContainer)nc);
+                if (snapshot != null) {
+                    snapshots.put((NativeNodeContainer)nc, snapshot);
+                }
+            }
+        }
+    }
+
+    /** Whether a node in the working (or auto-save) directory is changed and going to be written. This is only to
+     * avoid writing tables needlessly, {@link #commit(NativeNodeContainer, File)} is called only for nodes that are
+     * actually written. */
+    private static boolean isToBeWritten(final NodeContainer nc, final WorkflowSaveHelper saveHelper) {
+        ReferencedFile ncDir = saveHelper.isAutoSave() ? nc.getAutoSaveDirectory() : nc.getNodeContainerDirectory();
+        return ncDir == null || ncDir.isDirty() || !ncDir.getFile().exists();
+    }
+
+    /**
+     * Writes the data files of the tables concurrently into a staging directory in the workflow directory (so that
+     * they can be moved atomically). Must be called without holding the workflow lock. Failures are logged; the
+     * tables of the respective nodes are written by the node save then.
+     *
+     * @param exec For progress and cancellation.
+     * @throws CanceledExecutionException If canceled.
+     */
+    void write(final ExecutionMonitor exec) throws CanceledExecutionException {
+        try {
+            if (!m_workflowDir.mkdirs() && !m_workflowDir.isDirectory()) {
+                throw new IOException("Unable to create directory \"" + m_workflowDir.getAbsolutePath() + "\"");
+            }
+            m_stagingDir = Files.createTempDirectory(m_workflowDir.toPath(), ".staged-tables-").toFile();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to create staging directory for table data, writing tables with the nodes: "
+                + e.getMessage(), e);
+            return;
+        }
+        exec.setMessage("Writing table data");
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(THREADS);
+        final List<Future<?>> futures = new ArrayList<Future<?>>();
+        int index = 0;
+        for (Map.Entry<NativeNodeContainer, TableDataSnapshot> e : m_snapshots.entrySet()) {
+            final NativeNodeContainer nnc = e.getKey();
+            final TableDataSnapshot snapshot = e.getValue();
+            final File nodeStagingDir = new File(m_stagingDir, "node_" + index++);
+            final ExecutionMonitor subExec = exec.createSilentSubProgress(0.0);
+            futures.add(pool.enqueue(() -> {
+                NodeContext.pushContext(nnc);
+                try {
+                    snapshot.write(nodeStagingDir, subExec);
+                } catch (CanceledExecutionException ex) {
+                    // canceled, checked below
+                } catch (IOException | RuntimeException ex) {
+                    LOGGER.warn("Unable to write table data of " + nnc.getNameWithID()
+                        + " in advance, writing it with the node: " + ex.getMessage(), ex);
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+                return null;
+            }));
+        }
+        final Callable<Void> waitForWriters = () -> {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            return null;
+        };
+        try {
+            // don't block a thread of the pool (if saving from within a job)
+            ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                currentPool.runInvisible(waitForWriters);
+            } else {
+                waitForWriters.call();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while writing table data");
+        } catch (Exception e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            if (cause instanceof InterruptedException) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while writing table data");
+            }
+            // exceptions are handled in the tasks
+            LOGGER.coding("Unexpected exception while writing table data", cause);
+        }
+        exec.checkCanceled();
+    }
+
+    /**
+     * Moves the data files written for the argument node into its node directory, provided that the node still has
+     * the same tables. Must be called while the workflow is locked, right before the node is saved. Failures are
+     * logged; the node save then writes the tables.
+     *
+     * @param nnc The node that is about to be saved.
+     * @param nodeDir The directory the node is saved to.
+     */
+    void commit(final NativeNodeContainer nnc, final File nodeDir) {
+        TableDataSnapshot snapshot = m_snapshots.remove(nnc);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            if (!snapshot.commit(nodeDir)) {
+                LOGGER.debug("Tables of " + nnc.getNameWithID() + " changed since they were written in advance, "
+                    + "writing them again");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to move table data of " + nnc.getNameWithID() + " into \"" + nodeDir.getAbsolutePath()
+                + "\", writing it again: " + e.getMessage(), e);
+        }
+    }
+
+    /** Deletes the staging directory including the files that have not been moved into a node directory. */
+    @Override
+    public void close() {
+        if (m_stagingDir != null && !FileUtil.deleteRecursively(m_stagingDir)) {
+            LOGGER.warn("Unable to delete staging directory \"" + m_stagingDir.getAbsolutePath() + "\"");
+        }
+    }
+
+    private static int getThreads() {
+        int defaultThreads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        String value = System.getProperty(KNIMEConstants.PROPERTY_WORKFLOW_SAVE_THREADS);
+        if (value == null) {
+            return defaultThreads;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid value for property \"" + KNIMEConstants.PROPERTY_WORKFLOW_SAVE_THREADS + "\": "
+                + value + ", using " + defaultThreads);
+            return defaultThreads;
+        }
+    }
+}
@@ -60,9 +60,11 @@
 
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.filestore.internal.FileStoreContentStore;
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 
@@ -89,6 +91,9 @@ public class WorkflowDataRepository implements IDataRepository {
 
     private final ConcurrentHashMap<UUID, IWriteFileStoreHandler> m_handlerMap;
 
+    /** Shared file store content, <code>null</code> if deduplication is disabled. */
+    private final FileStoreContentStore m_fileStoreContentStore;
+
     /**
      * internal ID for any generated buffered data table.
      */
@@ -99,6 +104,8 @@ public class WorkflowDataRepository implements IDataRepository {
         // (problems with GroupLoop start "forgetting" its sorted table)
         m_globalTableRepository = Collections.synchronizedMap(new HashMap<Integer, ContainerTable>());
         m_handlerMap = new ConcurrentHashMap<UUID, IWriteFileStoreHandler>();
+        m_fileStoreContentStore = Boolean.getBoolean(KNIMEConstants.PROPERTY_DEDUPLICATE_FILE_STORES)
+            ? new FileStoreContentStore() : null;
     }
 
     /**
@@ -203,6 +210,12 @@ public void printValidFileStoreHandlersToLogDebug() {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Optional<FileStoreContentStore> getFileStoreContentStore() {
+        return Optional.ofNullable(m_fileStoreContentStore);
+    }
+
     public Collection<IWriteFileStoreHandler> getWriteFileStoreHandlers() {
         return m_handlerMap.values();
     }
@@ -222,6 +235,16 @@ void ensureOpenAfterLoad() {
 
     }
 
+    /**
+     * Called when the owning project is closed. Deletes the deduplicated file store content (if any), the tables and
+     * file store handlers are cleared by their nodes.
+     */
+    void dispose() {
+        if (m_fileStoreContentStore != null) {
+            m_fileStoreContentStore.dispose();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
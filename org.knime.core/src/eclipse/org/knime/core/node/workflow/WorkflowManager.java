@@ -73,6 +73,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -131,6 +132,8 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.NodeView;
 import org.knime.core.node.NotConfigurableException;
+import org.knime.core.node.config.ConfigEditTreeModel;
+import org.knime.core.node.config.ConfigEditTreeModel.ConfigEditTreeNode;
 import org.knime.core.node.dialog.DialogNode;
 import org.knime.core.node.dialog.ExternalNodeData;
 import org.knime.core.node.dialog.InputNode;
@@ -274,6 +277,9 @@ public Thread newThread(final Runnable r) {
     /** for internal usage, holding output table references and file store handlers */
     private final WorkflowDataRepository m_dataRepository;
 
+    /** whether {@link #m_dataRepository} was created for this project (and not shared, e.g. by a sandbox). */
+    private final boolean m_ownsDataRepository;
+
     /**
      * Password store. This object is associated with each meta-node (contained metanodes have their own password
      * store).
@@ -435,6 +441,7 @@ private static void executeEarlyStartup() {
             m_workflowContext = context;
         }
         m_dataRepository = dataRepositoryOptional.orElseGet(() -> new WorkflowDataRepository());
+        m_ownsDataRepository = isProject && !dataRepositoryOptional.isPresent();
         m_credentialsStore = new CredentialsStore(this);
         // initialize listener list
         m_wfmListeners = new CopyOnWriteArrayList<WorkflowListener>();
@@ -534,6 +541,7 @@ private NodeContainerParent assertParentAssignments(final NodeContainerParent di
             m_workflowLock = new WorkflowLock(this, m_directNCParent);
             m_dataRepository = workflowDataRepository;
         }
+        m_ownsDataRepository = isProject;
         m_wfmListeners = new CopyOnWriteArrayList<WorkflowListener>();
         LOGGER.debug("Created subworkflow " + this.getID());
     }
@@ -2945,6 +2953,10 @@ void doBeforeExecution(final NodeContainer nc) {
                             .equals(nnc.getNode().getLoopStartNode());
                     } else if (nnc.isModelCompatibleTo(LoopStartNode.class)) {
                         nnc.getNode().getOutgoingFlowObjectStack().push(new InnerFlowLoopContext());
+                        if (nnc.isModelCompatibleTo(LoopStartOptionalParallelizeNode.class)) {
+                            ((LoopStartOptionalParallelizeNode)nnc.getNodeModel())
+                                .setParallelizable(isParallelizableLoop(nnc.getID()));
+                        }
                         //                    nnc.getNode().getFlowObjectStack().push(new InnerFlowLoopContext());
                     } else {
                         // or not if it's any other type of node
@@ -2992,8 +3004,12 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
                 NativeNodeContainer nnc = (NativeNodeContainer)nc;
                 if (success) {
                     Node node = nnc.getNode();
-                    // process start of bundle of parallel chunks
-                    if (node.getNodeModel() instanceof LoopStartParallelizeNode && !node.isInactive()) {
+                    // process start of bundle of parallel chunks (optionally parallel loops are only
+                    // parallelized if the start node prepared remote chunks)
+                    final NodeModel model = node.getNodeModel();
+                    if (model instanceof LoopStartParallelizeNode && !node.isInactive()
+                        && !(model instanceof LoopStartOptionalParallelizeNode
+                            && ((LoopStartParallelizeNode)model).getNrRemoteChunks() == 0)) {
                         try {
                             parallelizeLoop(nc.getID());
                         } catch (Exception e) {
@@ -3295,6 +3311,117 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
         queueIfQueuable(headNode);
     }
 
+    /* Checks if the iterations of the loop started by the argument node can run as parallel chunks. This requires
+     * that the loop ends in a LoopEndOptionalParallelizeNode and that the body carries no state from one iteration
+     * to the next: the body must be reset between iterations, nested loops must also end in LoopEndParallelizeNodes
+     * (this excludes recursive loops, which feed the result of an iteration back into the next one) and the body
+     * must not read flow variables the chunks can't reproduce (see #usesLoopCarriedVariables).
+     */
+    private boolean isParallelizableLoop(final NodeID startID) {
+        assert m_workflowLock.isHeldByCurrentThread();
+        final NodeID endID;
+        final ArrayList<NodeAndInports> loopBody;
+        try {
+            endID = m_workflow.getMatchingLoopEnd(startID);
+            loopBody = m_workflow.findAllNodesConnectedToLoopBody(startID, endID);
+        } catch (IllegalLoopException e) {
+            // reported as error when the loop is executed
+            return false;
+        }
+        final NodeContainer endNode = m_workflow.getNode(endID);
+        if (!(endNode instanceof NativeNodeContainer)
+            || !((NativeNodeContainer)endNode).isModelCompatibleTo(LoopEndOptionalParallelizeNode.class)) {
+            LOGGER.debug("Loop end " + endID + " can't collect parallel chunks, executing loop sequentially");
+            return false;
+        }
+        final NativeNodeContainer startNode = (NativeNodeContainer)m_workflow.getNode(startID);
+        if (!startNode.resetAndConfigureLoopBody()) {
+            LOGGER.debug("Loop body of " + startID + " is not reset between iterations, executing loop sequentially");
+            return false;
+        }
+        for (NodeAndInports nai : loopBody) {
+            final NodeContainer nc = m_workflow.getNode(nai.getID());
+            if (nc instanceof NativeNodeContainer && ((NativeNodeContainer)nc).isModelCompatibleTo(LoopEndNode.class)
+                && !((NativeNodeContainer)nc).isModelCompatibleTo(LoopEndParallelizeNode.class)) {
+                LOGGER.debug("Loop body of " + startID + " contains loop end " + nc.getID()
+                    + " that may carry state between iterations, executing loop sequentially");
+                return false;
+            }
+            if (usesLoopCarriedVariables(startNode, nc)) {
+                LOGGER.debug("Loop body of " + startID + " reads flow variables in " + nc.getID()
+                    + " that are not passed to parallel chunks, executing loop sequentially");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* Checks if the argument node of a loop body (or any node contained in it) has settings controlled by a flow
+     * variable whose value a parallel chunk can't reproduce. The copy of the loop body in a chunk sees the
+     * variables of the workflow, the variables created in the loop body itself and the int, double and string
+     * variables the loop start node pushes for the iteration. Any other variable that reaches the body via the loop
+     * start node (for instance a variable the start node keeps from previous iterations or a variable defined
+     * upstream of the loop) is only available when the iterations run one after another in the original body.
+     * Variables that are read by node implementations without being bound to a setting can't be detected here.
+     */
+    private boolean usesLoopCarriedVariables(final NativeNodeContainer startNode, final NodeContainer nc) {
+        if (nc instanceof WorkflowManager) {
+            for (NodeContainer child : ((WorkflowManager)nc).getNodeContainers()) {
+                if (usesLoopCarriedVariables(startNode, child)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (nc instanceof SubNodeContainer
+            && usesLoopCarriedVariables(startNode, ((SubNodeContainer)nc).getWorkflowManager())) {
+            return true;
+        }
+        if (!(nc instanceof SingleNodeContainer)) {
+            return false;
+        }
+        final SingleNodeContainerSettings settings = ((SingleNodeContainer)nc).getSingleNodeContainerSettings();
+        final NodeSettingsRO variablesSettings = settings == null ? null : settings.getVariablesSettings();
+        if (variablesSettings == null) {
+            return false;
+        }
+        final ConfigEditTreeModel configEditor;
+        try {
+            configEditor = ConfigEditTreeModel.create(settings.getModelSettingsClone(), variablesSettings);
+        } catch (InvalidSettingsException ise) {
+            // reported when the node is configured
+            return false;
+        }
+        // the variables the body sees in the original workflow: the input of the start node and what it pushes
+        final Map<String, FlowVariable> startVariables = new HashMap<String, FlowVariable>();
+        for (FlowObjectStack stack
+                : new FlowObjectStack[]{startNode.getFlowObjectStack(), startNode.getOutgoingFlowObjectStack()}) {
+            if (stack != null) {
+                startVariables.putAll(stack.getAvailableFlowVariables(FlowVariable.Type.values()));
+            }
+        }
+        for (Enumeration<?> e = configEditor.getRoot().depthFirstEnumeration(); e.hasMoreElements();) {
+            final String varName = ((ConfigEditTreeNode)e.nextElement()).getUseVariableName();
+            final FlowVariable var = varName == null ? null : startVariables.get(varName);
+            if (var == null) {
+                // unknown to the start node: created in the loop body (or by nodes outside the loop that are
+                // directly connected to the body), which is the same in each chunk
+                continue;
+            }
+            if (var.isGlobalConstant() || getID().equals(var.getOwner())) {
+                // workflow variable, visible in the chunks' metanode as well
+                continue;
+            }
+            final boolean isChunkVariable = startNode.getID().equals(var.getOwner())
+                && (var.getType() == FlowVariable.Type.INTEGER || var.getType() == FlowVariable.Type.DOUBLE
+                    || var.getType() == FlowVariable.Type.STRING);
+            if (!isChunkVariable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /* Parallelize this "loop": create appropriate number of parallel
      * branches executing the matching chunks.
      */
@@ -3310,6 +3437,11 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
             } catch (IllegalArgumentException iae) {
                 throw new IllegalLoopException("Parallel Chunk Start Node not connected to matching end node!", iae);
             }
+            // ordinary loop ends only collect chunks of ordinary loop starts that were found to be parallelizable
+            if (endNode instanceof LoopEndOptionalParallelizeNode
+                && !(startNode instanceof LoopStartOptionalParallelizeNode)) {
+                throw new IllegalLoopException("Parallel Chunk Start Node not connected to matching end node!");
+            }
 
             final ArrayList<NodeAndInports> loopBody = m_workflow.findAllNodesConnectedToLoopBody(startID, endID);
             NodeID[] loopNodes = new NodeID[loopBody.size()];
@@ -8158,7 +8290,10 @@ public void save(final File directory, final WorkflowSaveHelper saveHelper, fina
         if (m_isWorkflowDirectoryReadonly) {
             throw new IOException("Workflow is read-only, can't save");
         }
-        try (WorkflowLock lock = lock()) {
+        // the table data is written in advance, concurrently and without holding the workflow lock (the staging
+        // directory is deleted after the lock is released)
+        try (StagedTableData stagedTableData = writeStagedTableData(directory, saveHelper, exec);
+                WorkflowLock lock = lock()) {
             ReferencedFile directoryReference = new ReferencedFile(directory);
             // if it's the location associated with the workflow we will use the same instance (due to VM lock)
             if (directoryReference.equals(getNodeContainerDirectory())) {
@@ -8189,15 +8324,44 @@ public void save(final File directory, final WorkflowSaveHelper saveHelper, fina
                 if (isTemplate) {
                     FileWorkflowPersistor.saveAsTemplate(this, directoryReference, exec, saveHelper);
                 } else {
+                    saveHelper.setStagedTableData(stagedTableData);
                     FileWorkflowPersistor.save(this, directoryReference, exec, saveHelper);
                     WorkflowSaveHook.runHooks(this, saveHelper.isSaveData(), workflowDir);
                 }
             } finally {
+                saveHelper.setStagedTableData(null);
                 directoryReference.writeUnlock();
             }
         }
     }
 
+    /**
+     * Takes a snapshot of the tables to save while holding the workflow lock and writes their data files into a
+     * staging directory after the lock is released. The subsequent save moves them into the node directories.
+     *
+     * @return the written table data or null if there is none (not saving data, template, concurrent writing
+     *         disabled)
+     */
+    private StagedTableData writeStagedTableData(final File directory, final WorkflowSaveHelper saveHelper,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (!saveHelper.isSaveData() || getTemplateInformation().getRole().equals(Role.Template)) {
+            return null;
+        }
+        final StagedTableData stagedTableData;
+        try (WorkflowLock lock = lock()) {
+            stagedTableData = StagedTableData.create(this, directory, saveHelper);
+        }
+        if (stagedTableData != null) {
+            try {
+                stagedTableData.write(exec);
+            } catch (CanceledExecutionException e) {
+                stagedTableData.close();
+                throw e;
+            }
+        }
+        return stagedTableData;
+    }
+
     /**
      * Delete directories of removed nodes. This is part of the save routine to commit the changes. Called from the
      * saving persistor class. The argument list is cleared when this method returns.
@@ -8730,6 +8894,9 @@ public void run() {
                     }
                 });
             }
+            if (m_ownsDataRepository) {
+                m_dataRepository.dispose();
+            }
 
             //unset workflow annotation ids (in case they are about to be used somewhere else)
             getWorkflowAnnotations().forEach(wa -> wa.unsetID());
@@ -62,6 +62,8 @@ public final class WorkflowSaveHelper {
     private boolean m_saveData;
     private boolean m_isAutoSave;
     private boolean m_isSaveWizardController;
+    /** The table data written in advance, only set while the workflow is saved (not API). */
+    private StagedTableData m_stagedTableData;
 
     /**
      * @param saveData ...
@@ -106,6 +108,15 @@ public WorkflowSaveHelper setSaveWizardController(final boolean value) {
         return this;
     }
 
+    /** @return the table data written in advance of the current save operation, or null */
+    StagedTableData getStagedTableData() {
+        return m_stagedTableData;
+    }
+    /** @param stagedTableData the table data written in advance of the current save operation, or null */
+    void setStagedTableData(final StagedTableData stagedTableData) {
+        m_stagedTableData = stagedTableData;
+    }
+
     public static File getAutoSaveDirectory(final ReferencedFile workflowDir) {
         File f = workflowDir.getFile();
         return new File(f.getParentFile(), "." + f.getName() + ".autoSave");
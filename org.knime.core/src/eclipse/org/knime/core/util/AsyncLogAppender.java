@@ -0,0 +1,387 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Appender;
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Layout;
+import org.apache.log4j.Level;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.ErrorHandler;
+import org.apache.log4j.spi.Filter;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * Appender that hands the logging events over to a background thread which writes them to the wrapped appender.
+ * Logging threads only put the event into a bounded, lock-free ring buffer; the writer thread drains all pending
+ * events in one batch and flushes the wrapped appender once per batch (if it is a {@link LogfileAppender}, whose
+ * immediate flush is disabled). If the buffer is full, logging threads wait for the writer, events are never
+ * dropped and are written in the order in which they were put into the buffer.
+ *
+ * <p>The filters, layout, name and error handler are those of the wrapped appender, which allows to change the
+ * level range of the wrapped appender through this appender.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class AsyncLogAppender implements Appender {
+
+    /** Default number of events that can be pending. */
+    public static final int DEFAULT_CAPACITY = 1 << 13;
+
+    /** Time the writer thread sleeps if there are no pending events. */
+    private static final long WRITER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Time a logging thread waits if the buffer is full. */
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /** All open instances, drained and closed on JVM shutdown. */
+    private static final Set<AsyncLogAppender> OPEN_APPENDERS = new CopyOnWriteArraySet<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> OPEN_APPENDERS.forEach(AsyncLogAppender::close),
+            "KNIME-Async-Log-Shutdown"));
+    }
+
+    private final Appender m_delegate;
+
+    private final AtomicReferenceArray<LoggingEvent> m_ring;
+
+    private final int m_mask;
+
+    /** Sequence of the next event put into the buffer, incremented by the logging threads. */
+    private final AtomicLong m_tail = new AtomicLong();
+
+    /** Sequence of the next event to write, only modified by the writer thread. */
+    private volatile long m_head;
+
+    private volatile boolean m_closed;
+
+    private final Thread m_writer;
+
+    /**
+     * Creates a new appender with {@link #DEFAULT_CAPACITY} and starts its writer thread.
+     *
+     * @param delegate the appender to write to
+     */
+    public AsyncLogAppender(final Appender delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new appender and starts its writer thread.
+     *
+     * @param delegate the appender to write to
+     * @param capacity the number of events that can be pending, rounded up to the next power of two
+     */
+    public AsyncLogAppender(final Appender delegate, final int capacity) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Appender must not be null");
+        }
+        m_delegate = delegate;
+        final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        m_ring = new AtomicReferenceArray<>(size);
+        m_mask = size - 1;
+        if (delegate instanceof LogfileAppender) {
+            ((LogfileAppender)delegate).setImmediateFlush(false);
+        }
+        m_writer = new Thread(this::writeLoop, "KNIME-Async-Log-" + delegate.getName());
+        m_writer.setDaemon(true);
+        m_writer.start();
+        OPEN_APPENDERS.add(this);
+    }
+
+    /** @return the appender the events are written to */
+    public Appender getDelegate() {
+        return m_delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void doAppend(final LoggingEvent event) {
+        if (m_closed) {
+            m_delegate.doAppend(event);
+            return;
+        }
+        if (!isAccepted(event)) {
+            return;
+        }
+        // capture the information that depends on the logging thread (same as log4j's AsyncAppender)
+        event.getNDC();
+        event.getThreadName();
+        event.getMDCCopy();
+        event.getRenderedMessage();
+        event.getThrowableStrRep();
+        while (!offer(event)) {
+            if (m_closed) {
+                m_delegate.doAppend(event);
+                return;
+            }
+            LockSupport.unpark(m_writer);
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+        if (event.getLevel().isGreaterOrEqual(Level.WARN) || pending() > m_mask / 2) {
+            LockSupport.unpark(m_writer);
+        }
+    }
+
+    /** Evaluates the threshold and filters of the delegate so that rejected events don't enter the buffer. */
+    private boolean isAccepted(final LoggingEvent event) {
+        if (m_delegate instanceof AppenderSkeleton
+            && !((AppenderSkeleton)m_delegate).isAsSevereAsThreshold(event.getLevel())) {
+            return false;
+        }
+        for (Filter f = m_delegate.getFilter(); f != null; f = f.getNext()) {
+            switch (f.decide(event)) {
+                case Filter.DENY:
+                    return false;
+                case Filter.ACCEPT:
+                    return true;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    private boolean offer(final LoggingEvent event) {
+        while (true) {
+            final long tail = m_tail.get();
+            if (tail - m_head > m_mask) {
+                return false;
+            }
+            if (m_tail.compareAndSet(tail, tail + 1)) {
+                m_ring.set((int)(tail & m_mask), event);
+                return true;
+            }
+        }
+    }
+
+    private long pending() {
+        return m_tail.get() - m_head;
+    }
+
+    private void writeLoop() {
+        while (!m_closed) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+            }
+        }
+        // events put before close
+        while (drain() > 0 || pending() > 0) {
+            Thread.yield();
+        }
+    }
+
+    /** Writes all events that are currently in the buffer, called by the writer thread only. */
+    private int drain() {
+        int count = 0;
+        long head = m_head;
+        while (true) {
+            final int index = (int)(head & m_mask);
+            final LoggingEvent event = m_ring.get(index);
+            if (event == null) {
+                // empty or claimed but not yet set by the logging thread
+                break;
+            }
+            m_ring.set(index, null);
+            m_head = ++head;
+            try {
+                m_delegate.doAppend(event);
+            } catch (RuntimeException e) {
+                LogLog.error("Unable to write logging event to \"" + m_delegate.getName() + "\"", e);
+            }
+            count++;
+        }
+        if (count > 0 && m_delegate instanceof LogfileAppender) {
+            ((LogfileAppender)m_delegate).flush();
+        }
+        return count;
+    }
+
+    /**
+     * Writes all pending events and closes the wrapped appender. Events logged afterwards are written directly to
+     * the wrapped appender.
+     */
+    @Override
+    public void close() {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        OPEN_APPENDERS.remove(this);
+        LockSupport.unpark(m_writer);
+        if (Thread.currentThread() != m_writer) {
+            try {
+                m_writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        m_delegate.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addFilter(final Filter newFilter) {
+        m_delegate.addFilter(newFilter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Filter getFilter() {
+        return m_delegate.getFilter();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearFilters() {
+        m_delegate.clearFilters();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return m_delegate.getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setErrorHandler(final ErrorHandler errorHandler) {
+        m_delegate.setErrorHandler(errorHandler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ErrorHandler getErrorHandler() {
+        return m_delegate.getErrorHandler();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLayout(final Layout layout) {
+        m_delegate.setLayout(layout);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Layout getLayout() {
+        return m_delegate.getLayout();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setName(final String name) {
+        m_delegate.setName(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean requiresLayout() {
+        return m_delegate.requiresLayout();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Compares the names (as {@link LogfileAppender} does) to prevent duplicate registration of workflow appenders.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof AsyncLogAppender && getName() != null) {
+            return getName().equals(((AsyncLogAppender)obj).getName());
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return getName() != null ? getName().hashCode() : super.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "async(" + m_delegate + ")";
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Content-addressed on-disk cache for compiled classes, shared by all nodes that compile code at runtime (e.g. the
+ * Java Snippet or the expression based nodes). An entry is keyed by a hash of the source code, the compiler, the
+ * compiler arguments and the content of the class path, so workflows containing the same snippet (or loading it
+ * again, also after a restart) don't need to compile it again.
+ *
+ * <p>
+ * The cache lives in the directory "classcache" in the {@link KNIMEConstants#getKNIMEHomeDir() KNIME home
+ * directory}, the least recently used entries are removed if its size exceeds
+ * {@link KNIMEConstants#PROPERTY_CLASS_FILE_CACHE_SIZE}. Entries are only added completely (by moving a directory)
+ * so that several KNIME instances can share the cache.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.7
+ */
+public final class ClassFileCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ClassFileCache.class);
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /** Content hashes of class path files, the key contains the modification date and size of the file. */
+    private static final Map<String, String> CLASSPATH_HASHES = new HashMap<>();
+
+    private static ClassFileCache instance;
+
+    private final File m_dir;
+
+    private final long m_maxSize;
+
+    /**
+     * @param dir the directory containing the entries
+     * @param maxSize the maximum size of all entries in bytes, 0 to disable the cache
+     */
+    ClassFileCache(final File dir, final long maxSize) {
+        m_dir = dir;
+        m_maxSize = maxSize;
+    }
+
+    /**
+     * @return the cache shared by all nodes
+     */
+    public static synchronized ClassFileCache getInstance() {
+        if (instance == null) {
+            instance = new ClassFileCache(new File(KNIMEConstants.getKNIMEHomeDir(), "classcache"), initMaxSize());
+        }
+        return instance;
+    }
+
+    private static long initMaxSize() {
+        final String sizeMB = System.getProperty(KNIMEConstants.PROPERTY_CLASS_FILE_CACHE_SIZE);
+        if (sizeMB != null) {
+            try {
+                final long size = Long.parseLong(sizeMB.trim());
+                if (size >= 0) {
+                    return size << 20;
+                }
+            } catch (NumberFormatException nfe) {
+                // warning below
+            }
+            LOGGER.warn("Class file cache size not valid '" + sizeMB + "', using 256MB as default.");
+        }
+        return 256L << 20;
+    }
+
+    /**
+     * @return whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return m_maxSize > 0;
+    }
+
+    /**
+     * Returns a string describing the version of a compiler, which is the implementation version of its package or
+     * the location it has been loaded from.
+     *
+     * @param compilerClass the class of the compiler
+     * @return the version of the compiler
+     */
+    public static String getCompilerVersion(final Class<?> compilerClass) {
+        final Package pack = compilerClass.getPackage();
+        if (pack != null && pack.getImplementationVersion() != null) {
+            return compilerClass.getName() + "@" + pack.getImplementationVersion();
+        }
+        final CodeSource codeSource = compilerClass.getProtectionDomain().getCodeSource();
+        final URL location = codeSource == null ? null : codeSource.getLocation();
+        return compilerClass.getName() + "@" + location;
+    }
+
+    /**
+     * Creates the key of a compilation. The class path is identified by the content of its files, so temporary
+     * copies of the same files result in the same key.
+     *
+     * @param compilerVersion the version of the compiler, see {@link #getCompilerVersion(Class)}
+     * @param compileArgs the arguments passed to the compiler, without the class path
+     * @param classpath the class path
+     * @param sources the source code of all compilation units
+     * @return the key
+     * @throws IOException if a class path file can't be read
+     */
+    public static String createKey(final String compilerVersion, final Collection<String> compileArgs,
+        final File[] classpath, final Collection<? extends CharSequence> sources) throws IOException {
+        final MessageDigest digest = createDigest();
+        update(digest, compilerVersion);
+        update(digest, System.getProperty("java.specification.version"));
+        for (String arg : compileArgs) {
+            update(digest, arg);
+        }
+        if (classpath != null) {
+            for (File file : classpath) {
+                update(digest, getContentHash(file));
+            }
+        }
+        for (CharSequence source : sources) {
+            update(digest, source.toString());
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Copies the class files of an entry into a directory.
+     *
+     * @param key the key of the compilation
+     * @param outputDir the directory to copy the class files to, sub directories for packages are created
+     * @return <code>true</code> if the entry existed, <code>false</code> if the code needs to be compiled
+     */
+    public boolean restore(final String key, final File outputDir) {
+        if (!isEnabled()) {
+            return false;
+        }
+        final Path entry = new File(m_dir, key).toPath();
+        if (!Files.isDirectory(entry)) {
+            return false;
+        }
+        final Path target = outputDir.toPath();
+        try (Stream<Path> files = Files.walk(entry)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                final Path copy = target.resolve(entry.relativize(file).toString());
+                Files.createDirectories(copy.getParent());
+                Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (IOException ex) {
+            // e.g. removed concurrently by another instance
+            LOGGER.debug("Could not restore compiled classes from cache: " + ex.getMessage(), ex);
+            return false;
+        }
+    }
+
+    /**
+     * Adds the class files of a compilation to the cache. Errors are only logged.
+     *
+     * @param key the key of the compilation
+     * @param outputDir the output directory of the compilation
+     * @param classFiles the class files created by the compilation, located in <b>outputDir</b>
+     */
+    public void store(final String key, final File outputDir, final Collection<File> classFiles) {
+        if (!isEnabled() || classFiles.isEmpty()) {
+            return;
+        }
+        final Path entry = new File(m_dir, key).toPath();
+        if (Files.isDirectory(entry)) {
+            return;
+        }
+        Path tempDir = null;
+        try {
+            Files.createDirectories(m_dir.toPath());
+            tempDir = Files.createTempDirectory(m_dir.toPath(), ".tmp_");
+            final Path source = outputDir.toPath();
+            for (File classFile : classFiles) {
+                final Path copy = tempDir.resolve(source.relativize(classFile.toPath()).toString());
+                Files.createDirectories(copy.getParent());
+                Files.copy(classFile.toPath(), copy);
+            }
+            try {
+                Files.move(tempDir, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempDir, entry);
+            }
+            tempDir = null;
+        } catch (FileAlreadyExistsException ex) {
+            // added concurrently
+        } catch (IOException ex) {
+            LOGGER.debug("Could not add compiled classes to cache: " + ex.getMessage(), ex);
+        } finally {
+            if (tempDir != null) {
+                FileUtil.deleteRecursively(tempDir.toFile());
+            }
+        }
+        prune();
+    }
+
+    /**
+     * Lists the class files in a directory and its sub directories.
+     *
+     * @param dir the directory
+     * @return the class files
+     * @throws IOException if the directory can't be listed
+     */
+    public static List<File> listClassFiles(final File dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir.toPath())) {
+            return files.filter(p -> p.getFileName().toString().endsWith(CLASS_FILE_SUFFIX))
+                .filter(Files::isRegularFile).map(Path::toFile).collect(Collectors.toList());
+        }
+    }
+
+    /** Removes the least recently used entries until the cache size is below its maximum. */
+    synchronized void prune() {
+        final File[] entries = m_dir.listFiles(f -> f.isDirectory() && !f.getName().startsWith("."));
+        if (entries == null) {
+            return;
+        }
+        final List<Entry> sizedEntries = new ArrayList<>(entries.length);
+        long totalSize = 0;
+        for (File e : entries) {
+            final long size = FileUtils.sizeOfDirectory(e);
+            sizedEntries.add(new Entry(e, e.lastModified(), size));
+            totalSize += size;
+        }
+        if (totalSize <= m_maxSize) {
+            return;
+        }
+        sizedEntries.sort(Comparator.comparingLong(e -> e.m_lastUsed));
+        for (Entry e : sizedEntries) {
+            if (totalSize <= m_maxSize) {
+                break;
+            }
+            FileUtil.deleteRecursively(e.m_dir);
+            totalSize -= e.m_size;
+        }
+    }
+
+    private static final class Entry {
+        private final File m_dir;
+
+        private final long m_lastUsed;
+
+        private final long m_size;
+
+        Entry(final File dir, final long lastUsed, final long size) {
+            m_dir = dir;
+            m_lastUsed = lastUsed;
+            m_size = size;
+        }
+    }
+
+    private static String getContentHash(final File file) throws IOException {
+        if (file.isDirectory()) {
+            final MessageDigest digest = createDigest();
+            try (Stream<Path> files = Files.walk(file.toPath())) {
+                for (Path p : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                    update(digest, file.toPath().relativize(p).toString());
+                    update(digest, getContentHash(p.toFile()));
+                }
+            }
+            return toHex(digest.digest());
+        }
+        if (!file.isFile()) {
+            return "missing:" + file.getName();
+        }
+        final String fileKey = file.getAbsolutePath() + '\0' + file.length() + '\0' + file.lastModified();
+        synchronized (CLASSPATH_HASHES) {
+            final String hash = CLASSPATH_HASHES.get(fileKey);
+            if (hash != null) {
+                return hash;
+            }
+        }
+        final MessageDigest digest = createDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            final byte[] buffer = new byte[8192];
+            while (in.read(buffer) >= 0) {
+                // only digest
+            }
+        }
+        final String hash = toHex(digest.digest());
+        synchronized (CLASSPATH_HASHES) {
+            CLASSPATH_HASHES.put(fileKey, hash);
+        }
+        return hash;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA-256 is supported by every JVM
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte)0);
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
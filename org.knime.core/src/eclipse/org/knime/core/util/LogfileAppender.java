@@ -188,6 +188,16 @@ private void compressRotatedLog() {
         }
     }
 
+    /**
+     * Flushes the log file, used by the {@link AsyncLogAppender} after each batch of events if immediate flush is
+     * disabled.
+     */
+    synchronized void flush() {
+        if (qw != null) {
+            qw.flush();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -60,7 +60,10 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.tools.Diagnostic;
 import javax.tools.DiagnosticCollector;
@@ -75,6 +78,7 @@
 import org.eclipse.jdt.internal.compiler.tool.EclipseCompiler;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ClassFileCache;
 import org.knime.core.util.FileUtil;
 
 /** Utilizes {@link JavaCompiler} (by default the eclipse compiler)
@@ -193,6 +197,8 @@ public void compile() throws CompilationFailedException {
             throw new CompilationFailedException("No sources set");
         }
         ArrayList<String> compileArgs = new ArrayList<String>();
+        // the class path is identified by its content in the cache key, not by its (possibly temporary) location
+        final List<String> cacheKeyArgs = new ArrayList<>();
         if (m_classpaths != null && m_classpaths.length > 0) {
             compileArgs.add("-classpath");
             StringBuilder b = new StringBuilder();
@@ -223,6 +229,8 @@ public void compile() throws CompilationFailedException {
         if (m_additionalCompileArgs != null) {
             compileArgs.addAll(Arrays.asList(m_additionalCompileArgs));
         }
+        cacheKeyArgs.addAll(compileArgs.subList(m_classpaths != null && m_classpaths.length > 0 ? 2 : 0,
+            compileArgs.size()));
         final StringWriter logString = new StringWriter();
 //        ServiceLoader<JavaCompiler> serviceLoader =
 //            ServiceLoader.load(JavaCompiler.class);
@@ -257,6 +265,26 @@ public void compile() throws CompilationFailedException {
                         + "\": " + e.getMessage(), e);
             }
         }
+        final ClassFileCache classFileCache = ClassFileCache.getInstance();
+        String cacheKey = null;
+        Map<File, Long> previousClassFiles = Collections.emptyMap();
+        if (classFileCache.isEnabled()) {
+            try {
+                final List<CharSequence> sourceCode = new ArrayList<>();
+                for (JavaFileObject source : m_sources) {
+                    sourceCode.add(source.getCharContent(true));
+                }
+                cacheKey = ClassFileCache.createKey(ClassFileCache.getCompilerVersion(EclipseCompiler.class),
+                    cacheKeyArgs, m_classpaths, sourceCode);
+                if (classFileCache.restore(cacheKey, m_outputFileLocation)) {
+                    return;
+                }
+                previousClassFiles = listClassFiles();
+            } catch (IOException e) {
+                LOGGER.debug("Unable to use class file cache: " + e.getMessage(), e);
+                cacheKey = null;
+            }
+        }
         DiagnosticCollector<JavaFileObject> digsCollector = new DiagnosticCollector<JavaFileObject>();
         boolean compileCallSuccess;
         try (StandardJavaFileManager stdFileMgr = compiler.getStandardFileManager(
@@ -329,6 +357,29 @@ public void compile() throws CompilationFailedException {
             }
             throw new CompilationFailedException(b.toString());
         }
+        if (cacheKey != null) {
+            try {
+                // the output location may be shared, only cache the class files of this compilation
+                final List<File> classFiles = new ArrayList<>();
+                for (Map.Entry<File, Long> e : listClassFiles().entrySet()) {
+                    if (!e.getValue().equals(previousClassFiles.get(e.getKey()))) {
+                        classFiles.add(e.getKey());
+                    }
+                }
+                classFileCache.store(cacheKey, m_outputFileLocation, classFiles);
+            } catch (IOException e) {
+                LOGGER.debug("Unable to add compiled classes to class file cache: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /** @return the class files in the output location mapped to their modification time */
+    private Map<File, Long> listClassFiles() throws IOException {
+        final Map<File, Long> classFiles = new HashMap<>();
+        for (File f : ClassFileCache.listClassFiles(m_outputFileLocation)) {
+            classFiles.put(f, f.lastModified());
+        }
+        return classFiles;
     }
 
     /**
@@ -58,7 +58,6 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.tools.JavaFileObject.Kind;
 
@@ -116,9 +115,6 @@ public enum FieldType {
     /** Identifier for row count. */
     public static final String ROWCOUNT = "ROWCOUNT";
 
-    /** An unique id to ensure uniqueness of class names (per vm). */
-    private static final AtomicInteger COUNTER = new AtomicInteger();
-
     /** These imports are put in the import section of the source file. */
     private static final String[] DEFAULT_IMPORTS =
         new String[]{"java.text.*", "java.util.*", "java.io.*",
@@ -167,24 +163,14 @@ private Expression(final String body, final Map<InputField, ExpressionField> fie
         int version = settings.getExpressionVersion();
         boolean isArrayReturn = settings.isArrayReturn();
         String header = settings.getHeader();
-        String source;
-        String name = "Expression" + COUNTER.getAndIncrement();
         String[] imports = null != settings.getImports()
                 ? settings.getImports()
                 : getDefaultImports();
-        // Generate the well known source of the Expression
-        switch (version) {
-        case VERSION_1X:
-            source = generateSourceVersion1(name, body, rType, imports);
-            break;
-        case VERSION_2X:
-            source = generateSourceVersion2(
-                    name, body, header, rType, imports, isArrayReturn);
-            break;
-        default:
-            throw new CompilationFailedException(
-                    "Unknown snippet version number: " + version);
-        }
+        // the class name is derived from the source (each expression has its own class loader), so that the
+        // same expression results in the same class, which is then loaded from the class file cache
+        String source = generateSource(version, "Expression", body, header, rType, imports, isArrayReturn);
+        String name = "Expression" + Integer.toHexString(source.hashCode());
+        source = generateSource(version, name, body, header, rType, imports, isArrayReturn);
         try {
             ensureStaticTempClassPathExists();
             m_instanceTempFolder = FileUtil.createTempDir(name.toLowerCase());
@@ -256,6 +242,20 @@ public Map<InputField, ExpressionField> getFieldMap() {
         return m_fieldMap;
     }
 
+    private String generateSource(final int version, final String name, final String body, final String header,
+        final Class<?> rType, final String[] imports, final boolean isArrayReturn)
+        throws CompilationFailedException {
+        // Generate the well known source of the Expression
+        switch (version) {
+        case VERSION_1X:
+            return generateSourceVersion1(name, body, rType, imports);
+        case VERSION_2X:
+            return generateSourceVersion2(name, body, header, rType, imports, isArrayReturn);
+        default:
+            throw new CompilationFailedException("Unknown snippet version number: " + version);
+        }
+    }
+
     /*
      * Creates the source for given expression classname, body & properties.
      */
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.rules.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.workflow.FlowVariable;
+
+/**
+ * Tests {@link CompiledRuleSet} by comparing its results to the evaluation of the parsed rules.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CompiledRuleSetTest {
+    private DataTableSpec m_spec;
+
+    private List<DataRow> m_rows;
+
+    private final VariableProvider m_provider = new VariableProvider() {
+        @Override
+        public Object readVariable(final String name, final Class<?> type) {
+            return null;
+        }
+
+        @Deprecated
+        @Override
+        public int getRowCount() {
+            return m_rows.size();
+        }
+
+        @Deprecated
+        @Override
+        public int getRowIndex() {
+            return 0;
+        }
+    };
+
+    /**
+     * Creates the table with some missing and NaN values.
+     */
+    @Before
+    public void setUp() {
+        m_spec = new DataTableSpec(new DataColumnSpecCreator("Dbl", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Str", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Bool", BooleanCell.TYPE).createSpec());
+        final DataCell missing = DataType.getMissingCell();
+        m_rows = new ArrayList<>();
+        m_rows.add(new DefaultRow("r0", new DoubleCell(1.5), new StringCell("a"), new IntCell(1), BooleanCell.TRUE));
+        m_rows.add(new DefaultRow("r1", new DoubleCell(-3), new StringCell("b"), new IntCell(4), BooleanCell.FALSE));
+        m_rows.add(new DefaultRow("r2", new DoubleCell(Double.NaN), new StringCell("ab"), new IntCell(-2),
+            BooleanCell.TRUE));
+        m_rows.add(new DefaultRow("r3", missing, missing, missing, missing));
+        m_rows.add(new DefaultRow("r4", new DoubleCell(4), missing, new IntCell(4), missing));
+    }
+
+    private List<Rule> parse(final String... rules) throws ParseException {
+        final RuleFactory factory = RuleFactory.getInstance(RuleNodeSettings.RuleEngine).cloned();
+        factory.disableMissingComparisons();
+        factory.disableNaNComparisons();
+        final List<Rule> result = new ArrayList<>();
+        for (String rule : rules) {
+            result.add(factory.parse(rule, m_spec, Collections.<String, FlowVariable> emptyMap()));
+        }
+        return result;
+    }
+
+    private void assertSameOutcomes(final DataType outType, final String... rules) throws ParseException {
+        final List<Rule> parsed = parse(rules);
+        final CompiledRuleSet compiled = CompiledRuleSet.compile(parsed, outType, false);
+        for (DataRow row : m_rows) {
+            assertEquals(Arrays.toString(rules) + " for " + row.getKey(),
+                RuleEngineNodeModel.getRulesOutcome(outType, row, parsed, false, m_provider),
+                compiled.getOutcome(row, m_provider));
+        }
+    }
+
+    /**
+     * Tests the comparison operators on columns with missing and NaN values.
+     *
+     * @throws ParseException Parsing failed.
+     */
+    @Test
+    public void testComparisons() throws ParseException {
+        assertSameOutcomes(StringCell.TYPE, "$Dbl$ > 1 => \"large\"", "$Dbl$ <= 1 => \"small\"",
+            "$Int$ = 4 => \"four\"");
+        assertSameOutcomes(StringCell.TYPE, "$Dbl$ >= $Int$ => $Str$", "$Str$ < \"b\" => \"before b\"",
+            "TRUE => \"other\"");
+        assertSameOutcomes(IntCell.TYPE, "$Int$ > $Dbl$ => $Int$", "$Str$ = \"ab\" => 7");
+    }
+
+    /**
+     * Tests the logical connectives, the missing check and the in operator.
+     *
+     * @throws ParseException Parsing failed.
+     */
+    @Test
+    public void testLogicalOperators() throws ParseException {
+        assertSameOutcomes(StringCell.TYPE, "$Bool$ AND $Int$ > 0 => \"and\"", "$Bool$ OR $Dbl$ < 0 => \"or\"",
+            "$Bool$ XOR $Int$ = 4 => \"xor\"", "NOT $Bool$ => \"not\"", "MISSING $Str$ => \"missing\"");
+        assertSameOutcomes(StringCell.TYPE, "$Str$ IN (\"a\", \"b\") => \"in\"", "$Int$ IN (4, -2) => \"int\"",
+            "$Dbl$ IN (1.5, 4) => \"dbl\"");
+        assertSameOutcomes(StringCell.TYPE, "$Str$ LIKE \"a*\" => \"like\"", "$Str$ MATCHES \"b+\" => \"matches\"");
+    }
+
+    /**
+     * Tests that rules which never match are removed and that the rules after a catch-all rule are ignored.
+     *
+     * @throws ParseException Parsing failed.
+     */
+    @Test
+    public void testConstantFolding() throws ParseException {
+        final List<Rule> rules =
+            parse("FALSE => \"never\"", "1 > 2 => \"never\"", "$Int$ = 1 => \"one\"", "TRUE => \"default\"",
+                "$Int$ = 4 => \"unreachable\"");
+        final CompiledRuleSet compiled = CompiledRuleSet.compile(rules, StringCell.TYPE, false);
+        assertEquals(2, compiled.getRuleCount());
+        assertTrue(compiled.isDistributable());
+        assertEquals(new StringCell("one"), compiled.getOutcome(m_rows.get(0), m_provider));
+        assertEquals(new StringCell("default"), compiled.getOutcome(m_rows.get(1), m_provider));
+        assertSameOutcomes(StringCell.TYPE, "FALSE => \"never\"", "$Int$ = 1 => \"one\"", "TRUE => \"default\"");
+    }
+
+    /**
+     * Tests that rules referring to the row index are not distributable.
+     *
+     * @throws ParseException Parsing failed.
+     */
+    @Test
+    public void testRowIndex() throws ParseException {
+        assertFalse(CompiledRuleSet.compile(parse("$$ROWINDEX$$ > 2 => \"late\""), StringCell.TYPE, false)
+            .isDistributable());
+    }
+
+    /**
+     * Tests the matching rules for the filter.
+     *
+     * @throws ParseException Parsing failed.
+     */
+    @Test
+    public void testFindMatch() throws ParseException {
+        final CompiledRuleSet compiled = CompiledRuleSet.compile(parse("$Int$ = 4 => FALSE", "$Bool$ => TRUE"));
+        assertEquals(1, compiled.findMatch(m_rows.get(0), m_provider));
+        assertEquals(0, compiled.findMatch(m_rows.get(1), m_provider));
+        assertEquals(-1, compiled.findMatch(m_rows.get(3), m_provider));
+        assertEquals(BooleanCell.FALSE, compiled.getOutcomeValue(0, m_rows.get(1), m_provider));
+    }
+}
@@ -66,6 +66,7 @@
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -153,6 +154,7 @@
 import org.knime.core.node.util.rsyntaxtextarea.guarded.GuardedDocument;
 import org.knime.core.node.util.rsyntaxtextarea.guarded.GuardedSection;
 import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.util.ClassFileCache;
 import org.knime.core.util.FileUtil;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.Version;
@@ -1133,35 +1135,27 @@ private synchronized Class<? extends AbstractJSnippet> createSnippetClass() {
                 return m_snippetCache.getSnippetClass();
             }
         } else {
-            // recompile
+            // recompile, unless the same code has been compiled before
             m_snippetCache.invalidate();
-            StringWriter log = new StringWriter();
-            DiagnosticCollector<JavaFileObject> digsCollector = new DiagnosticCollector<>();
-            CompilationTask compileTask = null;
-            try {
-                compileTask = compiler.getTask(log, digsCollector);
-            } catch (IOException e) {
-                throw new IllegalStateException("Compile with errors: " + e.getMessage(), e);
+            final ClassFileCache classFileCache = ClassFileCache.getInstance();
+            String cacheKey = null;
+            if (classFileCache.isEnabled()) {
+                try {
+                    cacheKey = compiler.getCacheKey();
+                } catch (IOException e) {
+                    LOGGER.debug("Could not determine key of compiled snippet: " + e.getMessage(), e);
+                }
             }
-            boolean success = compileTask.call();
-            if (!success) {
-                StringBuilder msg = new StringBuilder();
-                msg.append("Compile with errors:\n");
-                for (Diagnostic<? extends JavaFileObject> d : digsCollector.getDiagnostics()) {
-                    boolean isSnippet = this.isSnippetSource(d.getSource());
-                    if (isSnippet && d.getKind().equals(javax.tools.Diagnostic.Kind.ERROR)) {
-                        long line = d.getLineNumber();
-                        if (line != Diagnostic.NOPOS) {
-                            msg.append("Error in line " + line + ": ");
-                        } else {
-                            msg.append("Error: ");
-                        }
-                        msg.append(d.getMessage(Locale.US));
-                        msg.append('\n');
+            if (cacheKey == null || !classFileCache.restore(cacheKey, m_tempClassPathDir)) {
+                compile(compiler);
+                if (cacheKey != null) {
+                    try {
+                        classFileCache.store(cacheKey, m_tempClassPathDir,
+                            ClassFileCache.listClassFiles(m_tempClassPathDir));
+                    } catch (IOException e) {
+                        LOGGER.debug("Could not cache compiled snippet: " + e.getMessage(), e);
                     }
                 }
-
-                throw new IllegalStateException(msg.toString());
             }
         }
 
@@ -1202,6 +1196,45 @@ private synchronized Class<? extends AbstractJSnippet> createSnippetClass() {
         }
     }
 
+    private void compile(final JavaSnippetCompiler compiler) {
+        // remove classes of a previous compilation, they would otherwise end up in the class file cache
+        try {
+            for (File classFile : ClassFileCache.listClassFiles(m_tempClassPathDir)) {
+                Files.deleteIfExists(classFile.toPath());
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete previously compiled snippet classes: " + e.getMessage(), e);
+        }
+        StringWriter log = new StringWriter();
+        DiagnosticCollector<JavaFileObject> digsCollector = new DiagnosticCollector<>();
+        CompilationTask compileTask = null;
+        try {
+            compileTask = compiler.getTask(log, digsCollector);
+        } catch (IOException e) {
+            throw new IllegalStateException("Compile with errors: " + e.getMessage(), e);
+        }
+        boolean success = compileTask.call();
+        if (!success) {
+            StringBuilder msg = new StringBuilder();
+            msg.append("Compile with errors:\n");
+            for (Diagnostic<? extends JavaFileObject> d : digsCollector.getDiagnostics()) {
+                boolean isSnippet = this.isSnippetSource(d.getSource());
+                if (isSnippet && d.getKind().equals(javax.tools.Diagnostic.Kind.ERROR)) {
+                    long line = d.getLineNumber();
+                    if (line != Diagnostic.NOPOS) {
+                        msg.append("Error in line " + line + ": ");
+                    } else {
+                        msg.append("Error: ");
+                    }
+                    msg.append(d.getMessage(Locale.US));
+                    msg.append('\n');
+                }
+            }
+
+            throw new IllegalStateException(msg.toString());
+        }
+    }
+
     /**
      * Create an instance of the snippet.
      *
@@ -56,6 +56,8 @@
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.tools.DiagnosticCollector;
@@ -65,6 +67,7 @@
 
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.jdt.internal.compiler.tool.EclipseCompiler;
+import org.knime.core.util.ClassFileCache;
 
 /**
  * Utility class to compile a java snippet.
@@ -81,6 +84,10 @@ public class JavaSnippetCompiler {
 //    private static final NodeLogger LOGGER =
 //        NodeLogger.getLogger(JavaCodeCompiler.class);
 
+    /** Compiler arguments other than the class path. */
+    private static final List<String> COMPILE_ARGS =
+        Collections.unmodifiableList(Arrays.asList("-source", "1.8", "-target", "1.8", "-encoding", "UTF-8"));
+
     private JSnippet<?> m_snippet;
     private ArrayList<String> m_compileArgs;
 
@@ -117,12 +124,7 @@ public CompilationTask getTask(final Writer out, final DiagnosticCollector<JavaF
                 .map(f -> f.getAbsolutePath()).map(FilenameUtils::normalize)
                 .collect(Collectors.joining(File.pathSeparator)));
 
-            m_compileArgs.add("-source");
-            m_compileArgs.add("1.8");
-            m_compileArgs.add("-target");
-            m_compileArgs.add("1.8");
-            m_compileArgs.add("-encoding");
-            m_compileArgs.add("UTF-8");
+            m_compileArgs.addAll(COMPILE_ARGS);
 
             m_compiler  = new EclipseCompiler();
         }
@@ -137,6 +139,23 @@ public CompilationTask getTask(final Writer out, final DiagnosticCollector<JavaF
         }
     }
 
+    /**
+     * Returns the key of the snippet's compilation in the {@link ClassFileCache}, which identifies the source code,
+     * the compiler and the content of the compile time class path.
+     *
+     * @return the key
+     * @throws IOException if the compilation units or the class path cannot be read
+     * @since 3.7
+     */
+    public String getCacheKey() throws IOException {
+        final List<CharSequence> sources = new ArrayList<>();
+        for (JavaFileObject unit : m_snippet.getCompilationUnits()) {
+            sources.add(unit.getCharContent(true));
+        }
+        return ClassFileCache.createKey(ClassFileCache.getCompilerVersion(EclipseCompiler.class), COMPILE_ARGS,
+            m_snippet.getCompiletimeClassPath(), sources);
+    }
+
     /**
      * A class loader that can be used to load the compiled classes.
      *
@@ -0,0 +1,630 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.rules.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.base.node.rules.engine.Condition.GenericCondition;
+import org.knime.base.node.rules.engine.Condition.MatchOutcome.MatchState;
+import org.knime.base.node.rules.engine.ExpressionFactory.ColumnRefExpression;
+import org.knime.base.node.rules.engine.ExpressionFactory.CompareExpression;
+import org.knime.base.node.rules.engine.Rule.Outcome;
+import org.knime.base.node.rules.engine.Rule.Outcome.GenericOutcome;
+import org.knime.base.node.rules.engine.Rule.Outcome.NoOutcome;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.collection.CollectionDataValue;
+
+/**
+ * A list of {@link Rule}s prepared for the evaluation on many rows. Compared to calling
+ * {@link Condition#matches(DataRow, VariableProvider)} of each rule it
+ * <ul>
+ * <li>folds constants: rules that never match are removed, the rules after a rule that always matches too, and
+ * constant outcomes are computed once,</li>
+ * <li>flattens the conditions parsed by the {@link ExpressionFactory} into an evaluator that reads the columns by
+ * index and works on primitive three-valued booleans instead of creating an {@link ExpressionValue} (with its map of
+ * matched objects) per operator and row; the logical connectives short-circuit as before.</li>
+ * </ul>
+ * Operators that are not flattened (e.g. {@code LIKE}, {@code MATCHES} or table references) are evaluated using their
+ * {@link Expression}. Instances are thread-safe if the rules are.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CompiledRuleSet {
+
+    private static final int FALSE = 0;
+
+    private static final int TRUE = 1;
+
+    private static final int MISSING = 2;
+
+    /** Neither boolean nor missing. */
+    private static final int OTHER = 3;
+
+    private final List<Rule> m_rules;
+
+    /** The evaluators of the conditions, {@code null} for conditions not created by the {@link ExpressionFactory}. */
+    private final Node[] m_conditions;
+
+    /** The values of the constant outcomes, {@code null} for other outcomes. */
+    private final DataCell[] m_constantOutcomes;
+
+    /** The constant outcomes converted to the output type of the rule engine, {@code null} if not constant. */
+    private final DataCell[] m_convertedOutcomes;
+
+    private final DataType m_outType;
+
+    private final boolean m_disallowLongOutputForCompatibility;
+
+    private final boolean m_distributable;
+
+    private CompiledRuleSet(final List<Rule> rules, final DataType outType,
+        final boolean disallowLongOutputForCompatibility) {
+        m_outType = outType;
+        m_disallowLongOutputForCompatibility = disallowLongOutputForCompatibility;
+        m_rules = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            final Condition condition = rule.getCondition();
+            if (!condition.isEnabled() || isConstant(condition, false)) {
+                continue;
+            }
+            m_rules.add(rule);
+            if (isConstant(condition, true)) {
+                // the following rules can never match
+                break;
+            }
+        }
+        m_conditions = new Node[m_rules.size()];
+        m_constantOutcomes = new DataCell[m_rules.size()];
+        m_convertedOutcomes = new DataCell[m_rules.size()];
+        boolean distributable = true;
+        for (int i = 0; i < m_rules.size(); i++) {
+            final Rule rule = m_rules.get(i);
+            distributable &= StreamingUtil.isDistributableRule(rule);
+            if (rule.getCondition() instanceof GenericCondition) {
+                m_conditions[i] = createNode(((GenericCondition)rule.getCondition()).getExpression());
+            }
+            m_constantOutcomes[i] = getConstantOutcome(rule.getOutcome());
+            if (m_constantOutcomes[i] != null && outType != null) {
+                try {
+                    m_convertedOutcomes[i] = RuleEngineNodeModel.convertOutcome(outType, m_constantOutcomes[i],
+                        disallowLongOutputForCompatibility);
+                } catch (RuntimeException e) {
+                    // fails when the rule matches, converted for each row then
+                }
+            }
+        }
+        m_distributable = distributable;
+    }
+
+    /**
+     * Compiles the rules for the rule filter or splitter.
+     *
+     * @param rules The parsed rules.
+     * @return The compiled rules.
+     */
+    static CompiledRuleSet compile(final List<Rule> rules) {
+        return new CompiledRuleSet(rules, null, false);
+    }
+
+    /**
+     * Compiles the rules for the rule engine.
+     *
+     * @param rules The parsed rules.
+     * @param outType The type of the result column.
+     * @param disallowLongOutputForCompatibility see {@link RuleEngineSettings#isDisallowLongOutputForCompatibility()}
+     * @return The compiled rules.
+     */
+    static CompiledRuleSet compile(final List<Rule> rules, final DataType outType,
+        final boolean disallowLongOutputForCompatibility) {
+        return new CompiledRuleSet(rules, outType, disallowLongOutputForCompatibility);
+    }
+
+    /**
+     * @return Whether no rule refers to the row index, so that rows can be evaluated in any order.
+     */
+    boolean isDistributable() {
+        return m_distributable;
+    }
+
+    /**
+     * @return The number of rules that can match.
+     */
+    int getRuleCount() {
+        return m_rules.size();
+    }
+
+    /**
+     * @param index The index of a rule, see {@link #findMatch(DataRow, VariableProvider)}.
+     * @return The rule.
+     */
+    Rule getRule(final int index) {
+        return m_rules.get(index);
+    }
+
+    /**
+     * Finds the first matching rule.
+     *
+     * @param row The current row.
+     * @param provider The {@link VariableProvider}.
+     * @return The index of the first rule whose condition matches or {@code -1}.
+     */
+    int findMatch(final DataRow row, final VariableProvider provider) {
+        for (int i = 0; i < m_conditions.length; i++) {
+            final Node condition = m_conditions[i];
+            if (condition == null ? m_rules.get(i).getCondition().matches(row, provider)
+                .getOutcome() == MatchState.matchedAndStop : condition.eval(row, provider) == TRUE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param index The index of a rule, see {@link #findMatch(DataRow, VariableProvider)}.
+     * @param row The current row.
+     * @param provider The {@link VariableProvider}.
+     * @return The outcome of the rule.
+     */
+    DataValue getOutcomeValue(final int index, final DataRow row, final VariableProvider provider) {
+        final DataCell constant = m_constantOutcomes[index];
+        return constant != null ? constant : m_rules.get(index).getOutcome().getComputedResult(row, provider);
+    }
+
+    /**
+     * Computes the value of the result column of the rule engine, see
+     * {@link RuleEngineNodeModel#getRulesOutcome(DataType, DataRow, List, boolean, VariableProvider)}.
+     *
+     * @param row The current row.
+     * @param provider The {@link VariableProvider}.
+     * @return The outcome of the first matching rule converted to the output type or a missing cell.
+     */
+    DataCell getOutcome(final DataRow row, final VariableProvider provider) {
+        final int index = findMatch(row, provider);
+        if (index < 0) {
+            return DataType.getMissingCell();
+        }
+        final DataCell converted = m_convertedOutcomes[index];
+        if (converted != null) {
+            return converted;
+        }
+        return RuleEngineNodeModel.convertOutcome(m_outType, (DataCell)getOutcomeValue(index, row, provider),
+            m_disallowLongOutputForCompatibility);
+    }
+
+    private static boolean isConstant(final Condition condition, final boolean value) {
+        try {
+            return value ? condition.isCatchAll() : condition.isConstantFalse();
+        } catch (RuntimeException e) {
+            // evaluated per row
+            return false;
+        }
+    }
+
+    private static DataCell getConstantOutcome(final Outcome outcome) {
+        if (outcome instanceof NoOutcome) {
+            return DataType.getMissingCell();
+        }
+        if (outcome instanceof GenericOutcome && ((GenericOutcome)outcome).getExpression().isConstant()) {
+            try {
+                return (DataCell)outcome.getComputedResult(null, null);
+            } catch (RuntimeException e) {
+                // computed per row
+            }
+        }
+        return null;
+    }
+
+    private static int toState(final DataCell cell) {
+        if (cell.isMissing()) {
+            return MISSING;
+        }
+        if (cell instanceof BooleanValue) {
+            return ((BooleanValue)cell).getBooleanValue() ? TRUE : FALSE;
+        }
+        return OTHER;
+    }
+
+    private static Node createNode(final Expression expression) {
+        if (expression.isConstant()) {
+            try {
+                return new ConstantNode(toState(expression.evaluate(null, null).getValue()));
+            } catch (RuntimeException e) {
+                // evaluated per row
+                return new ValueNode(new ExpressionOperand(expression));
+            }
+        }
+        final List<Expression> children = expression.getChildren();
+        switch (expression.getTreeType()) {
+            case And:
+                return new AndNode(createNodes(children));
+            case Or:
+                return new OrNode(createNodes(children));
+            case Xor:
+                return new XorNode(createNodes(children));
+            case Not:
+                return new NotNode(createNode(children.get(0)));
+            case Missing:
+                return new MissingNode(operand(children.get(0)));
+            case Less:
+            case LessOrEquals:
+            case Equals:
+            case GreaterOrEquals:
+            case Greater:
+                if (expression instanceof CompareExpression) {
+                    final CompareExpression compare = (CompareExpression)expression;
+                    return new CompareNode(compare, operand(compare.getLeft()), operand(compare.getRight()));
+                }
+                return new ValueNode(new ExpressionOperand(expression));
+            case In:
+                if (children.get(1).isConstant()) {
+                    try {
+                        return new InNode(operand(children.get(0)),
+                            children.get(1).evaluate(null, null).getValue());
+                    } catch (RuntimeException e) {
+                        // evaluated per row
+                    }
+                }
+                return new ValueNode(new ExpressionOperand(expression));
+            default:
+                return new ValueNode(operand(expression));
+        }
+    }
+
+    private static Node[] createNodes(final List<Expression> expressions) {
+        final Node[] nodes = new Node[expressions.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = createNode(expressions.get(i));
+        }
+        return nodes;
+    }
+
+    private static Operand operand(final Expression expression) {
+        if (expression instanceof ColumnRefExpression) {
+            return new ColumnOperand((ColumnRefExpression)expression);
+        }
+        if (expression.isConstant()) {
+            try {
+                return new ConstantOperand(expression.evaluate(null, null).getValue());
+            } catch (RuntimeException e) {
+                // evaluated per row
+            }
+        }
+        return new ExpressionOperand(expression);
+    }
+
+    private static IllegalStateException notBoolean(final Node node, final DataRow row) {
+        return new IllegalStateException("Not a boolean value in row '" + (row == null ? null : row.getKey())
+            + "': " + node);
+    }
+
+    /** Computes the value of an operand. */
+    private abstract static class Operand {
+        abstract DataCell get(DataRow row, VariableProvider provider);
+    }
+
+    private static final class ConstantOperand extends Operand {
+        private final DataCell m_value;
+
+        ConstantOperand(final DataCell value) {
+            m_value = value;
+        }
+
+        @Override
+        DataCell get(final DataRow row, final VariableProvider provider) {
+            return m_value;
+        }
+    }
+
+    private static final class ColumnOperand extends Operand {
+        private final ColumnRefExpression m_column;
+
+        ColumnOperand(final ColumnRefExpression column) {
+            m_column = column;
+        }
+
+        @Override
+        DataCell get(final DataRow row, final VariableProvider provider) {
+            return m_column.getCell(row);
+        }
+    }
+
+    private static final class ExpressionOperand extends Operand {
+        private final Expression m_expression;
+
+        ExpressionOperand(final Expression expression) {
+            m_expression = expression;
+        }
+
+        @Override
+        DataCell get(final DataRow row, final VariableProvider provider) {
+            return m_expression.evaluate(row, provider).getValue();
+        }
+
+        @Override
+        public String toString() {
+            return m_expression.toString();
+        }
+    }
+
+    /** Evaluates a condition to one of {@link #TRUE}, {@link #FALSE}, {@link #MISSING} or {@link #OTHER}. */
+    private abstract static class Node {
+        abstract int eval(DataRow row, VariableProvider provider);
+    }
+
+    private static final class ConstantNode extends Node {
+        private final int m_state;
+
+        ConstantNode(final int state) {
+            m_state = state;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            return m_state;
+        }
+    }
+
+    private static final class ValueNode extends Node {
+        private final Operand m_value;
+
+        ValueNode(final Operand value) {
+            m_value = value;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            return toState(m_value.get(row, provider));
+        }
+
+        @Override
+        public String toString() {
+            return m_value.toString();
+        }
+    }
+
+    private static final class AndNode extends Node {
+        private final Node[] m_children;
+
+        AndNode(final Node[] children) {
+            m_children = children;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            int result = TRUE;
+            for (Node child : m_children) {
+                switch (child.eval(row, provider)) {
+                    case FALSE:
+                        return FALSE;
+                    case MISSING:
+                        result = MISSING;
+                        break;
+                    case OTHER:
+                        throw notBoolean(child, row);
+                    default:
+                        break;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class OrNode extends Node {
+        private final Node[] m_children;
+
+        OrNode(final Node[] children) {
+            m_children = children;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            int result = FALSE;
+            for (Node child : m_children) {
+                switch (child.eval(row, provider)) {
+                    case TRUE:
+                        return TRUE;
+                    case MISSING:
+                        result = MISSING;
+                        break;
+                    case OTHER:
+                        throw notBoolean(child, row);
+                    default:
+                        break;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class XorNode extends Node {
+        private final Node[] m_children;
+
+        XorNode(final Node[] children) {
+            m_children = children;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            boolean result = false;
+            for (Node child : m_children) {
+                switch (child.eval(row, provider)) {
+                    case TRUE:
+                        result = !result;
+                        break;
+                    case MISSING:
+                        return MISSING;
+                    case OTHER:
+                        throw notBoolean(child, row);
+                    default:
+                        break;
+                }
+            }
+            return result ? TRUE : FALSE;
+        }
+    }
+
+    private static final class NotNode extends Node {
+        private final Node m_child;
+
+        NotNode(final Node child) {
+            m_child = child;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            switch (m_child.eval(row, provider)) {
+                case TRUE:
+                    return FALSE;
+                case FALSE:
+                    return TRUE;
+                case MISSING:
+                    return MISSING;
+                default:
+                    throw notBoolean(m_child, row);
+            }
+        }
+    }
+
+    private static final class MissingNode extends Node {
+        private final Operand m_value;
+
+        MissingNode(final Operand value) {
+            m_value = value;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            return m_value.get(row, provider).isMissing() ? TRUE : FALSE;
+        }
+    }
+
+    private static final class CompareNode extends Node {
+        private final CompareExpression m_compare;
+
+        private final Operand m_left;
+
+        private final Operand m_right;
+
+        CompareNode(final CompareExpression compare, final Operand left, final Operand right) {
+            m_compare = compare;
+            m_left = left;
+            m_right = right;
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            return m_compare.compare(m_left.get(row, provider), m_right.get(row, provider)) ? TRUE : FALSE;
+        }
+    }
+
+    private static final class InNode extends Node {
+        private final Operand m_left;
+
+        /** The values of the constant collection, {@code null} if the collection is missing. */
+        private final DataCell[] m_values;
+
+        /** The comparators for the type of the last evaluated left value. */
+        private volatile Comparators m_comparators;
+
+        InNode(final Operand left, final DataCell collection) {
+            m_left = left;
+            if (collection.isMissing()) {
+                m_values = null;
+            } else if (collection instanceof CollectionDataValue) {
+                final List<DataCell> values = new ArrayList<>();
+                for (DataCell value : (CollectionDataValue)collection) {
+                    values.add(value);
+                }
+                m_values = values.toArray(new DataCell[values.size()]);
+            } else {
+                throw new IllegalStateException("Right operand of the 'IN' operator is not a collection.");
+            }
+        }
+
+        @Override
+        int eval(final DataRow row, final VariableProvider provider) {
+            final DataCell left = m_left.get(row, provider);
+            if (m_values == null) {
+                return MISSING;
+            }
+            final DataType type = left.getType();
+            Comparators comparators = m_comparators;
+            if (comparators == null || !comparators.m_type.equals(type)) {
+                comparators = new Comparators(type, m_values);
+                m_comparators = comparators;
+            }
+            for (int i = 0; i < m_values.length; i++) {
+                if (comparators.m_comparators[i].compare(left, m_values[i]) == 0) {
+                    return TRUE;
+                }
+            }
+            return FALSE;
+        }
+    }
+
+    private static final class Comparators {
+        private final DataType m_type;
+
+        private final DataValueComparator[] m_comparators;
+
+        Comparators(final DataType type, final DataCell[] values) {
+            m_type = type;
+            m_comparators = new DataValueComparator[values.length];
+            for (int i = 0; i < values.length; i++) {
+                m_comparators[i] = DataType.getCommonSuperType(type, values[i].getType()).getComparator();
+            }
+        }
+    }
+}
@@ -325,6 +325,103 @@ public String toString() {
         }
     }
 
+    /**
+     * {@link Expression} reading the value of a column.
+     *
+     * @since 3.7
+     */
+    static final class ColumnRefExpression extends Expression.Base {
+        private final DataTableSpec m_spec;
+
+        private final String m_columnRef;
+
+        private final int m_position;
+
+        private final boolean m_isBoolean;
+
+        private final boolean m_booleanArgumentOfMissing;
+
+        /**
+         * @param spec The {@link DataTableSpec}.
+         * @param columnRef Name of the column.
+         * @param position Index of the column.
+         * @param isBoolean Whether the column is boolean.
+         * @param booleanArgumentOfMissing When this value is {@code true} and the value is a boolean missing value,
+         *            the result is {@code false}, else missing.
+         */
+        private ColumnRefExpression(final DataTableSpec spec, final String columnRef, final int position,
+            final boolean isBoolean, final boolean booleanArgumentOfMissing) {
+            super();
+            m_spec = spec;
+            m_columnRef = columnRef;
+            m_position = position;
+            m_isBoolean = isBoolean;
+            m_booleanArgumentOfMissing = booleanArgumentOfMissing;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<DataType> getInputArgs() {
+            return Collections.emptyList();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataType getOutputType() {
+            return m_spec.getColumnSpec(m_columnRef).getType();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ExpressionValue evaluate(final DataRow row, final VariableProvider provider) {
+            return new ExpressionValue(getCell(row), EMPTY_MAP);
+        }
+
+        /**
+         * {@link #evaluate(DataRow, VariableProvider)} without wrapping the result.
+         *
+         * @param row A {@link DataRow}.
+         * @return The value of the column.
+         */
+        DataCell getCell(final DataRow row) {
+            final DataCell cell = row.getCell(m_position);
+            if (!m_booleanArgumentOfMissing && m_isBoolean && cell.isMissing()) {
+                return BooleanCell.FALSE;
+            }
+            return cell;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isConstant() {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "$" + m_columnRef + "$";
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ASTType getTreeType() {
+            return ASTType.ColRef;
+        }
+    }
+
     private boolean m_missingMatch = true, m_nanMatch = true;
 
     /** A constant to avoid type inference problems. */
@@ -856,63 +953,7 @@ private Expression columnRefImpl(final DataTableSpec spec, final String columnRe
         final DataType type = spec.getColumnSpec(position).getType();
         final boolean isBoolean = type.isCompatible(BooleanValue.class);
         assert (!booleanArgumentOfMissing || isBoolean) : type;
-        return new Expression.Base() {
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public List<DataType> getInputArgs() {
-                return Collections.emptyList();
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public DataType getOutputType() {
-                return spec.getColumnSpec(columnRef).getType();
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public ExpressionValue evaluate(final DataRow row, final VariableProvider provider) {
-                if (booleanArgumentOfMissing) {
-                    return new ExpressionValue(row.getCell(position), EMPTY_MAP);
-                }
-                final DataCell cell = row.getCell(position);
-                if (isBoolean && cell.isMissing()) {
-                    return new ExpressionValue(BooleanCell.FALSE, EMPTY_MAP);
-                }
-                return new ExpressionValue(row.getCell(position), EMPTY_MAP);
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public boolean isConstant() {
-                return false;
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public String toString() {
-                return "$" + columnRef + "$";
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public ASTType getTreeType() {
-                return ASTType.ColRef;
-            }
-        };
+        return new ColumnRefExpression(spec, columnRef, position, isBoolean, booleanArgumentOfMissing);
     }
 
     /**
@@ -1257,117 +1298,163 @@ public ASTType getTreeType() {
     @Override
     public Expression compare(final Expression left, final Expression right, final DataValueComparator cmp,
         final int... possibleValues) {
-        return new Expression.Base(left, right) {
+        return new CompareExpression(left, right, cmp, possibleValues);
+    }
 
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public List<DataType> getInputArgs() {
-                return Arrays.asList(left.getOutputType(), right.getOutputType());
-            }
+    /**
+     * {@link Expression} comparing the values of two {@link Expression}s.
+     *
+     * @since 3.7
+     */
+    final class CompareExpression extends Expression.Base {
+        private final Expression m_left;
 
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public DataType getOutputType() {
-                return BooleanCell.TYPE;
-            }
+        private final Expression m_right;
 
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public ExpressionValue evaluate(final DataRow row, final VariableProvider provider) {
-                ExpressionValue leftValue = left.evaluate(row, provider);
-                ExpressionValue rightValue = right.evaluate(row, provider);
-                Map<String, Map<String, String>> mergedObjects = Util.mergeObjects(leftValue.getMatchedObjects(), rightValue.getMatchedObjects());
-                DataCell leftCell = leftValue.getValue();
-                DataCell rightCell = rightValue.getValue();
-                final boolean leftMissing = leftCell.isMissing(), rightMissing = rightCell.isMissing();
-                //Priority over NaNs
-                if (!m_missingMatch && (leftMissing || rightMissing)) {
-                    boolean bothMissingAndAllowEquals =
-                        leftMissing && rightMissing && Arrays.binarySearch(possibleValues, 0) >= 0;
-                    if (bothMissingAndAllowEquals) {
-                        if (leftCell instanceof MissingValue) {
-                            MissingValue lmc = (MissingValue)leftCell;
-                            if (rightCell instanceof MissingValue) {
-                                MissingValue rmc = (MissingValue)rightCell;
-                                //If the errors differ we do not consider them equal
-                                bothMissingAndAllowEquals = lmc.equals(rmc);
-                            }
+        private final DataValueComparator m_cmp;
+
+        private final int[] m_possibleValues;
+
+        private CompareExpression(final Expression left, final Expression right, final DataValueComparator cmp,
+            final int... possibleValues) {
+            super(left, right);
+            m_left = left;
+            m_right = right;
+            m_cmp = cmp;
+            m_possibleValues = possibleValues;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<DataType> getInputArgs() {
+            return Arrays.asList(m_left.getOutputType(), m_right.getOutputType());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataType getOutputType() {
+            return BooleanCell.TYPE;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ExpressionValue evaluate(final DataRow row, final VariableProvider provider) {
+            ExpressionValue leftValue = m_left.evaluate(row, provider);
+            ExpressionValue rightValue = m_right.evaluate(row, provider);
+            Map<String, Map<String, String>> mergedObjects = Util.mergeObjects(leftValue.getMatchedObjects(), rightValue.getMatchedObjects());
+            return new ExpressionValue(BooleanCellFactory.create(compare(leftValue.getValue(), rightValue.getValue())),
+                mergedObjects);
+        }
+
+        /**
+         * {@link #evaluate(DataRow, VariableProvider)} for already computed operands, without the matched objects.
+         *
+         * @param leftCell The value of the left operand.
+         * @param rightCell The value of the right operand.
+         * @return Whether the values are in the relation.
+         */
+        boolean compare(final DataCell leftCell, final DataCell rightCell) {
+            final boolean leftMissing = leftCell.isMissing(), rightMissing = rightCell.isMissing();
+            //Priority over NaNs
+            if (!m_missingMatch && (leftMissing || rightMissing)) {
+                boolean bothMissingAndAllowEquals =
+                    leftMissing && rightMissing && Arrays.binarySearch(m_possibleValues, 0) >= 0;
+                if (bothMissingAndAllowEquals) {
+                    if (leftCell instanceof MissingValue) {
+                        MissingValue lmc = (MissingValue)leftCell;
+                        if (rightCell instanceof MissingValue) {
+                            MissingValue rmc = (MissingValue)rightCell;
+                            //If the errors differ we do not consider them equal
+                            bothMissingAndAllowEquals = lmc.equals(rmc);
                         }
                     }
-                    return new ExpressionValue(BooleanCellFactory.create(bothMissingAndAllowEquals), mergedObjects);
                 }
-                //No missing values
-                final boolean leftNaN = isNaN(leftCell), rightNaN = isNaN(rightCell);
-                if (!m_nanMatch && (leftNaN || rightNaN)) {
-                    //NaNs are considered equals to each other even if it is not by the IEEE spec.
-                    boolean bothNaNAndAllowEquals = leftNaN && rightNaN && Arrays.binarySearch(possibleValues, 0) >= 0;
-                    return new ExpressionValue(BooleanCellFactory.create(bothNaNAndAllowEquals), mergedObjects);
-                }
-                boolean found = false;
-                int compareResult = Util.signum(cmp.compare(leftCell, rightCell));
-                for (int possibleValue : possibleValues) {
-                    found |= possibleValue == compareResult;
-                }
-                return new ExpressionValue(BooleanCellFactory.create(found), mergedObjects);
+                return bothMissingAndAllowEquals;
             }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public boolean isConstant() {
-                return left.isConstant() && right.isConstant();
+            //No missing values
+            final boolean leftNaN = isNaN(leftCell), rightNaN = isNaN(rightCell);
+            if (!m_nanMatch && (leftNaN || rightNaN)) {
+                //NaNs are considered equals to each other even if it is not by the IEEE spec.
+                return leftNaN && rightNaN && Arrays.binarySearch(m_possibleValues, 0) >= 0;
             }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public String toString() {
-                String rel = "???";
-                if (Arrays.equals(possibleValues, LT)) {
-                    rel = "<";
-                } else if (Arrays.equals(possibleValues, LE)) {
-                    rel = "<=";
-                } else if (Arrays.equals(possibleValues, GT)) {
-                    rel = ">";
-                } else if (Arrays.equals(possibleValues, GE)) {
-                    rel = ">=";
-                } else if (Arrays.equals(possibleValues, EQ)) {
-                    rel = "=";
-                }
-                return left + rel + right;
+            boolean found = false;
+            int compareResult = Util.signum(m_cmp.compare(leftCell, rightCell));
+            for (int possibleValue : m_possibleValues) {
+                found |= possibleValue == compareResult;
             }
+            return found;
+        }
 
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public ASTType getTreeType() {
-                if (Arrays.equals(possibleValues, LT)) {
-                    return ASTType.Less;
-                }
-                if (Arrays.equals(possibleValues, LE)) {
-                    return ASTType.LessOrEquals;
-                }
-                if (Arrays.equals(possibleValues, GT)) {
-                    return ASTType.Greater;
-                }
-                if (Arrays.equals(possibleValues, GE)) {
-                    return ASTType.GreaterOrEquals;
-                }
-                if (Arrays.equals(possibleValues, EQ)) {
-                    return ASTType.Equals;
-                }
-                throw new IllegalStateException("" + Arrays.toString(possibleValues));
+        /**
+         * @return The left operand.
+         */
+        Expression getLeft() {
+            return m_left;
+        }
+
+        /**
+         * @return The right operand.
+         */
+        Expression getRight() {
+            return m_right;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isConstant() {
+            return m_left.isConstant() && m_right.isConstant();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            String rel = "???";
+            if (Arrays.equals(m_possibleValues, LT)) {
+                rel = "<";
+            } else if (Arrays.equals(m_possibleValues, LE)) {
+                rel = "<=";
+            } else if (Arrays.equals(m_possibleValues, GT)) {
+                rel = ">";
+            } else if (Arrays.equals(m_possibleValues, GE)) {
+                rel = ">=";
+            } else if (Arrays.equals(m_possibleValues, EQ)) {
+                rel = "=";
+            }
+            return m_left + rel + m_right;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ASTType getTreeType() {
+            if (Arrays.equals(m_possibleValues, LT)) {
+                return ASTType.Less;
             }
-        };
+            if (Arrays.equals(m_possibleValues, LE)) {
+                return ASTType.LessOrEquals;
+            }
+            if (Arrays.equals(m_possibleValues, GT)) {
+                return ASTType.Greater;
+            }
+            if (Arrays.equals(m_possibleValues, GE)) {
+                return ASTType.GreaterOrEquals;
+            }
+            if (Arrays.equals(m_possibleValues, EQ)) {
+                return ASTType.Equals;
+            }
+            throw new IllegalStateException("" + Arrays.toString(m_possibleValues));
+        }
     }
 
     /**
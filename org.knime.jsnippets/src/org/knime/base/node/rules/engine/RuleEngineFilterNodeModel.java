@@ -49,9 +49,7 @@
 
 import java.text.ParseException;
 import java.util.Arrays;
-import java.util.List;
 
-import org.knime.base.node.rules.engine.Condition.MatchOutcome.MatchState;
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -149,7 +147,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
      */
     private void execute(final RowInput inData, final RowOutput[] outputs, final long rowCount,
         final ExecutionContext exec) throws ParseException, CanceledExecutionException, InterruptedException {
-        final List<Rule> rules = parseRules(inData.getDataTableSpec(), RuleNodeSettings.RuleFilter);
+        final CompiledRuleSet compiledRules =
+            CompiledRuleSet.compile(parseRules(inData.getDataTableSpec(), RuleNodeSettings.RuleFilter));
         final int matchIndex = m_includeOnMatch.getBooleanValue() ? 0 : 1;
         final int otherIndex = 1 - matchIndex;
 
@@ -189,29 +188,21 @@ public long getRowIndexLong() {
                 rowIdx[0]++;
                 exec.setProgress(rowIdx[0] / (double)rows, () -> "Adding row " + rowIdx[0] + " of " + rows);
                 exec.checkCanceled();
-                boolean wasMatch = false;
-                for (Rule r : rules) {
-                    if (r.getCondition().matches(row, provider).getOutcome() == MatchState.matchedAndStop) {
-                        //                        r.getSideEffect().perform(row, provider);
-                        DataValue value = r.getOutcome().getComputedResult(row, provider);
-                        final int index;
-                        if (value instanceof BooleanValue) {
-                            final BooleanValue bv = (BooleanValue)value;
-                            index = bv.getBooleanValue() ? matchIndex : otherIndex;
-                        } else {
-                            index = matchIndex;
-                        }
-                        if (index < outputs.length) {
-                            outputs[index].push(row);
-                        }
-                        wasMatch = true;
-                        break;
+                final int ruleIndex = compiledRules.findMatch(row, provider);
+                final int index;
+                if (ruleIndex >= 0) {
+                    DataValue value = compiledRules.getOutcomeValue(ruleIndex, row, provider);
+                    if (value instanceof BooleanValue) {
+                        final BooleanValue bv = (BooleanValue)value;
+                        index = bv.getBooleanValue() ? matchIndex : otherIndex;
+                    } else {
+                        index = matchIndex;
                     }
+                } else {
+                    index = otherIndex;
                 }
-                if (!wasMatch) {
-                    if (otherIndex < outputs.length) {
-                        outputs[otherIndex].push(row);
-                    }
+                if (index < outputs.length) {
+                    outputs[index].push(row);
                 }
             }
         } finally {
@@ -191,13 +191,14 @@ private ColumnRearranger createRearranger(final DataTableSpec inSpec, final List
         }
         DataColumnSpec cs = colSpecCreator.createSpec();
 
-        final boolean disallowLongOutputForCompatibility = m_settings.isDisallowLongOutputForCompatibility();
+        final CompiledRuleSet compiledRules =
+            CompiledRuleSet.compile(rules, outType, m_settings.isDisallowLongOutputForCompatibility());
         VariableProvider.SingleCellFactoryProto cellFactory = new VariableProvider.SingleCellFactoryProto(cs) {
             private long m_rowIndex = -1L;
             @Override
             public DataCell getCell(final DataRow row) {
                 m_rowIndex++;
-                return getRulesOutcome(outType, row, rules, disallowLongOutputForCompatibility, this);
+                return compiledRules.getOutcome(row, this);
             }
 
             @Override
@@ -227,6 +228,8 @@ public long getRowCountLong() {
                 return rowCount;
             }
         };
+        // the row index is only correct when the rows are processed sequentially
+        cellFactory.setParallelProcessing(compiledRules.isDistributable());
         if (m_settings.isAppendColumn()) {
             crea.append(cellFactory);
         } else {
@@ -429,30 +432,44 @@ public static final DataCell getRulesOutcome(final DataType outType, final DataR
             if (r.getCondition().matches(row, variableProvider).getOutcome() == MatchState.matchedAndStop) {
                 Outcome outcome2 = r.getOutcome();
                 //                        r.getSideEffect().perform(row, this);
-                DataCell cell = (DataCell)outcome2.getComputedResult(row, variableProvider);
-                // in versions < 3.2 the output was never long ... so casting to int
-                // (instanceof check for LongCELL as this is what our code generates
-                // ... don't want Booleans (also implementing Long), for instance)
-                if (cell instanceof LongCell && isDisallowLongOutputForCompatibility) {
-                    long l = ((LongValue)cell).getLongValue();
-                    if (l > Integer.MAX_VALUE) {
-                        throw new RuntimeException("Values larger than " + Integer.MAX_VALUE
-                            + " not supported in old instances of the node -- recreate the node "
-                            + "(node was created using an KNIME version < 3.2");
-                    }
-                    cell = new IntCell((int)l);
-                }
-                if (outType.equals(StringCell.TYPE) && !cell.isMissing()
-                        && !cell.getType().equals(StringCell.TYPE)) {
-                    return new StringCell(cell.toString());
-                } else {
-                    return cell;
-                }
+                return convertOutcome(outType, (DataCell)outcome2.getComputedResult(row, variableProvider),
+                    isDisallowLongOutputForCompatibility);
             }
         }
         return DataType.getMissingCell();
     }
 
+    /**
+     * Converts the outcome of a matching rule to the type of the result column.
+     *
+     * @param outType The type of the result column.
+     * @param cell The outcome of the rule.
+     * @param isDisallowLongOutputForCompatibility Whether {@link LongCell}s have to be converted to {@link IntCell}s.
+     * @return The converted cell.
+     */
+    static DataCell convertOutcome(final DataType outType, final DataCell cell,
+        final boolean isDisallowLongOutputForCompatibility) {
+        DataCell result = cell;
+        // in versions < 3.2 the output was never long ... so casting to int
+        // (instanceof check for LongCELL as this is what our code generates
+        // ... don't want Booleans (also implementing Long), for instance)
+        if (result instanceof LongCell && isDisallowLongOutputForCompatibility) {
+            long l = ((LongValue)result).getLongValue();
+            if (l > Integer.MAX_VALUE) {
+                throw new RuntimeException("Values larger than " + Integer.MAX_VALUE
+                    + " not supported in old instances of the node -- recreate the node "
+                    + "(node was created using an KNIME version < 3.2");
+            }
+            result = new IntCell((int)l);
+        }
+        if (outType.equals(StringCell.TYPE) && !result.isMissing()
+                && !result.getType().equals(StringCell.TYPE)) {
+            return new StringCell(result.toString());
+        } else {
+            return result;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public Object readVariable(final String name, final Class<?> type) {
@@ -50,6 +50,7 @@
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumberEdit;
 import org.knime.core.node.defaultnodesettings.DialogComponentStringSelection;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 
 /**
@@ -65,8 +66,16 @@ class ExtendedStatisticsNodeDialog extends DefaultNodeSettingsPane {
      * New pane for configuring the ExtendedStatistics node.
      */
     protected ExtendedStatisticsNodeDialog() {
-        addDialogComponent(new DialogComponentBoolean(ExtendedStatisticsNodeModel.createMedianModel(),
+        final SettingsModelBoolean medianModel = ExtendedStatisticsNodeModel.createMedianModel();
+        final SettingsModelBoolean approximateMedianModel = ExtendedStatisticsNodeModel.createApproximateMedianModel();
+        medianModel.addChangeListener(e -> approximateMedianModel.setEnabled(medianModel.getBooleanValue()));
+        approximateMedianModel.setEnabled(medianModel.getBooleanValue());
+        addDialogComponent(new DialogComponentBoolean(medianModel,
             "Calculate median values (computationally expensive)"));
+        addDialogComponent(new DialogComponentBoolean(approximateMedianModel,
+            "Approximate median values (single pass, no sorting)"));
+        addDialogComponent(new DialogComponentBoolean(ExtendedStatisticsNodeModel.createParallelModel(),
+            "Process rows in parallel (results may differ in the last digits)"));
         createNewGroup("Nominal values");
         m_filterModel = ExtendedStatisticsNodeModel.createNominalFilterModel();
         addDialogComponent(new DialogComponentColumnFilter2(m_filterModel, 0, false));
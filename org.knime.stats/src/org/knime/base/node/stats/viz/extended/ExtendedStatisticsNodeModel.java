@@ -135,6 +135,26 @@ class ExtendedStatisticsNodeModel extends NodeModel {
      */
     private static final String CFGKEY_COMPUTE_MEDIAN = "compute_median";
 
+    /**
+     *
+     */
+    private static final boolean DEFAULT_APPROXIMATE_MEDIAN = false;
+
+    /**
+     *
+     */
+    private static final String CFGKEY_APPROXIMATE_MEDIAN = "approximate_median";
+
+    /**
+     *
+     */
+    private static final boolean DEFAULT_PARALLEL = false;
+
+    /**
+     *
+     */
+    private static final String CFGKEY_PARALLEL = "parallel";
+
     /**
      *
      */
@@ -257,6 +277,20 @@ static SettingsModelBoolean createMedianModel() {
         return new SettingsModelBoolean(CFGKEY_COMPUTE_MEDIAN, DEFAULT_COMPUTE_MEDIAN);
     }
 
+    /**
+     * @return boolean model to approximate the median in a single pass instead of sorting the columns
+     */
+    static SettingsModelBoolean createApproximateMedianModel() {
+        return new SettingsModelBoolean(CFGKEY_APPROXIMATE_MEDIAN, DEFAULT_APPROXIMATE_MEDIAN);
+    }
+
+    /**
+     * @return boolean model to process chunks of rows in parallel
+     */
+    static SettingsModelBoolean createParallelModel() {
+        return new SettingsModelBoolean(CFGKEY_PARALLEL, DEFAULT_PARALLEL);
+    }
+
     /**
      * @return int model to restrict number of nominal values
      */
@@ -298,6 +332,10 @@ static SettingsModelIntegerBounded createNominalValuesModelOutput() {
 
     private final SettingsModelBoolean m_computeMedian = createMedianModel();
 
+    private final SettingsModelBoolean m_approximateMedian = createApproximateMedianModel();
+
+    private final SettingsModelBoolean m_parallel = createParallelModel();
+
     private final SettingsModelIntegerBounded m_nominalValues = createNominalValuesModel();
 
     private final SettingsModelIntegerBounded m_nominalValuesOutput = createNominalValuesModelOutput();
@@ -326,8 +364,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         DataTableSpec dataSpec = inData[0].getDataTableSpec();
         List<String> includes = nominalColumns(dataSpec);
         m_statTable =
-            new Statistics3Table(inData[0], m_computeMedian.getBooleanValue(), numOfNominalValuesOutput(), includes,
-                init);
+            new Statistics3Table(inData[0], m_computeMedian.getBooleanValue(), !m_approximateMedian.getBooleanValue(),
+                m_parallel.getBooleanValue(), numOfNominalValuesOutput(), includes, init);
         if (getStatTable().getWarning() != null) {
             setWarningMessage(getStatTable().getWarning());
         }
@@ -541,6 +579,8 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_computeMedian.saveSettingsTo(settings);
+        m_approximateMedian.saveSettingsTo(settings);
+        m_parallel.saveSettingsTo(settings);
         m_nominalValues.saveSettingsTo(settings);
         m_nominalValuesOutput.saveSettingsTo(settings);
         m_nominalFilter.saveSettingsTo(settings);
@@ -557,6 +597,18 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
     @Override
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_computeMedian.loadSettingsFrom(settings);
+        try {
+            m_approximateMedian.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException e) {
+            // added in 3.7
+            m_approximateMedian.setBooleanValue(DEFAULT_APPROXIMATE_MEDIAN);
+        }
+        try {
+            m_parallel.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException e) {
+            // added in 3.7
+            m_parallel.setBooleanValue(DEFAULT_PARALLEL);
+        }
         m_nominalValues.loadSettingsFrom(settings);
         m_nominalValuesOutput.loadSettingsFrom(settings);
         m_nominalFilter.loadSettingsFrom(settings);